@@ -18,8 +18,9 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.valid4j.Assertive.require;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -34,6 +35,11 @@ import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Beantwortet Auswertungen aus der vorab aggregierten auswertung_kante_abschnitte_aggregat_materialized_view, die
+ * zusammen mit den übrigen Netz-Materialized-Views aktualisiert wird. Gebiete werden dort bereits über ihre ID
+ * zugeordnet und Netzklassen sowie Standards als Bitmasken über die Ordinalzahlen der Enums abgelegt.
+ */
 @Slf4j
 public class AuswertungRepositoryImpl implements AuswertungRepository {
 
@@ -45,29 +51,28 @@ public class AuswertungRepositoryImpl implements AuswertungRepository {
 		require(auswertungsFilter, notNullValue());
 
 		String additionalWhereClauses = "";
-		String joins = "";
 		Map<String, Object> additionalParameters = new HashMap<>();
 
 		// GemeindeKreisBezirk
 		if (auswertungsFilter.isWahlkreis()) {
-			joins += " LEFT JOIN Wahlkreis wahlkreis ON wahlkreis.id = :wahlkreisId ";
-			additionalWhereClauses += " AND st_intersects(abschnitt.geometry, wahlkreis.bereich)";
-			additionalParameters.put("wahlkreisId", auswertungsFilter.getWahlkreisId());
+			additionalWhereClauses += " aggregat.gebiet_art = 'WAHLKREIS' AND aggregat.gebiet_id = :gebietId";
+			additionalParameters.put("gebietId", auswertungsFilter.getWahlkreisId());
 		} else if (auswertungsFilter.isGemeindeKreisBezirk()) {
-			joins += " LEFT JOIN Organisation org ON org.id = :organisationsId ";
-			additionalWhereClauses += " AND st_intersects(abschnitt.geometry, org.bereich)";
-			additionalParameters.put("organisationsId", auswertungsFilter.getGemeindeKreisBezirkId());
+			additionalWhereClauses += " aggregat.gebiet_art = 'ORGANISATION' AND aggregat.gebiet_id = :gebietId";
+			additionalParameters.put("gebietId", auswertungsFilter.getGemeindeKreisBezirkId());
+		} else {
+			additionalWhereClauses += " aggregat.gebiet_art = 'GESAMT'";
 		}
 
 		// Baulast
 		if (auswertungsFilter.getBaulast() != null) {
-			additionalWhereClauses += " AND abschnitt.baulast_traeger = :baulast";
+			additionalWhereClauses += " AND aggregat.baulast_traeger = :baulast";
 			additionalParameters.put("baulast", getOrgaBezeichnungInMaterializedView(auswertungsFilter.getBaulast()));
 		}
 
 		// Unterhalt
 		if (auswertungsFilter.getUnterhalt() != null) {
-			additionalWhereClauses += " AND abschnitt.unterhalts_zustaendiger = :unterhalt";
+			additionalWhereClauses += " AND aggregat.unterhalts_zustaendiger = :unterhalt";
 			additionalParameters.put(
 				"unterhalt",
 				getOrgaBezeichnungInMaterializedView(auswertungsFilter.getUnterhalt())
@@ -76,7 +81,7 @@ public class AuswertungRepositoryImpl implements AuswertungRepository {
 
 		// Erhalt
 		if (auswertungsFilter.getErhalt() != null) {
-			additionalWhereClauses += " AND abschnitt.erhalts_zustaendiger = :erhalt";
+			additionalWhereClauses += " AND aggregat.erhalts_zustaendiger = :erhalt";
 			additionalParameters.put(
 				"erhalt",
 				getOrgaBezeichnungInMaterializedView(auswertungsFilter.getErhalt())
@@ -85,59 +90,33 @@ public class AuswertungRepositoryImpl implements AuswertungRepository {
 
 		// Netzklassen
 		if (auswertungsFilter.getNetzklassen() != null || auswertungsFilter.isBeachteNichtKlassifizierteKanten()) {
-			Set<String> netzklassenClauses = new HashSet<>();
-			if (auswertungsFilter.getNetzklassen() != null) {
-				auswertungsFilter.getNetzklassen().stream()
-					.map(Enum::name)
-					.map(nkStr -> "(abschnitt.netzklassen IS NOT NULL AND position('" + nkStr
-						+ "' IN abschnitt.netzklassen ) > 0)")
-					.forEach(netzklassenClauses::add);
-			}
-
-			if (auswertungsFilter.isBeachteNichtKlassifizierteKanten()) {
-				netzklassenClauses.add("abschnitt.netzklassen IS NULL");
-			}
-
-			additionalWhereClauses += " AND " + netzklassenClauses.stream().collect(Collectors.joining(" OR ", " (",
-				") "));
+			additionalWhereClauses += " AND " + getBitmaskenClause("aggregat.netzklassen_maske",
+				auswertungsFilter.getNetzklassen(), auswertungsFilter.isBeachteNichtKlassifizierteKanten());
 		}
 
 		// IstStandards
 		if (auswertungsFilter.getIstStandards() != null || auswertungsFilter.isBeachteKantenOhneStandards()) {
-			Set<String> iststandardClauses = new HashSet<>();
-			if (auswertungsFilter.getIstStandards() != null) {
-				auswertungsFilter.getIstStandards().stream()
-					.map(Enum::name)
-					.map(standardStr -> "(abschnitt.standards IS NOT NULL AND position('" + standardStr
-						+ "' IN abschnitt.standards ) > 0)")
-					.forEach(iststandardClauses::add);
-			}
-
-			if (auswertungsFilter.isBeachteKantenOhneStandards()) {
-				iststandardClauses.add("abschnitt.standards IS NULL");
-			}
-
-			additionalWhereClauses += " AND " + iststandardClauses.stream().collect(Collectors.joining(" OR ", " (",
-				") "));
-
+			additionalWhereClauses += " AND " + getBitmaskenClause("aggregat.standards_maske",
+				auswertungsFilter.getIstStandards(), auswertungsFilter.isBeachteKantenOhneStandards());
 		}
 
 		// BelagArt
 		if (auswertungsFilter.getBelagArt() != null) {
-			additionalWhereClauses += " AND abschnitt.belag_art = :belag";
+			additionalWhereClauses += " AND aggregat.belag_art = :belag";
 			additionalParameters.put("belag", auswertungsFilter.getBelagArt().name());
 		}
 
 		// Radverkehrsführung
 		if (auswertungsFilter.getRadverkehrsfuehrung() != null) {
-			additionalWhereClauses += " AND abschnitt.radverkehrsfuehrung = :radverkehrsfuehrung";
+			additionalWhereClauses += " AND aggregat.radverkehrsfuehrung = :radverkehrsfuehrung";
 			additionalParameters.put("radverkehrsfuehrung", auswertungsFilter.getRadverkehrsfuehrung().name());
 		}
 
 		String sqlString = """
-				SELECT COALESCE(sum(st_length(abschnitt.geometry)), 0) FROM geoserver_radvisnetz_kante_abschnitte_materialized_view abschnitt
+				SELECT COALESCE(sum(aggregat.laenge), 0)
+				FROM auswertung_kante_abschnitte_aggregat_materialized_view aggregat
 			"""
-			+ joins + " WHERE abschnitt.status = 'UNTER_VERKEHR'" + additionalWhereClauses;
+			+ " WHERE" + additionalWhereClauses;
 
 		Query query = entityManager
 			.createNativeQuery(sqlString);
@@ -146,6 +125,29 @@ public class AuswertungRepositoryImpl implements AuswertungRepository {
 		return BigInteger.valueOf(Double.valueOf((double) query.getSingleResult() * 100.0).longValue());
 	}
 
+	/**
+	 * Ein Abschnitt erfüllt den Filter, wenn er mindestens einen der gesuchten Werte hat oder, falls gewünscht, gar
+	 * keinen Wert (Maske 0).
+	 */
+	private static String getBitmaskenClause(String spalte, Set<? extends Enum<?>> werte, boolean beachteOhneWert) {
+		List<String> clauses = new ArrayList<>();
+		if (werte != null) {
+			clauses.add("(" + spalte + " & " + getBitmaske(werte) + ") <> 0");
+		}
+		if (beachteOhneWert) {
+			clauses.add(spalte + " = 0");
+		}
+		return clauses.stream().collect(Collectors.joining(" OR ", " (", ") "));
+	}
+
+	/**
+	 * Entspricht der SQL-Funktion auswertung_bitmaske, die das Bit eines Wertes aus seiner Position in der
+	 * Enum-Reihenfolge bestimmt.
+	 */
+	static int getBitmaske(Set<? extends Enum<?>> werte) {
+		return werte.stream().mapToInt(wert -> 1 << wert.ordinal()).reduce(0, (a, b) -> a | b);
+	}
+
 	@NotNull
 	private static String getOrgaBezeichnungInMaterializedView(Verwaltungseinheit verwaltungseinheit) {
 		return verwaltungseinheit.getName() + " (" + verwaltungseinheit.getOrganisationsArt().name() + ")";
@@ -14,11 +14,14 @@
 
 package de.wps.radvis.backend.abfrage.export.schnittstelle;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -32,6 +35,8 @@ import de.wps.radvis.backend.common.domain.valueObject.ExportData;
 import de.wps.radvis.backend.common.schnittstelle.ExportConverter;
 import de.wps.radvis.backend.common.schnittstelle.ExportConverterFactory;
 import de.wps.radvis.backend.common.schnittstelle.ExportFormat;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -48,39 +53,50 @@ public class ExportInfrastrukturenController {
 		this.converterFactory = converterFactory;
 	}
 
+	/**
+	 * Die Exportdaten werden über einen Datenbank-Cursor gelesen und zeilenweise direkt in die Response geschrieben,
+	 * daher ist die Transaktion bis zum Ende des Schreibens offen und es wird keine Content-Length gesetzt.
+	 */
 	@PostMapping("{format}/infrastruktur/{typ}")
-	public ResponseEntity<byte[]> export(@PathVariable("typ") InfrastrukturTyp infrastrukturTyp,
-		@PathVariable("format") ExportFormat format, @RequestBody ExportInfrastrukturCommand command) {
+	@Transactional
+	public void export(@PathVariable("typ") InfrastrukturTyp infrastrukturTyp,
+		@PathVariable("format") ExportFormat format, @RequestBody ExportInfrastrukturCommand command,
+		HttpServletResponse response) throws IOException {
 		ExporterService exporter = infrastrukturenExporterFactory.getExporter(infrastrukturTyp);
-		List<ExportData> exportData = exporter.export(command.getIds());
-
-		if (!exportData.isEmpty()) {
-			for (String feldname : command.getFieldsToExclude()) {
-				if (!exportData.get(0).hasHeader(feldname)) {
-					log.warn("Zu exkludierender Feldname: " + feldname + " existiert nicht in Export-Data");
-				} else {
-					for (ExportData exportDataRow : exportData) {
-						exportDataRow.removeField(feldname);
-					}
-				}
-			}
-		}
-
 		ExportConverter converter = converterFactory.getConverter(format);
 
-		HttpHeaders headers = new HttpHeaders();
 		String dateiname = exporter.getDateinamenPrefix() + converter.getDateinamenSuffix();
-		headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + dateiname);
-		headers.add("Cache-Control", "no-cache, no-store, must-revalidate");
-		headers.add("Pragma", "no-cache");
-		headers.add("Expires", "0");
+		response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + dateiname);
+		response.setHeader("Cache-Control", "no-cache, no-store, must-revalidate");
+		response.setHeader("Pragma", "no-cache");
+		response.setHeader("Expires", "0");
 
-		byte[] datei = converter.convert(exportData);
+		try (Stream<ExportData> exportData = exporter.exportStream(command.getIds())) {
+			converter.convert(entferneFelder(exportData, command.getFieldsToExclude()), response.getOutputStream());
+		}
+		response.flushBuffer();
+	}
+
+	private static Stream<ExportData> entferneFelder(Stream<ExportData> exportData, List<String> fieldsToExclude) {
+		if (fieldsToExclude.isEmpty()) {
+			return exportData;
+		}
 
-		return ResponseEntity.ok()
-			.contentType(MediaType.parseMediaType(MediaType.APPLICATION_OCTET_STREAM_VALUE))
-			.contentLength(datei.length)
-			.headers(headers)
-			.body(datei);
+		// Die vorhandenen Felder werden wie bisher anhand der ersten Zeile bestimmt
+		AtomicBoolean ersteZeile = new AtomicBoolean(true);
+		List<String> vorhandeneFelder = new ArrayList<>();
+		return exportData.peek(exportDataRow -> {
+			if (ersteZeile.getAndSet(false)) {
+				for (String feldname : fieldsToExclude) {
+					if (!exportDataRow.hasHeader(feldname)) {
+						log.warn("Zu exkludierender Feldname: " + feldname + " existiert nicht in Export-Data");
+					} else {
+						vorhandeneFelder.add(feldname);
+					}
+				}
+			}
+			vorhandeneFelder.forEach(exportDataRow::removeField);
+		});
 	}
 }
@@ -25,6 +25,9 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.BuildNetzklassenStreckenSignaturViewJob;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.BuildRadNETZNetzViewCacheJob;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.KantenAbfrageRepository;
+import de.wps.radvis.backend.abfrage.netzausschnitt.domain.KantenVectorTileRepository;
+import de.wps.radvis.backend.abfrage.netzausschnitt.domain.KantenVectorTileService;
+import de.wps.radvis.backend.abfrage.netzausschnitt.domain.NetzausschnittConfigurationProperties;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.NetzausschnittService;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.NetzklassenStreckenSignaturView;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.NetzklassenStreckenSignaturViewRepository;
@@ -34,6 +37,7 @@ import de.wps.radvis.backend.abfrage.netzausschnitt.domain.entity.NetzMapView;
 import de.wps.radvis.backend.abfrage.netzausschnitt.schnittstelle.NetzToGeoJsonConverter;
 import de.wps.radvis.backend.abfrage.netzausschnitt.schnittstelle.NetzausschnittGuard;
 import de.wps.radvis.backend.abfrage.netzausschnitt.schnittstelle.repositoryImpl.KantenAbfrageRepositoryImpl;
+import de.wps.radvis.backend.abfrage.netzausschnitt.schnittstelle.repositoryImpl.KantenVectorTileRepositoryImpl;
 import de.wps.radvis.backend.benutzer.domain.BenutzerResolver;
 import de.wps.radvis.backend.common.domain.FeatureToggleProperties;
 import de.wps.radvis.backend.common.domain.JobExecutionDescriptionRepository;
@@ -60,6 +64,9 @@ public class AbfrageNetzausschnittConfiguration {
 	@Autowired
 	private DLMConfigurationProperties dlmConfigurationProperties;
 
+	@Autowired
+	private NetzausschnittConfigurationProperties netzausschnittConfigurationProperties;
+
 	@Autowired
 	private NetzfehlerRepository netzfehlerRepository;
 
@@ -99,6 +106,18 @@ public class AbfrageNetzausschnittConfiguration {
 		return new KantenAbfrageRepositoryImpl(featureToggleProperties);
 	}
 
+	@Bean
+	public KantenVectorTileRepository kantenVectorTileRepository() {
+		return new KantenVectorTileRepositoryImpl(featureToggleProperties);
+	}
+
+	@Bean
+	public KantenVectorTileService kantenVectorTileService() {
+		return new KantenVectorTileService(kantenVectorTileRepository(),
+			netzausschnittConfigurationProperties.getVectorTileCacheGroesse(),
+			netzausschnittConfigurationProperties.getVectorTileMaximalesAlter());
+	}
+
 	@Bean
 	public StreckeViewCacheRepository<NetzMapView, StreckeVonKanten> radNETZNetzViewCacheRepository() {
 		return new RadNETZNetzViewCacheRepository();
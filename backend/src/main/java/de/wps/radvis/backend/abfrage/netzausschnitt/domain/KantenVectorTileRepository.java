@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.abfrage.netzausschnitt.domain;
+
+import java.util.Set;
+
+import de.wps.radvis.backend.abfrage.netzausschnitt.domain.valueObject.VectorTileKoordinate;
+import de.wps.radvis.backend.netz.domain.valueObject.NetzklasseFilter;
+
+public interface KantenVectorTileRepository {
+
+	String LAYER_NAME = "kanten";
+
+	/**
+	 * Erzeugt eine Mapbox Vector Tile (MVT) mit einem Layer {@value #LAYER_NAME}, das die Kanten der Kachel enthält.
+	 * Die Kanten werden nach denselben Kriterien gefiltert wie
+	 * {@link KantenAbfrageRepository#getKantenMapViewInBereich}. Die Geometrien werden passend zur Zoomstufe
+	 * vereinfacht.
+	 *
+	 * @return die kodierte Kachel, leer, wenn die Kachel keine Kanten enthält
+	 */
+	byte[] getKantenVectorTile(VectorTileKoordinate koordinate, Set<NetzklasseFilter> netzklassen);
+}
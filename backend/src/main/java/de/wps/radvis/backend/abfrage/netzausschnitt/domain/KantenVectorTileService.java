@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.abfrage.netzausschnitt.domain;
+
+import static org.valid4j.Assertive.require;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.LineString;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import de.wps.radvis.backend.abfrage.netzausschnitt.domain.valueObject.VectorTileKoordinate;
+import de.wps.radvis.backend.netz.domain.event.GrundnetzAktualisiertEvent;
+import de.wps.radvis.backend.netz.domain.event.KanteGeometrieChangedEvent;
+import de.wps.radvis.backend.netz.domain.event.KantenDeletedEvent;
+import de.wps.radvis.backend.netz.domain.valueObject.NetzklasseFilter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Liefert Vector Tiles der Kanten und hält die zuletzt abgefragten Kacheln in einem LRU-Cache.
+ * <p>
+ * Geometrieänderungen und Löschungen von Kanten entfernen gezielt die Kacheln, die den betroffenen Bereich darstellen.
+ * Änderungen ohne Event (z.B. neue Kanten oder geänderte Netzklassen) werden über das maximale Alter der Kacheln
+ * berücksichtigt.
+ */
+@Slf4j
+public class KantenVectorTileService {
+
+	private record TileSchluessel(VectorTileKoordinate koordinate, Set<NetzklasseFilter> netzklassen) {
+	}
+
+	private record CacheEintrag(byte[] tile, Instant erzeugtUm) {
+	}
+
+	private final KantenVectorTileRepository kantenVectorTileRepository;
+	private final Duration maximalesAlter;
+	private final Clock clock;
+
+	private final Map<TileSchluessel, CacheEintrag> cache;
+
+	/**
+	 * Wird bei jeder Invalidierung erhöht. Eine Kachel, während deren Erzeugung invalidiert wurde, wird nicht in den
+	 * Cache übernommen, da sie bereits veraltet sein könnte.
+	 */
+	private long invalidierungen = 0;
+
+	public KantenVectorTileService(@NonNull KantenVectorTileRepository kantenVectorTileRepository,
+		int maximaleAnzahlTiles, Duration maximalesAlter) {
+		this(kantenVectorTileRepository, maximaleAnzahlTiles, maximalesAlter, Clock.systemDefaultZone());
+	}
+
+	KantenVectorTileService(@NonNull KantenVectorTileRepository kantenVectorTileRepository,
+		int maximaleAnzahlTiles, @NonNull Duration maximalesAlter, @NonNull Clock clock) {
+		require(maximaleAnzahlTiles >= 0, "Die maximale Anzahl Tiles darf nicht negativ sein");
+		this.kantenVectorTileRepository = kantenVectorTileRepository;
+		this.maximalesAlter = maximalesAlter;
+		this.clock = clock;
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<TileSchluessel, CacheEintrag> eldest) {
+				return size() > maximaleAnzahlTiles;
+			}
+		};
+	}
+
+	public byte[] getKantenVectorTile(VectorTileKoordinate koordinate, Set<NetzklasseFilter> netzklassen) {
+		TileSchluessel schluessel = new TileSchluessel(koordinate, Set.copyOf(netzklassen));
+		long invalidierungenVorher;
+		synchronized (cache) {
+			CacheEintrag eintrag = cache.get(schluessel);
+			if (eintrag != null && !istAbgelaufen(eintrag)) {
+				return eintrag.tile();
+			}
+			invalidierungenVorher = invalidierungen;
+		}
+
+		// Die Kachel wird außerhalb der Synchronisation erzeugt, damit parallele Anfragen nicht aufeinander warten
+		byte[] tile = kantenVectorTileRepository.getKantenVectorTile(koordinate, netzklassen);
+
+		synchronized (cache) {
+			if (invalidierungen == invalidierungenVorher) {
+				cache.put(schluessel, new CacheEintrag(tile, clock.instant()));
+			}
+		}
+		return tile;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onKanteGeometrieChanged(KanteGeometrieChangedEvent event) {
+		invalidiere(List.of(event.getGeaenderterBereich()));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onKantenDeleted(KantenDeletedEvent event) {
+		invalidiere(event.getGeometries().stream().map(LineString::getEnvelopeInternal).toList());
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onGrundnetzAktualisiert(GrundnetzAktualisiertEvent event) {
+		synchronized (cache) {
+			log.info("Grundnetz aktualisiert, verwerfe {} gecachte Vector Tiles", cache.size());
+			cache.clear();
+			invalidierungen++;
+		}
+	}
+
+	private void invalidiere(List<Envelope> bereiche) {
+		if (bereiche.isEmpty()) {
+			return;
+		}
+		synchronized (cache) {
+			int anzahlVorher = cache.size();
+			cache.keySet().removeIf(schluessel -> {
+				Envelope tileBereich = schluessel.koordinate().getBereichMitPuffer();
+				return bereiche.stream().anyMatch(tileBereich::intersects);
+			});
+			invalidierungen++;
+			log.debug("{} Vector Tiles invalidiert", anzahlVorher - cache.size());
+		}
+	}
+
+	private boolean istAbgelaufen(CacheEintrag eintrag) {
+		return eintrag.erzeugtUm().plus(maximalesAlter).isBefore(clock.instant());
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.abfrage.netzausschnitt.domain;
+
+import static org.valid4j.Assertive.require;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+import lombok.Getter;
+
+@ConfigurationProperties("radvis.netzausschnitt")
+@Getter
+public class NetzausschnittConfigurationProperties {
+	private final int vectorTileCacheGroesse;
+	private final Duration vectorTileMaximalesAlter;
+
+	@ConstructorBinding
+	public NetzausschnittConfigurationProperties(int vectorTileCacheGroesse, int vectorTileMaximalesAlterInMinuten) {
+		require(vectorTileCacheGroesse >= 0, "Die Größe des Vector-Tile-Caches darf nicht negativ sein.");
+		require(vectorTileMaximalesAlterInMinuten >= 0, "Das maximale Alter von Vector Tiles darf nicht negativ sein.");
+
+		this.vectorTileCacheGroesse = vectorTileCacheGroesse;
+		this.vectorTileMaximalesAlter = Duration.ofMinutes(vectorTileMaximalesAlterInMinuten);
+	}
+}
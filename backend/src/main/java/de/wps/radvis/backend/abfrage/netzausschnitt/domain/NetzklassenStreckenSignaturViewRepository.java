@@ -14,8 +14,10 @@
 
 package de.wps.radvis.backend.abfrage.netzausschnitt.domain;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
@@ -25,18 +27,34 @@ import de.wps.radvis.backend.netz.domain.entity.NetzklassenStreckeVonKanten;
 public class NetzklassenStreckenSignaturViewRepository
 	extends StreckeViewCacheRepository<List<NetzklassenStreckenSignaturView>, NetzklassenStreckeVonKanten> {
 
-	@Override
-	void reloadCache() {
-		this.cache = this.streckenVonKanten.stream()
-			.map(streckeVonKanten -> new NetzklassenStreckenSignaturView(
-				(LineString) TopologyPreservingSimplifier
-					.simplify(streckeVonKanten.getStrecke(), DISTANCE_TOLERANCE),
-				streckeVonKanten.getNetzklassen())).collect(
-					Collectors.toList());
-	}
+	private final Map<NetzklassenStreckeVonKanten, NetzklassenStreckenSignaturView> signaturViewNachStrecke =
+		new HashMap<>();
 
 	@Override
 	String getCacheName() {
 		return "Netz-Signaturen";
 	}
+
+	@Override
+	protected void erzeugeAnsicht(NetzklassenStreckeVonKanten streckeVonKanten) {
+		signaturViewNachStrecke.put(streckeVonKanten, new NetzklassenStreckenSignaturView(
+			(LineString) TopologyPreservingSimplifier
+				.simplify(streckeVonKanten.getStrecke(), DISTANCE_TOLERANCE),
+			streckeVonKanten.getNetzklassen()));
+	}
+
+	@Override
+	protected void entferneAnsicht(NetzklassenStreckeVonKanten streckeVonKanten) {
+		signaturViewNachStrecke.remove(streckeVonKanten);
+	}
+
+	@Override
+	protected void verwirfAnsichten() {
+		signaturViewNachStrecke.clear();
+	}
+
+	@Override
+	protected List<NetzklassenStreckenSignaturView> setzeCacheZusammen() {
+		return new ArrayList<>(signaturViewNachStrecke.values());
+	}
 }
@@ -15,7 +15,9 @@
 package de.wps.radvis.backend.abfrage.netzausschnitt.domain;
 
 import java.util.ArrayList;
-import java.util.stream.Collectors;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 
 import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
 
@@ -25,20 +27,33 @@ import de.wps.radvis.backend.netz.domain.entity.StreckeVonKanten;
 
 public class RadNETZNetzViewCacheRepository extends StreckeViewCacheRepository<NetzMapView, StreckeVonKanten> {
 
-	@Override
-	public void reloadCache() {
-		final var kantenMapViews = this.streckenVonKanten.stream().map(
-			streckeVonKanten -> new KanteMapView(streckeVonKanten.getKanten().get(0).getId(),
-				TopologyPreservingSimplifier
-					.simplify(streckeVonKanten.getStrecke(), DISTANCE_TOLERANCE),
-				false, true))
-			.collect(Collectors.toSet());
-		this.cache = new NetzMapView(kantenMapViews, new ArrayList<>());
-	}
+	private final Map<StreckeVonKanten, KanteMapView> kanteMapViewNachStrecke = new HashMap<>();
 
 	@Override
 	String getCacheName() {
 		return "das RadNETZ";
 	}
 
+	@Override
+	protected void erzeugeAnsicht(StreckeVonKanten streckeVonKanten) {
+		kanteMapViewNachStrecke.put(streckeVonKanten,
+			new KanteMapView(streckeVonKanten.getKanten().get(0).getId(),
+				TopologyPreservingSimplifier.simplify(streckeVonKanten.getStrecke(), DISTANCE_TOLERANCE),
+				false, true));
+	}
+
+	@Override
+	protected void entferneAnsicht(StreckeVonKanten streckeVonKanten) {
+		kanteMapViewNachStrecke.remove(streckeVonKanten);
+	}
+
+	@Override
+	protected void verwirfAnsichten() {
+		kanteMapViewNachStrecke.clear();
+	}
+
+	@Override
+	protected NetzMapView setzeCacheZusammen() {
+		return new NetzMapView(new HashSet<>(kanteMapViewNachStrecke.values()), new ArrayList<>());
+	}
 }
@@ -17,7 +17,6 @@ package de.wps.radvis.backend.abfrage.netzausschnitt.domain;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -31,6 +30,7 @@ import de.wps.radvis.backend.netz.domain.entity.Kante;
 import de.wps.radvis.backend.netz.domain.entity.StreckeVonKanten;
 import de.wps.radvis.backend.netz.domain.entity.StreckenEinerPartition;
 import de.wps.radvis.backend.netz.domain.event.KanteGeometrieChangedEvent;
+import de.wps.radvis.backend.netz.domain.event.KantenDeletedEvent;
 import de.wps.radvis.backend.netz.domain.event.RadNetzZugehoerigkeitChangedEvent;
 import de.wps.radvis.backend.netz.domain.repository.KantenRepository;
 import de.wps.radvis.backend.netz.domain.service.StreckenViewAbstractService;
@@ -131,56 +131,80 @@ public abstract class RadNetzCacheViewJob<CacheTyp, StreckenTyp extends StreckeV
 
 	@TransactionalEventListener(fallbackExecution = true)
 	public void onKanteGeometrieChanged(KanteGeometrieChangedEvent kanteGeometrieChangedEvent) {
-		this.streckeViewCacheRepository.getStreckenVonKanten().stream()
-			.filter(streckeVonKanten -> streckeVonKanten.getKanten().stream()
-				.anyMatch(kante -> kante.getId().equals(kanteGeometrieChangedEvent.getKanteId())))
-			.forEach(streckeVonKanten -> {
-				final Kante kante = kantenRepository.findById(kanteGeometrieChangedEvent.getKanteId()).orElseThrow();
-				streckeVonKanten.updateKanteInStrecke(kante);
-			});
-		this.streckeViewCacheRepository.reloadCache();
+		if (!streckeViewCacheRepository.hasCache()) {
+			// Der Cache wird beim ersten Lauf des Jobs ohnehin vollständig aufgebaut
+			return;
+		}
+		synchronized (streckeViewCacheRepository) {
+			streckeViewCacheRepository.getStreckeMitKante(kanteGeometrieChangedEvent.getKanteId())
+				.ifPresent(streckeVonKanten -> {
+					final Kante kante = kantenRepository.findById(kanteGeometrieChangedEvent.getKanteId())
+						.orElseThrow();
+					streckeViewCacheRepository.removeStrecke(streckeVonKanten);
+					streckeVonKanten.updateKanteInStrecke(kante);
+					streckeViewCacheRepository.addStrecke(streckeVonKanten);
+				});
+		}
 	}
 
 	@TransactionalEventListener(fallbackExecution = true)
 	public void onNetzklassenZugehoerigkeitChanged(
 		RadNetzZugehoerigkeitChangedEvent radNetzZugehoerigkeitChangedEvent) {
+		if (!streckeViewCacheRepository.hasCache()) {
+			return;
+		}
 		final Kante modifizierteKante = kantenRepository.findByKantenAttributGruppeId(
 			radNetzZugehoerigkeitChangedEvent.getKantenAttributGruppeId());
 
-		if (radNetzZugehoerigkeitChangedEvent.isRadnetzZugehoerig()) {
-			final StreckenTyp streckeVonKanten = this.createStreckeVonKanten(modifizierteKante);
+		synchronized (streckeViewCacheRepository) {
+			if (radNetzZugehoerigkeitChangedEvent.isRadnetzZugehoerig()) {
+				final StreckenTyp streckeVonKanten = this.createStreckeVonKanten(modifizierteKante);
 
-			streckeVonKanten.setzeVonKnotenAlsEndknoten();
-			streckeVonKanten.setzeNachKnotenAlsEndknoten();
+				streckeVonKanten.setzeVonKnotenAlsEndknoten();
+				streckeVonKanten.setzeNachKnotenAlsEndknoten();
 
-			streckeViewCacheRepository.addStrecke(streckeVonKanten);
-		} else {
-			final Optional<StreckenTyp> result = this.streckeViewCacheRepository.getStreckenVonKanten().stream()
-				.filter(streckeVonKanten -> streckeVonKanten.getKanten().stream()
-					.anyMatch(kante -> kante.getId().equals(modifizierteKante.getId())))
-				.findFirst();
-
-			result.ifPresent(streckeVonKanten -> {
-				// Modifiziert bestehende Strecke und returned die von der Strecke abgespaltenen Kanten
-				final List<Kante> splitKanten = streckeVonKanten.splitAt(modifizierteKante);
-				if (streckeVonKanten.getKanten().isEmpty()) {
-					streckeViewCacheRepository.removeStrecke(streckeVonKanten);
-				}
-				if (!splitKanten.isEmpty()) {
-					final StreckenTyp neueStreckeVonKanten = this.createStreckeVonKanten(splitKanten.get(0));
-					for (int i = 1; i < splitKanten.size(); ++i) {
-						neueStreckeVonKanten.addKante(splitKanten.get(i), false);
-					}
+				streckeViewCacheRepository.addStrecke(streckeVonKanten);
+			} else {
+				streckeViewCacheRepository.getStreckeMitKante(modifizierteKante.getId())
+					.ifPresent(streckeVonKanten -> entferneKanteAusStrecke(streckeVonKanten, modifizierteKante));
+			}
+		}
+	}
 
-					neueStreckeVonKanten.setzeVonKnotenAlsEndknoten();
-					neueStreckeVonKanten.setzeNachKnotenAlsEndknoten();
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onKantenDeleted(KantenDeletedEvent kantenDeletedEvent) {
+		if (!streckeViewCacheRepository.hasCache()) {
+			return;
+		}
+		synchronized (streckeViewCacheRepository) {
+			kantenDeletedEvent.getKantenIds().forEach(kanteId -> streckeViewCacheRepository
+				.getStreckeMitKante(kanteId)
+				.ifPresent(streckeVonKanten -> streckeVonKanten.getKanten().stream()
+					.filter(kante -> kante.getId().equals(kanteId))
+					.findFirst()
+					.ifPresent(geloeschteKante -> entferneKanteAusStrecke(streckeVonKanten, geloeschteKante))));
+		}
+	}
 
-					streckeViewCacheRepository.addStrecke(neueStreckeVonKanten);
-				}
-			});
+	private void entferneKanteAusStrecke(StreckenTyp streckeVonKanten, Kante kante) {
+		streckeViewCacheRepository.removeStrecke(streckeVonKanten);
+
+		// Modifiziert bestehende Strecke und returned die von der Strecke abgespaltenen Kanten
+		final List<Kante> splitKanten = streckeVonKanten.splitAt(kante);
+		if (!streckeVonKanten.getKanten().isEmpty()) {
+			streckeViewCacheRepository.addStrecke(streckeVonKanten);
 		}
+		if (!splitKanten.isEmpty()) {
+			final StreckenTyp neueStreckeVonKanten = this.createStreckeVonKanten(splitKanten.get(0));
+			for (int i = 1; i < splitKanten.size(); ++i) {
+				neueStreckeVonKanten.addKante(splitKanten.get(i), false);
+			}
 
-		this.streckeViewCacheRepository.reloadCache();
+			neueStreckeVonKanten.setzeVonKnotenAlsEndknoten();
+			neueStreckeVonKanten.setzeNachKnotenAlsEndknoten();
+
+			streckeViewCacheRepository.addStrecke(neueStreckeVonKanten);
+		}
 	}
 
 	protected abstract StreckenTyp createStreckeVonKanten(Kante kante);
@@ -15,16 +15,35 @@
 package de.wps.radvis.backend.abfrage.netzausschnitt.domain;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.exception.StreckenViewCacheNotInitializedException;
+import de.wps.radvis.backend.netz.domain.entity.Kante;
 import de.wps.radvis.backend.netz.domain.entity.StreckeVonKanten;
 
+/**
+ * Hält Strecken und die daraus erzeugte Ansicht im Speicher.
+ * <p>
+ * Die Ansicht wird pro Strecke erzeugt und beim Hinzufügen oder Entfernen einer Strecke nur für diese aktualisiert.
+ * Der Cache selbst wird erst beim nächsten Lesen aus den bestehenden Teilansichten zusammengesetzt, ohne dass die
+ * Geometrien erneut vereinfacht werden. Über einen Index von Kanten-ID auf Strecke lassen sich die von einer Änderung
+ * betroffenen Strecken direkt finden.
+ * <p>
+ * Eine Strecke darf nur verändert werden, während sie nicht im Repository enthalten ist (entfernen, ändern, wieder
+ * hinzufügen), damit Index und Ansicht zu ihr passen. Änderungen mehrerer Schritte sollten dazu auf diesem Repository
+ * synchronisiert werden.
+ */
 public abstract class StreckeViewCacheRepository<Cache, StreckenTyp extends StreckeVonKanten> {
 	protected static final double DISTANCE_TOLERANCE = 10.;
 
-	protected Cache cache;
+	private volatile Cache cache;
+	private volatile boolean cacheVeraltet = false;
 	protected Collection<StreckenTyp> streckenVonKanten;
+	private final Map<Long, StreckenTyp> streckeNachKanteId = new HashMap<>();
 
 	public boolean hasCache() {
 		return Objects.nonNull(cache);
@@ -34,6 +53,14 @@ public abstract class StreckeViewCacheRepository<Cache, StreckenTyp extends Stre
 		if (this.cache == null) {
 			throw new StreckenViewCacheNotInitializedException(getCacheName());
 		}
+		if (cacheVeraltet) {
+			synchronized (this) {
+				if (cacheVeraltet) {
+					this.cache = setzeCacheZusammen();
+					cacheVeraltet = false;
+				}
+			}
+		}
 		return this.cache;
 	}
 
@@ -41,20 +68,60 @@ public abstract class StreckeViewCacheRepository<Cache, StreckenTyp extends Stre
 		return this.streckenVonKanten;
 	}
 
-	void loadCache(Collection<StreckenTyp> streckenVonKanten) {
-		this.streckenVonKanten = streckenVonKanten;
+	synchronized void loadCache(Collection<StreckenTyp> streckenVonKanten) {
+		this.streckenVonKanten = new HashSet<>(streckenVonKanten);
+		this.streckeNachKanteId.clear();
+		this.streckenVonKanten.forEach(this::indexiere);
 		this.reloadCache();
 	}
 
-	abstract void reloadCache();
+	/**
+	 * Erzeugt die Ansichten aller Strecken neu.
+	 */
+	synchronized void reloadCache() {
+		verwirfAnsichten();
+		streckenVonKanten.forEach(this::erzeugeAnsicht);
+		this.cache = setzeCacheZusammen();
+		cacheVeraltet = false;
+	}
 
-	abstract String getCacheName();
+	synchronized Optional<StreckenTyp> getStreckeMitKante(Long kanteId) {
+		return Optional.ofNullable(streckeNachKanteId.get(kanteId));
+	}
 
-	void addStrecke(StreckenTyp streckeVonKanten) {
+	synchronized void addStrecke(StreckenTyp streckeVonKanten) {
 		streckenVonKanten.add(streckeVonKanten);
+		indexiere(streckeVonKanten);
+		erzeugeAnsicht(streckeVonKanten);
+		cacheVeraltet = true;
 	}
 
-	void removeStrecke(StreckenTyp streckeVonKanten) {
+	synchronized void removeStrecke(StreckenTyp streckeVonKanten) {
 		streckenVonKanten.remove(streckeVonKanten);
+		for (Kante kante : streckeVonKanten.getKanten()) {
+			streckeNachKanteId.remove(kante.getId(), streckeVonKanten);
+		}
+		entferneAnsicht(streckeVonKanten);
+		cacheVeraltet = true;
+	}
+
+	private void indexiere(StreckenTyp streckeVonKanten) {
+		streckeVonKanten.getKanten().forEach(kante -> streckeNachKanteId.put(kante.getId(), streckeVonKanten));
 	}
+
+	abstract String getCacheName();
+
+	/**
+	 * Erzeugt die Ansicht einer einzelnen Strecke und merkt sie sich für {@link #setzeCacheZusammen()}.
+	 */
+	protected abstract void erzeugeAnsicht(StreckenTyp streckeVonKanten);
+
+	protected abstract void entferneAnsicht(StreckenTyp streckeVonKanten);
+
+	protected abstract void verwirfAnsichten();
+
+	/**
+	 * Setzt den Cache aus den bereits erzeugten Ansichten der Strecken zusammen.
+	 */
+	protected abstract Cache setzeCacheZusammen();
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.abfrage.netzausschnitt.domain.valueObject;
+
+import static org.valid4j.Assertive.require;
+
+import org.locationtech.jts.geom.Envelope;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Adressiert eine Kachel im Kachelschema "UTM32 Standard" (EPSG:25832), das auch die UTM32-Hintergrundkarten im
+ * Frontend verwenden: Zoomstufe 0 hat eine Auflösung von 4891,97 m pro Pixel, jede weitere Stufe halbiert diese. Die
+ * Kacheln sind 256 Pixel groß und werden ab der linken oberen Ecke des Schemas gezählt.
+ */
+@EqualsAndHashCode
+@ToString
+@Getter
+public class VectorTileKoordinate {
+
+	public static final int MAXIMALE_ZOOMSTUFE = 20;
+
+	public static final int KACHEL_GROESSE_IN_PIXEL = 256;
+
+	/**
+	 * Anzahl Pixel, um die eine Kachel über ihren Rand hinaus mit Geometrien gefüllt wird, damit Linien an den
+	 * Kachelgrenzen nicht abgeschnitten dargestellt werden.
+	 */
+	public static final int PUFFER_IN_PIXEL = 16;
+
+	private static final double AUFLOESUNG_ZOOMSTUFE_0 = 4891.969810251279;
+	private static final double URSPRUNG_X = -46133.17;
+	private static final double URSPRUNG_Y = 6301219.54;
+
+	private final int z;
+	private final int x;
+	private final int y;
+
+	private VectorTileKoordinate(int z, int x, int y) {
+		require(z >= 0 && z <= MAXIMALE_ZOOMSTUFE, "Zoomstufe muss zwischen 0 und " + MAXIMALE_ZOOMSTUFE + " liegen");
+		require(x >= 0 && x < (1 << z), "x liegt außerhalb des Kachelschemas");
+		require(y >= 0 && y < (1 << z), "y liegt außerhalb des Kachelschemas");
+		this.z = z;
+		this.x = x;
+		this.y = y;
+	}
+
+	public static VectorTileKoordinate of(int z, int x, int y) {
+		return new VectorTileKoordinate(z, x, y);
+	}
+
+	/**
+	 * @return Meter pro Pixel auf der Zoomstufe dieser Kachel
+	 */
+	public double getAufloesung() {
+		return AUFLOESUNG_ZOOMSTUFE_0 / (1 << z);
+	}
+
+	public Envelope getBereich() {
+		double kachelBreite = KACHEL_GROESSE_IN_PIXEL * getAufloesung();
+		double minX = URSPRUNG_X + x * kachelBreite;
+		double maxY = URSPRUNG_Y - y * kachelBreite;
+		return new Envelope(minX, minX + kachelBreite, maxY - kachelBreite, maxY);
+	}
+
+	/**
+	 * @return Der Bereich dieser Kachel inklusive Puffer, also alles, was in dieser Kachel dargestellt wird.
+	 */
+	public Envelope getBereichMitPuffer() {
+		Envelope bereich = getBereich();
+		bereich.expandBy(PUFFER_IN_PIXEL * getAufloesung());
+		return bereich;
+	}
+}
@@ -22,6 +22,8 @@ import java.util.stream.Collectors;
 import org.geojson.FeatureCollection;
 import org.locationtech.jts.geom.Envelope;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -31,11 +33,13 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import de.wps.radvis.backend.abfrage.netzausschnitt.domain.KantenVectorTileService;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.NetzausschnittService;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.entity.GeometrienVerlaufMapView;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.entity.KanteNetzklasseMapView;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.entity.NetzMapView;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.entity.NetzNetzklasseMapView;
+import de.wps.radvis.backend.abfrage.netzausschnitt.domain.valueObject.VectorTileKoordinate;
 import de.wps.radvis.backend.common.domain.valueObject.QuellSystem;
 import de.wps.radvis.backend.common.schnittstelle.GeoJsonConverter;
 import de.wps.radvis.backend.common.schnittstelle.RadvisViewController;
@@ -55,6 +59,8 @@ import lombok.NonNull;
 @RadvisViewController
 public class NetzausschnittController {
 
+	private static final String VECTOR_TILE_MEDIA_TYPE = "application/vnd.mapbox-vector-tile";
+
 	@Autowired
 	private final NetzToGeoJsonConverter netzToGeoJsonConverter;
 	private final NetzService netzService;
@@ -62,6 +68,7 @@ public class NetzausschnittController {
 	private final KantenMappingService kantenMappingService;
 	private final VerwaltungseinheitResolver verwaltungseinheitResolver;
 	private final NetzausschnittGuard netzausschnittGuard;
+	private final KantenVectorTileService kantenVectorTileService;
 
 	public NetzausschnittController(
 		@NonNull NetzToGeoJsonConverter netzToGeoJsonConverter,
@@ -69,7 +76,8 @@ public class NetzausschnittController {
 		@NonNull NetzausschnittService netzausschnittService,
 		@NonNull KantenMappingService kantenMappingService,
 		@NonNull VerwaltungseinheitResolver verwaltungseinheitResolver,
-		@NonNull NetzausschnittGuard netzausschnittGuard
+		@NonNull NetzausschnittGuard netzausschnittGuard,
+		@NonNull KantenVectorTileService kantenVectorTileService
 	) {
 		super();
 		this.netzToGeoJsonConverter = netzToGeoJsonConverter;
@@ -78,6 +86,7 @@ public class NetzausschnittController {
 		this.kantenMappingService = kantenMappingService;
 		this.verwaltungseinheitResolver = verwaltungseinheitResolver;
 		this.netzausschnittGuard = netzausschnittGuard;
+		this.kantenVectorTileService = kantenVectorTileService;
 	}
 
 	@GetMapping("quelle/{quelle}")
@@ -96,6 +105,20 @@ public class NetzausschnittController {
 		return netzToGeoJsonConverter.convertNetzAusschnitt(netzAusschnitt, mitVerlauf);
 	}
 
+	/**
+	 * Liefert die Kanten einer Kachel als Mapbox Vector Tile. Gefiltert wird wie bei {@code /kanten}, die Kacheln
+	 * folgen dem Schema aus {@link VectorTileKoordinate}.
+	 */
+	@GetMapping(value = "tiles/{z}/{x}/{y}.mvt", produces = VECTOR_TILE_MEDIA_TYPE)
+	public ResponseEntity<byte[]> getKantenVectorTile(@PathVariable int z, @PathVariable int x, @PathVariable int y,
+		@RequestParam("netzklasseFilter") Set<NetzklasseFilter> netzklasseFilterQueryParams) {
+		byte[] tile = kantenVectorTileService.getKantenVectorTile(VectorTileKoordinate.of(z, x, y),
+			netzklasseFilterQueryParams);
+		return ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType(VECTOR_TILE_MEDIA_TYPE))
+			.body(tile);
+	}
+
 	@GetMapping("kantenDLM")
 	public FeatureCollection getKantenGeoJsonDLM(@ModelAttribute("sichtbereich") Envelope sichtbereich) {
 		NetzNetzklasseMapView netzAusschnitt = this.netzausschnittService.findNetzAusschnittDLM(sichtbereich);
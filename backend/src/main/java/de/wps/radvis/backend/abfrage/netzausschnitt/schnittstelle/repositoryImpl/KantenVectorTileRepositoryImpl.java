@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.abfrage.netzausschnitt.schnittstelle.repositoryImpl;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.valid4j.Assertive.require;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.locationtech.jts.geom.Envelope;
+
+import de.wps.radvis.backend.abfrage.netzausschnitt.domain.KantenVectorTileRepository;
+import de.wps.radvis.backend.abfrage.netzausschnitt.domain.valueObject.VectorTileKoordinate;
+import de.wps.radvis.backend.common.domain.FeatureToggleProperties;
+import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
+import de.wps.radvis.backend.common.domain.valueObject.QuellSystem;
+import de.wps.radvis.backend.netz.domain.repository.CommonQueryLibrary;
+import de.wps.radvis.backend.netz.domain.valueObject.Netzklasse;
+import de.wps.radvis.backend.netz.domain.valueObject.NetzklasseFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.transaction.Transactional;
+
+/**
+ * Erzeugt die Kacheln direkt in PostGIS über ST_AsMVT. Statt des SELECT DISTINCT über den Join auf die Netzklassen
+ * wird mit EXISTS gefiltert, sodass jede Kante nur einmal gelesen und kodiert wird.
+ */
+public class KantenVectorTileRepositoryImpl implements KantenVectorTileRepository {
+
+	private static final int MVT_EXTENT = 4096;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private final FeatureToggleProperties featureToggleProperties;
+
+	public KantenVectorTileRepositoryImpl(FeatureToggleProperties featureToggleProperties) {
+		require(featureToggleProperties, notNullValue());
+		this.featureToggleProperties = featureToggleProperties;
+	}
+
+	@Override
+	@Transactional
+	public byte[] getKantenVectorTile(VectorTileKoordinate koordinate, Set<NetzklasseFilter> netzklassenFilter) {
+		require(koordinate, notNullValue());
+		require(netzklassenFilter, notNullValue());
+
+		Set<String> netzklassen = CommonQueryLibrary.getNetzklassenParameter(netzklassenFilter).stream()
+			.map(Netzklasse::name)
+			.collect(Collectors.toSet());
+		boolean orNichtKlassifiziert = netzklassenFilter.contains(NetzklasseFilter.NICHT_KLASSIFIZIERT);
+
+		if (netzklassen.isEmpty() && !orNichtKlassifiziert) {
+			return new byte[0];
+		}
+
+		Envelope bereich = koordinate.getBereich();
+		int pufferInMvtEinheiten = VectorTileKoordinate.PUFFER_IN_PIXEL * MVT_EXTENT
+			/ VectorTileKoordinate.KACHEL_GROESSE_IN_PIXEL;
+
+		// Vereinfacht wird mit einem halben Pixel Toleranz, das ist in der Darstellung nicht sichtbar, reduziert auf
+		// niedrigen Zoomstufen aber die Anzahl der Stützpunkte erheblich.
+		StringBuilder sqlStringBuilder = new StringBuilder();
+		sqlStringBuilder
+			.append("WITH kachel AS (")
+			.append(" SELECT ST_MakeEnvelope(:minX, :minY, :maxX, :maxY, ")
+			.append(KoordinatenReferenzSystem.ETRS89_UTM32_N.getSrid()).append(") AS bereich),")
+			.append(" kanten AS (")
+			.append(" SELECT kante.id, kante.is_zweiseitig AS \"kanteZweiseitig\",")
+			.append(" ST_AsMVTGeom(ST_SimplifyPreserveTopology(kante.geometry, :toleranz), kachel.bereich, ")
+			.append(MVT_EXTENT).append(", ").append(pufferInMvtEinheiten).append(", true) AS geom")
+			.append(" FROM kante, kachel")
+			.append(" WHERE kante.geometry && ST_Expand(kachel.bereich, :puffer)")
+			.append(" AND ").append(whereClauseGrundnetz())
+			.append(" AND ").append(whereClauseFuerNetzklassen(!netzklassen.isEmpty(), orNichtKlassifiziert))
+			.append(")")
+			.append(" SELECT ST_AsMVT(kanten.*, '").append(LAYER_NAME).append("', ").append(MVT_EXTENT)
+			.append(", 'geom', 'id')")
+			.append(" FROM kanten WHERE kanten.geom IS NOT NULL");
+
+		Query query = entityManager.createNativeQuery(sqlStringBuilder.toString())
+			.setParameter("minX", bereich.getMinX())
+			.setParameter("minY", bereich.getMinY())
+			.setParameter("maxX", bereich.getMaxX())
+			.setParameter("maxY", bereich.getMaxY())
+			.setParameter("toleranz", koordinate.getAufloesung() / 2)
+			.setParameter("puffer", VectorTileKoordinate.PUFFER_IN_PIXEL * koordinate.getAufloesung());
+		if (!netzklassen.isEmpty()) {
+			query.setParameter("netzklassen", netzklassen);
+		}
+
+		byte[] tile = (byte[]) query.getSingleResult();
+		return tile != null ? tile : new byte[0];
+	}
+
+	private String whereClauseGrundnetz() {
+		if (featureToggleProperties.isShowDlm()) {
+			return "kante.quelle IN ('" + QuellSystem.DLM + "', '" + QuellSystem.RadVis + "')";
+		}
+		return "kante.is_grundnetz = true";
+	}
+
+	private static String whereClauseFuerNetzklassen(boolean mitNetzklassen, boolean orNichtKlassifiziert) {
+		StringBuilder sqlBuilder = new StringBuilder("(");
+		if (mitNetzklassen) {
+			sqlBuilder.append("EXISTS (SELECT 1 FROM kanten_attribut_gruppe_netzklassen kagn")
+				.append(" WHERE kagn.kanten_attribut_gruppe_id = kante.kanten_attributgruppe_id")
+				.append(" AND kagn.netzklasse IN (:netzklassen))");
+		}
+		if (mitNetzklassen && orNichtKlassifiziert) {
+			sqlBuilder.append(" OR ");
+		}
+		if (orNichtKlassifiziert) {
+			sqlBuilder.append("NOT EXISTS (SELECT 1 FROM kanten_attribut_gruppe_netzklassen kagn")
+				.append(" WHERE kagn.kanten_attribut_gruppe_id = kante.kanten_attributgruppe_id)");
+		}
+		return sqlBuilder.append(")").toString();
+	}
+}
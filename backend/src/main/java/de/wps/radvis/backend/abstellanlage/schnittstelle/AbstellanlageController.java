@@ -15,10 +15,12 @@
 package de.wps.radvis.backend.abstellanlage.schnittstelle;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -44,6 +46,7 @@ import de.wps.radvis.backend.common.domain.exception.CsvImportException;
 import de.wps.radvis.backend.common.domain.exception.CsvReadException;
 import de.wps.radvis.backend.common.domain.repository.CsvRepository;
 import de.wps.radvis.backend.common.domain.valueObject.CsvData;
+import de.wps.radvis.backend.dokument.domain.DokumentService;
 import de.wps.radvis.backend.dokument.domain.entity.Dokument;
 import de.wps.radvis.backend.dokument.schnittstelle.AddDokumentCommand;
 import de.wps.radvis.backend.dokument.schnittstelle.view.DokumenteView;
@@ -64,6 +67,7 @@ public class AbstellanlageController {
 	private final BenutzerResolver benutzerResolver;
 	private final CsvRepository csvRepository;
 	private final SaveAbstellanlageCommandConverter saveAbstellanlageCommandConverter;
+	private final DokumentService dokumentService;
 
 	@PostMapping("new")
 	@WithAuditing(context = AuditingContext.SAVE_ABSTELLANLAGE_COMMAND)
@@ -107,7 +111,7 @@ public class AbstellanlageController {
 	}
 
 	@GetMapping("{id}/dokument/{dokumentId}")
-	public ResponseEntity<byte[]> getDokument(@PathVariable("id") Long id,
+	public ResponseEntity<Resource> getDokument(@PathVariable("id") Long id,
 		@PathVariable("dokumentId") Long dokumentId) {
 		Dokument dokument = service.getDokument(id, dokumentId);
 
@@ -119,9 +123,8 @@ public class AbstellanlageController {
 
 		return ResponseEntity.ok()
 			.contentType(MediaType.parseMediaType(MediaType.APPLICATION_OCTET_STREAM_VALUE))
-			.contentLength(dokument.getDateigroesseInBytes())
 			.headers(headers)
-			.body(dokument.getDatei());
+			.body(dokumentService.getDateiinhalt(dokument));
 	}
 
 	@PostMapping(path = "{id}/dokument", consumes = {
@@ -133,13 +136,15 @@ public class AbstellanlageController {
 		@RequestPart AddDokumentCommand command,
 		@RequestPart MultipartFile file,
 		Authentication authentication) throws IOException {
-		service.addDokument(
-			id,
-			new Dokument(
-				command.getFilename(),
-				benutzerResolver.fromAuthentication(authentication),
-				file.getBytes(),
-				LocalDateTime.now()));
+		try (InputStream inhalt = file.getInputStream()) {
+			service.addDokument(
+				id,
+				dokumentService.erstelleDokument(
+					command.getFilename(),
+					benutzerResolver.fromAuthentication(authentication),
+					inhalt,
+					LocalDateTime.now()));
+		}
 	}
 
 	@DeleteMapping("{id}/dokument/{dokumentId}")
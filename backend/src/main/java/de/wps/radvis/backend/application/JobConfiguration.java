@@ -28,6 +28,7 @@ import org.springframework.context.annotation.Scope;
 
 import de.wps.radvis.backend.abstellanlage.domain.AbstellanlageBRImportJob;
 import de.wps.radvis.backend.abstellanlage.domain.AbstellanlageRepository;
+import de.wps.radvis.backend.application.domain.MaterializedViewsNeuaufbauJob;
 import de.wps.radvis.backend.application.domain.MaterializedViewsUpdateJob;
 import de.wps.radvis.backend.benutzer.domain.BenutzerService;
 import de.wps.radvis.backend.benutzer.domain.InaktivitaetConfigurationProperties;
@@ -43,6 +44,9 @@ import de.wps.radvis.backend.common.domain.repository.GeoJsonImportRepository;
 import de.wps.radvis.backend.common.domain.repository.ShapeFileRepository;
 import de.wps.radvis.backend.common.domain.valueObject.QuellSystem;
 import de.wps.radvis.backend.common.schnittstelle.CoordinateReferenceSystemConverter;
+import de.wps.radvis.backend.dokument.domain.DokumentDateiablageBereinigungJob;
+import de.wps.radvis.backend.dokument.domain.DokumentDateiablageMigrationJob;
+import de.wps.radvis.backend.dokument.domain.DokumentService;
 import de.wps.radvis.backend.integration.attributAbbildung.domain.AttributProjektionsJob;
 import de.wps.radvis.backend.integration.attributAbbildung.domain.AttributProjektionsService;
 import de.wps.radvis.backend.integration.attributAbbildung.domain.AttributProjektionsStatistikService;
@@ -71,9 +75,11 @@ import de.wps.radvis.backend.matching.domain.service.GraphhopperUpdateService;
 import de.wps.radvis.backend.matching.domain.service.KanteUpdateElevationService;
 import de.wps.radvis.backend.matching.domain.service.MatchingJobProtokollService;
 import de.wps.radvis.backend.matching.domain.service.MatchingKorrekturService;
+import de.wps.radvis.backend.matching.domain.service.MatchingPipelineService;
 import de.wps.radvis.backend.matching.domain.service.OsmAuszeichnungsService;
 import de.wps.radvis.backend.matching.schnittstelle.LoadGraphhopperJob;
 import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.DlmMatchedGraphHopperFactory;
+import de.wps.radvis.backend.netz.domain.NetzConfigurationProperties;
 import de.wps.radvis.backend.netz.domain.service.NetzService;
 import de.wps.radvis.backend.netz.domain.service.StreckenViewService;
 import de.wps.radvis.backend.netzfehler.domain.NetzfehlerRepository;
@@ -112,6 +118,9 @@ public class JobConfiguration {
 	@Autowired
 	private ImportedFeaturePersistentRepository importedFeatureRepository;
 
+	@Autowired
+	private DokumentService dokumentService;
+
 	@Autowired
 	private RadNetzNetzbildungService radNetzNetzbildungService;
 
@@ -145,6 +154,9 @@ public class JobConfiguration {
 	@Autowired
 	private MatchingKorrekturService osmMatchingKorrekturService;
 
+	@Autowired
+	private MatchingPipelineService matchingPipelineService;
+
 	@Autowired
 	private StreckenViewService streckenViewService;
 
@@ -172,6 +184,9 @@ public class JobConfiguration {
 	@Autowired
 	private DLMConfigurationProperties dlmConfigurationProperties;
 
+	@Autowired
+	private NetzConfigurationProperties netzConfigurationProperties;
+
 	@Autowired
 	private InitialAdminImportConfigurationProperties initialAdminImportConfigurationProperties;
 
@@ -373,7 +388,7 @@ public class JobConfiguration {
 			jobExecutionDescriptionRepository, netzfehlerRepository,
 			org.springframework.data.util.Lazy.of(() -> osmMatchingRepository),
 			netzService, osmMatchingKorrekturService, osmJobProtokollService, entityManager,
-			dlmConfigurationProperties, osmAbbildungsFehlerRepository);
+			dlmConfigurationProperties, osmAbbildungsFehlerRepository, matchingPipelineService);
 	}
 
 	@Bean
@@ -382,7 +397,7 @@ public class JobConfiguration {
 			jobExecutionDescriptionRepository, netzfehlerRepository,
 			org.springframework.data.util.Lazy.of(() -> dlmMatchingRepository), netzService, streckenViewService,
 			osmMatchingKorrekturService, osmJobProtokollService,
-			entityManager, dlmConfigurationProperties, QuellSystem.RadwegeDB);
+			entityManager, dlmConfigurationProperties, matchingPipelineService, QuellSystem.RadwegeDB);
 	}
 
 	@Bean
@@ -391,7 +406,7 @@ public class JobConfiguration {
 			jobExecutionDescriptionRepository, netzfehlerRepository,
 			org.springframework.data.util.Lazy.of(() -> dlmMatchingRepository), netzService, streckenViewService,
 			osmMatchingKorrekturService, osmJobProtokollService,
-			entityManager, dlmConfigurationProperties, QuellSystem.RadNETZ);
+			entityManager, dlmConfigurationProperties, matchingPipelineService, QuellSystem.RadNETZ);
 	}
 
 	@Bean
@@ -522,6 +537,22 @@ public class JobConfiguration {
 
 	@Bean
 	public MaterializedViewsUpdateJob materializedViewsUpdateJob() {
-		return new MaterializedViewsUpdateJob(jobExecutionDescriptionRepository, netzService, massnahmeRepository);
+		return new MaterializedViewsUpdateJob(jobExecutionDescriptionRepository, netzService, massnahmeRepository,
+			netzConfigurationProperties.getMaterializedViewsAnzahlParallelerVerbindungen());
+	}
+
+	@Bean
+	public MaterializedViewsNeuaufbauJob materializedViewsNeuaufbauJob() {
+		return new MaterializedViewsNeuaufbauJob(jobExecutionDescriptionRepository, netzService);
+	}
+
+	@Bean
+	public DokumentDateiablageMigrationJob dokumentDateiablageMigrationJob() {
+		return new DokumentDateiablageMigrationJob(jobExecutionDescriptionRepository, dokumentService);
+	}
+
+	@Bean
+	public DokumentDateiablageBereinigungJob dokumentDateiablageBereinigungJob() {
+		return new DokumentDateiablageBereinigungJob(jobExecutionDescriptionRepository, dokumentService);
 	}
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.application.domain;
+
+import java.util.Optional;
+
+import de.wps.radvis.backend.common.domain.JobDescription;
+import de.wps.radvis.backend.common.domain.JobExecutionDescriptionRepository;
+import de.wps.radvis.backend.common.domain.JobExecutionDurationEstimate;
+import de.wps.radvis.backend.common.domain.annotation.SuppressChangedEvents;
+import de.wps.radvis.backend.common.domain.entity.AbstractJob;
+import de.wps.radvis.backend.common.domain.entity.JobExecutionDescription;
+import de.wps.radvis.backend.common.domain.entity.JobStatistik;
+import de.wps.radvis.backend.netz.domain.service.NetzService;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class MaterializedViewsNeuaufbauJob extends AbstractJob {
+
+	private final NetzService netzService;
+
+	public MaterializedViewsNeuaufbauJob(
+		JobExecutionDescriptionRepository jobExecutionDescriptionRepository,
+		NetzService netzService) {
+		super(jobExecutionDescriptionRepository);
+		this.netzService = netzService;
+	}
+
+	@Override
+	@Transactional
+	@SuppressChangedEvents
+	public JobExecutionDescription run() {
+		return run(false);
+	}
+
+	@Override
+	@Transactional
+	@SuppressChangedEvents
+	public JobExecutionDescription run(boolean force) {
+		return super.run(force);
+	}
+
+	@Transactional
+	@Override
+	protected Optional<JobStatistik> doRun() {
+		netzService.refreshNetzMaterializedViews();
+		return Optional.empty();
+	}
+
+	@Override
+	public JobDescription getDescription() {
+		return new JobDescription(
+			"Baut alle Netz-Materialized-Views und die inkrementell gepflegten Abschnitts-Tabellen vollständig neu auf.",
+			"Netz-Materialized-Views und Abschnitts-Tabellen entsprechen vollständig dem aktuellen Netz.",
+			"Nur zur Wiederherstellung gedacht, z.B. wenn Kanten oder Organisationen ohne Versionserhöhung geändert wurden. Regulär aktualisiert der MaterializedViewsUpdateJob nur geänderte Kanten. Die Abschnitts-Tabellen sind während des Neuaufbaus für Lesezugriffe gesperrt.",
+			JobExecutionDurationEstimate.LONG);
+	}
+}
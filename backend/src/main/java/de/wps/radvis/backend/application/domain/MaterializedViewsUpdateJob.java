@@ -14,8 +14,14 @@
 
 package de.wps.radvis.backend.application.domain;
 
+import static org.valid4j.Assertive.require;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
 import java.util.Optional;
 
+import de.wps.radvis.backend.application.domain.entity.MaterializedViewsUpdateJobStatistik;
 import de.wps.radvis.backend.common.domain.JobDescription;
 import de.wps.radvis.backend.common.domain.JobExecutionDescriptionRepository;
 import de.wps.radvis.backend.common.domain.JobExecutionDurationEstimate;
@@ -25,6 +31,7 @@ import de.wps.radvis.backend.common.domain.entity.JobExecutionDescription;
 import de.wps.radvis.backend.common.domain.entity.JobStatistik;
 import de.wps.radvis.backend.massnahme.domain.repository.MassnahmeRepository;
 import de.wps.radvis.backend.netz.domain.service.NetzService;
+import de.wps.radvis.backend.netz.domain.valueObject.NetzMaterializedView;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
@@ -33,14 +40,18 @@ public class MaterializedViewsUpdateJob extends AbstractJob {
 
 	private final NetzService netzService;
 	private final MassnahmeRepository massnahmenRepository;
+	private final int anzahlParallelerVerbindungen;
 
 	public MaterializedViewsUpdateJob(
 		JobExecutionDescriptionRepository jobExecutionDescriptionRepository,
 		NetzService netzService,
-		MassnahmeRepository massnahmenRepository) {
+		MassnahmeRepository massnahmenRepository,
+		int anzahlParallelerVerbindungen) {
 		super(jobExecutionDescriptionRepository);
+		require(anzahlParallelerVerbindungen >= 1, "anzahlParallelerVerbindungen muss mindestens 1 sein");
 		this.netzService = netzService;
 		this.massnahmenRepository = massnahmenRepository;
+		this.anzahlParallelerVerbindungen = anzahlParallelerVerbindungen;
 	}
 
 	@Override
@@ -60,10 +71,22 @@ public class MaterializedViewsUpdateJob extends AbstractJob {
 	@Transactional
 	@Override
 	protected Optional<JobStatistik> doRun() {
-		netzService.refreshNetzMaterializedViews();
+		MaterializedViewsUpdateJobStatistik statistik = new MaterializedViewsUpdateJobStatistik();
+		Map<NetzMaterializedView, Duration> dauerProView = netzService.refreshNetzMaterializedViewsNebenlaeufig(
+			anzahlParallelerVerbindungen);
+		for (NetzMaterializedView materializedView : NetzMaterializedView.values()) {
+			if (dauerProView.containsKey(materializedView)) {
+				statistik.dauerInMillisekundenProView.put(materializedView.getViewName(),
+					dauerProView.get(materializedView).toMillis());
+			}
+		}
+
 		log.info("Refreshing Maßnahmen Materialized View");
+		Instant start = Instant.now();
 		massnahmenRepository.refreshMassnahmeMaterializedViews();
-		return Optional.empty();
+		statistik.dauerInMillisekundenProView.put("geoserver_massnahmen_erweitert_view",
+			Duration.between(start, Instant.now()).toMillis());
+		return Optional.of(statistik);
 	}
 
 	@Override
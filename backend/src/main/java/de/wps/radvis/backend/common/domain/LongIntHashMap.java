@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.common.domain;
+
+import static org.valid4j.Assertive.require;
+
+import java.util.Arrays;
+
+/**
+ * Map von long auf int ohne Boxing, z.B. für die Zuordnung von Entity-IDs auf Array-Indizes.
+ * <p>
+ * Die Einträge liegen per Open Addressing mit linearem Sondieren in zwei primitiven Arrays. Entfernen wird nicht
+ * unterstützt, dafür ist die Map kompakt und ein Zugriff kommt ohne Objekt-Allokation und equals/hashCode aus.
+ * {@link Long#MIN_VALUE} ist als Schlüssel nicht erlaubt, da er leere Plätze markiert.
+ */
+public class LongIntHashMap {
+
+	public static final int KEIN_WERT = -1;
+
+	private static final long LEER = Long.MIN_VALUE;
+	private static final double MAXIMALER_FUELLGRAD = 0.5;
+
+	private long[] schluessel;
+	private int[] werte;
+	private int maske;
+	private int anzahl = 0;
+
+	public LongIntHashMap() {
+		this(16);
+	}
+
+	public LongIntHashMap(int erwarteteAnzahl) {
+		require(erwarteteAnzahl >= 0, "Die erwartete Anzahl darf nicht negativ sein");
+		initialisiere(kapazitaetFuer(erwarteteAnzahl));
+	}
+
+	/**
+	 * @return der zugeordnete Wert oder {@link #KEIN_WERT}
+	 */
+	public int get(long key) {
+		int platz = finde(key);
+		return schluessel[platz] == LEER ? KEIN_WERT : werte[platz];
+	}
+
+	public boolean containsKey(long key) {
+		return schluessel[finde(key)] != LEER;
+	}
+
+	public void put(long key, int wert) {
+		require(key != LEER, "Long.MIN_VALUE ist als Schlüssel nicht erlaubt");
+		int platz = finde(key);
+		if (schluessel[platz] == LEER) {
+			schluessel[platz] = key;
+			anzahl++;
+		}
+		werte[platz] = wert;
+		if (anzahl > schluessel.length * MAXIMALER_FUELLGRAD) {
+			vergroessere();
+		}
+	}
+
+	/**
+	 * Ordnet dem Schlüssel den Wert nur zu, wenn er noch keinen hat.
+	 *
+	 * @return der bereits vorhandene Wert oder {@link #KEIN_WERT}, wenn der Wert neu zugeordnet wurde
+	 */
+	public int putIfAbsent(long key, int wert) {
+		int vorhanden = get(key);
+		if (vorhanden == KEIN_WERT) {
+			put(key, wert);
+		}
+		return vorhanden;
+	}
+
+	public int size() {
+		return anzahl;
+	}
+
+	public boolean isEmpty() {
+		return anzahl == 0;
+	}
+
+	private int finde(long key) {
+		int platz = streue(key) & maske;
+		while (schluessel[platz] != LEER && schluessel[platz] != key) {
+			platz = (platz + 1) & maske;
+		}
+		return platz;
+	}
+
+	private void vergroessere() {
+		long[] alteSchluessel = schluessel;
+		int[] alteWerte = werte;
+		initialisiere(alteSchluessel.length * 2);
+		for (int i = 0; i < alteSchluessel.length; i++) {
+			if (alteSchluessel[i] != LEER) {
+				int platz = finde(alteSchluessel[i]);
+				schluessel[platz] = alteSchluessel[i];
+				werte[platz] = alteWerte[i];
+			}
+		}
+	}
+
+	private void initialisiere(int kapazitaet) {
+		schluessel = new long[kapazitaet];
+		Arrays.fill(schluessel, LEER);
+		werte = new int[kapazitaet];
+		maske = kapazitaet - 1;
+	}
+
+	private static int kapazitaetFuer(int erwarteteAnzahl) {
+		int kapazitaet = 16;
+		while (kapazitaet * MAXIMALER_FUELLGRAD < erwarteteAnzahl) {
+			kapazitaet <<= 1;
+		}
+		return kapazitaet;
+	}
+
+	private static int streue(long key) {
+		// IDs sind meist fortlaufend, deshalb werden die Bits vor dem Maskieren gut durchmischt
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+}
@@ -15,7 +15,10 @@
 package de.wps.radvis.backend.common.domain.repository;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import de.wps.radvis.backend.common.domain.exception.CsvReadException;
 import de.wps.radvis.backend.common.domain.valueObject.CsvData;
@@ -23,6 +26,12 @@ import de.wps.radvis.backend.common.domain.valueObject.CsvData;
 public interface CsvRepository {
 	public byte[] write(CsvData csvData) throws IOException;
 
+	/**
+	 * Schreibt die Zeilen fortlaufend in den übergebenen Stream, der anschließend nicht geschlossen wird.
+	 */
+	public void write(List<String> header, Iterator<Map<String, String>> rows, OutputStream outputStream)
+		throws IOException;
+
 	CsvData read(byte[] csvFile, List<String> requiredHeader) throws CsvReadException;
 
 	CsvData read(byte[] csvFile, List<String> requiredHeader, char delimiter, boolean ignoreQuotations)
@@ -14,6 +14,7 @@
 
 package de.wps.radvis.backend.common.domain.repository;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
@@ -21,6 +22,7 @@ import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
 
 import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
 import de.wps.radvis.backend.shapetransformation.domain.exception.ShapeEncodingException;
@@ -49,6 +51,14 @@ public interface ShapeFileRepository {
 	 */
 	public boolean writeShape(File shpDirectory, File shpFile, List<SimpleFeature> features) throws IOException;
 
+	/**
+	 * Legt ein Shape-File mit dem übergebenen FeatureType an, in das die Features anschließend einzeln geschrieben
+	 * werden können. Die Features werden direkt in die Datei geschrieben und nicht im Speicher gesammelt. Schlägt
+	 * das Schreiben fehl, werden die Dateien des Shape-Files beim Schließen des ShapeSchreibers gelöscht.
+	 */
+	public ShapeSchreiber oeffneShape(File shpDirectory, File shpFile, SimpleFeatureType featureType)
+		throws IOException;
+
 	/**
 	 * Prüft, ob die ShpFile folgende Kriterien erfüllt:
 	 * - encoding ist als UTF-8 deklariert
@@ -66,4 +76,8 @@ public interface ShapeFileRepository {
 		KoordinatenReferenzSystem koordinatenReferenzSystem);
 
 	SimpleFeature transformGeometryToUTM32(SimpleFeature simpleFeature);
+
+	interface ShapeSchreiber extends Closeable {
+		void schreibe(SimpleFeature feature) throws IOException;
+	}
 }
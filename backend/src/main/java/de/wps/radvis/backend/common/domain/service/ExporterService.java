@@ -15,11 +15,21 @@
 package de.wps.radvis.backend.common.domain.service;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import de.wps.radvis.backend.common.domain.valueObject.ExportData;
 
 public interface ExporterService {
 	List<ExportData> export(List<Long> ids);
 
+	/**
+	 * Wie {@link #export(List)}, die Daten werden aber erst beim Konsumieren des Streams erzeugt. Exporter für große
+	 * Datenmengen lesen dabei direkt aus einem Datenbank-Cursor, dann muss der Stream innerhalb einer Transaktion
+	 * konsumiert und anschließend geschlossen werden.
+	 */
+	default Stream<ExportData> exportStream(List<Long> ids) {
+		return export(ids).stream();
+	}
+
 	String getDateinamenPrefix();
 }
@@ -188,16 +188,21 @@ public class ShapeZipService {
 		return destFile;
 	}
 
+	/**
+	 * Schreibt die Dateien des Verzeichnisses gezippt in den OutputStream, ohne sie vorher komplett einzulesen. Der
+	 * OutputStream wird nicht geschlossen.
+	 */
 	public void zip(OutputStream out, File file) throws IOException {
 		ZipOutputStream zipOutputStream = new ZipOutputStream(out);
 		File[] files = file.listFiles();
 		for (int i = 0; i < files.length; i++) {
 			ZipEntry zipEntry = new ZipEntry(files[i].getName());
 			zipOutputStream.putNextEntry(zipEntry);
-			zipOutputStream.write(Files.readAllBytes(files[i].toPath()));
+			Files.copy(files[i].toPath(), zipOutputStream);
 			zipOutputStream.closeEntry();
 		}
-		zipOutputStream.close();
+		zipOutputStream.finish();
+		zipOutputStream.flush();
 	}
 
 }
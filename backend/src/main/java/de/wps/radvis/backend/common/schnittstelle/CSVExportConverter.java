@@ -15,14 +15,16 @@
 package de.wps.radvis.backend.common.schnittstelle;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import com.google.common.collect.Iterators;
 
 import de.wps.radvis.backend.common.domain.repository.CsvRepository;
-import de.wps.radvis.backend.common.domain.valueObject.CsvData;
 import de.wps.radvis.backend.common.domain.valueObject.ExportData;
 import lombok.AllArgsConstructor;
 
@@ -32,18 +34,19 @@ public class CSVExportConverter implements ExportConverter {
 	private final CsvRepository csvRepository;
 
 	@Override
-	public byte[] convert(List<ExportData> data) {
-		if (data.isEmpty()) {
-			return "Keine Daten zum Exportieren".getBytes(StandardCharsets.UTF_8);
+	public void convert(Stream<ExportData> data, OutputStream outputStream) throws IOException {
+		Iterator<ExportData> iterator = data.iterator();
+		if (!iterator.hasNext()) {
+			outputStream.write("Keine Daten zum Exportieren".getBytes(StandardCharsets.UTF_8));
+			return;
 		}
 
-		try {
-			return csvRepository
-				.write(CsvData.of(data.stream().map(exp -> exp.getProperties()).collect(Collectors.toList()),
-					data.get(0).getHeaders()));
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		// Die Header der ersten Zeile bestimmen die Spalten
+		ExportData ersteZeile = iterator.next();
+		csvRepository.write(ersteZeile.getHeaders(),
+			Iterators.transform(Iterators.concat(Iterators.singletonIterator(ersteZeile), iterator),
+				ExportData::getProperties),
+			outputStream);
 	}
 
 	@Override
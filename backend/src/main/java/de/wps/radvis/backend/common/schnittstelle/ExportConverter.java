@@ -14,13 +14,32 @@
 
 package de.wps.radvis.backend.common.schnittstelle;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 import de.wps.radvis.backend.common.domain.valueObject.ExportData;
 
 // Der ExportConverter convertiert ExportData in ein bestimmtes Format
 public interface ExportConverter {
-	public byte[] convert(List<ExportData> data);
+
+	/**
+	 * Schreibt die Daten fortlaufend in den übergebenen Stream, ohne sie vorher vollständig im Speicher zu halten. Der
+	 * OutputStream wird nicht geschlossen.
+	 */
+	public void convert(Stream<ExportData> data, OutputStream outputStream) throws IOException;
+
+	public default byte[] convert(List<ExportData> data) {
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		try {
+			convert(data.stream(), result);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return result.toByteArray();
+	}
 
 	public String getDateinamenSuffix();
 }
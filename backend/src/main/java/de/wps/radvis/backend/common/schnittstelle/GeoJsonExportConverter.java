@@ -14,16 +14,20 @@
 
 package de.wps.radvis.backend.common.schnittstelle;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 import org.geojson.Crs;
 import org.geojson.Feature;
-import org.geojson.FeatureCollection;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 import de.wps.radvis.backend.common.domain.valueObject.ExportData;
 import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
@@ -31,24 +35,39 @@ import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem
 public class GeoJsonExportConverter implements ExportConverter {
 
 	@Override
-	public byte[] convert(List<ExportData> data) {
-		FeatureCollection collection = new FeatureCollection();
+	public void convert(Stream<ExportData> data, OutputStream outputStream) throws IOException {
 		Crs crs = new Crs();
 		crs.getProperties().put("name", "EPSG:" + KoordinatenReferenzSystem.ETRS89_UTM32_N.getSrid());
-		collection.setCrs(crs);
 
-		data.forEach(singleData -> {
-			Feature feature = GeoJsonConverter.createFeature(singleData.getGeometry());
-			singleData.getProperties().forEach(feature::setProperty);
-			collection.add(feature);
-		});
 		ObjectMapper objectMapper = new ObjectMapper();
+		ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+		// Die FeatureCollection wird von Hand geöffnet und geschlossen, damit die Features einzeln geschrieben werden
+		// können. Das Ergebnis entspricht der Serialisierung einer org.geojson.FeatureCollection.
+		JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+		generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		// Bricht das Schreiben ab, soll kein scheinbar vollständiges Dokument entstehen
+		generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
 		try {
-			return objectMapper.writeValueAsBytes(collection);
-		} catch (JsonProcessingException e) {
-			throw new RuntimeException(e);
-		}
+			generator.writeStartObject();
+			generator.writeStringField("type", "FeatureCollection");
+			generator.writeFieldName("crs");
+			writer.writeValue(generator, crs);
+			generator.writeArrayFieldStart("features");
 
+			Iterator<ExportData> iterator = data.iterator();
+			while (iterator.hasNext()) {
+				ExportData singleData = iterator.next();
+				Feature feature = GeoJsonConverter.createFeature(singleData.getGeometry());
+				singleData.getProperties().forEach(feature::setProperty);
+				writer.writeValue(generator, feature);
+			}
+
+			generator.writeEndArray();
+			generator.writeEndObject();
+		} finally {
+			generator.close();
+		}
 	}
 
 	@Override
@@ -16,18 +16,22 @@ package de.wps.radvis.backend.common.schnittstelle;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
-import org.apache.commons.io.FileUtils;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
-import org.geotools.data.collection.ListFeatureCollection;
+import org.geotools.data.DefaultTransaction;
+import org.geotools.data.simple.SimpleFeatureWriter;
 import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.geopkg.FeatureEntry;
 import org.geotools.geopkg.GeoPackage;
-import org.jetbrains.annotations.NotNull;
 import org.locationtech.jts.geom.Geometry;
 import org.valid4j.Assertive;
 
@@ -39,66 +43,83 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class GeoPackageExportConverter implements ExportConverter {
 
+	/**
+	 * Ein GeoPackage ist eine SQLite-Datenbank und kann daher nur als Datei erzeugt werden. Die Features werden
+	 * einzeln in die temporäre Datei geschrieben, die anschließend in den OutputStream kopiert wird.
+	 */
 	@Override
-	public byte[] convert(List<ExportData> data) {
-		if (data.isEmpty()) {
-			return new byte[0];
+	public void convert(Stream<ExportData> data, OutputStream outputStream) throws IOException {
+		Iterator<ExportData> iterator = data.iterator();
+		if (!iterator.hasNext()) {
+			return;
 		}
 
 		File exportGeoPkgFile = null;
-		byte[] result;
 		try {
-			exportGeoPkgFile = convertToFile(data);
-			result = FileUtils.readFileToByteArray(exportGeoPkgFile);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
+			exportGeoPkgFile = schreibeGeoPackage(iterator);
+			Files.copy(exportGeoPkgFile.toPath(), outputStream);
 		} finally {
 			if (exportGeoPkgFile != null) {
 				exportGeoPkgFile.delete();
 			}
 		}
-		return result;
 	}
 
 	public File convertToFile(List<ExportData> data) throws IOException {
 		Assertive.require(!data.isEmpty(), "GeoPackage Export-Daten dürfen nicht leer sein");
+		return schreibeGeoPackage(data.iterator());
+	}
+
+	@Override
+	public String getDateinamenSuffix() {
+		return "_geopackage_" + LocalDate.now().format(DateTimeFormatter.ISO_DATE) + ".gpkg";
+	}
 
+	private static File schreibeGeoPackage(Iterator<ExportData> data) throws IOException {
+		ExportData ersteZeile = data.next();
 		SimpleFeatureType simpleFeatureType = SimpleFeatureTypeFactory.createSimpleFeatureType(
-			data.get(0).getProperties(),
+			ersteZeile.getProperties(),
 			Geometry.class,
 			SimpleFeatureTypeFactory.GEOMETRY_ATTRIBUTE_KEY_THE_GEOM);
-		ListFeatureCollection collection = getListFeatureCollection(data, simpleFeatureType);
 
 		File exportGeoPkgFile = Files.createTempFile("export", "gpkg").toFile();
 		exportGeoPkgFile.deleteOnExit();
 		GeoPackage geopkg = new GeoPackage(exportGeoPkgFile);
-		geopkg.init();
-		FeatureEntry entry = new FeatureEntry();
-		geopkg.add(entry, collection);
-		geopkg.addCRS(KoordinatenReferenzSystem.ETRS89_UTM32_N.getSrid());
+		try {
+			geopkg.init();
+			FeatureEntry entry = new FeatureEntry();
+			geopkg.create(entry, simpleFeatureType);
+
+			// Alle Features in einer Transaktion, sonst committed SQLite jedes Feature einzeln
+			try (Transaction transaction = new DefaultTransaction("export");
+				SimpleFeatureWriter writer = geopkg.writer(entry, true, null, transaction)) {
+				SimpleFeatureBuilder simpleFeatureBuilder = new SimpleFeatureBuilder(simpleFeatureType);
+				int index = 0;
+				schreibeFeature(writer, simpleFeatureBuilder, ersteZeile, index++);
+				while (data.hasNext()) {
+					schreibeFeature(writer, simpleFeatureBuilder, data.next(), index++);
+				}
+				transaction.commit();
+			}
+			geopkg.addCRS(KoordinatenReferenzSystem.ETRS89_UTM32_N.getSrid());
+		} catch (IOException | RuntimeException e) {
+			geopkg.close();
+			exportGeoPkgFile.delete();
+			throw e;
+		}
 		geopkg.close();
 
 		return exportGeoPkgFile;
 	}
 
-	@Override
-	public String getDateinamenSuffix() {
-		return "_geopackage_" + LocalDate.now().format(DateTimeFormatter.ISO_DATE) + ".gpkg";
-	}
-
-	@NotNull
-	private static ListFeatureCollection getListFeatureCollection(List<ExportData> data,
-		SimpleFeatureType simpleFeatureType) {
-		ListFeatureCollection collection = new ListFeatureCollection(simpleFeatureType);
+	private static void schreibeFeature(SimpleFeatureWriter writer, SimpleFeatureBuilder simpleFeatureBuilder,
+		ExportData singleData, int index) throws IOException {
+		simpleFeatureBuilder.set(SimpleFeatureTypeFactory.GEOMETRY_ATTRIBUTE_KEY_THE_GEOM, singleData.getGeometry());
+		singleData.getProperties().forEach(simpleFeatureBuilder::set);
+		SimpleFeature feature = simpleFeatureBuilder.buildFeature(String.valueOf(index));
 
-		for (int i = 0; i < data.size(); i++) {
-			ExportData singleData = data.get(i);
-			SimpleFeatureBuilder simpleFeatureBuilder = new SimpleFeatureBuilder(simpleFeatureType);
-			simpleFeatureBuilder.set(SimpleFeatureTypeFactory.GEOMETRY_ATTRIBUTE_KEY_THE_GEOM,
-				singleData.getGeometry());
-			singleData.getProperties().forEach(simpleFeatureBuilder::set);
-			collection.add(simpleFeatureBuilder.buildFeature(String.valueOf(i)));
-		}
-		return collection;
+		SimpleFeature neuesFeature = writer.next();
+		neuesFeature.setAttributes(feature.getAttributes());
+		writer.write();
 	}
 }
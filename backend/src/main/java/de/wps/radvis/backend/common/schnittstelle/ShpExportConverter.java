@@ -14,20 +14,21 @@
 
 package de.wps.radvis.backend.common.schnittstelle;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
 import java.util.stream.Stream;
 
-import org.geotools.api.feature.simple.SimpleFeature;
+import org.apache.commons.io.FileUtils;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.locationtech.jts.geom.Geometry;
@@ -43,6 +44,7 @@ import org.locationtech.jts.geom.Polygon;
 
 import de.wps.radvis.backend.common.domain.SimpleFeatureTypeFactory;
 import de.wps.radvis.backend.common.domain.repository.ShapeFileRepository;
+import de.wps.radvis.backend.common.domain.repository.ShapeFileRepository.ShapeSchreiber;
 import de.wps.radvis.backend.common.domain.service.ShapeZipService;
 import de.wps.radvis.backend.common.domain.valueObject.ExportData;
 import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
@@ -60,43 +62,45 @@ public class ShpExportConverter implements ExportConverter {
 		this.shapeZipService = shapeZipService;
 	}
 
+	/**
+	 * Pro Geometrietyp wird ein eigenes Shape-File geschrieben. Die Shape-Files werden beim ersten Auftreten eines
+	 * Geometrietyps angelegt und die Daten fortlaufend hineingeschrieben, das gezippte Verzeichnis wird anschließend in
+	 * den OutputStream geschrieben.
+	 */
 	@Override
-	public byte[] convert(List<ExportData> data) {
-		if (data.isEmpty()) {
-			return new byte[0];
+	public void convert(Stream<ExportData> data, OutputStream outputStream) throws IOException {
+		Iterator<ExportData> iterator = data.flatMap(ShpExportConverter::cleanUpGeometries).iterator();
+		if (!iterator.hasNext()) {
+			return;
 		}
 
-		ByteArrayOutputStream result = new ByteArrayOutputStream();
-		File exportDir = null;
+		File exportDir = java.nio.file.Files.createTempDirectory("export").toFile();
+		exportDir.deleteOnExit();
+		// Ein Eintrag ohne Wert steht für einen Geometrietyp, dessen Shape-File nicht angelegt werden konnte
+		Map<String, Optional<ShapeDatei>> shapeDateiNachGeometryType = new HashMap<>();
 		try {
-			File finalExportDir = java.nio.file.Files.createTempDirectory("export").toFile();
-			finalExportDir.deleteOnExit();
-			exportDir = finalExportDir;
-
-			Map<String, List<ExportData>> dataGroupedByGeometryType = data
-				.stream()
-				.flatMap(ShpExportConverter::cleanUpGeometries)
-				.collect(Collectors.groupingBy(d -> d.getGeometry().getGeometryType()));
-
-			dataGroupedByGeometryType.forEach((geometryType, exportData) -> {
-				try {
-					log.debug("Erstelle Shapefile für Geometrietyp " + geometryType);
-					exportAsShpToDir(exportData, finalExportDir, geometryType);
-				} catch (IOException e) {
-					log.warn("SHP-Export von Geometrietyp {} nach {} fehlgeschlagen: ", geometryType, finalExportDir,
-						e);
+			try {
+				while (iterator.hasNext()) {
+					ExportData exportData = trimAttributeKeys(escapeAttributeKeys(iterator.next()));
+					String geometryType = exportData.getGeometry().getGeometryType();
+					Optional<ShapeDatei> shapeDatei = shapeDateiNachGeometryType.computeIfAbsent(geometryType,
+						typ -> oeffneShape(exportData, exportDir, typ));
+					if (shapeDatei.isPresent()) {
+						shapeDatei.get().schreibe(exportData);
+					}
 				}
-			});
+			} finally {
+				for (Optional<ShapeDatei> shapeDatei : shapeDateiNachGeometryType.values()) {
+					if (shapeDatei.isPresent()) {
+						shapeDatei.get().schreiber().close();
+					}
+				}
+			}
 
-			shapeZipService.zip(result, exportDir);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
+			shapeZipService.zip(outputStream, exportDir);
 		} finally {
-			if (exportDir != null) {
-				exportDir.delete();
-			}
+			FileUtils.deleteQuietly(exportDir);
 		}
-		return result.toByteArray();
 	}
 
 	/**
@@ -161,44 +165,31 @@ public class ShpExportConverter implements ExportConverter {
 		return newExportdata.stream();
 	}
 
-	private void exportAsShpToDir(List<ExportData> data, File exportDir, String fileSuffix) throws IOException {
-		File exportShpFile = null;
-
-		data = data.stream().map(exportData -> {
-			HashMap<String, String> newProperties = new HashMap<>();
-			exportData.getProperties().forEach((key, value) -> newProperties.put(escapeSpecialCharacters(key), value));
-			return new ExportData(exportData.getGeometry(), newProperties);
-		})
-			.collect(Collectors.toList());
+	private Optional<ShapeDatei> oeffneShape(ExportData ersteZeile, File exportDir, String geometryType) {
+		log.debug("Erstelle Shapefile für Geometrietyp " + geometryType);
+		SimpleFeatureType simpleFeatureType = SimpleFeatureTypeFactory.createSimpleFeatureType(
+			ersteZeile.getProperties(),
+			toFeatureType(geometryType),
+			SimpleFeatureTypeFactory.GEOMETRY_ATTRIBUTE_KEY_THE_GEOM);
 
+		File exportShpFile = new File(exportDir, "export-" + geometryType + ".shp");
+		exportShpFile.deleteOnExit();
 		try {
-			List<ExportData> trimmedData = this.trimAttributeKeys(data);
-			SimpleFeatureType simpleFeatureType = SimpleFeatureTypeFactory.createSimpleFeatureType(
-				trimmedData.get(0).getProperties(),
-				toFeatureType(trimmedData.get(0).getGeometry().getGeometryType()),
-				SimpleFeatureTypeFactory.GEOMETRY_ATTRIBUTE_KEY_THE_GEOM);
-
-			List<SimpleFeature> simpleFeatures = new ArrayList<>();
-			for (int i = 0; i < trimmedData.size(); i++) {
-				ExportData singleData = trimmedData.get(i);
-				SimpleFeatureBuilder simpleFeatureBuilder = new SimpleFeatureBuilder(simpleFeatureType);
-				simpleFeatureBuilder.set(SimpleFeatureTypeFactory.GEOMETRY_ATTRIBUTE_KEY_THE_GEOM,
-					singleData.getGeometry());
-				singleData.getProperties().forEach(simpleFeatureBuilder::set);
-				simpleFeatures.add(simpleFeatureBuilder.buildFeature(String.valueOf(i)));
-			}
-
-			exportShpFile = new File(exportDir, "export-" + fileSuffix + ".shp");
-			exportShpFile.deleteOnExit();
-			shapeFileRepository.writeShape(exportDir, exportShpFile, simpleFeatures);
+			return Optional.of(new ShapeDatei(
+				shapeFileRepository.oeffneShape(exportDir, exportShpFile, simpleFeatureType), simpleFeatureType));
 		} catch (IOException e) {
-			if (exportShpFile != null) {
-				exportShpFile.delete();
-			}
-			throw e;
+			log.warn("SHP-Export von Geometrietyp {} nach {} fehlgeschlagen: ", geometryType, exportDir, e);
+			exportShpFile.delete();
+			return Optional.empty();
 		}
 	}
 
+	private static ExportData escapeAttributeKeys(ExportData exportData) {
+		HashMap<String, String> newProperties = new HashMap<>();
+		exportData.getProperties().forEach((key, value) -> newProperties.put(escapeSpecialCharacters(key), value));
+		return new ExportData(exportData.getGeometry(), newProperties);
+	}
+
 	private static String escapeSpecialCharacters(String name) {
 		return name
 			.replaceAll("-", "")
@@ -216,33 +207,29 @@ public class ShpExportConverter implements ExportConverter {
 	// GeoTools bewirkt, dass die Values nicht wiedergefunden werden und fuer die betroffenen Attribute nur NULL-Werte
 	// ins Shapefile geschrieben werden (Bug?). Daher hier ein manuelles Abschneiden der Attribute-Keys unter Vermeidung
 	// von Duplikaten
-	private List<ExportData> trimAttributeKeys(List<ExportData> data) {
-		List<ExportData> trimmedData = new ArrayList<>(data.size());
-		data.forEach(singleData -> {
-			Map<String, String> trimmedProperties = new HashMap<>();
-			singleData.getProperties().forEach((key, value) -> {
-				String trimmedKey = key.substring(0, Math.min(key.length(), 10));
-				if (trimmedProperties.containsKey(trimmedKey)) {
-					// Annahme: Nur maximal 10 Attribute mit denselben 10 Anfangsbuchstaben
-					String potentialExistingSuffix = trimmedKey.substring(trimmedKey.length() - 1);
-					int suffixNumber;
-					try {
-						suffixNumber = Integer.parseInt(potentialExistingSuffix);
-						suffixNumber++;
-					} catch (NumberFormatException e) {
-						// Noch kein Zahlensuffix vorhanden
-						suffixNumber = 2;
-					}
-					trimmedKey = trimmedKey.substring(0, trimmedKey.length() - 1) + suffixNumber;
+	private static ExportData trimAttributeKeys(ExportData singleData) {
+		Map<String, String> trimmedProperties = new HashMap<>();
+		singleData.getProperties().forEach((key, value) -> {
+			String trimmedKey = key.substring(0, Math.min(key.length(), 10));
+			if (trimmedProperties.containsKey(trimmedKey)) {
+				// Annahme: Nur maximal 10 Attribute mit denselben 10 Anfangsbuchstaben
+				String potentialExistingSuffix = trimmedKey.substring(trimmedKey.length() - 1);
+				int suffixNumber;
+				try {
+					suffixNumber = Integer.parseInt(potentialExistingSuffix);
+					suffixNumber++;
+				} catch (NumberFormatException e) {
+					// Noch kein Zahlensuffix vorhanden
+					suffixNumber = 2;
 				}
-				trimmedProperties.put(trimmedKey, value);
-			});
-			trimmedData.add(new ExportData(singleData.getGeometry(), trimmedProperties));
+				trimmedKey = trimmedKey.substring(0, trimmedKey.length() - 1) + suffixNumber;
+			}
+			trimmedProperties.put(trimmedKey, value);
 		});
-		return trimmedData;
+		return new ExportData(singleData.getGeometry(), trimmedProperties);
 	}
 
-	private Class<? extends Geometry> toFeatureType(String geometryType) {
+	private static Class<? extends Geometry> toFeatureType(String geometryType) {
 		switch (geometryType) {
 		case Geometry.TYPENAME_GEOMETRYCOLLECTION:
 			return GeometryCollection.class;
@@ -266,4 +253,14 @@ public class ShpExportConverter implements ExportConverter {
 	public String getDateinamenSuffix() {
 		return "_shp_" + LocalDate.now().format(DateTimeFormatter.ISO_DATE) + ".zip";
 	}
+
+	private record ShapeDatei(ShapeSchreiber schreiber, SimpleFeatureType featureType) {
+		void schreibe(ExportData exportData) throws IOException {
+			SimpleFeatureBuilder simpleFeatureBuilder = new SimpleFeatureBuilder(featureType);
+			simpleFeatureBuilder.set(SimpleFeatureTypeFactory.GEOMETRY_ATTRIBUTE_KEY_THE_GEOM,
+				exportData.getGeometry());
+			exportData.getProperties().forEach(simpleFeatureBuilder::set);
+			schreiber.schreibe(simpleFeatureBuilder.buildFeature(null));
+		}
+	}
 }
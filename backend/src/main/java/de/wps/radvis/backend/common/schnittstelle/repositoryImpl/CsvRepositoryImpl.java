@@ -19,12 +19,14 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -116,28 +118,36 @@ public class CsvRepositoryImpl implements CsvRepository {
 
 	@Override
 	public byte[] write(CsvData csvData) throws IOException {
-		try (ByteArrayOutputStream stream = new ByteArrayOutputStream();
-			OutputStreamWriter streamWriter = new OutputStreamWriter(stream);
-			CSVWriter writer = new CSVWriter(streamWriter, ';', '"', '"', "\n")) {
-
-			CSVEncodingUtility.writeBOMEncoding(stream);
-
-			String[] header = csvData.getHeader().toArray(String[]::new);
-			writer.writeNext(header);
-
-			csvData.getRows().forEach(row -> {
-				String[] nextLine = new String[header.length];
-				for (int i = 0; i < header.length; i++) {
-					nextLine[i] = row.get(header[i]);
-				}
-				writer.writeNext(nextLine);
-			});
-
-			streamWriter.flush();
+		try (ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
+			write(csvData.getHeader(), csvData.getRows().iterator(), stream);
 			return stream.toByteArray();
 		}
 	}
 
+	@Override
+	public void write(List<String> header, Iterator<Map<String, String>> rows, OutputStream outputStream)
+		throws IOException {
+		// Writer werden bewusst nicht geschlossen, da dies auch den übergebenen OutputStream schließen würde
+		OutputStreamWriter streamWriter = new OutputStreamWriter(outputStream);
+		CSVWriter writer = new CSVWriter(streamWriter, ';', '"', '"', "\n");
+
+		CSVEncodingUtility.writeBOMEncoding(outputStream);
+
+		String[] headerArray = header.toArray(String[]::new);
+		writer.writeNext(headerArray);
+
+		while (rows.hasNext()) {
+			Map<String, String> row = rows.next();
+			String[] nextLine = new String[headerArray.length];
+			for (int i = 0; i < headerArray.length; i++) {
+				nextLine[i] = row.get(headerArray[i]);
+			}
+			writer.writeNext(nextLine);
+		}
+
+		writer.flush();
+	}
+
 	private static BufferedReader createBufferedReader(byte[] data, Charset charset) throws IOException {
 		BOMInputStream.Builder inputStreamBuilder = BOMInputStream
 			.builder()
@@ -41,11 +41,13 @@ import java.util.stream.StreamSupport;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
+import org.geotools.api.data.FeatureWriter;
 import org.geotools.api.data.SimpleFeatureSource;
 import org.geotools.api.data.SimpleFeatureStore;
 import org.geotools.api.data.Transaction;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
 import org.geotools.api.referencing.FactoryException;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
 import org.geotools.data.DefaultTransaction;
@@ -72,6 +74,8 @@ public class ShapeFileRepositoryImpl implements ShapeFileRepository {
 
 	public static Charset ENCODING_UTF8 = StandardCharsets.UTF_8;
 
+	private static final List<String> SHAPE_DATEI_ENDUNGEN = List.of("shp", "shx", "dbf", "prj", "cpg", "qix", "fix");
+
 	private final CoordinateReferenceSystemConverter coordinateReferenceSystemConverter;
 
 	public ShapeFileRepositoryImpl(CoordinateReferenceSystemConverter coordinateReferenceSystemConverter) {
@@ -118,16 +122,7 @@ public class ShapeFileRepositoryImpl implements ShapeFileRepository {
 			return false;
 		}
 
-		ShapefileDataStoreFactory dataStoreFactory = new ShapefileDataStoreFactory();
-
-		Map<String, Serializable> params = new HashMap<>();
-		URL url = shpFile.toURI().toURL();
-
-		params.put("url", url);
-		params.put("charset", ENCODING_UTF8.toString());
-		params.put("create spatial index", Boolean.TRUE);
-
-		ShapefileDataStore newDataStore = (ShapefileDataStore) dataStoreFactory.createNewDataStore(params);
+		ShapefileDataStore newDataStore = erstelleShapefileDataStore(shpFile);
 
 		Transaction transaction = new DefaultTransaction("create");
 		try {
@@ -143,12 +138,7 @@ public class ShapeFileRepositoryImpl implements ShapeFileRepository {
 				featureStore.setTransaction(transaction);
 				featureStore.addFeatures(collection);
 
-				// write CPG File (Optionale file die das Encoding angibt)
-				File cpgFile = new File(shpDirectory, FilenameUtils.removeExtension(shpFile.getName()) + ".cpg");
-				cpgFile.createNewFile();
-				BufferedWriter writer = new BufferedWriter(new FileWriter(cpgFile));
-				writer.write(ENCODING_UTF8.toString());
-				writer.close();
+				schreibeCpgDatei(shpDirectory, shpFile);
 
 				transaction.commit();
 				return true;
@@ -164,6 +154,56 @@ public class ShapeFileRepositoryImpl implements ShapeFileRepository {
 		}
 	}
 
+	@Override
+	public ShapeSchreiber oeffneShape(File shpDirectory, File shpFile, SimpleFeatureType featureType)
+		throws IOException {
+		require(shpDirectory.isDirectory());
+
+		ShapefileDataStore newDataStore = erstelleShapefileDataStore(shpFile);
+		try {
+			newDataStore.createSchema(featureType);
+			// Der Shapefile-Store kennt keine echten Transaktionen: Mit einer DefaultTransaction würden alle Features
+			// bis zum Commit im Speicher gehalten, daher wird direkt in die Datei geschrieben.
+			FeatureWriter<SimpleFeatureType, SimpleFeature> featureWriter = newDataStore
+				.getFeatureWriterAppend(newDataStore.getTypeNames()[0], Transaction.AUTO_COMMIT);
+			schreibeCpgDatei(shpDirectory, shpFile);
+			return new FortlaufenderShapeSchreiber(newDataStore, featureWriter, shpFile);
+		} catch (IOException | RuntimeException e) {
+			newDataStore.dispose();
+			loescheShapeDateien(shpFile);
+			throw e;
+		}
+	}
+
+	private static void loescheShapeDateien(File shpFile) {
+		String basisName = FilenameUtils.removeExtension(shpFile.getName());
+		for (String endung : SHAPE_DATEI_ENDUNGEN) {
+			FileUtils.deleteQuietly(new File(shpFile.getParentFile(), basisName + "." + endung));
+		}
+	}
+
+	private static ShapefileDataStore erstelleShapefileDataStore(File shpFile) throws IOException {
+		ShapefileDataStoreFactory dataStoreFactory = new ShapefileDataStoreFactory();
+
+		Map<String, Serializable> params = new HashMap<>();
+		URL url = shpFile.toURI().toURL();
+
+		params.put("url", url);
+		params.put("charset", ENCODING_UTF8.toString());
+		params.put("create spatial index", Boolean.TRUE);
+
+		return (ShapefileDataStore) dataStoreFactory.createNewDataStore(params);
+	}
+
+	// write CPG File (Optionale file die das Encoding angibt)
+	private static void schreibeCpgDatei(File shpDirectory, File shpFile) throws IOException {
+		File cpgFile = new File(shpDirectory, FilenameUtils.removeExtension(shpFile.getName()) + ".cpg");
+		cpgFile.createNewFile();
+		BufferedWriter writer = new BufferedWriter(new FileWriter(cpgFile));
+		writer.write(ENCODING_UTF8.toString());
+		writer.close();
+	}
+
 	@Override
 	public void validate(File shpDirectory)
 		throws ShapeEncodingException, ShapeUnreadableException, IOException, ShapeProjectionException {
@@ -317,4 +357,52 @@ public class ShapeFileRepositoryImpl implements ShapeFileRepository {
 			return simpleFeatureIterator.next();
 		}
 	}
+
+	private static class FortlaufenderShapeSchreiber implements ShapeSchreiber {
+
+		private final ShapefileDataStore dataStore;
+		private final FeatureWriter<SimpleFeatureType, SimpleFeature> featureWriter;
+		private final File shpFile;
+		private boolean fehlgeschlagen = false;
+
+		private FortlaufenderShapeSchreiber(ShapefileDataStore dataStore,
+			FeatureWriter<SimpleFeatureType, SimpleFeature> featureWriter, File shpFile) {
+			this.dataStore = dataStore;
+			this.featureWriter = featureWriter;
+			this.shpFile = shpFile;
+		}
+
+		@Override
+		public void schreibe(SimpleFeature feature) throws IOException {
+			try {
+				// Übernahme per Attributname wie in SimpleFeatureStore.addFeatures, der Shapefile-Store kann die
+				// Attribute beim Anlegen des Schemas umsortieren
+				SimpleFeature neuesFeature = featureWriter.next();
+				for (AttributeDescriptor descriptor : neuesFeature.getFeatureType().getAttributeDescriptors()) {
+					neuesFeature.setAttribute(descriptor.getLocalName(),
+						feature.getAttribute(descriptor.getLocalName()));
+				}
+				featureWriter.write();
+			} catch (IOException | RuntimeException e) {
+				fehlgeschlagen = true;
+				throw e;
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				featureWriter.close();
+			} catch (IOException | RuntimeException e) {
+				fehlgeschlagen = true;
+				throw e;
+			} finally {
+				dataStore.dispose();
+				// Ein unvollständig geschriebenes Shape-File soll nicht weiterverwendet werden
+				if (fehlgeschlagen) {
+					loescheShapeDateien(shpFile);
+				}
+			}
+		}
+	}
 }
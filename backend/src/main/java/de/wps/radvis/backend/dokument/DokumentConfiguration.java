@@ -14,12 +14,39 @@
 
 package de.wps.radvis.backend.dokument;
 
+import java.nio.file.Paths;
+
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
+import de.wps.radvis.backend.dokument.domain.DokumentConfigurationProperties;
+import de.wps.radvis.backend.dokument.domain.DokumentDateiRepository;
+import de.wps.radvis.backend.dokument.domain.DokumentService;
+import de.wps.radvis.backend.dokument.schnittstelle.repositoryImpl.DokumentDateiRepositoryImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
 @Configuration
 @EnableJpaRepositories
 @EntityScan
 public class DokumentConfiguration {
+
+	@Autowired
+	private DokumentConfigurationProperties dokumentConfigurationProperties;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Bean
+	public DokumentDateiRepository dokumentDateiRepository() {
+		return new DokumentDateiRepositoryImpl(Paths.get(dokumentConfigurationProperties.getDateiablageVerzeichnis()));
+	}
+
+	@Bean
+	public DokumentService dokumentService() {
+		return new DokumentService(dokumentDateiRepository(), entityManager);
+	}
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.dokument.domain;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.core.io.Resource;
+
+import de.wps.radvis.backend.dokument.domain.valueObject.AbgelegteDatei;
+import de.wps.radvis.backend.dokument.domain.valueObject.DateiHash;
+
+/**
+ * Inhaltsadressierte Ablage der Dateiinhalte von Dokumenten. Die Inhalte werden über ihren SHA-256-Hash
+ * angesprochen, sodass identische Dateien nur einmal abgelegt werden.
+ */
+public interface DokumentDateiRepository {
+
+	/**
+	 * Liest den Inhalt vollständig aus dem Stream und legt ihn ab, ohne ihn dabei im Speicher zu halten. Der
+	 * Stream wird nicht geschlossen. Ist derselbe Inhalt bereits abgelegt, wird er nicht erneut gespeichert.
+	 */
+	AbgelegteDatei speichere(InputStream inhalt) throws IOException;
+
+	/**
+	 * Der abgelegte Inhalt zum Hash. Die Resource wird erst beim Lesen geöffnet und unterstützt das Lesen von
+	 * Teilbereichen (HTTP Range).
+	 */
+	Resource lade(DateiHash hash);
+
+	/**
+	 * Prüft, ob der Inhalt zum Hash abgelegt ist und beim erneuten Lesen noch denselben Hash ergibt.
+	 */
+	boolean istUnversehrtAbgelegt(DateiHash hash) throws IOException;
+
+	/**
+	 * Die Hashes aller Inhalte, die vor dem Zeitpunkt zuletzt abgelegt oder erneut gespeichert wurden.
+	 */
+	List<DateiHash> findeAbgelegtVor(Instant zeitpunkt) throws IOException;
+
+	/**
+	 * Löscht den Inhalt zum Hash, sofern er seit dem Zeitpunkt nicht erneut gespeichert wurde.
+	 *
+	 * @return ob der Inhalt gelöscht wurde
+	 */
+	boolean loescheWennAbgelegtVor(DateiHash hash, Instant zeitpunkt) throws IOException;
+}
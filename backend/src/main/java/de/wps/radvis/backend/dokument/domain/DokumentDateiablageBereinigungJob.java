@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.dokument.domain;
+
+import java.util.Optional;
+
+import de.wps.radvis.backend.common.domain.JobDescription;
+import de.wps.radvis.backend.common.domain.JobExecutionDescriptionRepository;
+import de.wps.radvis.backend.common.domain.JobExecutionDurationEstimate;
+import de.wps.radvis.backend.common.domain.entity.AbstractJob;
+import de.wps.radvis.backend.common.domain.entity.JobStatistik;
+import de.wps.radvis.backend.dokument.domain.entity.DokumentDateiablageBereinigungStatistik;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class DokumentDateiablageBereinigungJob extends AbstractJob {
+	private final DokumentService dokumentService;
+
+	public DokumentDateiablageBereinigungJob(JobExecutionDescriptionRepository repository,
+		DokumentService dokumentService) {
+		super(repository);
+		this.dokumentService = dokumentService;
+	}
+
+	@Override
+	protected Optional<JobStatistik> doRun() {
+		DokumentDateiablageBereinigungStatistik statistik = new DokumentDateiablageBereinigungStatistik();
+		dokumentService.entferneNichtReferenzierteDateiinhalte(statistik);
+		log.info(statistik.toString());
+		return Optional.of(statistik);
+	}
+
+	@Override
+	public JobDescription getDescription() {
+		return new JobDescription(
+			"Löscht Inhalte aus der Dateiablage, auf die kein Dokument mehr verweist, z.B. nach dem Löschen von Dateianhängen.",
+			"Inhalte ohne Dokument, die vor mehr als einem Tag abgelegt wurden, sind gelöscht.",
+			"Keine.",
+			JobExecutionDurationEstimate.MEDIUM
+		);
+	}
+}
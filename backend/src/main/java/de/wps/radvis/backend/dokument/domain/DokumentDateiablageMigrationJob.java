@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.dokument.domain;
+
+import java.util.Optional;
+
+import de.wps.radvis.backend.common.domain.JobDescription;
+import de.wps.radvis.backend.common.domain.JobExecutionDescriptionRepository;
+import de.wps.radvis.backend.common.domain.JobExecutionDurationEstimate;
+import de.wps.radvis.backend.common.domain.entity.AbstractJob;
+import de.wps.radvis.backend.common.domain.entity.JobStatistik;
+import de.wps.radvis.backend.dokument.domain.entity.DokumentDateiablageMigrationStatistik;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class DokumentDateiablageMigrationJob extends AbstractJob {
+	private final DokumentService dokumentService;
+
+	public DokumentDateiablageMigrationJob(JobExecutionDescriptionRepository repository,
+		DokumentService dokumentService) {
+		super(repository);
+		this.dokumentService = dokumentService;
+	}
+
+	@Override
+	protected Optional<JobStatistik> doRun() {
+		DokumentDateiablageMigrationStatistik statistik = new DokumentDateiablageMigrationStatistik();
+		dokumentService.uebertrageDateiinhalteAusDatenbank(statistik);
+		log.info(statistik.toString());
+		return Optional.of(statistik);
+	}
+
+	@Override
+	public JobDescription getDescription() {
+		return new JobDescription(
+			"Kopiert die Inhalte von Dokumenten, die vor Einführung der Dateiablage hochgeladen wurden, aus der Datenbank in die Dateiablage.",
+			"Die Dokumente verweisen auf ihren geprüften Inhalt in der Dateiablage. Die Inhalte in der Datenbank bleiben erhalten, bis eine geprüfte Sicherung der Dateiablage existiert.",
+			"Die Dateiablage (radvis.dokument.dateiablageVerzeichnis) ist eingerichtet und beschreibbar.",
+			JobExecutionDurationEstimate.UNKNOWN
+		);
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.dokument.domain;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.valid4j.Assertive.require;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import de.wps.radvis.backend.benutzer.domain.entity.Benutzer;
+import de.wps.radvis.backend.dokument.domain.entity.Dokument;
+import de.wps.radvis.backend.dokument.domain.entity.DokumentDateiablageBereinigungStatistik;
+import de.wps.radvis.backend.dokument.domain.entity.DokumentDateiablageMigrationStatistik;
+import de.wps.radvis.backend.dokument.domain.valueObject.AbgelegteDatei;
+import de.wps.radvis.backend.dokument.domain.valueObject.DateiHash;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class DokumentService {
+
+	private static final int MIGRATION_BATCH_GROESSE = 100;
+
+	// Inhalte werden abgelegt, bevor das Dokument gespeichert ist, das auf sie verweist. Jüngere Inhalte werden daher
+	// nicht gelöscht, auch wenn (noch) kein Dokument auf sie verweist.
+	private static final Duration KARENZZEIT_BEREINIGUNG = Duration.ofDays(1);
+
+	private final DokumentDateiRepository dokumentDateiRepository;
+	private final EntityManager entityManager;
+
+	public DokumentService(DokumentDateiRepository dokumentDateiRepository, EntityManager entityManager) {
+		require(dokumentDateiRepository, notNullValue());
+		require(entityManager, notNullValue());
+		this.dokumentDateiRepository = dokumentDateiRepository;
+		this.entityManager = entityManager;
+	}
+
+	/**
+	 * Legt den Inhalt in der Dateiablage ab und erstellt ein Dokument, das darauf verweist. Der Stream wird nicht
+	 * geschlossen.
+	 */
+	public Dokument erstelleDokument(String dateiname, Benutzer benutzer, InputStream inhalt, LocalDateTime datum)
+		throws IOException {
+		AbgelegteDatei abgelegteDatei = dokumentDateiRepository.speichere(inhalt);
+		return new Dokument(dateiname, benutzer, abgelegteDatei.getHash(), abgelegteDatei.getGroesseInBytes(),
+			datum);
+	}
+
+	/**
+	 * Dokumente, die vor Einführung der Dateiablage hochgeladen und noch nicht durch den
+	 * DokumentDateiablageMigrationJob übertragen wurden, werden unverändert aus der Spalte dokument.datei gelesen.
+	 */
+	public Resource getDateiinhalt(Dokument dokument) {
+		require(dokument, notNullValue());
+
+		if (dokument.getDateiHash() == null) {
+			return new ByteArrayResource(ladeDateiinhaltAusDatenbank(dokument.getId()));
+		}
+		return dokumentDateiRepository.lade(dokument.getDateiHash());
+	}
+
+	/**
+	 * Kopiert die Inhalte der Dokumente, die vor Einführung der Dateiablage hochgeladen wurden, aus der Spalte
+	 * dokument.datei in die Dateiablage. Der Hash wird erst gesetzt, nachdem der abgelegte Inhalt erneut gelesen und
+	 * geprüft wurde. Die Spalte dokument.datei wird dabei nicht verändert: Die Inhalte dürfen erst entfernt werden,
+	 * wenn eine geprüfte Sicherung der Dateiablage existiert.
+	 */
+	public void uebertrageDateiinhalteAusDatenbank(DokumentDateiablageMigrationStatistik statistik) {
+		long letzteId = 0;
+		List<Long> dokumentIds;
+		do {
+			dokumentIds = findeDokumentIdsOhneDateiablage(letzteId);
+			for (Long dokumentId : dokumentIds) {
+				if (uebertrageDateiinhaltAusDatenbank(dokumentId)) {
+					statistik.anzahlUebertragen++;
+				} else {
+					statistik.anzahlFehlgeschlagen++;
+				}
+				letzteId = dokumentId;
+			}
+			log.info("Inhalte von {} Dokumenten übertragen, {} fehlgeschlagen", statistik.anzahlUebertragen,
+				statistik.anzahlFehlgeschlagen);
+		} while (dokumentIds.size() == MIGRATION_BATCH_GROESSE);
+	}
+
+	/**
+	 * Löscht die Inhalte in der Dateiablage, auf die kein Dokument mehr verweist.
+	 */
+	public void entferneNichtReferenzierteDateiinhalte(DokumentDateiablageBereinigungStatistik statistik) {
+		Instant grenze = Instant.now().minus(KARENZZEIT_BEREINIGUNG);
+		List<DateiHash> kandidaten;
+		try {
+			kandidaten = dokumentDateiRepository.findeAbgelegtVor(grenze);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Die Dateiablage der Dokumente konnte nicht gelesen werden", e);
+		}
+		statistik.anzahlGepruefteDateien = kandidaten.size();
+
+		Set<DateiHash> referenziert = findeReferenzierteDateiHashes();
+		for (DateiHash hash : kandidaten) {
+			if (referenziert.contains(hash)) {
+				continue;
+			}
+			try {
+				if (dokumentDateiRepository.loescheWennAbgelegtVor(hash, grenze)) {
+					log.info("Nicht mehr referenzierten Inhalt {} aus der Dateiablage gelöscht", hash);
+					statistik.anzahlGeloeschteDateien++;
+				}
+			} catch (IOException e) {
+				log.error("Inhalt {} konnte nicht aus der Dateiablage gelöscht werden", hash, e);
+				statistik.anzahlFehlgeschlagen++;
+			}
+		}
+	}
+
+	private boolean uebertrageDateiinhaltAusDatenbank(long dokumentId) {
+		byte[] inhalt = ladeDateiinhaltAusDatenbank(dokumentId);
+		try {
+			AbgelegteDatei abgelegteDatei = dokumentDateiRepository.speichere(new ByteArrayInputStream(inhalt));
+			if (abgelegteDatei.getGroesseInBytes() != inhalt.length
+				|| !dokumentDateiRepository.istUnversehrtAbgelegt(abgelegteDatei.getHash())) {
+				log.error("Der abgelegte Inhalt des Dokuments {} weicht von der Datenbank ab", dokumentId);
+				return false;
+			}
+			entityManager
+				.createNativeQuery("UPDATE dokument SET datei_hash = :hash WHERE id = :id")
+				.setParameter("hash", abgelegteDatei.getHash().getValue())
+				.setParameter("id", dokumentId)
+				.executeUpdate();
+			return true;
+		} catch (IOException e) {
+			log.error("Der Inhalt des Dokuments {} konnte nicht in die Dateiablage übertragen werden", dokumentId, e);
+			return false;
+		}
+	}
+
+	private byte[] ladeDateiinhaltAusDatenbank(long dokumentId) {
+		return (byte[]) entityManager
+			.createNativeQuery("SELECT datei FROM dokument WHERE id = :id")
+			.setParameter("id", dokumentId)
+			.getSingleResult();
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Long> findeDokumentIdsOhneDateiablage(long abId) {
+		List<Number> ids = entityManager
+			.createNativeQuery("SELECT id FROM dokument WHERE datei_hash IS NULL AND datei IS NOT NULL AND id > :abId "
+				+ "ORDER BY id LIMIT :limit")
+			.setParameter("abId", abId)
+			.setParameter("limit", MIGRATION_BATCH_GROESSE)
+			.getResultList();
+		return ids.stream().map(Number::longValue).toList();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Set<DateiHash> findeReferenzierteDateiHashes() {
+		List<String> hashes = entityManager
+			.createNativeQuery("SELECT DISTINCT datei_hash FROM dokument WHERE datei_hash IS NOT NULL")
+			.getResultList();
+		return hashes.stream().map(DateiHash::of).collect(Collectors.toSet());
+	}
+}
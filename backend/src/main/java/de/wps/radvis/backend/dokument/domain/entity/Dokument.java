@@ -21,9 +21,8 @@ import java.time.LocalDateTime;
 
 import de.wps.radvis.backend.benutzer.domain.entity.Benutzer;
 import de.wps.radvis.backend.common.domain.entity.AbstractEntity;
-import jakarta.persistence.Basic;
+import de.wps.radvis.backend.dokument.domain.valueObject.DateiHash;
 import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
 import jakarta.persistence.ManyToOne;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -46,30 +45,36 @@ public class Dokument extends AbstractEntity {
 
 	LocalDateTime datum;
 
-	@Basic(fetch = FetchType.LAZY)
-	private byte[] datei;
+	/**
+	 * Verweist auf den Inhalt in der Dateiablage. Nur bei Dokumenten, deren Inhalt noch nicht durch den
+	 * DokumentDateiablageMigrationJob aus der Datenbank übertragen wurde, ist der Hash null.
+	 */
+	private DateiHash dateiHash;
 
 	@Builder()
-	public Dokument(Long id, String dateiname, Benutzer benutzer, byte[] datei, LocalDateTime datum) {
+	public Dokument(Long id, String dateiname, Benutzer benutzer, DateiHash dateiHash, long dateigroesseInBytes,
+		LocalDateTime datum) {
 		super(id);
 		require(dateiname, notNullValue());
 		require(isDateinameValid(dateiname));
 		require(benutzer, notNullValue());
-		require(datei, notNullValue());
-		require(isValid(datei));
+		require(dateiHash, notNullValue());
+		require(isValid(dateigroesseInBytes));
 		require(datum, notNullValue());
 		this.dateiname = dateiname;
 		this.benutzer = benutzer;
-		this.datei = datei;
-		this.dateigroesseInBytes = datei.length;
+		this.dateiHash = dateiHash;
+		this.dateigroesseInBytes = (int) dateigroesseInBytes;
 		this.datum = datum;
 	}
 
-	public Dokument(String dateiname, Benutzer benutzer, byte[] datei, LocalDateTime datum) {
+	public Dokument(String dateiname, Benutzer benutzer, DateiHash dateiHash, long dateigroesseInBytes,
+		LocalDateTime datum) {
 		this(null,
 			dateiname,
 			benutzer,
-			datei,
+			dateiHash,
+			dateigroesseInBytes,
 			datum);
 	}
 
@@ -77,8 +82,8 @@ public class Dokument extends AbstractEntity {
 		return value.length() <= DATEINAME_MAX_LENGTH;
 	}
 
-	public static boolean isValid(byte[] fileContent) {
+	public static boolean isValid(long dateigroesseInBytes) {
 		// Wir arbeiten in MiB, damit es zum FE passt
-		return fileContent.length <= 100 * 1024 * 1024;
+		return dateigroesseInBytes <= 100 * 1024 * 1024;
 	}
 }
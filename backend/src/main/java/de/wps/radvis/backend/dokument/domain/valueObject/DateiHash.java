@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.dokument.domain.valueObject;
+
+import static org.valid4j.Assertive.require;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * SHA-256-Hash (hexadezimal, Kleinbuchstaben) des Inhalts eines Dokuments. Adressiert den Inhalt in der
+ * Dateiablage, identische Inhalte haben denselben Hash.
+ */
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class DateiHash {
+	private static final String VALID_DATEI_HASH_REGEX = "^[0-9a-f]{64}$";
+
+	@Getter
+	@NonNull
+	private final String value;
+
+	public static DateiHash of(String value) {
+		require(isValid(value), "Kein gültiger SHA-256-Hash: " + value);
+		return new DateiHash(value);
+	}
+
+	public static boolean isValid(String value) {
+		return value != null && value.matches(VALID_DATEI_HASH_REGEX);
+	}
+
+	@Override
+	public String toString() {
+		return value;
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.dokument.schnittstelle.repositoryImpl;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.valid4j.Assertive.require;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import de.wps.radvis.backend.dokument.domain.DokumentDateiRepository;
+import de.wps.radvis.backend.dokument.domain.valueObject.AbgelegteDatei;
+import de.wps.radvis.backend.dokument.domain.valueObject.DateiHash;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Legt die Dateiinhalte im lokalen Dateisystem unter {@code <ablageVerzeichnis>/<ersteZweiZeichenDesHashs>/<hash>}
+ * ab.
+ */
+@Slf4j
+public class DokumentDateiRepositoryImpl implements DokumentDateiRepository {
+
+	private final Path ablageVerzeichnis;
+
+	public DokumentDateiRepositoryImpl(Path ablageVerzeichnis) {
+		require(ablageVerzeichnis, notNullValue());
+		this.ablageVerzeichnis = ablageVerzeichnis;
+	}
+
+	@Override
+	public AbgelegteDatei speichere(InputStream inhalt) throws IOException {
+		require(inhalt, notNullValue());
+
+		Files.createDirectories(ablageVerzeichnis);
+		// Erst in eine temporäre Datei im selben Verzeichnis schreiben, da der Hash und damit der Zielpfad erst nach
+		// dem vollständigen Lesen bekannt ist. Das Verschieben innerhalb des Dateisystems ist dann atomar.
+		Path temporaereDatei = Files.createTempFile(ablageVerzeichnis, "upload-", ".tmp");
+		try {
+			MessageDigest messageDigest = createMessageDigest();
+			long groesseInBytes = Files.copy(new DigestInputStream(inhalt, messageDigest), temporaereDatei,
+				StandardCopyOption.REPLACE_EXISTING);
+			DateiHash hash = DateiHash.of(HexFormat.of().formatHex(messageDigest.digest()));
+
+			Path ziel = getPfad(hash);
+			if (Files.exists(ziel)) {
+				log.debug("Inhalt mit Hash {} ist bereits abgelegt", hash);
+				// Der Zeitpunkt der letzten Ablage schützt den Inhalt vor dem Löschen durch die Bereinigung, solange
+				// das neue Dokument noch nicht gespeichert ist.
+				Files.setLastModifiedTime(ziel, FileTime.from(Instant.now()));
+			} else {
+				Files.createDirectories(ziel.getParent());
+				try {
+					Files.move(temporaereDatei, ziel, StandardCopyOption.ATOMIC_MOVE);
+				} catch (FileAlreadyExistsException e) {
+					// Derselbe Inhalt wurde zeitgleich abgelegt
+					log.debug("Inhalt mit Hash {} wurde zeitgleich abgelegt", hash);
+				}
+			}
+			return new AbgelegteDatei(hash, groesseInBytes);
+		} finally {
+			Files.deleteIfExists(temporaereDatei);
+		}
+	}
+
+	@Override
+	public Resource lade(DateiHash hash) {
+		require(hash, notNullValue());
+
+		Path pfad = getPfad(hash);
+		if (!Files.isRegularFile(pfad)) {
+			throw new RuntimeException("Der Dateiinhalt mit Hash " + hash + " ist nicht in der Dateiablage vorhanden");
+		}
+		return new FileSystemResource(pfad);
+	}
+
+	@Override
+	public boolean istUnversehrtAbgelegt(DateiHash hash) throws IOException {
+		require(hash, notNullValue());
+
+		Path pfad = getPfad(hash);
+		if (!Files.isRegularFile(pfad)) {
+			return false;
+		}
+		MessageDigest messageDigest = createMessageDigest();
+		try (InputStream inhalt = new DigestInputStream(Files.newInputStream(pfad), messageDigest)) {
+			inhalt.transferTo(OutputStream.nullOutputStream());
+		}
+		return HexFormat.of().formatHex(messageDigest.digest()).equals(hash.getValue());
+	}
+
+	@Override
+	public List<DateiHash> findeAbgelegtVor(Instant zeitpunkt) throws IOException {
+		require(zeitpunkt, notNullValue());
+
+		if (!Files.isDirectory(ablageVerzeichnis)) {
+			return List.of();
+		}
+		try (Stream<Path> pfade = Files.walk(ablageVerzeichnis, 2)) {
+			return pfade
+				.filter(pfad -> DateiHash.isValid(pfad.getFileName().toString()))
+				.filter(pfad -> pfad.equals(getPfad(DateiHash.of(pfad.getFileName().toString()))))
+				.filter(pfad -> istAbgelegtVor(pfad, zeitpunkt))
+				.map(pfad -> DateiHash.of(pfad.getFileName().toString()))
+				.toList();
+		}
+	}
+
+	@Override
+	public boolean loescheWennAbgelegtVor(DateiHash hash, Instant zeitpunkt) throws IOException {
+		require(hash, notNullValue());
+		require(zeitpunkt, notNullValue());
+
+		Path pfad = getPfad(hash);
+		if (!istAbgelegtVor(pfad, zeitpunkt)) {
+			return false;
+		}
+		return Files.deleteIfExists(pfad);
+	}
+
+	private static boolean istAbgelegtVor(Path pfad, Instant zeitpunkt) {
+		try {
+			return Files.isRegularFile(pfad) && Files.getLastModifiedTime(pfad).toInstant().isBefore(zeitpunkt);
+		} catch (IOException e) {
+			log.warn("Zeitpunkt der Ablage von {} konnte nicht gelesen werden", pfad, e);
+			return false;
+		}
+	}
+
+	private Path getPfad(DateiHash hash) {
+		return ablageVerzeichnis.resolve(hash.getValue().substring(0, 2)).resolve(hash.getValue());
+	}
+
+	private static MessageDigest createMessageDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException("SHA-256 wird von der Laufzeitumgebung nicht unterstützt", e);
+		}
+	}
+}
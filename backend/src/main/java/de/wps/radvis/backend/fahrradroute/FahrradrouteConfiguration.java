@@ -71,6 +71,8 @@ import de.wps.radvis.backend.netz.domain.service.NetzService;
 import de.wps.radvis.backend.netz.domain.service.SackgassenService;
 import de.wps.radvis.backend.netz.domain.service.ZustaendigkeitsService;
 import de.wps.radvis.backend.organisation.domain.VerwaltungseinheitService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.NonNull;
 
 @Configuration
@@ -96,6 +98,9 @@ public class FahrradrouteConfiguration {
 	@Autowired
 	private ShapeFileRepository shapeFileRepository;
 
+	@PersistenceContext
+	private EntityManager entityManager;
+
 	@NonNull
 	private BenutzerResolver benutzerResolver;
 
@@ -171,7 +176,10 @@ public class FahrradrouteConfiguration {
 		return new FahrradrouteService(fahrradrouteRepository, fahrradrouteViewRepository,
 			org.springframework.data.util.Lazy.of(() -> graphhopperRoutingRepository),
 			fahrradrouteNetzBezugAenderungRepository, jobExecutionDescriptionRepository, benutzerService,
-			sackgassenService, commonConfigurationProperties.getErlaubteAbweichungFuerKantenNetzbezugRematch());
+			sackgassenService, commonConfigurationProperties.getErlaubteAbweichungFuerKantenNetzbezugRematch(),
+			fahrradrouteConfigurationProperties.getAnzahlParallelerRoutings(),
+			fahrradrouteConfigurationProperties.getMaximaleAnzahlGemerkterRoutingErgebnisse(),
+			fahrradrouteConfigurationProperties.getSpeichernBatchGroesse());
 	}
 
 	@Bean
@@ -190,7 +198,7 @@ public class FahrradrouteConfiguration {
 	@Bean
 	public FahrradroutenToubizImportJob fahrradroutenToubizImportJob() {
 		return new FahrradroutenToubizImportJob(jobExecutionDescriptionRepository, toubizRepository(),
-			verwaltungseinheitService, fahrradrouteRepository, fahrradroutenMatchingService(),
+			verwaltungseinheitService, fahrradrouteRepository, fahrradroutenMatchingService(), fahrradrouteService(),
 			Duration.ofSeconds(fahrradrouteConfigurationProperties.getTimeoutToubizImportMatchingInSeconds()),
 			fahrradrouteConfigurationProperties.getToubizIgnoreList());
 	}
@@ -302,7 +310,7 @@ public class FahrradrouteConfiguration {
 
 	@Bean
 	public FahrradroutenExporterService fahrradroutenExporterService() {
-		return new FahrradroutenExporterService(fahrradrouteViewRepository);
+		return new FahrradroutenExporterService(fahrradrouteViewRepository, entityManager);
 	}
 
 	@Bean
@@ -32,14 +32,29 @@ public class FahrradrouteConfigurationProperties {
 	private final int maximaleAnzahlKoordinatenFuerImportDiff;
 	private final int timeoutToubizImportMatchingInSeconds;
 	private final List<String> toubizIgnoreList;
+	private final int anzahlParallelerRoutings;
+	private final int maximaleAnzahlGemerkterRoutingErgebnisse;
+	private final int speichernBatchGroesse;
 
 	@ConstructorBinding
 	public FahrradrouteConfigurationProperties(Integer maximaleAnzahlKoordinatenFuerImportDiff,
-		Integer timeoutToubizImportMatchingInSeconds, List<String> toubizIgnoreList) {
+		Integer timeoutToubizImportMatchingInSeconds, List<String> toubizIgnoreList,
+		Integer anzahlParallelerRoutings, Integer maximaleAnzahlGemerkterRoutingErgebnisse,
+		Integer speichernBatchGroesse) {
 		require(maximaleAnzahlKoordinatenFuerImportDiff, notNullValue());
 		require(timeoutToubizImportMatchingInSeconds, notNullValue());
+		require(anzahlParallelerRoutings, notNullValue());
+		require(anzahlParallelerRoutings >= 1, "Anzahl paralleler Routings muss größer 0 sein");
+		require(maximaleAnzahlGemerkterRoutingErgebnisse, notNullValue());
+		require(maximaleAnzahlGemerkterRoutingErgebnisse >= 1,
+			"Maximale Anzahl gemerkter Routing-Ergebnisse muss größer 0 sein");
+		require(speichernBatchGroesse, notNullValue());
+		require(speichernBatchGroesse >= 1, "Batch-Größe beim Speichern muss größer 0 sein");
 		this.maximaleAnzahlKoordinatenFuerImportDiff = maximaleAnzahlKoordinatenFuerImportDiff;
 		this.timeoutToubizImportMatchingInSeconds = timeoutToubizImportMatchingInSeconds;
 		this.toubizIgnoreList = Optional.ofNullable(toubizIgnoreList).orElse(new ArrayList<String>());
+		this.anzahlParallelerRoutings = anzahlParallelerRoutings;
+		this.maximaleAnzahlGemerkterRoutingErgebnisse = maximaleAnzahlGemerkterRoutingErgebnisse;
+		this.speichernBatchGroesse = speichernBatchGroesse;
 	}
 }
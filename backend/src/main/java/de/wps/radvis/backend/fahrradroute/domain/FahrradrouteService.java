@@ -14,16 +14,35 @@
 
 package de.wps.radvis.backend.fahrradroute.domain;
 
+import static org.valid4j.Assertive.require;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.hibernate.spatial.jts.EnvelopeAdapter;
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.LineString;
@@ -47,6 +66,7 @@ import de.wps.radvis.backend.fahrradroute.domain.dbView.FahrradrouteListenDbOhne
 import de.wps.radvis.backend.fahrradroute.domain.dbView.FahrradrouteListenDbView;
 import de.wps.radvis.backend.fahrradroute.domain.entity.Fahrradroute;
 import de.wps.radvis.backend.fahrradroute.domain.entity.FahrradrouteNetzBezugAenderung;
+import de.wps.radvis.backend.fahrradroute.domain.entity.FahrradrouteVariante;
 import de.wps.radvis.backend.fahrradroute.domain.entity.ProfilInformationenUpdateStatistik;
 import de.wps.radvis.backend.fahrradroute.domain.entity.TfisImportProblem;
 import de.wps.radvis.backend.fahrradroute.domain.entity.UpdateAbgeleiteteRoutenInfoStatistik;
@@ -56,7 +76,9 @@ import de.wps.radvis.backend.fahrradroute.domain.repository.FahrradrouteNetzBezu
 import de.wps.radvis.backend.fahrradroute.domain.repository.FahrradrouteRepository;
 import de.wps.radvis.backend.fahrradroute.domain.repository.FahrradrouteViewRepository;
 import de.wps.radvis.backend.fahrradroute.domain.valueObject.FahrradrouteTyp;
+import de.wps.radvis.backend.fahrradroute.domain.valueObject.Hoehenunterschied;
 import de.wps.radvis.backend.matching.domain.event.CustomRoutingProfilesDeletedEvent;
+import de.wps.radvis.backend.matching.domain.event.GraphhopperAktualisiertEvent;
 import de.wps.radvis.backend.matching.domain.exception.KeineRouteGefundenException;
 import de.wps.radvis.backend.matching.domain.repository.GraphhopperRoutingRepository;
 import de.wps.radvis.backend.matching.domain.valueObject.ProfilRoutingResult;
@@ -82,14 +104,26 @@ public class FahrradrouteService extends AbstractVersionierteEntityService<Fahrr
 	private final BenutzerService benutzerService;
 	private SackgassenService sackgassenService;
 	private final double erlaubteAbweichungKantenRematch;
+	private final int anzahlParallelerRoutings;
+	private final int speichernBatchGroesse;
+
+	// Zuletzt genutzte erfolgreiche Routing-Ergebnisse nach Hash der Eingabe, damit unveränderte Geometrien nicht
+	// erneut geroutet werden, z.B. beim Zusammenführen einer importierten mit der bestehenden Fahrradroute
+	private final Map<String, RoutingErgebnis> routingErgebnisseNachHash;
+
+	private final ThreadLocal<Set<Fahrradroute>> gesammelteFahrradrouten = new ThreadLocal<>();
 
 	public FahrradrouteService(FahrradrouteRepository fahrradrouteRepository,
 		FahrradrouteViewRepository fahrradrouteViewRepository,
 		Lazy<GraphhopperRoutingRepository> graphhopperRoutingRepositorySupplier,
 		FahrradrouteNetzBezugAenderungRepository netzBezugAenderungRepository,
 		JobExecutionDescriptionRepository jobExecutionDescriptionRepository, BenutzerService benutzerService,
-		SackgassenService sackgassenService, double erlaubteAbweichungKantenRematch) {
+		SackgassenService sackgassenService, double erlaubteAbweichungKantenRematch, int anzahlParallelerRoutings,
+		int maximaleAnzahlGemerkterRoutingErgebnisse, int speichernBatchGroesse) {
 		super(fahrradrouteRepository);
+		require(maximaleAnzahlGemerkterRoutingErgebnisse >= 1,
+			"Maximale Anzahl gemerkter Routing-Ergebnisse muss größer 0 sein");
+		require(speichernBatchGroesse >= 1, "Batch-Größe beim Speichern muss größer 0 sein");
 		this.fahrradrouteRepository = fahrradrouteRepository;
 		this.fahrradrouteViewRepository = fahrradrouteViewRepository;
 		this.graphhopperRoutingRepositorySupplier = graphhopperRoutingRepositorySupplier;
@@ -98,6 +132,14 @@ public class FahrradrouteService extends AbstractVersionierteEntityService<Fahrr
 		this.benutzerService = benutzerService;
 		this.sackgassenService = sackgassenService;
 		this.erlaubteAbweichungKantenRematch = erlaubteAbweichungKantenRematch;
+		this.anzahlParallelerRoutings = anzahlParallelerRoutings;
+		this.speichernBatchGroesse = speichernBatchGroesse;
+		this.routingErgebnisseNachHash = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, RoutingErgebnis> eldest) {
+				return size() > maximaleAnzahlGemerkterRoutingErgebnisse;
+			}
+		});
 	}
 
 	public List<FahrradrouteListenDbView> getAlleFahrradrouteListenViews() {
@@ -195,59 +237,207 @@ public class FahrradrouteService extends AbstractVersionierteEntityService<Fahrr
 
 	@EventListener
 	public void onFahrradrouteCreated(FahrradrouteCreatedEvent event) {
-		addAbgeleiteteRoutenInformation(event.getFahrradroute());
+		if (!merkeFuerGesammelteBerechnung(event.getFahrradroute())) {
+			addAbgeleiteteRoutenInformation(event.getFahrradroute());
+		}
 	}
 
 	@EventListener
 	public void onFahrradrouteUpdated(FahrradrouteUpdatedEvent event) {
-		addAbgeleiteteRoutenInformation(event.getFahrradroute());
-		fahrradrouteRepository.save(event.getFahrradroute());
+		if (!merkeFuerGesammelteBerechnung(event.getFahrradroute())) {
+			addAbgeleiteteRoutenInformation(event.getFahrradroute());
+			fahrradrouteRepository.save(event.getFahrradroute());
+		}
 	}
 
 	@EventListener
 	public void onCustomRoutingProfilesDeleted(CustomRoutingProfilesDeletedEvent event) {
 		fahrradrouteRepository.setCustomRoutingProfileIdToDefaultWhereCustomRoutingProfileIdIn(
 			event.getCustomProfilIds());
+		// Profile werden nur gesammelt ersetzt, das Event kommt also auch bei geänderten Profilen
+		routingErgebnisseNachHash.clear();
+	}
+
+	@EventListener
+	public void onGraphhopperAktualisiert(GraphhopperAktualisiertEvent event) {
+		// Mit dem neuen Graphen können sich Routen und damit An- und Abstieg geändert haben
+		routingErgebnisseNachHash.clear();
+	}
+
+	/**
+	 * Bis zum Aufruf von {@link #aktualisiereGesammelteAbgeleiteteRoutenInformationen()} werden die abgeleiteten
+	 * Routeninformationen erstellter und geänderter Fahrradrouten in diesem Thread nicht sofort ermittelt, sondern
+	 * gesammelt und danach gebündelt berechnet. Gedacht für Importe, die viele Fahrradrouten anlegen.
+	 */
+	public void sammleAbgeleiteteRoutenInformationen() {
+		gesammelteFahrradrouten.set(Collections.newSetFromMap(new IdentityHashMap<>()));
+	}
+
+	/**
+	 * Berechnet die abgeleiteten Routeninformationen aller seit
+	 * {@link #sammleAbgeleiteteRoutenInformationen()} erstellten oder geänderten Fahrradrouten und beendet das
+	 * Sammeln. Nicht gespeicherte Fahrradrouten (z.B. in bestehende Routen übernommene Importdaten) werden
+	 * übersprungen.
+	 *
+	 * @return Anzahl der Fahrradrouten, für die An- und Abstieg ermittelt werden konnten
+	 */
+	public int aktualisiereGesammelteAbgeleiteteRoutenInformationen() {
+		Set<Fahrradroute> fahrradrouten = gesammelteFahrradrouten.get();
+		require(fahrradrouten != null, "Es werden keine Fahrradrouten gesammelt");
+		gesammelteFahrradrouten.remove();
+
+		return aktualisiereAbgeleiteteRoutenInformationen(fahrradrouten.stream()
+			.filter(fahrradroute -> fahrradroute.getId() != null)
+			.collect(Collectors.toList()));
+	}
+
+	/**
+	 * Beendet das Sammeln, ohne die gesammelten Fahrradrouten zu berechnen. Kann nach
+	 * {@link #aktualisiereGesammelteAbgeleiteteRoutenInformationen()} gefahrlos erneut aufgerufen werden.
+	 */
+	public void verwerfeGesammelteAbgeleiteteRoutenInformationen() {
+		gesammelteFahrradrouten.remove();
+	}
+
+	private boolean merkeFuerGesammelteBerechnung(Fahrradroute fahrradroute) {
+		Set<Fahrradroute> fahrradrouten = gesammelteFahrradrouten.get();
+		if (fahrradrouten == null) {
+			return false;
+		}
+		fahrradrouten.add(fahrradroute);
+		return true;
 	}
 
 	public void updateAbgeleiteteRoutenInformationVonRadvisUndTfis(
 		UpdateAbgeleiteteRoutenInfoStatistik updateAbgeleiteteRoutenInfoStatistik) {
 		// Toubiz-Routen muessen hier nicht geupdated werden, da sie in einem anderen Job naechtlich neu
 		// importiert werden und dabei auch die AbgeleitetenRoutenInfos neu erzeugt werden
-		Stream<Fahrradroute> alleNichtToubizFahrradrouten = fahrradrouteRepository.findAllByFahrradrouteTypNot(
-			FahrradrouteTyp.TOUBIZ_ROUTE);
+		List<Fahrradroute> alleNichtToubizFahrradrouten = fahrradrouteRepository.findAllByFahrradrouteTypNot(
+			FahrradrouteTyp.TOUBIZ_ROUTE).collect(Collectors.toList());
+		updateAbgeleiteteRoutenInfoStatistik.anzahlGeladeneRouten = alleNichtToubizFahrradrouten.size();
+
+		// Der Job wird nach Änderungen an den Höhendaten ausgeführt, bisherige Ergebnisse gelten dann nicht mehr
+		routingErgebnisseNachHash.clear();
+		updateAbgeleiteteRoutenInfoStatistik.anzahlRoutenErfolgreichAktualisiert =
+			aktualisiereAbgeleiteteRoutenInformationen(alleNichtToubizFahrradrouten);
+	}
 
-		fahrradrouteRepository.saveAll(alleNichtToubizFahrradrouten.peek(fahrradroute -> {
-			log.info("{} {} wird upgedated...", fahrradroute.getName(), fahrradroute.getId());
-			updateAbgeleiteteRoutenInfoStatistik.anzahlGeladeneRouten++;
-			if (addAbgeleiteteRoutenInformation(fahrradroute)) {
-				updateAbgeleiteteRoutenInfoStatistik.anzahlRoutenErfolgreichAktualisiert++;
-				log.info("... erfolgreich");
+	/**
+	 * Ermittelt An- und Abstieg der Fahrradrouten und ihrer Varianten und speichert die Fahrradrouten in Blöcken.
+	 * Die Routings laufen parallel auf höchstens {@code anzahlParallelerRoutings} Threads und greifen nicht auf die
+	 * Entitäten zu, die Ergebnisse werden erst danach im aufrufenden Thread übernommen. Geometrien, die mit demselben
+	 * Profil bereits geroutet wurden, werden anhand ihres Hashes erkannt und nicht erneut geroutet.
+	 *
+	 * @return Anzahl der Fahrradrouten, für die An- und Abstieg ermittelt werden konnten
+	 */
+	public int aktualisiereAbgeleiteteRoutenInformationen(Collection<Fahrradroute> fahrradrouten) {
+		Map<String, RoutingErgebnis> routingErgebnisse = berechneRoutingErgebnisse(fahrradrouten);
+
+		int anzahlErfolgreich = 0;
+		for (Fahrradroute fahrradroute : fahrradrouten) {
+			if (uebernehmeAbgeleiteteRoutenInformationen(fahrradroute, routingErgebnisse)) {
+				anzahlErfolgreich++;
 			}
-		}).collect(Collectors.toList()));
+		}
+
+		BatchedCollectionIterator.iterate(
+			new ArrayList<>(fahrradrouten),
+			speichernBatchGroesse,
+			(fahrradroutenBatch, startIndex, endIndex) -> {
+				log.debug("Speichere Fahrradrouten {} bis {}", startIndex, endIndex);
+				fahrradrouteRepository.saveAll(fahrradroutenBatch);
+			});
+
+		log.info("Abgeleitete Routeninformationen für {} von {} Fahrradrouten ermittelt", anzahlErfolgreich,
+			fahrradrouten.size());
+		return anzahlErfolgreich;
 	}
 
 	private boolean addAbgeleiteteRoutenInformation(Fahrradroute fahrradroute) {
+		return uebernehmeAbgeleiteteRoutenInformationen(fahrradroute,
+			berechneRoutingErgebnisse(List.of(fahrradroute)));
+	}
+
+	private Map<String, RoutingErgebnis> berechneRoutingErgebnisse(Collection<Fahrradroute> fahrradrouten) {
+		Map<String, RoutingErgebnis> routingErgebnisse = new HashMap<>();
+		Map<String, RoutingAuftrag> offeneAuftraege = new LinkedHashMap<>();
+		fahrradrouten.forEach(fahrradroute -> Stream.concat(
+			fahrradroute.getVarianten().stream().map(FahrradrouteVariante::getGeometrie),
+			Stream.of(fahrradroute.getNetzbezugLineString()))
+			.flatMap(Optional::stream)
+			.map(geometrie -> RoutingAuftrag.of(geometrie, fahrradroute))
+			.filter(auftrag -> !routingErgebnisse.containsKey(auftrag.hash()))
+			.forEach(auftrag -> {
+				RoutingErgebnis bekanntesErgebnis = routingErgebnisseNachHash.get(auftrag.hash());
+				if (bekanntesErgebnis != null) {
+					routingErgebnisse.put(auftrag.hash(), bekanntesErgebnis);
+				} else {
+					offeneAuftraege.putIfAbsent(auftrag.hash(), auftrag);
+				}
+			}));
+
+		if (!routingErgebnisse.isEmpty()) {
+			log.debug("{} Geometrien wurden unverändert bereits geroutet", routingErgebnisse.size());
+		}
+
+		List<RoutingAuftrag> auftraege = new ArrayList<>(offeneAuftraege.values());
+		List<RoutingErgebnis> ergebnisse = route(auftraege);
+		for (int i = 0; i < auftraege.size(); i++) {
+			routingErgebnisse.put(auftraege.get(i).hash(), ergebnisse.get(i));
+			// Fehlschläge werden nicht gemerkt, damit sie beim nächsten Mal erneut versucht werden
+			if (ergebnisse.get(i).fehler() == null) {
+				routingErgebnisseNachHash.put(auftraege.get(i).hash(), ergebnisse.get(i));
+			}
+		}
+		return routingErgebnisse;
+	}
+
+	private List<RoutingErgebnis> route(List<RoutingAuftrag> auftraege) {
+		if (anzahlParallelerRoutings <= 1 || auftraege.size() <= 1) {
+			return auftraege.stream().map(this::route).collect(Collectors.toList());
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(
+			Math.min(anzahlParallelerRoutings, auftraege.size()), workerThreadFactory());
+		try {
+			List<Future<RoutingErgebnis>> futures = new ArrayList<>(auftraege.size());
+			auftraege.forEach(auftrag -> futures.add(executor.submit(() -> route(auftrag))));
+
+			List<RoutingErgebnis> ergebnisse = new ArrayList<>(auftraege.size());
+			futures.forEach(future -> ergebnisse.add(warteAuf(future)));
+			return ergebnisse;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private RoutingErgebnis route(RoutingAuftrag auftrag) {
+		try {
+			RoutingResult routingResult = graphhopperRoutingRepositorySupplier.get()
+				.route(auftrag.koordinaten(), auftrag.customProfileId(), false);
+			return new RoutingErgebnis(routingResult.getAnstieg(), routingResult.getAbstieg(), null);
+		} catch (KeineRouteGefundenException e) {
+			return new RoutingErgebnis(null, null, e);
+		}
+	}
+
+	private boolean uebernehmeAbgeleiteteRoutenInformationen(Fahrradroute fahrradroute,
+		Map<String, RoutingErgebnis> routingErgebnisse) {
 		fahrradroute.getVarianten().forEach(fahrradrouteVariante -> {
 			if (fahrradrouteVariante.getGeometrie().isEmpty()) {
 				return; // Verhaelt sich im forEach-Loop wie sonst "continue"
 			}
-			try {
-				Long customProfileId = fahrradroute.getCustomProfileId()
-					.orElse(GraphhopperRoutingRepository.DEFAULT_PROFILE_ID);
-				RoutingResult routingResult = graphhopperRoutingRepositorySupplier.get()
-					.route(Arrays.asList(fahrradrouteVariante.getGeometrie().get().getCoordinates()),
-						customProfileId, false);
-				fahrradrouteVariante.updateAbgeleiteteRoutenInformationen(routingResult.getAnstieg(),
-					routingResult.getAbstieg());
-			} catch (KeineRouteGefundenException e) {
+			RoutingErgebnis routingErgebnis = routingErgebnisse.get(
+				RoutingAuftrag.of(fahrradrouteVariante.getGeometrie().get(), fahrradroute).hash());
+			if (routingErgebnis.fehler() != null) {
 				log.error("Konnte keine abgeleiteten Routeninformationen für FahrradrouteVariante {} ermitteln: {}",
 					fahrradrouteVariante.getId() != null ? fahrradrouteVariante.getId()
 						: fahrradroute.getName()
 							+ fahrradrouteVariante.getKategorie().toString(),
-					e.getMessage(), e);
-				fahrradrouteVariante.updateAbgeleiteteRoutenInformationen(null, null);
+					routingErgebnis.fehler().getMessage(), routingErgebnis.fehler());
 			}
+			fahrradrouteVariante.updateAbgeleiteteRoutenInformationen(routingErgebnis.anstieg(),
+				routingErgebnis.abstieg());
 		});
 
 		if (fahrradroute.getNetzbezugLineString().isEmpty()) {
@@ -257,25 +447,69 @@ public class FahrradrouteService extends AbstractVersionierteEntityService<Fahrr
 			fahrradroute.updateAbgeleiteteRoutenInformationen(null, null);
 			return false;
 		}
-		try {
-			Long customProfileId = fahrradroute.getCustomProfileId()
-				.orElse(GraphhopperRoutingRepository.DEFAULT_PROFILE_ID);
-			RoutingResult routingResult = graphhopperRoutingRepositorySupplier.get()
-				.route(Arrays.asList(fahrradroute.getNetzbezugLineString().get().getCoordinates()), customProfileId,
-					false);
-			fahrradroute.updateAbgeleiteteRoutenInformationen(routingResult.getAnstieg(),
-				routingResult.getAbstieg());
-			return true;
 
-		} catch (KeineRouteGefundenException e) {
+		RoutingErgebnis routingErgebnis = routingErgebnisse.get(
+			RoutingAuftrag.of(fahrradroute.getNetzbezugLineString().get(), fahrradroute).hash());
+		if (routingErgebnis.fehler() != null) {
 			log.error("Konnte keine abgeleiteten Routeninformationen für Fahrradroute {} ermitteln: {}",
 				fahrradroute.getId() != null ? fahrradroute.getId() : fahrradroute.getName(),
-				e.getMessage(), e);
-			fahrradroute.updateAbgeleiteteRoutenInformationen(null, null);
-			return false;
+				routingErgebnis.fehler().getMessage(), routingErgebnis.fehler());
+		}
+		fahrradroute.updateAbgeleiteteRoutenInformationen(routingErgebnis.anstieg(), routingErgebnis.abstieg());
+		return routingErgebnis.fehler() == null;
+	}
+
+	private static RoutingErgebnis warteAuf(Future<RoutingErgebnis> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Das Routing der Fahrradrouten wurde unterbrochen.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new RuntimeException(e.getCause());
 		}
 	}
 
+	private static ThreadFactory workerThreadFactory() {
+		AtomicInteger threadNummer = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "fahrradroute-routing-worker-" + threadNummer.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * Eingabe eines Routings. Der Hash über Profil und Koordinaten erkennt Geometrien, die bereits geroutet wurden.
+	 */
+	private record RoutingAuftrag(String hash, List<Coordinate> koordinaten, long customProfileId) {
+
+		static RoutingAuftrag of(Geometry geometrie, Fahrradroute fahrradroute) {
+			long customProfileId = fahrradroute.getCustomProfileId()
+				.orElse(GraphhopperRoutingRepository.DEFAULT_PROFILE_ID);
+			List<Coordinate> koordinaten = Arrays.asList(geometrie.getCoordinates());
+			return new RoutingAuftrag(berechneHash(koordinaten, customProfileId), koordinaten, customProfileId);
+		}
+
+		private static String berechneHash(List<Coordinate> koordinaten, long customProfileId) {
+			ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + koordinaten.size() * 2 * Double.BYTES);
+			buffer.putLong(customProfileId);
+			koordinaten.forEach(koordinate -> buffer.putDouble(koordinate.getX()).putDouble(koordinate.getY()));
+			try {
+				return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(buffer.array()));
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	private record RoutingErgebnis(Hoehenunterschied anstieg, Hoehenunterschied abstieg,
+		KeineRouteGefundenException fehler) {
+	}
+
 	public void updateProfilEigenschaftenVonRadvisUndTfisRouten(
 		ProfilInformationenUpdateStatistik profilInformationenUpdateStatistik) {
 		// Toubiz-Routen muessen hier nicht geupdated werden, da sie in einem anderen Job naechtlich neu
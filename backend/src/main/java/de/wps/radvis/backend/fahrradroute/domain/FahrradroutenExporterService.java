@@ -20,34 +20,50 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.locationtech.jts.geom.Geometry;
-import org.locationtech.jts.geom.GeometryFactory;
 
 import de.wps.radvis.backend.common.domain.service.ExporterService;
 import de.wps.radvis.backend.common.domain.valueObject.ExportData;
 import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
 import de.wps.radvis.backend.fahrradroute.domain.dbView.FahrradrouteListenDbView;
 import de.wps.radvis.backend.fahrradroute.domain.repository.FahrradrouteViewRepository;
+import jakarta.persistence.EntityManager;
 
 public class FahrradroutenExporterService implements ExporterService {
 
 	private FahrradrouteViewRepository fahrradrouteViewRepository;
+	private EntityManager entityManager;
 
-	public FahrradroutenExporterService(FahrradrouteViewRepository fahrradrouteViewRepository) {
+	public FahrradroutenExporterService(FahrradrouteViewRepository fahrradrouteViewRepository,
+		EntityManager entityManager) {
 		this.fahrradrouteViewRepository = fahrradrouteViewRepository;
+		this.entityManager = entityManager;
 	}
 
 	@Override
 	public List<ExportData> export(List<Long> ids) {
-		GeometryFactory geometryFactory = KoordinatenReferenzSystem.ETRS89_UTM32_N.getGeometryFactory();
 		return fahrradrouteViewRepository.findAllByIdIn(ids).stream()
-			.map(fahrradroute -> {
-				Geometry geometry = fahrradroute.getGeometry() != null ? fahrradroute.getGeometry()
-					: geometryFactory
-						.createMultiLineString();
-				return new ExportData(geometry, convertProperties(fahrradroute));
-			}).collect(Collectors.toList());
+			.map(this::toExportData)
+			.collect(Collectors.toList());
+	}
+
+	@Override
+	public Stream<ExportData> exportStream(List<Long> ids) {
+		// Jede Zeile wird nach dem Konvertieren aus dem Persistence-Context entfernt, sonst blieben alle gelesenen
+		// Views bis zum Ende der Transaktion im Speicher
+		return fahrradrouteViewRepository.streamAllByIdIn(ids).map(fahrradroute -> {
+			ExportData exportData = toExportData(fahrradroute);
+			entityManager.detach(fahrradroute);
+			return exportData;
+		});
+	}
+
+	private ExportData toExportData(FahrradrouteListenDbView fahrradroute) {
+		Geometry geometry = fahrradroute.getGeometry() != null ? fahrradroute.getGeometry()
+			: KoordinatenReferenzSystem.ETRS89_UTM32_N.getGeometryFactory().createMultiLineString();
+		return new ExportData(geometry, convertProperties(fahrradroute));
 	}
 
 	@Override
@@ -80,6 +80,7 @@ public class FahrradroutenToubizImportJob extends AbstractJob {
 
 	private final FahrradrouteRepository fahrradrouteRepository;
 	private final FahrradroutenMatchingService fahrradroutenMatchingService;
+	private final FahrradrouteService fahrradrouteService;
 
 	private Duration netzbezugTimeout;
 
@@ -89,8 +90,8 @@ public class FahrradroutenToubizImportJob extends AbstractJob {
 		JobExecutionDescriptionRepository jobExecutionDescriptionRepository,
 		ToubizRepository toubizRepository,
 		VerwaltungseinheitService verwaltungseinheitService, FahrradrouteRepository fahrradrouteRepository,
-		FahrradroutenMatchingService fahrradroutenMatchingService, Duration netzbezugTimeout,
-		List<String> toubizIgnoreList) {
+		FahrradroutenMatchingService fahrradroutenMatchingService, FahrradrouteService fahrradrouteService,
+		Duration netzbezugTimeout, List<String> toubizIgnoreList) {
 		super(jobExecutionDescriptionRepository);
 
 		require(toubizIgnoreList, notNullValue());
@@ -98,6 +99,7 @@ public class FahrradroutenToubizImportJob extends AbstractJob {
 		this.verwaltungseinheitService = verwaltungseinheitService;
 		this.fahrradrouteRepository = fahrradrouteRepository;
 		this.fahrradroutenMatchingService = fahrradroutenMatchingService;
+		this.fahrradrouteService = fahrradrouteService;
 		this.netzbezugTimeout = netzbezugTimeout;
 		this.toubizIgnoreList = toubizIgnoreList;
 	}
@@ -135,28 +137,15 @@ public class FahrradroutenToubizImportJob extends AbstractJob {
 		Set<ToubizId> bestehendeLandesradfernwegIds = fahrradrouteRepository.findAllToubizIdsOfLandesradfernwege();
 
 		AtomicInteger progressCount = new AtomicInteger();
-		importedToubizRouten.stream()
-			.filter(importedToubizRoute -> {
-				if (toubizIgnoreList.contains(importedToubizRoute.getToubizId().getToubizId())) {
-					toubizImportStatistik.beimImportIgnoriert.add(importedToubizRoute.getToubizId());
-					return false;
-				}
-				return true;
-			})
-			.filter(importedToubizRoute -> !importedToubizRoute.isLandesradfernweg() ||
-				bestehendeLandesradfernwegIds.contains(importedToubizRoute.getToubizId()))
-			.map(importedToubizRoute -> createFahrradroute(importedToubizRoute,
-				toubizImportStatistik))
-			.peek(fahrradroute -> this.logProgressInPercent(importedToubizRouten.size(), progressCount, 10))
-			.forEach(fahrradroute -> {
-				frischeIds.add(fahrradroute.getToubizId());
-				fahrradrouteRepository.save(
-					fahrradrouteRepository.findByToubizId(fahrradroute.getToubizId())
-						.map((route) -> route.getKategorie() == Kategorie.LANDESRADFERNWEG
-							? route.mergeNonRouteDependentAttribute(fahrradroute)
-							: route.merge(fahrradroute))
-						.orElse(fahrradroute));
-			});
+		// An- und Abstieg werden erst nach dem Import aller Routen gebündelt berechnet
+		fahrradrouteService.sammleAbgeleiteteRoutenInformationen();
+		try {
+			importiereRouten(importedToubizRouten, bestehendeLandesradfernwegIds, frischeIds, progressCount,
+				toubizImportStatistik);
+			fahrradrouteService.aktualisiereGesammelteAbgeleiteteRoutenInformationen();
+		} finally {
+			fahrradrouteService.verwerfeGesammelteAbgeleiteteRoutenInformationen();
+		}
 
 		// Alle entfernen, die in Toubiz nicht mehr existieren und kein Landesradfernweg sind
 		Set<ToubizId> toubizIdsToRemove = fahrradrouteRepository.findAllToubizIdsWithoutLandesradfernwege();
@@ -185,6 +174,33 @@ public class FahrradroutenToubizImportJob extends AbstractJob {
 		return Optional.of(toubizImportStatistik);
 	}
 
+	private void importiereRouten(List<ImportedToubizRoute> importedToubizRouten,
+		Set<ToubizId> bestehendeLandesradfernwegIds, Set<ToubizId> frischeIds, AtomicInteger progressCount,
+		ToubizImportStatistik toubizImportStatistik) {
+		importedToubizRouten.stream()
+			.filter(importedToubizRoute -> {
+				if (toubizIgnoreList.contains(importedToubizRoute.getToubizId().getToubizId())) {
+					toubizImportStatistik.beimImportIgnoriert.add(importedToubizRoute.getToubizId());
+					return false;
+				}
+				return true;
+			})
+			.filter(importedToubizRoute -> !importedToubizRoute.isLandesradfernweg() ||
+				bestehendeLandesradfernwegIds.contains(importedToubizRoute.getToubizId()))
+			.map(importedToubizRoute -> createFahrradroute(importedToubizRoute,
+				toubizImportStatistik))
+			.peek(fahrradroute -> this.logProgressInPercent(importedToubizRouten.size(), progressCount, 10))
+			.forEach(fahrradroute -> {
+				frischeIds.add(fahrradroute.getToubizId());
+				fahrradrouteRepository.save(
+					fahrradrouteRepository.findByToubizId(fahrradroute.getToubizId())
+						.map((route) -> route.getKategorie() == Kategorie.LANDESRADFERNWEG
+							? route.mergeNonRouteDependentAttribute(fahrradroute)
+							: route.merge(fahrradroute))
+						.orElse(fahrradroute));
+			});
+	}
+
 	private Fahrradroute createFahrradroute(ImportedToubizRoute importedToubizRoute,
 		ToubizImportStatistik toubizImportStatistik) {
 
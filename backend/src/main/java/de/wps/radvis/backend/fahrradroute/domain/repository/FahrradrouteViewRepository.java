@@ -15,12 +15,16 @@
 package de.wps.radvis.backend.fahrradroute.domain.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
 
 import de.wps.radvis.backend.fahrradroute.domain.dbView.FahrradrouteListenDbOhneGeomView;
 import de.wps.radvis.backend.fahrradroute.domain.dbView.FahrradrouteListenDbView;
+import jakarta.persistence.QueryHint;
 
 public interface FahrradrouteViewRepository extends Repository<FahrradrouteListenDbView, Long> {
 	List<FahrradrouteListenDbView> findAll();
@@ -41,4 +45,14 @@ public interface FahrradrouteViewRepository extends Repository<FahrradrouteListe
 	List<FahrradrouteListenDbOhneGeomView> findAllWithoutFetchingGeom();
 
 	List<FahrradrouteListenDbView> findAllByIdIn(List<Long> ids);
+
+	/**
+	 * Cursor-basierte Variante von {@link #findAllByIdIn(List)} für den Export. Nur innerhalb einer Transaktion
+	 * nutzbar, der Stream muss geschlossen werden.
+	 */
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+		@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	Stream<FahrradrouteListenDbView> streamAllByIdIn(List<Long> ids);
 }
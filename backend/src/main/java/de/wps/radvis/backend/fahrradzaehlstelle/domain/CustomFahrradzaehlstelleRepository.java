@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.fahrradzaehlstelle.domain;
+
+import java.time.Instant;
+import java.util.List;
+
+import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.ZaehlstandZeitreihe;
+import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.Zeitaufloesung;
+import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.Zeitstempel;
+
+public interface CustomFahrradzaehlstelleRepository {
+
+	/**
+	 * Liest die über die Channels summierten Zählstände im Zeitraum [von, bis). Dabei werden die vorab berechneten
+	 * Summen bis zur angegebenen Auflösung genutzt, soweit der Zeitraum das zulässt.
+	 */
+	ZaehlstandZeitreihe getZaehlstandZeitreihe(List<Long> channelIds, Instant von, Instant bis,
+		Zeitaufloesung groebsteAufloesung);
+
+	/**
+	 * Legt die Monats-Partitionen der Zählstände für alle Monate von erster bis letzter an, sofern sie fehlen.
+	 */
+	void erstelleZaehlstandPartitionen(Zeitstempel erster, Zeitstempel letzter);
+
+	/**
+	 * Berechnet die Summen pro Stunde, Tag und Monat für alle Monate von erster bis letzter neu.
+	 */
+	void aktualisiereZaehlstandSummen(Zeitstempel erster, Zeitstempel letzter);
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.fahrradzaehlstelle.domain;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.valid4j.Assertive.require;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.ZaehlstandZeitreihe;
+import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.Zeitaufloesung;
+import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.Zeitreihenabschnitt;
+import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.Zeitstempel;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+public class CustomFahrradzaehlstelleRepositoryImpl implements CustomFahrradzaehlstelleRepository {
+
+	private static final ZoneId ZEITZONE = ZoneId.of("Europe/Berlin");
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public ZaehlstandZeitreihe getZaehlstandZeitreihe(List<Long> channelIds, Instant von, Instant bis,
+		Zeitaufloesung groebsteAufloesung) {
+		require(channelIds, notNullValue());
+		require(von, notNullValue());
+		require(bis, notNullValue());
+		require(groebsteAufloesung, notNullValue());
+
+		List<Zeitreihenabschnitt> abschnitte = Zeitaufloesung.zerlege(Zeitstempel.of(von.getEpochSecond()),
+			Zeitstempel.of(bis.getEpochSecond()), groebsteAufloesung);
+		if (channelIds.isEmpty() || abschnitte.isEmpty()) {
+			return ZaehlstandZeitreihe.leer();
+		}
+
+		// Die Abschnitte überschneiden sich nicht, die Summe pro Zeitstempel fasst also nur die Channels zusammen.
+		List<String> abfragen = new ArrayList<>();
+		for (int i = 0; i < abschnitte.size(); i++) {
+			if (abschnitte.get(i).getAufloesung() == Zeitaufloesung.ROHDATEN) {
+				abfragen.add("SELECT zeitstempel, zaehlstand FROM channel_fahrradzaehl_daten_eintrag"
+					+ " WHERE channel_id IN :channelIds AND zaehlstand IS NOT NULL"
+					+ " AND zeitstempel >= :von" + i + " AND zeitstempel < :bis" + i);
+			} else {
+				abfragen.add("SELECT zeitstempel, zaehlstand FROM fahrradzaehl_daten_rollup"
+					+ " WHERE channel_id IN :channelIds AND aufloesung = :aufloesung" + i
+					+ " AND zeitstempel >= :von" + i + " AND zeitstempel < :bis" + i);
+			}
+		}
+		String sqlString = "SELECT zeitstempel, sum(zaehlstand) FROM ("
+			+ String.join(" UNION ALL ", abfragen)
+			+ ") zeitreihe GROUP BY zeitstempel ORDER BY zeitstempel";
+
+		Query query = entityManager.createNativeQuery(sqlString)
+			.setParameter("channelIds", channelIds);
+		for (int i = 0; i < abschnitte.size(); i++) {
+			Zeitreihenabschnitt abschnitt = abschnitte.get(i);
+			query.setParameter("von" + i, abschnitt.getVon().getValue());
+			query.setParameter("bis" + i, abschnitt.getBis().getValue());
+			if (abschnitt.getAufloesung() != Zeitaufloesung.ROHDATEN) {
+				query.setParameter("aufloesung" + i, abschnitt.getAufloesung().name());
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> zeilen = query.getResultList();
+		long[] zeitstempel = new long[zeilen.size()];
+		long[] zaehlstaende = new long[zeilen.size()];
+		for (int i = 0; i < zeilen.size(); i++) {
+			zeitstempel[i] = ((Number) zeilen.get(i)[0]).longValue();
+			zaehlstaende[i] = ((Number) zeilen.get(i)[1]).longValue();
+		}
+		return new ZaehlstandZeitreihe(zeitstempel, zaehlstaende);
+	}
+
+	@Override
+	public void erstelleZaehlstandPartitionen(Zeitstempel erster, Zeitstempel letzter) {
+		require(erster, notNullValue());
+		require(letzter, notNullValue());
+
+		YearMonth letzterMonat = letzter.toYearMonth();
+		for (YearMonth monat = erster.toYearMonth(); !monat.isAfter(letzterMonat); monat = monat.plusMonths(1)) {
+			entityManager.createNativeQuery("CALL erstelle_fahrradzaehl_daten_partition(:zeitpunkt)")
+				.setParameter("zeitpunkt", monat.atDay(1).atStartOfDay(ZEITZONE).toEpochSecond())
+				.executeUpdate();
+		}
+	}
+
+	@Override
+	public void aktualisiereZaehlstandSummen(Zeitstempel erster, Zeitstempel letzter) {
+		require(erster, notNullValue());
+		require(letzter, notNullValue());
+
+		// Die Summen werden aus der Tabelle berechnet, noch nicht geschriebene Zählstände müssen also vorher raus.
+		entityManager.flush();
+		entityManager.createNativeQuery("CALL aktualisiere_fahrradzaehl_daten_rollup(:erster, :letzter)")
+			.setParameter("erster", erster.getValue())
+			.setParameter("letzter", letzter.getValue())
+			.executeUpdate();
+	}
+}
@@ -21,18 +21,15 @@ import java.util.Set;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
-import de.wps.radvis.backend.fahrradzaehlstelle.domain.entity.Channel;
 import de.wps.radvis.backend.fahrradzaehlstelle.domain.entity.Fahrradzaehlstelle;
 import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.BetreiberEigeneId;
 import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.Zeitstempel;
 
-public interface FahrradzaehlstelleRepository extends CrudRepository<Fahrradzaehlstelle, Long> {
+public interface FahrradzaehlstelleRepository extends CrudRepository<Fahrradzaehlstelle, Long>,
+	CustomFahrradzaehlstelleRepository {
 
 	List<Fahrradzaehlstelle> findAllByBetreiberEigeneIdIn(Set<BetreiberEigeneId> betreiberEigeneIds);
 
 	@Query(value = "SELECT MAX(index(channel.fahrradzaehlDaten)) FROM Channel channel")
 	Optional<Zeitstempel> findeLetztesImportDatum();
-
-	@Query("SELECT channel FROM Channel channel WHERE channel.id IN (:channelIds)")
-	List<Channel> getChannels(List<Long> channelIds);
 }
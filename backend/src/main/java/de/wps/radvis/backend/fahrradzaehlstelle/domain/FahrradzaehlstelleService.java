@@ -15,11 +15,12 @@
 package de.wps.radvis.backend.fahrradzaehlstelle.domain;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 
@@ -30,6 +31,8 @@ import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.DatenEintrag;
 import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.DurchschnittlicherZaehlstand;
 import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.FahrradzaehlstelleAuswertung;
 import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.Zaehlstand;
+import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.ZaehlstandZeitreihe;
+import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.Zeitaufloesung;
 import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.Zeitstempel;
 import jakarta.validation.constraints.NotNull;
 
@@ -51,37 +54,36 @@ public class FahrradzaehlstelleService {
 		Instant endDate,
 		ArtDerAuswertung artDerAuswertung) {
 
-		// Wir führen die Daten aller Channels in einer sortierten Map zusammen.
-		Map<Zeitstempel, Zaehlstand> datenAllerChannels = fahrradzaehlstelleRepository.getChannels(channelIds)
-			.stream()
-			.map(channel -> channel.getZaehlstaendeInZeitraum(startDate, endDate))
-			.reduce(new TreeMap<>(), (map1, map2) -> {
-				map2.forEach((k, v) -> map1.merge(k, v, Zaehlstand::add));
-				return map1;
-			});
+		// Die Datenbank liefert die Zählstände bereits über alle Channels summiert und soweit möglich in der
+		// gröbsten Auflösung, die für die Art der Auswertung noch exakt ist.
+		ZaehlstandZeitreihe zeitreihe = fahrradzaehlstelleRepository.getZaehlstandZeitreihe(channelIds, startDate,
+			endDate.plus(1, ChronoUnit.DAYS), Zeitaufloesung.groebsteFuer(artDerAuswertung));
 
 		// Wir quantiesieren die Daten (Aufsummieren aller Zaehlstaende einer Auswertungseineheit)
-		TreeMap<Zeitstempel, Zaehlstand> quantisierteDaten = datenAllerChannels.entrySet()
-			.stream()
-			.collect(Collectors.toMap(
-				entry -> {
-					switch (artDerAuswertung) {
-					case DURCHSCHNITT_PRO_STUNDE:
-						return entry.getKey().amAnfangDerStunde();
-					case DURCHSCHNITT_PRO_WOCHENTAG:
-						return entry.getKey().amAnfangDesTages();
-					case DURCHSCHNITT_PRO_MONAT:
-						return entry.getKey().amAnfangDesMonats();
-					case SUMME_PRO_JAHR:
-						return entry.getKey().amAnfangDesJahres();
-					default:
-						throw new RuntimeException(
-							"Art der Auswertung '" + artDerAuswertung + "' wird nicht unterstützt");
-					}
-				},
-				Map.Entry::getValue,
-				Zaehlstand::add,
-				TreeMap::new));
+		TreeMap<Zeitstempel, Zaehlstand> quantisierteDaten = new TreeMap<>();
+		for (int i = 0; i < zeitreihe.getAnzahl(); i++) {
+			Zeitstempel zeitstempel = Zeitstempel.of(zeitreihe.getZeitstempel()[i]);
+			Zeitstempel auswertungseinheit;
+			switch (artDerAuswertung) {
+			case DURCHSCHNITT_PRO_STUNDE:
+				auswertungseinheit = zeitstempel.amAnfangDerStunde();
+				break;
+			case DURCHSCHNITT_PRO_WOCHENTAG:
+				auswertungseinheit = zeitstempel.amAnfangDesTages();
+				break;
+			case DURCHSCHNITT_PRO_MONAT:
+				auswertungseinheit = zeitstempel.amAnfangDesMonats();
+				break;
+			case SUMME_PRO_JAHR:
+				auswertungseinheit = zeitstempel.amAnfangDesJahres();
+				break;
+			default:
+				throw new RuntimeException(
+					"Art der Auswertung '" + artDerAuswertung + "' wird nicht unterstützt");
+			}
+			quantisierteDaten.merge(auswertungseinheit, Zaehlstand.of(zeitreihe.getZaehlstaende()[i]),
+				Zaehlstand::add);
+		}
 
 		// Wir aggregieren die Daten über ein Mapping auf eine Referenzauswertungseinheit (außer bei SUMME_PRO_JAHR)
 		// mittels Durchschnittsbildung
@@ -118,7 +120,7 @@ public class FahrradzaehlstelleService {
 			.collect(Collectors.toList());
 
 		// Wir ermitteln weitere statistische Daten
-		Long gesamtsumme = datenAllerChannels.values().stream().mapToLong(Zaehlstand::getValue).sum();
+		Long gesamtsumme = Arrays.stream(zeitreihe.getZaehlstaende()).sum();
 		Double durchschnitt = daten.stream().mapToDouble(DatenEintrag::getZaehlstand).average().orElse(0);
 		Pair<String, Long> spitzeMitWert = quantisierteDaten.entrySet().stream()
 			.max(Comparator.comparing(entry -> entry.getValue().getValue()))
@@ -37,6 +37,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
 import org.apache.commons.io.IOUtils;
@@ -183,12 +184,28 @@ public class FahrradzaehlstellenMobiDataImportJob extends AbstractJob {
 			List<Fahrradzaehlstelle> neueFahrradzaehlstellen = result.values().stream()
 				.map(this::mapMessDatenEintragToFahrradzaehlstelle).collect(Collectors.toList());
 
+			// Die Zählstände landen in Monats-Partitionen, die vor dem Speichern vorhanden sein sollten.
+			Optional<Zeitstempel> ersterZeitstempel = csvZeitstempel(betreiberEigeneIdListMap)
+				.min(Comparator.naturalOrder());
+			Optional<Zeitstempel> letzterZeitstempel = csvZeitstempel(betreiberEigeneIdListMap)
+				.max(Comparator.naturalOrder());
+			if (ersterZeitstempel.isPresent()) {
+				fahrradzaehlstelleRepository.erstelleZaehlstandPartitionen(ersterZeitstempel.get(),
+					letzterZeitstempel.get());
+			}
+
 			log.info(
 				"Importierte Fahrradzählstellen werden gemerged und gespeichert: "
 					+ neueFahrradzaehlstellen.size());
 			List<Fahrradzaehlstelle> alleFahrradzaehlstellen = mergeMitBekanntenFahrradzaehlstellen(
 				neueFahrradzaehlstellen, statistik);
 			fahrradzaehlstelleRepository.saveAll(alleFahrradzaehlstellen);
+
+			if (ersterZeitstempel.isPresent()) {
+				log.info("Summen der Zählstände pro Stunde, Tag und Monat werden aktualisiert.");
+				fahrradzaehlstelleRepository.aktualisiereZaehlstandSummen(ersterZeitstempel.get(),
+					letzterZeitstempel.get());
+			}
 			log.info("Speichern abgeschlossen.");
 		}
 
@@ -197,6 +214,10 @@ public class FahrradzaehlstellenMobiDataImportJob extends AbstractJob {
 		return Optional.of(statistik);
 	}
 
+	private static Stream<Zeitstempel> csvZeitstempel(Map<BetreiberEigeneId, List<MessDatenEintrag>> messDaten) {
+		return messDaten.values().stream().flatMap(List::stream).map(MessDatenEintrag::getZeitstempel);
+	}
+
 	private List<URL> getUrlsToImport(YearMonth start,
 		YearMonth letzterMonat, FahrradzaehlstellenMobiDataImportStatistik statistik) {
 
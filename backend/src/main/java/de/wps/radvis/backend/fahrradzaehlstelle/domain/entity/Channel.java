@@ -17,16 +17,12 @@ package de.wps.radvis.backend.fahrradzaehlstelle.domain.entity;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.valid4j.Assertive.require;
 
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import de.wps.radvis.backend.common.domain.entity.VersionierteEntity;
 import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.ChannelBezeichnung;
 import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.ChannelId;
-import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.Zaehlstand;
 import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.Zeitstempel;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.ElementCollection;
@@ -82,17 +78,6 @@ public class Channel extends VersionierteEntity {
 		return this.fahrradzaehlDaten;
 	}
 
-	public Map<Zeitstempel, Zaehlstand> getZaehlstaendeInZeitraum(Instant startDate,
-		Instant endDate) {
-		return this.fahrradzaehlDaten.entrySet().stream()
-			.filter(e -> {
-				long epochSecond = e.getKey().toZonedDateTime().toEpochSecond();
-				return epochSecond >= startDate.getEpochSecond() && epochSecond < endDate.plus(1, ChronoUnit.DAYS)
-					.getEpochSecond();
-			})
-			.collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getZaehlstand()));
-	}
-
 	public Optional<ChannelBezeichnung> getChannelBezeichnung() {
 		return Optional.ofNullable(this.channelBezeichnung);
 	}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.valid4j.Assertive.require;
+
+import lombok.Getter;
+
+/**
+ * Über alle angefragten Channels summierte Zählstände, aufsteigend nach Zeitstempel (Epoch-Sekunden). Je nach
+ * Auflösung des Abschnitts steht ein Eintrag für einen einzelnen Zählstand oder die Summe einer Stunde, eines Tages
+ * oder eines Monats, jeweils mit dem Beginn des Zeitraums als Zeitstempel.
+ */
+@Getter
+public class ZaehlstandZeitreihe {
+
+	private final long[] zeitstempel;
+
+	private final long[] zaehlstaende;
+
+	public ZaehlstandZeitreihe(long[] zeitstempel, long[] zaehlstaende) {
+		require(zeitstempel, notNullValue());
+		require(zaehlstaende, notNullValue());
+		require(zeitstempel.length == zaehlstaende.length, "Zeitstempel und Zählstände müssen gleich lang sein");
+		this.zeitstempel = zeitstempel;
+		this.zaehlstaende = zaehlstaende;
+	}
+
+	public static ZaehlstandZeitreihe leer() {
+		return new ZaehlstandZeitreihe(new long[0], new long[0]);
+	}
+
+	public int getAnzahl() {
+		return zeitstempel.length;
+	}
+}
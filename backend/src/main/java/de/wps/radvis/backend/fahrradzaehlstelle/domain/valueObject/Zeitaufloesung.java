@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Zeitliche Auflösung, in der Zählstände gelesen werden. Neben den Rohdaten werden Summen pro Stunde, Tag und Monat
+ * vorgehalten. Die Konstanten sind von fein nach grob sortiert.
+ */
+public enum Zeitaufloesung {
+	ROHDATEN(null),
+	STUNDE(ChronoUnit.HOURS),
+	TAG(ChronoUnit.DAYS),
+	MONAT(ChronoUnit.MONTHS);
+
+	private final ChronoUnit einheit;
+
+	Zeitaufloesung(ChronoUnit einheit) {
+		this.einheit = einheit;
+	}
+
+	/**
+	 * Die gröbste Auflösung, aus der sich die Auswertung noch exakt berechnen lässt.
+	 */
+	public static Zeitaufloesung groebsteFuer(ArtDerAuswertung artDerAuswertung) {
+		switch (artDerAuswertung) {
+		case DURCHSCHNITT_PRO_STUNDE:
+			return STUNDE;
+		case DURCHSCHNITT_PRO_WOCHENTAG:
+			return TAG;
+		case DURCHSCHNITT_PRO_MONAT:
+		case SUMME_PRO_JAHR:
+			return MONAT;
+		default:
+			throw new RuntimeException("Art der Auswertung '" + artDerAuswertung + "' wird nicht unterstützt");
+		}
+	}
+
+	/**
+	 * Zerlegt den Zeitraum [von, bis) in lückenlos aufeinanderfolgende Abschnitte. Jeder Abschnitt verwendet die
+	 * gröbste Auflösung (höchstens die angegebene), deren Zeiträume vollständig in ihm liegen. Nur an den Rändern
+	 * wird auf feinere Auflösungen bis hin zu den Rohdaten zurückgegriffen.
+	 */
+	public static List<Zeitreihenabschnitt> zerlege(Zeitstempel von, Zeitstempel bis, Zeitaufloesung groebste) {
+		List<Zeitreihenabschnitt> abschnitte = new ArrayList<>();
+		zerlege(von, bis, groebste, abschnitte);
+		return abschnitte;
+	}
+
+	private static void zerlege(Zeitstempel von, Zeitstempel bis, Zeitaufloesung aufloesung,
+		List<Zeitreihenabschnitt> abschnitte) {
+		if (von.compareTo(bis) >= 0) {
+			return;
+		}
+		if (aufloesung == ROHDATEN) {
+			abschnitte.add(new Zeitreihenabschnitt(ROHDATEN, von, bis));
+			return;
+		}
+
+		Zeitaufloesung feiner = values()[aufloesung.ordinal() - 1];
+		Zeitstempel anfang = aufloesung.aufrunden(von);
+		Zeitstempel ende = aufloesung.abrunden(bis);
+		if (anfang.compareTo(ende) >= 0) {
+			zerlege(von, bis, feiner, abschnitte);
+			return;
+		}
+		zerlege(von, anfang, feiner, abschnitte);
+		abschnitte.add(new Zeitreihenabschnitt(aufloesung, anfang, ende));
+		zerlege(ende, bis, feiner, abschnitte);
+	}
+
+	public Zeitstempel abrunden(Zeitstempel zeitstempel) {
+		switch (this) {
+		case STUNDE:
+			return zeitstempel.amAnfangDerStunde();
+		case TAG:
+			return zeitstempel.amAnfangDesTages();
+		case MONAT:
+			return zeitstempel.amAnfangDesMonats();
+		default:
+			return zeitstempel;
+		}
+	}
+
+	public Zeitstempel aufrunden(Zeitstempel zeitstempel) {
+		Zeitstempel abgerundet = abrunden(zeitstempel);
+		if (abgerundet.equals(zeitstempel)) {
+			return zeitstempel;
+		}
+		return abrunden(Zeitstempel.of(abgerundet.toZonedDateTime().plus(1, einheit).toEpochSecond()));
+	}
+}
@@ -15,17 +15,36 @@
 package de.wps.radvis.backend.integration.attributAbbildung.domain;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.index.strtree.STRtree;
 
 import de.wps.radvis.backend.common.domain.exception.KeineUeberschneidungException;
 import de.wps.radvis.backend.integration.attributAbbildung.domain.entity.KanteDublette;
 import de.wps.radvis.backend.netz.domain.entity.Kante;
+import de.wps.radvis.backend.netz.domain.entity.LineStrings;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Findet Paare aus geometrisch führenden und untergeordneten Kanten, deren DLM-Geometrien sich überschneiden.
+ * <p>
+ * Statt jede führende Kante mit allen untergeordneten Kanten zu vergleichen, werden die untergeordneten Kanten in
+ * einen STRtree gelegt. Je führender Kante wird nur für die Kandidaten aus dem Index die teure Überschneidung
+ * berechnet, und auch das nur, wenn sie nah genug an der führenden Kante liegen. Die führenden Kanten werden parallel
+ * abgearbeitet, die Reihenfolge der Ergebnisse entspricht trotzdem der einer sequentiellen Verarbeitung.
+ */
 @Slf4j
 public class KantenDublettenPruefungService {
 
+	private record IndexEintrag(int position, Kante kante) {
+	}
+
 	public List<KanteDublette> findDubletten(Set<Kante> geometrischFuehrendeKanten,
 		Set<Kante> geometrischUntergeordneteKanten) {
 		List<Kante> geometrischFuehrendeKantenDistinktUndSortiert = Kante
@@ -36,35 +55,63 @@ public class KantenDublettenPruefungService {
 			.distinktiereUndSortiereNachMinYDerGeometrie(geometrischUntergeordneteKanten);
 		log.info("Anzahl der zu verarbeitenden geometrische untergeordneten Kanten: "
 			+ geometrischUntergeordneteKantenDistinktUndSortiert.size());
-		List<KanteDublette> kantenDubletten = new ArrayList<>();
-		long i = 0;
-
-		for (Kante geometrischFuehrendeKante : geometrischFuehrendeKantenDistinktUndSortiert) {
-			for (Kante geometrischUntergeordneteKante : geometrischUntergeordneteKantenDistinktUndSortiert) {
-				if (geometrischUntergeordneteKante.getZugehoerigeDlmGeometrie().getEnvelopeInternal().getMaxY()
-					< geometrischFuehrendeKante.getZugehoerigeDlmGeometrie().getEnvelopeInternal().getMinY()) {
-					continue;
-				}
-				try {
-					KanteDublette kanteDublette = new KanteDublette(geometrischFuehrendeKante,
-						geometrischUntergeordneteKante);
-					kantenDubletten.add(kanteDublette);
-				} catch (KeineUeberschneidungException e) {
-					if (geometrischUntergeordneteKante.getZugehoerigeDlmGeometrie().getEnvelopeInternal().getMinY()
-						> geometrischFuehrendeKante.getZugehoerigeDlmGeometrie().getEnvelopeInternal().getMaxY()) {
-						break;
-					}
+
+		STRtree untergeordneteKantenIndex = new STRtree();
+		for (int i = 0; i < geometrischUntergeordneteKantenDistinktUndSortiert.size(); i++) {
+			Kante kante = geometrischUntergeordneteKantenDistinktUndSortiert.get(i);
+			untergeordneteKantenIndex.insert(kante.getZugehoerigeDlmGeometrie().getEnvelopeInternal(),
+				new IndexEintrag(i, kante));
+		}
+		// Der Index wird sonst beim ersten Query gebaut, das soll nicht nebenläufig passieren.
+		untergeordneteKantenIndex.build();
+
+		int anzahlFuehrendeKanten = geometrischFuehrendeKantenDistinktUndSortiert.size();
+		AtomicLong verarbeitet = new AtomicLong();
+
+		return IntStream.range(0, anzahlFuehrendeKanten)
+			.parallel()
+			.mapToObj(i -> {
+				List<KanteDublette> dubletten = findDubletten(geometrischFuehrendeKantenDistinktUndSortiert.get(i),
+					untergeordneteKantenIndex);
+
+				// Zaehlerstand loggen
+				long anzahlVerarbeitet = verarbeitet.incrementAndGet();
+				if (anzahlFuehrendeKanten > 5 && anzahlVerarbeitet % (anzahlFuehrendeKanten / 5) == 0) {
+					log.info("{}% der geometrisch führenden Kanten verarbeitet.",
+						anzahlVerarbeitet / (double) anzahlFuehrendeKanten * 100);
 				}
+				return dubletten;
+			})
+			.flatMap(List::stream)
+			.toList();
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<KanteDublette> findDubletten(Kante geometrischFuehrendeKante, STRtree untergeordneteKantenIndex) {
+		LineString fuehrendeGeometrie = geometrischFuehrendeKante.getZugehoerigeDlmGeometrie();
+
+		List<IndexEintrag> kandidaten = new ArrayList<>(
+			untergeordneteKantenIndex.query(LineStrings.getUeberschneidungsSuchbereich(fuehrendeGeometrie)));
+		kandidaten.sort(Comparator.comparingInt(IndexEintrag::position));
+
+		List<KanteDublette> dubletten = new ArrayList<>();
+		for (IndexEintrag kandidat : kandidaten) {
+			if (!LineStrings.kannSichUeberschneiden(fuehrendeGeometrie,
+				kandidat.kante().getZugehoerigeDlmGeometrie())) {
+				continue;
 			}
-			// Zaehlerstand loggen
-			if (geometrischFuehrendeKanten.size() > 5 && i % (geometrischFuehrendeKanten.size() / 5) == 0) {
-				log.info("{}% der geometrisch führenden Kanten verarbeitet.",
-					i / (double) geometrischFuehrendeKanten.size() * 100);
-			}
-			i++;
+			erstelleDublette(geometrischFuehrendeKante, kandidat.kante()).ifPresent(dubletten::add);
 		}
+		return dubletten;
+	}
 
-		return kantenDubletten;
+	private Optional<KanteDublette> erstelleDublette(Kante geometrischFuehrendeKante,
+		Kante geometrischUntergeordneteKante) {
+		try {
+			return Optional.of(new KanteDublette(geometrischFuehrendeKante, geometrischUntergeordneteKante));
+		} catch (KeineUeberschneidungException e) {
+			return Optional.empty();
+		}
 	}
 
 }
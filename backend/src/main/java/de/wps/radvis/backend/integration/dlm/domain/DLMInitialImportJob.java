@@ -87,6 +87,7 @@ public class DLMInitialImportJob extends AbstractJob {
 			// Wenn irgendwas schief geht, müssen wir manuell aufräumen, weil die Partitionen separat committed werden
 			log.error("Beim initialen Import des DLM-Netzes ist ein Fehler aufgetreten", e);
 			log.warn("Lösche die bisher bearbeiteten Partitionen");
+			log.warn("Die abgerufenen WFS-Antworten bleiben abgelegt, ein erneuter Lauf liest sie von der Platte");
 			netzService.loescheGesamtesNetz();
 		}
 		entityManager.flush();
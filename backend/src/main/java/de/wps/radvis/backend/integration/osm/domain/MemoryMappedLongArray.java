@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.integration.osm.domain;
+
+import static org.valid4j.Assertive.require;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wachsendes long-Array außerhalb des Heaps, das segmentweise in eine temporäre Datei gemappt wird. Die Datei wird
+ * sparse angelegt, belegt also nur für tatsächlich beschriebene Bereiche Platz. Nicht gesetzte Werte sind 0.
+ * <p>
+ * Nicht threadsafe.
+ */
+final class MemoryMappedLongArray implements Closeable {
+
+	// 2^24 longs, also 128 MB je Segment
+	private static final int SEGMENT_BITS = 24;
+	private static final long SEGMENT_LAENGE = 1L << SEGMENT_BITS;
+	private static final long SEGMENT_MASKE = SEGMENT_LAENGE - 1;
+
+	private final FileChannel channel;
+	private final List<LongBuffer> segmente = new ArrayList<>();
+	private long laenge = 0;
+
+	MemoryMappedLongArray(String name) throws IOException {
+		Path datei = Files.createTempFile(name, ".bin");
+		this.channel = FileChannel.open(datei, StandardOpenOption.READ, StandardOpenOption.WRITE,
+			StandardOpenOption.DELETE_ON_CLOSE);
+	}
+
+	long laenge() {
+		return laenge;
+	}
+
+	void fuegeHinzu(long wert) {
+		setze(laenge, wert);
+	}
+
+	void setze(long index, long wert) {
+		require(index >= 0, "Index darf nicht negativ sein");
+		segment(index).put((int) (index & SEGMENT_MASKE), wert);
+		if (index >= laenge) {
+			laenge = index + 1;
+		}
+	}
+
+	long get(long index) {
+		require(index >= 0 && index < laenge, "Index außerhalb des Arrays");
+		return segmente.get((int) (index >>> SEGMENT_BITS)).get((int) (index & SEGMENT_MASKE));
+	}
+
+	private LongBuffer segment(long index) {
+		int segmentIndex = (int) (index >>> SEGMENT_BITS);
+		while (segmente.size() <= segmentIndex) {
+			long position = segmente.size() * SEGMENT_LAENGE * Long.BYTES;
+			try {
+				// Das Mappen über das Dateiende hinaus vergrößert die Datei, ohne die Blöcke zu belegen
+				segmente.add(channel.map(FileChannel.MapMode.READ_WRITE, position, SEGMENT_LAENGE * Long.BYTES)
+					.order(ByteOrder.nativeOrder())
+					.asLongBuffer());
+			} catch (IOException e) {
+				throw new RuntimeException("Temporäre Datei für das Long-Array konnte nicht gemappt werden", e);
+			}
+		}
+		return segmente.get(segmentIndex);
+	}
+
+	/**
+	 * Schließt und löscht die Datei. Die Mappings werden erst vom Garbage Collector freigegeben, dürfen danach aber
+	 * nicht mehr verwendet werden.
+	 */
+	@Override
+	public void close() throws IOException {
+		segmente.clear();
+		channel.close();
+	}
+}
@@ -25,11 +25,8 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.text.NumberFormat;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Locale;
 import java.util.Optional;
-import java.util.Set;
 
 import org.hibernate.Session;
 import org.jetbrains.annotations.NotNull;
@@ -120,6 +117,9 @@ import lombok.extern.slf4j.Slf4j;
  * Überprüfungen und Updates losgetreten, die allesamt Zeit kosten und nicht nötig sind. Indizes werden entsprechend
  * beim Neuerzeugen ganz am Ende wieder aufgebaut.
  * 7. Auch bei Kanten wird Batching vorgenommen, hier dann auf Ebene der prepared statements.
+ * 8. Positionen und Zustand aller Nodes werden kompakt außerhalb des Heaps gehalten (s. {@link OsmNodeSpeicher}) und
+ * Knoten-Objekte werden nur für tatsächlich gespeicherte Knoten gebaut. Der Heap muss so nicht mit der Anzahl Nodes
+ * der PBF-Datei wachsen.
  */
 @Slf4j
 @Transactional
@@ -167,22 +167,20 @@ public class OSMImportJob extends AbstractJob {
 
 		OSMImportStatistik statistik = new OSMImportStatistik();
 
-		// Mapping von OSM-Node zu RadVIS-Knoten.
-		// Nicht alle diese Knoten werden in der DB gespeichert (s. Knotenerstellung weiter unten).
-		HashMap<Long, Knoten> nodeIdToKnoten = new HashMap<>();
-
-		// Node-IDs, die Grad 1 (Sackgasse) oder >2 (echte Kreuzung zwischen mehreren Ways) haben.
-		// Also alle Nodes, die später tatsächlich zu Knoten werden sollen.
-		Set<Long> nodeIdsForImportedKnoten = new HashSet<>();
-
-		// Schritt 1: Erzeugen aller relevanten Knoten (Startpunkte, Endpunkte und Kreuzungspunkte).
-		determineKnoten(statistik, nodeIdToKnoten, nodeIdsForImportedKnoten, session);
-
-		// Schritt 2: Erzeugen aller Kanten zwischen den gefundenen Knoten.
-		try {
-			importKnotenAndKanten(statistik, nodeIdToKnoten, nodeIdsForImportedKnoten, session.getJdbcBatchSize());
-		} catch (Exception e) {
-			throw new RuntimeException("Import der Kanten fehlgeschlagen", e);
+		// Positionen aller OSM-Nodes sowie die IDs der Knoten, die für Nodes mit Grad 1 (Sackgasse) oder >2 (echte
+		// Kreuzung zwischen mehreren Ways) gespeichert wurden. Liegt außerhalb des Heaps, s. OsmNodeSpeicher.
+		try (OsmNodeSpeicher nodeSpeicher = new OsmNodeSpeicher()) {
+			// Schritt 1: Erzeugen aller relevanten Knoten (Startpunkte, Endpunkte und Kreuzungspunkte).
+			determineKnoten(statistik, nodeSpeicher, session);
+
+			// Schritt 2: Erzeugen aller Kanten zwischen den gefundenen Knoten.
+			try {
+				importKnotenAndKanten(statistik, nodeSpeicher, session.getJdbcBatchSize());
+			} catch (Exception e) {
+				throw new RuntimeException("Import der Kanten fehlgeschlagen", e);
+			}
+		} catch (IOException e) {
+			throw new RuntimeException("Temporärer Speicher für die OSM-Nodes konnte nicht angelegt werden", e);
 		}
 
 		log.info("JobStatistik:\n{}", statistik.toPrettyJSON());
@@ -191,28 +189,25 @@ public class OSMImportJob extends AbstractJob {
 	}
 
 	/**
-	 * Füllt die übergebenen Datenstrukturen mit Leben. Das heißt es werden Knoten gebildet, deren Positionen gemerkt
-	 * (weil OSM-Ways nur die Knoten-IDs aber keine Geometrien halten) und es werden Nodes mit Grad 1 (Sackgassen) oder
-	 * >2 (echte Kreuzungen zwischen mehreren Ways) ermittelt, also alle Nodes, die später zu Knoten werden sollen.
+	 * Füllt den übergebenen Node-Speicher mit Leben. Das heißt es werden die Positionen aller Nodes gemerkt (weil
+	 * OSM-Ways nur die Knoten-IDs aber keine Geometrien halten) und es werden Nodes mit Grad 1 (Sackgassen) oder >2
+	 * (echte Kreuzungen zwischen mehreren Ways) ermittelt, also alle Nodes, die zu Knoten werden. Diese Knoten werden
+	 * direkt gespeichert.
 	 */
-	private void determineKnoten(OSMImportStatistik statistik, HashMap<Long, Knoten> nodeIdToKnoten,
-		Set<Long> nodeIdsForImportedKnoten, Session session) {
+	private void determineKnoten(OSMImportStatistik statistik, OsmNodeSpeicher nodeSpeicher, Session session) {
 		log.info("Erstelle Knoten aus OSM-Nodes");
 
-		// Ways enthalten nur die IDs der Nodes aber nicht deren Position. Daher müssen wir uns - um unten Knoten bauen
-		// zu können - die Positionen merken. Das Bauen der Knoten passiert erst beim Durchlaufen der Ways und nicht
-		// schon beim Durchlaufen der Nodes. Dort bräuchte man diese Map nicht, aber später bei den Ways können
-		// Kreuzungspunkte und Sackgassen ermittelt werden.
-		HashMap<Long, Coordinate> nodeToLocation = new HashMap<>();
-
 		try (InputStream input = new FileInputStream(osmBasisnetzDaten)) {
 			OsmIterator iterator = new PbfIterator(input, false);
 
 			for (EntityContainer container : iterator) {
 				if (container.getType() == EntityType.Node) {
+					// Ways enthalten nur die IDs der Nodes aber nicht deren Position. Daher müssen wir uns - um unten
+					// Knoten bauen zu können - die Positionen merken. Das Bauen der Knoten passiert erst beim
+					// Durchlaufen der Ways, denn erst dort können Kreuzungspunkte und Sackgassen ermittelt werden.
 					statistik.anzahlNodesVerarbeitet++;
 					Node osmNode = (Node) container.getEntity();
-					nodeToLocation.put(osmNode.getId(), new Coordinate(osmNode.getLatitude(), osmNode.getLongitude()));
+					nodeSpeicher.fuegeHinzu(osmNode.getId(), osmNode.getLatitude(), osmNode.getLongitude());
 				} else if (container.getType() == EntityType.Way) {
 					if (statistik.anzahlWaysGesamt == 0) {
 						log.info("Starte Verarbeitung der OSM-Ways");
@@ -228,36 +223,25 @@ public class OSMImportJob extends AbstractJob {
 					long[] nodeIdArray = osmWay.getNodes().toArray();
 					for (int i = 0; i < nodeIdArray.length; i++) {
 						long nodeId = nodeIdArray[i];
-						boolean hasBeenVisitedBefore = nodeIdToKnoten.containsKey(nodeId);
-						if (!hasBeenVisitedBefore) {
-							// Node wurde zum ersten Mal besucht, also wird ein Knoten erstellt. Ob dieser Knoten später
-							// auch in der DB landet, wird im "if" unten ermittelt. Es gibt dann also Knoten, die hier
-							// erzeugt und nie gebraucht werden. Für Speicherverbrauch und Performance ist das ziemlich
-							// egal, da Knoten recht klein sind.
-
-							Point point = (Point) CoordinateReferenceSystemConverterUtility.transformGeometry(
-								KoordinatenReferenzSystem.WGS84.getGeometryFactory()
-									.createPoint(nodeToLocation.get(nodeId)),
-								KoordinatenReferenzSystem.ETRS89_UTM32_N
-							);
-							// Wir importieren OSM-Daten als DLM-Kanten, damit alle Jobs, Services, Views, etc., die
-							// auf das Quellsystem prüfen, wie gewohnt funktionieren.
-							Knoten knoten = Knoten.builder()
-								.point(point)
-								.quelle(QuellSystem.DLM)
-								.build();
-							nodeIdToKnoten.put(nodeId, knoten);
-							nodeToLocation.remove(nodeId);
+						int nodeIndex = nodeSpeicher.getIndex(nodeId);
+						if (nodeIndex < 0) {
+							throw new RuntimeException(String.format(
+								"Die Node %d des Ways %d ist nicht in der PBF-Datei enthalten", nodeId,
+								osmWay.getId()));
 						}
 
+						boolean hasBeenVisitedBefore = nodeSpeicher.istBesucht(nodeIndex);
+						nodeSpeicher.markiereBesucht(nodeIndex);
+
 						boolean isBeginningOrEndOfWay = i == 0 || i == nodeIdArray.length - 1;
 						if (hasBeenVisitedBefore || isBeginningOrEndOfWay) {
-							// Wenn Node bereits in Set war, dann haben wir hier den Node zum wiederholten Male gefunden,
-							// also handelt es sich um einen Kreuzungspunkt. Auch Start- bzw. Endpunkte von Ways wollen
-							// wir mir einem Knoten versehen, daher merken wir uns hier diese Node-IDs ebenfalls.
-							if (!nodeIdsForImportedKnoten.contains(nodeId)) {
-								nodeIdsForImportedKnoten.add(nodeId);
-								session.persist(nodeIdToKnoten.get(nodeId));
+							// Wenn Node bereits besucht wurde, dann haben wir hier den Node zum wiederholten Male
+							// gefunden, also handelt es sich um einen Kreuzungspunkt. Auch Start- bzw. Endpunkte von
+							// Ways wollen wir mir einem Knoten versehen, daher wird auch für diese ein Knoten erstellt.
+							if (!nodeSpeicher.istKnoten(nodeIndex)) {
+								Knoten knoten = erstelleKnoten(nodeSpeicher.getKoordinate(nodeIndex));
+								session.persist(knoten);
+								nodeSpeicher.setzeKnotenId(nodeIndex, knoten.getId());
 								statistik.anzahlKnotenImportiert++;
 							}
 						}
@@ -293,15 +277,28 @@ public class OSMImportJob extends AbstractJob {
 			numberFormat.format(statistik.anzahlOsmObjekteGesamt),
 			numberFormat.format(statistik.anzahlWaysGesamt),
 			numberFormat.format(statistik.anzahlNodesVerarbeitet),
-			numberFormat.format(nodeIdsForImportedKnoten.size())
+			numberFormat.format(nodeSpeicher.getAnzahlKnoten())
 		);
 	}
 
+	private static Knoten erstelleKnoten(Coordinate wgs84Koordinate) {
+		Point point = (Point) CoordinateReferenceSystemConverterUtility.transformGeometry(
+			KoordinatenReferenzSystem.WGS84.getGeometryFactory().createPoint(wgs84Koordinate),
+			KoordinatenReferenzSystem.ETRS89_UTM32_N
+		);
+		// Wir importieren OSM-Daten als DLM-Kanten, damit alle Jobs, Services, Views, etc., die auf das Quellsystem
+		// prüfen, wie gewohnt funktionieren.
+		return Knoten.builder()
+			.point(point)
+			.quelle(QuellSystem.DLM)
+			.build();
+	}
+
 	/**
 	 * Erstellt Kanten aus OSM-Ways und speichert diese samt der Knoten und Attributen ab.
 	 */
-	private void importKnotenAndKanten(OSMImportStatistik statistik, HashMap<Long, Knoten> nodeIdToKnoten,
-		Set<Long> nodeIdsForImportedKnoten, int batchSize) throws SQLException {
+	private void importKnotenAndKanten(OSMImportStatistik statistik, OsmNodeSpeicher nodeSpeicher, int batchSize)
+		throws SQLException {
 		log.info("Importiere OSM-Ways als Kanten");
 		StopWatch stopWatch = new StopWatch();
 		stopWatch.start();
@@ -325,19 +322,25 @@ public class OSMImportJob extends AbstractJob {
 					}
 
 					long[] nodeIdArray = osmWay.getNodes().toArray();
+					// Alle Nodes des Ways wurden im ersten Durchlauf gefunden, sonst wäre dieser abgebrochen
+					int[] nodeIndexArray = new int[nodeIdArray.length];
+					for (int i = 0; i < nodeIdArray.length; i++) {
+						nodeIndexArray[i] = nodeSpeicher.getIndex(nodeIdArray[i]);
+					}
+
 					int lastVonNodeIndex = 0;
 					for (int i = 0; i < nodeIdArray.length; i++) {
 						long nodeIdCurrentNode = nodeIdArray[i];
-						if (!nodeIdsForImportedKnoten.contains(nodeIdCurrentNode)) {
+						if (!nodeSpeicher.istKnoten(nodeIndexArray[i])) {
 							continue;
 						}
 						long nodeIdLastVonKnoten = nodeIdArray[lastVonNodeIndex];
 
-						Knoten vonKnoten = nodeIdToKnoten.get(nodeIdLastVonKnoten);
-						Knoten nachKnoten = nodeIdToKnoten.get(nodeIdCurrentNode);
+						LineString lineString = nodeIdLastVonKnoten == nodeIdCurrentNode ? null
+							: getLineStringBetweenNodes(lastVonNodeIndex, i, nodeSpeicher, nodeIndexArray);
 
-						if (nodeIdLastVonKnoten == nodeIdCurrentNode || vonKnoten.getKoordinate().equals(
-							nachKnoten.getKoordinate())) {
+						if (lineString == null || lineString.getCoordinateN(0).equals(
+							lineString.getCoordinateN(lineString.getNumPoints() - 1))) {
 							// Kreise werden momentan ignoriert, da es ein require() bei Kanten gibt. Dies tritt meistens
 							// bei Wendekreisen und parkplätzen o.Ä. auf (letztere importieren wir eh nicht), ist also
 							// eher die Ausnahme und betrifft weniger wichtige Abschnitte. Daher erst mal keine
@@ -346,9 +349,6 @@ public class OSMImportJob extends AbstractJob {
 							continue;
 						}
 
-						LineString lineString = getLineStringBetweenNodes(lastVonNodeIndex, i, nodeIdToKnoten,
-							nodeIdArray);
-
 						String strassenName = null;
 						String strassenNummer = null;
 						String beleuchtung = Beleuchtung.UNBEKANNT.name();
@@ -365,8 +365,8 @@ public class OSMImportJob extends AbstractJob {
 							}
 						}
 
-						preparedStatement.setLong(1, vonKnoten.getId());
-						preparedStatement.setLong(2, nachKnoten.getId());
+						preparedStatement.setLong(1, nodeSpeicher.getKnotenId(nodeIndexArray[lastVonNodeIndex]));
+						preparedStatement.setLong(2, nodeSpeicher.getKnotenId(nodeIndexArray[i]));
 						preparedStatement.setString(3, "SRID=25832; " + lineString.toText());
 						preparedStatement.setInt(4, (int) Math.round(lineString.getLength() * 100));
 						preparedStatement.setString(5, strassenName);
@@ -588,13 +588,16 @@ public class OSMImportJob extends AbstractJob {
 	}
 
 	private static @NotNull LineString getLineStringBetweenNodes(int fromNode, int toNode,
-		HashMap<Long, Knoten> nodeIdToKnoten, long[] nodeIdArray) {
+		OsmNodeSpeicher nodeSpeicher, int[] nodeIndexArray) {
 		Coordinate[] kanteCoordinates = new Coordinate[toNode - fromNode + 1];
 		for (int i = fromNode; i <= toNode; i++) {
-			kanteCoordinates[i - fromNode] = nodeIdToKnoten.get(nodeIdArray[i]).getKoordinate();
+			kanteCoordinates[i - fromNode] = nodeSpeicher.getKoordinate(nodeIndexArray[i]);
 		}
 
-		return KoordinatenReferenzSystem.ETRS89_UTM32_N.getGeometryFactory().createLineString(kanteCoordinates);
+		// Transformiert jede Koordinate genau wie die Punkte der Knoten, so dass Start- und Endpunkt übereinstimmen
+		return (LineString) CoordinateReferenceSystemConverterUtility.transformGeometry(
+			KoordinatenReferenzSystem.WGS84.getGeometryFactory().createLineString(kanteCoordinates),
+			KoordinatenReferenzSystem.ETRS89_UTM32_N);
 	}
 
 	private boolean shouldImportWay(Way osmWay) {
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.integration.osm.domain;
+
+import static org.valid4j.Assertive.require;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.BitSet;
+
+import org.locationtech.jts.geom.Coordinate;
+
+/**
+ * Kompakter Speicher für die Positionen aller OSM-Nodes einer PBF-Datei und den Zustand, den der {@link OSMImportJob}
+ * pro Node benötigt.
+ * <p>
+ * OSM-IDs sind über einen sehr großen Wertebereich verteilt, ein direkt über die ID indiziertes Array wäre daher fast
+ * vollständig leer. Da sortierte PBF-Dateien die Nodes mit aufsteigender ID enthalten, werden IDs und Positionen
+ * stattdessen in der Reihenfolge des Einlesens in zwei off-heap Arrays abgelegt und per binärer Suche gefunden. Die
+ * Position in diesen Arrays ist der Index einer Node, über den auch alle weiteren Zustände adressiert werden.
+ * <p>
+ * Die Koordinaten werden wie in der PBF-Datei selbst als Festkommazahlen mit einer Auflösung von 100 Nanograd
+ * gespeichert, Breite und Länge gemeinsam in einem long. Pro Node werden so 16 Byte außerhalb des Heaps und zwei Bit
+ * auf dem Heap belegt, anstatt mehrerer Objekte in einer HashMap.
+ */
+final class OsmNodeSpeicher implements Closeable {
+
+	private static final double FESTKOMMA_FAKTOR = 1e7;
+
+	private final MemoryMappedLongArray nodeIds;
+	private final MemoryMappedLongArray positionen;
+	private final MemoryMappedLongArray knotenIds;
+
+	// Nodes, die auf mindestens einem zu importierenden Way liegen
+	private final BitSet besuchteNodes = new BitSet();
+
+	// Nodes, die tatsächlich zu Knoten werden (Grad 1 oder > 2)
+	private final BitSet knotenNodes = new BitSet();
+
+	OsmNodeSpeicher() throws IOException {
+		this.nodeIds = new MemoryMappedLongArray("osm-node-ids");
+		this.positionen = new MemoryMappedLongArray("osm-node-positionen");
+		this.knotenIds = new MemoryMappedLongArray("osm-knoten-ids");
+	}
+
+	/**
+	 * Die Nodes müssen mit aufsteigender ID übergeben werden, wie sie in sortierten PBF-Dateien vorliegen.
+	 */
+	void fuegeHinzu(long nodeId, double latitude, double longitude) {
+		long anzahl = nodeIds.laenge();
+		require(anzahl < Integer.MAX_VALUE, "Zu viele Nodes für den Node-Speicher");
+		require(anzahl == 0 || nodeIds.get(anzahl - 1) < nodeId,
+			"Die Nodes der PBF-Datei müssen aufsteigend nach ID sortiert sein");
+
+		nodeIds.fuegeHinzu(nodeId);
+		positionen.fuegeHinzu(packe(latitude, longitude));
+	}
+
+	int getAnzahlNodes() {
+		return (int) nodeIds.laenge();
+	}
+
+	/**
+	 * @return den Index der Node oder -1, wenn die Node nicht in der PBF-Datei enthalten ist
+	 */
+	int getIndex(long nodeId) {
+		long von = 0;
+		long bis = nodeIds.laenge() - 1;
+		while (von <= bis) {
+			long mitte = (von + bis) >>> 1;
+			long mitteId = nodeIds.get(mitte);
+			if (mitteId < nodeId) {
+				von = mitte + 1;
+			} else if (mitteId > nodeId) {
+				bis = mitte - 1;
+			} else {
+				return (int) mitte;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Liefert die WGS84-Koordinate der Node in der Achsenreihenfolge (lat, lon), die der Import bisher verwendet hat.
+	 */
+	Coordinate getKoordinate(int index) {
+		long position = positionen.get(index);
+		return new Coordinate((int) (position >> 32) / FESTKOMMA_FAKTOR, (int) position / FESTKOMMA_FAKTOR);
+	}
+
+	boolean istBesucht(int index) {
+		return besuchteNodes.get(index);
+	}
+
+	void markiereBesucht(int index) {
+		besuchteNodes.set(index);
+	}
+
+	boolean istKnoten(int index) {
+		return knotenNodes.get(index);
+	}
+
+	void setzeKnotenId(int index, long knotenId) {
+		knotenNodes.set(index);
+		knotenIds.setze(index, knotenId);
+	}
+
+	long getKnotenId(int index) {
+		require(istKnoten(index), "Für die Node wurde kein Knoten gespeichert");
+		return knotenIds.get(index);
+	}
+
+	int getAnzahlKnoten() {
+		return knotenNodes.cardinality();
+	}
+
+	private static long packe(double latitude, double longitude) {
+		int lat = (int) Math.round(latitude * FESTKOMMA_FAKTOR);
+		int lon = (int) Math.round(longitude * FESTKOMMA_FAKTOR);
+		return ((long) lat << 32) | (lon & 0xFFFFFFFFL);
+	}
+
+	@Override
+	public void close() throws IOException {
+		nodeIds.close();
+		positionen.close();
+		knotenIds.close();
+	}
+}
@@ -21,11 +21,14 @@ import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import de.wps.radvis.backend.common.domain.JobExecutionDescriptionRepository;
 import de.wps.radvis.backend.konsistenz.pruefung.domain.KonsistenzregelPruefJob;
 import de.wps.radvis.backend.konsistenz.pruefung.domain.KonsistenzregelVerletzungsRepository;
 import de.wps.radvis.backend.konsistenz.regeln.domain.Konsistenzregel;
+import de.wps.radvis.backend.konsistenz.regeln.domain.KonsistenzregelnConfigurationProperties;
 
 @Configuration
 @EnableJpaRepositories
@@ -40,8 +43,17 @@ public class KonsistenzregelPruefungsConfiguration {
 	@Autowired
 	private KonsistenzregelVerletzungsRepository verletzungsRepository;
 
+	@Autowired
+	private KonsistenzregelnConfigurationProperties konsistenzregelnConfigurationProperties;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
 	@Bean
 	public KonsistenzregelPruefJob konsistenzregelPruefJob() {
-		return new KonsistenzregelPruefJob(konsistenzregeln, verletzungsRepository, jobExecutionDescriptionRepository);
+		TransactionTemplate lesendeTransaktion = new TransactionTemplate(transactionManager);
+		lesendeTransaktion.setReadOnly(true);
+		return new KonsistenzregelPruefJob(konsistenzregeln, verletzungsRepository, jobExecutionDescriptionRepository,
+			lesendeTransaktion, konsistenzregelnConfigurationProperties.getAnzahlParallelerPruefungen());
 	}
 }
@@ -14,15 +14,26 @@
 
 package de.wps.radvis.backend.konsistenz.pruefung.domain;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.StreamSupport;
 
-import org.springframework.util.StopWatch;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.google.common.collect.Lists;
 
 import de.wps.radvis.backend.auditing.domain.AuditingContext;
 import de.wps.radvis.backend.auditing.domain.WithAuditing;
@@ -31,7 +42,6 @@ import de.wps.radvis.backend.common.domain.JobDescription;
 import de.wps.radvis.backend.common.domain.JobExecutionDescriptionRepository;
 import de.wps.radvis.backend.common.domain.JobExecutionDurationEstimate;
 import de.wps.radvis.backend.common.domain.RadVisDomainEventPublisher;
-import de.wps.radvis.backend.common.domain.RadVisStopWatchPrinter;
 import de.wps.radvis.backend.common.domain.annotation.SuppressChangedEvents;
 import de.wps.radvis.backend.common.domain.entity.AbstractJob;
 import de.wps.radvis.backend.common.domain.entity.JobExecutionDescription;
@@ -46,15 +56,32 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class KonsistenzregelPruefJob extends AbstractJob {
-	private List<Konsistenzregel> regeln;
-	private KonsistenzregelVerletzungsRepository verletzungsRepository;
 
+	// Hält die IN-Liste beim Löschen deutlich unter dem Parameter-Limit von Postgres
+	static final int LOESCH_BATCH_GROESSE = 10_000;
+
+	private final List<Konsistenzregel> regeln;
+	private final KonsistenzregelVerletzungsRepository verletzungsRepository;
+	private final TransactionOperations lesendeTransaktion;
+	private final int anzahlParallelerPruefungen;
+
+	/**
+	 * @param lesendeTransaktion
+	 *     Transaktion, in der eine Regel auf einem Worker-Thread geprüft wird. Jeder Worker bekommt so eine eigene
+	 *     Verbindung. Die Regeln lesen nur, die Transaktion sollte daher read-only sein.
+	 * @param anzahlParallelerPruefungen
+	 *     Anzahl der gleichzeitig geprüften Regeln. Bei höchstens 1 werden die Regeln nacheinander in der Transaktion
+	 *     des Jobs geprüft.
+	 */
 	public KonsistenzregelPruefJob(List<Konsistenzregel> regeln,
 		KonsistenzregelVerletzungsRepository verletzungsRepository,
-		JobExecutionDescriptionRepository jobExecutionDescriptionRepository) {
+		JobExecutionDescriptionRepository jobExecutionDescriptionRepository,
+		TransactionOperations lesendeTransaktion, int anzahlParallelerPruefungen) {
 		super(jobExecutionDescriptionRepository);
 		this.verletzungsRepository = verletzungsRepository;
 		this.regeln = regeln;
+		this.lesendeTransaktion = lesendeTransaktion;
+		this.anzahlParallelerPruefungen = anzahlParallelerPruefungen;
 	}
 
 	@Override
@@ -77,81 +104,143 @@ public class KonsistenzregelPruefJob extends AbstractJob {
 	protected Optional<JobStatistik> doRun() {
 		KonsistenzregelPruefJobStatistik statistik = new KonsistenzregelPruefJobStatistik();
 		LocalDateTime datum = LocalDateTime.now();
-		StopWatch stopWatch = new StopWatch();
-
-		regeln.forEach(regel -> {
-			String regelClassSimpleName = regel.getClass().getSimpleName();
-			log.info("Pruefe Konsistenzregel " + regelClassSimpleName);
-			stopWatch.start(regelClassSimpleName);
-			List<KonsistenzregelVerletzungsDetails> aktuelleVerletzungenDetails = regel.pruefen();
-			statistik.anzahlAktuellProRegel.put(regelClassSimpleName, aktuelleVerletzungenDetails.size());
-			log.info("Konsistenzregel " + regelClassSimpleName + " wurde geprüft.");
-			stopWatch.stop();
-
-			List<String> aktuelleVerletzungenIdentities = aktuelleVerletzungenDetails.stream().map(
-				KonsistenzregelVerletzungsDetails::getIdentity).collect(Collectors.toList());
-			List<KonsistenzregelVerletzung> bestehendeVerletzungen = verletzungsRepository.findAllByTyp(
-				regel.getVerletzungsTyp());
-			List<String> bestehendeVerletzungenIdentities = bestehendeVerletzungen.stream().map(
-				KonsistenzregelVerletzung::getIdentity).collect(Collectors.toList());
-			statistik.anzahlBestehendProRegel.put(regelClassSimpleName, bestehendeVerletzungen.size());
-
-			// Lösche nicht mehr gefundene Verletzungen
-			List<String> nichtMehrGefundeneVerletzungenIdentities = bestehendeVerletzungenIdentities.stream()
-				.filter(bv -> !aktuelleVerletzungenIdentities.contains(bv)).collect(Collectors.toList());
-			int deleteCount = verletzungsRepository.deleteAllByTypAndIdentityIn(
-				regel.getVerletzungsTyp(),
-				nichtMehrGefundeneVerletzungenIdentities);
-			statistik.anzahlDeletedProRegel.put(regelClassSimpleName, deleteCount);
-
-			if (FeatureTogglz.UMGESETZT_STATUS_AN_ANPASSUNGSWUENSCHEN_SCHREIBEN.isActive()) {
-				RadVisDomainEventPublisher.publish(
-					new KonsistenzregelVerletzungenDeletedEvent(regel.getVerletzungsTyp(),
-						nichtMehrGefundeneVerletzungenIdentities));
-			}
 
-			// Update weiterhin bestehende Verletzungen
-			List<KonsistenzregelVerletzung> zuAktualisierendeVerletzungen = bestehendeVerletzungen.stream().filter(
-				weiterhinBestehendeVerletzung -> aktuelleVerletzungenDetails.stream().anyMatch(
-					avd -> avd.getIdentity().equals(weiterhinBestehendeVerletzung.getIdentity())
-						&& !weiterhinBestehendeVerletzung.hasEqualDetails(avd))).collect(Collectors.toList());
-
-			zuAktualisierendeVerletzungen.forEach(
-				zuAktualisierendeVerletzung -> aktuelleVerletzungenDetails.stream()
-					.filter(avd -> avd.getIdentity().equals(zuAktualisierendeVerletzung.getIdentity()))
-					.findFirst()
-					.ifPresent(d -> zuAktualisierendeVerletzung.update(d, datum)));
-
-			Iterable<KonsistenzregelVerletzung> aktualisierteVerletzungen = verletzungsRepository.saveAll(
-				zuAktualisierendeVerletzungen);
-
-			statistik.anzahlUpdatedProRegel.put(regelClassSimpleName,
-				(int) StreamSupport.stream(aktualisierteVerletzungen.spliterator(), false).count());
-
-			// Erzeuge neu gefundene Verletzungen
-			List<KonsistenzregelVerletzung> neuGefundeneVerletzungen = aktuelleVerletzungenDetails.stream()
-				.filter(av -> !bestehendeVerletzungenIdentities.contains(av.getIdentity()))
-				.map(avd -> new KonsistenzregelVerletzung(avd, datum, regel.getTitel(),
-					regel.getVerletzungsTyp())).collect(Collectors.toList());
-
-			Iterable<KonsistenzregelVerletzung> erstellteVerletzungen = verletzungsRepository.saveAll(
-				neuGefundeneVerletzungen);
-			statistik.anzahlCreatedProRegel.put(regelClassSimpleName,
-				(int) StreamSupport.stream(erstellteVerletzungen.spliterator(), false).count());
-		});
+		regeln.forEach(Konsistenzregel::beginnePruefLauf);
+		try {
+			pruefeRegeln(datum, statistik);
+		} finally {
+			regeln.forEach(Konsistenzregel::beendePruefLauf);
+		}
 
 		log.info("Verletzungen vorheriger Durchlauf " + statistik.anzahlBestehendProRegel);
 		log.info("Verletzungen aktueller Durchlauf " + statistik.anzahlAktuellProRegel);
 		log.info("Geloeschte Verletzungen " + statistik.anzahlDeletedProRegel);
 		log.info("Aktualisierte Verletzungen " + statistik.anzahlUpdatedProRegel);
 		log.info("Erzeugte Verletzungen " + statistik.anzahlCreatedProRegel);
-		Map<String, String> verletzteRegeln = new HashMap<>();  // leerer Dummy
-		statistik.dauerProRegel = RadVisStopWatchPrinter.stringify(stopWatch, verletzteRegeln);
-		log.info("Dauer pro Regel \n{}", statistik.dauerProRegel);
+		log.info("Dauer pro Regel in ms " + statistik.dauerInMillisekundenProRegel);
 
 		return Optional.of(statistik);
 	}
 
+	private void pruefeRegeln(LocalDateTime datum, KonsistenzregelPruefJobStatistik statistik) {
+		if (anzahlParallelerPruefungen <= 1 || regeln.size() <= 1) {
+			regeln.forEach(regel -> uebernehmeErgebnis(regel, pruefe(regel), datum, statistik));
+			return;
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(
+			Math.min(anzahlParallelerPruefungen, regeln.size()), workerThreadFactory());
+		try {
+			// Die Regeln laufen nebenläufig, die Ergebnisse werden aber in der Reihenfolge der Regeln auf dem
+			// Job-Thread und damit in dessen Transaktion geschrieben.
+			List<Future<PruefErgebnis>> ergebnisse = new ArrayList<>();
+			regeln.forEach(regel -> ergebnisse.add(
+				executor.submit(() -> lesendeTransaktion.<PruefErgebnis>execute(status -> pruefe(regel)))));
+			for (int i = 0; i < regeln.size(); i++) {
+				uebernehmeErgebnis(regeln.get(i), warteAuf(ergebnisse.get(i)), datum, statistik);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private PruefErgebnis pruefe(Konsistenzregel regel) {
+		String regelClassSimpleName = regel.getClass().getSimpleName();
+		log.info("Pruefe Konsistenzregel " + regelClassSimpleName);
+		long start = System.nanoTime();
+		List<KonsistenzregelVerletzungsDetails> verletzungen = regel.pruefen();
+		Duration dauer = Duration.ofNanos(System.nanoTime() - start);
+		log.info("Konsistenzregel {} wurde in {} ms geprüft.", regelClassSimpleName, dauer.toMillis());
+		return new PruefErgebnis(verletzungen, dauer);
+	}
+
+	private void uebernehmeErgebnis(Konsistenzregel regel, PruefErgebnis ergebnis, LocalDateTime datum,
+		KonsistenzregelPruefJobStatistik statistik) {
+		String regelClassSimpleName = regel.getClass().getSimpleName();
+		List<KonsistenzregelVerletzungsDetails> aktuelleVerletzungenDetails = ergebnis.verletzungen();
+		statistik.anzahlAktuellProRegel.put(regelClassSimpleName, aktuelleVerletzungenDetails.size());
+		statistik.dauerInMillisekundenProRegel.put(regelClassSimpleName, ergebnis.dauer().toMillis());
+
+		// Bei mehrfach gemeldeter Identität gelten wie bisher die zuerst gemeldeten Details
+		Map<String, KonsistenzregelVerletzungsDetails> aktuelleVerletzungenNachIdentity = new LinkedHashMap<>();
+		aktuelleVerletzungenDetails.forEach(
+			avd -> aktuelleVerletzungenNachIdentity.putIfAbsent(avd.getIdentity(), avd));
+
+		List<KonsistenzregelVerletzung> bestehendeVerletzungen = verletzungsRepository.findAllByTyp(
+			regel.getVerletzungsTyp());
+		Set<String> bestehendeVerletzungenIdentities = new HashSet<>();
+		bestehendeVerletzungen.forEach(bv -> bestehendeVerletzungenIdentities.add(bv.getIdentity()));
+		statistik.anzahlBestehendProRegel.put(regelClassSimpleName, bestehendeVerletzungen.size());
+
+		// Lösche nicht mehr gefundene Verletzungen, aktualisiere weiterhin bestehende
+		List<String> nichtMehrGefundeneVerletzungenIdentities = new ArrayList<>();
+		List<KonsistenzregelVerletzung> zuAktualisierendeVerletzungen = new ArrayList<>();
+		bestehendeVerletzungen.forEach(bestehendeVerletzung -> {
+			KonsistenzregelVerletzungsDetails aktuelleDetails = aktuelleVerletzungenNachIdentity.get(
+				bestehendeVerletzung.getIdentity());
+			if (aktuelleDetails == null) {
+				nichtMehrGefundeneVerletzungenIdentities.add(bestehendeVerletzung.getIdentity());
+			} else if (!bestehendeVerletzung.hasEqualDetails(aktuelleDetails)) {
+				bestehendeVerletzung.update(aktuelleDetails, datum);
+				zuAktualisierendeVerletzungen.add(bestehendeVerletzung);
+			}
+		});
+
+		int deleteCount = 0;
+		for (List<String> batch : Lists.partition(nichtMehrGefundeneVerletzungenIdentities, LOESCH_BATCH_GROESSE)) {
+			deleteCount += verletzungsRepository.deleteAllByTypAndIdentityIn(regel.getVerletzungsTyp(), batch);
+		}
+		statistik.anzahlDeletedProRegel.put(regelClassSimpleName, deleteCount);
+
+		if (FeatureTogglz.UMGESETZT_STATUS_AN_ANPASSUNGSWUENSCHEN_SCHREIBEN.isActive()) {
+			RadVisDomainEventPublisher.publish(
+				new KonsistenzregelVerletzungenDeletedEvent(regel.getVerletzungsTyp(),
+					nichtMehrGefundeneVerletzungenIdentities));
+		}
+
+		Iterable<KonsistenzregelVerletzung> aktualisierteVerletzungen = verletzungsRepository.saveAll(
+			zuAktualisierendeVerletzungen);
+		statistik.anzahlUpdatedProRegel.put(regelClassSimpleName,
+			(int) StreamSupport.stream(aktualisierteVerletzungen.spliterator(), false).count());
+
+		// Erzeuge neu gefundene Verletzungen
+		List<KonsistenzregelVerletzung> neuGefundeneVerletzungen = aktuelleVerletzungenDetails.stream()
+			.filter(avd -> !bestehendeVerletzungenIdentities.contains(avd.getIdentity()))
+			.map(avd -> new KonsistenzregelVerletzung(avd, datum, regel.getTitel(), regel.getVerletzungsTyp()))
+			.toList();
+
+		Iterable<KonsistenzregelVerletzung> erstellteVerletzungen = verletzungsRepository.saveAll(
+			neuGefundeneVerletzungen);
+		statistik.anzahlCreatedProRegel.put(regelClassSimpleName,
+			(int) StreamSupport.stream(erstellteVerletzungen.spliterator(), false).count());
+	}
+
+	private static <T> T warteAuf(Future<T> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Die Prüfung der Konsistenzregeln wurde unterbrochen.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	private static ThreadFactory workerThreadFactory() {
+		AtomicInteger threadNummer = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "konsistenzregel-pruefung-worker-" + threadNummer.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	private record PruefErgebnis(List<KonsistenzregelVerletzungsDetails> verletzungen, Duration dauer) {
+	}
+
 	@Override
 	public JobDescription getDescription() {
 		return new JobDescription(
@@ -15,6 +15,7 @@
 package de.wps.radvis.backend.konsistenz.pruefung.domain.entity;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
@@ -29,7 +30,7 @@ public class KonsistenzregelPruefJobStatistik extends JobStatistik {
 	public Map<String, Integer> anzahlCreatedProRegel = new HashMap<>();
 	public Map<String, Integer> anzahlBestehendProRegel = new HashMap<>();
 	public Map<String, Integer> anzahlAktuellProRegel = new HashMap<>();
-	public String dauerProRegel;
+	public Map<String, Long> dauerInMillisekundenProRegel = new LinkedHashMap<>();
 
 	@Override
 	public String toString() {
@@ -19,8 +19,8 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import de.wps.radvis.backend.konsistenz.regeln.domain.valueObject.KonsistenzregelVerletzungsDetails;
-import de.wps.radvis.backend.netz.domain.entity.Knoten;
 import de.wps.radvis.backend.netz.domain.service.SackgassenService;
+import de.wps.radvis.backend.netz.domain.valueObject.KnotenGrad;
 import de.wps.radvis.backend.netz.domain.valueObject.Netzklasse;
 import lombok.AllArgsConstructor;
 
@@ -31,12 +31,22 @@ abstract public class AbstractNetzklassenLueckeKonsistenzregel implements Konsis
 
 	@Override
 	public List<KonsistenzregelVerletzungsDetails> pruefen() {
-		return sackgassenService.bestimmeSackgassenknotenVonKantenFuerNetzklasse(getNetzklassen())
+		return sackgassenService.bestimmeSackgassenknotenFuerNetzklassen(getNetzklassen())
 			.stream()
 			.map(this::createVerletzungDetails)
 			.collect(Collectors.toList());
 	}
 
+	@Override
+	public void beginnePruefLauf() {
+		sackgassenService.aktiviereNetzklassenTopologieCache();
+	}
+
+	@Override
+	public void beendePruefLauf() {
+		sackgassenService.verwerfeNetzklassenTopologieCache();
+	}
+
 	@Override
 	public RegelGruppe getGruppe() {
 		return RegelGruppe.DATENPRUEFUNG;
@@ -46,10 +56,10 @@ abstract public class AbstractNetzklassenLueckeKonsistenzregel implements Konsis
 
 	abstract protected String getBeschreibung();
 
-	private KonsistenzregelVerletzungsDetails createVerletzungDetails(Knoten knoten) {
+	private KonsistenzregelVerletzungsDetails createVerletzungDetails(KnotenGrad knoten) {
 		return new KonsistenzregelVerletzungsDetails(
 			knoten.getPoint(),
 			getBeschreibung(),
-			knoten.getId().toString());
+			knoten.getKnotenId().toString());
 	}
 }
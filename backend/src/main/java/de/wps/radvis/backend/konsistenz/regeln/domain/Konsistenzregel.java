@@ -46,4 +46,17 @@ public interface Konsistenzregel {
 	 * @return
 	 */
 	RegelGruppe getGruppe();
+
+	/**
+	 * Wird vom KonsistenzregelPruefJob vor der ersten Prüfung eines Laufs aufgerufen. Regeln können hier Caches
+	 * aktivieren, die sie sich mit anderen Regeln desselben Laufs teilen.
+	 */
+	default void beginnePruefLauf() {
+	}
+
+	/**
+	 * Wird nach der letzten Prüfung eines Laufs aufgerufen, auch wenn eine Prüfung fehlgeschlagen ist.
+	 */
+	default void beendePruefLauf() {
+	}
 }
@@ -28,9 +28,17 @@ public class KonsistenzregelnConfigurationProperties {
 
 	private final Integer beschilderungMaxEntfernungVonRoute;
 
+	/**
+	 * Anzahl der Konsistenzregeln, die der KonsistenzregelPruefJob gleichzeitig auf eigenen Verbindungen prüft.
+	 */
+	private final int anzahlParallelerPruefungen;
+
 	@ConstructorBinding
-	public KonsistenzregelnConfigurationProperties(Integer beschilderungMaxEntfernungVonRoute) {
+	public KonsistenzregelnConfigurationProperties(Integer beschilderungMaxEntfernungVonRoute,
+		int anzahlParallelerPruefungen) {
 		require(beschilderungMaxEntfernungVonRoute, notNullValue());
+		require(anzahlParallelerPruefungen >= 1, "Anzahl paralleler Prüfungen muss größer 0 sein");
 		this.beschilderungMaxEntfernungVonRoute = beschilderungMaxEntfernungVonRoute;
+		this.anzahlParallelerPruefungen = anzahlParallelerPruefungen;
 	}
 }
@@ -34,6 +34,7 @@ import de.wps.radvis.backend.manuellerimport.attributeimport.schnittstelle.repos
 import de.wps.radvis.backend.manuellerimport.common.domain.repository.InMemoryKantenRepositoryFactory;
 import de.wps.radvis.backend.manuellerimport.common.domain.repository.ManuellerImportFehlerRepository;
 import de.wps.radvis.backend.manuellerimport.common.domain.service.ManuellerImportService;
+import de.wps.radvis.backend.manuellerimport.common.domain.service.ParallelerAbbilder;
 import de.wps.radvis.backend.matching.domain.service.GrundnetzMappingService;
 import de.wps.radvis.backend.netz.domain.NetzConfigurationProperties;
 import de.wps.radvis.backend.netz.domain.repository.KantenRepository;
@@ -47,6 +48,9 @@ public class AttributeImportConfiguration {
 	@Autowired
 	private VerwaltungseinheitService verwaltungseinheitService;
 
+	@Autowired
+	private ParallelerAbbilder parallelerAbbilder;
+
 	@Autowired
 	private BenutzerResolver benutzerResolver;
 
@@ -83,7 +87,7 @@ public class AttributeImportConfiguration {
 	@Bean
 	public ManuellerAttributeImportAbbildungsService attributeAbbildungsService() {
 		return new ManuellerAttributeImportAbbildungsService(inMemoryKantenRepositoryFactory,
-			grundnetzMappingService);
+			grundnetzMappingService, parallelerAbbilder);
 	}
 
 	@Bean
@@ -84,6 +84,11 @@ public class AttributeImportSession extends AbstractImportSession {
 			.filter(featureMapping -> featureMapping.getKantenAufDieGemappedWurde().isEmpty()).count();
 	}
 
+	@Override
+	public long getAnzahlFeatures() {
+		return featureMappings == null ? 0 : featureMappings.size();
+	}
+
 	@Override
 	public MultiPolygon getBereich() {
 		return organisation.getBereich()
@@ -21,8 +21,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
 
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.locationtech.jts.geom.Envelope;
@@ -32,12 +30,12 @@ import de.wps.radvis.backend.common.domain.SimpleFeatureTypeFactory;
 import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
 import de.wps.radvis.backend.common.domain.valueObject.QuellSystem;
 import de.wps.radvis.backend.manuellerimport.attributeimport.domain.entity.FeatureMapping;
-import de.wps.radvis.backend.manuellerimport.common.FortschrittLogger;
 import de.wps.radvis.backend.manuellerimport.common.domain.entity.AbstractImportSession;
 import de.wps.radvis.backend.manuellerimport.common.domain.exception.GeometryTypeMismatchException;
 import de.wps.radvis.backend.manuellerimport.common.domain.repository.InMemoryKantenRepository;
 import de.wps.radvis.backend.manuellerimport.common.domain.repository.InMemoryKantenRepositoryFactory;
 import de.wps.radvis.backend.manuellerimport.common.domain.service.AbstractManuellerImportAbbildungsService;
+import de.wps.radvis.backend.manuellerimport.common.domain.service.ParallelerAbbilder;
 import de.wps.radvis.backend.manuellerimport.common.domain.valueobject.ImportLogEintrag;
 import de.wps.radvis.backend.matching.domain.entity.MatchingStatistik;
 import de.wps.radvis.backend.matching.domain.service.GrundnetzMappingService;
@@ -52,47 +50,46 @@ public class ManuellerAttributeImportAbbildungsService extends AbstractManueller
 
 	private final InMemoryKantenRepositoryFactory inMemoryKantenRepositoryFactory;
 	private final GrundnetzMappingService grundnetzMappingService;
+	private final ParallelerAbbilder parallelerAbbilder;
 
 	public ManuellerAttributeImportAbbildungsService(
 		InMemoryKantenRepositoryFactory inMemoryKantenRepositoryFactory,
-		GrundnetzMappingService grundnetzMappingService) {
+		GrundnetzMappingService grundnetzMappingService, ParallelerAbbilder parallelerAbbilder) {
 		this.inMemoryKantenRepositoryFactory = inMemoryKantenRepositoryFactory;
 		this.grundnetzMappingService = grundnetzMappingService;
+		this.parallelerAbbilder = parallelerAbbilder;
 	}
 
 	public List<FeatureMapping> bildeFeaturesAb(List<SimpleFeature> featuresInBereich,
 		AbstractImportSession importSession) {
-		MatchingStatistik matchingStatistik = new MatchingStatistik();
 		InMemoryKantenRepository inMemoryKantenRepository = inMemoryKantenRepositoryFactory
 			.create(importSession.getBereich());
 
-		AtomicInteger fortschritt = new AtomicInteger(0);
-		AtomicLong index = new AtomicLong(0);
-		log.info("Bilde erstellte features auf Kanten ab...");
+		long index = 0;
 		List<FeatureMapping> abgebildeteFeatures = new ArrayList<>();
-
-		featuresInBereich.forEach(feature -> {
-			LineString linestring = null;
+		for (SimpleFeature feature : featuresInBereich) {
 			try {
-				linestring = extractLinestring(feature);
+				LineString linestring = extractLinestring(feature);
+				abgebildeteFeatures.add(new FeatureMapping(index++, extractAttribute(feature), linestring));
 			} catch (GeometryTypeMismatchException e) {
 				importSession.addLogEintrag(
 					ImportLogEintrag
 						.ofWarnung("Feature " + feature.getID() + " wird nicht importiert: " + e.getMessage()));
 			}
+		}
+
+		log.info("Bilde {} erstellte features auf Kanten ab...", abgebildeteFeatures.size());
+		// Jedes Matching verändert nur sein eigenes FeatureMapping und zählt in einer eigenen Statistik, die
+		// Statistiken werden danach zusammengeführt.
+		List<MatchingStatistik> matchingStatistiken = parallelerAbbilder.bildeAb(abgebildeteFeatures,
+			featureMapping -> {
+				MatchingStatistik statistik = new MatchingStatistik();
+				matcheFeatureMapping(featureMapping, statistik, inMemoryKantenRepository);
+				return statistik;
+			}, importSession);
 
-			if (linestring != null) {
-				Map<String, Object> attribute = extractAttribute(feature);
-				FeatureMapping featureMapping = new FeatureMapping(index.getAndIncrement(), attribute, linestring);
-
-				featureMapping = matcheFeatureMapping(featureMapping, matchingStatistik, inMemoryKantenRepository);
-
-				abgebildeteFeatures.add(featureMapping);
-			}
-
-			FortschrittLogger.logProgressInPercent(featuresInBereich.size(), fortschritt, 4);
-		});
-
+		MatchingStatistik matchingStatistik = new MatchingStatistik();
+		matchingStatistiken.forEach(matchingStatistik::addiere);
 		log.info("Matchingstatistik:");
 		log.info(matchingStatistik.toString());
 		log.info("Attributabbildung fertig");
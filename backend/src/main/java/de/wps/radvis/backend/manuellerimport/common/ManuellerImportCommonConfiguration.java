@@ -22,17 +22,21 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 import de.wps.radvis.backend.common.domain.repository.ShapeFileRepository;
 import de.wps.radvis.backend.common.domain.service.ShapeZipService;
+import de.wps.radvis.backend.manuellerimport.common.domain.ManuellerImportConfigurationProperties;
 import de.wps.radvis.backend.manuellerimport.common.domain.repository.ImportSessionRepository;
 import de.wps.radvis.backend.manuellerimport.common.domain.repository.ImportSessionRepositoryImpl;
 import de.wps.radvis.backend.manuellerimport.common.domain.repository.InMemoryKantenRepositoryFactory;
 import de.wps.radvis.backend.manuellerimport.common.domain.repository.ManuellerImportFehlerRepository;
 import de.wps.radvis.backend.manuellerimport.common.domain.service.ManuellerImportService;
+import de.wps.radvis.backend.manuellerimport.common.domain.service.ParallelerAbbilder;
 import de.wps.radvis.backend.netz.domain.repository.KantenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @EnableJpaRepositories
 @EntityScan
 @Configuration
 public class ManuellerImportCommonConfiguration {
+
 	@Autowired
 	private KantenRepository kantenRepository;
 
@@ -45,11 +49,22 @@ public class ManuellerImportCommonConfiguration {
 	@Autowired
 	private ShapeFileRepository shapeFileRepository;
 
+	@Autowired
+	private ManuellerImportConfigurationProperties manuellerImportConfigurationProperties;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
 	@Bean
 	public InMemoryKantenRepositoryFactory inMemoryKantenRepositoryFactory() {
 		return new InMemoryKantenRepositoryFactory(kantenRepository);
 	}
 
+	@Bean
+	public ParallelerAbbilder parallelerAbbilder() {
+		return new ParallelerAbbilder(manuellerImportConfigurationProperties.getAnzahlParallelerAbbildungen());
+	}
+
 	@Bean
 	public ManuellerImportService manuellerImportService() {
 		return new ManuellerImportService(netzklassenImportSessionRepository(), shapeZipService, shapeFileRepository,
@@ -58,6 +73,8 @@ public class ManuellerImportCommonConfiguration {
 
 	@Bean
 	public ImportSessionRepository netzklassenImportSessionRepository() {
-		return new ImportSessionRepositoryImpl();
+		return new ImportSessionRepositoryImpl(
+			manuellerImportConfigurationProperties.getMaximaleLeerlaufzeitImportSession(),
+			manuellerImportConfigurationProperties.getMaximaleAnzahlImportSessions(), meterRegistry);
 	}
 }
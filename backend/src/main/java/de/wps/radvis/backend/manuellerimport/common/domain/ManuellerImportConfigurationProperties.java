@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.manuellerimport.common.domain;
+
+import static org.valid4j.Assertive.require;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+import lombok.Getter;
+
+@ConfigurationProperties("radvis.manuellerimport")
+@Getter
+public class ManuellerImportConfigurationProperties {
+
+	private final Duration maximaleLeerlaufzeitImportSession;
+
+	private final int maximaleAnzahlImportSessions;
+
+	private final int anzahlParallelerAbbildungen;
+
+	@ConstructorBinding
+	public ManuellerImportConfigurationProperties(int maximaleLeerlaufzeitImportSessionInStunden,
+		int maximaleAnzahlImportSessions, int anzahlParallelerAbbildungen) {
+		require(maximaleLeerlaufzeitImportSessionInStunden >= 1,
+			"maximaleLeerlaufzeitImportSessionInStunden muss mindestens 1 sein");
+		require(maximaleAnzahlImportSessions >= 1, "maximaleAnzahlImportSessions muss mindestens 1 sein");
+		require(anzahlParallelerAbbildungen >= 1, "anzahlParallelerAbbildungen muss mindestens 1 sein");
+
+		this.maximaleLeerlaufzeitImportSession = Duration.ofHours(maximaleLeerlaufzeitImportSessionInStunden);
+		this.maximaleAnzahlImportSessions = maximaleAnzahlImportSessions;
+		this.anzahlParallelerAbbildungen = anzahlParallelerAbbildungen;
+	}
+}
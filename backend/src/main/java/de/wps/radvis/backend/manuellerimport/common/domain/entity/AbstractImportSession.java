@@ -19,6 +19,7 @@ import static org.valid4j.Assertive.require;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.locationtech.jts.geom.MultiPolygon;
 
@@ -27,6 +28,7 @@ import de.wps.radvis.backend.manuellerimport.common.domain.valueobject.Automatis
 import de.wps.radvis.backend.manuellerimport.common.domain.valueobject.ImportLogEintrag;
 import de.wps.radvis.backend.manuellerimport.common.domain.valueobject.ImportSessionSchritt;
 import de.wps.radvis.backend.manuellerimport.common.domain.valueobject.Severity;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -48,6 +50,13 @@ public abstract class AbstractImportSession {
 
 	protected List<ImportLogEintrag> log;
 
+	// Fortschritt der laufenden automatischen Abbildung. Wird von den Matching-Threads fortgeschrieben und parallel
+	// von Requests auf die Session gelesen.
+	@Getter(AccessLevel.NONE)
+	private final AtomicInteger anzahlAbgebildeterFeatures = new AtomicInteger();
+
+	private volatile int anzahlAbzubildenderFeatures;
+
 	public AbstractImportSession(Benutzer benutzer) {
 		super();
 		require(benutzer, notNullValue());
@@ -66,8 +75,28 @@ public abstract class AbstractImportSession {
 		log.add(fehler);
 	}
 
+	public void starteAbbildung(int anzahlAbzubildenderFeatures) {
+		require(anzahlAbzubildenderFeatures >= 0, "Anzahl abzubildender Features darf nicht negativ sein");
+
+		this.anzahlAbgebildeterFeatures.set(0);
+		this.anzahlAbzubildenderFeatures = anzahlAbzubildenderFeatures;
+	}
+
+	public void meldeFeatureAbgebildet() {
+		anzahlAbgebildeterFeatures.incrementAndGet();
+	}
+
+	public int getAnzahlAbgebildeterFeatures() {
+		return anzahlAbgebildeterFeatures.get();
+	}
+
 	public abstract long getAnzahlFeaturesOhneMatch();
 
+	/**
+	 * Anzahl der Features bzw. Zuordnungen, die die Session hält. Dient als Maß für ihren Speicherbedarf.
+	 */
+	public abstract long getAnzahlFeatures();
+
 	public abstract MultiPolygon getBereich();
 
 	public abstract String getBereichName();
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.manuellerimport.common.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ImportSessionKapazitaetErschoepftException extends RuntimeException {
+
+	private static final long serialVersionUID = 2319004813554628379L;
+
+	public ImportSessionKapazitaetErschoepftException(int maximaleAnzahlSessions) {
+		super(String.format("Es werden bereits %d manuelle Importe bearbeitet. Ein neuer Import kann erst begonnen "
+			+ "werden, wenn einer davon abgeschlossen oder abgebrochen wurde. Bitte versuchen Sie es später erneut.",
+			maximaleAnzahlSessions));
+	}
+}
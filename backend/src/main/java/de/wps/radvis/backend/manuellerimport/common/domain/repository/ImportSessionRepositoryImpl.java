@@ -18,33 +18,110 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.valid4j.Assertive.ensure;
 import static org.valid4j.Assertive.require;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 import de.wps.radvis.backend.benutzer.domain.entity.Benutzer;
 import de.wps.radvis.backend.manuellerimport.common.domain.entity.AbstractImportSession;
-
+import de.wps.radvis.backend.manuellerimport.common.domain.exception.ImportSessionKapazitaetErschoepftException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hält die Import-Sessions der Benutzer im Speicher und begrenzt dabei deren Anzahl.
+ * <p>
+ * Eine Session bleibt erhalten, bis der Benutzer sie abschließt oder abbricht. Nur wenn die maximale Anzahl Sessions
+ * erreicht ist und ein weiterer Benutzer einen Import beginnt, gilt eine Session, auf die länger als die maximale
+ * Leerlaufzeit nicht zugegriffen wurde, als aufgegeben und macht ihren Platz frei. Sessions, deren automatischer Import
+ * gerade läuft ({@link AbstractImportSession#isExecuting()}), gelten nie als aufgegeben. Gibt es keine aufgegebene
+ * Session, wird der neue Import mit einer {@link ImportSessionKapazitaetErschoepftException} abgelehnt, die dem
+ * Benutzer angezeigt wird.
+ */
+@Slf4j
 public class ImportSessionRepositoryImpl implements ImportSessionRepository {
 
-	private final Map<Benutzer, AbstractImportSession> map;
+	private static class Eintrag {
+		private final AbstractImportSession session;
+		private Instant letzterZugriff;
+
+		private Eintrag(AbstractImportSession session, Instant letzterZugriff) {
+			this.session = session;
+			this.letzterZugriff = letzterZugriff;
+		}
+	}
+
+	private final Duration maximaleLeerlaufzeit;
+	private final int maximaleAnzahlSessions;
+	private final Clock clock;
+
+	// In Zugriffsreihenfolge, die am längsten nicht genutzte Session steht vorne
+	private final Map<Benutzer, Eintrag> map = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final Counter wegenLeerlaufVerworfen;
+	private final Counter wegenKapazitaetAbgelehnt;
+
+	public ImportSessionRepositoryImpl(@NonNull Duration maximaleLeerlaufzeit, int maximaleAnzahlSessions,
+		@NonNull MeterRegistry meterRegistry) {
+		this(maximaleLeerlaufzeit, maximaleAnzahlSessions, meterRegistry, Clock.systemDefaultZone());
+	}
 
-	public ImportSessionRepositoryImpl() {
-		this.map = new ConcurrentHashMap<>();
+	ImportSessionRepositoryImpl(@NonNull Duration maximaleLeerlaufzeit, int maximaleAnzahlSessions,
+		@NonNull MeterRegistry meterRegistry, @NonNull Clock clock) {
+		require(!maximaleLeerlaufzeit.isNegative() && !maximaleLeerlaufzeit.isZero(),
+			"Die maximale Leerlaufzeit muss positiv sein");
+		require(maximaleAnzahlSessions >= 1, "Die maximale Anzahl Sessions muss größer 0 sein");
+		this.maximaleLeerlaufzeit = maximaleLeerlaufzeit;
+		this.maximaleAnzahlSessions = maximaleAnzahlSessions;
+		this.clock = clock;
+
+		this.wegenLeerlaufVerworfen = Counter.builder("radvis.manuellerimport.sessions.verworfen")
+			.tag("grund", "leerlauf")
+			.description("Aufgegebene Import-Sessions, die für den Import eines anderen Benutzers verworfen wurden")
+			.register(meterRegistry);
+		this.wegenKapazitaetAbgelehnt = Counter.builder("radvis.manuellerimport.sessions.abgelehnt")
+			.description("Neue Import-Sessions, die wegen Erreichens der maximalen Anzahl abgelehnt wurden")
+			.register(meterRegistry);
+		Gauge.builder("radvis.manuellerimport.sessions.anzahl", this, ImportSessionRepositoryImpl::getAnzahlSessions)
+			.description("Anzahl der gehaltenen Import-Sessions")
+			.register(meterRegistry);
+		Gauge.builder("radvis.manuellerimport.sessions.features", this,
+				ImportSessionRepositoryImpl::getAnzahlFeatures)
+			.description("Summe der Features bzw. Zuordnungen aller gehaltenen Import-Sessions")
+			.register(meterRegistry);
 	}
 
+	/**
+	 * @throws ImportSessionKapazitaetErschoepftException
+	 *     wenn der Benutzer noch keine Session hat, die maximale Anzahl Sessions erreicht ist und keine davon
+	 *     aufgegeben wurde
+	 */
 	@Override
-	public void save(AbstractImportSession importSession) {
+	public synchronized void save(AbstractImportSession importSession) {
 		require(importSession, notNullValue());
 		require(importSession.getBenutzer(), notNullValue());
 
-		this.map.put(importSession.getBenutzer(), importSession);
+		if (!map.containsKey(importSession.getBenutzer()) && map.size() >= maximaleAnzahlSessions
+			&& !verwerfeAufgegebeneSession()) {
+			log.warn("Neue ImportSession von Benutzer-Id {} abgelehnt, da bereits {} Sessions gehalten werden",
+				importSession.getBenutzer().getId(), map.size());
+			wegenKapazitaetAbgelehnt.increment();
+			throw new ImportSessionKapazitaetErschoepftException(maximaleAnzahlSessions);
+		}
+		this.map.put(importSession.getBenutzer(), new Eintrag(importSession, clock.instant()));
 
 		ensure(exists(importSession.getBenutzer()));
 	}
 
 	@Override
-	public void delete(Benutzer benutzer) {
+	public synchronized void delete(Benutzer benutzer) {
 		require(benutzer, notNullValue());
 		require(exists(benutzer));
 
@@ -54,26 +131,59 @@ public class ImportSessionRepositoryImpl implements ImportSessionRepository {
 	}
 
 	@Override
-	public boolean exists(Benutzer benutzer) {
+	public synchronized boolean exists(Benutzer benutzer) {
 		require(benutzer, notNullValue());
 		return this.map.containsKey(benutzer);
 	}
 
 	@Override
-	public <T extends AbstractImportSession> Optional<T> find(Benutzer benutzer, Class<T> sessionClass) {
+	public synchronized <T extends AbstractImportSession> Optional<T> find(Benutzer benutzer,
+		Class<T> sessionClass) {
 		require(benutzer, notNullValue());
 		require(sessionClass, notNullValue());
 
-		AbstractImportSession session = this.map.get(benutzer);
-		if (session != null && sessionClass.isInstance(session)) {
-			return Optional.of(sessionClass.cast(session));
+		Eintrag eintrag = this.map.get(benutzer);
+		if (eintrag != null && sessionClass.isInstance(eintrag.session)) {
+			eintrag.letzterZugriff = clock.instant();
+			return Optional.of(sessionClass.cast(eintrag.session));
 		} else {
 			return Optional.empty();
 		}
 	}
 
 	@Override
-	public void clear() {
+	public synchronized void clear() {
 		this.map.clear();
 	}
+
+	synchronized int getAnzahlSessions() {
+		return map.size();
+	}
+
+	synchronized long getAnzahlFeatures() {
+		return map.values().stream().mapToLong(eintrag -> eintrag.session.getAnzahlFeatures()).sum();
+	}
+
+	/**
+	 * Verwirft die am längsten nicht genutzte Session, auf die länger als die maximale Leerlaufzeit nicht
+	 * zugegriffen wurde und die nicht gerade ausgeführt wird.
+	 *
+	 * @return ob eine Session verworfen wurde
+	 */
+	private boolean verwerfeAufgegebeneSession() {
+		Instant grenze = clock.instant().minus(maximaleLeerlaufzeit);
+		Iterator<Map.Entry<Benutzer, Eintrag>> iterator = map.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<Benutzer, Eintrag> entry = iterator.next();
+			Eintrag eintrag = entry.getValue();
+			if (eintrag.letzterZugriff.isBefore(grenze) && !eintrag.session.isExecuting()) {
+				log.info("ImportSession von Benutzer-Id {} verworfen, da seit über {} ohne Zugriff und die maximale "
+					+ "Anzahl Sessions erreicht ist", entry.getKey().getId(), maximaleLeerlaufzeit);
+				iterator.remove();
+				wegenLeerlaufVerworfen.increment();
+				return true;
+			}
+		}
+		return false;
+	}
 }
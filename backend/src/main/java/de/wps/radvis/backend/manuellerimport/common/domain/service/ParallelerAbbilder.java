@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.manuellerimport.common.domain.service;
+
+import static org.valid4j.Assertive.require;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import de.wps.radvis.backend.manuellerimport.common.FortschrittLogger;
+import de.wps.radvis.backend.manuellerimport.common.domain.entity.AbstractImportSession;
+
+/**
+ * Bildet die Features eines manuellen Imports nebenläufig auf das Netz ab. Das Matching mit Graphhopper ist
+ * CPU-gebunden und für lesende Zugriffe threadsicher, daher lohnt sich die Verteilung auf mehrere Threads.
+ * <p>
+ * Die Abbildung eines einzelnen Features darf nur lesend auf bereits geladene Daten zugreifen (z.B. ein
+ * {@link de.wps.radvis.backend.manuellerimport.common.domain.repository.InMemoryKantenRepository}) und muss ihre
+ * Ergebnisse zurückgeben, statt gemeinsamen Zustand zu verändern. Die Ergebnisse stehen unabhängig von der
+ * Bearbeitungsreihenfolge immer in der Reihenfolge der Eingaben, sodass das Zusammenführen danach sequentiell und
+ * deterministisch auf dem aufrufenden Thread passiert.
+ */
+public class ParallelerAbbilder {
+
+	private static final int FORTSCHRITTSRATE = 4;
+
+	private final int anzahlParallelerAbbildungen;
+
+	public ParallelerAbbilder(int anzahlParallelerAbbildungen) {
+		require(anzahlParallelerAbbildungen >= 1, "Anzahl paralleler Abbildungen muss größer 0 sein");
+		this.anzahlParallelerAbbildungen = anzahlParallelerAbbildungen;
+	}
+
+	public <T, R> List<R> bildeAb(List<T> eingaben, Function<T, R> abbildung) {
+		return bildeAb(eingaben, abbildung, null);
+	}
+
+	/**
+	 * Wendet die Abbildung auf alle Eingaben an und liefert die Ergebnisse in der Reihenfolge der Eingaben. Ist eine
+	 * Session angegeben, wird dort der Fortschritt der Abbildung fortgeschrieben.
+	 */
+	public <T, R> List<R> bildeAb(List<T> eingaben, Function<T, R> abbildung, AbstractImportSession session) {
+		if (session != null) {
+			session.starteAbbildung(eingaben.size());
+		}
+		AtomicInteger fortschritt = new AtomicInteger(0);
+		Function<T, R> abbildungMitFortschritt = eingabe -> {
+			R ergebnis = abbildung.apply(eingabe);
+			if (session != null) {
+				session.meldeFeatureAbgebildet();
+			}
+			FortschrittLogger.logProgressInPercent(eingaben.size(), fortschritt, FORTSCHRITTSRATE);
+			return ergebnis;
+		};
+
+		if (anzahlParallelerAbbildungen <= 1 || eingaben.size() <= 1) {
+			List<R> ergebnisse = new ArrayList<>(eingaben.size());
+			eingaben.forEach(eingabe -> ergebnisse.add(abbildungMitFortschritt.apply(eingabe)));
+			return ergebnisse;
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(
+			Math.min(anzahlParallelerAbbildungen, eingaben.size()), workerThreadFactory());
+		try {
+			List<Future<R>> futures = new ArrayList<>(eingaben.size());
+			eingaben.forEach(eingabe -> futures.add(executor.submit(() -> abbildungMitFortschritt.apply(eingabe))));
+
+			List<R> ergebnisse = new ArrayList<>(eingaben.size());
+			futures.forEach(future -> ergebnisse.add(warteAuf(future)));
+			return ergebnisse;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static <T> T warteAuf(Future<T> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Die Abbildung der Features wurde unterbrochen.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	private static ThreadFactory workerThreadFactory() {
+		AtomicInteger threadNummer = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "manueller-import-abbildung-worker-" + threadNummer.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
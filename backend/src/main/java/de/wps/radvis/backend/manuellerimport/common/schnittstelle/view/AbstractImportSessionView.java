@@ -26,10 +26,14 @@ public abstract class AbstractImportSessionView {
 	private final List<ImportLogEintrag> log;
 	private final ImportSessionSchritt schritt;
 	private final boolean executing;
+	private final int anzahlAbgebildeterFeatures;
+	private final int anzahlAbzubildenderFeatures;
 
 	public AbstractImportSessionView(AbstractImportSession session) {
 		this.log = session.getLog();
 		this.schritt = session.getSchritt();
 		this.executing = session.isExecuting();
+		this.anzahlAbgebildeterFeatures = session.getAnzahlAbgebildeterFeatures();
+		this.anzahlAbzubildenderFeatures = session.getAnzahlAbzubildenderFeatures();
 	}
 }
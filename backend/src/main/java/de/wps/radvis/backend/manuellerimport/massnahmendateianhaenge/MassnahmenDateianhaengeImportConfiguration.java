@@ -21,6 +21,7 @@ import org.springframework.context.annotation.Configuration;
 import de.wps.radvis.backend.benutzer.domain.BenutzerResolver;
 import de.wps.radvis.backend.common.domain.repository.CsvRepository;
 import de.wps.radvis.backend.common.domain.service.ZipService;
+import de.wps.radvis.backend.dokument.domain.DokumentService;
 import de.wps.radvis.backend.manuellerimport.common.domain.service.ManuellerImportService;
 import de.wps.radvis.backend.manuellerimport.massnahmendateianhaenge.domain.service.ManuellerMassnahmenDateianhaengeImportService;
 import de.wps.radvis.backend.manuellerimport.massnahmendateianhaenge.schnittstelle.controller.ManuellerMassnahmenDateianhaengeImportGuard;
@@ -46,6 +47,9 @@ public class MassnahmenDateianhaengeImportConfiguration {
 	@Autowired
 	BenutzerResolver benutzerResolver;
 
+	@Autowired
+	DokumentService dokumentService;
+
 	@Bean
 	public ManuellerMassnahmenDateianhaengeImportService manuellerMassnahmenDateianhaengeImportService(
 		ZipService zipService, CsvRepository csvRepository) {
@@ -54,7 +58,8 @@ public class MassnahmenDateianhaengeImportConfiguration {
 			zipService,
 			csvRepository,
 			massnahmenRepository,
-			verwaltungseinheitRepository);
+			verwaltungseinheitRepository,
+			dokumentService);
 	}
 
 	@Bean
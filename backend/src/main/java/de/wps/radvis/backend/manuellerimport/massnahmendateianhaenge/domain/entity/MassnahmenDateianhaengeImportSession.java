@@ -97,4 +97,9 @@ public class MassnahmenDateianhaengeImportSession extends AbstractImportSession
 		return 0; // replace with actual implementation
 	}
 
+	@Override
+	public long getAnzahlFeatures() {
+		return zuordnungen == null ? 0 : zuordnungen.size();
+	}
+
 }
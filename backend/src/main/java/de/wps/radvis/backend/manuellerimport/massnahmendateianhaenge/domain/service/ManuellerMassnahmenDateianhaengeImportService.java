@@ -19,6 +19,7 @@ import static org.valid4j.Assertive.require;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -38,7 +39,7 @@ import de.wps.radvis.backend.benutzer.domain.entity.Benutzer;
 import de.wps.radvis.backend.common.domain.repository.CsvRepository;
 import de.wps.radvis.backend.common.domain.service.ZipService;
 import de.wps.radvis.backend.common.domain.valueObject.CsvData;
-import de.wps.radvis.backend.dokument.domain.entity.Dokument;
+import de.wps.radvis.backend.dokument.domain.DokumentService;
 import de.wps.radvis.backend.manuellerimport.common.domain.service.ManuellerImportService;
 import de.wps.radvis.backend.manuellerimport.common.domain.valueobject.ImportLogEintrag;
 import de.wps.radvis.backend.manuellerimport.massnahmendateianhaenge.domain.entity.MassnahmenDateianhaengeImportDatei;
@@ -68,6 +69,7 @@ public class ManuellerMassnahmenDateianhaengeImportService {
 
 	private final MassnahmeRepository massnahmenRepository;
 	private final VerwaltungseinheitRepository verwaltungseinheitRepository;
+	private final DokumentService dokumentService;
 
 	public Optional<MassnahmenDateianhaengeImportSession> getMassnahmenDateianhaengeImportSession(Benutzer benutzer) {
 		return manuellerImportService.findImportSessionFromBenutzer(benutzer,
@@ -248,11 +250,11 @@ public class ManuellerMassnahmenDateianhaengeImportService {
 				massnahme -> zuordnung.getDateien().values().stream()
 					.filter(MassnahmenDateianhaengeImportDatei::isSelected)
 					.forEach(datei -> {
-						try {
-							byte[] fileBytes = Files.readAllBytes(datei.getDatei().toPath());
+						try (InputStream inhalt = Files.newInputStream(datei.getDatei().toPath())) {
 							massnahme.getDokumentListe()
 								.addOrReplaceDokumentWithEqualDateiname(
-									new Dokument(datei.getDateiname(), benutzer, fileBytes, LocalDateTime.now()),
+									dokumentService.erstelleDokument(datei.getDateiname(), benutzer, inhalt,
+										LocalDateTime.now()),
 									datei.isDuplicate());
 							datei.setApplied(true);
 						} catch (IOException e) {
@@ -22,6 +22,7 @@ import de.wps.radvis.backend.benutzer.domain.BenutzerResolver;
 import de.wps.radvis.backend.common.domain.repository.CsvRepository;
 import de.wps.radvis.backend.common.domain.repository.GeoJsonImportRepository;
 import de.wps.radvis.backend.manuellerimport.common.domain.service.ManuellerImportService;
+import de.wps.radvis.backend.manuellerimport.common.domain.service.ParallelerAbbilder;
 import de.wps.radvis.backend.manuellerimport.massnahmenimport.domain.MassnahmenImportConfigurationProperties;
 import de.wps.radvis.backend.manuellerimport.massnahmenimport.domain.service.ManuellerMassnahmenImportService;
 import de.wps.radvis.backend.manuellerimport.massnahmenimport.domain.service.MassnahmeNetzbezugService;
@@ -44,6 +45,9 @@ public class MassnahmenImportConfiguration {
 	@Autowired
 	SimpleMatchingService simpleMatchingService;
 
+	@Autowired
+	ParallelerAbbilder parallelerAbbilder;
+
 	@Autowired
 	NetzService netzService;
 
@@ -92,7 +96,8 @@ public class MassnahmenImportConfiguration {
 	public MassnahmeNetzbezugService massnahmeNetzbezugService() {
 		return new MassnahmeNetzbezugService(
 			simpleMatchingService,
-			netzService);
+			netzService,
+			parallelerAbbilder);
 	}
 
 	@Bean
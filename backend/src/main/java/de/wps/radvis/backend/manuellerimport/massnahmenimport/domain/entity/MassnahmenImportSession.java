@@ -100,6 +100,11 @@ public class MassnahmenImportSession extends AbstractImportSession {
 		return 0; // replace with actual implementation
 	}
 
+	@Override
+	public long getAnzahlFeatures() {
+		return zuordnungen == null ? 0 : zuordnungen.size();
+	}
+
 	@Override
 	public MultiPolygon getBereich() {
 		return bereich;
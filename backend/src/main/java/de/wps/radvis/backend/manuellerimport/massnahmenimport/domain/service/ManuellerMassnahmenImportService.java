@@ -857,16 +857,15 @@ public class ManuellerMassnahmenImportService {
 		MatchingStatistik matchingStatistik = new MatchingStatistik();
 
 		try {
-			session.getZuordnungen().stream()
+			List<MassnahmenImportZuordnung> zuordnungen = session.getZuordnungen().stream()
 				// Bei löschenden Zuordnungen und solche, die eh nicht gespeichert werden können, müssen keine
 				// Netzbezüge erstellt werden
 				.filter(
 					zuordnung -> zuordnung.getZuordnungStatus() != MassnahmenImportZuordnungStatus.GELOESCHT
 						&& zuordnung
 							.canBeSaved())
-				.forEach(
-					zuordnung -> massnahmeNetzbezugService.bestimmeNetzbezugDerZuordnung(
-						zuordnung, matchingStatistik));
+				.toList();
+			massnahmeNetzbezugService.bestimmeNetzbezuegeDerZuordnungen(zuordnungen, matchingStatistik, session);
 
 			log.info("Matchingstatistik:");
 			log.info(matchingStatistik.toString());
@@ -14,14 +14,17 @@
 
 package de.wps.radvis.backend.manuellerimport.massnahmenimport.domain.service;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.locationtech.jts.geom.Envelope;
@@ -33,6 +36,8 @@ import org.locationtech.jts.geom.Point;
 import de.wps.radvis.backend.common.domain.valueObject.LinearReferenzierterAbschnitt;
 import de.wps.radvis.backend.common.domain.valueObject.LineareReferenz;
 import de.wps.radvis.backend.common.domain.valueObject.Seitenbezug;
+import de.wps.radvis.backend.manuellerimport.common.domain.entity.AbstractImportSession;
+import de.wps.radvis.backend.manuellerimport.common.domain.service.ParallelerAbbilder;
 import de.wps.radvis.backend.manuellerimport.massnahmenimport.domain.entity.MassnahmenImportZuordnung;
 import de.wps.radvis.backend.manuellerimport.massnahmenimport.domain.valueObject.NetzbezugHinweis;
 import de.wps.radvis.backend.manuellerimport.massnahmenimport.domain.valueObject.NetzbezugHinweisText;
@@ -58,31 +63,81 @@ public class MassnahmeNetzbezugService {
 	private static final double MINIMALE_SEGMENT_LAENGE = 1;
 	private final SimpleMatchingService simpleMatchingService;
 	private final NetzService netzService;
+	private final ParallelerAbbilder parallelerAbbilder;
 
 	public MassnahmeNetzbezugService(
 		SimpleMatchingService simpleMatchingService,
-		NetzService netzService
+		NetzService netzService,
+		ParallelerAbbilder parallelerAbbilder
 	) {
 		this.simpleMatchingService = simpleMatchingService;
 		this.netzService = netzService;
+		this.parallelerAbbilder = parallelerAbbilder;
 	}
 
 	public void bestimmeNetzbezugDerZuordnung(MassnahmenImportZuordnung zuordnung,
 		MatchingStatistik matchingStatistik) {
+		bestimmeNetzbezugDerZuordnung(zuordnung,
+			lineString -> simpleMatchingService.matche(lineString, matchingStatistik));
+	}
+
+	/**
+	 * Bestimmt die Netzbezüge mehrerer Zuordnungen. Das Matching der enthaltenen LineStrings läuft vorab
+	 * nebenläufig, die Netzbezüge selbst werden danach sequentiell in der Reihenfolge der Zuordnungen erstellt, da
+	 * dabei Kanten und Knoten aus der Datenbank geladen werden.
+	 */
+	public void bestimmeNetzbezuegeDerZuordnungen(List<MassnahmenImportZuordnung> zuordnungen,
+		MatchingStatistik matchingStatistik, AbstractImportSession session) {
+		List<LineString> lineStrings = new ArrayList<>();
+		zuordnungen.forEach(
+			zuordnung -> sammleLineStrings((Geometry) zuordnung.getFeature().getDefaultGeometry(), lineStrings));
+
+		List<LineStringMatch> lineStringMatches = parallelerAbbilder.bildeAb(lineStrings, lineString -> {
+			MatchingStatistik statistik = new MatchingStatistik();
+			return new LineStringMatch(simpleMatchingService.matche(lineString, statistik), statistik);
+		}, session);
+
+		// Die Geometrien der Features werden beim Bestimmen der Netzbezüge erneut durchlaufen und liefern dabei
+		// dieselben LineString-Instanzen.
+		Map<LineString, Optional<OsmMatchResult>> matchesProLineString = new IdentityHashMap<>();
+		for (int i = 0; i < lineStrings.size(); i++) {
+			matchesProLineString.put(lineStrings.get(i), lineStringMatches.get(i).osmMatchResult());
+			matchingStatistik.addiere(lineStringMatches.get(i).statistik());
+		}
+
+		zuordnungen.forEach(zuordnung -> bestimmeNetzbezugDerZuordnung(zuordnung, matchesProLineString::get));
+	}
+
+	private void bestimmeNetzbezugDerZuordnung(MassnahmenImportZuordnung zuordnung,
+		Function<LineString, Optional<OsmMatchResult>> matcher) {
 		Optional<MassnahmeNetzBezug> netzbezug = bestimmeNetzbezugEntsprechendGeometrieTyp(
 			(Geometry) zuordnung.getFeature().getDefaultGeometry(),
-			matchingStatistik,
+			matcher,
 			zuordnung.getNetzbezugHinweise()
 		);
 		zuordnung.aktualisiereNetzbezug(netzbezug.orElse(null), false);
 	}
 
+	private static void sammleLineStrings(Geometry geometry, List<LineString> lineStrings) {
+		switch (geometry.getGeometryType()) {
+		case Geometry.TYPENAME_GEOMETRYCOLLECTION, Geometry.TYPENAME_MULTILINESTRING,
+			Geometry.TYPENAME_MULTIPOINT -> {
+			for (int i = 0; i < geometry.getNumGeometries(); i++) {
+				sammleLineStrings(geometry.getGeometryN(i), lineStrings);
+			}
+		}
+		case Geometry.TYPENAME_LINESTRING -> lineStrings.add((LineString) geometry);
+		default -> {
+		}
+		}
+	}
+
 	private Optional<MassnahmeNetzBezug> bestimmeNetzbezugEntsprechendGeometrieTyp(Geometry geometry,
-		MatchingStatistik matchingStatistik, List<NetzbezugHinweis> netzbezugHinweise) {
+		Function<LineString, Optional<OsmMatchResult>> matcher, List<NetzbezugHinweis> netzbezugHinweise) {
 		return switch (geometry.getGeometryType()) {
 		case Geometry.TYPENAME_GEOMETRYCOLLECTION, Geometry.TYPENAME_MULTILINESTRING, Geometry.TYPENAME_MULTIPOINT -> bestimmeNetzbezug(
-			(GeometryCollection) geometry, matchingStatistik, netzbezugHinweise);
-		case Geometry.TYPENAME_LINESTRING -> bestimmeNetzbezug((LineString) geometry, matchingStatistik,
+			(GeometryCollection) geometry, matcher, netzbezugHinweise);
+		case Geometry.TYPENAME_LINESTRING -> bestimmeNetzbezug((LineString) geometry, matcher,
 			netzbezugHinweise);
 		case Geometry.TYPENAME_POINT -> bestimmeNetzbezug((Point) geometry, netzbezugHinweise);
 		default -> {
@@ -99,13 +154,13 @@ public class MassnahmeNetzbezugService {
 	 * Beim Entpacken wird bestimmeNetzbezugEntsprechendGeometrieTyp von hier indirekt rekursiv aufgerufen.
 	 */
 	private Optional<MassnahmeNetzBezug> bestimmeNetzbezug(GeometryCollection geometry,
-		MatchingStatistik matchingStatistik, List<NetzbezugHinweis> netzbezugHinweise) {
+		Function<LineString, Optional<OsmMatchResult>> matcher, List<NetzbezugHinweis> netzbezugHinweise) {
 		Set<Optional<MassnahmeNetzBezug>> netzbezuege = new HashSet<>();
 
 		for (int i = 0; i < geometry.getNumGeometries(); i++) {
 			netzbezuege.add(bestimmeNetzbezugEntsprechendGeometrieTyp(
 				geometry.getGeometryN(i),
-				matchingStatistik,
+				matcher,
 				netzbezugHinweise
 			)
 			);
@@ -122,9 +177,9 @@ public class MassnahmeNetzbezugService {
 		}
 	}
 
-	private Optional<MassnahmeNetzBezug> bestimmeNetzbezug(LineString geometry, MatchingStatistik matchingStatistik,
-		List<NetzbezugHinweis> netzbezugHinweise) {
-		Optional<MassnahmeNetzBezug> netzbezug = simpleMatchingService.matche(geometry, matchingStatistik)
+	private Optional<MassnahmeNetzBezug> bestimmeNetzbezug(LineString geometry,
+		Function<LineString, Optional<OsmMatchResult>> matcher, List<NetzbezugHinweis> netzbezugHinweise) {
+		Optional<MassnahmeNetzBezug> netzbezug = matcher.apply(geometry)
 			.flatMap(this::createNetzbezugFromOsmMatchResult);
 
 		if (netzbezug.isEmpty()) {
@@ -235,4 +290,7 @@ public class MassnahmeNetzbezugService {
 				closestKante.getGeometry().distance(geometry) >
 					closestKnoten.getPoint().distance(geometry) - KNOTEN_PREFERENCE_TOLERANZ);
 	}
+
+	private record LineStringMatch(Optional<OsmMatchResult> osmMatchResult, MatchingStatistik statistik) {
+	}
 }
@@ -24,6 +24,7 @@ import de.wps.radvis.backend.common.domain.service.ShapeZipService;
 import de.wps.radvis.backend.manuellerimport.common.domain.repository.InMemoryKantenRepositoryFactory;
 import de.wps.radvis.backend.manuellerimport.common.domain.repository.ManuellerImportFehlerRepository;
 import de.wps.radvis.backend.manuellerimport.common.domain.service.ManuellerImportService;
+import de.wps.radvis.backend.manuellerimport.common.domain.service.ParallelerAbbilder;
 import de.wps.radvis.backend.manuellerimport.netzzugehoerigkeit.domain.service.ManuellerNetzklassenImportAbbildungsService;
 import de.wps.radvis.backend.manuellerimport.netzzugehoerigkeit.domain.service.ManuellerNetzklassenImportService;
 import de.wps.radvis.backend.manuellerimport.netzzugehoerigkeit.domain.service.ManuellerNetzklassenImportUebernahmeService;
@@ -41,6 +42,9 @@ public class NetzzugehoerigkeitConfiguration {
 	@Autowired
 	private NetzService netzService;
 
+	@Autowired
+	private ParallelerAbbilder parallelerAbbilder;
+
 	@Autowired
 	VerwaltungseinheitService verwaltungseinheitService;
 
@@ -71,7 +75,7 @@ public class NetzzugehoerigkeitConfiguration {
 	@Bean
 	public ManuellerNetzklassenImportAbbildungsService netzklassenAbbildungsService() {
 		return new ManuellerNetzklassenImportAbbildungsService(simpleMatchingService,
-			inMemoryKantenRepositoryFactory);
+			inMemoryKantenRepositoryFactory, parallelerAbbilder);
 	}
 
 	@Bean
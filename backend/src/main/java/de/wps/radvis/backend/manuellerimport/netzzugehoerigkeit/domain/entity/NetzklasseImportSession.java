@@ -83,6 +83,11 @@ public class NetzklasseImportSession extends AbstractImportSession {
 		return this.nichtGematchteFeatureLineStrings.size();
 	}
 
+	@Override
+	public long getAnzahlFeatures() {
+		return this.kanteIds.size() + this.nichtGematchteFeatureLineStrings.size();
+	}
+
 	@Override
 	public MultiPolygon getBereich() {
 		return organisation.getBereich()
@@ -14,27 +14,27 @@
 
 package de.wps.radvis.backend.manuellerimport.netzzugehoerigkeit.domain.service;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.locationtech.jts.geom.LineString;
 
 import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
-import de.wps.radvis.backend.manuellerimport.common.FortschrittLogger;
 import de.wps.radvis.backend.manuellerimport.common.domain.repository.InMemoryKantenRepository;
 import de.wps.radvis.backend.manuellerimport.common.domain.repository.InMemoryKantenRepositoryFactory;
 import de.wps.radvis.backend.manuellerimport.common.domain.service.AbstractManuellerImportAbbildungsService;
+import de.wps.radvis.backend.manuellerimport.common.domain.service.ParallelerAbbilder;
+import de.wps.radvis.backend.manuellerimport.netzzugehoerigkeit.domain.entity.NetzklasseImportSession;
 import de.wps.radvis.backend.matching.domain.entity.MatchingStatistik;
 import de.wps.radvis.backend.matching.domain.service.SimpleMatchingService;
 import de.wps.radvis.backend.matching.domain.valueObject.OsmMatchResult;
 import de.wps.radvis.backend.netz.domain.entity.Kante;
 import de.wps.radvis.backend.netz.domain.valueObject.OsmWayId;
-import de.wps.radvis.backend.organisation.domain.entity.Verwaltungseinheit;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -49,52 +49,40 @@ public class ManuellerNetzklassenImportAbbildungsService extends AbstractManuell
 
 	private final InMemoryKantenRepositoryFactory ueberschneidungsRepositoryFactory;
 
+	private final ParallelerAbbilder parallelerAbbilder;
+
 	public ManuellerNetzklassenImportAbbildungsService(
 		SimpleMatchingService simpleMatchingService,
-		InMemoryKantenRepositoryFactory inMemoryKantenRepositoryFactory) {
+		InMemoryKantenRepositoryFactory inMemoryKantenRepositoryFactory,
+		ParallelerAbbilder parallelerAbbilder) {
 		this.simpleMatchingService = simpleMatchingService;
 		this.ueberschneidungsRepositoryFactory = inMemoryKantenRepositoryFactory;
+		this.parallelerAbbilder = parallelerAbbilder;
 	}
 
 	public MatchingErgebnis findKantenFromLineStrings(Set<LineString> importedLineStrings,
-		Verwaltungseinheit organisation) {
-		MatchingStatistik statistik = new MatchingStatistik();
+		NetzklasseImportSession session) {
 		InMemoryKantenRepository ueberschneidungsRepository = ueberschneidungsRepositoryFactory.create(
-			organisation.getBereich()
+			session.getOrganisation().getBereich()
 				.orElse(KoordinatenReferenzSystem.ETRS89_UTM32_N.getGeometryFactory().createMultiPolygon()));
 		log.info("Führe Matching auf DLM für {} LineStrings aus...", importedLineStrings.size());
-		AtomicInteger count = new AtomicInteger(0);
 
+		List<LineString> lineStrings = new ArrayList<>(importedLineStrings);
+		List<LineStringMatch> lineStringMatches = parallelerAbbilder.bildeAb(lineStrings,
+			lineString -> matche(lineString, ueberschneidungsRepository), session);
+
+		MatchingStatistik statistik = new MatchingStatistik();
 		Set<LineString> nichtImportierteLineStrings = new HashSet<>();
 		Set<Long> matches = new HashSet<>();
-		importedLineStrings.forEach(lineString -> {
-			FortschrittLogger.logProgressInPercent(importedLineStrings.size(), count, 4);
-
-			Optional<OsmMatchResult> result = simpleMatchingService.matche(lineString, statistik);
-
-			if (result.isEmpty()) {
-				nichtImportierteLineStrings.add(lineString);
-				return;
-			}
-
-			List<Long> matchedKantenIDs = ueberschneidungsRepository.findKantenById(
-				result.get().getOsmWayIds().stream().map(
-					OsmWayId::getValue).collect(Collectors.toSet()))
-				.stream()
-				// Matches für die keine Kanten innerhalb der Organisation liegen rausfiltern
-				.filter(Objects::nonNull)
-				.filter(kante -> kante
-					.getUeberschneidunsanteilWith(result.get().getGeometrie()) > MIN_OVERLAP_FRACTION)
-				.map(Kante::getId)
-				.collect(Collectors.toList());
-
-			if (matchedKantenIDs.isEmpty()) {
-				nichtImportierteLineStrings.add(lineString);
-				return;
+		for (int i = 0; i < lineStrings.size(); i++) {
+			LineStringMatch lineStringMatch = lineStringMatches.get(i);
+			statistik.addiere(lineStringMatch.statistik());
+			if (lineStringMatch.kanteIds().isEmpty()) {
+				nichtImportierteLineStrings.add(lineStrings.get(i));
+			} else {
+				matches.addAll(lineStringMatch.kanteIds());
 			}
-
-			matches.addAll(matchedKantenIDs);
-		});
+		}
 
 		log.info("Matching mit folgendem Ergebnis beendet:");
 		log.info(statistik.toString());
@@ -103,6 +91,31 @@ public class ManuellerNetzklassenImportAbbildungsService extends AbstractManuell
 		return new MatchingErgebnis(matches, nichtImportierteLineStrings);
 	}
 
+	private LineStringMatch matche(LineString lineString, InMemoryKantenRepository ueberschneidungsRepository) {
+		MatchingStatistik statistik = new MatchingStatistik();
+		Optional<OsmMatchResult> result = simpleMatchingService.matche(lineString, statistik);
+
+		if (result.isEmpty()) {
+			return new LineStringMatch(List.of(), statistik);
+		}
+
+		List<Long> matchedKantenIDs = ueberschneidungsRepository.findKantenById(
+			result.get().getOsmWayIds().stream().map(
+				OsmWayId::getValue).collect(Collectors.toSet()))
+			.stream()
+			// Matches für die keine Kanten innerhalb der Organisation liegen rausfiltern
+			.filter(Objects::nonNull)
+			.filter(kante -> kante
+				.getUeberschneidunsanteilWith(result.get().getGeometrie()) > MIN_OVERLAP_FRACTION)
+			.map(Kante::getId)
+			.collect(Collectors.toList());
+
+		return new LineStringMatch(matchedKantenIDs, statistik);
+	}
+
+	private record LineStringMatch(List<Long> kanteIds, MatchingStatistik statistik) {
+	}
+
 	@AllArgsConstructor
 	public static class MatchingErgebnis {
 		public Set<Long> matchedKanten;
@@ -220,7 +220,7 @@ public class ManuellerNetzklassenImportService {
 
 		// Abbildung auf das RadVis-Netz
 		ManuellerNetzklassenImportAbbildungsService.MatchingErgebnis matchingErgebnis = manuellerNetzklassenImportAbbildungsService
-			.findKantenFromLineStrings(lineStrings, netzklasseImportSession.getOrganisation());
+			.findKantenFromLineStrings(lineStrings, netzklasseImportSession);
 		Set<Long> kanteIds = matchingErgebnis.matchedKanten;
 		log.info("LineStrings auf {} Kanten abgebildet", kanteIds.size());
 		netzklasseImportSession.getKanteIds().addAll(kanteIds);
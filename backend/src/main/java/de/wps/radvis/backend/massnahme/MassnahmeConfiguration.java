@@ -35,6 +35,7 @@ import de.wps.radvis.backend.common.domain.MailService;
 import de.wps.radvis.backend.common.domain.PostgisConfigurationProperties;
 import de.wps.radvis.backend.common.domain.repository.FahrradrouteFilterRepository;
 import de.wps.radvis.backend.common.domain.repository.ShapeFileRepository;
+import de.wps.radvis.backend.dokument.domain.DokumentService;
 import de.wps.radvis.backend.massnahme.domain.MassnahmeNetzbezugAenderungProtokollierungsService;
 import de.wps.radvis.backend.massnahme.domain.MassnahmeRueckstufungStornierungService;
 import de.wps.radvis.backend.massnahme.domain.MassnahmeService;
@@ -64,6 +65,8 @@ import de.wps.radvis.backend.netz.domain.service.NetzService;
 import de.wps.radvis.backend.netz.domain.service.ZustaendigkeitsService;
 import de.wps.radvis.backend.organisation.domain.VerwaltungseinheitRepository;
 import de.wps.radvis.backend.organisation.domain.VerwaltungseinheitService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.NonNull;
 
 @Configuration
@@ -71,6 +74,9 @@ import lombok.NonNull;
 @EntityScan
 public class MassnahmeConfiguration {
 
+	@PersistenceContext
+	private EntityManager entityManager;
+
 	@Autowired
 	private MassnahmeNetzBezugAenderungRepository massnahmeNetzBezugAenderungRepository;
 
@@ -128,6 +134,9 @@ public class MassnahmeConfiguration {
 	@Autowired
 	private TemplateEngine templateEngine;
 
+	@Autowired
+	private DokumentService dokumentService;
+
 	@Autowired
 	private NetzService netzService;
 
@@ -220,7 +229,7 @@ public class MassnahmeConfiguration {
 
 	@Bean
 	public MassnahmenExporterService massnahmeExporterService() {
-		return new MassnahmenExporterService(massnahmeListRepository);
+		return new MassnahmenExporterService(massnahmeListRepository, entityManager);
 	}
 
 	@Bean
@@ -246,7 +255,7 @@ public class MassnahmeConfiguration {
 			jobConfigurationProperties.getMassnahmenBlaetterImportPath(), "massnahmenkataster");
 		return new MassnahmenblaetterImportJob(jobExecutionDescriptionRepository, dokukatasterFileFolder,
 			massnahmenkatasterFileFolder,
-			massnahmeService(), benutzerService);
+			massnahmeService(), benutzerService, dokumentService);
 	}
 
 	@Bean
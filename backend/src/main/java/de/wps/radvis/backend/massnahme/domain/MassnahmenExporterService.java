@@ -19,9 +19,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.locationtech.jts.geom.GeometryCollection;
-import org.locationtech.jts.geom.GeometryFactory;
 
 import de.wps.radvis.backend.common.domain.service.ExporterService;
 import de.wps.radvis.backend.common.domain.valueObject.ExportData;
@@ -29,24 +29,40 @@ import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem
 import de.wps.radvis.backend.massnahme.domain.dbView.MassnahmeListenDbView;
 import de.wps.radvis.backend.massnahme.domain.repository.MassnahmeViewRepository;
 import de.wps.radvis.backend.organisation.domain.entity.Verwaltungseinheit;
+import jakarta.persistence.EntityManager;
 
 public class MassnahmenExporterService implements ExporterService {
 
 	private MassnahmeViewRepository massnahmeRepository;
+	private EntityManager entityManager;
 
-	public MassnahmenExporterService(MassnahmeViewRepository massnahmeRepository) {
+	public MassnahmenExporterService(MassnahmeViewRepository massnahmeRepository, EntityManager entityManager) {
 		this.massnahmeRepository = massnahmeRepository;
+		this.entityManager = entityManager;
 	}
 
 	@Override
 	public List<ExportData> export(List<Long> ids) {
-		GeometryFactory geometryFactory = KoordinatenReferenzSystem.ETRS89_UTM32_N.getGeometryFactory();
 		return massnahmeRepository.findAllByIdIn(ids).stream()
-			.map(massnahme -> {
-				GeometryCollection geometry = massnahme.getGeometry() != null ? massnahme.getGeometry()
-					: geometryFactory.createGeometryCollection();
-				return new ExportData(geometry, convertProperties(massnahme));
-			}).collect(Collectors.toList());
+			.map(this::toExportData)
+			.collect(Collectors.toList());
+	}
+
+	@Override
+	public Stream<ExportData> exportStream(List<Long> ids) {
+		// Jede Zeile wird nach dem Konvertieren aus dem Persistence-Context entfernt, sonst blieben alle gelesenen
+		// Views bis zum Ende der Transaktion im Speicher
+		return massnahmeRepository.streamAllByIdIn(ids).map(massnahme -> {
+			ExportData exportData = toExportData(massnahme);
+			entityManager.detach(massnahme);
+			return exportData;
+		});
+	}
+
+	private ExportData toExportData(MassnahmeListenDbView massnahme) {
+		GeometryCollection geometry = massnahme.getGeometry() != null ? massnahme.getGeometry()
+			: KoordinatenReferenzSystem.ETRS89_UTM32_N.getGeometryFactory().createGeometryCollection();
+		return new ExportData(geometry, convertProperties(massnahme));
 	}
 
 	@Override
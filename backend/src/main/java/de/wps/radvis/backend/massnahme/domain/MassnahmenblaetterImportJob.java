@@ -16,6 +16,7 @@ package de.wps.radvis.backend.massnahme.domain;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
@@ -36,6 +37,7 @@ import de.wps.radvis.backend.common.domain.JobExecutionDurationEstimate;
 import de.wps.radvis.backend.common.domain.entity.AbstractJob;
 import de.wps.radvis.backend.common.domain.entity.JobExecutionDescription;
 import de.wps.radvis.backend.common.domain.entity.JobStatistik;
+import de.wps.radvis.backend.dokument.domain.DokumentService;
 import de.wps.radvis.backend.dokument.domain.entity.Dokument;
 import de.wps.radvis.backend.massnahme.domain.entity.Massnahme;
 import de.wps.radvis.backend.massnahme.domain.entity.MassnahmenblatterImportProtokoll;
@@ -55,15 +57,17 @@ public class MassnahmenblaetterImportJob extends AbstractJob {
 	private final Path massnahmenkatasterFileFolder;
 	private final MassnahmeService massnahmeService;
 	private final BenutzerService benutzerService;
+	private final DokumentService dokumentService;
 
 	public MassnahmenblaetterImportJob(JobExecutionDescriptionRepository jobExecutionDescriptionRepository,
 		Path dokukatasterFileFolder, Path massnahmenkatasterFileFolder, MassnahmeService massnahmeService,
-		BenutzerService benutzerService) {
+		BenutzerService benutzerService, DokumentService dokumentService) {
 		super(jobExecutionDescriptionRepository);
 		this.dokukatasterFileFolder = dokukatasterFileFolder;
 		this.massnahmenkatasterFileFolder = massnahmenkatasterFileFolder;
 		this.massnahmeService = massnahmeService;
 		this.benutzerService = benutzerService;
+		this.dokumentService = dokumentService;
 	}
 
 	@Override
@@ -158,9 +162,8 @@ public class MassnahmenblaetterImportJob extends AbstractJob {
 		massnahmen.forEach(massnahme -> {
 			log.info("Für MPIP {} wurde die Massnahme {}-{} gefunden", massnahmePacketId, massnahme.getId(),
 				massnahme.getBezeichnung());
-			try {
-				byte[] fileContent = Files.readAllBytes(massnahmenblattFile.toPath());
-				Dokument massnahmenBlattDokument = new Dokument(
+			try (InputStream fileContent = Files.newInputStream(massnahmenblattFile.toPath())) {
+				Dokument massnahmenBlattDokument = dokumentService.erstelleDokument(
 					massnahmenblattFile.getName(),
 					technischerBenutzer,
 					fileContent,
@@ -15,14 +15,28 @@
 package de.wps.radvis.backend.massnahme.domain.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
 
 import de.wps.radvis.backend.massnahme.domain.dbView.MassnahmeListenDbView;
+import jakarta.persistence.QueryHint;
 
 public interface MassnahmeViewRepository
 	extends Repository<MassnahmeListenDbView, Long>, CustomMassnahmeViewRepository {
 	List<MassnahmeListenDbView> findAll();
 
 	List<MassnahmeListenDbView> findAllByIdIn(List<Long> ids);
+
+	/**
+	 * Liefert die Einträge als Stream über einen Datenbank-Cursor, so dass auch sehr große Exporte nicht vollständig
+	 * in den Speicher geladen werden. Muss innerhalb einer Transaktion konsumiert und anschließend geschlossen werden.
+	 */
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+		@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	Stream<MassnahmeListenDbView> streamAllByIdIn(List<Long> ids);
 }
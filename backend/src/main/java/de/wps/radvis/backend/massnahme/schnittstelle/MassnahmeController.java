@@ -15,6 +15,7 @@
 package de.wps.radvis.backend.massnahme.schnittstelle;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
 import java.util.Calendar;
@@ -22,6 +23,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -44,6 +46,7 @@ import de.wps.radvis.backend.auditing.domain.WithAuditing;
 import de.wps.radvis.backend.benutzer.domain.BenutzerResolver;
 import de.wps.radvis.backend.benutzer.domain.entity.Benutzer;
 import de.wps.radvis.backend.common.domain.repository.CsvRepository;
+import de.wps.radvis.backend.dokument.domain.DokumentService;
 import de.wps.radvis.backend.dokument.domain.entity.Dokument;
 import de.wps.radvis.backend.dokument.schnittstelle.AddDokumentCommand;
 import de.wps.radvis.backend.dokument.schnittstelle.view.DokumenteView;
@@ -81,6 +84,7 @@ public class MassnahmeController {
 	private final BenutzerResolver benutzerResolver;
 	private final VerwaltungseinheitService verwaltungseinheitService;
 	private final CsvRepository csvRepository;
+	private final DokumentService dokumentService;
 
 	public MassnahmeController(
 		@NonNull MassnahmeService massnahmeService,
@@ -91,8 +95,10 @@ public class MassnahmeController {
 		@NonNull MassnahmeGuard massnahmeGuard,
 		@NonNull BenutzerResolver benutzerResolver,
 		@NonNull VerwaltungseinheitService verwaltungseinheitService,
-		@NonNull CsvRepository csvRepository) {
+		@NonNull CsvRepository csvRepository,
+		@NonNull DokumentService dokumentService) {
 		this.csvRepository = csvRepository;
+		this.dokumentService = dokumentService;
 		this.massnahmeService = massnahmeService;
 		this.umsetzungsstandabfrageService = umsetzungsstandabfrageService;
 		this.createMassnahmeCommandConverter = createMassnahmeCommandConverter;
@@ -166,8 +172,7 @@ public class MassnahmeController {
 		@RequestPart AddDokumentCommand command,
 		@RequestPart MultipartFile file,
 		Authentication authentication) throws IOException {
-		byte[] bytes = file.getBytes();
-		if (!Dokument.isValid(bytes)) {
+		if (!Dokument.isValid(file.getSize())) {
 			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Die maximale Dateigröße ist überschritten.");
 		}
 
@@ -180,17 +185,19 @@ public class MassnahmeController {
 				"Archivierte Dateien dürfen nicht bearbeitet werden.");
 		}
 
-		massnahmeService.haengeDateiAn(
-			massnahmeId,
-			new Dokument(
-				command.getFilename(),
-				benutzer,
-				bytes,
-				LocalDateTime.now()));
+		try (InputStream inhalt = file.getInputStream()) {
+			massnahmeService.haengeDateiAn(
+				massnahmeId,
+				dokumentService.erstelleDokument(
+					command.getFilename(),
+					benutzer,
+					inhalt,
+					LocalDateTime.now()));
+		}
 	}
 
 	@GetMapping("{massnahmeId}/dokument/{dokumentId}")
-	public ResponseEntity<byte[]> downloadDatei(
+	public ResponseEntity<Resource> downloadDatei(
 		@PathVariable("massnahmeId") Long massnahmeId,
 		@PathVariable("dokumentId") Long dokumentId) {
 		Dokument dokument = massnahmeService.getDokument(massnahmeId, dokumentId);
@@ -201,11 +208,12 @@ public class MassnahmeController {
 		headers.add("Pragma", "no-cache");
 		headers.add("Expires", "0");
 
+		// Content-Length und Anfragen auf Teilbereiche (HTTP Range) beantwortet Spring anhand der Resource, ohne
+		// den Inhalt vollständig in den Speicher zu laden.
 		return ResponseEntity.ok()
 			.contentType(MediaType.parseMediaType(MediaType.APPLICATION_OCTET_STREAM_VALUE))
-			.contentLength(dokument.getDateigroesseInBytes())
 			.headers(headers)
-			.body(dokument.getDatei());
+			.body(dokumentService.getDateiinhalt(dokument));
 	}
 
 	@DeleteMapping("{massnahmeId}/dokument/{dokumentId}")
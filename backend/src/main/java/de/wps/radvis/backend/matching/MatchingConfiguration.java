@@ -37,7 +37,9 @@ import de.wps.radvis.backend.common.domain.OsmPbfConfigurationProperties;
 import de.wps.radvis.backend.common.schnittstelle.CoordinateReferenceSystemConverter;
 import de.wps.radvis.backend.matching.domain.GraphhopperDlmConfigurationProperties;
 import de.wps.radvis.backend.matching.domain.GraphhopperOsmConfigurationProperties;
+import de.wps.radvis.backend.matching.domain.MatchingConfigurationProperties;
 import de.wps.radvis.backend.matching.domain.repository.CustomDlmMatchingRepositoryFactory;
+import de.wps.radvis.backend.matching.domain.repository.CustomModelRepository;
 import de.wps.radvis.backend.matching.domain.repository.CustomRoutingProfileRepository;
 import de.wps.radvis.backend.matching.domain.repository.DlmMatchingRepository;
 import de.wps.radvis.backend.matching.domain.repository.GraphhopperRoutingRepository;
@@ -52,6 +54,7 @@ import de.wps.radvis.backend.matching.domain.service.GrundnetzMappingService;
 import de.wps.radvis.backend.matching.domain.service.KanteUpdateElevationService;
 import de.wps.radvis.backend.matching.domain.service.MatchingJobProtokollService;
 import de.wps.radvis.backend.matching.domain.service.MatchingKorrekturService;
+import de.wps.radvis.backend.matching.domain.service.MatchingPipelineService;
 import de.wps.radvis.backend.matching.domain.service.OsmAbbildungsFehlerService;
 import de.wps.radvis.backend.matching.domain.service.OsmAuszeichnungsService;
 import de.wps.radvis.backend.matching.domain.service.SimpleMatchingService;
@@ -59,6 +62,7 @@ import de.wps.radvis.backend.matching.schnittstelle.CustomRoutingProfileGuard;
 import de.wps.radvis.backend.matching.schnittstelle.GraphhopperUpdateServiceImpl;
 import de.wps.radvis.backend.matching.schnittstelle.KanteUpdateElevationServiceImpl;
 import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.CustomDlmMatchingRepositoryFactoryImpl;
+import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.CustomModelRepositoryImpl;
 import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.DlmMatchedGraphHopperFactory;
 import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.DlmMatchingRepositoryImpl;
 import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.GraphhopperRoutingRepositoryImpl;
@@ -69,6 +73,7 @@ import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.PbfErstellung
 import de.wps.radvis.backend.netz.domain.repository.KantenRepository;
 import de.wps.radvis.backend.netzfehler.domain.NetzfehlerRepository;
 import de.wps.radvis.backend.quellimport.grundnetz.domain.DLMConfigurationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
@@ -95,6 +100,12 @@ public class MatchingConfiguration {
 	@Autowired
 	private DLMConfigurationProperties dlmConfigurationProperties;
 
+	@Autowired
+	private MatchingConfigurationProperties matchingConfigurationProperties;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
 	@Autowired
 	private OsmAbbildungsFehlerRepository osmAbbildungsFehlerRepository;
 
@@ -136,6 +147,12 @@ public class MatchingConfiguration {
 		return new MatchingJobProtokollService(netzfehlerRepository);
 	}
 
+	@Bean
+	public MatchingPipelineService matchingPipelineService() {
+		return new MatchingPipelineService(matchingConfigurationProperties.getAnzahlWorker(),
+			matchingConfigurationProperties.getSchreibBatchGroesse());
+	}
+
 	@Lazy
 	@Bean
 	public OsmMatchingRepository osmMatchingRepository(OsmMatchedGraphHopper graphhopper) {
@@ -213,7 +230,8 @@ public class MatchingConfiguration {
 	@Bean
 	public OsmAuszeichnungsService osmAuszeichnungsService() {
 		return new OsmAuszeichnungsService(kantenRepository,
-			osmPbfConfigurationProperties.getMinOsmWayCoverageForRadNETZ());
+			osmPbfConfigurationProperties.getMinOsmWayCoverageForRadNETZ(),
+			matchingConfigurationProperties.getAnzahlWorker());
 	}
 
 	@Bean
@@ -227,7 +245,7 @@ public class MatchingConfiguration {
 	@Bean
 	PbfErstellungsRepository pbfErstellungsRepository() {
 		return new PbfErstellungsRepositoryImpl(coordinateReferenceSystemConverter, barriereRepository,
-			kantenRepository);
+			matchingConfigurationProperties.getAnzahlWorker());
 	}
 
 	@Bean
@@ -242,7 +260,13 @@ public class MatchingConfiguration {
 	@Bean
 	public GraphhopperRoutingRepository graphhopperRoutingRepository() {
 		return new GraphhopperRoutingRepositoryImpl(dlmMatchedGraphHopperFactory(), coordinateReferenceSystemConverter,
-			customRoutingProfileRepository);
+			customModelRepository(), meterRegistry);
+	}
+
+	@Bean
+	public CustomModelRepository customModelRepository() {
+		return new CustomModelRepositoryImpl(customRoutingProfileRepository,
+			matchingConfigurationProperties.getMaximaleAnzahlCustomModels(), meterRegistry);
 	}
 
 	@Bean
@@ -252,7 +276,7 @@ public class MatchingConfiguration {
 
 	@Bean
 	public CustomRoutingProfileService customRoutingProfileService() {
-		return new CustomRoutingProfileService(customRoutingProfileRepository);
+		return new CustomRoutingProfileService(customRoutingProfileRepository, customModelRepository());
 	}
 
 	@Bean
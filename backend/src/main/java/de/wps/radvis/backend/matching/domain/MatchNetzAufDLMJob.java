@@ -17,11 +17,12 @@ package de.wps.radvis.backend.matching.domain;
 import static org.valid4j.Assertive.require;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hamcrest.Matchers;
 import org.locationtech.jts.geom.Envelope;
@@ -44,6 +45,7 @@ import de.wps.radvis.backend.matching.domain.exception.MatchingFehlerException;
 import de.wps.radvis.backend.matching.domain.repository.DlmMatchingRepository;
 import de.wps.radvis.backend.matching.domain.service.MatchingJobProtokollService;
 import de.wps.radvis.backend.matching.domain.service.MatchingKorrekturService;
+import de.wps.radvis.backend.matching.domain.service.MatchingPipelineService;
 import de.wps.radvis.backend.netz.domain.entity.Kante;
 import de.wps.radvis.backend.netz.domain.entity.StreckeVonKanten;
 import de.wps.radvis.backend.netz.domain.entity.StreckenEinerPartition;
@@ -66,6 +68,7 @@ public class MatchNetzAufDLMJob extends AbstractJob {
 	private final MatchingJobProtokollService matchingJobProtokollService;
 	private final EntityManager entityManager;
 	private final DLMConfigurationProperties config;
+	private final MatchingPipelineService matchingPipelineService;
 
 	private final QuellSystem quellSystem;
 
@@ -77,7 +80,8 @@ public class MatchNetzAufDLMJob extends AbstractJob {
 		MatchingKorrekturService korrekturService,
 		MatchingJobProtokollService matchingJobProtokollService,
 		EntityManager entityManager,
-		DLMConfigurationProperties config, QuellSystem quellSystem) {
+		DLMConfigurationProperties config, MatchingPipelineService matchingPipelineService,
+		QuellSystem quellSystem) {
 		super(repository);
 
 		require(netzfehlerRepository, Matchers.notNullValue());
@@ -87,6 +91,7 @@ public class MatchNetzAufDLMJob extends AbstractJob {
 		require(korrekturService, Matchers.notNullValue());
 		require(matchingJobProtokollService, Matchers.notNullValue());
 		require(entityManager, Matchers.notNullValue());
+		require(matchingPipelineService, Matchers.notNullValue());
 		require(quellSystem, Matchers.notNullValue());
 
 		this.netzfehlerRepository = netzfehlerRepository;
@@ -97,6 +102,7 @@ public class MatchNetzAufDLMJob extends AbstractJob {
 		this.matchingJobProtokollService = matchingJobProtokollService;
 		this.entityManager = entityManager;
 		this.config = config;
+		this.matchingPipelineService = matchingPipelineService;
 		this.quellSystem = quellSystem;
 	}
 
@@ -125,23 +131,67 @@ public class MatchNetzAufDLMJob extends AbstractJob {
 
 		MatchingJobStatistik kantenStatistik = new MatchingJobStatistik();
 
-		DlmMatchingRepository dlmMatchingRepository = dlmMatchingRepositorySupplier.get();
-
-		AtomicInteger anzahlKantenAbgearbeitet = new AtomicInteger();
-		anzahlKantenAbgearbeitet.set(0);
 		netzfehlerRepository.deleteAllByjobZuordnung(getName());
 
 		List<Envelope> partitionen = getPartitionen(config.getExtentProperty(), config.getPartitionenX());
 
-		Set<Long> bereitsAbgearbeitet = new HashSet<>();
-		List<StreckeVonKanten> unvollstaendigeStreckenUeberPartitionenHinweg = new ArrayList<>();
+		StreckenMatchingVerarbeitung verarbeitung = new StreckenMatchingVerarbeitung(
+			dlmMatchingRepositorySupplier.get());
+		matchingPipelineService.verarbeite(partitionen, verarbeitung, kantenStatistik);
+
+		if (!verarbeitung.unvollstaendigeStreckenUeberPartitionenHinweg.isEmpty()) {
+			log.warn("Es gibt Strecken, die ueber alle Partitionen hinweg unvollstaendig sind. Dies ist wahrscheinlich"
+				+ "ein Bug.");
+			throw new RuntimeException(
+				"Es gibt Strecken, die über alle Partitionen hinweg unvollstaendig sind. Dies ist wahrscheinlich"
+					+ "ein Bug.");
+		} else {
+			log.info("Alle Strecken vollstaendig");
+		}
+
+		kantenStatistik.gesamtzahlKanten = verarbeitung.anzahlKantenAbgearbeitet;
+		kantenStatistik.anzahlKantenOhneMatchInsgesamt = kantenStatistik.anzahlKantenOhneGraphhopperMatch
+			+ kantenStatistik.anzahlKantenMitZuSchlechtemGraphhopperMatch;
+		kantenStatistik.anzahlOhneValideStreckenmatchesInsgesamt = kantenStatistik.anzahlStreckenmatchesZuLang
+			+ kantenStatistik.anzahlStreckenmatchesZuWeitEntfernt
+			+ kantenStatistik.anzahlKeineStreckenmatches;
+		log.info(kantenStatistik.toString());
+
+		return Optional.of(kantenStatistik);
+	}
+
+	private record KantenMatch(Long kanteId, LineString geometrie) {
+	}
+
+	/**
+	 * Ergebnis des Matchings einer Strecke. Enthält nur Werte und keine Entitäten, damit es gefahrlos aus den Workern
+	 * an den schreibenden Thread übergeben werden kann.
+	 */
+	private record StreckenMatch(List<KantenMatch> kantenMatches, List<KanteNichtGematchedException> ohneMatch,
+		List<MatchingFehlerException> matchingFehler, int anzahlKanten) {
+	}
+
+	private class StreckenMatchingVerarbeitung
+		implements MatchingPipelineService.Verarbeitung<StreckeVonKanten, StreckenMatch> {
+
+		private final DlmMatchingRepository dlmMatchingRepository;
+		private final Set<Long> bereitsAbgearbeitet = new HashSet<>();
+		private List<StreckeVonKanten> unvollstaendigeStreckenUeberPartitionenHinweg = new ArrayList<>();
+		private int anzahlKantenAbgearbeitet = 0;
 
-		for (Envelope partition : partitionen) {
+		private StreckenMatchingVerarbeitung(DlmMatchingRepository dlmMatchingRepository) {
+			this.dlmMatchingRepository = dlmMatchingRepository;
+		}
+
+		@Override
+		public List<StreckeVonKanten> lade(Envelope partition) {
 			Envelope biggerEnvelopeForTopology = partition.copy();
 			biggerEnvelopeForTopology.expandBy(2000);
 
-			List<Kante> kanten = netzService.getKantenInBereichNachQuelle(biggerEnvelopeForTopology, quellSystem)
-				.toList();
+			// Die Knoten werden direkt mitgeladen, da die Worker beim Zuschneiden der Strecken auf die Kanten auf
+			// deren Koordinaten zugreifen und dort keine Lazy-Assoziationen nachgeladen werden dürfen.
+			List<Kante> kanten = netzService.getKantenInBereichNachQuelleEagerFetchKnoten(biggerEnvelopeForTopology,
+				quellSystem);
 
 			final StreckenEinerPartition<StreckeVonKanten> streckenDieserPartition = streckenViewService
 				.createStreckenEinerPartition(kanten, partition, bereitsAbgearbeitet);
@@ -152,79 +202,84 @@ public class MatchNetzAufDLMJob extends AbstractJob {
 			unvollstaendigeStreckenUeberPartitionenHinweg = nochNichtBearbeiteteStreckenAllerPartitionen.unvollstaendig;
 
 			streckenDieserPartition.vollstaendig.addAll(nochNichtBearbeiteteStreckenAllerPartitionen.vollstaendig);
+			return streckenDieserPartition.vollstaendig;
+		}
 
-			streckenDieserPartition.vollstaendig.forEach(strecke -> {
-				LineString streckenMatch = null;
-				boolean streckenMatchZuSchlecht = false;
-				try {
-					streckenMatch = dlmMatchingRepository.matchGeometry(strecke.getStrecke(), "bike").getGeometrie();
-					List<LineString> matchProKante = getMatchProKanteAusStreckenMatch(strecke, streckenMatch);
-					for (int i = 0; i < strecke.getKanten().size(); i++) {
-						Kante kante = strecke.getKanten().get(i);
-						LineString matchDerKante = matchProKante.get(i);
-						try {
-							matchDerKante = korrekturService.checkMatchingGeometrieAufFehlerUndKorrigiere(
-								kante.getId(), kante.getGeometry(), matchDerKante, null);
-							kante.setAufDlmAbgebildeteGeometry(matchDerKante);
-							netzService.saveKante(kante);
-						} catch (MatchingFehlerException e) {
-							// Konsistenzprüfung für Ausschnitt aus Strecke für die Kante hat nicht funktioniert
-							// Probiere individuellen match
-							matcheKanteIndividuell(dlmMatchingRepository, kante, kantenStatistik);
-						}
-					}
-				} catch (KeinMatchGefundenException e) {
-					kantenStatistik.anzahlKeineStreckenmatches++;
-					streckenMatchZuSchlecht = true;
-				} catch (GeometryLaengeMismatchException e) {
-					kantenStatistik.anzahlStreckenmatchesZuLang++;
-					streckenMatchZuSchlecht = true;
-				} catch (GeometryZuWeitEntferntException e) {
-					kantenStatistik.anzahlStreckenmatchesZuWeitEntfernt++;
-					streckenMatchZuSchlecht = true;
-				} catch (Exception e) {
-					log.error("Es ist ein unbekannter fehler beim Matching aufgetreten: ", e);
-					throw new RuntimeException(
-						String.format("Es ist ein unbekannter fehler beim Matching aufgetreten:"), e);
-				} finally {
-					if (streckenMatchZuSchlecht) {
-						strecke.getKanten()
-							.forEach(kante -> matcheKanteIndividuell(dlmMatchingRepository, kante, kantenStatistik));
-						kantenStatistik.anzahlOhneValideStreckenmatchesInsgesamt++;
+		@Override
+		public StreckenMatch matche(StreckeVonKanten strecke, MatchingJobStatistik statistik) {
+			StreckenMatch streckenMatch = new StreckenMatch(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+				strecke.getKanten().size());
+			boolean streckenMatchZuSchlecht = false;
+			try {
+				LineString streckenGeometrie = dlmMatchingRepository.matchGeometry(strecke.getStrecke(), "bike")
+					.getGeometrie();
+				List<LineString> matchProKante = getMatchProKanteAusStreckenMatch(strecke, streckenGeometrie);
+				for (int i = 0; i < strecke.getKanten().size(); i++) {
+					Kante kante = strecke.getKanten().get(i);
+					LineString matchDerKante = matchProKante.get(i);
+					try {
+						matchDerKante = korrekturService.checkMatchingGeometrieAufFehlerUndKorrigiere(
+							kante.getId(), kante.getGeometry(), matchDerKante, null);
+						streckenMatch.kantenMatches().add(new KantenMatch(kante.getId(), matchDerKante));
+					} catch (MatchingFehlerException e) {
+						// Konsistenzprüfung für Ausschnitt aus Strecke für die Kante hat nicht funktioniert
+						// Probiere individuellen match
+						matcheKanteIndividuell(dlmMatchingRepository, kante, statistik, streckenMatch);
 					}
-					anzahlKantenAbgearbeitet.addAndGet(strecke.getKanten().size());
-					kantenStatistik.anzahlStrecken++;
 				}
-			});
-			entityManager.flush();
-			entityManager.clear();
-			log.info("Partition {}/{} beendet. Es wurden bereits {} Kanten abgearbeitet",
-				partitionen.indexOf(partition), partitionen.size(), anzahlKantenAbgearbeitet.get());
+			} catch (KeinMatchGefundenException e) {
+				statistik.anzahlKeineStreckenmatches++;
+				streckenMatchZuSchlecht = true;
+			} catch (GeometryLaengeMismatchException e) {
+				statistik.anzahlStreckenmatchesZuLang++;
+				streckenMatchZuSchlecht = true;
+			} catch (GeometryZuWeitEntferntException e) {
+				statistik.anzahlStreckenmatchesZuWeitEntfernt++;
+				streckenMatchZuSchlecht = true;
+			} catch (Exception e) {
+				log.error("Es ist ein unbekannter fehler beim Matching aufgetreten: ", e);
+				throw new RuntimeException(
+					String.format("Es ist ein unbekannter fehler beim Matching aufgetreten:"), e);
+			}
+
+			if (streckenMatchZuSchlecht) {
+				strecke.getKanten()
+					.forEach(kante -> matcheKanteIndividuell(dlmMatchingRepository, kante, statistik, streckenMatch));
+				statistik.anzahlOhneValideStreckenmatchesInsgesamt++;
+			}
+			statistik.anzahlStrecken++;
+			return streckenMatch;
 		}
 
-		if (!unvollstaendigeStreckenUeberPartitionenHinweg.isEmpty()) {
-			log.warn("Es gibt Strecken, die ueber alle Partitionen hinweg unvollstaendig sind. Dies ist wahrscheinlich"
-				+ "ein Bug.");
-			throw new RuntimeException(
-				"Es gibt Strecken, die über alle Partitionen hinweg unvollstaendig sind. Dies ist wahrscheinlich"
-					+ "ein Bug.");
-		} else {
-			log.info("Alle Strecken vollstaendig");
+		@Override
+		public void schreibe(List<StreckenMatch> streckenMatches) {
+			Map<Long, LineString> geometrieProKante = new HashMap<>();
+			for (StreckenMatch streckenMatch : streckenMatches) {
+				streckenMatch.kantenMatches()
+					.forEach(kantenMatch -> geometrieProKante.put(kantenMatch.kanteId(), kantenMatch.geometrie()));
+				streckenMatch.ohneMatch().forEach(e -> matchingJobProtokollService.handle(e, getName()));
+				streckenMatch.matchingFehler().forEach(e -> matchingJobProtokollService.handle(e, getName()));
+				anzahlKantenAbgearbeitet += streckenMatch.anzahlKanten();
+			}
+
+			// Die Kanten werden neu geladen, da die beim Laden der Partition gelesenen Instanzen durch das Leeren des
+			// EntityManagers nach der vorherigen Partition bereits detached sein können.
+			List<Kante> kanten = netzService.getKanten(geometrieProKante.keySet());
+			kanten.forEach(kante -> kante.setAufDlmAbgebildeteGeometry(geometrieProKante.get(kante.getId())));
+			netzService.saveKanten(kanten);
 		}
 
-		kantenStatistik.gesamtzahlKanten = anzahlKantenAbgearbeitet.get();
-		kantenStatistik.anzahlKantenOhneMatchInsgesamt = kantenStatistik.anzahlKantenOhneGraphhopperMatch
-			+ kantenStatistik.anzahlKantenMitZuSchlechtemGraphhopperMatch;
-		kantenStatistik.anzahlOhneValideStreckenmatchesInsgesamt = kantenStatistik.anzahlStreckenmatchesZuLang
-			+ kantenStatistik.anzahlStreckenmatchesZuWeitEntfernt
-			+ kantenStatistik.anzahlKeineStreckenmatches;
-		log.info(kantenStatistik.toString());
-
-		return Optional.of(kantenStatistik);
+		@Override
+		public void partitionAbgeschlossen(int partitionIndex, int anzahlPartitionen) {
+			entityManager.flush();
+			entityManager.clear();
+			log.info("Partition {}/{} beendet. Es wurden bereits {} Kanten abgearbeitet",
+				partitionIndex, anzahlPartitionen, anzahlKantenAbgearbeitet);
+		}
 	}
 
 	private void matcheKanteIndividuell(DlmMatchingRepository dlmMatchingRepository, Kante kante,
-		MatchingJobStatistik statistik) {
+		MatchingJobStatistik statistik, StreckenMatch streckenMatch) {
 		boolean hatZuSchlechtesMatchBekommen = false;
 		LineString match = null;
 
@@ -232,10 +287,10 @@ public class MatchNetzAufDLMJob extends AbstractJob {
 			match = matchGeometryBeideRichtungen(dlmMatchingRepository, kante.getGeometry(), kante.getId(), statistik);
 		} catch (KeinMatchGefundenException e) {
 			statistik.anzahlOhneMatch++;
-			matchingJobProtokollService.handle(
-				new KanteNichtGematchedException(kante.getId(), kante.getGeometry(), e.getMessage()), getName());
+			streckenMatch.ohneMatch()
+				.add(new KanteNichtGematchedException(kante.getId(), kante.getGeometry(), e.getMessage()));
 		} catch (GeometryLaengeMismatchException e) {
-			matchingJobProtokollService.handle(e, getName());
+			streckenMatch.matchingFehler().add(e);
 			hatZuSchlechtesMatchBekommen = true;
 			statistik.anzahlLaengeMismatch++;
 			statistik
@@ -244,7 +299,7 @@ public class MatchNetzAufDLMJob extends AbstractJob {
 
 		} catch (GeometryZuWeitEntferntException e) {
 			statistik.anzahlZuWeitEntfernteMatches++;
-			matchingJobProtokollService.handle(e, getName());
+			streckenMatch.matchingFehler().add(e);
 			hatZuSchlechtesMatchBekommen = true;
 		}
 
@@ -256,8 +311,7 @@ public class MatchNetzAufDLMJob extends AbstractJob {
 			statistik.anzahlKantenOhneGraphhopperMatch++;
 			return;
 		}
-		kante.setAufDlmAbgebildeteGeometry(match);
-		netzService.saveKante(kante);
+		streckenMatch.kantenMatches().add(new KantenMatch(kante.getId(), match));
 	}
 
 	private List<LineString> getMatchProKanteAusStreckenMatch(StreckeVonKanten strecke, LineString streckenMatch)
@@ -49,6 +49,7 @@ import de.wps.radvis.backend.matching.domain.repository.OsmAbbildungsFehlerRepos
 import de.wps.radvis.backend.matching.domain.repository.OsmMatchingRepository;
 import de.wps.radvis.backend.matching.domain.service.MatchingJobProtokollService;
 import de.wps.radvis.backend.matching.domain.service.MatchingKorrekturService;
+import de.wps.radvis.backend.matching.domain.service.MatchingPipelineService;
 import de.wps.radvis.backend.netz.domain.entity.KanteGeometryView;
 import de.wps.radvis.backend.netz.domain.entity.KanteOsmWayIdsInsert;
 import de.wps.radvis.backend.netz.domain.service.NetzService;
@@ -70,6 +71,7 @@ public class MatchNetzAufOSMJob extends AbstractJob {
 	private final EntityManager entityManager;
 	private final DLMConfigurationProperties config;
 	private final OsmAbbildungsFehlerRepository osmAbbildungsFehlerRepository;
+	private final MatchingPipelineService matchingPipelineService;
 
 	public MatchNetzAufOSMJob(JobExecutionDescriptionRepository repository,
 		NetzfehlerRepository netzfehlerRepository,
@@ -79,7 +81,8 @@ public class MatchNetzAufOSMJob extends AbstractJob {
 		MatchingJobProtokollService osmJobProtokollService,
 		EntityManager entityManager,
 		DLMConfigurationProperties config,
-		OsmAbbildungsFehlerRepository osmAbbildungsFehlerRepository) {
+		OsmAbbildungsFehlerRepository osmAbbildungsFehlerRepository,
+		MatchingPipelineService matchingPipelineService) {
 		super(repository);
 
 		require(netzfehlerRepository, Matchers.notNullValue());
@@ -90,6 +93,7 @@ public class MatchNetzAufOSMJob extends AbstractJob {
 		require(entityManager, Matchers.notNullValue());
 		require(config, Matchers.notNullValue());
 		require(osmAbbildungsFehlerRepository, Matchers.notNullValue());
+		require(matchingPipelineService, Matchers.notNullValue());
 
 		this.netzfehlerRepository = netzfehlerRepository;
 		this.osmMatchingRepositorySupplier = osmMatchingRepositorySupplier;
@@ -99,6 +103,7 @@ public class MatchNetzAufOSMJob extends AbstractJob {
 		this.entityManager = entityManager;
 		this.config = config;
 		this.osmAbbildungsFehlerRepository = osmAbbildungsFehlerRepository;
+		this.matchingPipelineService = matchingPipelineService;
 	}
 
 	@Override
@@ -128,16 +133,11 @@ public class MatchNetzAufOSMJob extends AbstractJob {
 		MatchingJobStatistik statistik = new MatchingJobStatistik();
 
 		OsmMatchingRepository osmMatchingRepository = osmMatchingRepositorySupplier.get();
-		List<OsmAbbildungsFehler> osmAbbildungsFehlerList = new ArrayList<>();
-
-		int indexFuerFortschritt = 0;
 
 		netzfehlerRepository.deleteAllByjobZuordnung(getName());
 
 		List<Envelope> partitionen = getPartitionen(config.getExtentProperty(), config.getPartitionenX());
 
-		Set<Long> bereitsAbgearbeitet = new HashSet<>();
-		int currentPartition = 1;
 		entityManager.createNativeQuery("ALTER TABLE kante_osm_way_ids DISABLE TRIGGER ALL").executeUpdate();
 		entityManager.createNativeQuery("DROP INDEX IF EXISTS kante_osm_way_ids_kante").executeUpdate();
 		entityManager.createNativeQuery("DROP INDEX IF EXISTS kante_osm_way_ids_value").executeUpdate();
@@ -145,109 +145,10 @@ public class MatchNetzAufOSMJob extends AbstractJob {
 		log.info("TRUNCATE OsmWayIds");
 		netzService.truncateOsmWayIds();
 
-		for (Envelope partition : partitionen) {
-			log.info("Hole Kanten für Partition {} / {}", currentPartition++, partitionen.size());
-			List<KanteGeometryView> kanten = netzService.getFuerOsmAbbildungRelevanteKanten(partition);
-			log.info("... done. Anzahl Kanten mit vom default abweichenden Attributen: " + kanten.size());
-
-			List<KanteOsmWayIdsInsert> inserts = new ArrayList<>();
-			for (KanteGeometryView kante : kanten) {
-				boolean hatZuSchlechtesOsmMatchBekommen = false;
-
-				MatchResult match = null;
-				LineString originalMatchLineString = null;
-				LineString fixedMatchLineString = null;
-
-				// Durch Korrekturen an den Matches kann es sein, dass man neu aufs OSM-Netz matchen muss, da sich durch
-				// die Korrektur (z.B. Entfernung einer Sackgasse) die Geometrie geändert hat. Das hat dann Auswirkungen
-				// darauf, welche OSM-Ways im Match enthalten sind, weswegen man die korrigierte Geometrie neu matchen muss.
-				boolean needsRematch = false;
-
-				if (bereitsAbgearbeitet.add(kante.getId())) {
-					try {
-						match = osmMatchingRepository.matchGeometry(kante.getGeometry());
-						originalMatchLineString = osmMatchingRepository.extrahiereLineString(match);
-
-						try {
-							fixedMatchLineString = korrekturService.checkMatchingGeometrieAufFehlerUndKorrigiere(
-								kante.getId(), kante.getGeometry(), originalMatchLineString, statistik);
-							needsRematch = !originalMatchLineString.equalsExact(fixedMatchLineString,
-								OsmMatchingRepository.LINE_STRING_EQUAL_TOLERANCE);
-						} catch (MatchingFehlerException eIntern) {
-							// Wenn hier eine Exception fliegt ist damit garantiert, dass im weiteren Verlauf (nach den
-							// catches) keine Werte von den oberen Berechnungen weiterhin gespeichert sind.
-							originalMatchLineString = null;
-							fixedMatchLineString = null;
-
-							// Nochmal probieren mit umgedrehter Geometrie. Hilft bei Kanten, deren
-							// Stationierungsrichtung entgegen der OSM-Way Richtung ist und der OSM-Way gleichzeitig
-							// eine Einbahnstraße ist oder andere tags trägt (z.B. "cycleway:right=..."), die ein
-							// Matching verhindern.
-							match = osmMatchingRepository.matchGeometry(kante.getGeometry().reverse());
-							originalMatchLineString = osmMatchingRepository.extrahiereLineString(match);
-							fixedMatchLineString = korrekturService.checkMatchingGeometrieAufFehlerUndKorrigiere(
-								kante.getId(), kante.getGeometry(), originalMatchLineString, statistik);
-							needsRematch = !originalMatchLineString.equalsExact(fixedMatchLineString,
-								OsmMatchingRepository.LINE_STRING_EQUAL_TOLERANCE);
-							statistik.anzahlUmdrehenHatGeholfen++;
-						}
-					} catch (KeinMatchGefundenException e) {
-						statistik.anzahlOhneMatch++;
-						osmJobProtokollService.handle(
-							new KanteNichtGematchedException(kante.getId(), kante.getGeometry(), e.getMessage()),
-							getName());
-						hatZuSchlechtesOsmMatchBekommen = true;
-					} catch (GeometryLaengeMismatchException e) {
-						osmJobProtokollService.handle(e, getName());
-						hatZuSchlechtesOsmMatchBekommen = true;
-						statistik.anzahlLaengeMismatch++;
-						statistik
-							.reportLaengeMismatch(
-								Math.round(e.getAbgebildeteGeometryLaenge() - e.getOriginalGeometryLaenge()));
-						statistik.reportLaengeMismatchKanteLaenge(kante.getGeometry().getLength());
-					} catch (GeometryZuWeitEntferntException e) {
-						statistik.anzahlZuWeitEntfernteMatches++;
-						osmJobProtokollService.handle(e, getName());
-						hatZuSchlechtesOsmMatchBekommen = true;
-					}
-
-					if (match == null) {
-						statistik.anzahlKantenOhneGraphhopperMatch++;
-						osmAbbildungsFehlerList.add(createOsmAbbildungsFehler(startTimeJob, kante));
-						continue;
-					}
-					if (hatZuSchlechtesOsmMatchBekommen) {
-						statistik.anzahlKantenMitZuSchlechtemGraphhopperMatch++;
-						osmAbbildungsFehlerList.add(createOsmAbbildungsFehler(startTimeJob, kante));
-						continue;
-					}
-
-					List<LinearReferenzierteOsmWayId> osmWayIds;
-					try {
-						log.debug("Kante {} / {}", kante.getId(), kante.getGeometry());
-						if (needsRematch) {
-							match = osmMatchingRepository.matchGeometry(fixedMatchLineString);
-						}
-						osmWayIds = osmMatchingRepository.extrahiereLineareReferenzierung(match)
-							.getLinearReferenzierteOsmWayIds();
-					} catch (KeinMatchGefundenException e) {
-						statistik.anzahlKantenOhneGraphhopperMatch++;
-						osmAbbildungsFehlerList.add(createOsmAbbildungsFehler(startTimeJob, kante));
-						continue;
-					}
-
-					if (!osmWayIds.isEmpty()) {
-						inserts.add(new KanteOsmWayIdsInsert(kante.getId(), osmWayIds));
-					}
-
-					if (++indexFuerFortschritt % 10000 == 0) {
-						log.info("Es wurde für {} Kanten versucht ein Match zu finden", indexFuerFortschritt);
-					}
-				}
-			}
-
-			netzService.insertOsmWayIds(inserts);
-		}
+		OsmAbbildungsVerarbeitung verarbeitung = new OsmAbbildungsVerarbeitung(osmMatchingRepository, startTimeJob,
+			partitionen.size());
+		matchingPipelineService.verarbeite(partitionen, verarbeitung, statistik);
+		List<OsmAbbildungsFehler> osmAbbildungsFehlerList = verarbeitung.osmAbbildungsFehlerList;
 
 		// Wir wollen alle Osm Abbildungsfehler vom vorherigen Durchlauf loeschen, sodass nur die aktuellen in der Table stehen
 		osmAbbildungsFehlerRepository.deleteAll();
@@ -275,7 +176,7 @@ public class MatchNetzAufOSMJob extends AbstractJob {
 		entityManager.createNativeQuery("ALTER TABLE kante_osm_way_ids ENABLE TRIGGER ALL").executeUpdate();
 		log.info("... Done.");
 
-		statistik.gesamtzahlKanten = indexFuerFortschritt;
+		statistik.gesamtzahlKanten = verarbeitung.indexFuerFortschritt;
 		statistik.anzahlKantenOhneMatchInsgesamt = statistik.anzahlKantenOhneGraphhopperMatch
 			+ statistik.anzahlKantenMitZuSchlechtemGraphhopperMatch;
 		log.info(statistik.toString());
@@ -283,6 +184,150 @@ public class MatchNetzAufOSMJob extends AbstractJob {
 		return Optional.of(statistik);
 	}
 
+	/**
+	 * Ergebnis des Matchings einer Kante. Ist {@code insert} null, konnte für die Kante kein (ausreichend gutes) Match
+	 * gefunden werden.
+	 */
+	private record KantenMatch(KanteGeometryView kante, KanteOsmWayIdsInsert insert,
+		List<KanteNichtGematchedException> ohneMatch, List<MatchingFehlerException> matchingFehler) {
+	}
+
+	private class OsmAbbildungsVerarbeitung
+		implements MatchingPipelineService.Verarbeitung<KanteGeometryView, KantenMatch> {
+
+		private final OsmMatchingRepository osmMatchingRepository;
+		private final LocalDateTime startTimeJob;
+		private final int anzahlPartitionen;
+		private final Set<Long> bereitsAbgearbeitet = new HashSet<>();
+		private final List<OsmAbbildungsFehler> osmAbbildungsFehlerList = new ArrayList<>();
+		private int currentPartition = 1;
+		private int indexFuerFortschritt = 0;
+
+		private OsmAbbildungsVerarbeitung(OsmMatchingRepository osmMatchingRepository, LocalDateTime startTimeJob,
+			int anzahlPartitionen) {
+			this.osmMatchingRepository = osmMatchingRepository;
+			this.startTimeJob = startTimeJob;
+			this.anzahlPartitionen = anzahlPartitionen;
+		}
+
+		@Override
+		public List<KanteGeometryView> lade(Envelope partition) {
+			log.info("Hole Kanten für Partition {} / {}", currentPartition++, anzahlPartitionen);
+			List<KanteGeometryView> kanten = netzService.getFuerOsmAbbildungRelevanteKanten(partition);
+			log.info("... done. Anzahl Kanten mit vom default abweichenden Attributen: " + kanten.size());
+			return kanten.stream().filter(kante -> bereitsAbgearbeitet.add(kante.getId())).toList();
+		}
+
+		@Override
+		public KantenMatch matche(KanteGeometryView kante, MatchingJobStatistik statistik) {
+			List<KanteNichtGematchedException> ohneMatch = new ArrayList<>();
+			List<MatchingFehlerException> matchingFehler = new ArrayList<>();
+			boolean hatZuSchlechtesOsmMatchBekommen = false;
+
+			MatchResult match = null;
+			LineString originalMatchLineString = null;
+			LineString fixedMatchLineString = null;
+
+			// Durch Korrekturen an den Matches kann es sein, dass man neu aufs OSM-Netz matchen muss, da sich durch
+			// die Korrektur (z.B. Entfernung einer Sackgasse) die Geometrie geändert hat. Das hat dann Auswirkungen
+			// darauf, welche OSM-Ways im Match enthalten sind, weswegen man die korrigierte Geometrie neu matchen muss.
+			boolean needsRematch = false;
+
+			try {
+				match = osmMatchingRepository.matchGeometry(kante.getGeometry());
+				originalMatchLineString = osmMatchingRepository.extrahiereLineString(match);
+
+				try {
+					fixedMatchLineString = korrekturService.checkMatchingGeometrieAufFehlerUndKorrigiere(
+						kante.getId(), kante.getGeometry(), originalMatchLineString, statistik);
+					needsRematch = !originalMatchLineString.equalsExact(fixedMatchLineString,
+						OsmMatchingRepository.LINE_STRING_EQUAL_TOLERANCE);
+				} catch (MatchingFehlerException eIntern) {
+					// Wenn hier eine Exception fliegt ist damit garantiert, dass im weiteren Verlauf (nach den
+					// catches) keine Werte von den oberen Berechnungen weiterhin gespeichert sind.
+					originalMatchLineString = null;
+					fixedMatchLineString = null;
+
+					// Nochmal probieren mit umgedrehter Geometrie. Hilft bei Kanten, deren
+					// Stationierungsrichtung entgegen der OSM-Way Richtung ist und der OSM-Way gleichzeitig
+					// eine Einbahnstraße ist oder andere tags trägt (z.B. "cycleway:right=..."), die ein
+					// Matching verhindern.
+					match = osmMatchingRepository.matchGeometry(kante.getGeometry().reverse());
+					originalMatchLineString = osmMatchingRepository.extrahiereLineString(match);
+					fixedMatchLineString = korrekturService.checkMatchingGeometrieAufFehlerUndKorrigiere(
+						kante.getId(), kante.getGeometry(), originalMatchLineString, statistik);
+					needsRematch = !originalMatchLineString.equalsExact(fixedMatchLineString,
+						OsmMatchingRepository.LINE_STRING_EQUAL_TOLERANCE);
+					statistik.anzahlUmdrehenHatGeholfen++;
+				}
+			} catch (KeinMatchGefundenException e) {
+				statistik.anzahlOhneMatch++;
+				ohneMatch.add(new KanteNichtGematchedException(kante.getId(), kante.getGeometry(), e.getMessage()));
+				hatZuSchlechtesOsmMatchBekommen = true;
+			} catch (GeometryLaengeMismatchException e) {
+				matchingFehler.add(e);
+				hatZuSchlechtesOsmMatchBekommen = true;
+				statistik.anzahlLaengeMismatch++;
+				statistik.reportLaengeMismatch(
+					Math.round(e.getAbgebildeteGeometryLaenge() - e.getOriginalGeometryLaenge()));
+				statistik.reportLaengeMismatchKanteLaenge(kante.getGeometry().getLength());
+			} catch (GeometryZuWeitEntferntException e) {
+				statistik.anzahlZuWeitEntfernteMatches++;
+				matchingFehler.add(e);
+				hatZuSchlechtesOsmMatchBekommen = true;
+			}
+
+			if (match == null) {
+				statistik.anzahlKantenOhneGraphhopperMatch++;
+				return new KantenMatch(kante, null, ohneMatch, matchingFehler);
+			}
+			if (hatZuSchlechtesOsmMatchBekommen) {
+				statistik.anzahlKantenMitZuSchlechtemGraphhopperMatch++;
+				return new KantenMatch(kante, null, ohneMatch, matchingFehler);
+			}
+
+			List<LinearReferenzierteOsmWayId> osmWayIds;
+			try {
+				log.debug("Kante {} / {}", kante.getId(), kante.getGeometry());
+				if (needsRematch) {
+					match = osmMatchingRepository.matchGeometry(fixedMatchLineString);
+				}
+				osmWayIds = osmMatchingRepository.extrahiereLineareReferenzierung(match)
+					.getLinearReferenzierteOsmWayIds();
+			} catch (KeinMatchGefundenException e) {
+				statistik.anzahlKantenOhneGraphhopperMatch++;
+				return new KantenMatch(kante, null, ohneMatch, matchingFehler);
+			}
+
+			return new KantenMatch(kante, new KanteOsmWayIdsInsert(kante.getId(), osmWayIds), ohneMatch,
+				matchingFehler);
+		}
+
+		@Override
+		public void schreibe(List<KantenMatch> kantenMatches) {
+			List<KanteOsmWayIdsInsert> inserts = new ArrayList<>();
+			for (KantenMatch kantenMatch : kantenMatches) {
+				kantenMatch.ohneMatch().forEach(e -> osmJobProtokollService.handle(e, getName()));
+				kantenMatch.matchingFehler().forEach(e -> osmJobProtokollService.handle(e, getName()));
+
+				if (kantenMatch.insert() == null) {
+					osmAbbildungsFehlerList.add(createOsmAbbildungsFehler(startTimeJob, kantenMatch.kante()));
+					continue;
+				}
+
+				if (!kantenMatch.insert().getOsmWayIds().isEmpty()) {
+					inserts.add(kantenMatch.insert());
+				}
+
+				if (++indexFuerFortschritt % 10000 == 0) {
+					log.info("Es wurde für {} Kanten versucht ein Match zu finden", indexFuerFortschritt);
+				}
+			}
+
+			netzService.insertOsmWayIds(inserts);
+		}
+	}
+
 	private OsmAbbildungsFehler createOsmAbbildungsFehler(LocalDateTime startTimeJob, KanteGeometryView kante) {
 		boolean radNETZ = false;
 		boolean kreisnetz = false;
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.matching.domain;
+
+import static org.valid4j.Assertive.require;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+import lombok.Getter;
+
+@ConfigurationProperties("radvis.matching")
+@Getter
+public class MatchingConfigurationProperties {
+
+	private final int anzahlWorker;
+
+	private final int schreibBatchGroesse;
+
+	private final int maximaleAnzahlCustomModels;
+
+	@ConstructorBinding
+	public MatchingConfigurationProperties(int anzahlWorker, int schreibBatchGroesse,
+		int maximaleAnzahlCustomModels) {
+		require(anzahlWorker >= 1, "anzahlWorker muss mindestens 1 sein");
+		require(schreibBatchGroesse >= 1, "schreibBatchGroesse muss mindestens 1 sein");
+		require(maximaleAnzahlCustomModels >= 1, "maximaleAnzahlCustomModels muss mindestens 1 sein");
+
+		this.anzahlWorker = anzahlWorker;
+		this.schreibBatchGroesse = schreibBatchGroesse;
+		this.maximaleAnzahlCustomModels = maximaleAnzahlCustomModels;
+	}
+}
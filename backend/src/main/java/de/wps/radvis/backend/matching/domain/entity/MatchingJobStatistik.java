@@ -49,6 +49,14 @@ public class MatchingJobStatistik extends JobStatistik {
 	public int anzahlStreckenmatchesZuLang;
 	public int anzahlStreckenmatchesZuWeitEntfernt;
 
+	// Pipeline
+	public int anzahlMatchingWorker;
+	public long dauerLadenInMs;
+	// Summe über alle Worker, kann daher größer als die Laufzeit des Jobs sein
+	public long dauerMatchingInMs;
+	public long dauerWartenAufMatchingInMs;
+	public long dauerSchreibenInMs;
+
 	public void reportLaengeMismatch(long mismatchLaenge) {
 		if (mismatchLaenge < 40) {
 			anzahlLaengeMismatchLessThan40m++;
@@ -77,6 +85,39 @@ public class MatchingJobStatistik extends JobStatistik {
 		}
 	}
 
+	/**
+	 * Addiert die Zähler einer anderen Statistik, z.B. die eines einzelnen Matchings aus einem Worker, auf diese
+	 * Statistik. Die Dauern der Pipeline bleiben davon unberührt.
+	 */
+	public void addiere(MatchingJobStatistik andere) {
+		anzahlLaengeMismatch += andere.anzahlLaengeMismatch;
+		anzahlLaengeMismatchLessThan40m += andere.anzahlLaengeMismatchLessThan40m;
+		anzahlLaengeMismatchLessThan50m += andere.anzahlLaengeMismatchLessThan50m;
+		anzahlLaengeMismatchLessThan100m += andere.anzahlLaengeMismatchLessThan100m;
+		anzahlLaengeMismatchMoreThan100m += andere.anzahlLaengeMismatchMoreThan100m;
+		laengenmismatchKanteKuerzer10m += andere.laengenmismatchKanteKuerzer10m;
+		laengenmismatchKanteKuerzer50m += andere.laengenmismatchKanteKuerzer50m;
+		laengenmismatchKanteKuerzer100m += andere.laengenmismatchKanteKuerzer100m;
+		laengenmismatchKanteKuerzer200m += andere.laengenmismatchKanteKuerzer200m;
+		laengenmismatchKanteKuerzer300m += andere.laengenmismatchKanteKuerzer300m;
+		laengenmismatchKanteGroesser300m += andere.laengenmismatchKanteGroesser300m;
+		anzahlOhneMatch += andere.anzahlOhneMatch;
+		anzahlZuWeitEntfernteMatches += andere.anzahlZuWeitEntfernteMatches;
+
+		anzahlKorrekturHatGeholfen += andere.anzahlKorrekturHatGeholfen;
+		anzahlUmdrehenHatGeholfen += andere.anzahlUmdrehenHatGeholfen;
+		gesamtzahlKanten += andere.gesamtzahlKanten;
+		anzahlKantenOhneGraphhopperMatch += andere.anzahlKantenOhneGraphhopperMatch;
+		anzahlKantenMitZuSchlechtemGraphhopperMatch += andere.anzahlKantenMitZuSchlechtemGraphhopperMatch;
+		anzahlKantenOhneMatchInsgesamt += andere.anzahlKantenOhneMatchInsgesamt;
+
+		anzahlStrecken += andere.anzahlStrecken;
+		anzahlOhneValideStreckenmatchesInsgesamt += andere.anzahlOhneValideStreckenmatchesInsgesamt;
+		anzahlKeineStreckenmatches += andere.anzahlKeineStreckenmatches;
+		anzahlStreckenmatchesZuLang += andere.anzahlStreckenmatchesZuLang;
+		anzahlStreckenmatchesZuWeitEntfernt += andere.anzahlStreckenmatchesZuWeitEntfernt;
+	}
+
 	@Override
 	public String toString() {
 		return ReflectionToStringBuilder.toString(this, ToStringStyle.MULTI_LINE_STYLE);
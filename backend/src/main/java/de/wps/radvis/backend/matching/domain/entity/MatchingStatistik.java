@@ -70,6 +70,31 @@ public class MatchingStatistik extends JobStatistik {
 		}
 	}
 
+	/**
+	 * Addiert die Zähler einer anderen Statistik auf diese, z.B. um die Statistiken nebenläufiger Matchings
+	 * zusammenzuführen.
+	 */
+	public void addiere(MatchingStatistik andere) {
+		anzahlLaengeMismatch += andere.anzahlLaengeMismatch;
+		anzahlLaengeMismatchLessThan40m += andere.anzahlLaengeMismatchLessThan40m;
+		anzahlLaengeMismatchLessThan50m += andere.anzahlLaengeMismatchLessThan50m;
+		anzahlLaengeMismatchLessThan100m += andere.anzahlLaengeMismatchLessThan100m;
+		anzahlLaengeMismatchMoreThan100m += andere.anzahlLaengeMismatchMoreThan100m;
+		laengenmismatchKanteKuerzer10m += andere.laengenmismatchKanteKuerzer10m;
+		laengenmismatchKanteKuerzer50m += andere.laengenmismatchKanteKuerzer50m;
+		laengenmismatchKanteKuerzer100m += andere.laengenmismatchKanteKuerzer100m;
+		laengenmismatchKanteKuerzer200m += andere.laengenmismatchKanteKuerzer200m;
+		laengenmismatchKanteKuerzer300m += andere.laengenmismatchKanteKuerzer300m;
+		laengenmismatchKanteGroesser300m += andere.laengenmismatchKanteGroesser300m;
+		anzahlOhneMatch += andere.anzahlOhneMatch;
+		anzahlZuWeitEntfernteMatches += andere.anzahlZuWeitEntfernteMatches;
+		anzahlUmdrehenHatGeholfen += andere.anzahlUmdrehenHatGeholfen;
+		anzahlKantenOhneGraphhopperMatch += andere.anzahlKantenOhneGraphhopperMatch;
+		anzahlKantenMitZuSchlechtemGraphhopperMatch += andere.anzahlKantenMitZuSchlechtemGraphhopperMatch;
+		matchAberNichtSimple += andere.matchAberNichtSimple;
+		anzahlKorrekturInvalid += andere.anzahlKorrekturInvalid;
+	}
+
 	@Override
 	public String toString() {
 		return ReflectionToStringBuilder.toString(this, ToStringStyle.MULTI_LINE_STYLE);
@@ -17,10 +17,9 @@ package de.wps.radvis.backend.matching.domain.entity;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.valid4j.Assertive.require;
 
-import java.util.HashMap;
 import java.util.Optional;
 
-import org.locationtech.jts.geom.Coordinate;
+import com.carrotsearch.hppc.LongLongHashMap;
 
 import de.topobyte.osm4j.core.model.impl.Node;
 
@@ -30,26 +29,34 @@ import de.topobyte.osm4j.core.model.impl.Node;
  * Wichtig ist hierbei, dass es aus Performance- und Speichergründen KEIN spatialer Index ist (also kein QuadTree o.Ä.),
  * der mit Ungenauigkeiten bei angefragten Koordinaten umgehen kann. Kleinste Abweichungen bei den angefragten
  * Koordinaten führen also zu leeren Suchergebnissen.
+ *
+ * Als Schlüssel dient die Koordinate in der Auflösung, in der sie auch in der PBF-Datei landet (1e-7 Grad), gepackt
+ * in ein long. So kommt der Index ohne geboxte Coordinate- und Long-Objekte aus.
  */
 public class NodeIndex {
 
-	private final HashMap<Coordinate, Long> index;
+	private static final double AUFLOESUNG = 1e7;
+
+	private final LongLongHashMap index;
 
 	public NodeIndex() {
-		this.index = new HashMap<>();
+		this.index = new LongLongHashMap();
 	}
 
 	public void fuegeEin(Node node) {
 		require(node, notNullValue());
-		index.put(getCoordinate(node), node.getId());
+		index.put(getSchluessel(node), node.getId());
 	}
 
 	public Optional<Long> finde(Node node) {
 		require(node, notNullValue());
-		return Optional.ofNullable(index.get(getCoordinate(node)));
+		long schluessel = getSchluessel(node);
+		return index.containsKey(schluessel) ? Optional.of(index.get(schluessel)) : Optional.empty();
 	}
 
-	private Coordinate getCoordinate(Node node) {
-		return new Coordinate(node.getLatitude(), node.getLongitude());
+	private static long getSchluessel(Node node) {
+		long lat = Math.round(node.getLatitude() * AUFLOESUNG);
+		long lon = Math.round(node.getLongitude() * AUFLOESUNG);
+		return (lat << 32) | (lon & 0xFFFFFFFFL);
 	}
 }
@@ -12,14 +12,12 @@
  * See the Licence for the specific language governing permissions and limitations under the Licence.
  */
 
-package de.wps.radvis.backend.matching.domain.entity;
+package de.wps.radvis.backend.matching.domain.event;
 
-public class ElevationDataFileNotFoundException extends Exception {
-
-	private static final long serialVersionUID = 6984332685187604851L;
-
-	public ElevationDataFileNotFoundException(String msg) {
-		super(msg);
-	}
+import de.wps.radvis.backend.common.domain.RadVisDomainEvent;
 
+/**
+ * Der Graphhopper wurde neu aufgebaut, bisherige Routing-Ergebnisse können sich dadurch geändert haben.
+ */
+public class GraphhopperAktualisiertEvent implements RadVisDomainEvent {
 }
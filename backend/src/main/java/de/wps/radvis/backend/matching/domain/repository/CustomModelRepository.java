@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.matching.domain.repository;
+
+import java.util.Collection;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.graphhopper.util.CustomModel;
+
+/**
+ * Liefert die geparsten {@link CustomModel}s der Custom-Routing-Profile für das Routing.
+ */
+public interface CustomModelRepository {
+
+	CustomModel getCustomModel(long customRoutingProfileId) throws JsonProcessingException;
+
+	/**
+	 * Verwirft bereits geparste Modelle der Profile, z.B. weil diese geändert oder gelöscht wurden.
+	 */
+	void entferne(Collection<Long> customRoutingProfileIds);
+}
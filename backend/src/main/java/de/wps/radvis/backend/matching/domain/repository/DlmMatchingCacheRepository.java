@@ -25,9 +25,23 @@ public interface DlmMatchingCacheRepository {
 	void save(Map<Integer, OsmWayId> mappingCache,
 		Map<Integer, SeitenbezogeneProfilEigenschaften> mappingCacheProfilEigenschaften);
 
-	Map<Integer, OsmWayId> getWayIds();
-
-	Map<Integer, SeitenbezogeneProfilEigenschaften> getProfilEigenschaften();
+	/**
+	 * Öffnet den gespeicherten Cache zum Lesen. Liegt der Cache noch im alten JSON-Format vor, wird er dabei einmalig
+	 * in das aktuelle Format überführt.
+	 */
+	void load();
+
+	/**
+	 * @return die OsmWayId der Edge oder null, falls für die Edge kein Mapping existiert
+	 */
+	OsmWayId getOsmWayId(int edgeId);
+
+	/**
+	 * @return die ProfilEigenschaften der Edge oder null, falls für die Edge keine existieren
+	 */
+	SeitenbezogeneProfilEigenschaften getProfilEigenschaften(int edgeId);
+
+	int getAnzahlEdges();
 
 	boolean hasCache();
 
@@ -23,7 +23,18 @@ public interface OsmMatchingCacheRepository {
 
 	void save(Map<Integer, LinearReferenzierteOsmWayId> mappingCache);
 
-	Map<Integer, LinearReferenzierteOsmWayId> get();
+	/**
+	 * Öffnet den gespeicherten Cache zum Lesen. Liegt der Cache noch im alten JSON-Format vor, wird er dabei einmalig
+	 * in das aktuelle Format überführt.
+	 */
+	void load();
+
+	/**
+	 * @return die linear referenzierte OsmWayId der Edge oder null, falls für die Edge kein Mapping existiert
+	 */
+	LinearReferenzierteOsmWayId get(int edgeId);
+
+	int getAnzahlEdges();
 
 	boolean hasCache();
 
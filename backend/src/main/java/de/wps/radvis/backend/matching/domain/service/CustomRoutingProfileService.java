@@ -16,19 +16,26 @@ package de.wps.radvis.backend.matching.domain.service;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+
+import org.springframework.context.event.EventListener;
 
 import de.wps.radvis.backend.common.domain.RadVisDomainEventPublisher;
 import de.wps.radvis.backend.matching.domain.entity.CustomRoutingProfile;
 import de.wps.radvis.backend.matching.domain.event.CustomRoutingProfilesDeletedEvent;
+import de.wps.radvis.backend.matching.domain.repository.CustomModelRepository;
 import de.wps.radvis.backend.matching.domain.repository.CustomRoutingProfileRepository;
 import jakarta.transaction.Transactional;
 
 public class CustomRoutingProfileService {
 
 	private final CustomRoutingProfileRepository customRoutingProfileRepository;
+	private final CustomModelRepository customModelRepository;
 
-	public CustomRoutingProfileService(CustomRoutingProfileRepository customRoutingProfileRepository) {
+	public CustomRoutingProfileService(CustomRoutingProfileRepository customRoutingProfileRepository,
+		CustomModelRepository customModelRepository) {
 		this.customRoutingProfileRepository = customRoutingProfileRepository;
+		this.customModelRepository = customModelRepository;
 	}
 
 	@Transactional
@@ -40,6 +47,16 @@ public class CustomRoutingProfileService {
 		RadVisDomainEventPublisher.publish(
 			new CustomRoutingProfilesDeletedEvent(toDelete.stream().map(CustomRoutingProfile::getId).toList()));
 
-		return this.customRoutingProfileRepository.saveAll(profiles);
+		Iterable<CustomRoutingProfile> gespeicherteProfile = this.customRoutingProfileRepository.saveAll(profiles);
+		this.customModelRepository.entferne(profiles.stream()
+			.map(CustomRoutingProfile::getId)
+			.filter(Objects::nonNull)
+			.toList());
+		return gespeicherteProfile;
+	}
+
+	@EventListener
+	public void onCustomRoutingProfilesDeleted(CustomRoutingProfilesDeletedEvent event) {
+		customModelRepository.entferne(event.getCustomProfilIds());
 	}
 }
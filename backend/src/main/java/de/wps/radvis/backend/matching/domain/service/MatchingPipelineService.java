@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.matching.domain.service;
+
+import static org.valid4j.Assertive.require;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.locationtech.jts.geom.Envelope;
+
+import de.wps.radvis.backend.matching.domain.entity.MatchingJobStatistik;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Führt das Matching partitionsweise als Pipeline aus: Während ein Pool von Workern die Aufgaben einer Partition
+ * matcht, lädt der aufrufende Thread bereits die nächste Partition. Die Ergebnisse werden anschließend in der
+ * Reihenfolge der Aufgaben in Batches geschrieben.
+ * <p>
+ * Laden und Schreiben laufen immer im aufrufenden Thread und damit innerhalb von dessen Transaktion. Nur
+ * {@link Verarbeitung#matche} läuft in den Workern und darf daher weder auf den EntityManager noch auf noch nicht
+ * initialisierte Lazy-Assoziationen zugreifen.
+ */
+@Slf4j
+public class MatchingPipelineService {
+
+	private final int anzahlWorker;
+	private final int schreibBatchGroesse;
+
+	public MatchingPipelineService(int anzahlWorker, int schreibBatchGroesse) {
+		require(anzahlWorker >= 1, "anzahlWorker muss mindestens 1 sein");
+		require(schreibBatchGroesse >= 1, "schreibBatchGroesse muss mindestens 1 sein");
+
+		this.anzahlWorker = anzahlWorker;
+		this.schreibBatchGroesse = schreibBatchGroesse;
+	}
+
+	public interface Verarbeitung<A, E> {
+		/**
+		 * Lädt die Aufgaben einer Partition. Läuft im aufrufenden Thread.
+		 */
+		List<A> lade(Envelope partition);
+
+		/**
+		 * Matcht eine einzelne Aufgabe. Läuft nebenläufig in einem Worker, Statistiken müssen in die übergebene, nur
+		 * für diese Aufgabe gültige Statistik geschrieben werden.
+		 */
+		E matche(A aufgabe, MatchingJobStatistik statistik);
+
+		/**
+		 * Schreibt einen Batch von Ergebnissen. Läuft im aufrufenden Thread.
+		 */
+		void schreibe(List<E> ergebnisse);
+
+		/**
+		 * Wird im aufrufenden Thread aufgerufen, nachdem alle Ergebnisse einer Partition geschrieben wurden. Zu diesem
+		 * Zeitpunkt sind die Aufgaben der nächsten Partition bereits geladen.
+		 */
+		default void partitionAbgeschlossen(int partitionIndex, int anzahlPartitionen) {
+		}
+	}
+
+	private record Ergebnis<E>(E ergebnis, MatchingJobStatistik statistik) {
+	}
+
+	public <A, E> void verarbeite(List<Envelope> partitionen, Verarbeitung<A, E> verarbeitung,
+		MatchingJobStatistik statistik) {
+		if (partitionen.isEmpty()) {
+			return;
+		}
+
+		statistik.anzahlMatchingWorker = anzahlWorker;
+		AtomicLong matchingDauerInNanos = new AtomicLong();
+		ExecutorService workers = Executors.newFixedThreadPool(anzahlWorker, workerThreadFactory());
+		try {
+			List<A> aufgaben = lade(verarbeitung, partitionen.get(0), statistik);
+			for (int i = 0; i < partitionen.size(); i++) {
+				List<Future<Ergebnis<E>>> ausstehend = new ArrayList<>(aufgaben.size());
+				for (A aufgabe : aufgaben) {
+					ausstehend.add(workers.submit(() -> {
+						long start = System.nanoTime();
+						MatchingJobStatistik statistikDerAufgabe = new MatchingJobStatistik();
+						E ergebnis = verarbeitung.matche(aufgabe, statistikDerAufgabe);
+						matchingDauerInNanos.addAndGet(System.nanoTime() - start);
+						return new Ergebnis<>(ergebnis, statistikDerAufgabe);
+					}));
+				}
+
+				// Die nächste Partition laden, während die Worker noch mit der aktuellen beschäftigt sind.
+				aufgaben = i + 1 < partitionen.size() ? lade(verarbeitung, partitionen.get(i + 1), statistik)
+					: List.of();
+
+				List<E> batch = new ArrayList<>(schreibBatchGroesse);
+				for (Future<Ergebnis<E>> future : ausstehend) {
+					Ergebnis<E> ergebnis = warteAuf(future, statistik);
+					statistik.addiere(ergebnis.statistik());
+					batch.add(ergebnis.ergebnis());
+					if (batch.size() == schreibBatchGroesse) {
+						schreibe(verarbeitung, batch, statistik);
+						batch = new ArrayList<>(schreibBatchGroesse);
+					}
+				}
+				if (!batch.isEmpty()) {
+					schreibe(verarbeitung, batch, statistik);
+				}
+
+				verarbeitung.partitionAbgeschlossen(i, partitionen.size());
+			}
+		} finally {
+			workers.shutdownNow();
+			statistik.dauerMatchingInMs += TimeUnit.NANOSECONDS.toMillis(matchingDauerInNanos.get());
+		}
+	}
+
+	private <A, E> List<A> lade(Verarbeitung<A, E> verarbeitung, Envelope partition,
+		MatchingJobStatistik statistik) {
+		long start = System.nanoTime();
+		List<A> aufgaben = verarbeitung.lade(partition);
+		statistik.dauerLadenInMs += TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		return aufgaben;
+	}
+
+	private <A, E> void schreibe(Verarbeitung<A, E> verarbeitung, List<E> batch, MatchingJobStatistik statistik) {
+		long start = System.nanoTime();
+		verarbeitung.schreibe(batch);
+		statistik.dauerSchreibenInMs += TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+	}
+
+	private <T> T warteAuf(Future<T> future, MatchingJobStatistik statistik) {
+		long start = System.nanoTime();
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Das Warten auf die Matching-Worker wurde unterbrochen.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new RuntimeException(e.getCause());
+		} finally {
+			statistik.dauerWartenAufMatchingInMs += TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		}
+	}
+
+	private static ThreadFactory workerThreadFactory() {
+		AtomicInteger threadNummer = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "matching-worker-" + threadNummer.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
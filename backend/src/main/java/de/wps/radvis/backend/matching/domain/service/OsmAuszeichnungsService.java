@@ -17,35 +17,45 @@ package de.wps.radvis.backend.matching.domain.service;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.valid4j.Assertive.require;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
-import de.topobyte.osm4j.core.access.OsmIterator;
-import de.topobyte.osm4j.core.access.OsmOutputStream;
-import de.topobyte.osm4j.core.model.iface.EntityContainer;
-import de.topobyte.osm4j.core.model.iface.OsmNode;
-import de.topobyte.osm4j.core.model.iface.OsmRelation;
-import de.topobyte.osm4j.core.model.iface.OsmTag;
-import de.topobyte.osm4j.core.model.impl.Tag;
-import de.topobyte.osm4j.core.model.impl.Way;
-import de.topobyte.osm4j.pbf.seq.PbfIterator;
-import de.topobyte.osm4j.pbf.seq.PbfWriter;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import com.google.protobuf.ByteString;
+
+import de.topobyte.osm4j.pbf.protobuf.Fileformat;
+import de.topobyte.osm4j.pbf.protobuf.Osmformat;
 import de.wps.radvis.backend.matching.domain.entity.PbfJobStatistik;
 import de.wps.radvis.backend.netz.domain.dbView.KanteOsmMatchWithAttribute;
 import de.wps.radvis.backend.netz.domain.repository.KantenRepository;
@@ -55,6 +65,14 @@ import de.wps.radvis.backend.netz.domain.valueObject.Oberflaechenbeschaffenheit;
 import de.wps.radvis.backend.netz.domain.valueObject.Radverkehrsfuehrung;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Reichert die OSM-Ways einer PBF-Datei um die Attribute der auf sie gematchten Kanten an.
+ * <p>
+ * Die Datei wird blockweise verarbeitet: Der aufrufende Thread liest die Blobs nur ein und schreibt sie in der
+ * ursprünglichen Reihenfolge wieder heraus, das Entpacken und Parsen übernehmen Worker. Blöcke, die keinen
+ * anzureichernden Way enthalten (also insbesondere alle Node- und Relation-Blöcke), werden Byte für Byte übernommen.
+ * Nur Blöcke mit anzureichernden Ways werden neu kodiert und komprimiert.
+ */
 @Slf4j
 public class OsmAuszeichnungsService {
 
@@ -76,100 +94,94 @@ public class OsmAuszeichnungsService {
 		}
 	};
 
+	private static final String BLOB_TYP_DATEN = "OSMData";
+
+	private static final int LOG_INTERVALL_ENTITIES = 1000000;
+
+	/**
+	 * Anzahl der Blöcke pro Worker, die gleichzeitig in Bearbeitung sein dürfen. Begrenzt den Speicherbedarf, falls
+	 * das Schreiben langsamer ist als das Lesen.
+	 */
+	private static final int AUSSTEHENDE_BLOECKE_PRO_WORKER = 4;
+
 	private final KantenRepository kantenRepository;
 
 	private final Double minimaleUeberdeckungFuerAttributAuszeichnung;
 
+	private final int anzahlWorker;
+
+	/**
+	 * Kompakte Auszeichnung eines OSM-Ways: abwechselnd Schlüssel und Wert der zu ergänzenden Tags. Gleiche Werte
+	 * teilen sich über alle Ways hinweg dieselbe String-Instanz.
+	 */
+	private record OsmWayAuszeichnung(String[] schluesselUndWerte) {
+	}
+
+	/**
+	 * Ein Fileblock der PBF-Datei, so wie er auf der Platte steht, zusammen mit den darin gezählten Entities.
+	 */
+	private record PbfBlock(byte[] blobHeader, byte[] blob, int anzahlNodes, int anzahlWays, int anzahlRelations,
+		int anzahlWaysTagged) {
+
+		PbfBlock(byte[] blobHeader, byte[] blob) {
+			this(blobHeader, blob, 0, 0, 0, 0);
+		}
+	}
+
 	public OsmAuszeichnungsService(KantenRepository kantenRepository,
-		Double minimaleUeberdeckungFuerAttributAuszeichnung) {
+		Double minimaleUeberdeckungFuerAttributAuszeichnung, int anzahlWorker) {
 		this.kantenRepository = kantenRepository;
 		require(kantenRepository, notNullValue());
 		require(minimaleUeberdeckungFuerAttributAuszeichnung, notNullValue());
 		require(minimaleUeberdeckungFuerAttributAuszeichnung >= 0,
 			"minimaleUeberdeckungFuerNetzklassenAuszeichnung %s >= 0", minimaleUeberdeckungFuerAttributAuszeichnung);
+		require(anzahlWorker >= 1, "Anzahl Worker muss größer 0 sein");
 
 		this.minimaleUeberdeckungFuerAttributAuszeichnung = minimaleUeberdeckungFuerAttributAuszeichnung;
+		this.anzahlWorker = anzahlWorker;
 	}
 
 	public PbfJobStatistik reicherePbfAn(File inputFile, File outputFile) throws IOException {
 		PbfJobStatistik statistik = new PbfJobStatistik();
 
-		log.info("Erstelle Map von OsmWayId auf Set<flacheKante>");
-		Map<Long, Set<KanteOsmMatchWithAttribute>> osmWayToKanten = new HashMap<>();
-		kantenRepository.getKanteOsmMatchesWithOsmAttributes(minimaleUeberdeckungFuerAttributAuszeichnung)
-			.forEach(kanteMapping -> osmWayToKanten.computeIfAbsent(kanteMapping.getOsmWayId(),
-				k -> new HashSet<>()).add(kanteMapping));
-		log.info("Anzahl osmWayIds als keys in der Map: " + osmWayToKanten.keySet().size());
+		log.info("Erstelle Map von OsmWayId auf Auszeichnung");
+		LongObjectHashMap<OsmWayAuszeichnung> osmWayToAuszeichnung = erstelleAuszeichnungen();
+		log.info("Anzahl osmWayIds als keys in der Map: " + osmWayToAuszeichnung.size());
 
 		File tempOutputFile = File.createTempFile(outputFile.getName(), "temp");
 		log.info("Starte schreiben einer neuen osm pbf (erstmal in temp): " + tempOutputFile.getAbsoluteFile());
-		try (InputStream input = new FileInputStream(inputFile);
-			OutputStream output = new FileOutputStream(tempOutputFile)) {
-
-			OsmIterator iterator = new PbfIterator(input, true);
-			OsmOutputStream osmOutput = new PbfWriter(output, true);
-			int i = 0;
-			for (EntityContainer container : iterator) {
-				switch (container.getType()) {
-				default:
-				case Node:
-					statistik.anzahlNodes++;
-					osmOutput.write((OsmNode) container.getEntity());
-					break;
-				case Way:
-					statistik.anzahlWays++;
-					Way osmWay = (Way) container.getEntity();
-
-					if (osmWayToKanten.containsKey(osmWay.getId())) {
-						// Es kann sein, dass es mehrere Kanten mit 0 bis 1 gibt, dann muessen wir uns eine raussuchen
-						// -> hier koennte man auch nach bestimmten Kriterien die Kante raussuchen
-						// aber fuers erste wird einfach mit findFirst eine beliebige genommen.
-						KanteOsmMatchWithAttribute flattenedKante = osmWayToKanten.get(osmWay.getId()).stream()
-							.findFirst()
-							.get();
-
-						// Wichtig:
-						// Im CustomKantenRepositoryImpl wird bereits gefiltert welche Kanten relevant sind
-						// und welche nicht. Ergänzt man ein neues Attribut zur Auszeichnung, muss man es
-						// dort ebenfalls hinzufügen.
-						String netzklassenString = flattenedKante.getNetzklassen().orElse("");
-						tagNetzklassen(osmWay, netzklassenString, statistik);
-						tagBelagart(osmWay, flattenedKante, statistik);
-
-						String breiteValue = flattenedKante.getBreite()
-							.map(breite -> String.format(Locale.ROOT, "%.2f", breite))
-							.orElse("");
-						addTag(osmWay, "width", breiteValue, "", statistik);
-						addTag(osmWay, "cycleway", flattenedKante.getRadverkehrsfuehrung(),
-							Radverkehrsfuehrung.UNBEKANNT.name(), statistik);
-						addTag(osmWay, "surface:condition", flattenedKante.getOberflaechenbeschaffenheit(),
-							Oberflaechenbeschaffenheit.UNBEKANNT.name(),
-							statistik);
-						addTag(osmWay, "status", flattenedKante.getStatus(), null, statistik);
-						addTag(osmWay, "droute", flattenedKante.isDRoute() ? "1" : "0", null, statistik);
-
-						statistik.anzahlWaysTagged++;
-					}
-
-					osmOutput.write(osmWay);
-					break;
-				case Relation:
-					statistik.anzahlRelations++;
-					osmOutput.write((OsmRelation) container.getEntity());
-					break;
+		ExecutorService workers = Executors.newFixedThreadPool(anzahlWorker, workerThreadFactory());
+		try (DataInputStream input = new DataInputStream(
+			new BufferedInputStream(new FileInputStream(inputFile), 1 << 16));
+			DataOutputStream output = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(tempOutputFile), 1 << 16))) {
+
+			// Die Futures werden in Lesereihenfolge abgearbeitet, damit die Blobs in der Ausgabe dieselbe Reihenfolge
+			// wie in der Eingabe behalten.
+			Deque<Future<PbfBlock>> ausstehend = new ArrayDeque<>();
+			long naechsteLogSchwelle = LOG_INTERVALL_ENTITIES;
+			PbfBlock gelesen;
+			while ((gelesen = leseBlock(input)) != null) {
+				PbfBlock block = gelesen;
+				ausstehend.add(workers.submit(() -> reichereBlockAn(block, osmWayToAuszeichnung)));
+				if (ausstehend.size() >= anzahlWorker * AUSSTEHENDE_BLOECKE_PRO_WORKER) {
+					schreibeBlock(warteAuf(ausstehend.poll()), output, statistik);
 				}
 
-				i++;
-				if (i % 1000000 == 0) {
+				long anzahlEntities = getAnzahlEntities(statistik);
+				if (anzahlEntities >= naechsteLogSchwelle) {
 					log.info("Es wurden bisher {} OsmEntities bearbeitet, davon {} Ways wovon {} angereichert wurden.",
-						i,
-						statistik.anzahlWays, statistik.anzahlWaysTagged);
+						anzahlEntities, statistik.anzahlWays, statistik.anzahlWaysTagged);
+					naechsteLogSchwelle = (anzahlEntities / LOG_INTERVALL_ENTITIES + 1) * LOG_INTERVALL_ENTITIES;
 				}
 			}
-			log.info("Es wurden insgesamt {} OsmEntities bearbeitet, davon {} Ways wovon {} angereichert wurden.", i,
-				statistik.anzahlWays, statistik.anzahlWaysTagged);
-
-			osmOutput.complete();
+			while (!ausstehend.isEmpty()) {
+				schreibeBlock(warteAuf(ausstehend.poll()), output, statistik);
+			}
+			log.info("Es wurden insgesamt {} OsmEntities bearbeitet, davon {} Ways wovon {} angereichert wurden.",
+				getAnzahlEntities(statistik), statistik.anzahlWays, statistik.anzahlWaysTagged);
+		} finally {
+			workers.shutdownNow();
 		}
 
 		Files.move(
@@ -180,7 +192,51 @@ public class OsmAuszeichnungsService {
 		return statistik;
 	}
 
-	private void tagNetzklassen(Way osmWay, String netzklassenString, PbfJobStatistik statistik) {
+	private LongObjectHashMap<OsmWayAuszeichnung> erstelleAuszeichnungen() {
+		LongObjectHashMap<OsmWayAuszeichnung> osmWayToAuszeichnung = new LongObjectHashMap<>();
+		Map<String, String> werte = new HashMap<>();
+		try (Stream<KanteOsmMatchWithAttribute> kantenMappings = kantenRepository
+			.getKanteOsmMatchesWithOsmAttributes(minimaleUeberdeckungFuerAttributAuszeichnung)) {
+			kantenMappings.forEach(kanteMapping -> {
+				// Es kann sein, dass es mehrere Kanten mit 0 bis 1 gibt, dann muessen wir uns eine raussuchen
+				// -> hier koennte man auch nach bestimmten Kriterien die Kante raussuchen
+				// aber fuers erste wird einfach die erste genommen.
+				if (!osmWayToAuszeichnung.containsKey(kanteMapping.getOsmWayId())) {
+					osmWayToAuszeichnung.put(kanteMapping.getOsmWayId(), erstelleAuszeichnung(kanteMapping, werte));
+				}
+			});
+		}
+		return osmWayToAuszeichnung;
+	}
+
+	private OsmWayAuszeichnung erstelleAuszeichnung(KanteOsmMatchWithAttribute flattenedKante,
+		Map<String, String> werte) {
+		List<String> tags = new ArrayList<>();
+
+		// Wichtig:
+		// Im CustomKantenRepositoryImpl wird bereits gefiltert welche Kanten relevant sind
+		// und welche nicht. Ergänzt man ein neues Attribut zur Auszeichnung, muss man es
+		// dort ebenfalls hinzufügen.
+		String netzklassenString = flattenedKante.getNetzklassen().orElse("");
+		tagNetzklassen(tags, netzklassenString);
+		tagBelagart(tags, flattenedKante);
+
+		String breiteValue = flattenedKante.getBreite()
+			.map(breite -> String.format(Locale.ROOT, "%.2f", breite))
+			.orElse("");
+		addTag(tags, "width", breiteValue, "");
+		addTag(tags, "cycleway", flattenedKante.getRadverkehrsfuehrung(), Radverkehrsfuehrung.UNBEKANNT.name());
+		addTag(tags, "surface:condition", flattenedKante.getOberflaechenbeschaffenheit(),
+			Oberflaechenbeschaffenheit.UNBEKANNT.name());
+		addTag(tags, "status", flattenedKante.getStatus(), null);
+		addTag(tags, "droute", flattenedKante.isDRoute() ? "1" : "0", null);
+
+		return new OsmWayAuszeichnung(tags.stream()
+			.map(tag -> werte.computeIfAbsent(tag, t -> t))
+			.toArray(String[]::new));
+	}
+
+	private void tagNetzklassen(List<String> tags, String netzklassenString) {
 		if (netzklassenString.isEmpty()) {
 			return;
 		}
@@ -192,25 +248,208 @@ public class OsmAuszeichnungsService {
 			.collect(Collectors.toSet());
 
 		if (!netzklassen.isEmpty()) {
-			addTag(osmWay, "netzklassen", netzklassen.stream().map(Enum::name).collect(Collectors.joining(";")),
-				null, statistik);
+			addTag(tags, "netzklassen", netzklassen.stream().map(Enum::name).collect(Collectors.joining(";")),
+				null);
 		}
 	}
 
-	private void tagBelagart(Way osmWay, KanteOsmMatchWithAttribute flattenedKante, PbfJobStatistik statistik) {
+	private void tagBelagart(List<String> tags, KanteOsmMatchWithAttribute flattenedKante) {
 		if (RELEVANTE_BELAGARTEN_TO_OSMVALUE.containsKey(flattenedKante.getBelagArt())) {
-			addTag(osmWay, "surface", RELEVANTE_BELAGARTEN_TO_OSMVALUE.get(flattenedKante.getBelagArt()), null,
-				statistik);
+			addTag(tags, "surface", RELEVANTE_BELAGARTEN_TO_OSMVALUE.get(flattenedKante.getBelagArt()), null);
 		}
 	}
 
-	private void addTag(Way osmWay, String keySuffix, String value, String ignoreValue, PbfJobStatistik statistik) {
+	private void addTag(List<String> tags, String keySuffix, String value, String ignoreValue) {
 		if (value.equals(ignoreValue)) {
 			return;
 		}
 
-		List<OsmTag> tags = new ArrayList<>(osmWay.getTags());
-		tags.add(new Tag("radvis:" + keySuffix, value));
-		osmWay.setTags(tags);
+		tags.add("radvis:" + keySuffix);
+		tags.add(value);
+	}
+
+	/**
+	 * Liest den nächsten Fileblock (Länge des BlobHeaders, BlobHeader, Blob) oder null am Dateiende.
+	 */
+	private static PbfBlock leseBlock(DataInputStream input) throws IOException {
+		int blobHeaderLaenge;
+		try {
+			blobHeaderLaenge = input.readInt();
+		} catch (EOFException e) {
+			return null;
+		}
+		byte[] blobHeader = new byte[blobHeaderLaenge];
+		input.readFully(blobHeader);
+		byte[] blob = new byte[Fileformat.BlobHeader.parseFrom(blobHeader).getDatasize()];
+		input.readFully(blob);
+		return new PbfBlock(blobHeader, blob);
+	}
+
+	private static void schreibeBlock(PbfBlock block, DataOutputStream output, PbfJobStatistik statistik)
+		throws IOException {
+		output.writeInt(block.blobHeader().length);
+		output.write(block.blobHeader());
+		output.write(block.blob());
+
+		statistik.anzahlNodes += block.anzahlNodes();
+		statistik.anzahlWays += block.anzahlWays();
+		statistik.anzahlRelations += block.anzahlRelations();
+		statistik.anzahlWaysTagged += block.anzahlWaysTagged();
+	}
+
+	/**
+	 * Läuft in einem Worker. Gibt den Block unverändert zurück, solange keiner seiner Ways angereichert werden muss.
+	 */
+	private static PbfBlock reichereBlockAn(PbfBlock block,
+		LongObjectHashMap<OsmWayAuszeichnung> osmWayToAuszeichnung) throws IOException {
+		Fileformat.BlobHeader blobHeader = Fileformat.BlobHeader.parseFrom(block.blobHeader());
+		if (!BLOB_TYP_DATEN.equals(blobHeader.getType())) {
+			return block;
+		}
+
+		Osmformat.PrimitiveBlock primitiveBlock = Osmformat.PrimitiveBlock.parseFrom(
+			entpacke(Fileformat.Blob.parseFrom(block.blob())));
+
+		int anzahlNodes = 0;
+		int anzahlWays = 0;
+		int anzahlRelations = 0;
+		int anzahlWaysTagged = 0;
+		for (Osmformat.PrimitiveGroup group : primitiveBlock.getPrimitivegroupList()) {
+			anzahlNodes += group.getNodesCount() + (group.hasDense() ? group.getDense().getIdCount() : 0);
+			anzahlWays += group.getWaysCount();
+			anzahlRelations += group.getRelationsCount();
+			for (Osmformat.Way way : group.getWaysList()) {
+				if (osmWayToAuszeichnung.containsKey(way.getId())) {
+					anzahlWaysTagged++;
+				}
+			}
+		}
+
+		if (anzahlWaysTagged == 0) {
+			return new PbfBlock(block.blobHeader(), block.blob(), anzahlNodes, anzahlWays, anzahlRelations, 0);
+		}
+
+		byte[] angereichert = reichereWaysAn(primitiveBlock, osmWayToAuszeichnung).toByteArray();
+		byte[] blob = Fileformat.Blob.newBuilder()
+			.setRawSize(angereichert.length)
+			.setZlibData(ByteString.copyFrom(komprimiere(angereichert)))
+			.build()
+			.toByteArray();
+		byte[] neuerBlobHeader = blobHeader.toBuilder().setDatasize(blob.length).build().toByteArray();
+		return new PbfBlock(neuerBlobHeader, blob, anzahlNodes, anzahlWays, anzahlRelations, anzahlWaysTagged);
+	}
+
+	/**
+	 * Hängt die Tags an die betroffenen Ways an. Neue Schlüssel und Werte werden ans Ende der StringTable des Blocks
+	 * angefügt, die bestehenden Indizes bleiben dadurch gültig.
+	 */
+	private static Osmformat.PrimitiveBlock reichereWaysAn(Osmformat.PrimitiveBlock primitiveBlock,
+		LongObjectHashMap<OsmWayAuszeichnung> osmWayToAuszeichnung) {
+		Osmformat.PrimitiveBlock.Builder builder = primitiveBlock.toBuilder();
+		Osmformat.StringTable.Builder stringTable = builder.getStringtableBuilder();
+		Map<String, Integer> neueStrings = new HashMap<>();
+
+		for (int g = 0; g < builder.getPrimitivegroupCount(); g++) {
+			Osmformat.PrimitiveGroup.Builder group = builder.getPrimitivegroupBuilder(g);
+			for (int w = 0; w < group.getWaysCount(); w++) {
+				OsmWayAuszeichnung auszeichnung = osmWayToAuszeichnung.get(group.getWays(w).getId());
+				if (auszeichnung == null) {
+					continue;
+				}
+
+				Osmformat.Way.Builder way = group.getWaysBuilder(w);
+				String[] schluesselUndWerte = auszeichnung.schluesselUndWerte();
+				for (int i = 0; i < schluesselUndWerte.length; i += 2) {
+					way.addKeys(getStringIndex(schluesselUndWerte[i], stringTable, neueStrings));
+					way.addVals(getStringIndex(schluesselUndWerte[i + 1], stringTable, neueStrings));
+				}
+			}
+		}
+		return builder.build();
+	}
+
+	private static int getStringIndex(String string, Osmformat.StringTable.Builder stringTable,
+		Map<String, Integer> neueStrings) {
+		return neueStrings.computeIfAbsent(string, s -> {
+			stringTable.addS(ByteString.copyFromUtf8(s));
+			return stringTable.getSCount() - 1;
+		});
+	}
+
+	private static byte[] entpacke(Fileformat.Blob blob) throws IOException {
+		if (blob.hasRaw()) {
+			return blob.getRaw().toByteArray();
+		}
+		if (!blob.hasZlibData()) {
+			throw new IOException("Der PBF-Blob nutzt eine nicht unterstützte Kompression.");
+		}
+
+		byte[] daten = new byte[blob.getRawSize()];
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(blob.getZlibData().toByteArray());
+			int gelesen = 0;
+			while (gelesen < daten.length && !inflater.finished()) {
+				int anzahl = inflater.inflate(daten, gelesen, daten.length - gelesen);
+				if (anzahl == 0 && inflater.needsInput()) {
+					break;
+				}
+				gelesen += anzahl;
+			}
+			if (gelesen != daten.length) {
+				throw new IOException("Der PBF-Blob ist kürzer als im Header angegeben.");
+			}
+		} catch (DataFormatException e) {
+			throw new IOException("Der PBF-Blob konnte nicht entpackt werden.", e);
+		} finally {
+			inflater.end();
+		}
+		return daten;
+	}
+
+	private static byte[] komprimiere(byte[] daten) {
+		Deflater deflater = new Deflater();
+		try {
+			deflater.setInput(daten);
+			deflater.finish();
+			ByteArrayOutputStream output = new ByteArrayOutputStream(daten.length / 2);
+			byte[] puffer = new byte[1 << 16];
+			while (!deflater.finished()) {
+				output.write(puffer, 0, deflater.deflate(puffer));
+			}
+			return output.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static long getAnzahlEntities(PbfJobStatistik statistik) {
+		return (long) statistik.anzahlNodes + statistik.anzahlWays + statistik.anzahlRelations;
+	}
+
+	private static PbfBlock warteAuf(Future<PbfBlock> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Das Warten auf die PBF-Worker wurde unterbrochen.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	private static ThreadFactory workerThreadFactory() {
+		AtomicInteger threadNummer = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "osm-auszeichnung-worker-" + threadNummer.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
 	}
 }
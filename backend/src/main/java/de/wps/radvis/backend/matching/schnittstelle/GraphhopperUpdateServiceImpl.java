@@ -14,6 +14,8 @@
 
 package de.wps.radvis.backend.matching.schnittstelle;
 
+import de.wps.radvis.backend.common.domain.RadVisDomainEventPublisher;
+import de.wps.radvis.backend.matching.domain.event.GraphhopperAktualisiertEvent;
 import de.wps.radvis.backend.matching.domain.repository.DlmMatchingRepository;
 import de.wps.radvis.backend.matching.domain.repository.GraphhopperRoutingRepository;
 import de.wps.radvis.backend.matching.domain.service.GraphhopperUpdateService;
@@ -45,5 +47,6 @@ public class GraphhopperUpdateServiceImpl implements GraphhopperUpdateService {
 		graphhopperRoutingRepository.updateGraphHopper();
 
 		log.info("Graphhopper aktualisiert");
+		RadVisDomainEventPublisher.publish(new GraphhopperAktualisiertEvent());
 	}
 }
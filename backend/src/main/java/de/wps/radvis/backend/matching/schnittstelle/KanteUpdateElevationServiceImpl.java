@@ -68,12 +68,15 @@ public class KanteUpdateElevationServiceImpl implements KanteUpdateElevationServ
 			}
 			Slice<KanteElevationUpdate> kanteElevationInserts = kantenOutdatedOrNo3dGeometry.map(kanteElevationView -> {
 				PositionSequence<C2D> positions = kanteElevationView.getGeometry().getPositions();
+				Coordinate[] coordinates = positions.stream()
+					.map(position -> new Coordinate(position.getX(), position.getY()))
+					.toArray(Coordinate[]::new);
+				double[] hoehen = repository.getEle(coordinates);
+				for (int i = 0; i < coordinates.length; i++) {
+					coordinates[i].setZ(hoehen[i]);
+				}
 				LineString lineString = KoordinatenReferenzSystem.ETRS89_UTM32_N.getGeometryFactory()
-					.createLineString(positions.stream()
-						.map(
-							coordinate -> new Coordinate(coordinate.getX(), coordinate.getY(),
-								repository.getEle(new Coordinate(coordinate.getX(), coordinate.getY()))))
-						.toArray(Coordinate[]::new));
+					.createLineString(coordinates);
 
 				return new KanteElevationUpdate(kanteElevationView.getId(), lineString);
 			});
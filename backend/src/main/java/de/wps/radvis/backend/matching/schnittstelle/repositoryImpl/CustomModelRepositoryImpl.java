@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.matching.schnittstelle.repositoryImpl;
+
+import static org.valid4j.Assertive.require;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.graphhopper.util.CustomModel;
+
+import de.wps.radvis.backend.matching.domain.entity.CustomRoutingProfile;
+import de.wps.radvis.backend.matching.domain.repository.CustomModelRepository;
+import de.wps.radvis.backend.matching.domain.repository.CustomRoutingProfileRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.NonNull;
+
+/**
+ * Hält die geparsten {@link CustomModel}s der Custom-Routing-Profile in einem LRU-Cache, damit das Profil-JSON nicht
+ * bei jeder Routing-Anfrage erneut geparst wird.
+ * <p>
+ * Als Version eines Profils dient sein JSON: Ein Eintrag wird nur verwendet, wenn das aktuell gespeicherte JSON mit dem
+ * geparsten übereinstimmt. Gespeicherte Änderungen werden so auch dann berücksichtigt, wenn sie auf einer anderen
+ * Instanz vorgenommen wurden.
+ */
+public class CustomModelRepositoryImpl implements CustomModelRepository {
+
+	private record CacheEintrag(String profilJson, CustomModel customModel) {
+	}
+
+	private final CustomRoutingProfileRepository customRoutingProfileRepository;
+	private final Map<Long, CacheEintrag> cache;
+
+	private final Counter treffer;
+	private final Counter fehlschlaege;
+
+	public CustomModelRepositoryImpl(@NonNull CustomRoutingProfileRepository customRoutingProfileRepository,
+		int maximaleAnzahlProfile, @NonNull MeterRegistry meterRegistry) {
+		require(maximaleAnzahlProfile >= 0, "Die maximale Anzahl Profile darf nicht negativ sein");
+		this.customRoutingProfileRepository = customRoutingProfileRepository;
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, CacheEintrag> eldest) {
+				return size() > maximaleAnzahlProfile;
+			}
+		};
+
+		this.treffer = Counter.builder("radvis.routing.custommodel.cache")
+			.tag("ergebnis", "treffer")
+			.description("Zugriffe auf den CustomModel-Cache, die ohne erneutes Parsen bedient wurden")
+			.register(meterRegistry);
+		this.fehlschlaege = Counter.builder("radvis.routing.custommodel.cache")
+			.tag("ergebnis", "fehlschlag")
+			.description("Zugriffe auf den CustomModel-Cache, für die das Profil-JSON geparst werden musste")
+			.register(meterRegistry);
+		Gauge.builder("radvis.routing.custommodel.cache.groesse", this, CustomModelRepositoryImpl::getAnzahlEintraege)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Liefert eine Kopie des geparsten Modells, da Graphhopper das Modell einer Anfrage verändern darf.
+	 *
+	 * @throws EntityNotFoundException
+	 *     wenn es kein Profil mit der ID gibt
+	 * @throws JsonProcessingException
+	 *     wenn das Profil-JSON nicht geparst werden kann
+	 */
+	@Override
+	public CustomModel getCustomModel(long customRoutingProfileId) throws JsonProcessingException {
+		String profilJson = customRoutingProfileRepository.findById(customRoutingProfileId)
+			.orElseThrow(EntityNotFoundException::new)
+			.getProfilJson();
+
+		synchronized (cache) {
+			CacheEintrag eintrag = cache.get(customRoutingProfileId);
+			if (eintrag != null && eintrag.profilJson().equals(profilJson)) {
+				treffer.increment();
+				return new CustomModel(eintrag.customModel());
+			}
+		}
+
+		fehlschlaege.increment();
+		// Geparst wird außerhalb der Synchronisation, damit parallele Anfragen nicht aufeinander warten
+		CustomModel customModel = CustomRoutingProfile.parseCustomModel(profilJson);
+		synchronized (cache) {
+			cache.put(customRoutingProfileId, new CacheEintrag(profilJson, customModel));
+		}
+		return new CustomModel(customModel);
+	}
+
+	@Override
+	public void entferne(Collection<Long> customRoutingProfileIds) {
+		synchronized (cache) {
+			customRoutingProfileIds.forEach(cache::remove);
+		}
+	}
+
+	int getAnzahlEintraege() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+}
@@ -25,8 +25,6 @@ import org.locationtech.jts.geom.Envelope;
 import com.carrotsearch.hppc.IntHashSet;
 import com.graphhopper.GraphHopper;
 import com.graphhopper.matching.MapMatching;
-import com.graphhopper.matching.MatchResult;
-import com.graphhopper.matching.Observation;
 import com.graphhopper.routing.ev.BooleanEncodedValue;
 import com.graphhopper.routing.util.EdgeFilter;
 import com.graphhopper.storage.Graph;
@@ -65,16 +63,6 @@ public class DlmMapMatching extends MapMatching {
 		this.measurementErrorSigma = measurementErrorSigma;
 	}
 
-	/**
-	 * Führt MapMatching der gegebenen observations aus.
-	 *
-	 * Um eine nebenläufige Ausführung von Matchins zu ermöglichen, ist diese Methode synchronized.
-	 */
-	@Override
-	public synchronized MatchResult match(List<Observation> observations) {
-		return super.match(observations);
-	}
-
 	/**
 	 * Analog zur originalen Implementation, aber anderes Envelope.expand-Verhalten und Aufruf der eigenen
 	 * Implementierung von {@code findCandidateSnapsInBBox}.
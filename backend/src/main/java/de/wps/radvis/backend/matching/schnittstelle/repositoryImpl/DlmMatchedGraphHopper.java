@@ -31,27 +31,17 @@ import com.graphhopper.reader.osm.OSMReader;
 import de.wps.radvis.backend.matching.domain.repository.DlmMatchingCacheRepository;
 import de.wps.radvis.backend.netz.domain.valueObject.OsmWayId;
 import de.wps.radvis.backend.netz.domain.valueObject.SeitenbezogeneProfilEigenschaften;
-import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class DlmMatchedGraphHopper extends GraphHopper {
 
-	@Getter
-	private final Map<Integer, OsmWayId> graphHopperEdgesAufOsmWays;
-
-	@Getter
-	private final Map<Integer, SeitenbezogeneProfilEigenschaften> graphHopperEdgesAufProfilEigenschaften;
-
 	private final DlmMatchingCacheRepository dlmMatchingCacheRepository;
 
 	public DlmMatchedGraphHopper(DlmMatchingCacheRepository dlmMatchingCacheRepository) {
 		super();
 		require(dlmMatchingCacheRepository, notNullValue());
 
-		this.graphHopperEdgesAufOsmWays = new HashMap<>();
-		this.graphHopperEdgesAufProfilEigenschaften = new HashMap<>();
-
 		this.dlmMatchingCacheRepository = dlmMatchingCacheRepository;
 
 		this.setElevation(true);
@@ -65,6 +55,9 @@ public class DlmMatchedGraphHopper extends GraphHopper {
 				+ " but also cannot use file for DataReader as it wasn't specified!");
 
 		log.info("start creating graph from {}.", getOSMFile());
+		// Die Maps werden nur während des Imports benötigt. Danach wird ausschließlich aus dem gemappten Cache gelesen.
+		Map<Integer, OsmWayId> graphHopperEdgesAufOsmWays = new HashMap<>();
+		Map<Integer, SeitenbezogeneProfilEigenschaften> graphHopperEdgesAufProfilEigenschaften = new HashMap<>();
 		OSMReader reader = new OsmWayReader(
 			getGraphHopperStorage(),
 			graphHopperEdgesAufOsmWays,
@@ -93,6 +86,7 @@ public class DlmMatchedGraphHopper extends GraphHopper {
 		if (reader.getDataDate() != null)
 			getGraphHopperStorage().getProperties().put("datareader.data.date", f.format(reader.getDataDate()));
 		dlmMatchingCacheRepository.save(graphHopperEdgesAufOsmWays, graphHopperEdgesAufProfilEigenschaften);
+		dlmMatchingCacheRepository.load();
 
 		/*
 		 Es kann sein, dass Teile der Geometrien außerhalb des Graphen (also dem "GraphHopperStorage") vom Graphhopper
@@ -118,15 +112,25 @@ public class DlmMatchedGraphHopper extends GraphHopper {
 					"Die Datei für den OsmMatchingCache ist nicht vorhanden. Bitte den GrapHopper-Cache löschen unter "
 						+ getGraphHopperLocation());
 			}
-			// Die Verwendung von clear hilft bei der Einführung der neuen zusätzlichen Cache-Datei.
-			graphHopperEdgesAufOsmWays.clear();
-			graphHopperEdgesAufOsmWays.putAll(dlmMatchingCacheRepository.getWayIds());
-			graphHopperEdgesAufProfilEigenschaften.clear();
-			graphHopperEdgesAufProfilEigenschaften.putAll(dlmMatchingCacheRepository.getProfilEigenschaften());
+			dlmMatchingCacheRepository.load();
 		}
 		return hasLoaded;
 	}
 
+	/**
+	 * @return die OsmWayId der Edge oder null, falls für die Edge kein Mapping existiert
+	 */
+	public OsmWayId getOsmWayId(int edgeId) {
+		return dlmMatchingCacheRepository.getOsmWayId(edgeId);
+	}
+
+	/**
+	 * @return die ProfilEigenschaften der Edge oder null, falls für die Edge keine existieren
+	 */
+	public SeitenbezogeneProfilEigenschaften getProfilEigenschaften(int edgeId) {
+		return dlmMatchingCacheRepository.getProfilEigenschaften(edgeId);
+	}
+
 	@Override
 	public void clean() {
 		super.clean();
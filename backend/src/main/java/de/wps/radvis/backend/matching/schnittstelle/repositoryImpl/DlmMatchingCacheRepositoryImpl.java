@@ -18,12 +18,18 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.valid4j.Assertive.ensure;
 import static org.valid4j.Assertive.require;
 
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -34,16 +40,36 @@ import de.wps.radvis.backend.netz.domain.valueObject.OsmWayId;
 import de.wps.radvis.backend.netz.domain.valueObject.SeitenbezogeneProfilEigenschaften;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Binärer Cache für das Mapping von Graphhopper-Edges auf OsmWayIds und ProfilEigenschaften.
+ * <p>
+ * Layout (big endian): Magic, Version, Anzahl Edges n, Anzahl ProfilEigenschaften m, dann long[n] OsmWayIds, int[n]
+ * Indizes ins Dictionary der ProfilEigenschaften und zuletzt das Dictionary selbst (m serialisierte
+ * SeitenbezogeneProfilEigenschaften). Da es nur wenige unterschiedliche Kombinationen von ProfilEigenschaften gibt,
+ * kostet eine Edge so konstant 12 Byte.
+ */
 @Slf4j
 public class DlmMatchingCacheRepositoryImpl implements DlmMatchingCacheRepository {
 
+	static final int MAGIC = 0x52564443;
+	static final int VERSION = 1;
+
+	private static final int HEADER_BYTES = MappingCacheDatei.MAGIC_UND_VERSION_BYTES + 2 * Integer.BYTES;
+	private static final long KEINE_OSM_WAY_ID = -1L;
+	private static final int KEINE_PROFIL_EIGENSCHAFTEN = -1;
+
 	private final String mappingCacheVerzeichnis;
+	private final File mappingCacheDatei;
+	// Alte JSON-Dateien. Diese werden nur noch gelesen, um sie beim Laden in das Binärformat zu überführen.
 	private final File mappingCacheDateiOsmWays;
 	private final File mappingCacheDateiProfilEigenschaften;
 	private final ObjectMapper objectMapper;
 
+	private volatile GeladenerCache geladenerCache;
+
 	public DlmMatchingCacheRepositoryImpl(String mappingCacheVerzeichnis) {
 		require(mappingCacheVerzeichnis, notNullValue());
+		mappingCacheDatei = new File(mappingCacheVerzeichnis + File.separator + "mapping.bin");
 		mappingCacheDateiOsmWays = new File(mappingCacheVerzeichnis + File.separator + "mapping.cache");
 		mappingCacheDateiProfilEigenschaften = new File(
 			mappingCacheVerzeichnis + File.separator + "mapping.profil.cache");
@@ -61,59 +87,73 @@ public class DlmMatchingCacheRepositoryImpl implements DlmMatchingCacheRepositor
 		}
 
 		try {
-			objectMapper.writeValue(mappingCacheDateiOsmWays, mappingCache);
-			objectMapper.writeValue(mappingCacheDateiProfilEigenschaften, mappingCacheProfil);
+			schreibeBinaer(mappingCache, mappingCacheProfil);
+			geladenerCache = null;
 			ensure(hasCache());
 		} catch (IOException e) {
-			log.error("Fehler beim Dateizugriff auf Datei entweder {} oder {}.", mappingCacheDateiOsmWays,
-				mappingCacheDateiProfilEigenschaften);
+			log.error("Fehler beim Dateizugriff auf Datei {}.", mappingCacheDatei);
 			throw new RuntimeException(e);
 		}
 	}
 
 	@Override
-	public Map<Integer, OsmWayId> getWayIds() {
+	public void load() {
 		require(hasCache());
 		try {
-			return objectMapper.readValue(mappingCacheDateiOsmWays, new TypeReference<>() {
-			});
+			if (!mappingCacheDatei.exists()) {
+				migriereJsonCache();
+			}
+			MappedByteBuffer buffer = MappingCacheDatei.mappe(mappingCacheDatei, MAGIC, VERSION);
+			geladenerCache = GeladenerCache.of(buffer);
+			log.info("DLM-Mapping-Cache mit {} Edges und {} unterschiedlichen ProfilEigenschaften geladen",
+				geladenerCache.anzahlEdges(), geladenerCache.profilEigenschaften().length);
 		} catch (IOException e) {
-			log.error("Fehler beim Dateizugriff auf Datei entweder {} oder {}.", mappingCacheDateiOsmWays,
-				mappingCacheDateiProfilEigenschaften);
+			log.error("Fehler beim Dateizugriff auf Datei {}.", mappingCacheDatei);
 			throw new RuntimeException(e);
 		}
 	}
 
 	@Override
-	public Map<Integer, SeitenbezogeneProfilEigenschaften> getProfilEigenschaften() {
-		require(hasCache());
-		try {
-			return objectMapper.readValue(mappingCacheDateiProfilEigenschaften, new TypeReference<>() {
-			});
-		} catch (IOException e) {
-			log.error("Fehler beim Dateizugriff auf Datei entweder {} oder {}.", mappingCacheDateiOsmWays,
-				mappingCacheDateiProfilEigenschaften);
-			throw new RuntimeException(e);
+	public OsmWayId getOsmWayId(int edgeId) {
+		GeladenerCache cache = getGeladenenCache();
+		if (edgeId < 0 || edgeId >= cache.anzahlEdges()) {
+			return null;
 		}
+		long osmWayId = cache.buffer().getLong(HEADER_BYTES + edgeId * Long.BYTES);
+		return osmWayId == KEINE_OSM_WAY_ID ? null : OsmWayId.of(osmWayId);
+	}
+
+	@Override
+	public SeitenbezogeneProfilEigenschaften getProfilEigenschaften(int edgeId) {
+		GeladenerCache cache = getGeladenenCache();
+		if (edgeId < 0 || edgeId >= cache.anzahlEdges()) {
+			return null;
+		}
+		int index = cache.buffer().getInt(cache.profilIndizesOffset() + edgeId * Integer.BYTES);
+		return index == KEINE_PROFIL_EIGENSCHAFTEN ? null : cache.profilEigenschaften()[index];
+	}
+
+	@Override
+	public int getAnzahlEdges() {
+		return getGeladenenCache().anzahlEdges();
 	}
 
 	@Override
 	public boolean hasCache() {
-		return (mappingCacheDateiOsmWays.exists()
-			&& mappingCacheDateiOsmWays.length() > 0
-			&& mappingCacheDateiProfilEigenschaften.exists()
-			&& mappingCacheDateiProfilEigenschaften.length() > 0);
+		return (mappingCacheDatei.exists() && mappingCacheDatei.length() > 0) || hasJsonCache();
 	}
 
 	@Override
 	public void deleteAll() {
 		try {
+			geladenerCache = null;
+			Files.deleteIfExists(mappingCacheDatei.toPath());
 			Files.deleteIfExists(mappingCacheDateiOsmWays.toPath());
 			Files.deleteIfExists(mappingCacheDateiProfilEigenschaften.toPath());
 			ensure(!hasCache());
 		} catch (IOException e) {
-			log.error("Fehler beim Löschen von Datei entweder {} oder {}.", mappingCacheDateiOsmWays,
-				mappingCacheDateiProfilEigenschaften);
+			log.error("Fehler beim Löschen von Datei entweder {}, {} oder {}.", mappingCacheDatei,
+				mappingCacheDateiOsmWays, mappingCacheDateiProfilEigenschaften);
 			throw new RuntimeException(e);
 		}
 	}
@@ -121,10 +161,107 @@ public class DlmMatchingCacheRepositoryImpl implements DlmMatchingCacheRepositor
 	@Override
 	public LocalDateTime getTimestamp() {
 		require(hasCache());
-		// Hier ignorieren wir den Timestamp von weiteren Cache-Dateien.
-		// Koennte das bei der Migration problematisch sein?
-		// Methode findet nur in Tests verwendung.
-		Instant epochMilli = Instant.ofEpochMilli(mappingCacheDateiOsmWays.lastModified());
+		File datei = mappingCacheDatei.exists() ? mappingCacheDatei : mappingCacheDateiOsmWays;
+		Instant epochMilli = Instant.ofEpochMilli(datei.lastModified());
 		return LocalDateTime.ofInstant(epochMilli, ZoneId.systemDefault());
 	}
+
+	private GeladenerCache getGeladenenCache() {
+		GeladenerCache cache = geladenerCache;
+		if (cache == null) {
+			throw new IllegalStateException("Der DLM-Mapping-Cache wurde noch nicht geladen.");
+		}
+		return cache;
+	}
+
+	private void schreibeBinaer(Map<Integer, OsmWayId> osmWayIds,
+		Map<Integer, SeitenbezogeneProfilEigenschaften> profilEigenschaften) throws IOException {
+		int anzahlEdges = Math.max(
+			osmWayIds.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1),
+			profilEigenschaften.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1)) + 1;
+
+		Map<SeitenbezogeneProfilEigenschaften, Integer> dictionaryIndizes = new HashMap<>();
+		List<SeitenbezogeneProfilEigenschaften> dictionary = new ArrayList<>();
+		int[] profilIndizes = new int[anzahlEdges];
+		for (int edgeId = 0; edgeId < anzahlEdges; edgeId++) {
+			SeitenbezogeneProfilEigenschaften eigenschaften = profilEigenschaften.get(edgeId);
+			if (eigenschaften == null) {
+				profilIndizes[edgeId] = KEINE_PROFIL_EIGENSCHAFTEN;
+			} else {
+				profilIndizes[edgeId] = dictionaryIndizes.computeIfAbsent(eigenschaften, e -> {
+					dictionary.add(e);
+					return dictionary.size() - 1;
+				});
+			}
+		}
+
+		MappingCacheDatei.schreibeAtomar(mappingCacheDatei, MAGIC, VERSION, out -> {
+			out.writeInt(anzahlEdges);
+			out.writeInt(dictionary.size());
+			for (int edgeId = 0; edgeId < anzahlEdges; edgeId++) {
+				OsmWayId osmWayId = osmWayIds.get(edgeId);
+				out.writeLong(osmWayId == null ? KEINE_OSM_WAY_ID : osmWayId.getValue());
+			}
+			for (int profilIndex : profilIndizes) {
+				out.writeInt(profilIndex);
+			}
+			for (SeitenbezogeneProfilEigenschaften eigenschaften : dictionary) {
+				schreibeDictionaryEintrag(out, eigenschaften);
+			}
+		});
+		log.info("DLM-Mapping-Cache mit {} Edges nach {} geschrieben", anzahlEdges, mappingCacheDatei);
+	}
+
+	private static void schreibeDictionaryEintrag(DataOutputStream out, SeitenbezogeneProfilEigenschaften eigenschaften)
+		throws IOException {
+		// Wir speichern die Namen der Enums und nicht deren Ordinal, damit neue Enum-Werte den Cache nicht unbemerkt
+		// verfälschen.
+		byte[] bytes = eigenschaften.serialize().getBytes(StandardCharsets.UTF_8);
+		out.writeShort(bytes.length);
+		out.write(bytes);
+	}
+
+	private boolean hasJsonCache() {
+		return mappingCacheDateiOsmWays.exists()
+			&& mappingCacheDateiOsmWays.length() > 0
+			&& mappingCacheDateiProfilEigenschaften.exists()
+			&& mappingCacheDateiProfilEigenschaften.length() > 0;
+	}
+
+	private void migriereJsonCache() throws IOException {
+		log.info("Überführe DLM-Mapping-Cache aus {} und {} in das Binärformat", mappingCacheDateiOsmWays,
+			mappingCacheDateiProfilEigenschaften);
+		Map<Integer, OsmWayId> osmWayIds = objectMapper.readValue(mappingCacheDateiOsmWays, new TypeReference<>() {
+		});
+		Map<Integer, SeitenbezogeneProfilEigenschaften> profilEigenschaften = objectMapper.readValue(
+			mappingCacheDateiProfilEigenschaften, new TypeReference<>() {
+			});
+		schreibeBinaer(osmWayIds, profilEigenschaften);
+		Files.deleteIfExists(mappingCacheDateiOsmWays.toPath());
+		Files.deleteIfExists(mappingCacheDateiProfilEigenschaften.toPath());
+	}
+
+	private record GeladenerCache(MappedByteBuffer buffer, int anzahlEdges, int profilIndizesOffset,
+		SeitenbezogeneProfilEigenschaften[] profilEigenschaften) {
+
+		static GeladenerCache of(MappedByteBuffer buffer) {
+			int anzahlEdges = buffer.getInt(MappingCacheDatei.MAGIC_UND_VERSION_BYTES);
+			int anzahlEintraege = buffer.getInt(MappingCacheDatei.MAGIC_UND_VERSION_BYTES + Integer.BYTES);
+			int profilIndizesOffset = HEADER_BYTES + anzahlEdges * Long.BYTES;
+
+			// Das Dictionary ist klein und wird deshalb einmalig auf den Heap gelesen.
+			SeitenbezogeneProfilEigenschaften[] dictionary = new SeitenbezogeneProfilEigenschaften[anzahlEintraege];
+			int position = profilIndizesOffset + anzahlEdges * Integer.BYTES;
+			for (int i = 0; i < anzahlEintraege; i++) {
+				int laenge = Short.toUnsignedInt(buffer.getShort(position));
+				byte[] bytes = new byte[laenge];
+				buffer.get(position + Short.BYTES, bytes);
+				dictionary[i] = SeitenbezogeneProfilEigenschaften.deserialize(
+					new String(bytes, StandardCharsets.UTF_8));
+				position += Short.BYTES + laenge;
+			}
+
+			return new GeladenerCache(buffer, anzahlEdges, profilIndizesOffset, dictionary);
+		}
+	}
 }
@@ -49,18 +49,17 @@ import de.wps.radvis.backend.matching.domain.repository.DlmMatchingRepository;
 import de.wps.radvis.backend.matching.domain.valueObject.OsmMatchResult;
 import de.wps.radvis.backend.matching.domain.valueObject.ProfilMatchResult;
 import de.wps.radvis.backend.netz.domain.valueObject.OsmWayId;
-import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class DlmMatchingRepositoryImpl implements DlmMatchingRepository {
 
 	private final CoordinateReferenceSystemConverter coordinateReferenceSystemConverter;
-	@Getter
-	private DlmMapMatching mapMatchingBike;
 
-	@Getter
-	private DlmMapMatching mapMatchingFoot;
+	// MapMatching hält während eines Matchings Zwischenzustände in Instanzfeldern. Damit mehrere Threads parallel auf
+	// demselben (read-only) Graphen matchen können, bekommt jeder Thread eigene Instanzen.
+	private volatile ThreadLocal<DlmMapMatching> mapMatchingBike;
+	private volatile ThreadLocal<DlmMapMatching> mapMatchingFoot;
 
 	private final GeometryFactory geometryFactory;
 
@@ -82,15 +81,21 @@ public class DlmMatchingRepositoryImpl implements DlmMatchingRepository {
 		this.graphHopper = this.graphHopperFactory.getDlmGraphHopper();
 		this.measurementErrorSigma = measurementErrorSigma;
 
-		PMap hintsBike = new PMap();
-		hintsBike.putObject("profile", "bike");
-		mapMatchingBike = new DlmMapMatching(graphHopper, hintsBike);
-		mapMatchingBike.setMeasurementErrorSigma(measurementErrorSigma);
+		initializeMapMatching();
+	}
+
+	private void initializeMapMatching() {
+		DlmMatchedGraphHopper aktuellerGraphHopper = graphHopper;
+		mapMatchingBike = ThreadLocal.withInitial(() -> createMapMatching(aktuellerGraphHopper, "bike"));
+		mapMatchingFoot = ThreadLocal.withInitial(() -> createMapMatching(aktuellerGraphHopper, "foot"));
+	}
 
-		PMap hintsFoot = new PMap();
-		hintsFoot.putObject("profile", "foot");
-		mapMatchingFoot = new DlmMapMatching(graphHopper, hintsFoot);
-		mapMatchingFoot.setMeasurementErrorSigma(measurementErrorSigma);
+	private DlmMapMatching createMapMatching(DlmMatchedGraphHopper dlmGraphHopper, String profile) {
+		PMap hints = new PMap();
+		hints.putObject("profile", profile);
+		DlmMapMatching mapMatching = new DlmMapMatching(dlmGraphHopper, hints);
+		mapMatching.setMeasurementErrorSigma(measurementErrorSigma);
+		return mapMatching;
 	}
 
 	@Override
@@ -161,15 +166,7 @@ public class DlmMatchingRepositoryImpl implements DlmMatchingRepository {
 		// darf nur mir graphHopperFactory.getDlmGraphHopper überschrieben werden, da die factory das clean-up handelt
 		graphHopper = graphHopperFactory.getDlmGraphHopper();
 
-		PMap hintsBike = new PMap();
-		hintsBike.putObject("profile", "bike");
-		mapMatchingBike = new DlmMapMatching(graphHopper, hintsBike);
-		mapMatchingBike.setMeasurementErrorSigma(measurementErrorSigma);
-
-		PMap hintsFoot = new PMap();
-		hintsFoot.putObject("profile", "foot");
-		mapMatchingFoot = new DlmMapMatching(graphHopper, hintsFoot);
-		mapMatchingFoot.setMeasurementErrorSigma(measurementErrorSigma);
+		initializeMapMatching();
 	}
 
 	private MatchResult matcheGeometrie(LineString lineStringInUtm, String profile) throws KeinMatchGefundenException {
@@ -193,9 +190,9 @@ public class DlmMatchingRepositoryImpl implements DlmMatchingRepository {
 
 		try {
 			if ("bike".equals(profile)) {
-				return mapMatchingBike.match(observations);
+				return mapMatchingBike.get().match(observations);
 			} else if ("foot".equals(profile)) {
-				return mapMatchingFoot.match(observations);
+				return mapMatchingFoot.get().match(observations);
 			}
 			throw new RuntimeException("Profile typ '" + profile + "' nicht unterstützt");
 		} catch (IllegalArgumentException e) {
@@ -233,7 +230,7 @@ public class DlmMatchingRepositoryImpl implements DlmMatchingRepository {
 
 			Pair<Integer, Boolean> edgeIdUndIstVirtuell = extrahiereEdgeId(edge);
 			Integer edgeId = edgeIdUndIstVirtuell.getLeft();
-			OsmWayId osmWayId = graphHopper.getGraphHopperEdgesAufOsmWays().get(edgeId);
+			OsmWayId osmWayId = graphHopper.getOsmWayId(edgeId);
 
 			if (!osmWayId.equals(previousOsmWayId) || previousWasReverse != currentIsReverse) {
 				wayIds.add(osmWayId);
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.matching.schnittstelle.repositoryImpl;
+
+import java.awt.image.Raster;
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import org.geotools.gce.geotiff.GeoTiffReader;
+import org.geotools.util.factory.Hints;
+
+import com.graphhopper.storage.DAType;
+import com.graphhopper.storage.DataAccess;
+import com.graphhopper.storage.GHDirectory;
+
+import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
+import jakarta.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Höhendaten des LGL als ein einziges, memory-mapped Raster aus 1km x 1km großen Tiles mit einer Auflösung von 1m.
+ * <p>
+ * Die Tiles bilden ein regelmäßiges Gitter in UTM32, daher lässt sich das Tile zu einer Koordinate direkt über (x /
+ * 1000, y / 1000) berechnen. Über eine Slot-Tabelle wird daraus die Position des Tiles in der Grid-Datei bestimmt. Da
+ * alle Tiles in einer Datei liegen, bleibt die Anzahl der Mappings (jeweils max. 2 GB) unabhängig von der Anzahl der
+ * Tiles klein, so dass alle Tiles dauerhaft gemappt bleiben können und beim Lesen nichts geöffnet oder geschlossen
+ * werden muss.
+ * <p>
+ * Layout der Grid-Datei: Header (Magic, Version, minTileX, minTileY, anzahlTilesX, anzahlTilesY, anzahlTiles), dann
+ * int[anzahlTilesX * anzahlTilesY] Slots (-1 = kein Tile). Ab dem nächsten 4 KB-Block folgen je Tile 1000 x 1000
+ * Höhenwerte als short (little endian), zeilenweise von Süd nach Nord.
+ */
+@Slf4j
+public class ElevationGridRepository {
+
+	static final String GRID_DATEINAME = "hoehen.grid";
+	static final int TILE_GROESSE = 1000;
+
+	private static final int MAGIC = 0x52564847;
+	private static final int VERSION = 1;
+	private static final int HEADER_BYTES = 7 * Integer.BYTES;
+	private static final int DATEN_ALIGNMENT = 4096;
+	private static final int TILE_BYTES = Short.BYTES * TILE_GROESSE * TILE_GROESSE;
+	private static final int TILES_PRO_MAPPING = Integer.MAX_VALUE / TILE_BYTES;
+	private static final int KEIN_TILE = -1;
+	private static final double MIN_ELEVATION_METERS = -12_000;
+	private static final double MAX_ELEVATION_METERS = 9_000;
+	private static final Pattern LEGACY_CACHE_DATEINAME = Pattern.compile("\\d+_\\d+");
+
+	private final int minTileX;
+	private final int minTileY;
+	private final int anzahlTilesX;
+	private final int anzahlTilesY;
+	private final int[] slots;
+	private final ByteBuffer[] mappings;
+
+	public ElevationGridRepository(@NotNull String tiffTilesVerzeichnisPfad, @NotNull String cacheDirPfad) {
+		File tiffTilesVerzeichnis = new File(tiffTilesVerzeichnisPfad);
+		File cacheDir = new File(cacheDirPfad);
+		if (!tiffTilesVerzeichnis.exists()) {
+			throw new RuntimeException(
+				"Das TIFF-Tiles-Verzeichnis " + tiffTilesVerzeichnisPfad + " existiert nicht.");
+		}
+
+		if (!cacheDir.exists()) {
+			try {
+				Files.createDirectories(cacheDir.toPath());
+			} catch (IOException e) {
+				throw new RuntimeException("Konnte CacheDirectory " + cacheDir + " nicht erstellen.");
+			}
+		}
+
+		File gridDatei = new File(cacheDir, GRID_DATEINAME);
+		try {
+			if (!gridDatei.exists()) {
+				erstelleGrid(tiffTilesVerzeichnis, cacheDir, gridDatei);
+			}
+
+			log.info("Starte Import der Höhendaten.");
+			try (FileChannel channel = FileChannel.open(gridDatei.toPath(), StandardOpenOption.READ)) {
+				ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+				if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+					throw new IOException("Die Datei " + gridDatei
+						+ " ist kein Höhendaten-Grid in der erwarteten Version. Bitte den Cache löschen.");
+				}
+				minTileX = header.getInt();
+				minTileY = header.getInt();
+				anzahlTilesX = header.getInt();
+				anzahlTilesY = header.getInt();
+				int anzahlTiles = header.getInt();
+
+				slots = new int[anzahlTilesX * anzahlTilesY];
+				channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, (long) slots.length * Integer.BYTES)
+					.asIntBuffer().get(slots);
+				mappings = mappeTiles(channel, datenOffset(slots.length), anzahlTiles,
+					FileChannel.MapMode.READ_ONLY);
+				log.info("Höhendaten Import beendet: {} Tiles in einem Gitter von {} x {} Tiles.", anzahlTiles,
+					anzahlTilesX, anzahlTilesY);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Höhendaten konnten nicht aus " + gridDatei + " geladen werden.", e);
+		}
+	}
+
+	/**
+	 * Liest ausschließlich aus den gemappten Buffern über absolute Zugriffe und kann daher ohne Synchronisation
+	 * parallel verwendet werden.
+	 *
+	 * @param x
+	 *     in UTM32
+	 * @param y
+	 *     in UTM32
+	 * @return die Höhe in Metern, 0 falls für die Koordinate kein Tile vorhanden ist und NaN falls das Tile an dieser
+	 *     Stelle keinen gültigen Wert enthält
+	 */
+	public double getHoehe(double x, double y) {
+		int xGerundet = (int) x;
+		int yGerundet = (int) y;
+		int tileX = Math.floorDiv(xGerundet, TILE_GROESSE);
+		int tileY = Math.floorDiv(yGerundet, TILE_GROESSE);
+		int gridX = tileX - minTileX;
+		int gridY = tileY - minTileY;
+		if (gridX < 0 || gridX >= anzahlTilesX || gridY < 0 || gridY >= anzahlTilesY) {
+			return 0;
+		}
+
+		int slot = slots[gridY * anzahlTilesX + gridX];
+		if (slot == KEIN_TILE) {
+			return 0;
+		}
+
+		int deltaX = xGerundet - tileX * TILE_GROESSE;
+		int deltaY = yGerundet - tileY * TILE_GROESSE;
+		int offset = (slot % TILES_PRO_MAPPING) * TILE_BYTES + Short.BYTES * (deltaY * TILE_GROESSE + deltaX);
+		double hoehe = mappings[slot / TILES_PRO_MAPPING].getShort(offset);
+
+		return hoehe > MIN_ELEVATION_METERS && hoehe < MAX_ELEVATION_METERS ? hoehe : Double.NaN;
+	}
+
+	record TileKoordinate(int x, int y) {
+	}
+
+	@FunctionalInterface
+	interface TileQuelle {
+		/**
+		 * Schreibt die TILE_GROESSE x TILE_GROESSE Höhenwerte des Tiles zeilenweise von Süd nach Nord in das Ziel.
+		 */
+		void fuelle(ShortBuffer ziel) throws IOException;
+	}
+
+	/**
+	 * Schreibt alle Tiles in eine neue Grid-Datei. Die Datei wird zunächst daneben angelegt und erst nach dem
+	 * vollständigen Schreiben an ihren Platz verschoben.
+	 */
+	static void baueGrid(File gridDatei, Map<TileKoordinate, TileQuelle> tileQuellen) throws IOException {
+		int minX = tileQuellen.keySet().stream().mapToInt(TileKoordinate::x).min().orElse(0);
+		int minY = tileQuellen.keySet().stream().mapToInt(TileKoordinate::y).min().orElse(0);
+		int anzahlX = tileQuellen.keySet().stream().mapToInt(TileKoordinate::x).max().orElse(minX - 1) - minX + 1;
+		int anzahlY = tileQuellen.keySet().stream().mapToInt(TileKoordinate::y).max().orElse(minY - 1) - minY + 1;
+
+		List<TileKoordinate> tiles = tileQuellen.keySet().stream()
+			.sorted(Comparator.comparingInt(TileKoordinate::y).thenComparingInt(TileKoordinate::x))
+			.toList();
+		int[] slots = new int[anzahlX * anzahlY];
+		Arrays.fill(slots, KEIN_TILE);
+		for (int slot = 0; slot < tiles.size(); slot++) {
+			TileKoordinate tile = tiles.get(slot);
+			slots[(tile.y() - minY) * anzahlX + (tile.x() - minX)] = slot;
+		}
+
+		File tmpDatei = new File(gridDatei.getAbsolutePath() + ".tmp");
+		Files.deleteIfExists(tmpDatei.toPath());
+		try (FileChannel channel = FileChannel.open(tmpDatei.toPath(), StandardOpenOption.CREATE_NEW,
+			StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES + slots.length * Integer.BYTES);
+			header.putInt(MAGIC).putInt(VERSION).putInt(minX).putInt(minY).putInt(anzahlX).putInt(anzahlY)
+				.putInt(tiles.size());
+			header.asIntBuffer().put(slots);
+			channel.write(header.rewind(), 0);
+
+			ByteBuffer[] mappings = mappeTiles(channel, datenOffset(slots.length), tiles.size(),
+				FileChannel.MapMode.READ_WRITE);
+			// Die Tiles liegen in disjunkten Bereichen der Datei und können daher parallel geschrieben werden.
+			IntStream.range(0, tiles.size()).parallel().forEach(slot -> {
+				int offset = (slot % TILES_PRO_MAPPING) * TILE_BYTES;
+				ShortBuffer ziel = mappings[slot / TILES_PRO_MAPPING].duplicate()
+					.position(offset)
+					.limit(offset + TILE_BYTES)
+					.slice()
+					.order(ByteOrder.LITTLE_ENDIAN)
+					.asShortBuffer();
+				try {
+					tileQuellen.get(tiles.get(slot)).fuelle(ziel);
+				} catch (IOException e) {
+					throw new UncheckedIOException("Tile " + tiles.get(slot) + " konnte nicht gelesen werden.", e);
+				}
+			});
+			for (ByteBuffer mapping : mappings) {
+				((MappedByteBuffer) mapping).force();
+			}
+		}
+		Files.move(tmpDatei.toPath(), gridDatei.toPath(), StandardCopyOption.REPLACE_EXISTING,
+			StandardCopyOption.ATOMIC_MOVE);
+		log.info("Höhendaten-Grid mit {} Tiles nach {} geschrieben.", tiles.size(), gridDatei);
+	}
+
+	private static void erstelleGrid(File tiffTilesVerzeichnis, File cacheDir, File gridDatei) throws IOException {
+		// Bis zur Einführung des Grids lag jedes Tile als eigene Graphhopper-DataAccess-Datei "x_y" im Cache.
+		File[] legacyCacheDateien = cacheDir.listFiles(
+			(dir, name) -> LEGACY_CACHE_DATEINAME.matcher(name).matches());
+		if (legacyCacheDateien != null && legacyCacheDateien.length > 0) {
+			log.info("Überführe {} Höhendaten-Tiles aus dem bisherigen Cache nach {}.", legacyCacheDateien.length,
+				gridDatei);
+			GHDirectory ghCacheDir = new GHDirectory(cacheDir.getAbsolutePath(), DAType.MMAP);
+			baueGrid(gridDatei, legacyTileQuellen(ghCacheDir, legacyCacheDateien));
+			for (File legacyCacheDatei : legacyCacheDateien) {
+				Files.deleteIfExists(legacyCacheDatei.toPath());
+			}
+		} else {
+			log.info("Importiere ElevationData aus Dateien.");
+			baueGrid(gridDatei, tiffTileQuellen(tiffTilesVerzeichnis));
+		}
+	}
+
+	private static Map<TileKoordinate, TileQuelle> legacyTileQuellen(GHDirectory ghCacheDir, File[] cacheDateien) {
+		Map<TileKoordinate, TileQuelle> tileQuellen = new HashMap<>();
+		for (File cacheDatei : cacheDateien) {
+			String[] fileNameCoords = cacheDatei.getName().split("_");
+			TileKoordinate tile = new TileKoordinate(Integer.parseInt(fileNameCoords[0]),
+				Integer.parseInt(fileNameCoords[1]));
+			tileQuellen.put(tile, ziel -> {
+				DataAccess heights;
+				synchronized (ghCacheDir) {
+					heights = ghCacheDir.find(cacheDatei.getName(), DAType.MMAP);
+				}
+				try {
+					heights.loadExisting();
+					for (int i = 0; i < TILE_GROESSE * TILE_GROESSE; i++) {
+						ziel.put(i, heights.getShort((long) Short.BYTES * i));
+					}
+				} finally {
+					heights.close();
+				}
+			});
+		}
+		return tileQuellen;
+	}
+
+	private static Map<TileKoordinate, TileQuelle> tiffTileQuellen(File tiffTilesVerzeichnis) {
+		final FilenameFilter tifFileNameFilter = (dir, name) -> name.endsWith("bw.tif");
+		final FilenameFilter tifDirectoryNameFilter = (dir, name) -> name.startsWith("s32");
+
+		Map<TileKoordinate, TileQuelle> tileQuellen = new HashMap<>();
+		for (File directory : tiffTilesVerzeichnis.listFiles(tifDirectoryNameFilter)) {
+			for (File file : directory.listFiles(tifFileNameFilter)) {
+				final var fileNameCoords = file.getName().split("_");
+				final var x = Integer.parseInt(fileNameCoords[2]);
+				final var y = Integer.parseInt(fileNameCoords[3]);
+				tileQuellen.put(new TileKoordinate(x, y), ziel -> fillWithElevationData(readTiffFile(file), ziel));
+			}
+		}
+		return tileQuellen;
+	}
+
+	private static ByteBuffer[] mappeTiles(FileChannel channel, long datenOffset, int anzahlTiles,
+		FileChannel.MapMode mapMode) throws IOException {
+		int anzahlMappings = (anzahlTiles + TILES_PRO_MAPPING - 1) / TILES_PRO_MAPPING;
+		ByteBuffer[] mappings = new ByteBuffer[anzahlMappings];
+		for (int i = 0; i < anzahlMappings; i++) {
+			int tilesInMapping = Math.min(TILES_PRO_MAPPING, anzahlTiles - i * TILES_PRO_MAPPING);
+			long position = datenOffset + (long) i * TILES_PRO_MAPPING * TILE_BYTES;
+			mappings[i] = channel.map(mapMode, position, (long) tilesInMapping * TILE_BYTES)
+				.order(ByteOrder.LITTLE_ENDIAN);
+		}
+		return mappings;
+	}
+
+	private static long datenOffset(int anzahlSlots) {
+		long headerUndSlots = HEADER_BYTES + (long) anzahlSlots * Integer.BYTES;
+		return (headerUndSlots + DATEN_ALIGNMENT - 1) / DATEN_ALIGNMENT * DATEN_ALIGNMENT;
+	}
+
+	private static Raster readTiffFile(File file) throws IOException {
+		final var hints = new Hints(Hints.DEFAULT_COORDINATE_REFERENCE_SYSTEM,
+			KoordinatenReferenzSystem.ETRS89_UTM32_N.getGeotoolsCRS());
+		final var reader = new GeoTiffReader(file, hints);
+		final var coverage = reader.read(null);
+		final var raster = coverage.getRenderedImage().getData();
+		reader.dispose();
+		coverage.dispose(true);
+		return raster;
+	}
+
+	private static void fillWithElevationData(Raster raster, ShortBuffer heights) {
+		final var height = Math.min(raster.getHeight(), TILE_GROESSE);
+		final var width = Math.min(raster.getWidth(), TILE_GROESSE);
+		var x = 0;
+		var y = 0;
+
+		try {
+			for (y = 0; y < height; y++) {
+				for (x = 0; x < width; x++) {
+					// Wir müssen hier den y-Wert von der HEIGHT abziehen, da die
+					// ElevationTiles ansonsten horizontal gespiegelt sind
+					short val = (short) raster.getPixel(x, raster.getHeight() - 1 - y, (int[]) null)[0];
+					if (val < -1000 || val > 12000) {
+						val = Short.MIN_VALUE;
+					}
+					heights.put(y * TILE_GROESSE + x, val);
+				}
+			}
+		} catch (Exception ex) {
+			throw new RuntimeException("Problem at x:" + x + ", y:" + y, ex);
+		}
+	}
+}
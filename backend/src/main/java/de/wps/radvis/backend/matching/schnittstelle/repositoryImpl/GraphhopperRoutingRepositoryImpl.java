@@ -23,7 +23,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
-import org.jetbrains.annotations.NotNull;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
@@ -45,14 +44,15 @@ import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem
 import de.wps.radvis.backend.common.schnittstelle.CoordinateReferenceSystemConverter;
 import de.wps.radvis.backend.fahrradroute.domain.valueObject.Hoehenunterschied;
 import de.wps.radvis.backend.fahrradroute.domain.valueObject.LinearReferenzierteProfilEigenschaften;
-import de.wps.radvis.backend.matching.domain.entity.CustomRoutingProfile;
 import de.wps.radvis.backend.matching.domain.exception.KeineRouteGefundenException;
-import de.wps.radvis.backend.matching.domain.repository.CustomRoutingProfileRepository;
+import de.wps.radvis.backend.matching.domain.repository.CustomModelRepository;
 import de.wps.radvis.backend.matching.domain.repository.GraphhopperRoutingRepository;
 import de.wps.radvis.backend.matching.domain.valueObject.ProfilRoutingResult;
 import de.wps.radvis.backend.matching.domain.valueObject.RoutingResult;
 import de.wps.radvis.backend.netz.domain.valueObject.OsmWayId;
-import jakarta.persistence.EntityNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -62,17 +62,35 @@ public class GraphhopperRoutingRepositoryImpl implements GraphhopperRoutingRepos
 
 	private DlmMatchedGraphHopper graphHopper;
 	private final DlmMatchedGraphHopperFactory graphHopperFactory;
-	private final CustomRoutingProfileRepository customRoutingProfileRepository;
+	private final CustomModelRepository customModelRepository;
+
+	private final Timer routingDauerStandardProfil;
+	private final Timer routingDauerCustomProfil;
+	private final Counter fehlgeschlageneRoutings;
 
 	public GraphhopperRoutingRepositoryImpl(DlmMatchedGraphHopperFactory dlmMatchedGraphHopperFactory,
 		CoordinateReferenceSystemConverter coordinateReferenceSystemConverter,
-		CustomRoutingProfileRepository customRoutingProfileRepository) {
+		CustomModelRepository customModelRepository, MeterRegistry meterRegistry) {
 
 		this.coordinateReferenceSystemConverter = coordinateReferenceSystemConverter;
 		this.graphHopperFactory = dlmMatchedGraphHopperFactory;
-		this.customRoutingProfileRepository = customRoutingProfileRepository;
+		this.customModelRepository = customModelRepository;
 		this.graphHopper = graphHopperFactory.getDlmGraphHopper();
 		this.geometryFactory = new GeometryFactory(new PrecisionModel(), KoordinatenReferenzSystem.WGS84.getSrid());
+
+		this.routingDauerStandardProfil = erstelleRoutingDauerTimer("standard", meterRegistry);
+		this.routingDauerCustomProfil = erstelleRoutingDauerTimer("custom", meterRegistry);
+		this.fehlgeschlageneRoutings = Counter.builder("radvis.routing.fehler")
+			.description("Routing-Anfragen, für die Graphhopper keine fehlerfreie Route gefunden hat")
+			.register(meterRegistry);
+	}
+
+	private static Timer erstelleRoutingDauerTimer(String profil, MeterRegistry meterRegistry) {
+		return Timer.builder("radvis.routing.dauer")
+			.tag("profil", profil)
+			.description("Dauer einer Routing-Anfrage an Graphhopper")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
 	}
 
 	@Override
@@ -107,7 +125,7 @@ public class GraphhopperRoutingRepositoryImpl implements GraphhopperRoutingRepos
 
 		List<Long> wayIDs = pathDetailsEdgeIds.stream().map(PathDetail::getValue)
 			.map(value -> (Integer) value)
-			.map(graphhopperID -> graphHopper.getGraphHopperEdgesAufOsmWays().get(graphhopperID))
+			.map(graphHopper::getOsmWayId)
 			.map(OsmWayId::getValue)
 			.collect(Collectors.toList());
 
@@ -172,10 +190,10 @@ public class GraphhopperRoutingRepositoryImpl implements GraphhopperRoutingRepos
 		request.setProfile(profileName);
 		request.setPathDetails(List.of(Parameters.Details.EDGE_ID));
 
+		Timer routingDauer = routingDauerStandardProfil;
 		if (customProfileId != GraphhopperRoutingRepository.DEFAULT_PROFILE_ID) {
 			try {
-				String jsonProfile = getCustomRoutingProfile(customProfileId);
-				CustomModel model = CustomRoutingProfile.parseCustomModel(jsonProfile);
+				CustomModel model = customModelRepository.getCustomModel(customProfileId);
 
 				request.setCustomModel(model);
 			} catch (IOException e) {
@@ -183,11 +201,13 @@ public class GraphhopperRoutingRepositoryImpl implements GraphhopperRoutingRepos
 				log.error(msg, e);
 				throw new RuntimeException(msg, e);
 			}
+			routingDauer = routingDauerCustomProfil;
 		}
 
-		final var response = graphHopper.route(request);
+		final var response = routingDauer.record(() -> graphHopper.route(request));
 
 		if (response.hasErrors()) {
+			fehlgeschlageneRoutings.increment();
 			log.info(response.getErrors().stream().map(Throwable::toString).collect(Collectors.joining()));
 			throw new KeineRouteGefundenException(
 				"Die Routing-Response muss fehlerfrei sein: " +
@@ -197,12 +217,6 @@ public class GraphhopperRoutingRepositoryImpl implements GraphhopperRoutingRepos
 		return response;
 	}
 
-	@NotNull
-	private String getCustomRoutingProfile(long customRoutingProfileId) {
-		return customRoutingProfileRepository.findById(customRoutingProfileId).orElseThrow(EntityNotFoundException::new)
-			.getProfilJson();
-	}
-
 	private void checkProfileExists(String profileName) {
 		Profile profile = graphHopper.getProfile(profileName);
 		if (profile == null) {
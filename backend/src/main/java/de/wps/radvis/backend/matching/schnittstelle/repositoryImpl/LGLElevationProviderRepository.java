@@ -17,52 +17,41 @@ package de.wps.radvis.backend.matching.schnittstelle.repositoryImpl;
 import org.locationtech.jts.geom.Coordinate;
 
 import com.graphhopper.reader.dem.ElevationProvider;
-import com.graphhopper.storage.DAType;
 
 import de.wps.radvis.backend.common.domain.CoordinateReferenceSystemConverterUtility;
 import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
-import de.wps.radvis.backend.matching.domain.entity.ElevationDataFileNotFoundException;
-import de.wps.radvis.backend.matching.domain.entity.ElevationTileDirectory;
 import lombok.NonNull;
 
 public class LGLElevationProviderRepository implements ElevationProvider {
 
-	private ElevationDataSpatialIndexRepository cacheIndex;
-	private final ElevationTileDirectory elevationTileDirectory;
+	private ElevationGridRepository grid;
 
 	public LGLElevationProviderRepository(@NonNull String cacheDirPfad, @NonNull String tiffTilesVerzeichnis) {
-		this.cacheIndex = new ElevationDataSpatialIndexRepository(tiffTilesVerzeichnis, cacheDirPfad);
-		this.elevationTileDirectory = new ElevationTileDirectory(cacheDirPfad, DAType.MMAP);
+		this.grid = new ElevationGridRepository(tiffTilesVerzeichnis, cacheDirPfad);
 	}
 
 	@Override
 	public double getEle(double lat, double lon) {
 		// Umrechnen von WGS84 zu UTM
 		final var coordinateInUtm32 = transformCoordinate(new Coordinate(lat, lon));
-		final var latGerundet = (int) (coordinateInUtm32.x);
-		final var lonGerundet = (int) (coordinateInUtm32.y);
-
-		// ElevationTile aus dem Index holen
-		try {
-			final var elevationTile = cacheIndex.findeTileZuKoordinaten(coordinateInUtm32);
-			// Höhe auslesen und zurückgeben
-			return elevationTile.getHeight(latGerundet, lonGerundet, elevationTileDirectory);
-		} catch (ElevationDataFileNotFoundException e) {
-			return 0;
-		}
+		return grid.getHoehe(coordinateInUtm32.x, coordinateInUtm32.y);
 	}
 
 	public double getEle(Coordinate coordinateInUtm32) {
-		final var latGerundet = (int) (coordinateInUtm32.x);
-		final var lonGerundet = (int) (coordinateInUtm32.y);
-		// ElevationTile aus dem Index holen
-		try {
-			final var elevationTile = cacheIndex.findeTileZuKoordinaten(coordinateInUtm32);
-			// Höhe auslesen und zurückgeben
-			return elevationTile.getHeight(latGerundet, lonGerundet, elevationTileDirectory);
-		} catch (ElevationDataFileNotFoundException e) {
-			return 0;
+		return grid.getHoehe(coordinateInUtm32.x, coordinateInUtm32.y);
+	}
+
+	/**
+	 * Ermittelt die Höhen für alle Koordinaten in einem Aufruf, z.B. für sämtliche Stützpunkte einer Kante.
+	 *
+	 * @return die Höhen in derselben Reihenfolge wie die übergebenen Koordinaten
+	 */
+	public double[] getEle(Coordinate[] coordinatesInUtm32) {
+		final var hoehen = new double[coordinatesInUtm32.length];
+		for (int i = 0; i < coordinatesInUtm32.length; i++) {
+			hoehen[i] = grid.getHoehe(coordinatesInUtm32[i].x, coordinatesInUtm32[i].y);
 		}
+		return hoehen;
 	}
 
 	@Override
@@ -72,7 +61,7 @@ public class LGLElevationProviderRepository implements ElevationProvider {
 
 	@Override
 	public void release() {
-		cacheIndex = null;
+		grid = null;
 	}
 
 	private Coordinate transformCoordinate(Coordinate coordinate) {
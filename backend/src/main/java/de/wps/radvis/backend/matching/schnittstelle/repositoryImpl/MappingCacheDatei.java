@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.matching.schnittstelle.repositoryImpl;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Gemeinsame Hilfsfunktionen für die binären, memory-mapped Edge-Mapping-Caches der Graphhopper.
+ * <p>
+ * Jede Datei beginnt mit einem Header aus Magic-Number und Format-Version (jeweils ein int, big endian), danach folgt
+ * das formatspezifische Layout. Die Nutzdaten sind dichte primitive Arrays, die über die Edge-ID indiziert werden, so
+ * dass ein Lookup nur ein absoluter Zugriff auf den gemappten Buffer ist. Absolute Zugriffe verändern die Position des
+ * Buffers nicht und sind daher ohne weitere Synchronisation von mehreren Threads aus lesbar.
+ */
+final class MappingCacheDatei {
+
+	static final int MAGIC_UND_VERSION_BYTES = 2 * Integer.BYTES;
+
+	private MappingCacheDatei() {
+	}
+
+	@FunctionalInterface
+	interface Schreiber {
+		void schreibe(DataOutputStream out) throws IOException;
+	}
+
+	/**
+	 * Schreibt zunächst in eine temporäre Datei daneben und verschiebt diese erst danach an die Zielposition. So
+	 * findet ein gleichzeitiger Leser nie eine halb geschriebene Datei vor.
+	 */
+	static void schreibeAtomar(File datei, int magic, int version, Schreiber schreiber) throws IOException {
+		File tmpDatei = new File(datei.getAbsolutePath() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(
+			new BufferedOutputStream(new FileOutputStream(tmpDatei), 1 << 16))) {
+			out.writeInt(magic);
+			out.writeInt(version);
+			schreiber.schreibe(out);
+		}
+		Files.move(tmpDatei.toPath(), datei.toPath(), StandardCopyOption.REPLACE_EXISTING,
+			StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Mappt die Datei read-only in den Speicher und prüft Magic-Number und Version. Der Channel wird direkt wieder
+	 * geschlossen, das Mapping bleibt davon unberührt gültig.
+	 */
+	static MappedByteBuffer mappe(File datei, int magic, int version) throws IOException {
+		MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(datei.toPath(), StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException("Die Cache-Datei " + datei + " ist zu groß für ein einzelnes Mapping.");
+			}
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+
+		if (buffer.capacity() < MAGIC_UND_VERSION_BYTES || buffer.getInt(0) != magic) {
+			throw new IOException("Die Datei " + datei + " ist kein gültiger Mapping-Cache.");
+		}
+		int gefundeneVersion = buffer.getInt(Integer.BYTES);
+		if (gefundeneVersion != version) {
+			throw new IOException(String.format(
+				"Die Datei %s hat die Cache-Version %d, erwartet wird %d. Bitte den Graphhopper-Cache neu erzeugen.",
+				datei, gefundeneVersion, version));
+		}
+		return buffer;
+	}
+}
@@ -31,15 +31,11 @@ import com.graphhopper.reader.osm.OSMReader;
 import de.wps.radvis.backend.matching.domain.CustomBikeFlagEncoderFactory;
 import de.wps.radvis.backend.matching.domain.repository.OsmMatchingCacheRepository;
 import de.wps.radvis.backend.netz.domain.valueObject.LinearReferenzierteOsmWayId;
-import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class OsmMatchedGraphHopper extends GraphHopper {
 
-	@Getter
-	private final Map<Integer, LinearReferenzierteOsmWayId> graphHopperEdgesAufLinRefOsmWaysIds;
-
 	private final OsmMatchingCacheRepository osmMatchingCacheRepository;
 
 	public OsmMatchedGraphHopper(OsmMatchingCacheRepository osmMatchingCacheRepository) {
@@ -47,7 +43,6 @@ public class OsmMatchedGraphHopper extends GraphHopper {
 		require(osmMatchingCacheRepository, notNullValue());
 		super.setFlagEncoderFactory(new CustomBikeFlagEncoderFactory());
 
-		this.graphHopperEdgesAufLinRefOsmWaysIds = new HashMap<>();
 		this.osmMatchingCacheRepository = osmMatchingCacheRepository;
 	}
 
@@ -58,6 +53,8 @@ public class OsmMatchedGraphHopper extends GraphHopper {
 				+ " but also cannot use file for DataReader as it wasn't specified!");
 
 		log.info("start creating graph from {}.", getOSMFile());
+		// Die Map wird nur während des Imports benötigt. Danach wird ausschließlich aus dem gemappten Cache gelesen.
+		Map<Integer, LinearReferenzierteOsmWayId> graphHopperEdgesAufLinRefOsmWaysIds = new HashMap<>();
 		OSMReader reader = new OsmWayReader(getGraphHopperStorage(), null, null,
 			graphHopperEdgesAufLinRefOsmWaysIds)
 				.setFile(_getOSMFile())
@@ -79,8 +76,9 @@ public class OsmMatchedGraphHopper extends GraphHopper {
 		getGraphHopperStorage().getProperties().put("datareader.import.date", f.format(new Date()));
 		if (reader.getDataDate() != null)
 			getGraphHopperStorage().getProperties().put("datareader.data.date", f.format(reader.getDataDate()));
-		osmMatchingCacheRepository.save(graphHopperEdgesAufLinRefOsmWaysIds);
 		log.info("Speichere {} Edge-Mappings", graphHopperEdgesAufLinRefOsmWaysIds.size());
+		osmMatchingCacheRepository.save(graphHopperEdgesAufLinRefOsmWaysIds);
+		osmMatchingCacheRepository.load();
 	}
 
 	@Override
@@ -92,8 +90,15 @@ public class OsmMatchedGraphHopper extends GraphHopper {
 					"Die Datei für den OsmMatchingCache ist nicht vorhanden. Bitte den GrapHopper-Cache löschen unter "
 						+ getGraphHopperLocation());
 			}
-			graphHopperEdgesAufLinRefOsmWaysIds.putAll(osmMatchingCacheRepository.get());
+			osmMatchingCacheRepository.load();
 		}
 		return hasLoaded;
 	}
+
+	/**
+	 * @return die linear referenzierte OsmWayId der Edge oder null, falls für die Edge kein Mapping existiert
+	 */
+	public LinearReferenzierteOsmWayId getLinearReferenzierteOsmWayId(int edgeId) {
+		return osmMatchingCacheRepository.get(edgeId);
+	}
 }
@@ -20,6 +20,7 @@ import static org.valid4j.Assertive.require;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.MappedByteBuffer;
 import java.nio.file.Files;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -29,19 +30,37 @@ import java.util.Map;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import de.wps.radvis.backend.common.domain.valueObject.LinearReferenzierterAbschnitt;
 import de.wps.radvis.backend.matching.domain.repository.OsmMatchingCacheRepository;
 import de.wps.radvis.backend.netz.domain.valueObject.LinearReferenzierteOsmWayId;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Binärer Cache für das Mapping von Graphhopper-Edges auf linear referenzierte OsmWayIds.
+ * <p>
+ * Layout (big endian): Magic, Version, Anzahl Edges n, dann long[n] OsmWayIds, double[n] von und double[n] bis der
+ * linearen Referenz.
+ */
 @Slf4j
 public class OsmMatchingCacheRepositoryImpl implements OsmMatchingCacheRepository {
 
+	static final int MAGIC = 0x52564F43;
+	static final int VERSION = 1;
+
+	private static final int HEADER_BYTES = MappingCacheDatei.MAGIC_UND_VERSION_BYTES + Integer.BYTES;
+	private static final long KEINE_OSM_WAY_ID = -1L;
+
 	private final String mappingCacheVerzeichnis;
+	private final File mappingCacheDatei;
+	// Alte JSON-Datei. Diese wird nur noch gelesen, um sie beim Laden in das Binärformat zu überführen.
 	private final File mappingCacheDateiOsmWays;
 	private final ObjectMapper objectMapper;
 
+	private volatile GeladenerCache geladenerCache;
+
 	public OsmMatchingCacheRepositoryImpl(String mappingCacheVerzeichnis) {
 		require(mappingCacheVerzeichnis, notNullValue());
+		mappingCacheDatei = new File(mappingCacheVerzeichnis + File.separator + "mapping.bin");
 		mappingCacheDateiOsmWays = new File(mappingCacheVerzeichnis + File.separator + "mapping.cache");
 		objectMapper = new ObjectMapper();
 
@@ -56,40 +75,68 @@ public class OsmMatchingCacheRepositoryImpl implements OsmMatchingCacheRepositor
 		}
 
 		try {
-			objectMapper.writeValue(mappingCacheDateiOsmWays, mappingCache);
+			schreibeBinaer(mappingCache);
+			geladenerCache = null;
 			ensure(hasCache());
 		} catch (IOException e) {
-			log.error("Fehler beim Dateizugriff auf Datei {}", mappingCacheDateiOsmWays);
+			log.error("Fehler beim Dateizugriff auf Datei {}", mappingCacheDatei);
 			throw new RuntimeException(e);
 		}
 	}
 
 	@Override
-	public Map<Integer, LinearReferenzierteOsmWayId> get() {
+	public void load() {
 		require(hasCache());
 		try {
-			return objectMapper.readValue(mappingCacheDateiOsmWays,
-				new TypeReference<>() {
-				});
+			if (!mappingCacheDatei.exists()) {
+				migriereJsonCache();
+			}
+			MappedByteBuffer buffer = MappingCacheDatei.mappe(mappingCacheDatei, MAGIC, VERSION);
+			geladenerCache = new GeladenerCache(buffer, buffer.getInt(MappingCacheDatei.MAGIC_UND_VERSION_BYTES));
+			log.info("OSM-Mapping-Cache mit {} Edges geladen", geladenerCache.anzahlEdges());
 		} catch (IOException e) {
-			log.error("Fehler beim Dateizugriff auf Datei {}.", mappingCacheDateiOsmWays);
+			log.error("Fehler beim Dateizugriff auf Datei {}.", mappingCacheDatei);
 			throw new RuntimeException(e);
 		}
 	}
 
+	@Override
+	public LinearReferenzierteOsmWayId get(int edgeId) {
+		GeladenerCache cache = getGeladenenCache();
+		MappedByteBuffer buffer = cache.buffer();
+		int n = cache.anzahlEdges();
+		if (edgeId < 0 || edgeId >= n) {
+			return null;
+		}
+		long osmWayId = buffer.getLong(HEADER_BYTES + edgeId * Long.BYTES);
+		if (osmWayId == KEINE_OSM_WAY_ID) {
+			return null;
+		}
+		double von = buffer.getDouble(HEADER_BYTES + n * Long.BYTES + edgeId * Double.BYTES);
+		double bis = buffer.getDouble(HEADER_BYTES + n * (Long.BYTES + Double.BYTES) + edgeId * Double.BYTES);
+		return LinearReferenzierteOsmWayId.of(osmWayId, LinearReferenzierterAbschnitt.of(von, bis));
+	}
+
+	@Override
+	public int getAnzahlEdges() {
+		return getGeladenenCache().anzahlEdges();
+	}
+
 	@Override
 	public boolean hasCache() {
-		return (mappingCacheDateiOsmWays.exists()
-			&& mappingCacheDateiOsmWays.length() > 0);
+		return (mappingCacheDatei.exists() && mappingCacheDatei.length() > 0)
+			|| (mappingCacheDateiOsmWays.exists() && mappingCacheDateiOsmWays.length() > 0);
 	}
 
 	@Override
 	public void deleteAll() {
 		try {
+			geladenerCache = null;
+			Files.deleteIfExists(mappingCacheDatei.toPath());
 			Files.deleteIfExists(mappingCacheDateiOsmWays.toPath());
 			ensure(!hasCache());
 		} catch (IOException e) {
-			log.error("Fehler beim Löschen von Datei {}.", mappingCacheDateiOsmWays);
+			log.error("Fehler beim Löschen von Datei {} oder {}.", mappingCacheDatei, mappingCacheDateiOsmWays);
 			throw new RuntimeException(e);
 		}
 	}
@@ -98,7 +145,49 @@ public class OsmMatchingCacheRepositoryImpl implements OsmMatchingCacheRepositor
 	public LocalDateTime getTimestamp() {
 		require(hasCache());
 
-		Instant epochMilli = Instant.ofEpochMilli(mappingCacheDateiOsmWays.lastModified());
+		File datei = mappingCacheDatei.exists() ? mappingCacheDatei : mappingCacheDateiOsmWays;
+		Instant epochMilli = Instant.ofEpochMilli(datei.lastModified());
 		return LocalDateTime.ofInstant(epochMilli, ZoneId.systemDefault());
 	}
+
+	private GeladenerCache getGeladenenCache() {
+		GeladenerCache cache = geladenerCache;
+		if (cache == null) {
+			throw new IllegalStateException("Der OSM-Mapping-Cache wurde noch nicht geladen.");
+		}
+		return cache;
+	}
+
+	private void schreibeBinaer(Map<Integer, LinearReferenzierteOsmWayId> mappingCache) throws IOException {
+		int n = mappingCache.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1) + 1;
+
+		MappingCacheDatei.schreibeAtomar(mappingCacheDatei, MAGIC, VERSION, out -> {
+			out.writeInt(n);
+			for (int edgeId = 0; edgeId < n; edgeId++) {
+				LinearReferenzierteOsmWayId osmWayId = mappingCache.get(edgeId);
+				out.writeLong(osmWayId == null ? KEINE_OSM_WAY_ID : osmWayId.getValue());
+			}
+			for (int edgeId = 0; edgeId < n; edgeId++) {
+				LinearReferenzierteOsmWayId osmWayId = mappingCache.get(edgeId);
+				out.writeDouble(osmWayId == null ? 0 : osmWayId.getLinearReferenzierterAbschnitt().getVonValue());
+			}
+			for (int edgeId = 0; edgeId < n; edgeId++) {
+				LinearReferenzierteOsmWayId osmWayId = mappingCache.get(edgeId);
+				out.writeDouble(osmWayId == null ? 0 : osmWayId.getLinearReferenzierterAbschnitt().getBisValue());
+			}
+		});
+		log.info("OSM-Mapping-Cache mit {} Edges nach {} geschrieben", n, mappingCacheDatei);
+	}
+
+	private void migriereJsonCache() throws IOException {
+		log.info("Überführe OSM-Mapping-Cache aus {} in das Binärformat", mappingCacheDateiOsmWays);
+		Map<Integer, LinearReferenzierteOsmWayId> mappingCache = objectMapper.readValue(mappingCacheDateiOsmWays,
+			new TypeReference<>() {
+			});
+		schreibeBinaer(mappingCache);
+		Files.deleteIfExists(mappingCacheDateiOsmWays.toPath());
+	}
+
+	private record GeladenerCache(MappedByteBuffer buffer, int anzahlEdges) {
+	}
 }
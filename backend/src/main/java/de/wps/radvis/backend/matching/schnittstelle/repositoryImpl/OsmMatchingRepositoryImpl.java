@@ -49,15 +49,15 @@ import de.wps.radvis.backend.matching.domain.exception.KeinMatchGefundenExceptio
 import de.wps.radvis.backend.matching.domain.repository.OsmMatchingRepository;
 import de.wps.radvis.backend.matching.domain.valueObject.LinearReferenziertesOsmMatchResult;
 import de.wps.radvis.backend.netz.domain.valueObject.LinearReferenzierteOsmWayId;
-import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class OsmMatchingRepositoryImpl implements OsmMatchingRepository {
 
 	private CoordinateReferenceSystemConverter coordinateReferenceSystemConverter;
-	@Getter
-	private OsmMapMatching mapMatchingBike;
+	// MapMatching hält während eines Matchings Zwischenzustände in Instanzfeldern. Damit mehrere Threads parallel auf
+	// demselben (read-only) Graphen matchen können, bekommt jeder Thread eine eigene Instanz.
+	private ThreadLocal<OsmMapMatching> mapMatchingBike;
 	private GeometryFactory geometryFactory;
 	private OsmMatchedGraphHopper graphHopper;
 
@@ -78,9 +78,11 @@ public class OsmMatchingRepositoryImpl implements OsmMatchingRepository {
 	}
 
 	private void initializeMapMatching(Double measurementErrorSigma) {
-		PMap hintsBike = new PMap();
-		hintsBike.putObject("profile", "bike");
-		mapMatchingBike = new OsmMapMatching(graphHopper, hintsBike, measurementErrorSigma);
+		mapMatchingBike = ThreadLocal.withInitial(() -> {
+			PMap hintsBike = new PMap();
+			hintsBike.putObject("profile", "bike");
+			return new OsmMapMatching(graphHopper, hintsBike, measurementErrorSigma);
+		});
 	}
 
 	@Override
@@ -109,7 +111,7 @@ public class OsmMatchingRepositoryImpl implements OsmMatchingRepository {
 		}
 
 		try {
-			return mapMatchingBike.match(observations);
+			return mapMatchingBike.get().match(observations);
 		} catch (IllegalArgumentException e) {
 			throw new KeinMatchGefundenException(
 				"Der LineString konnte nicht gematched werden. Dies liegt beispielsweise daran, dass die Geometrie oder"
@@ -244,8 +246,8 @@ public class OsmMatchingRepositoryImpl implements OsmMatchingRepository {
 			.fetchWayGeometry(FetchMode.ALL);
 
 		// lin. Ref. Edge auf OsmWay
-		LinearReferenzierteOsmWayId linearReferenzierteOsmWayId = graphHopper.getGraphHopperEdgesAufLinRefOsmWaysIds()
-			.get(edgeId);
+		LinearReferenzierteOsmWayId linearReferenzierteOsmWayId = graphHopper
+			.getLinearReferenzierteOsmWayId(edgeId);
 
 		if (linearReferenzierteOsmWayId == null) {
 			log.warn("linearReferenzierteOsmWayId not found for edgeID {}", edgeId);
@@ -17,19 +17,30 @@ package de.wps.radvis.backend.matching.schnittstelle.repositoryImpl;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.valid4j.Assertive.require;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -38,6 +49,7 @@ import org.jetbrains.annotations.NotNull;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
 
+import com.carrotsearch.hppc.LongHashSet;
 import com.slimjars.dist.gnu.trove.list.TLongList;
 import com.slimjars.dist.gnu.trove.list.array.TLongArrayList;
 
@@ -70,18 +82,59 @@ import de.wps.radvis.backend.netz.domain.entity.FahrtrichtungAttributGruppe;
 import de.wps.radvis.backend.netz.domain.entity.FuehrungsformAttributGruppe;
 import de.wps.radvis.backend.netz.domain.entity.Kante;
 import de.wps.radvis.backend.netz.domain.entity.Knoten;
-import de.wps.radvis.backend.netz.domain.repository.KantenRepository;
 import de.wps.radvis.backend.netz.domain.valueObject.Netzklasse;
 import de.wps.radvis.backend.netz.domain.valueObject.SeitenbezogeneProfilEigenschaften;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-@AllArgsConstructor
 public class PbfErstellungsRepositoryImpl implements PbfErstellungsRepository {
+
+	private static final int BATCH_GROESSE = 5_000;
+
+	/**
+	 * Anzahl der Batches pro Worker, die gleichzeitig in Bearbeitung sein dürfen. Begrenzt den Speicherbedarf, falls
+	 * das Schreiben langsamer ist als das Transformieren.
+	 */
+	private static final int AUSSTEHENDE_BATCHES_PRO_WORKER = 2;
+
 	private final CoordinateReferenceSystemConverter converter;
 	private final BarriereRepository barriereRepository;
-	private final KantenRepository kantenRepository;
+	private final int anzahlWorker;
+
+	/**
+	 * Die für einen Way benötigten Daten einer Kante, losgelöst von der Entity. Die Tags werden im aufrufenden Thread
+	 * erzeugt, da sie auf lazy geladene Assoziationen der Kante zugreifen.
+	 */
+	private record KantenDaten(long kanteId, Coordinate[] koordinaten, List<Tag> tags) {
+	}
+
+	/**
+	 * Die nach WGS84 transformierten, deduplizierten Koordinaten eines Ways. Die Node-IDs werden erst beim Schreiben
+	 * vergeben, damit sie unabhängig von der Reihenfolge der Worker fortlaufend sind.
+	 */
+	private record WayDaten(long kanteId, double[] latitudes, double[] longitudes, List<Tag> tags) {
+	}
+
+	private record BarrierenIndex(Map<Long, Set<Barriere>> nachKanteId, Map<Knoten, Set<Barriere>> nachKnoten) {
+
+		Set<Barriere> getBarrieren(Kante kante) {
+			Set<Barriere> barrieren = new HashSet<>(nachKanteId.getOrDefault(kante.getId(), Set.of()));
+			barrieren.addAll(nachKnoten.getOrDefault(kante.getVonKnoten(), Set.of()));
+			barrieren.addAll(nachKnoten.getOrDefault(kante.getNachKnoten(), Set.of()));
+			return barrieren;
+		}
+	}
+
+	public PbfErstellungsRepositoryImpl(CoordinateReferenceSystemConverter converter,
+		BarriereRepository barriereRepository, int anzahlWorker) {
+		require(converter, notNullValue());
+		require(barriereRepository, notNullValue());
+		require(anzahlWorker >= 1, "Anzahl Worker muss größer 0 sein");
+
+		this.converter = converter;
+		this.barriereRepository = barriereRepository;
+		this.anzahlWorker = anzahlWorker;
+	}
 
 	/**
 	 * @param partitionToKantenMap
@@ -100,11 +153,17 @@ public class PbfErstellungsRepositoryImpl implements PbfErstellungsRepository {
 
 		log.info("Schreibe Kanten als PBF-Datei nach {}", outputFile.getAbsolutePath());
 
-		try (OutputStream output = new FileOutputStream(outputFile)) {
+		// Die MathTransform wird beim ersten Aufruf in einer nicht threadsicheren Map abgelegt. Daher einmal im
+		// aufrufenden Thread transformieren, bevor die Worker starten.
+		converter.transformCoordinateUnsafe(new Coordinate(500000, 5400000), KoordinatenReferenzSystem.ETRS89_UTM32_N,
+			KoordinatenReferenzSystem.WGS84);
+
+		ExecutorService workers = Executors.newFixedThreadPool(anzahlWorker, workerThreadFactory());
+		try (OutputStream output = new BufferedOutputStream(new FileOutputStream(outputFile), 1 << 16)) {
 			PbfWriter osmOutput = new PbfWriter(output, true);
 			osmOutput.setBatchLimit(100_000);
 
-			Set<Long> dlmKantenBereitsAbgearbeitet = new HashSet<>();
+			LongHashSet dlmKantenBereitsAbgearbeitet = new LongHashSet();
 
 			NodeIndex nodeIndex = new NodeIndex();
 
@@ -114,7 +173,7 @@ public class PbfErstellungsRepositoryImpl implements PbfErstellungsRepository {
 			List<Map.Entry<Envelope, Stream<Kante>>> sortedMapEntries = partitionToKantenMap.entrySet().stream()
 				.sorted(Comparator.comparing(entry -> entry.getKey().getMinX())).collect(Collectors.toList());
 
-			Map<Long, Set<Barriere>> kanteToBarrieren = getBarrierenForKanten();
+			BarrierenIndex barrierenIndex = getBarrierenIndex();
 
 			for (Map.Entry<Envelope, Stream<Kante>> spalte : sortedMapEntries) {
 				Envelope envelope = spalte.getKey();
@@ -123,26 +182,38 @@ public class PbfErstellungsRepositoryImpl implements PbfErstellungsRepository {
 					String.format("Vor envelope %s in %s", envelope, this.getClass().getSimpleName()));
 
 				log.info("Schreibe Pbf für Partition {}", envelope);
-				Stream<Kante> kanten = spalte.getValue();
-				kanten.forEach(kante -> {
-					if (!dlmKantenBereitsAbgearbeitet.contains(kante.getId())) {
-						dlmKantenBereitsAbgearbeitet.add(kante.getId());
-
-						try {
-							List<Long> newNodeIds = buildNodes(kante, entityId, nodeIndex, osmOutput);
-							Way way = buildWay(newNodeIds, kante.getId());
-							addTags(way, kante, kanteToBarrieren.getOrDefault(kante.getId(), new HashSet<>()));
-							osmOutput.write(way);
-						} catch (IOException e) {
-							log.error(e.getMessage(), e);
+				// Die Futures werden in Einreihungsreihenfolge abgearbeitet, damit Ways und Node-IDs unabhängig von
+				// der Anzahl der Worker immer gleich geschrieben werden.
+				Deque<Future<List<WayDaten>>> ausstehend = new ArrayDeque<>();
+				try (Stream<Kante> kanten = spalte.getValue()) {
+					List<KantenDaten> batch = new ArrayList<>(BATCH_GROESSE);
+					Iterator<Kante> iterator = kanten.iterator();
+					while (iterator.hasNext()) {
+						Kante kante = iterator.next();
+						if (!dlmKantenBereitsAbgearbeitet.add(kante.getId())) {
+							continue;
+						}
+
+						batch.add(new KantenDaten(kante.getId(), kante.getGeometry().getCoordinates(),
+							buildTags(kante, barrierenIndex.getBarrieren(kante))));
+						if (batch.size() == BATCH_GROESSE) {
+							List<KantenDaten> zuTransformieren = batch;
+							ausstehend.add(workers.submit(() -> transformiere(zuTransformieren)));
+							batch = new ArrayList<>(BATCH_GROESSE);
 						}
-						if (i.incrementAndGet() % 100000 == 0) {
-							log.info("Es wurden {} Kanten bearbeitet", i.get());
+						if (ausstehend.size() >= anzahlWorker * AUSSTEHENDE_BATCHES_PRO_WORKER) {
+							writeWays(warteAuf(ausstehend.poll()), entityId, nodeIndex, osmOutput, i);
 						}
 					}
-				});
+					if (!batch.isEmpty()) {
+						List<KantenDaten> zuTransformieren = batch;
+						ausstehend.add(workers.submit(() -> transformiere(zuTransformieren)));
+					}
+				}
+				while (!ausstehend.isEmpty()) {
+					writeWays(warteAuf(ausstehend.poll()), entityId, nodeIndex, osmOutput, i);
+				}
 
-				System.gc();
 				RamUsageUtility.logCurrentRamUsage(
 					String.format("Nach envelope %s in %s", envelope, this.getClass().getSimpleName()));
 			}
@@ -151,59 +222,47 @@ public class PbfErstellungsRepositoryImpl implements PbfErstellungsRepository {
 		} catch (IOException e) {
 			log.error("Fehler beim Schreiben der PBF-Datei {}", outputFile.getAbsolutePath(), e);
 			throw new IOException("PBF-Datei " + outputFile.getAbsolutePath() + " konnte nicht geschrieben werden", e);
+		} finally {
+			workers.shutdownNow();
 		}
 
 		log.info("PBF-Datei {} erfolgreich geschrieben", outputFile.getAbsolutePath());
 	}
 
-	private Map<Long, Set<Barriere>> getBarrierenForKanten() {
-		HashMap<Long, Set<Barriere>> result = new HashMap<>();
+	/**
+	 * Ordnet die Barrieren den Kanten (linear referenzierte und punktuelle Netzbezüge) und den Knoten zu. Über die
+	 * Knoten werden später die adjazenten Kanten gefunden, ohne diese für jeden Knoten aus der DB laden zu müssen.
+	 */
+	private BarrierenIndex getBarrierenIndex() {
+		Map<Long, Set<Barriere>> nachKanteId = new HashMap<>();
+		Map<Knoten, Set<Barriere>> nachKnoten = new HashMap<>();
 
 		barriereRepository.findAll().forEach(barriere -> {
-			Set<Kante> kanten = new HashSet<>();
-
 			// Ermittle Kanten aus linear referenzierten Abschnitten
-			kanten.addAll(
-				barriere.getNetzbezug()
-					.getImmutableKantenAbschnittBezug()
-					.stream()
-					.map(AbschnittsweiserKantenBezug::getKante)
-					.collect(Collectors.toSet())
-			);
+			barriere.getNetzbezug()
+				.getImmutableKantenAbschnittBezug()
+				.stream()
+				.map(AbschnittsweiserKantenBezug::getKante)
+				.forEach(kante -> nachKanteId.computeIfAbsent(kante.getId(), id -> new HashSet<>()).add(barriere));
 
 			// Ermittle Kanten aus linear referenzierten Punktuellen Netzbezügen
-			kanten.addAll(
-				barriere.getNetzbezug()
-					.getImmutableKantenPunktBezug()
-					.stream()
-					.map(PunktuellerKantenSeitenBezug::getKante)
-					.collect(Collectors.toSet())
-			);
-
-			// Ermittle adjazente Kanten zu Knoten auf denen Barrieren sind. Graphhopper kann keine Gewichtungen auf
-			// Knoten definieren, daher attributieren wir die adjazenten Kanten des Knotens.
-			kanten.addAll(
-				barriere.getNetzbezug()
-					.getImmutableKnotenBezug()
-					.stream()
-					.map(kantenRepository::getAdjazenteKanten)
-					.flatMap(Collection::stream)
-					.collect(Collectors.toSet())
-			);
-
-			kanten.forEach(kante -> {
-				if (!result.containsKey(kante.getId())) {
-					result.put(kante.getId(), new HashSet<>());
-				}
-				result.get(kante.getId()).add(barriere);
-			});
-
+			barriere.getNetzbezug()
+				.getImmutableKantenPunktBezug()
+				.stream()
+				.map(PunktuellerKantenSeitenBezug::getKante)
+				.forEach(kante -> nachKanteId.computeIfAbsent(kante.getId(), id -> new HashSet<>()).add(barriere));
+
+			// Ermittle Knoten, auf denen Barrieren sind. Graphhopper kann keine Gewichtungen auf Knoten definieren,
+			// daher attributieren wir die adjazenten Kanten des Knotens.
+			barriere.getNetzbezug()
+				.getImmutableKnotenBezug()
+				.forEach(knoten -> nachKnoten.computeIfAbsent(knoten, k -> new HashSet<>()).add(barriere));
 		});
 
-		return result;
+		return new BarrierenIndex(nachKanteId, nachKnoten);
 	}
 
-	private void addTags(Way way, Kante kante, Set<Barriere> barrieren) {
+	private List<Tag> buildTags(Kante kante, Set<Barriere> barrieren) {
 		List<Tag> tags = new ArrayList<>();
 		tags.add(new Tag("highway", "track"));
 
@@ -220,7 +279,7 @@ public class PbfErstellungsRepositoryImpl implements PbfErstellungsRepository {
 		tags.addAll(buildDtvPkwTag(kante));
 		tags.addAll(buildBarriereTag(kante, barrieren));
 
-		way.setTags(tags);
+		return tags;
 	}
 
 	private List<Tag> buildBarriereTag(Kante kante, Set<Barriere> barrieren) {
@@ -436,25 +495,41 @@ public class PbfErstellungsRepositoryImpl implements PbfErstellungsRepository {
 		return tags;
 	}
 
-	private List<Long> buildNodes(Kante kante, AtomicLong entityId, NodeIndex nodeIndex,
+	private void writeWays(List<WayDaten> ways, AtomicLong entityId, NodeIndex nodeIndex,
+		OsmOutputStream osmOutputStream, AtomicLong i) throws IOException {
+		for (WayDaten wayDaten : ways) {
+			Way way = buildWay(buildNodes(wayDaten, entityId, nodeIndex, osmOutputStream), wayDaten.kanteId());
+			way.setTags(wayDaten.tags());
+			osmOutputStream.write(way);
+
+			if (i.incrementAndGet() % 100000 == 0) {
+				log.info("Es wurden {} Kanten bearbeitet", i.get());
+			}
+		}
+	}
+
+	private TLongList buildNodes(WayDaten wayDaten, AtomicLong entityId, NodeIndex nodeIndex,
 		OsmOutputStream osmOutputStream)
 		throws IOException {
-		List<Node> nodesOfKante = getNodes(kante, entityId);
+		int anzahlNodes = wayDaten.latitudes().length;
+		long ersteNodeId = entityId.getAndAdd(anzahlNodes) + 1;
 
-		List<Long> topologischIntegrierteNodes = new ArrayList<>();
+		TLongList topologischIntegrierteNodes = new TLongArrayList(anzahlNodes);
 
-		Node startNode = nodesOfKante.get(0);
+		Node startNode = new Node(ersteNodeId, wayDaten.longitudes()[0], wayDaten.latitudes()[0]);
 		topologischIntegrierteNodes.add(
 			findExistingNodeOrWrite(startNode, nodeIndex, osmOutputStream));
 
 		// Unser Kantenmodell bildet Topologie nur am Anfang und Ende der Kante ab, deshalb schreiben wir für
 		// alle anderen Nodes immer neue Nodes, da an diesen Stellen nie eine topologische Verbindung existieren sollte
-		for (Node node : nodesOfKante.subList(1, nodesOfKante.size() - 1)) {
+		for (int n = 1; n < anzahlNodes - 1; n++) {
+			Node node = new Node(ersteNodeId + n, wayDaten.longitudes()[n], wayDaten.latitudes()[n]);
 			topologischIntegrierteNodes.add(node.getId());
 			osmOutputStream.write(node);
 		}
 
-		Node endNode = nodesOfKante.get(nodesOfKante.size() - 1);
+		Node endNode = new Node(ersteNodeId + anzahlNodes - 1, wayDaten.longitudes()[anzahlNodes - 1],
+			wayDaten.latitudes()[anzahlNodes - 1]);
 		topologischIntegrierteNodes.add(
 			findExistingNodeOrWrite(endNode, nodeIndex, osmOutputStream));
 
@@ -473,26 +548,53 @@ public class PbfErstellungsRepositoryImpl implements PbfErstellungsRepository {
 		}
 	}
 
-	private Way buildWay(List<Long> noteIds, long id) {
-		TLongList nodeIds = new TLongArrayList();
-		nodeIds.addAll(noteIds);
+	private Way buildWay(TLongList nodeIds, long id) {
 		return new Way(id, nodeIds);
 	}
 
-	private List<Node> getNodes(Kante kante, AtomicLong lastId) {
-		Coordinate[] coordinates = kante.getGeometry().getCoordinates();
-		List<Coordinate> unique = new ArrayList<>();
-		for (Coordinate coordinate : coordinates) {
-			if (!unique.contains(coordinate)) {
-				unique.add(coordinate);
+	/**
+	 * Läuft in einem Worker und darf daher nur auf die losgelösten KantenDaten zugreifen.
+	 */
+	private List<WayDaten> transformiere(List<KantenDaten> batch) {
+		List<WayDaten> ways = new ArrayList<>(batch.size());
+		for (KantenDaten kantenDaten : batch) {
+			Set<Coordinate> unique = new LinkedHashSet<>(Arrays.asList(kantenDaten.koordinaten()));
+
+			double[] latitudes = new double[unique.size()];
+			double[] longitudes = new double[unique.size()];
+			int n = 0;
+			for (Coordinate coordinate : unique) {
+				Coordinate wgs84 = converter.transformCoordinateUnsafe(coordinate,
+					KoordinatenReferenzSystem.ETRS89_UTM32_N, KoordinatenReferenzSystem.WGS84);
+				latitudes[n] = wgs84.x;
+				longitudes[n] = wgs84.y;
+				n++;
 			}
+			ways.add(new WayDaten(kantenDaten.kanteId(), latitudes, longitudes, kantenDaten.tags()));
 		}
+		return ways;
+	}
+
+	private static <T> T warteAuf(Future<T> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Das Warten auf die PBF-Worker wurde unterbrochen.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new RuntimeException(e.getCause());
+		}
+	}
 
-		return unique.stream()
-			.map(coordinate -> converter
-				.transformCoordinateUnsafe(coordinate, KoordinatenReferenzSystem.ETRS89_UTM32_N,
-					KoordinatenReferenzSystem.WGS84))
-			.map(coordinate -> new Node(lastId.incrementAndGet(), coordinate.y, coordinate.x))
-			.collect(Collectors.toList());
+	private static ThreadFactory workerThreadFactory() {
+		AtomicInteger threadNummer = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "pbf-erstellung-worker-" + threadNummer.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
 	}
 }
@@ -73,8 +73,7 @@ public class ProfilEigenschaftenCreator {
 		PathDetail pathDetail) {
 		Integer edgeId = (Integer) pathDetail.getValue();
 		SeitenbezogeneProfilEigenschaften seitenbezogeneProfilEigenschaften = graphHopper
-			.getGraphHopperEdgesAufProfilEigenschaften()
-			.get(edgeId);
+			.getProfilEigenschaften(edgeId);
 		Coordinate coordinateVon = gematchedteGeometrie.getCoordinates()[pathDetail.getFirst()];
 		double von = fractionIndexedLine.getFractionAtIndex(pathDetail.getFirst());
 		Coordinate coordinateBis = gematchedteGeometrie.getCoordinates()[pathDetail.getLast()];
@@ -151,7 +151,7 @@ public class NetzConfiguration {
 
 	@Bean
 	public SackgassenService sackgassenService() {
-		return new SackgassenService(netzService(), kantenRepository);
+		return new SackgassenService(netzService(), kantenRepository, knotenRepository);
 	}
 
 	@Bean
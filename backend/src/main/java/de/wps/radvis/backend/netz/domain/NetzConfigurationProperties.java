@@ -31,11 +31,13 @@ public class NetzConfigurationProperties {
 	private final double kantenParallelitaetToleranz;
 	private final double nahegelegeneKantenMinAbgebildeteRelativeGesamtlaenge;
 	private final int auditingErgaenzenBatchSize;
+	private final int materializedViewsAnzahlParallelerVerbindungen;
 
 	@ConstructorBinding
 	public NetzConfigurationProperties(double minimaleSegmentLaenge, double nahegelegeneKantenDistanzInM,
 		int kantenParallelitaetSegmente, double kantenParallelitaetToleranz,
-		double nahegelegeneKantenMinAbgebildeteRelativeGesamtlaenge, int auditingErgaenzenBatchSize) {
+		double nahegelegeneKantenMinAbgebildeteRelativeGesamtlaenge, int auditingErgaenzenBatchSize,
+		int materializedViewsAnzahlParallelerVerbindungen) {
 		require(minimaleSegmentLaenge > 0, "Minimale Segment Laenge muss größer 0 sein.");
 		require(nahegelegeneKantenDistanzInM >= 0, "Die Distanz für nahegelegene Kanten darf nicht negativ sein.");
 		require(kantenParallelitaetSegmente >= 1,
@@ -49,6 +51,8 @@ public class NetzConfigurationProperties {
 			"Batch-size für das Ergänzen von Auditing-Einträgen muss größer 0 sein.");
 		require(auditingErgaenzenBatchSize <= 32767,
 			"Batch-size für das Ergänzen von Auditing-Einträgen darf maximal 32767 betragen");
+		require(materializedViewsAnzahlParallelerVerbindungen >= 1,
+			"Die Anzahl paralleler Verbindungen zum Aktualisieren der Materialized Views muss mindestens 1 sein.");
 
 		this.minimaleSegmentLaenge = Laenge.of(minimaleSegmentLaenge);
 		this.nahegelegeneKantenDistanzInM = Laenge.of(nahegelegeneKantenDistanzInM);
@@ -56,5 +60,6 @@ public class NetzConfigurationProperties {
 		this.kantenParallelitaetToleranz = kantenParallelitaetToleranz;
 		this.nahegelegeneKantenMinAbgebildeteRelativeGesamtlaenge = nahegelegeneKantenMinAbgebildeteRelativeGesamtlaenge;
 		this.auditingErgaenzenBatchSize = auditingErgaenzenBatchSize;
+		this.materializedViewsAnzahlParallelerVerbindungen = materializedViewsAnzahlParallelerVerbindungen;
 	}
 }
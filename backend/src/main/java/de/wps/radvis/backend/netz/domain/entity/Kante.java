@@ -33,6 +33,7 @@ import java.util.stream.Collectors;
 import org.hibernate.envers.Audited;
 import org.hibernate.envers.NotAudited;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.linearref.LengthIndexedLine;
@@ -567,12 +568,15 @@ public class Kante extends VersionierteEntity {
 			KoordinatenReferenzSystem.ETRS89_UTM32_N.getSrid(), geometry.getSRID());
 		require(isGeometryUpdateValid(newGeometry));
 
+		Envelope geaenderterBereich = new Envelope(this.geometry.getEnvelopeInternal());
+		geaenderterBereich.expandToInclude(newGeometry.getEnvelopeInternal());
+
 		this.aufDlmAbgebildeteGeometry = null;
 		this.geometry = newGeometry;
 		this.kantenLaengeInCm = (int) Math.round(newGeometry.getLength() * 100);
 
 		if (this.id != null) {
-			RadVisDomainEventPublisher.publish(new KanteGeometrieChangedEvent(this.id));
+			RadVisDomainEventPublisher.publish(new KanteGeometrieChangedEvent(this.id, geaenderterBereich));
 		}
 	}
 
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.netz.domain.entity;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.valid4j.Assertive.require;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import de.wps.radvis.backend.common.domain.LongIntHashMap;
+
+/**
+ * Kompakte Topologie einer Menge von Kanten, über die IDs der Knoten indiziert.
+ * <p>
+ * Die Knoten werden in der Reihenfolge ihres ersten Auftretens durchnummeriert, die Adjazenzen liegen im
+ * CSR-Format (compressed sparse row) in einem einzigen int-Array: Die Kanten des Knotens mit Index i stehen in
+ * {@code adjazenz[adjazenzBeginn[i]]} bis {@code adjazenz[adjazenzBeginn[i + 1] - 1]}, in der Reihenfolge der
+ * übergebenen Kanten. Eine Kante, die am selben Knoten beginnt und endet, ist dort zweimal eingetragen. Damit
+ * entspricht der Grad eines Knotens dem der bisher verwendeten {@code Map<Knoten, List<Kante>>}, ohne dass pro
+ * Zugriff Entities gehasht werden.
+ * <p>
+ * Adjazenzen können als entfernt markiert werden, um die Topologie beim Ablaufen von Strecken zu verbrauchen. Der
+ * Grad eines Knotens ({@link #getGrad(Knoten)}) bezieht sich immer auf alle übergebenen Kanten.
+ */
+public class KantenTopologie {
+
+	private final LongIntHashMap knotenIndexNachId;
+	private final Knoten[] knoten;
+	private final Kante[] kanten;
+	private final int[] adjazenzBeginn;
+	private final int[] adjazenz;
+	private final boolean[] adjazenzEntfernt;
+
+	private KantenTopologie(LongIntHashMap knotenIndexNachId, Knoten[] knoten, Kante[] kanten,
+		int[] adjazenzBeginn, int[] adjazenz) {
+		this.knotenIndexNachId = knotenIndexNachId;
+		this.knoten = knoten;
+		this.kanten = kanten;
+		this.adjazenzBeginn = adjazenzBeginn;
+		this.adjazenz = adjazenz;
+		this.adjazenzEntfernt = new boolean[adjazenz.length];
+	}
+
+	public static KantenTopologie aus(List<Kante> kanten) {
+		LongIntHashMap knotenIndexNachId = new LongIntHashMap(kanten.size());
+		List<Knoten> knoten = new ArrayList<>();
+		int[] vonIndizes = new int[kanten.size()];
+		int[] nachIndizes = new int[kanten.size()];
+
+		for (int i = 0; i < kanten.size(); i++) {
+			Kante kante = kanten.get(i);
+			vonIndizes[i] = indexiere(kante.getVonKnoten(), knotenIndexNachId, knoten);
+			nachIndizes[i] = indexiere(kante.getNachKnoten(), knotenIndexNachId, knoten);
+		}
+
+		int[] adjazenzBeginn = new int[knoten.size() + 1];
+		for (int i = 0; i < kanten.size(); i++) {
+			adjazenzBeginn[vonIndizes[i] + 1]++;
+			adjazenzBeginn[nachIndizes[i] + 1]++;
+		}
+		for (int i = 0; i < knoten.size(); i++) {
+			adjazenzBeginn[i + 1] += adjazenzBeginn[i];
+		}
+
+		int[] naechsterPlatz = new int[knoten.size()];
+		System.arraycopy(adjazenzBeginn, 0, naechsterPlatz, 0, knoten.size());
+		int[] adjazenz = new int[2 * kanten.size()];
+		for (int i = 0; i < kanten.size(); i++) {
+			adjazenz[naechsterPlatz[vonIndizes[i]]++] = i;
+			adjazenz[naechsterPlatz[nachIndizes[i]]++] = i;
+		}
+
+		return new KantenTopologie(knotenIndexNachId, knoten.toArray(new Knoten[0]), kanten.toArray(new Kante[0]),
+			adjazenzBeginn, adjazenz);
+	}
+
+	private static int indexiere(Knoten knoten, LongIntHashMap knotenIndexNachId, List<Knoten> alleKnoten) {
+		require(knoten.getId(), notNullValue());
+		int neuerIndex = alleKnoten.size();
+		int index = knotenIndexNachId.putIfAbsent(knoten.getId(), neuerIndex);
+		if (index == LongIntHashMap.KEIN_WERT) {
+			alleKnoten.add(knoten);
+			return neuerIndex;
+		}
+		return index;
+	}
+
+	public int getAnzahlKnoten() {
+		return knoten.length;
+	}
+
+	public int getAnzahlKanten() {
+		return kanten.length;
+	}
+
+	/**
+	 * @return der Index des Knotens oder {@link LongIntHashMap#KEIN_WERT}, wenn er an keiner Kante liegt
+	 */
+	public int getKnotenIndex(Knoten knoten) {
+		return knotenIndexNachId.get(knoten.getId());
+	}
+
+	public Knoten getKnoten(int knotenIndex) {
+		return knoten[knotenIndex];
+	}
+
+	public int getGrad(int knotenIndex) {
+		return adjazenzBeginn[knotenIndex + 1] - adjazenzBeginn[knotenIndex];
+	}
+
+	public int getGrad(Knoten knoten) {
+		int index = getKnotenIndex(knoten);
+		return index == LongIntHashMap.KEIN_WERT ? 0 : getGrad(index);
+	}
+
+	/**
+	 * Markiert alle Adjazenzen von Kanten, die die Bedingung nicht erfüllen, als entfernt.
+	 */
+	public void behalteNurKanten(Predicate<Kante> bedingung) {
+		boolean[] behalten = new boolean[kanten.length];
+		for (int i = 0; i < kanten.length; i++) {
+			behalten[i] = bedingung.test(kanten[i]);
+		}
+		for (int platz = 0; platz < adjazenz.length; platz++) {
+			if (!behalten[adjazenz[platz]]) {
+				adjazenzEntfernt[platz] = true;
+			}
+		}
+	}
+
+	/**
+	 * Markiert das erste noch vorhandene Vorkommen der Kante am Knoten als entfernt.
+	 */
+	public void entferneAdjazenz(Knoten knoten, Kante kante) {
+		int index = getKnotenIndex(knoten);
+		if (index == LongIntHashMap.KEIN_WERT) {
+			return;
+		}
+		for (int platz = adjazenzBeginn[index]; platz < adjazenzBeginn[index + 1]; platz++) {
+			Kante kandidat = kanten[adjazenz[platz]];
+			if (!adjazenzEntfernt[platz] && (kandidat == kante || kandidat.equals(kante))) {
+				adjazenzEntfernt[platz] = true;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * @return die erste noch nicht entfernte Kante am Knoten
+	 */
+	public Optional<Kante> getErsteVerbleibendeKante(Knoten knoten) {
+		int index = getKnotenIndex(knoten);
+		if (index == LongIntHashMap.KEIN_WERT) {
+			return Optional.empty();
+		}
+		for (int platz = adjazenzBeginn[index]; platz < adjazenzBeginn[index + 1]; platz++) {
+			if (!adjazenzEntfernt[platz]) {
+				return Optional.of(kanten[adjazenz[platz]]);
+			}
+		}
+		return Optional.empty();
+	}
+
+	public List<Kante> getAdjazenteKanten(Knoten knoten) {
+		int index = getKnotenIndex(knoten);
+		if (index == LongIntHashMap.KEIN_WERT) {
+			return List.of();
+		}
+		List<Kante> result = new ArrayList<>(getGrad(index));
+		for (int platz = adjazenzBeginn[index]; platz < adjazenzBeginn[index + 1]; platz++) {
+			result.add(kanten[adjazenz[platz]]);
+		}
+		return result;
+	}
+}
@@ -26,6 +26,7 @@ import java.util.Optional;
 import org.apache.commons.lang3.ArrayUtils;
 import org.locationtech.jts.algorithm.Angle;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.MultiLineString;
@@ -51,6 +52,24 @@ public class LineStrings {
 			&& ueberschneidungLineString.getLength() >= 0.5 * KnotenIndex.SNAPPING_DISTANCE;
 	}
 
+	/**
+	 * Bereich, in dem ein LineString liegen muss, um sich mit aufLS überschneiden zu können. Geeignet als Query für
+	 * einen räumlichen Index vor {@link #calculateUeberschneidungslinestring(LineString, LineString)}.
+	 */
+	public static Envelope getUeberschneidungsSuchbereich(LineString aufLS) {
+		Envelope suchbereich = new Envelope(aufLS.getEnvelopeInternal());
+		suchbereich.expandBy(UNGENAUIGKEIT);
+		return suchbereich;
+	}
+
+	/**
+	 * Günstige Vorprüfung für {@link #calculateUeberschneidungslinestring(LineString, LineString)}: Liegt vonLS
+	 * weiter als die Projektionsungenauigkeit von aufLS entfernt, ist die Überschneidung in jedem Fall leer.
+	 */
+	public static boolean kannSichUeberschneiden(LineString aufLS, LineString vonLS) {
+		return aufLS.isWithinDistance(vonLS, UNGENAUIGKEIT);
+	}
+
 	/**
 	 * @param vonLS
 	 *     simple LS
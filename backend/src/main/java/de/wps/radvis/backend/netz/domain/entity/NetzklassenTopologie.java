@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.netz.domain.entity;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.valid4j.Assertive.require;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+import de.wps.radvis.backend.common.domain.LongIntHashMap;
+import de.wps.radvis.backend.netz.domain.valueObject.Netzklasse;
+
+/**
+ * Schlanke Projektion aller klassifizierten Kanten des Grundnetzes auf ihre Knoten-IDs und Netzklassen.
+ * <p>
+ * Pro Kante werden nur die IDs von Von- und Nach-Knoten sowie die Netzklassen als Bitmaske über die Ordinalzahlen
+ * abgelegt. Daraus lassen sich die Knotengrade für beliebige Mengen von Netzklassen bestimmen, ohne Kanten- oder
+ * Knoten-Entities zu laden. Eine Kante, die am selben Knoten beginnt und endet, zählt dort wie in der
+ * {@link KantenTopologie} doppelt.
+ */
+public class NetzklassenTopologie {
+
+	private long[] vonKnotenIds;
+	private long[] nachKnotenIds;
+	private int[] netzklassenMasken;
+	private int anzahlKanten;
+
+	public NetzklassenTopologie(int erwarteteAnzahlKanten) {
+		int kapazitaet = Math.max(16, erwarteteAnzahlKanten);
+		this.vonKnotenIds = new long[kapazitaet];
+		this.nachKnotenIds = new long[kapazitaet];
+		this.netzklassenMasken = new int[kapazitaet];
+	}
+
+	public void fuegeKanteHinzu(long vonKnotenId, long nachKnotenId, Collection<Netzklasse> netzklassen) {
+		require(netzklassen, notNullValue());
+		if (anzahlKanten == vonKnotenIds.length) {
+			int kapazitaet = 2 * anzahlKanten;
+			vonKnotenIds = Arrays.copyOf(vonKnotenIds, kapazitaet);
+			nachKnotenIds = Arrays.copyOf(nachKnotenIds, kapazitaet);
+			netzklassenMasken = Arrays.copyOf(netzklassenMasken, kapazitaet);
+		}
+		vonKnotenIds[anzahlKanten] = vonKnotenId;
+		nachKnotenIds[anzahlKanten] = nachKnotenId;
+		netzklassenMasken[anzahlKanten] = maske(netzklassen);
+		anzahlKanten++;
+	}
+
+	public int getAnzahlKanten() {
+		return anzahlKanten;
+	}
+
+	/**
+	 * Bestimmt die Grade der Knoten im Teilnetz aus allen Kanten, die mindestens eine der Netzklassen haben.
+	 *
+	 * @return die Grade aller Knoten des Teilnetzes, deren Grad höchstens {@code maximalerGrad} ist, aufsteigend nach
+	 *     Knoten-ID sortiert
+	 */
+	public Map<Long, Integer> getKnotenGrade(Collection<Netzklasse> netzklassen, int maximalerGrad) {
+		int maske = maske(netzklassen);
+		GradZaehler gradZaehler = new GradZaehler();
+		for (int kante = 0; kante < anzahlKanten; kante++) {
+			if ((netzklassenMasken[kante] & maske) != 0) {
+				gradZaehler.zaehle(vonKnotenIds[kante]);
+				gradZaehler.zaehle(nachKnotenIds[kante]);
+			}
+		}
+
+		Map<Long, Integer> result = new TreeMap<>();
+		for (int index = 0; index < gradZaehler.anzahlKnoten; index++) {
+			if (gradZaehler.grade[index] <= maximalerGrad) {
+				result.put(gradZaehler.knotenIds[index], gradZaehler.grade[index]);
+			}
+		}
+		return result;
+	}
+
+	private static int maske(Collection<Netzklasse> netzklassen) {
+		int maske = 0;
+		for (Netzklasse netzklasse : netzklassen) {
+			maske |= 1 << netzklasse.ordinal();
+		}
+		return maske;
+	}
+
+	private static class GradZaehler {
+		private final LongIntHashMap knotenIndexNachId = new LongIntHashMap();
+		private long[] knotenIds = new long[16];
+		private int[] grade = new int[16];
+		private int anzahlKnoten = 0;
+
+		private void zaehle(long knotenId) {
+			int index = knotenIndexNachId.putIfAbsent(knotenId, anzahlKnoten);
+			if (index == LongIntHashMap.KEIN_WERT) {
+				if (anzahlKnoten == knotenIds.length) {
+					knotenIds = Arrays.copyOf(knotenIds, 2 * anzahlKnoten);
+					grade = Arrays.copyOf(grade, 2 * anzahlKnoten);
+				}
+				index = anzahlKnoten++;
+				knotenIds[index] = knotenId;
+			}
+			grade[index]++;
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.netz.domain.entity;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.valid4j.Assertive.require;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import de.wps.radvis.backend.common.domain.LongIntHashMap;
+
+/**
+ * Ordnet Knoten die an ihnen liegenden Strecken zu, über die IDs der Knoten indiziert.
+ * <p>
+ * Die Listen pro Knoten dürfen verändert werden, z.B. wenn Strecken zusammengeführt werden. Die Knoten werden in der
+ * Reihenfolge ihres ersten Auftretens durchlaufen.
+ */
+public class StreckenTopologie<StreckenTyp extends StreckeVonKanten> {
+
+	private final LongIntHashMap knotenIndexNachId;
+	private final List<Knoten> knoten;
+	private final List<List<StreckenTyp>> streckenAnKnoten;
+
+	public StreckenTopologie(int erwarteteAnzahlKnoten) {
+		this.knotenIndexNachId = new LongIntHashMap(erwarteteAnzahlKnoten);
+		this.knoten = new ArrayList<>(erwarteteAnzahlKnoten);
+		this.streckenAnKnoten = new ArrayList<>(erwarteteAnzahlKnoten);
+	}
+
+	public void fuegeHinzu(Knoten knoten, StreckenTyp strecke) {
+		require(knoten.getId(), notNullValue());
+		int index = knotenIndexNachId.putIfAbsent(knoten.getId(), this.knoten.size());
+		if (index == LongIntHashMap.KEIN_WERT) {
+			this.knoten.add(knoten);
+			List<StreckenTyp> strecken = new ArrayList<>(2);
+			strecken.add(strecke);
+			streckenAnKnoten.add(strecken);
+		} else {
+			streckenAnKnoten.get(index).add(strecke);
+		}
+	}
+
+	/**
+	 * @return die veränderbare Liste der Strecken am Knoten oder null, wenn keine Strecke an ihm liegt
+	 */
+	public List<StreckenTyp> get(Knoten knoten) {
+		int index = knotenIndexNachId.get(knoten.getId());
+		return index == LongIntHashMap.KEIN_WERT ? null : streckenAnKnoten.get(index);
+	}
+
+	public void forEach(BiConsumer<Knoten, List<StreckenTyp>> aktion) {
+		for (int i = 0; i < knoten.size(); i++) {
+			aktion.accept(knoten.get(i), streckenAnKnoten.get(i));
+		}
+	}
+
+	/**
+	 * @return alle Strecken, die noch an einem Knoten liegen, jeweils einmal
+	 */
+	public List<StreckenTyp> getAlleStrecken() {
+		return streckenAnKnoten.stream().flatMap(List::stream).distinct().collect(Collectors.toList());
+	}
+}
@@ -14,6 +14,8 @@
 
 package de.wps.radvis.backend.netz.domain.event;
 
+import org.locationtech.jts.geom.Envelope;
+
 import de.wps.radvis.backend.common.domain.RadVisChangedDomainEvent;
 import lombok.Getter;
 
@@ -21,7 +23,14 @@ public class KanteGeometrieChangedEvent implements RadVisChangedDomainEvent {
 	@Getter
 	private final long kanteId;
 
-	public KanteGeometrieChangedEvent(long kanteId) {
+	/**
+	 * Umfasst sowohl die alte als auch die neue Geometrie der Kante.
+	 */
+	@Getter
+	private final Envelope geaenderterBereich;
+
+	public KanteGeometrieChangedEvent(long kanteId, Envelope geaenderterBereich) {
 		this.kanteId = kanteId;
+		this.geaenderterBereich = geaenderterBereich;
 	}
 }
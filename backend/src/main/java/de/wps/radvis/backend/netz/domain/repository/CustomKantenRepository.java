@@ -32,8 +32,10 @@ import de.wps.radvis.backend.netz.domain.entity.Kante;
 import de.wps.radvis.backend.netz.domain.entity.KanteGeometryView;
 import de.wps.radvis.backend.netz.domain.entity.KanteOsmWayIdsInsert;
 import de.wps.radvis.backend.netz.domain.entity.NahegelegeneneKantenDbView;
+import de.wps.radvis.backend.netz.domain.entity.NetzklassenTopologie;
 import de.wps.radvis.backend.netz.domain.valueObject.KanteElevationUpdate;
 import de.wps.radvis.backend.netz.domain.valueObject.Laenge;
+import de.wps.radvis.backend.netz.domain.valueObject.NetzMaterializedViewsAktualisierung;
 import de.wps.radvis.backend.netz.domain.valueObject.Netzklasse;
 import de.wps.radvis.backend.netz.domain.valueObject.NetzklasseFilter;
 import de.wps.radvis.backend.organisation.domain.entity.Verwaltungseinheit;
@@ -58,6 +60,14 @@ public interface CustomKantenRepository {
 	List<Kante> getKantenForNetzklassenEagerFetchKnoten(
 		Set<Netzklasse> netzklassen);
 
+	/**
+	 * Lädt für alle klassifizierten Kanten des Grundnetzes nur die IDs von Von- und Nach-Knoten sowie die
+	 * Netzklassen, ohne Entities zu erzeugen.
+	 */
+	NetzklassenTopologie getNetzklassenTopologie();
+
+	List<Kante> getKantenInBereichNachQuellenEagerFetchKnoten(Envelope bereich, Collection<QuellSystem> quellen);
+
 	Stream<Kante> getKantenInBereichNachQuellenEagerFetchFahrtrichtungEagerFetchFuehrungsformAttributeLinks(
 		Envelope bereich, Set<QuellSystem> quellen);
 
@@ -88,8 +98,23 @@ public interface CustomKantenRepository {
 
 	Stream<Kante> getEinseitigBefahrbareKanten();
 
+	/**
+	 * Baut alle Netz-Materialized-Views und inkrementell gepflegten Tabellen in der laufenden Transaktion vollständig
+	 * neu auf. Dient auch der Wiederherstellung, falls die inkrementelle Pflege z.B. durch native Updates an den
+	 * Versionen vorbei nicht mehr aktuell ist.
+	 */
 	void refreshNetzMaterializedViews();
 
+	/**
+	 * Aktualisiert die Netz-Materialized-Views entlang ihrer Abhängigkeiten mit bis zu {@code anzahlVerbindungen}
+	 * gleichzeitigen Datenbankverbindungen. Die Refreshs laufen außerhalb einer ggf. laufenden Transaktion und sehen
+	 * daher nur bereits committete Daten. Inkrementell gepflegte Tabellen werden nur für Kanten neu berechnet, deren
+	 * Versionsstand sich geändert hat.
+	 *
+	 * @return Dauer des Refreshs pro View und Bereich der neu berechneten Kanten
+	 */
+	NetzMaterializedViewsAktualisierung refreshNetzMaterializedViewsNebenlaeufig(int anzahlVerbindungen);
+
 	void updateKanteElevation(Slice<KanteElevationUpdate> kanteElevationInserts);
 
 	/**
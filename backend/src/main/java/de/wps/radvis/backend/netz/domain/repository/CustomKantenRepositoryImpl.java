@@ -15,13 +15,23 @@
 package de.wps.radvis.backend.netz.domain.repository;
 
 import java.math.BigDecimal;
+import java.sql.Array;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -38,7 +48,9 @@ import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.io.WKBWriter;
 import org.locationtech.jts.operation.buffer.BufferOp;
 import org.locationtech.jts.operation.buffer.BufferParameters;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import com.google.common.collect.Lists;
 
@@ -52,10 +64,13 @@ import de.wps.radvis.backend.netz.domain.entity.Kante;
 import de.wps.radvis.backend.netz.domain.entity.KanteGeometryView;
 import de.wps.radvis.backend.netz.domain.entity.KanteOsmWayIdsInsert;
 import de.wps.radvis.backend.netz.domain.entity.NahegelegeneneKantenDbView;
+import de.wps.radvis.backend.netz.domain.entity.NetzklassenTopologie;
 import de.wps.radvis.backend.netz.domain.valueObject.KanteElevationUpdate;
 import de.wps.radvis.backend.netz.domain.valueObject.Laenge;
 import de.wps.radvis.backend.netz.domain.valueObject.LinearReferenzierteOsmWayId;
 import de.wps.radvis.backend.netz.domain.valueObject.Netzklasse;
+import de.wps.radvis.backend.netz.domain.valueObject.NetzMaterializedView;
+import de.wps.radvis.backend.netz.domain.valueObject.NetzMaterializedViewsAktualisierung;
 import de.wps.radvis.backend.netz.domain.valueObject.NetzklasseFilter;
 import de.wps.radvis.backend.organisation.domain.entity.Verwaltungseinheit;
 import jakarta.persistence.EntityManager;
@@ -72,6 +87,14 @@ public class CustomKantenRepositoryImpl implements CustomKantenRepository {
 	@PersistenceContext
 	private EntityManager entityManager;
 
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private static final String VERSIONSSTAND_TABELLE = "kante_abschnitte_versionsstand";
+	private static final String VERSIONSSTAND_NEU_TABELLE = "kante_abschnitte_versionsstand_neu";
+	private static final String VERSIONSSTAND_VIEW = "kante_abschnitte_versionsstand_view";
+	private static final int INKREMENTELLE_AKTUALISIERUNG_BATCH_GROESSE = 10_000;
+
 	private final FeatureToggleProperties featureToggleProperties;
 
 	public CustomKantenRepositoryImpl(FeatureToggleProperties featureToggleProperties) {
@@ -124,6 +147,47 @@ public class CustomKantenRepositoryImpl implements CustomKantenRepository {
 			.getResultList();
 	}
 
+	@Override
+	public NetzklassenTopologie getNetzklassenTopologie() {
+		NetzklassenTopologie topologie = new NetzklassenTopologie(1 << 16);
+		jdbcTemplate.query(
+			"SELECT kante.von_knoten_id, kante.nach_knoten_id, array_agg(kagn.netzklasse) AS netzklassen"
+				+ " FROM kante"
+				+ " JOIN kanten_attribut_gruppe_netzklassen kagn"
+				+ "   ON kagn.kanten_attribut_gruppe_id = kante.kanten_attributgruppe_id"
+				+ " WHERE kante.quelle IN ('" + QuellSystem.DLM + "', '" + QuellSystem.RadVis + "')"
+				+ " GROUP BY kante.id",
+			resultSet -> {
+				List<Netzklasse> netzklassen = new ArrayList<>();
+				for (String netzklasse : (String[]) resultSet.getArray("netzklassen").getArray()) {
+					netzklassen.add(Netzklasse.valueOf(netzklasse));
+				}
+				topologie.fuegeKanteHinzu(resultSet.getLong("von_knoten_id"), resultSet.getLong("nach_knoten_id"),
+					netzklassen);
+			});
+		log.info("Netzklassen-Topologie mit {} Kanten geladen", topologie.getAnzahlKanten());
+		return topologie;
+	}
+
+	@Override
+	public List<Kante> getKantenInBereichNachQuellenEagerFetchKnoten(Envelope bereich,
+		Collection<QuellSystem> quellen) {
+		Polygon bereichAlsPolygon = EnvelopeAdapter
+			.toPolygon(bereich, KoordinatenReferenzSystem.ETRS89_UTM32_N.getSrid());
+
+		String hqlString = "SELECT DISTINCT kante FROM Kante kante"
+			+ CommonQueryLibrary.eagerFetchVonKnoten()
+			+ CommonQueryLibrary.eagerFetchNachKnoten()
+			+ " WHERE "
+			+ CommonQueryLibrary.whereClauseFuerBereichKante()
+			+ " AND kante.quelle IN :quellen";
+
+		return entityManager.createQuery(hqlString, Kante.class)
+			.setParameter("bereich", bereichAlsPolygon)
+			.setParameter("quellen", quellen)
+			.getResultList();
+	}
+
 	@Override
 	public Stream<Kante> getKantenInBereichNachQuellenEagerFetchFahrtrichtungEagerFetchFuehrungsformAttributeLinks(
 		Envelope bereich,
@@ -512,29 +576,162 @@ public class CustomKantenRepositoryImpl implements CustomKantenRepository {
 
 	@Override
 	public void refreshNetzMaterializedViews() {
-		// Reihenfolge beachten, da Views tlw. aufeinander aufbauen, was gerade bei materialized Views relevant ist.
-		List<String> materializedViews = List.of(
-			"netzklassen_materialized_view",
-			"standards_materialized_view",
-			"fuehrungsform_attribute_maxanteil_materialized_view",
-			"geschwindigkeit_attribute_maxanteil_materialized_view",
-			"zustaendigkeit_attribute_maxanteil_materialized_view",
-			"geoserver_radvisnetz_kante_materialized_view",
-			"kante_lr_materialized_view",
-			"kante_lr_interpolated_materialized_view",
-			"geoserver_radvisnetz_kante_abschnitte_materialized_view",
-			"geoserver_radvisnetz_kante_abschnitte_balm_materialized_view",
-			"geoserver_balm_knoten_view",
-			"geoserver_balm_kanten_view",
-			"geoserver_balm_fahrradrouten_view",
-			"geoserver_balm_wegweisende_beschilderung_view");
-		materializedViews.forEach(materializedView -> {
-			log.info("Refreshing Materialized View {}", materializedView);
-			entityManager.createNativeQuery("REFRESH MATERIALIZED VIEW " + materializedView).executeUpdate();
-		});
+		// Vollständiger Neuaufbau, auch der inkrementell gepflegten Tabellen. Der Versionsstand wird zuerst gesetzt,
+		// damit eine zwischenzeitlich committete Änderung beim nächsten inkrementellen Lauf erneut erkannt wird.
+		entityManager.createNativeQuery("TRUNCATE " + VERSIONSSTAND_TABELLE).executeUpdate();
+		entityManager.createNativeQuery(
+			"INSERT INTO " + VERSIONSSTAND_TABELLE + " SELECT * FROM " + VERSIONSSTAND_VIEW).executeUpdate();
+
+		// Die Reihenfolge der Enum-Konstanten berücksichtigt bereits die Abhängigkeiten der Views untereinander.
+		for (NetzMaterializedView materializedView : NetzMaterializedView.values()) {
+			log.info("Refreshing Materialized View {}", materializedView.getViewName());
+			if (materializedView.isInkrementell()) {
+				entityManager.createNativeQuery("TRUNCATE " + materializedView.getViewName()).executeUpdate();
+				entityManager.createNativeQuery("INSERT INTO " + materializedView.getViewName()
+					+ " SELECT * FROM " + materializedView.getQuellView().orElseThrow()).executeUpdate();
+			} else {
+				entityManager.createNativeQuery("REFRESH MATERIALIZED VIEW " + materializedView.getViewName())
+					.executeUpdate();
+			}
+		}
 		log.info("Done!");
 	}
 
+	@Override
+	public NetzMaterializedViewsAktualisierung refreshNetzMaterializedViewsNebenlaeufig(int anzahlVerbindungen) {
+		require(anzahlVerbindungen >= 1, "Anzahl Verbindungen muss größer 0 sein");
+
+		List<Long> geaenderteKantenIds = ermittleGeaenderteKanten();
+		log.info("Inkrementell gepflegte Tabellen werden für {} geänderte Kanten aktualisiert",
+			geaenderteKantenIds.size());
+		Envelope geaenderterBereich = ermittleBereich(geaenderteKantenIds);
+
+		Map<NetzMaterializedView, Duration> dauerProView = new ConcurrentHashMap<>();
+		ExecutorService executor = Executors.newFixedThreadPool(anzahlVerbindungen, workerThreadFactory());
+		try {
+			// Jede View startet, sobald alle Views fertig sind, aus denen sie liest. Unabhängige Zweige laufen so
+			// gleichzeitig auf eigenen Verbindungen, da die Worker-Threads an keiner Transaktion teilnehmen.
+			Map<NetzMaterializedView, CompletableFuture<Void>> refreshs = new EnumMap<>(NetzMaterializedView.class);
+			for (NetzMaterializedView materializedView : NetzMaterializedView.values()) {
+				CompletableFuture<?>[] abhaengigkeiten = materializedView.getAbhaengigkeiten().stream()
+					.map(refreshs::get)
+					.toArray(CompletableFuture[]::new);
+				refreshs.put(materializedView, CompletableFuture.allOf(abhaengigkeiten).thenRunAsync(
+					() -> dauerProView.put(materializedView, materializedView.isInkrementell()
+						? aktualisiereInkrementell(materializedView, geaenderteKantenIds)
+						: refreshMaterializedView(materializedView)),
+					executor));
+			}
+			CompletableFuture.allOf(refreshs.values().toArray(CompletableFuture[]::new)).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw e;
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// Erst nachdem alle Tabellen aktualisiert sind, gilt der zu Beginn ermittelte Versionsstand als übernommen.
+		// Schlägt vorher etwas fehl, werden dieselben Kanten beim nächsten Lauf erneut berechnet.
+		jdbcTemplate.update("DELETE FROM " + VERSIONSSTAND_TABELLE + " stand USING " + VERSIONSSTAND_NEU_TABELLE
+			+ " neu WHERE stand.kante_id = neu.kante_id AND neu.versionsstand IS NULL");
+		jdbcTemplate.update("INSERT INTO " + VERSIONSSTAND_TABELLE + " SELECT * FROM " + VERSIONSSTAND_NEU_TABELLE
+			+ " WHERE versionsstand IS NOT NULL"
+			+ " ON CONFLICT (kante_id) DO UPDATE SET versionsstand = EXCLUDED.versionsstand");
+		log.info("Done!");
+		return new NetzMaterializedViewsAktualisierung(dauerProView, geaenderterBereich);
+	}
+
+	/**
+	 * Hält die Kanten fest, deren Versionsstand sich seit der letzten Aktualisierung geändert hat oder die gelöscht
+	 * wurden. Der Versionsstand wird dabei mit dem Stand zum Zeitpunkt dieser Abfrage gemerkt, so dass eine
+	 * Änderung während der Aktualisierung beim nächsten Lauf erneut erkannt wird.
+	 */
+	private List<Long> ermittleGeaenderteKanten() {
+		jdbcTemplate.execute("TRUNCATE " + VERSIONSSTAND_NEU_TABELLE);
+		jdbcTemplate.update(
+			"INSERT INTO " + VERSIONSSTAND_NEU_TABELLE + " SELECT * FROM kante_abschnitte_aenderung_view");
+		return jdbcTemplate.queryForList(
+			"SELECT kante_id FROM " + VERSIONSSTAND_NEU_TABELLE + " ORDER BY kante_id", Long.class);
+	}
+
+	/**
+	 * Bestimmt den Bereich, den die Kanten vor und nach der Aktualisierung einnehmen. Die bisherige Lage stammt aus der
+	 * noch nicht aktualisierten Abschnitte-Tabelle, so dass auch verschobene und gelöschte Kanten erfasst werden.
+	 */
+	private Envelope ermittleBereich(List<Long> kantenIds) {
+		if (kantenIds.isEmpty()) {
+			return new Envelope();
+		}
+		return jdbcTemplate.query(
+			"SELECT ST_XMin(bereich), ST_XMax(bereich), ST_YMin(bereich), ST_YMax(bereich) FROM ("
+				+ "SELECT ST_Extent(geometry) AS bereich FROM ("
+				+ "SELECT geometry FROM kante WHERE id = ANY(?)"
+				+ " UNION ALL SELECT geometry FROM " + NetzMaterializedView.RADVISNETZ_KANTE_ABSCHNITTE.getViewName()
+				+ " WHERE kante_id = ANY(?)) geometrien) ausdehnung",
+			preparedStatement -> {
+				Array ids = preparedStatement.getConnection().createArrayOf("bigint", kantenIds.toArray());
+				preparedStatement.setArray(1, ids);
+				preparedStatement.setArray(2, ids);
+			},
+			resultSet -> {
+				resultSet.next();
+				double minX = resultSet.getDouble(1);
+				if (resultSet.wasNull()) {
+					return new Envelope();
+				}
+				return new Envelope(minX, resultSet.getDouble(2), resultSet.getDouble(3), resultSet.getDouble(4));
+			});
+	}
+
+	private Duration aktualisiereInkrementell(NetzMaterializedView tabelle, List<Long> kantenIds) {
+		log.info("Aktualisiere Tabelle {} für {} Kanten", tabelle.getViewName(), kantenIds.size());
+		Instant start = Instant.now();
+		for (List<Long> batch : Lists.partition(kantenIds, INKREMENTELLE_AKTUALISIERUNG_BATCH_GROESSE)) {
+			// Jeder Aufruf der Prozedur ist atomar, lesende Zugriffe sehen also pro Batch den alten oder neuen Stand.
+			jdbcTemplate.update("CALL aktualisiere_kanten_tabelle(?, ?, ?, ?)", preparedStatement -> {
+				preparedStatement.setString(1, tabelle.getViewName());
+				preparedStatement.setString(2, tabelle.getQuellView().orElseThrow());
+				preparedStatement.setString(3, tabelle.getKanteIdSpalte().orElseThrow());
+				preparedStatement.setArray(4,
+					preparedStatement.getConnection().createArrayOf("bigint", batch.toArray()));
+			});
+		}
+		Duration dauer = Duration.between(start, Instant.now());
+		log.info("Tabelle {} in {} Sekunden aktualisiert", tabelle.getViewName(), dauer.toSeconds());
+		return dauer;
+	}
+
+	private Duration refreshMaterializedView(NetzMaterializedView materializedView) {
+		// CONCURRENTLY blockiert lesende Zugriffe (z.B. vom Geoserver) nicht, setzt aber einen eindeutigen Index
+		// ohne Ausdrücke und Bedingung sowie eine bereits befüllte View voraus.
+		boolean concurrently = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+			"SELECT EXISTS (SELECT 1 FROM pg_index i JOIN pg_class c ON c.oid = i.indrelid"
+				+ " WHERE c.relname = ? AND c.relispopulated AND i.indisunique"
+				+ " AND i.indexprs IS NULL AND i.indpred IS NULL)",
+			Boolean.class, materializedView.getViewName()));
+
+		log.info("Refreshing Materialized View {}{}", materializedView.getViewName(),
+			concurrently ? " (concurrently)" : "");
+		Instant start = Instant.now();
+		jdbcTemplate.execute(
+			"REFRESH MATERIALIZED VIEW " + (concurrently ? "CONCURRENTLY " : "") + materializedView.getViewName());
+		Duration dauer = Duration.between(start, Instant.now());
+		log.info("Materialized View {} in {} Sekunden aktualisiert", materializedView.getViewName(),
+			dauer.toSeconds());
+		return dauer;
+	}
+
+	private static ThreadFactory workerThreadFactory() {
+		AtomicInteger threadNummer = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "materialized-views-worker-" + threadNummer.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
 	@Override
 	public void updateKanteElevation(Slice<KanteElevationUpdate> kanteElevationInserts) {
 		if (kanteElevationInserts.isEmpty()) {
@@ -14,10 +14,13 @@
 
 package de.wps.radvis.backend.netz.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Point;
 
 import de.wps.radvis.backend.common.domain.valueObject.QuellSystem;
 import de.wps.radvis.backend.netz.domain.entity.Knoten;
@@ -36,4 +39,6 @@ public interface CustomKnotenRepository {
 	List<Knoten> findVerwaisteDLMKnoten();
 
 	List<Knoten> getKnotenInBereichNachQuellen(Envelope envelope, Set<QuellSystem> dlm);
+
+	Map<Long, Point> getPunkteFuerKnotenIds(Collection<Long> knotenIds);
 }
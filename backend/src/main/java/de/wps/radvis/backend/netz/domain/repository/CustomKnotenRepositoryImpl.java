@@ -17,14 +17,20 @@ package de.wps.radvis.backend.netz.domain.repository;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.valid4j.Assertive.require;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.spatial.jts.EnvelopeAdapter;
 import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.google.common.collect.Lists;
+
 import de.wps.radvis.backend.common.domain.FeatureToggleProperties;
 import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
 import de.wps.radvis.backend.common.domain.valueObject.QuellSystem;
@@ -160,4 +166,18 @@ public class CustomKnotenRepositoryImpl implements CustomKnotenRepository {
 			.setParameter("quellen", quellsysteme)
 			.getResultList();
 	}
+
+	@Override
+	public Map<Long, Point> getPunkteFuerKnotenIds(Collection<Long> knotenIds) {
+		Map<Long, Point> result = new HashMap<>();
+		// Die IDs werden einzeln gebunden, daher in Portionen unterhalb des Parameter-Limits von Postgres
+		for (List<Long> portion : Lists.partition(List.copyOf(knotenIds), 10_000)) {
+			entityManager.createQuery("SELECT knoten.id, knoten.point FROM Knoten knoten WHERE knoten.id IN :ids",
+					Object[].class)
+				.setParameter("ids", portion)
+				.getResultList()
+				.forEach(zeile -> result.put((Long) zeile[0], (Point) zeile[1]));
+		}
+		return result;
+	}
 }
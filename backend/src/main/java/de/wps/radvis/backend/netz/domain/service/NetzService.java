@@ -18,6 +18,7 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.valid4j.Assertive.ensure;
 import static org.valid4j.Assertive.require;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -78,6 +79,7 @@ import de.wps.radvis.backend.netz.domain.entity.ZustaendigkeitAttributGruppe;
 import de.wps.radvis.backend.netz.domain.entity.ZustaendigkeitAttribute;
 import de.wps.radvis.backend.netz.domain.event.KantenDeletedEvent;
 import de.wps.radvis.backend.netz.domain.event.KnotenDeletedEvent;
+import de.wps.radvis.backend.netz.domain.event.NetzMaterializedViewsAktualisiertEvent;
 import de.wps.radvis.backend.netz.domain.event.RadNetzZugehoerigkeitEntferntEvent;
 import de.wps.radvis.backend.netz.domain.repository.FahrtrichtungAttributGruppeRepository;
 import de.wps.radvis.backend.netz.domain.repository.FuehrungsformAttributGruppeRepository;
@@ -95,6 +97,8 @@ import de.wps.radvis.backend.netz.domain.valueObject.KnotenOrtslage;
 import de.wps.radvis.backend.netz.domain.valueObject.Kommentar;
 import de.wps.radvis.backend.netz.domain.valueObject.Laenge;
 import de.wps.radvis.backend.netz.domain.valueObject.NetzAenderungAusloeser;
+import de.wps.radvis.backend.netz.domain.valueObject.NetzMaterializedView;
+import de.wps.radvis.backend.netz.domain.valueObject.NetzMaterializedViewsAktualisierung;
 import de.wps.radvis.backend.netz.domain.valueObject.NetzklasseFilter;
 import de.wps.radvis.backend.netz.domain.valueObject.QuerungshilfeDetails;
 import de.wps.radvis.backend.netz.domain.valueObject.Radverkehrsfuehrung;
@@ -212,6 +216,10 @@ public class NetzService implements KanteResolver, KnotenResolver {
 		return kantenRepository.getKantenInBereichNachQuellen(bereich, Set.of(quelle));
 	}
 
+	public List<Kante> getKantenInBereichNachQuelleEagerFetchKnoten(Envelope bereich, QuellSystem quelle) {
+		return kantenRepository.getKantenInBereichNachQuellenEagerFetchKnoten(bereich, Set.of(quelle));
+	}
+
 	public List<Knoten> getKnotenInBereichNachQuelle(Envelope bereich, QuellSystem quellSystem) {
 		return knotenRepository.getKnotenInBereichFuerQuelle(bereich, quellSystem);
 	}
@@ -750,6 +758,17 @@ public class NetzService implements KanteResolver, KnotenResolver {
 		log.info("Refreshing RadVisNetz-Materialized-Views");
 		kantenRepository.refreshNetzMaterializedViews();
 		log.info("Finished refreshing RadVisNetz-Materialized-Views");
+		RadVisDomainEventPublisher.publish(NetzMaterializedViewsAktualisiertEvent.vollstaendig());
+	}
+
+	public Map<NetzMaterializedView, Duration> refreshNetzMaterializedViewsNebenlaeufig(int anzahlVerbindungen) {
+		log.info("Refreshing RadVisNetz-Materialized-Views mit {} Verbindungen", anzahlVerbindungen);
+		NetzMaterializedViewsAktualisierung aktualisierung = kantenRepository.refreshNetzMaterializedViewsNebenlaeufig(
+			anzahlVerbindungen);
+		log.info("Finished refreshing RadVisNetz-Materialized-Views");
+		RadVisDomainEventPublisher.publish(
+			NetzMaterializedViewsAktualisiertEvent.inkrementell(aktualisierung.geaenderterBereich()));
+		return aktualisierung.dauerProView();
 	}
 
 	public void aktualisiereKnoten(long knotenId, long knotenVersion, Long gemeinde, Kommentar kommentar,
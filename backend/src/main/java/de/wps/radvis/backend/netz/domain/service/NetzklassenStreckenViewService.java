@@ -14,18 +14,16 @@
 
 package de.wps.radvis.backend.netz.domain.service;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import de.wps.radvis.backend.netz.domain.entity.Kante;
-import de.wps.radvis.backend.netz.domain.entity.Knoten;
+import de.wps.radvis.backend.netz.domain.entity.KantenTopologie;
 import de.wps.radvis.backend.netz.domain.entity.NetzklassenStreckeVonKanten;
 import de.wps.radvis.backend.netz.domain.entity.StreckenEinerPartition;
+import de.wps.radvis.backend.netz.domain.entity.StreckenTopologie;
 import lombok.NonNull;
 
 public class NetzklassenStreckenViewService extends StreckenViewAbstractService<NetzklassenStreckeVonKanten> {
@@ -33,27 +31,11 @@ public class NetzklassenStreckenViewService extends StreckenViewAbstractService<
 	@Override
 	public StreckenEinerPartition<NetzklassenStreckeVonKanten> mergeUnvollstaendigeStrecken(
 		List<NetzklassenStreckeVonKanten> unvollstaendig) {
-		Map<Knoten, List<NetzklassenStreckeVonKanten>> topologischeMap = new HashMap<>();
+		StreckenTopologie<NetzklassenStreckeVonKanten> topologischeMap = erstelleTopologieDerOffenenEnden(
+			unvollstaendig);
 
 		StreckenEinerPartition<NetzklassenStreckeVonKanten> result = new StreckenEinerPartition<>();
 
-		unvollstaendig.forEach(strecke -> {
-			if (!strecke.isVonKnotenEndpunkt()) {
-				topologischeMap
-					.merge(strecke.getVonKnoten(), new ArrayList<>(List.of(strecke)), (existingList, newList) -> {
-						existingList.addAll(newList);
-						return existingList;
-					});
-			}
-			if (!strecke.isNachKnotenEndpunkt()) {
-				topologischeMap
-					.merge(strecke.getNachKnoten(), new ArrayList<>(List.of(strecke)), (existingList, newList) -> {
-						existingList.addAll(newList);
-						return existingList;
-					});
-			}
-		});
-
 		topologischeMap.forEach(((knoten, strecken) -> {
 			if (strecken.size() != 2) {
 				return;
@@ -61,8 +43,7 @@ public class NetzklassenStreckenViewService extends StreckenViewAbstractService<
 
 			NetzklassenStreckeVonKanten strecke1 = strecken.get(0);
 			NetzklassenStreckeVonKanten strecke2 = strecken.get(1);
-			strecken.remove(strecke1);
-			strecken.remove(strecke2);
+			strecken.clear();
 
 			if (strecke1.passtAnStreckeRan(strecke2)) {
 
@@ -106,36 +87,35 @@ public class NetzklassenStreckenViewService extends StreckenViewAbstractService<
 			}
 		}));
 
-		result.unvollstaendig.addAll(topologischeMap.values().stream().flatMap(List::stream).distinct()
-			.collect(Collectors.toList()));
+		result.unvollstaendig.addAll(topologischeMap.getAlleStrecken());
 		return result;
 	}
 
 	@Override
 	protected void sucheBisEndpunktOderPartitionsende(
-		Map<Knoten, List<Kante>> topologischeMap,
-		Set<Long> bereitsEingeordnet, Set<Knoten> endpunkteVonStrecken,
+		KantenTopologie topologie,
+		Set<Long> bereitsEingeordnet, BitSet endpunkteVonStrecken,
 		NetzklassenStreckeVonKanten netzklassenStreckeVonKanten, boolean rueckwaerts) {
-		Optional<Kante> next = getNextKanteInRichtung(topologischeMap, netzklassenStreckeVonKanten, rueckwaerts);
+		Optional<Kante> next = getNextKanteInRichtung(topologie, netzklassenStreckeVonKanten, rueckwaerts);
 		while (next.isPresent() && !bereitsEingeordnet.contains(next.get().getId())) {
 			Kante nextKante = next.get();
 			if (!netzklassenStreckeVonKanten.passtAnStreckeRan(nextKante)) {
 				// mark node endnode on strecke
 				if (rueckwaerts) {
-					endpunkteVonStrecken.add(netzklassenStreckeVonKanten.getVonKnoten());
+					markiereAlsEndpunkt(topologie, endpunkteVonStrecken, netzklassenStreckeVonKanten.getVonKnoten());
 					netzklassenStreckeVonKanten.setzeVonKnotenAlsEndknoten();
 				} else {
-					endpunkteVonStrecken.add(netzklassenStreckeVonKanten.getNachKnoten());
+					markiereAlsEndpunkt(topologie, endpunkteVonStrecken, netzklassenStreckeVonKanten.getNachKnoten());
 					netzklassenStreckeVonKanten.setzeNachKnotenAlsEndknoten();
 				}
 				break;
 			}
 
 			netzklassenStreckeVonKanten.addKante(nextKante,
-				endpunkteVonStrecken.contains(nextKante.getVonKnoten()) || endpunkteVonStrecken
-					.contains(nextKante.getNachKnoten()));
+				istEndpunkt(topologie, endpunkteVonStrecken, nextKante.getVonKnoten())
+					|| istEndpunkt(topologie, endpunkteVonStrecken, nextKante.getNachKnoten()));
 			bereitsEingeordnet.add(nextKante.getId());
-			next = getNextKanteInRichtung(topologischeMap, netzklassenStreckeVonKanten, rueckwaerts);
+			next = getNextKanteInRichtung(topologie, netzklassenStreckeVonKanten, rueckwaerts);
 		}
 	}
 
@@ -17,15 +17,22 @@ package de.wps.radvis.backend.netz.domain.service;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.valid4j.Assertive.require;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.locationtech.jts.geom.Point;
+
 import de.wps.radvis.backend.netz.domain.entity.Kante;
+import de.wps.radvis.backend.netz.domain.entity.KantenTopologie;
 import de.wps.radvis.backend.netz.domain.entity.Knoten;
+import de.wps.radvis.backend.netz.domain.entity.NetzklassenTopologie;
 import de.wps.radvis.backend.netz.domain.repository.KantenRepository;
+import de.wps.radvis.backend.netz.domain.repository.KnotenRepository;
+import de.wps.radvis.backend.netz.domain.valueObject.KnotenGrad;
 import de.wps.radvis.backend.netz.domain.valueObject.Netzklasse;
 import de.wps.radvis.backend.organisation.domain.entity.Verwaltungseinheit;
 import jakarta.transaction.Transactional;
@@ -34,26 +41,30 @@ public class SackgassenService {
 
 	private final NetzService netzService;
 	private KantenRepository kantenRepository;
+	private KnotenRepository knotenRepository;
+
+	private final Object netzklassenTopologieLock = new Object();
+	private boolean netzklassenTopologieCacheAktiv = false;
+	private NetzklassenTopologie netzklassenTopologie;
 
 	public SackgassenService(
-		NetzService netzService, KantenRepository kantenRepository) {
+		NetzService netzService, KantenRepository kantenRepository, KnotenRepository knotenRepository) {
 		require(netzService, notNullValue());
 		this.netzService = netzService;
 		this.kantenRepository = kantenRepository;
+		this.knotenRepository = knotenRepository;
 	}
 
 	@Transactional
 	public Set<Knoten> bestimmeSackgassenknoten(Set<Kante> kanten) {
 		Set<Knoten> sackgassenKnoten = new HashSet<>();
-		HashMap<Knoten, Integer> knotenAufGrad = new HashMap<>();
-
-		kanten.forEach(kante -> mergeKnoten(knotenAufGrad, kante));
+		KantenTopologie topologie = KantenTopologie.aus(new ArrayList<>(kanten));
 
-		knotenAufGrad.forEach((knoten, grad) -> {
-			if (grad <= 1) {
-				sackgassenKnoten.add(knoten);
+		for (int knotenIndex = 0; knotenIndex < topologie.getAnzahlKnoten(); knotenIndex++) {
+			if (topologie.getGrad(knotenIndex) <= 1) {
+				sackgassenKnoten.add(topologie.getKnoten(knotenIndex));
 			}
-		});
+		}
 
 		return sackgassenKnoten;
 	}
@@ -71,18 +82,48 @@ public class SackgassenService {
 			.collect(Collectors.toSet());
 	}
 
+	/**
+	 * Bestimmt die Sackgassen im Teilnetz aus allen Kanten mit mindestens einer der Netzklassen, sortiert nach
+	 * Knoten-ID. Es werden keine Kanten- oder Knoten-Entities geladen.
+	 */
 	@Transactional
-	public Set<Knoten> bestimmeSackgassenknotenVonKantenFuerNetzklasse(
-		Set<Netzklasse> netzklassen) {
-		return bestimmeSackgassenknoten(
-			new HashSet<>(kantenRepository.getKantenForNetzklassenEagerFetchKnoten(netzklassen)));
+	public List<KnotenGrad> bestimmeSackgassenknotenFuerNetzklassen(Set<Netzklasse> netzklassen) {
+		Map<Long, Integer> sackgassenGrade = getNetzklassenTopologie().getKnotenGrade(netzklassen, 1);
+		Map<Long, Point> punkte = knotenRepository.getPunkteFuerKnotenIds(sackgassenGrade.keySet());
+
+		return sackgassenGrade.entrySet().stream()
+			.map(eintrag -> new KnotenGrad(eintrag.getKey(), eintrag.getValue(), punkte.get(eintrag.getKey())))
+			.toList();
 	}
 
-	private void mergeKnoten(Map<Knoten, Integer> knotenAufGrad, Kante kante) {
-		Knoten von = kante.getVonKnoten();
-		Knoten nach = kante.getNachKnoten();
+	/**
+	 * Ab jetzt wird die Netzklassen-Topologie nur beim ersten Zugriff geladen und danach wiederverwendet, bis
+	 * {@link #verwerfeNetzklassenTopologieCache()} aufgerufen wird. So teilen sich z.B. die Lücken-Regeln eines
+	 * Konsistenzregel-Prüflaufs eine Projektion. Ohne aktiven Cache wird sie bei jedem Aufruf neu geladen.
+	 */
+	public void aktiviereNetzklassenTopologieCache() {
+		synchronized (netzklassenTopologieLock) {
+			netzklassenTopologieCacheAktiv = true;
+		}
+	}
 
-		knotenAufGrad.merge(von, 1, Integer::sum);
-		knotenAufGrad.merge(nach, 1, Integer::sum);
+	public void verwerfeNetzklassenTopologieCache() {
+		synchronized (netzklassenTopologieLock) {
+			netzklassenTopologieCacheAktiv = false;
+			netzklassenTopologie = null;
+		}
+	}
+
+	private NetzklassenTopologie getNetzklassenTopologie() {
+		// Parallele Aufrufer warten hier, bis der erste die Topologie geladen hat, statt sie selbst zu laden
+		synchronized (netzklassenTopologieLock) {
+			if (!netzklassenTopologieCacheAktiv) {
+				return kantenRepository.getNetzklassenTopologie();
+			}
+			if (netzklassenTopologie == null) {
+				netzklassenTopologie = kantenRepository.getNetzklassenTopologie();
+			}
+			return netzklassenTopologie;
+		}
 	}
 }
@@ -15,25 +15,25 @@
 package de.wps.radvis.backend.netz.domain.service;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.linearref.LinearLocation;
 import org.locationtech.jts.linearref.LocationIndexedLine;
 
+import de.wps.radvis.backend.common.domain.LongIntHashMap;
 import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
 import de.wps.radvis.backend.netz.domain.entity.Kante;
+import de.wps.radvis.backend.netz.domain.entity.KantenTopologie;
 import de.wps.radvis.backend.netz.domain.entity.Knoten;
 import de.wps.radvis.backend.netz.domain.entity.StreckeVonKanten;
 import de.wps.radvis.backend.netz.domain.entity.StreckenEinerPartition;
+import de.wps.radvis.backend.netz.domain.entity.StreckenTopologie;
 import lombok.NonNull;
 
 public abstract class StreckenViewAbstractService<StreckenTyp extends StreckeVonKanten> {
@@ -64,27 +64,10 @@ public abstract class StreckenViewAbstractService<StreckenTyp extends StreckeVon
 	 *     Strecken, die noch nicht von Endpunkt zu Endpunkt gehen
 	 */
 	public StreckenEinerPartition<StreckenTyp> mergeUnvollstaendigeStrecken(List<StreckenTyp> unvollstaendig) {
-		Map<Knoten, List<StreckenTyp>> topologischeMap = new HashMap<>();
+		StreckenTopologie<StreckenTyp> topologischeMap = erstelleTopologieDerOffenenEnden(unvollstaendig);
 
 		StreckenEinerPartition<StreckenTyp> result = new StreckenEinerPartition<StreckenTyp>();
 
-		unvollstaendig.forEach(strecke -> {
-			if (!strecke.isVonKnotenEndpunkt()) {
-				topologischeMap
-					.merge(strecke.getVonKnoten(), new ArrayList<>(List.of(strecke)), (existingList, newList) -> {
-						existingList.addAll(newList);
-						return existingList;
-					});
-			}
-			if (!strecke.isNachKnotenEndpunkt()) {
-				topologischeMap
-					.merge(strecke.getNachKnoten(), new ArrayList<>(List.of(strecke)), (existingList, newList) -> {
-						existingList.addAll(newList);
-						return existingList;
-					});
-			}
-		});
-
 		topologischeMap.forEach(((knoten, strecken) -> {
 			if (strecken.size() != 2) {
 				return;
@@ -92,8 +75,7 @@ public abstract class StreckenViewAbstractService<StreckenTyp extends StreckeVon
 
 			var merged = strecken.get(0);
 			var toBeRemoved = strecken.get(1);
-			strecken.remove(merged);
-			strecken.remove(toBeRemoved);
+			strecken.clear();
 
 			merged.merge(toBeRemoved);
 
@@ -116,11 +98,26 @@ public abstract class StreckenViewAbstractService<StreckenTyp extends StreckeVon
 			}
 		}));
 
-		result.unvollstaendig.addAll(topologischeMap.values().stream().flatMap(List::stream).distinct()
-			.collect(Collectors.toList()));
+		result.unvollstaendig.addAll(topologischeMap.getAlleStrecken());
 		return result;
 	}
 
+	/**
+	 * Ordnet jedem Knoten, an dem eine Strecke noch nicht abgeschlossen ist, die dort endenden Strecken zu.
+	 */
+	protected StreckenTopologie<StreckenTyp> erstelleTopologieDerOffenenEnden(List<StreckenTyp> unvollstaendig) {
+		StreckenTopologie<StreckenTyp> topologischeMap = new StreckenTopologie<>(unvollstaendig.size());
+		unvollstaendig.forEach(strecke -> {
+			if (!strecke.isVonKnotenEndpunkt()) {
+				topologischeMap.fuegeHinzu(strecke.getVonKnoten(), strecke);
+			}
+			if (!strecke.isNachKnotenEndpunkt()) {
+				topologischeMap.fuegeHinzu(strecke.getNachKnoten(), strecke);
+			}
+		});
+		return topologischeMap;
+	}
+
 	/**
 	 * @param kantenAusGroesseremAusschnitt
 	 *     Wir brauchen die Kanten aus einem größeren Ausschnitt, um den tatsächlichen
@@ -136,44 +133,23 @@ public abstract class StreckenViewAbstractService<StreckenTyp extends StreckeVon
 	 */
 	public StreckenEinerPartition<StreckenTyp> createStreckenEinerPartition(List<Kante> kantenAusGroesseremAusschnitt,
 		Envelope ausschnittAusDemStreckenErstelltWerdenSollen, Set<Long> bereitsEingeordnet) {
-		Map<Knoten, Integer> knotenAufGlobalemGrad = new HashMap<>();
-		Map<Knoten, List<Kante>> topologieInnerhalbVonAusschnitt = new HashMap<>();
-
-		kantenAusGroesseremAusschnitt
-			.forEach(kante -> {
-				Knoten von = kante.getVonKnoten();
-				Knoten nach = kante.getNachKnoten();
-
-				knotenAufGlobalemGrad.merge(von, 1, Integer::sum);
-				knotenAufGlobalemGrad.merge(nach, 1, Integer::sum);
-
-				// topologische Map nur mit Kanten füllen, die in dem Envelope liegen und somit
-				// die wir in dem Suchprozess abarbeiten wollen
-				if (kante.getGeometry().getEnvelopeInternal()
-					.intersects(ausschnittAusDemStreckenErstelltWerdenSollen) && !bereitsEingeordnet
-						.contains(kante.getId())) {
-					topologieInnerhalbVonAusschnitt
-						.merge(von, new ArrayList<>(List.of(kante)), (existingList, newList) -> {
-							existingList.addAll(newList);
-							return existingList;
-						});
-					topologieInnerhalbVonAusschnitt
-						.merge(nach, new ArrayList<>(List.of(kante)), (existingList, newList) -> {
-							existingList.addAll(newList);
-							return existingList;
-						});
-				}
-			});
+		// Der Grad der Knoten bezieht sich auf alle Kanten, abgelaufen werden aber nur die Kanten, die in dem
+		// Ausschnitt liegen und somit die wir in dem Suchprozess abarbeiten wollen
+		KantenTopologie topologie = KantenTopologie.aus(kantenAusGroesseremAusschnitt);
+		topologie.behalteNurKanten(kante -> kante.getGeometry().getEnvelopeInternal()
+			.intersects(ausschnittAusDemStreckenErstelltWerdenSollen) && !bereitsEingeordnet.contains(kante.getId()));
 
 		Iterator<Kante> kantenNochNichtAbgearbeitet = kantenAusGroesseremAusschnitt.stream().filter(
 			kante -> kante.getGeometry().getEnvelopeInternal().intersects(ausschnittAusDemStreckenErstelltWerdenSollen))
 			.filter(kante -> !bereitsEingeordnet.contains(kante.getId()))
 			.iterator();
 
-		Set<Knoten> endpunkteVonStrecken = knotenAufGlobalemGrad.entrySet().stream()
-			.filter(entry -> entry.getValue() != 2)
-			.map(Map.Entry::getKey)
-			.collect(Collectors.toCollection(HashSet::new));
+		BitSet endpunkteVonStrecken = new BitSet(topologie.getAnzahlKnoten());
+		for (int knotenIndex = 0; knotenIndex < topologie.getAnzahlKnoten(); knotenIndex++) {
+			if (topologie.getGrad(knotenIndex) != 2) {
+				endpunkteVonStrecken.set(knotenIndex);
+			}
+		}
 
 		StreckenEinerPartition<StreckenTyp> streckenDerPartition = new StreckenEinerPartition<StreckenTyp>();
 
@@ -181,15 +157,12 @@ public abstract class StreckenViewAbstractService<StreckenTyp extends StreckeVon
 			Kante startKante = kantenNochNichtAbgearbeitet.next();
 			bereitsEingeordnet.add(startKante.getId());
 
-			final StreckenTyp strecke = this.createStreckeTyp(startKante, endpunkteVonStrecken
-				.contains(startKante.getVonKnoten()), endpunkteVonStrecken.contains(startKante.getNachKnoten()));
+			final StreckenTyp strecke = this.createStreckeTyp(startKante,
+				istEndpunkt(topologie, endpunkteVonStrecken, startKante.getVonKnoten()),
+				istEndpunkt(topologie, endpunkteVonStrecken, startKante.getNachKnoten()));
 
-			sucheBisEndpunktOderPartitionsende(topologieInnerhalbVonAusschnitt, bereitsEingeordnet,
-				endpunkteVonStrecken, strecke,
-				false);
-			sucheBisEndpunktOderPartitionsende(topologieInnerhalbVonAusschnitt, bereitsEingeordnet,
-				endpunkteVonStrecken, strecke,
-				true);
+			sucheBisEndpunktOderPartitionsende(topologie, bereitsEingeordnet, endpunkteVonStrecken, strecke, false);
+			sucheBisEndpunktOderPartitionsende(topologie, bereitsEingeordnet, endpunkteVonStrecken, strecke, true);
 
 			if (strecke.isVonKnotenEndpunkt() && strecke.isNachKnotenEndpunkt()) {
 				streckenDerPartition.vollstaendig.add(strecke);
@@ -235,42 +208,46 @@ public abstract class StreckenViewAbstractService<StreckenTyp extends StreckeVon
 	}
 
 	protected void sucheBisEndpunktOderPartitionsende(
-		Map<Knoten, List<Kante>> topologischeMap,
-		Set<Long> bereitsEingeordnet, Set<Knoten> endpunkteVonStrecken,
+		KantenTopologie topologie,
+		Set<Long> bereitsEingeordnet, BitSet endpunkteVonStrecken,
 		StreckenTyp streckeVonKanten, boolean rueckwaerts) {
-		Optional<Kante> next = getNextKanteInRichtung(topologischeMap, streckeVonKanten, rueckwaerts);
+		Optional<Kante> next = getNextKanteInRichtung(topologie, streckeVonKanten, rueckwaerts);
 		while (next.isPresent() && !bereitsEingeordnet.contains(next.get().getId())) {
 			Kante nextKante = next.get();
 			streckeVonKanten.addKante(nextKante,
-				endpunkteVonStrecken.contains(nextKante.getVonKnoten()) || endpunkteVonStrecken
-					.contains(nextKante.getNachKnoten()));
+				istEndpunkt(topologie, endpunkteVonStrecken, nextKante.getVonKnoten())
+					|| istEndpunkt(topologie, endpunkteVonStrecken, nextKante.getNachKnoten()));
 			bereitsEingeordnet.add(nextKante.getId());
-			next = getNextKanteInRichtung(topologischeMap, streckeVonKanten, rueckwaerts);
+			next = getNextKanteInRichtung(topologie, streckeVonKanten, rueckwaerts);
 		}
 	}
 
-	protected Optional<Kante> getNextKanteInRichtung(Map<Knoten, List<Kante>> topologischeMap, StreckenTyp strecke,
+	protected Optional<Kante> getNextKanteInRichtung(KantenTopologie topologie, StreckenTyp strecke,
 		boolean rueckwaerts) {
 		if (rueckwaerts && !strecke.isVonKnotenEndpunkt()) {
-			List<Kante> naechsteKanten = topologischeMap.get(strecke.getVonKnoten());
-
-			naechsteKanten.remove(strecke.getKanten().get(0));
-			if (naechsteKanten.isEmpty()) {
-				return Optional.empty();
-			}
-			return Optional.of(naechsteKanten.get(0));
+			topologie.entferneAdjazenz(strecke.getVonKnoten(), strecke.getKanten().get(0));
+			return topologie.getErsteVerbleibendeKante(strecke.getVonKnoten());
 		} else if (!rueckwaerts && !strecke.isNachKnotenEndpunkt()) {
-			List<Kante> naechsteKanten = topologischeMap.get(strecke.getNachKnoten());
-			naechsteKanten.remove(strecke.getKanten().get(strecke.getKanten().size() - 1));
-			if (naechsteKanten.isEmpty()) {
-				return Optional.empty();
-			}
-			return Optional.of(naechsteKanten.get(0));
+			topologie.entferneAdjazenz(strecke.getNachKnoten(),
+				strecke.getKanten().get(strecke.getKanten().size() - 1));
+			return topologie.getErsteVerbleibendeKante(strecke.getNachKnoten());
 		} else {
 			return Optional.empty();
 		}
 	}
 
+	protected static boolean istEndpunkt(KantenTopologie topologie, BitSet endpunkte, Knoten knoten) {
+		int knotenIndex = topologie.getKnotenIndex(knoten);
+		return knotenIndex != LongIntHashMap.KEIN_WERT && endpunkte.get(knotenIndex);
+	}
+
+	protected static void markiereAlsEndpunkt(KantenTopologie topologie, BitSet endpunkte, Knoten knoten) {
+		int knotenIndex = topologie.getKnotenIndex(knoten);
+		if (knotenIndex != LongIntHashMap.KEIN_WERT) {
+			endpunkte.set(knotenIndex);
+		}
+	}
+
 	protected abstract StreckenTyp createStreckeTyp(@NonNull Kante startKante, boolean vonKnotenEndpunkt,
 		boolean nachKnotenEndpunkt);
 
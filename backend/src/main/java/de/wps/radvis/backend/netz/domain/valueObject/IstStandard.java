@@ -17,6 +17,10 @@ package de.wps.radvis.backend.netz.domain.valueObject;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 
+/**
+ * Die Reihenfolge der Konstanten bestimmt die Bits in der Bitmaske der Auswertung (siehe
+ * auswertung_kante_abschnitte_aggregat_materialized_view in der views.xml) und darf nur zusammen damit geändert werden.
+ */
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public enum IstStandard {
 
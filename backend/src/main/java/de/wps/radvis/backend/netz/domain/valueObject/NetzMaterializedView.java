@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.netz.domain.valueObject;
+
+import java.util.Optional;
+import java.util.Set;
+
+import lombok.Getter;
+
+/**
+ * Die Materialized Views des RadVIS-Netzes mit ihren Abhängigkeiten untereinander, wie sie in der views.xml definiert
+ * sind. Eine View kann erst aktualisiert werden, wenn alle Views, aus denen sie liest, aktualisiert wurden. Die
+ * Reihenfolge der Konstanten ist eine gültige (topologische) Reihenfolge für ein sequenzielles Aktualisieren.
+ * <p>
+ * Einige Einträge sind keine Materialized Views mehr, sondern Tabellen, die aus einer Quell-View befüllt werden. Sie
+ * werden nur für die Kanten neu berechnet, deren Versionsstand (Kante und Attributgruppen) sich geändert hat. Die
+ * Namen bleiben wegen Geoserver und bestehender Abfragen erhalten.
+ */
+public enum NetzMaterializedView {
+	NETZKLASSEN("netzklassen_materialized_view"),
+	STANDARDS("standards_materialized_view"),
+	FUEHRUNGSFORM_MAXANTEIL("fuehrungsform_attribute_maxanteil_materialized_view"),
+	GESCHWINDIGKEIT_MAXANTEIL("geschwindigkeit_attribute_maxanteil_materialized_view"),
+	ZUSTAENDIGKEIT_MAXANTEIL("zustaendigkeit_attribute_maxanteil_materialized_view"),
+	RADVISNETZ_KANTE("geoserver_radvisnetz_kante_materialized_view", NETZKLASSEN, STANDARDS,
+		FUEHRUNGSFORM_MAXANTEIL, GESCHWINDIGKEIT_MAXANTEIL, ZUSTAENDIGKEIT_MAXANTEIL),
+	KANTE_LR("kante_lr_materialized_view", "kante_lr_view", "id"),
+	KANTE_LR_INTERPOLATED("kante_lr_interpolated_materialized_view"),
+	RADVISNETZ_KANTE_ABSCHNITTE("geoserver_radvisnetz_kante_abschnitte_materialized_view",
+		"geoserver_radvisnetz_kante_abschnitte_view", "kante_id", KANTE_LR, NETZKLASSEN, STANDARDS),
+	AUSWERTUNG_AGGREGAT("auswertung_kante_abschnitte_aggregat_materialized_view", RADVISNETZ_KANTE_ABSCHNITTE),
+	RADVISNETZ_KANTE_ABSCHNITTE_BALM("geoserver_radvisnetz_kante_abschnitte_balm_materialized_view",
+		KANTE_LR_INTERPOLATED, NETZKLASSEN, STANDARDS),
+	BALM_KNOTEN("geoserver_balm_knoten_view", RADVISNETZ_KANTE, KANTE_LR),
+	BALM_KANTEN("geoserver_balm_kanten_view", RADVISNETZ_KANTE_ABSCHNITTE_BALM),
+	BALM_FAHRRADROUTEN("geoserver_balm_fahrradrouten_view", BALM_KANTEN),
+	BALM_WEGWEISENDE_BESCHILDERUNG("geoserver_balm_wegweisende_beschilderung_view");
+
+	@Getter
+	private final String viewName;
+
+	@Getter
+	private final Set<NetzMaterializedView> abhaengigkeiten;
+
+	/**
+	 * Nur bei inkrementell gepflegten Tabellen gesetzt: View, aus der die Zeilen einer Kante berechnet werden.
+	 */
+	private final String quellView;
+
+	/**
+	 * Nur bei inkrementell gepflegten Tabellen gesetzt: Spalte mit der Kanten-ID in Tabelle und Quell-View.
+	 */
+	private final String kanteIdSpalte;
+
+	NetzMaterializedView(String viewName, NetzMaterializedView... abhaengigkeiten) {
+		this(viewName, null, null, abhaengigkeiten);
+	}
+
+	NetzMaterializedView(String viewName, String quellView, String kanteIdSpalte,
+		NetzMaterializedView... abhaengigkeiten) {
+		this.viewName = viewName;
+		this.quellView = quellView;
+		this.kanteIdSpalte = kanteIdSpalte;
+		this.abhaengigkeiten = Set.of(abhaengigkeiten);
+	}
+
+	public boolean isInkrementell() {
+		return quellView != null;
+	}
+
+	public Optional<String> getQuellView() {
+		return Optional.ofNullable(quellView);
+	}
+
+	public Optional<String> getKanteIdSpalte() {
+		return Optional.ofNullable(kanteIdSpalte);
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.netz.domain.valueObject;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Ergebnis einer inkrementellen Aktualisierung der Netz-Materialized-Views.
+ *
+ * @param dauerProView
+ *     Dauer des Refreshs pro View
+ * @param geaenderterBereich
+ *     Umfasst die alte und neue Lage aller neu berechneten Kanten. Leer ({@link Envelope#isNull()}), wenn sich keine
+ *     Kante geändert hat.
+ */
+public record NetzMaterializedViewsAktualisierung(
+	Map<NetzMaterializedView, Duration> dauerProView,
+	Envelope geaenderterBereich
+) {
+}
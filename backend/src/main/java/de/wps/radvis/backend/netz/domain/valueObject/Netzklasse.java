@@ -20,6 +20,10 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+/**
+ * Die Reihenfolge der Konstanten bestimmt die Bits in der Bitmaske der Auswertung (siehe
+ * auswertung_kante_abschnitte_aggregat_materialized_view in der views.xml) und darf nur zusammen damit geändert werden.
+ */
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public enum Netzklasse {
 	RADNETZ_ALLTAG("Alltag (RadNETZ)", 6),
@@ -17,6 +17,9 @@ package de.wps.radvis.backend.quellimport.grundnetz.domain;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.valid4j.Assertive.require;
 
+import java.time.LocalDate;
+import java.util.Optional;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
 
@@ -44,16 +47,42 @@ public class DLMConfigurationProperties {
 	@Getter
 	private final int pbfpartitionen;
 
+	/**
+	 * Verzeichnis, in dem die WFS-Antworten komprimiert pro Datenstand und Partition abgelegt werden.
+	 */
+	@Getter
+	private final String spoolVerzeichnis;
+
+	/**
+	 * Fester Datenstand, aus dem die abgelegten WFS-Antworten gelesen werden. Ohne Angabe gilt der vom WFS gemeldete
+	 * Datenstand und, falls dieser unbekannt ist, das Datum des Importbeginns.
+	 */
+	private final LocalDate spoolDatenstand;
+
+	/**
+	 * Anzahl der Partitionen, deren WFS-Antworten bereits abgerufen werden, während die aktuelle Partition noch
+	 * verarbeitet wird.
+	 */
+	@Getter
+	private final int vorausgeladenePartitionen;
+
+	@Getter
+	private final int anzahlParallelerAbrufe;
+
 	@ConstructorBinding
 	public DLMConfigurationProperties(String basisUrl, String username, String password, ExtentProperty extent,
 		int partitionenX,
-		int partitionenY, int pbfpartitionen) {
+		int partitionenY, int pbfpartitionen, String spoolVerzeichnis, LocalDate spoolDatenstand,
+		int vorausgeladenePartitionen, int anzahlParallelerAbrufe) {
 		require(basisUrl, notNullValue());
 		require(username, notNullValue());
 		require(password, notNullValue());
 		require(extent, notNullValue());
 		require(partitionenX >= 1, "Partition muss größer 0 sein");
 		require(pbfpartitionen >= 1, "Partition muss größer 0 sein");
+		require(spoolVerzeichnis, notNullValue());
+		require(vorausgeladenePartitionen >= 0, "Anzahl vorausgeladener Partitionen darf nicht negativ sein");
+		require(anzahlParallelerAbrufe >= 1, "Anzahl paralleler Abrufe muss größer 0 sein");
 
 		this.basisUrl = basisUrl;
 		this.username = username;
@@ -61,5 +90,13 @@ public class DLMConfigurationProperties {
 		this.extentProperty = extent;
 		this.partitionenX = partitionenX;
 		this.pbfpartitionen = pbfpartitionen;
+		this.spoolVerzeichnis = spoolVerzeichnis;
+		this.spoolDatenstand = spoolDatenstand;
+		this.vorausgeladenePartitionen = vorausgeladenePartitionen;
+		this.anzahlParallelerAbrufe = anzahlParallelerAbrufe;
+	}
+
+	public Optional<LocalDate> getSpoolDatenstand() {
+		return Optional.ofNullable(spoolDatenstand);
 	}
 }
@@ -14,16 +14,24 @@
 
 package de.wps.radvis.backend.quellimport.grundnetz.schnittstelle.repositoryImpl;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.InetSocketAddress;
-import java.net.Proxy;
-import java.net.URL;
-import java.net.URLConnection;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -42,20 +50,56 @@ import de.wps.radvis.backend.quellimport.grundnetz.domain.DLMConfigurationProper
 import de.wps.radvis.backend.quellimport.grundnetz.domain.DlmRepository;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Liest die DLM-Kanten partitionsweise aus dem WFS.
+ * <p>
+ * Die Antworten werden nicht direkt verarbeitet, sondern zunächst komprimiert im {@link DlmWfsSpool} abgelegt. Wird
+ * eine Partition angefragt, werden zusätzlich die Abrufe der nächsten {@code vorausgeladenePartitionen} Partitionen
+ * gestartet, sodass diese parallel zur Verarbeitung der aktuellen Partition heruntergeladen werden. Im Speicher liegt
+ * dabei nur die angefragte Partition, die vorausgeladenen liegen auf der Platte.
+ * <p>
+ * Ein Importlauf beginnt mit {@link #getPartitionen()}. Dabei wird der Datenstand des Spools festgelegt: der
+ * konfigurierte {@code spoolDatenstand}, sonst der Datenstand der DLM-Daten laut {@link DlmWfsQuelle} und nur wenn
+ * dieser unbekannt ist, das aktuelle Datum.
+ */
 @Slf4j
 public class DlmRepositoryImpl implements DlmRepository {
 
+	private static final String STRASSEN_TYPE_NAME = "nora:v_at_strasse";
+	private static final String STRASSEN_PROPERTY_NAMES = "gml_id,geom,eigenname,bezeichnung";
+	private static final String WEGE_TYPE_NAME = "nora:v_at_weg";
+	private static final String WEGE_PROPERTY_NAMES = "gml_id,geom,eigenname";
+
 	private final DLMConfigurationProperties dlmConfigurationProperties;
-	private final CommonConfigurationProperties commonConfigurationProperties;
+	private final DlmWfsQuelle wfsQuelle;
+	private final DlmWfsSpool spool;
+	private final ExecutorService abrufExecutor;
+
+	private final Map<File, CompletableFuture<File>> laufendeAbrufe = new ConcurrentHashMap<>();
 
 	public DlmRepositoryImpl(DLMConfigurationProperties dlmConfigurationProperties,
 		CommonConfigurationProperties commonConfigurationProperties) {
+		this(dlmConfigurationProperties,
+			dlmConfigurationProperties.getBasisUrl().startsWith(DlmWfsDateiQuelle.URL_PRAEFIX)
+				? DlmWfsDateiQuelle.ausUrl(dlmConfigurationProperties.getBasisUrl())
+				: new DlmWfsHttpQuelle(dlmConfigurationProperties, commonConfigurationProperties));
+	}
+
+	DlmRepositoryImpl(DLMConfigurationProperties dlmConfigurationProperties, DlmWfsQuelle wfsQuelle) {
 		this.dlmConfigurationProperties = dlmConfigurationProperties;
-		this.commonConfigurationProperties = commonConfigurationProperties;
+		this.wfsQuelle = wfsQuelle;
+		this.spool = new DlmWfsSpool(new File(dlmConfigurationProperties.getSpoolVerzeichnis()));
+		this.abrufExecutor = Executors.newFixedThreadPool(dlmConfigurationProperties.getAnzahlParallelerAbrufe(),
+			abrufThreadFactory());
 	}
 
 	@Override
 	public List<Envelope> getPartitionen() {
+		beginneLauf();
+		return berechnePartitionen();
+	}
+
+	private List<Envelope> berechnePartitionen() {
 		double minX = this.dlmConfigurationProperties.getExtentProperty().getMinX();
 		double maxX = this.dlmConfigurationProperties.getExtentProperty().getMaxX();
 		double minY = this.dlmConfigurationProperties.getExtentProperty().getMinY();
@@ -75,65 +119,123 @@ public class DlmRepositoryImpl implements DlmRepository {
 
 	@Override
 	public List<ImportedFeature> getKanten(Envelope inBereich) {
-		return Stream.concat(this.readStrassenFeatures(inBereich), this.readWegeFeatures(inBereich)).toList();
-	}
+		if (!spool.istLaufBegonnen()) {
+			beginneLauf();
+		}
+		File strassenDatei = spool.getDatei(STRASSEN_TYPE_NAME, inBereich);
+		File wegeDatei = spool.getDatei(WEGE_TYPE_NAME, inBereich);
+		// Die angefragte Partition zuerst einreihen, damit sie vor den vorausgeladenen abgerufen wird
+		CompletableFuture<File> strassen = starteAbruf(strassenDatei, inBereich, STRASSEN_TYPE_NAME,
+			STRASSEN_PROPERTY_NAMES);
+		CompletableFuture<File> wege = starteAbruf(wegeDatei, inBereich, WEGE_TYPE_NAME, WEGE_PROPERTY_NAMES);
+		starteAbrufeFuerFolgendePartitionen(inBereich);
 
-	private Stream<ImportedFeature> readStrassenFeatures(Envelope extent) {
-		String typeNames = "nora:v_at_strasse";
-		String propertyNames = "gml_id,geom,eigenname,bezeichnung";
+		Polygon envelopePolygon = EnvelopeAdapter.toPolygon(inBereich,
+			KoordinatenReferenzSystem.ETRS89_UTM32_N.getSrid());
+		List<ImportedFeature> features = new ArrayList<>();
+		features.addAll(leseFeatures(warteAuf(strassen, strassenDatei), envelopePolygon));
+		features.addAll(leseFeatures(warteAuf(wege, wegeDatei), envelopePolygon));
+		return List.copyOf(features);
+	}
 
-		return readFeatures(extent, typeNames, propertyNames);
+	/**
+	 * Beendet laufende Abrufe. Wird von Spring beim Herunterfahren des Kontexts aufgerufen.
+	 */
+	public void close() {
+		abrufExecutor.shutdownNow();
 	}
 
-	private Stream<ImportedFeature> readWegeFeatures(Envelope extent) {
-		String typeNames = "nora:v_at_weg";
-		String propertyNames = "gml_id,geom,eigenname";
+	private synchronized void beginneLauf() {
+		LocalDate datenstand = dlmConfigurationProperties.getSpoolDatenstand()
+			.or(this::getDatenstandDerQuelle)
+			.orElseGet(LocalDate::now);
+		log.info("Verwende abgelegte WFS-Antworten des Datenstands {}", datenstand);
+		try {
+			spool.beginneLauf(datenstand);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
 
-		return readFeatures(extent, typeNames, propertyNames);
+	private Optional<LocalDate> getDatenstandDerQuelle() {
+		try {
+			return wfsQuelle.getDatenstand();
+		} catch (IOException e) {
+			log.warn("Datenstand des DLM-WFS konnte nicht ermittelt werden", e);
+			return Optional.empty();
+		}
 	}
 
-	private Stream<ImportedFeature> readFeatures(Envelope extent, String typeNames, String propertyNames) {
-		Double minX = extent.getMinX();
-		Double maxX = extent.getMaxX();
-		Double minY = extent.getMinY();
-		Double maxY = extent.getMaxY();
+	private void starteAbrufeFuerFolgendePartitionen(Envelope inBereich) {
+		List<Envelope> partitionen = berechnePartitionen();
+		int index = partitionen.indexOf(inBereich);
+		if (index < 0) {
+			// Kein Bereich aus der eigenen Partitionierung, es ist also nicht bekannt, was als nächstes angefragt wird
+			return;
+		}
+		int ende = Math.min(partitionen.size(),
+			index + 1 + dlmConfigurationProperties.getVorausgeladenePartitionen());
+		partitionen.subList(index + 1, ende).forEach(partition -> {
+			starteAbruf(spool.getDatei(STRASSEN_TYPE_NAME, partition), partition, STRASSEN_TYPE_NAME,
+				STRASSEN_PROPERTY_NAMES);
+			starteAbruf(spool.getDatei(WEGE_TYPE_NAME, partition), partition, WEGE_TYPE_NAME, WEGE_PROPERTY_NAMES);
+		});
+	}
 
-		Polygon envelopePolygon = EnvelopeAdapter.toPolygon(extent, KoordinatenReferenzSystem.ETRS89_UTM32_N.getSrid());
+	private CompletableFuture<File> starteAbruf(File datei, Envelope bereich, String typeName,
+		String propertyNames) {
+		// Fehlgeschlagene Vorabrufe werden ersetzt, damit die Partition bei der eigentlichen Anfrage erneut abgerufen
+		// wird
+		CompletableFuture<File> abruf = laufendeAbrufe.compute(datei, (key, bisherigerAbruf) -> {
+			if (bisherigerAbruf != null && !bisherigerAbruf.isCompletedExceptionally()) {
+				return bisherigerAbruf;
+			}
+			if (datei.isFile()) {
+				log.debug("Verwende abgelegte WFS-Antwort {}", datei);
+				return CompletableFuture.completedFuture(datei);
+			}
+			return CompletableFuture.supplyAsync(() -> rufeAb(datei, bereich, typeName, propertyNames),
+				abrufExecutor);
+		});
+		// Abgeschlossene Abrufe liegen auf der Platte oder werden beim nächsten Mal erneut gestartet
+		abruf.whenComplete((ergebnis, fehler) -> laufendeAbrufe.remove(datei, abruf));
+		return abruf;
+	}
 
+	private File rufeAb(File datei, Envelope bereich, String typeName, String propertyNames) {
+		long start = System.currentTimeMillis();
 		try {
-			Stream<ImportedFeature> features = readURL(
-				String.format(
-					"%s?user=%s&password=%s&version=2.0.0&service=WFS&request=GetFeature&typeName=%s&bbox=%s,%s,%s,%s,EPSG:%d&propertyName=%s",
-					dlmConfigurationProperties.getBasisUrl(),
-					dlmConfigurationProperties.getUsername(),
-					dlmConfigurationProperties.getPassword(),
-					typeNames,
-					minX, minY, maxX, maxY, KoordinatenReferenzSystem.ETRS89_UTM32_N.getSrid(),
-					propertyNames));
-			return features.filter(feature -> envelopePolygon.intersects(feature.getGeometrie()));
-		} catch (IOException | XMLStreamException e) {
-			log.error("Basis-DLM Features konnten nicht aus WFS gelesen werden", e);
-			throw new RuntimeException(e);
+			spool.schreibe(datei, wfsQuelle.oeffne(typeName, propertyNames, bereich));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
 		}
+		log.debug("{} für {} in {} ms vom WFS abgerufen", typeName, bereich, System.currentTimeMillis() - start);
+		return datei;
 	}
 
-	private Stream<ImportedFeature> readURL(String urlString) throws IOException, XMLStreamException {
-		URL url = new URL(urlString);
-		URLConnection urlConnection;
-
-		if (commonConfigurationProperties.getProxyAdress() != null) {
-			urlConnection = url.openConnection(new Proxy(Proxy.Type.HTTP, new InetSocketAddress(
-				commonConfigurationProperties.getProxyAdress(),
-				commonConfigurationProperties.getProxyPort())));
-		} else {
-			urlConnection = url.openConnection();
+	private File warteAuf(CompletableFuture<File> abruf, File datei) {
+		try {
+			return abruf.join();
+		} catch (CompletionException e) {
+			log.error("Basis-DLM Features konnten nicht aus WFS gelesen werden", e.getCause());
+			throw new RuntimeException(e.getCause());
+		} finally {
+			laufendeAbrufe.remove(datei, abruf);
 		}
+	}
 
-		urlConnection.setReadTimeout(0);
-		urlConnection.setConnectTimeout(0);
-		InputStream inputStream = urlConnection.getInputStream();
+	int getAnzahlLaufenderAbrufe() {
+		return laufendeAbrufe.size();
+	}
 
-		return readStream(inputStream);
+	private List<ImportedFeature> leseFeatures(File datei, Polygon envelopePolygon) {
+		try (InputStream inputStream = spool.oeffne(datei); Stream<ImportedFeature> features = readStream(
+			inputStream)) {
+			return features.filter(feature -> envelopePolygon.intersects(feature.getGeometrie())).toList();
+		} catch (IOException | XMLStreamException e) {
+			log.error("Basis-DLM Features konnten nicht aus {} gelesen werden", datei, e);
+			throw new RuntimeException(e);
+		}
 	}
 
 	private Stream<ImportedFeature> readStream(InputStream inputStream) throws XMLStreamException {
@@ -142,4 +244,13 @@ public class DlmRepositoryImpl implements DlmRepository {
 		DlmImportedFeatureXmlIterator iterator = new DlmImportedFeatureXmlIterator(reader);
 		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
 	}
+
+	private static ThreadFactory abrufThreadFactory() {
+		AtomicInteger threadNummer = new AtomicInteger(1);
+		return runnable -> {
+			Thread thread = new Thread(runnable, "dlm-wfs-abruf-" + threadNummer.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
 }
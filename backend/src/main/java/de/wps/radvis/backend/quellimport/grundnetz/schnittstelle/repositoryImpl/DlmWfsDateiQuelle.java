@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.quellimport.grundnetz.schnittstelle.repositoryImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.locationtech.jts.geom.Envelope;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Lokaler Ersatz für den DLM-WFS, z.B. für Tests und Entwicklung. Wird über eine Basis-URL der Form
+ * {@code file:/pfad/zum/verzeichnis} ausgewählt. Pro Feature-Typ liegt im Verzeichnis eine GML-Datei mit dem Namen des
+ * Typs ohne Namespace, also {@code v_at_strasse.gml} und {@code v_at_weg.gml}. Es wird immer die gesamte Datei
+ * geliefert, die Einschränkung auf den Bereich übernimmt wie beim WFS das {@link DlmRepositoryImpl}. Als Datenstand
+ * gilt das Änderungsdatum der jüngsten Datei.
+ */
+@Slf4j
+class DlmWfsDateiQuelle implements DlmWfsQuelle {
+
+	static final String URL_PRAEFIX = "file:";
+
+	private static final String LEERE_FEATURE_COLLECTION =
+		"<wfs:FeatureCollection xmlns:wfs=\"http://www.opengis.net/wfs/2.0\"/>";
+
+	private final File verzeichnis;
+
+	DlmWfsDateiQuelle(File verzeichnis) {
+		this.verzeichnis = verzeichnis;
+	}
+
+	static DlmWfsDateiQuelle ausUrl(String basisUrl) {
+		return new DlmWfsDateiQuelle(new File(basisUrl.substring(URL_PRAEFIX.length())));
+	}
+
+	@Override
+	public Optional<LocalDate> getDatenstand() {
+		File[] dateien = verzeichnis.listFiles(datei -> datei.isFile() && datei.getName().endsWith(".gml"));
+		if (dateien == null) {
+			return Optional.empty();
+		}
+		return Arrays.stream(dateien)
+			.map(File::lastModified)
+			.max(Long::compare)
+			.map(lastModified -> LocalDate.ofInstant(Instant.ofEpochMilli(lastModified), ZoneId.systemDefault()));
+	}
+
+	@Override
+	public InputStream oeffne(String typeName, String propertyNames, Envelope bereich) throws IOException {
+		String dateiName = typeName.substring(typeName.indexOf(':') + 1) + ".gml";
+		File datei = new File(verzeichnis, dateiName);
+		if (!datei.isFile()) {
+			log.warn("Keine Datei {} für Feature-Typ {} vorhanden, liefere leere FeatureCollection", datei, typeName);
+			return new ByteArrayInputStream(LEERE_FEATURE_COLLECTION.getBytes(StandardCharsets.UTF_8));
+		}
+		return new FileInputStream(datei);
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.quellimport.grundnetz.schnittstelle.repositoryImpl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.URL;
+import java.net.URLConnection;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import org.locationtech.jts.geom.Envelope;
+
+import de.wps.radvis.backend.common.domain.CommonConfigurationProperties;
+import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
+import de.wps.radvis.backend.quellimport.grundnetz.domain.DLMConfigurationProperties;
+
+class DlmWfsHttpQuelle implements DlmWfsQuelle {
+
+	private final DLMConfigurationProperties dlmConfigurationProperties;
+	private final CommonConfigurationProperties commonConfigurationProperties;
+
+	DlmWfsHttpQuelle(DLMConfigurationProperties dlmConfigurationProperties,
+		CommonConfigurationProperties commonConfigurationProperties) {
+		this.dlmConfigurationProperties = dlmConfigurationProperties;
+		this.commonConfigurationProperties = commonConfigurationProperties;
+	}
+
+	/**
+	 * Der WFS liefert den Datenstand nicht im GML. Meldet er zu den Capabilities ein Änderungsdatum (Last-Modified),
+	 * wird dieses verwendet.
+	 */
+	@Override
+	public Optional<LocalDate> getDatenstand() throws IOException {
+		URL url = new URL(
+			String.format("%s?user=%s&password=%s&version=2.0.0&service=WFS&request=GetCapabilities",
+				dlmConfigurationProperties.getBasisUrl(),
+				dlmConfigurationProperties.getUsername(),
+				dlmConfigurationProperties.getPassword()));
+		URLConnection urlConnection = oeffneVerbindung(url);
+		urlConnection.getInputStream().close();
+		long lastModified = urlConnection.getLastModified();
+		if (lastModified <= 0) {
+			return Optional.empty();
+		}
+		return Optional.of(LocalDate.ofInstant(Instant.ofEpochMilli(lastModified), ZoneId.systemDefault()));
+	}
+
+	@Override
+	public InputStream oeffne(String typeName, String propertyNames, Envelope bereich) throws IOException {
+		URL url = new URL(
+			String.format(
+				"%s?user=%s&password=%s&version=2.0.0&service=WFS&request=GetFeature&typeName=%s&bbox=%s,%s,%s,%s,EPSG:%d&propertyName=%s",
+				dlmConfigurationProperties.getBasisUrl(),
+				dlmConfigurationProperties.getUsername(),
+				dlmConfigurationProperties.getPassword(),
+				typeName,
+				bereich.getMinX(), bereich.getMinY(), bereich.getMaxX(), bereich.getMaxY(),
+				KoordinatenReferenzSystem.ETRS89_UTM32_N.getSrid(),
+				propertyNames));
+		URLConnection urlConnection = oeffneVerbindung(url);
+		urlConnection.setReadTimeout(0);
+		urlConnection.setConnectTimeout(0);
+		return urlConnection.getInputStream();
+	}
+
+	private URLConnection oeffneVerbindung(URL url) throws IOException {
+		URLConnection urlConnection;
+		if (commonConfigurationProperties.getProxyAdress() != null) {
+			urlConnection = url.openConnection(new Proxy(Proxy.Type.HTTP, new InetSocketAddress(
+				commonConfigurationProperties.getProxyAdress(),
+				commonConfigurationProperties.getProxyPort())));
+		} else {
+			urlConnection = url.openConnection();
+		}
+		return urlConnection;
+	}
+}
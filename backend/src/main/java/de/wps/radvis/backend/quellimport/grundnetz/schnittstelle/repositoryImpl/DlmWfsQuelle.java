@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.quellimport.grundnetz.schnittstelle.repositoryImpl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Liefert die GML-Antwort eines GetFeature-Requests für einen Feature-Typ in einem Bereich.
+ */
+interface DlmWfsQuelle {
+
+	InputStream oeffne(String typeName, String propertyNames, Envelope bereich) throws IOException;
+
+	/**
+	 * Datenstand der gelieferten DLM-Daten, sofern die Quelle ihn kennt.
+	 */
+	Optional<LocalDate> getDatenstand() throws IOException;
+}
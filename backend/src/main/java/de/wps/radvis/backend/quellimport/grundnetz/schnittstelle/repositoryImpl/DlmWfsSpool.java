@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.quellimport.grundnetz.schnittstelle.repositoryImpl;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.valid4j.Assertive.require;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.io.FileUtils;
+import org.locationtech.jts.geom.Envelope;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ablage der WFS-Antworten auf der Platte. Jede Antwort wird gzip-komprimiert unter
+ * {@code <verzeichnis>/<datenstand>/<feature-typ>_<minX>_<minY>_<maxX>_<maxY>.gml.gz} abgelegt. Ein erneuter Abruf
+ * derselben Partition im selben Datenstand wird aus dieser Datei bedient statt vom WFS.
+ * <p>
+ * Der Datenstand wird zu Beginn eines Importlaufs mit {@link #beginneLauf(LocalDate)} festgelegt und gilt bis zum
+ * nächsten Lauf, auch wenn dieser über Mitternacht hinaus dauert. Nur dabei werden die Verzeichnisse anderer
+ * Datenstände entfernt, vorausgeladene und gerade geschriebene Dateien des laufenden Imports bleiben also erhalten.
+ */
+@Slf4j
+class DlmWfsSpool {
+
+	private static final int PUFFER_GROESSE = 1 << 16;
+
+	private final File verzeichnis;
+
+	private volatile LocalDate datenstand;
+
+	DlmWfsSpool(File verzeichnis) {
+		this.verzeichnis = verzeichnis;
+	}
+
+	/**
+	 * Legt den Datenstand für alle folgenden Abrufe fest und entfernt die Ablagen anderer Datenstände.
+	 */
+	synchronized void beginneLauf(LocalDate datenstand) throws IOException {
+		require(datenstand, notNullValue());
+		this.datenstand = datenstand;
+		entferneAndereDatenstaende(datenstand.toString());
+		Files.createDirectories(getDatenstandVerzeichnis().toPath());
+	}
+
+	boolean istLaufBegonnen() {
+		return datenstand != null;
+	}
+
+	File getDatei(String typeName, Envelope bereich) {
+		String typ = typeName.substring(typeName.indexOf(':') + 1);
+		String dateiName = String.format(Locale.ROOT, "%s_%.3f_%.3f_%.3f_%.3f.gml.gz", typ,
+			bereich.getMinX(), bereich.getMinY(), bereich.getMaxX(), bereich.getMaxY());
+		return new File(getDatenstandVerzeichnis(), dateiName);
+	}
+
+	private File getDatenstandVerzeichnis() {
+		require(datenstand != null, "Vor dem ersten Abruf muss ein Lauf begonnen werden");
+		return new File(verzeichnis, datenstand.toString());
+	}
+
+	/**
+	 * Schreibt den Inhalt komprimiert in eine temporäre Datei und verschiebt diese erst danach an die Zielposition.
+	 * Eine abgebrochene Übertragung hinterlässt dadurch nie eine scheinbar vollständige Datei.
+	 */
+	void schreibe(File datei, InputStream inhalt) throws IOException {
+		File tmpDatei = new File(datei.getAbsolutePath() + ".tmp");
+		try (InputStream in = inhalt;
+			OutputStream out = new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(tmpDatei),
+				PUFFER_GROESSE), PUFFER_GROESSE)) {
+			in.transferTo(out);
+		} catch (IOException e) {
+			Files.deleteIfExists(tmpDatei.toPath());
+			throw e;
+		}
+		Files.move(tmpDatei.toPath(), datei.toPath(), StandardCopyOption.REPLACE_EXISTING,
+			StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	InputStream oeffne(File datei) throws IOException {
+		return new GZIPInputStream(new BufferedInputStream(new FileInputStream(datei), PUFFER_GROESSE),
+			PUFFER_GROESSE);
+	}
+
+	private void entferneAndereDatenstaende(String aktuellerDatenstand) throws IOException {
+		File[] unterverzeichnisse = verzeichnis.listFiles(File::isDirectory);
+		if (unterverzeichnisse == null) {
+			return;
+		}
+		for (File unterverzeichnis : unterverzeichnisse) {
+			if (!unterverzeichnis.getName().equals(aktuellerDatenstand) && istDatenstand(unterverzeichnis.getName())) {
+				log.info("Entferne abgelegte WFS-Antworten des Datenstands {}", unterverzeichnis.getName());
+				FileUtils.deleteDirectory(unterverzeichnis);
+			}
+		}
+	}
+
+	private static boolean istDatenstand(String name) {
+		try {
+			LocalDate.parse(name);
+			return true;
+		} catch (DateTimeParseException e) {
+			return false;
+		}
+	}
+}
@@ -26,20 +26,27 @@ import static com.github.mkopylec.charon.forwarding.interceptors.rewrite.RegexRe
 import static com.github.mkopylec.charon.forwarding.interceptors.rewrite.RequestProxyHeadersRewriterConfigurer.requestProxyHeadersRewriter;
 import static com.github.mkopylec.charon.forwarding.interceptors.rewrite.RequestServerNameRewriterConfigurer.requestServerNameRewriter;
 import static de.wps.radvis.backend.reverseproxy.CharonConfiguration.HttpBasicAuthHeaderRemoverInterceptorConfigurer.httpBasicAuthHeaderRemoverInterceptor;
+import static de.wps.radvis.backend.reverseproxy.CharonConfiguration.KachelCacheInterceptorConfigurer.kachelCacheInterceptor;
 import static de.wps.radvis.backend.reverseproxy.CharonConfiguration.WrapExceptionToHttpStatusNotFoundInterceptorConfigurer.wrapExceptionToHttpStatusNotFound;
 import static de.wps.radvis.backend.reverseproxy.CharonConfiguration.XForwardedPathHeaderAdderInterceptorConfigurer.xForwardedPathHeaderAdderInterceptor;
 import static de.wps.radvis.backend.reverseproxy.CharonConfiguration.XForwardedUriHeaderInterceptorConfigurer.xForwardedUriHeaderInterceptor;
 import static java.time.Duration.ofMinutes;
 import static java.time.Duration.ofSeconds;
 
+import java.nio.file.Path;
+import java.util.Optional;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 
 import com.github.mkopylec.charon.configuration.CharonConfigurer;
 import com.github.mkopylec.charon.forwarding.RequestForwardingException;
@@ -50,6 +57,10 @@ import com.github.mkopylec.charon.forwarding.interceptors.RequestForwardingInter
 import com.github.mkopylec.charon.forwarding.interceptors.RequestForwardingInterceptorConfigurer;
 import com.github.mkopylec.charon.forwarding.interceptors.RequestForwardingInterceptorType;
 
+import de.wps.radvis.backend.reverseproxy.domain.KachelCacheService;
+import de.wps.radvis.backend.reverseproxy.domain.valueObject.Kachel;
+import de.wps.radvis.backend.reverseproxy.domain.valueObject.KachelSchluessel;
+
 @Configuration
 @ComponentScan
 class CharonConfiguration {
@@ -69,6 +80,13 @@ class CharonConfiguration {
 		return registrationBean;
 	}
 
+	@Bean
+	KachelCacheService kachelCacheService() {
+		return new KachelCacheService(Path.of(reverseproxyConfiguarationProperties.getKachelCacheVerzeichnis()),
+			reverseproxyConfiguarationProperties.getKachelCacheMaximaleAnzahl(),
+			reverseproxyConfiguarationProperties.getKachelCacheMaximalesAlter());
+	}
+
 	@Bean
 	@Order(20)
 	CharonConfigurer charonConfigurer() {
@@ -89,7 +107,8 @@ class CharonConfiguration {
 					.set(
 						regexRequestPathRewriter()
 							.paths("api/geoserver/saml/(?<path>.*)", "geoserver/<path>"))
-					.set(xForwardedPathHeaderAdderInterceptor().basePath("api/geoserver/saml")))
+					.set(xForwardedPathHeaderAdderInterceptor().basePath("api/geoserver/saml"))
+					.set(kachelCacheInterceptor().kachelCacheService(kachelCacheService())))
 			.add(
 				requestMapping("geoserver status")
 					.pathRegex("/health-check/geoserver")
@@ -108,7 +127,8 @@ class CharonConfiguration {
 					.set(
 						regexRequestPathRewriter()
 							.paths("api/geoserver/saml/(?<path>.*)", "geoserver/<path>"))
-					.set(xForwardedPathHeaderAdderInterceptor().basePath("api/geoserver/saml")))
+					.set(xForwardedPathHeaderAdderInterceptor().basePath("api/geoserver/saml"))
+					.set(kachelCacheInterceptor().kachelCacheService(kachelCacheService())))
 			.add(
 				requestMapping("geoserver status (datei-layer)")
 					.pathRegex("/health-check/geoserver-datei-layer")
@@ -165,6 +185,101 @@ class CharonConfiguration {
 					.set(xForwardedUriHeaderInterceptor().basePath("/matomo")));
 	}
 
+	/**
+	 * Beantwortet gekachelte GetMap-Anfragen aus dem {@link KachelCacheService} und legt neu gerenderte Kacheln dort
+	 * ab. Über den ETag können Browser eine bereits geladene Kachel mit 304 bestätigen lassen, statt sie erneut zu
+	 * laden.
+	 */
+	static class KachelCacheInterceptor implements RequestForwardingInterceptor {
+
+		private KachelCacheService kachelCacheService;
+
+		@Override
+		public HttpResponse forward(HttpRequest request, HttpRequestExecution execution) {
+			Optional<KachelSchluessel> schluessel = Optional.empty();
+			if (HttpMethod.GET.equals(request.getMethod())) {
+				schluessel = KachelSchluessel.vonGetMapAnfrage(request.getURI())
+					.filter(kachelCacheService::istCachebar);
+			}
+			if (schluessel.isEmpty()) {
+				return execution.execute(request);
+			}
+
+			Optional<Kachel> gecachteKachel = kachelCacheService.lade(schluessel.get());
+			if (gecachteKachel.isPresent()) {
+				return beantworteAusCache(request, gecachteKachel.get());
+			}
+
+			long invalidierungsstand = kachelCacheService.getInvalidierungsstand();
+			HttpResponse response = execution.execute(request);
+			MediaType contentType = response.getHeaders().getContentType();
+			// Fehler meldet der Geoserver teils mit Status 200 als XML, daher werden nur Bilder übernommen
+			if (response.getStatusCode().value() != HttpStatus.OK.value() || contentType == null
+				|| !"image".equals(contentType.getType())) {
+				return response;
+			}
+
+			Kachel kachel = Kachel.of(response.getBodyAsBytes(), contentType.toString());
+			kachelCacheService.speichere(schluessel.get(), kachel, invalidierungsstand);
+
+			HttpHeaders headers = copyHeaders(response.getHeaders());
+			headers.setETag(kachel.eTag());
+			headers.setCacheControl(CacheControl.noCache());
+			response.setHeaders(headers);
+			response.setBody(kachel.inhalt());
+			return response;
+		}
+
+		private static HttpResponse beantworteAusCache(HttpRequest request, Kachel kachel) {
+			HttpHeaders headers = new HttpHeaders();
+			headers.setETag(kachel.eTag());
+			// Der Browser soll jedes Mal nachfragen, damit eine Invalidierung sofort sichtbar wird
+			headers.setCacheControl(CacheControl.noCache());
+
+			boolean unveraendert = request.getHeaders().getIfNoneMatch().stream()
+				.map(eTag -> eTag.startsWith("W/") ? eTag.substring(2) : eTag)
+				.anyMatch(eTag -> eTag.equals(kachel.eTag()) || eTag.equals("*"));
+			if (unveraendert) {
+				HttpResponse response = new HttpResponse(HttpStatus.NOT_MODIFIED);
+				response.setHeaders(headers);
+				return response;
+			}
+
+			headers.set(HttpHeaders.CONTENT_TYPE, kachel.contentType());
+			headers.setContentLength(kachel.inhalt().length);
+			HttpResponse response = new HttpResponse(HttpStatus.OK);
+			response.setHeaders(headers);
+			response.setBody(kachel.inhalt());
+			return response;
+		}
+
+		@Override
+		public RequestForwardingInterceptorType getType() {
+			return new RequestForwardingInterceptorType(1000);
+		}
+
+		public void setKachelCacheService(KachelCacheService kachelCacheService) {
+			this.kachelCacheService = kachelCacheService;
+		}
+	}
+
+	static class KachelCacheInterceptorConfigurer
+		extends RequestForwardingInterceptorConfigurer<KachelCacheInterceptor> {
+
+		private KachelCacheInterceptorConfigurer() {
+			super(new KachelCacheInterceptor());
+		}
+
+		static KachelCacheInterceptorConfigurer kachelCacheInterceptor() {
+			return new KachelCacheInterceptorConfigurer();
+		}
+
+		KachelCacheInterceptorConfigurer kachelCacheService(KachelCacheService kachelCacheService) {
+			configuredObject.setKachelCacheService(kachelCacheService);
+			return this;
+		}
+	}
+
 	static class HttpBasicAuthHeaderRemoverInterceptor implements RequestForwardingInterceptor {
 
 		@Override
@@ -17,6 +17,8 @@ package de.wps.radvis.backend.reverseproxy;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.valid4j.Assertive.require;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
 import org.springframework.validation.annotation.Validated;
@@ -41,6 +43,19 @@ public class ReverseproxyConfiguarationProperties {
 
 	private final String geoserverHealthCheckUrl;
 
+	/**
+	 * Verzeichnis, in dem gerenderte WMS-Kacheln des Geoservers zwischengespeichert werden. Die Kacheln liegen in einem
+	 * eigenen Unterverzeichnis, das beim Start geleert wird.
+	 */
+	private final String kachelCacheVerzeichnis;
+
+	/**
+	 * Maximale Anzahl zwischengespeicherter Kacheln. 0 deaktiviert den Kachel-Cache.
+	 */
+	private final int kachelCacheMaximaleAnzahl;
+
+	private final Duration kachelCacheMaximalesAlter;
+
 	@ConstructorBinding
 	public ReverseproxyConfiguarationProperties(
 		String geoserverUrl,
@@ -50,10 +65,16 @@ public class ReverseproxyConfiguarationProperties {
 		String grafanaUrl,
 		String matomoUrl,
 		String beschilderungsKatasterDomain,
-		String beschilderungsKatasterPath, String geoserverHealthCheckUrl) {
+		String beschilderungsKatasterPath, String geoserverHealthCheckUrl,
+		String kachelCacheVerzeichnis,
+		int kachelCacheMaximaleAnzahl,
+		int kachelCacheMaximalesAlterInMinuten) {
 		require(geoserverUrl, notNullValue());
 		require(beschilderungsKatasterDomain, notNullValue());
 		require(geoserverHealthCheckUrl, notNullValue());
+		require(kachelCacheVerzeichnis, notNullValue());
+		require(kachelCacheMaximaleAnzahl >= 0, "Die maximale Anzahl Kacheln darf nicht negativ sein");
+		require(kachelCacheMaximalesAlterInMinuten > 0, "Das maximale Alter der Kacheln muss größer 0 sein");
 
 		this.beschilderungsKatasterDomain = beschilderungsKatasterDomain;
 		this.beschilderungsKatasterPath = beschilderungsKatasterPath;
@@ -64,6 +85,9 @@ public class ReverseproxyConfiguarationProperties {
 		this.geoserverDateiLayerUrl = geoserverDateiLayerUrl;
 		this.grafanaUrl = grafanaUrl;
 		this.geoserverHealthCheckUrl = geoserverHealthCheckUrl;
+		this.kachelCacheVerzeichnis = kachelCacheVerzeichnis;
+		this.kachelCacheMaximaleAnzahl = kachelCacheMaximaleAnzahl;
+		this.kachelCacheMaximalesAlter = Duration.ofMinutes(kachelCacheMaximalesAlterInMinuten);
 	}
 
 }
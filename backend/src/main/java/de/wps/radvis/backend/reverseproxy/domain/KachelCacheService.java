@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.reverseproxy.domain;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.valid4j.Assertive.require;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.locationtech.jts.geom.Envelope;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import de.wps.radvis.backend.netz.domain.event.NetzMaterializedViewsAktualisiertEvent;
+import de.wps.radvis.backend.reverseproxy.domain.valueObject.Kachel;
+import de.wps.radvis.backend.reverseproxy.domain.valueObject.KachelSchluessel;
+import de.wps.radvis.backend.weitereKartenebenen.domain.event.DateiLayerGeaendertEvent;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hält gerenderte WMS-Kacheln des Geoservers auf der Platte vor. Die Zuordnung der Schlüssel zu den Dateien liegt nur
+ * im Speicher, die Kacheldateien werden daher beim Start gelöscht. So können auch keine Kacheln überleben, deren
+ * Invalidierung während eines Neustarts verpasst wurde. Die Kacheln liegen in einem eigenen Unterverzeichnis des
+ * konfigurierten Verzeichnisses, gelöscht werden dort nur Dateien nach dem Namensschema des Caches.
+ * <p>
+ * Zwischengespeichert werden nur Layer, deren Daten sich ausschließlich mit einem der behandelten Events ändern.
+ * Layer auf laufend bearbeiteten Tabellen (z.B. Maßnahmen) werden immer vom Geoserver abgefragt.
+ */
+@Slf4j
+public class KachelCacheService {
+
+	/**
+	 * Layer auf den Netz-Materialized-Views, deren Zeilen sich nur mit dem Versionsstand einer Kante ändern. Sie
+	 * werden nach einer inkrementellen Aktualisierung nur im Bereich der neu berechneten Kanten invalidiert.
+	 */
+	private static final Set<String> NETZ_LAYER_MIT_KANTENBEZUG = Set.of(
+		"radvis:radvisnetz",
+		"radvis:radvisnetz_klassifiziert",
+		"radvis:radvisnetz_kante_abschnitte");
+
+	/**
+	 * Weitere Layer auf den Netz-Materialized-Views, die bei jeder Aktualisierung vollständig invalidiert werden.
+	 * Dazu gehören auch Layer, deren Zeilen zwar an einer Kante hängen, aber Daten außerhalb der Kante zusammenfassen
+	 * (z.B. die Fahrradrouten-Zugehörigkeit in geoserver_balm_kanten_view).
+	 */
+	private static final Set<String> NETZ_LAYER_OHNE_KANTENBEZUG = Set.of(
+		"balm:Knoten",
+		"balm:Streckenabschnitt",
+		"balm:Route",
+		"balm:Wegweisung");
+
+	private static final String DATEI_LAYER_WORKSPACE = "datei-layer";
+
+	static final String KACHEL_VERZEICHNIS = "kacheln";
+
+	private static final Pattern KACHEL_UNTERVERZEICHNIS = Pattern.compile("[0-9a-f]{2}");
+	private static final Pattern KACHEL_DATEI = Pattern.compile("[0-9a-f]{64}-[0-9a-f]{64}|kachel-[0-9]+\\.tmp");
+
+	private record CacheEintrag(String contentType, String eTag, Instant erzeugtUm) {
+	}
+
+	private final Path verzeichnis;
+	private final int maximaleAnzahl;
+	private final Duration maximalesAlter;
+	private final Clock clock;
+
+	private final Map<KachelSchluessel, CacheEintrag> eintraege;
+
+	/**
+	 * Wird bei jeder Invalidierung erhöht. Eine Kachel, während deren Abfrage invalidiert wurde, wird nicht in den
+	 * Cache übernommen, da sie bereits veraltet sein könnte.
+	 */
+	private long invalidierungen = 0;
+
+	public KachelCacheService(Path verzeichnis, int maximaleAnzahl, Duration maximalesAlter) {
+		this(verzeichnis, maximaleAnzahl, maximalesAlter, Clock.systemDefaultZone());
+	}
+
+	KachelCacheService(Path verzeichnis, int maximaleAnzahl, Duration maximalesAlter, Clock clock) {
+		require(verzeichnis, notNullValue());
+		require(maximaleAnzahl >= 0, "Die maximale Anzahl Kacheln darf nicht negativ sein");
+		require(maximalesAlter, notNullValue());
+		require(clock, notNullValue());
+		this.verzeichnis = verzeichnis.resolve(KACHEL_VERZEICHNIS);
+		this.maximaleAnzahl = maximaleAnzahl;
+		this.maximalesAlter = maximalesAlter;
+		this.clock = clock;
+		this.eintraege = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<KachelSchluessel, CacheEintrag> eldest) {
+				if (size() > maximaleAnzahl) {
+					loescheDatei(eldest.getKey(), eldest.getValue());
+					return true;
+				}
+				return false;
+			}
+		};
+		leereVerzeichnis();
+	}
+
+	public boolean istCachebar(KachelSchluessel schluessel) {
+		return maximaleAnzahl > 0 && schluessel.getLayer().stream().allMatch(layer ->
+			NETZ_LAYER_MIT_KANTENBEZUG.contains(layer)
+				|| NETZ_LAYER_OHNE_KANTENBEZUG.contains(layer)
+				|| layer.startsWith(DATEI_LAYER_WORKSPACE + ":"));
+	}
+
+	public Optional<Kachel> lade(KachelSchluessel schluessel) {
+		CacheEintrag eintrag;
+		synchronized (eintraege) {
+			eintrag = eintraege.get(schluessel);
+			if (eintrag == null) {
+				return Optional.empty();
+			}
+			if (eintrag.erzeugtUm().plus(maximalesAlter).isBefore(clock.instant())) {
+				eintraege.remove(schluessel);
+				loescheDatei(schluessel, eintrag);
+				return Optional.empty();
+			}
+		}
+
+		// Die Datei wird außerhalb der Synchronisation gelesen. Wurde sie zwischenzeitlich invalidiert, ist das ein
+		// Cache-Miss.
+		try {
+			return Optional.of(
+				new Kachel(Files.readAllBytes(getPfad(schluessel, eintrag)), eintrag.contentType(), eintrag.eTag()));
+		} catch (IOException e) {
+			log.debug("Kachel {} konnte nicht gelesen werden", schluessel, e);
+			return Optional.empty();
+		}
+	}
+
+	public long getInvalidierungsstand() {
+		synchronized (eintraege) {
+			return invalidierungen;
+		}
+	}
+
+	/**
+	 * Übernimmt die Kachel in den Cache, sofern seit dem übergebenen {@link #getInvalidierungsstand()} nichts
+	 * invalidiert wurde. Fehler beim Schreiben werden nur geloggt, die Kachel wird dann weiterhin vom Geoserver
+	 * abgefragt.
+	 */
+	public void speichere(KachelSchluessel schluessel, Kachel kachel, long invalidierungsstandVorAbfrage) {
+		CacheEintrag eintrag = new CacheEintrag(kachel.contentType(), kachel.eTag(), clock.instant());
+		Path pfad = getPfad(schluessel, eintrag);
+		try {
+			// Dateien werden nur vollständig sichtbar, da parallele Leser sonst eine halbe Kachel ausliefern könnten
+			Files.createDirectories(pfad.getParent());
+			Path temporaereDatei = Files.createTempFile(pfad.getParent(), "kachel-", ".tmp");
+			try {
+				Files.write(temporaereDatei, kachel.inhalt());
+				Files.move(temporaereDatei, pfad, StandardCopyOption.ATOMIC_MOVE,
+					StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				Files.deleteIfExists(temporaereDatei);
+			}
+		} catch (IOException e) {
+			log.warn("Kachel {} konnte nicht im Cache abgelegt werden", schluessel, e);
+			return;
+		}
+
+		synchronized (eintraege) {
+			if (invalidierungen != invalidierungsstandVorAbfrage) {
+				loescheDatei(schluessel, eintrag);
+				return;
+			}
+			CacheEintrag vorheriger = eintraege.put(schluessel, eintrag);
+			if (vorheriger != null && !vorheriger.eTag().equals(eintrag.eTag())) {
+				loescheDatei(schluessel, vorheriger);
+			}
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onNetzMaterializedViewsAktualisiert(NetzMaterializedViewsAktualisiertEvent event) {
+		Optional<Envelope> geaenderterBereich = event.getGeaenderterBereich();
+		// Ohne Bereich wurden die Views vollständig neu aufgebaut, dann ist jede Kachel betroffen
+		invalidiere(schluessel -> schluessel.getLayer().stream().anyMatch(layer ->
+			NETZ_LAYER_OHNE_KANTENBEZUG.contains(layer)
+				|| (NETZ_LAYER_MIT_KANTENBEZUG.contains(layer) && geaenderterBereich
+				.map(bereich -> bereich.intersects(schluessel.getBereichMitPuffer()))
+				.orElse(true))));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onDateiLayerGeaendert(DateiLayerGeaendertEvent event) {
+		String layer = DATEI_LAYER_WORKSPACE + ":" + event.getGeoserverLayerName().getValue();
+		invalidiere(schluessel -> schluessel.getLayer().contains(layer));
+	}
+
+	private void invalidiere(Predicate<KachelSchluessel> betroffen) {
+		synchronized (eintraege) {
+			int anzahlVorher = eintraege.size();
+			Iterator<Map.Entry<KachelSchluessel, CacheEintrag>> iterator = eintraege.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<KachelSchluessel, CacheEintrag> eintrag = iterator.next();
+				if (betroffen.test(eintrag.getKey())) {
+					iterator.remove();
+					loescheDatei(eintrag.getKey(), eintrag.getValue());
+				}
+			}
+			invalidierungen++;
+			log.info("{} Kacheln im Kachel-Cache invalidiert", anzahlVorher - eintraege.size());
+		}
+	}
+
+	private void leereVerzeichnis() {
+		try {
+			Files.createDirectories(verzeichnis);
+			try (Stream<Path> unterverzeichnisse = Files.list(verzeichnis)) {
+				for (Path unterverzeichnis : unterverzeichnisse.filter(pfad -> Files.isDirectory(pfad)
+					&& KACHEL_UNTERVERZEICHNIS.matcher(pfad.getFileName().toString()).matches()).toList()) {
+					try (Stream<Path> dateien = Files.list(unterverzeichnis)) {
+						for (Path datei : dateien.filter(pfad -> Files.isRegularFile(pfad)
+							&& KACHEL_DATEI.matcher(pfad.getFileName().toString()).matches()).toList()) {
+							Files.delete(datei);
+						}
+					}
+					try (Stream<Path> verbliebene = Files.list(unterverzeichnis)) {
+						if (verbliebene.findAny().isEmpty()) {
+							Files.delete(unterverzeichnis);
+						}
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Das Verzeichnis des Kachel-Caches konnte nicht geleert werden", e);
+		}
+	}
+
+	private void loescheDatei(KachelSchluessel schluessel, CacheEintrag eintrag) {
+		try {
+			Files.deleteIfExists(getPfad(schluessel, eintrag));
+		} catch (IOException e) {
+			log.warn("Kachel {} konnte nicht aus dem Cache gelöscht werden", schluessel, e);
+		}
+	}
+
+	/**
+	 * Der ETag ist Teil des Dateinamens. Eine neu gerenderte Kachel mit anderem Inhalt überschreibt also nie die
+	 * Datei, die ein paralleler Leser gerade zu ihrem ETag ausliefert.
+	 */
+	private Path getPfad(KachelSchluessel schluessel, CacheEintrag eintrag) {
+		String hash = schluessel.getHash();
+		return verzeichnis.resolve(hash.substring(0, 2)).resolve(hash + "-" + eintrag.eTag().replace("\"", ""));
+	}
+}
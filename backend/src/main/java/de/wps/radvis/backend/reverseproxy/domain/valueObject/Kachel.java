@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.reverseproxy.domain.valueObject;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Eine vom Geoserver gerenderte Kachel. Der ETag wird aus dem Inhalt berechnet und ist bereits in Anführungszeichen
+ * gesetzt, wie es der HTTP-Header erwartet.
+ */
+public record Kachel(
+	byte[] inhalt,
+	String contentType,
+	String eTag
+) {
+	public static Kachel of(byte[] inhalt, String contentType) {
+		try {
+			String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(inhalt));
+			return new Kachel(inhalt, contentType, "\"" + hash + "\"");
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException("SHA-256 wird von der Laufzeitumgebung nicht unterstützt", e);
+		}
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.reverseproxy.domain.valueObject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.locationtech.jts.geom.Envelope;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Schlüssel einer gekachelten WMS-GetMap-Anfrage. Parameternamen werden unabhängig von Groß-/Kleinschreibung und
+ * Reihenfolge verglichen, Layer ohne Workspace um den Workspace aus dem Pfad ergänzt und die BBOX auf Millimeter
+ * gerundet, so dass dieselbe Kachel verschiedener Clients denselben Schlüssel erhält.
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class KachelSchluessel {
+
+	private static final Pattern WMS_PFAD = Pattern.compile(".*/(?<workspace>[^/]+)/wms/?");
+	private static final String CRS = "EPSG:" + KoordinatenReferenzSystem.ETRS89_UTM32_N.getSrid();
+	private static final int BBOX_NACHKOMMASTELLEN = 3;
+
+	/**
+	 * Anteil der Kachelgröße, um den der Bereich beim Invalidieren erweitert wird. Linien und Symbole werden auch
+	 * über den Rand ihrer Geometrie hinaus gezeichnet.
+	 */
+	private static final double PUFFER_ANTEIL = 0.1;
+
+	/**
+	 * Die angefragten Layer jeweils mit Workspace, z.B. {@code radvis:radvisnetz}.
+	 */
+	@Getter
+	private final List<String> layer;
+
+	@Getter
+	private final Envelope bereich;
+
+	@Getter
+	@EqualsAndHashCode.Include
+	private final String normalisierteAnfrage;
+
+	private KachelSchluessel(List<String> layer, Envelope bereich, String normalisierteAnfrage) {
+		this.layer = layer;
+		this.bereich = bereich;
+		this.normalisierteAnfrage = normalisierteAnfrage;
+	}
+
+	/**
+	 * Liefert den Schlüssel, wenn die Anfrage eine an das Kachelraster ausgerichtete GetMap-Anfrage (TILED=true) im
+	 * RadVIS-Koordinatenreferenzsystem ist. Nur dann lässt sich die Antwort wiederverwenden und über ihren Bereich
+	 * invalidieren.
+	 */
+	public static Optional<KachelSchluessel> vonGetMapAnfrage(URI uri) {
+		if (uri.getRawPath() == null || uri.getRawQuery() == null) {
+			return Optional.empty();
+		}
+		Matcher matcher = WMS_PFAD.matcher(uri.getRawPath());
+		if (!matcher.matches()) {
+			return Optional.empty();
+		}
+		String workspace = UriUtils.decode(matcher.group("workspace"), StandardCharsets.UTF_8)
+			.toLowerCase(Locale.ROOT);
+
+		Map<String, String> parameter = new TreeMap<>();
+		UriComponentsBuilder.fromUri(uri).build().getQueryParams().forEach((name, werte) -> parameter.putIfAbsent(
+			UriUtils.decode(name, StandardCharsets.UTF_8).toUpperCase(Locale.ROOT),
+			werte.get(0) == null ? "" : UriUtils.decode(werte.get(0), StandardCharsets.UTF_8)));
+
+		if (!"GetMap".equalsIgnoreCase(parameter.get("REQUEST"))
+			|| !"WMS".equalsIgnoreCase(parameter.getOrDefault("SERVICE", "WMS"))
+			|| !"true".equalsIgnoreCase(parameter.get("TILED"))
+			|| !CRS.equalsIgnoreCase(parameter.getOrDefault("CRS", parameter.get("SRS")))
+			|| !parameter.containsKey("WIDTH") || !parameter.containsKey("HEIGHT")
+			|| parameter.getOrDefault("LAYERS", "").isBlank()) {
+			return Optional.empty();
+		}
+
+		Optional<Envelope> bereich = parseBbox(parameter.get("BBOX"));
+		if (bereich.isEmpty()) {
+			return Optional.empty();
+		}
+
+		List<String> layer = Arrays.stream(parameter.get("LAYERS").split(","))
+			.map(String::trim)
+			.map(name -> name.contains(":") ? name : workspace + ":" + name)
+			.toList();
+
+		parameter.put("REQUEST", "GetMap");
+		parameter.put("SERVICE", "WMS");
+		parameter.put("TILED", "true");
+		parameter.computeIfPresent("CRS", (name, wert) -> CRS);
+		parameter.computeIfPresent("SRS", (name, wert) -> CRS);
+		parameter.computeIfPresent("FORMAT", (name, wert) -> wert.toLowerCase(Locale.ROOT));
+		parameter.put("LAYERS", String.join(",", layer));
+		parameter.put("BBOX", formatiereBbox(bereich.get()));
+
+		String normalisierteAnfrage = workspace + "/wms?" + parameter.entrySet().stream()
+			.map(eintrag -> eintrag.getKey() + "=" + eintrag.getValue())
+			.collect(Collectors.joining("&"));
+		return Optional.of(new KachelSchluessel(layer, bereich.get(), normalisierteAnfrage));
+	}
+
+	/**
+	 * SHA-256 der normalisierten Anfrage, z.B. als Dateiname.
+	 */
+	public String getHash() {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+				.digest(normalisierteAnfrage.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException("SHA-256 wird von der Laufzeitumgebung nicht unterstützt", e);
+		}
+	}
+
+	public Envelope getBereichMitPuffer() {
+		Envelope bereichMitPuffer = new Envelope(bereich);
+		bereichMitPuffer.expandBy(bereich.getWidth() * PUFFER_ANTEIL, bereich.getHeight() * PUFFER_ANTEIL);
+		return bereichMitPuffer;
+	}
+
+	private static Optional<Envelope> parseBbox(String bbox) {
+		if (bbox == null) {
+			return Optional.empty();
+		}
+		String[] werte = bbox.split(",");
+		if (werte.length != 4) {
+			return Optional.empty();
+		}
+		double[] koordinaten;
+		try {
+			koordinaten = Arrays.stream(werte).mapToDouble(Double::parseDouble).toArray();
+		} catch (NumberFormatException e) {
+			return Optional.empty();
+		}
+		if (!Arrays.stream(koordinaten).allMatch(Double::isFinite)) {
+			return Optional.empty();
+		}
+		// Gleitkommaungenauigkeiten der Clients (z.B. 500000.00000000006) sollen keinen neuen Schlüssel ergeben
+		double[] gerundet = Arrays.stream(koordinaten)
+			.map(wert -> BigDecimal.valueOf(wert).setScale(BBOX_NACHKOMMASTELLEN, RoundingMode.HALF_UP).doubleValue())
+			.toArray();
+		return Optional.of(new Envelope(gerundet[0], gerundet[2], gerundet[1], gerundet[3]));
+	}
+
+	private static String formatiereBbox(Envelope bereich) {
+		return Arrays.stream(
+				new double[] { bereich.getMinX(), bereich.getMinY(), bereich.getMaxX(), bereich.getMaxY() })
+			.mapToObj(wert -> BigDecimal.valueOf(wert).stripTrailingZeros().toPlainString())
+			.collect(Collectors.joining(","));
+	}
+
+	@Override
+	public String toString() {
+		return normalisierteAnfrage;
+	}
+}
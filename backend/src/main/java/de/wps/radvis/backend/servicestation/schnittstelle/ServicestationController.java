@@ -15,10 +15,12 @@
 package de.wps.radvis.backend.servicestation.schnittstelle;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -40,6 +42,7 @@ import de.wps.radvis.backend.common.domain.exception.CsvImportException;
 import de.wps.radvis.backend.common.domain.exception.CsvReadException;
 import de.wps.radvis.backend.common.domain.repository.CsvRepository;
 import de.wps.radvis.backend.common.domain.valueObject.CsvData;
+import de.wps.radvis.backend.dokument.domain.DokumentService;
 import de.wps.radvis.backend.dokument.domain.entity.Dokument;
 import de.wps.radvis.backend.dokument.schnittstelle.AddDokumentCommand;
 import de.wps.radvis.backend.dokument.schnittstelle.view.DokumenteView;
@@ -64,6 +67,7 @@ public class ServicestationController {
 	private final BenutzerResolver benutzerResolver;
 	private final ServicestationGuard servicestationGuard;
 	private final SaveServicestationCommandConverter saveServicestationCommandConverter;
+	private final DokumentService dokumentService;
 
 	@PostMapping("new")
 	@WithAuditing(context = AuditingContext.SAVE_SERVICESTATION_COMMAND)
@@ -110,7 +114,7 @@ public class ServicestationController {
 	}
 
 	@GetMapping("{servicestationId}/dokument/{dokumentId}")
-	public ResponseEntity<byte[]> getDokument(@PathVariable("servicestationId") Long servicestationId,
+	public ResponseEntity<Resource> getDokument(@PathVariable("servicestationId") Long servicestationId,
 		@PathVariable("dokumentId") Long dokumentId) {
 		Dokument dokument = service.getDokument(servicestationId, dokumentId);
 
@@ -122,9 +126,8 @@ public class ServicestationController {
 
 		return ResponseEntity.ok()
 			.contentType(MediaType.parseMediaType(MediaType.APPLICATION_OCTET_STREAM_VALUE))
-			.contentLength(dokument.getDateigroesseInBytes())
 			.headers(headers)
-			.body(dokument.getDatei());
+			.body(dokumentService.getDateiinhalt(dokument));
 	}
 
 	@PostMapping(path = "{servicestationId}/dokument", consumes = {
@@ -136,13 +139,15 @@ public class ServicestationController {
 		@RequestPart AddDokumentCommand command,
 		@RequestPart MultipartFile file,
 		Authentication authentication) throws IOException {
-		service.addDokument(
-			servicestationId,
-			new Dokument(
-				command.getFilename(),
-				benutzerResolver.fromAuthentication(authentication),
-				file.getBytes(),
-				LocalDateTime.now()));
+		try (InputStream inhalt = file.getInputStream()) {
+			service.addDokument(
+				servicestationId,
+				dokumentService.erstelleDokument(
+					command.getFilename(),
+					benutzerResolver.fromAuthentication(authentication),
+					inhalt,
+					LocalDateTime.now()));
+		}
 	}
 
 	@DeleteMapping("{servicestationId}/dokument/{dokumentId}")
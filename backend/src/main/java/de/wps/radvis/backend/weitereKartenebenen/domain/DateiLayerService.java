@@ -26,7 +26,9 @@ import java.util.Optional;
 import org.springframework.web.multipart.MultipartFile;
 
 import de.wps.radvis.backend.benutzer.domain.entity.Benutzer;
+import de.wps.radvis.backend.common.domain.RadVisDomainEventPublisher;
 import de.wps.radvis.backend.weitereKartenebenen.domain.entity.DateiLayer;
+import de.wps.radvis.backend.weitereKartenebenen.domain.event.DateiLayerGeaendertEvent;
 import de.wps.radvis.backend.weitereKartenebenen.domain.exception.SldValidationException;
 import de.wps.radvis.backend.weitereKartenebenen.domain.repository.DateiLayerRepository;
 import de.wps.radvis.backend.weitereKartenebenen.domain.repository.GeoserverRepository;
@@ -90,6 +92,7 @@ public class DateiLayerService {
 		if (dateiLayer.hasStyle()) {
 			geoserverRepository.deleteStyle(dateiLayer.getGeoserverStyleName());
 		}
+		RadVisDomainEventPublisher.publish(new DateiLayerGeaendertEvent(dateiLayer.getGeoserverLayerName()));
 	}
 
 	public void validateStyleForLayer(Long layerId, MultipartFile sldFile) throws IOException, InterruptedException {
@@ -169,6 +172,7 @@ public class DateiLayerService {
 		// Dann wollen wir den Style am Layer auch nicht entfernen.
 		geoserverRepository.deleteStyle(dateiLayer.get().getGeoserverStyleName());
 		dateiLayer.get().removeStyle();
+		RadVisDomainEventPublisher.publish(new DateiLayerGeaendertEvent(dateiLayer.get().getGeoserverLayerName()));
 	}
 
 	@Transactional
@@ -222,6 +226,7 @@ public class DateiLayerService {
 
 		log.info("Style {} wurde als Default an Layer {} gesetzt", geoserverStyleName, dateiLayer.getName());
 		dateiLayer.setStyle(geoserverStyleName, sldFile.getOriginalFilename());
+		RadVisDomainEventPublisher.publish(new DateiLayerGeaendertEvent(dateiLayer.getGeoserverLayerName()));
 		return true;
 	}
 }
\ No newline at end of file
@@ -14,20 +14,24 @@
 
 package de.wps.radvis.backend.abfrage.netzausschnitt.domain;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -36,13 +40,16 @@ import de.wps.radvis.backend.common.domain.JobExecutionDescriptionRepository;
 import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
 import de.wps.radvis.backend.common.domain.valueObject.QuellSystem;
 import de.wps.radvis.backend.netz.domain.entity.Kante;
+import de.wps.radvis.backend.netz.domain.entity.KanteDeleteStatistik;
 import de.wps.radvis.backend.netz.domain.entity.NetzklassenStreckeVonKanten;
 import de.wps.radvis.backend.netz.domain.entity.provider.KanteTestDataProvider;
 import de.wps.radvis.backend.netz.domain.entity.provider.KnotenTestDataProvider;
 import de.wps.radvis.backend.netz.domain.event.KanteGeometrieChangedEvent;
+import de.wps.radvis.backend.netz.domain.event.KantenDeletedEvent;
 import de.wps.radvis.backend.netz.domain.event.RadNetzZugehoerigkeitChangedEvent;
 import de.wps.radvis.backend.netz.domain.repository.KantenRepository;
 import de.wps.radvis.backend.netz.domain.service.NetzklassenStreckenViewService;
+import de.wps.radvis.backend.netz.domain.valueObject.NetzAenderungAusloeser;
 import de.wps.radvis.backend.quellimport.grundnetz.domain.DLMConfigurationProperties;
 import jakarta.persistence.EntityManager;
 
@@ -69,6 +76,7 @@ class BuildNetzklassenStreckenSignaturViewJobTest {
 		@BeforeEach
 		void beforeEach() {
 			MockitoAnnotations.openMocks(this);
+			when(streckeViewCacheRepository.hasCache()).thenReturn(true);
 
 			buildNetzklassenStreckenSignaturViewJob = new BuildNetzklassenStreckenSignaturViewJob(
 				jobExecutionDescriptionRepository,
@@ -83,17 +91,21 @@ class BuildNetzklassenStreckenSignaturViewJobTest {
 			final var streckeVonKanten = mock(NetzklassenStreckeVonKanten.class);
 			when(streckeVonKanten.getKanten()).thenReturn(
 				List.of(KanteTestDataProvider.withDefaultValues().id(kanteId).build()));
-			when(streckeViewCacheRepository.getStreckenVonKanten()).thenReturn(Set.of(streckeVonKanten));
+			when(streckeViewCacheRepository.getStreckeMitKante(kanteId))
+				.thenReturn(Optional.of(streckeVonKanten));
 
 			final var neueKante = mock(Kante.class);
 			when(kantenRepository.findById(kanteId)).thenReturn(Optional.of(neueKante));
 
 			// Act
-			buildNetzklassenStreckenSignaturViewJob.onKanteGeometrieChanged(new KanteGeometrieChangedEvent(kanteId));
+			buildNetzklassenStreckenSignaturViewJob.onKanteGeometrieChanged(
+				new KanteGeometrieChangedEvent(kanteId, new Envelope(0, 10, 0, 10)));
 
 			// Assert
+			verify(streckeViewCacheRepository).removeStrecke(streckeVonKanten);
 			verify(streckeVonKanten).updateKanteInStrecke(neueKante);
-			verify(streckeViewCacheRepository).reloadCache();
+			verify(streckeViewCacheRepository).addStrecke(streckeVonKanten);
+			verify(streckeViewCacheRepository, never()).reloadCache();
 		}
 
 		@Test
@@ -110,7 +122,7 @@ class BuildNetzklassenStreckenSignaturViewJobTest {
 
 			// Assert
 			verify(streckeViewCacheRepository).addStrecke(any(NetzklassenStreckeVonKanten.class));
-			verify(streckeViewCacheRepository).reloadCache();
+			verify(streckeViewCacheRepository, never()).reloadCache();
 		}
 
 		@Test
@@ -140,7 +152,8 @@ class BuildNetzklassenStreckenSignaturViewJobTest {
 			final var streckeVonKanten = new NetzklassenStreckeVonKanten(kanten.get(0), true, false);
 			streckeVonKanten.addKante(kanten.get(1), false);
 			streckeVonKanten.addKante(kanten.get(2), true);
-			when(streckeViewCacheRepository.getStreckenVonKanten()).thenReturn(List.of(streckeVonKanten));
+			when(streckeViewCacheRepository.getStreckeMitKante(kanten.get(1).getId()))
+				.thenReturn(Optional.of(streckeVonKanten));
 
 			// Act
 			buildNetzklassenStreckenSignaturViewJob.onNetzklassenZugehoerigkeitChanged(
@@ -148,8 +161,10 @@ class BuildNetzklassenStreckenSignaturViewJobTest {
 					kantenAttributGruppeId, false));
 
 			// Assert
-			verify(streckeViewCacheRepository).addStrecke(any(NetzklassenStreckeVonKanten.class));
-			verify(streckeViewCacheRepository).reloadCache();
+			verify(streckeViewCacheRepository).removeStrecke(streckeVonKanten);
+			verify(streckeViewCacheRepository).addStrecke(streckeVonKanten);
+			verify(streckeViewCacheRepository, times(2)).addStrecke(any(NetzklassenStreckeVonKanten.class));
+			assertThat(streckeVonKanten.getKanten()).containsExactly(kanten.get(0));
 		}
 
 		@Test
@@ -176,7 +191,8 @@ class BuildNetzklassenStreckenSignaturViewJobTest {
 			when(kantenRepository.findByKantenAttributGruppeId(kantenAttributGruppeId)).thenReturn(kante1);
 
 			final var streckeVonKanten = new NetzklassenStreckeVonKanten(kante1, false, false);
-			when(streckeViewCacheRepository.getStreckenVonKanten()).thenReturn(List.of(streckeVonKanten));
+			when(streckeViewCacheRepository.getStreckeMitKante(kante1.getId()))
+				.thenReturn(Optional.of(streckeVonKanten));
 
 			// Act
 			buildNetzklassenStreckenSignaturViewJob.onNetzklassenZugehoerigkeitChanged(
@@ -185,8 +201,53 @@ class BuildNetzklassenStreckenSignaturViewJobTest {
 
 			// Assert
 			verify(streckeViewCacheRepository).removeStrecke(streckeVonKanten);
-			verify(streckeViewCacheRepository).reloadCache();
+			verify(streckeViewCacheRepository, never()).addStrecke(any(NetzklassenStreckeVonKanten.class));
+		}
+
+
+		@Test
+		void kantenDeleted_entferntKanteAusStrecke() {
+			// Arrange
+			List<Coordinate[]> streckenCoordinates = List.of(new Coordinate[] {
+				new Coordinate(100, 100),
+				new Coordinate(200, 150),
+			}, new Coordinate[] {
+				new Coordinate(200, 150),
+				new Coordinate(300, 200),
+			});
+
+			List<Kante> kanten = KanteTestDataProvider.createStreckeUeberCoordinates(
+				streckenCoordinates, null, null, new AtomicLong(0), new AtomicLong(0));
+
+			final var streckeVonKanten = new NetzklassenStreckeVonKanten(kanten.get(0), true, false);
+			streckeVonKanten.addKante(kanten.get(1), true);
+			when(streckeViewCacheRepository.getStreckeMitKante(kanten.get(1).getId()))
+				.thenReturn(Optional.of(streckeVonKanten));
+
+			// Act
+			buildNetzklassenStreckenSignaturViewJob.onKantenDeleted(
+				new KantenDeletedEvent(List.of(kanten.get(1).getId(), 999L), List.of(kanten.get(1).getGeometry()),
+					NetzAenderungAusloeser.DLM_REIMPORT_JOB, LocalDateTime.now(), new KanteDeleteStatistik()));
+
+			// Assert
+			verify(streckeViewCacheRepository).removeStrecke(streckeVonKanten);
+			verify(streckeViewCacheRepository).addStrecke(streckeVonKanten);
+			assertThat(streckeVonKanten.getKanten()).containsExactly(kanten.get(0));
+			verify(streckeViewCacheRepository, never()).reloadCache();
 		}
 
+		@Test
+		void cacheNochNichtAufgebaut_ignoriertEvents() {
+			// Arrange
+			when(streckeViewCacheRepository.hasCache()).thenReturn(false);
+
+			// Act
+			buildNetzklassenStreckenSignaturViewJob.onKanteGeometrieChanged(
+				new KanteGeometrieChangedEvent(42L, new Envelope(0, 10, 0, 10)));
+
+			// Assert
+			verify(streckeViewCacheRepository, never()).getStreckeMitKante(any());
+			verify(kantenRepository, never()).findById(any());
+		}
 	}
 }
\ No newline at end of file
@@ -14,20 +14,24 @@
 
 package de.wps.radvis.backend.abfrage.netzausschnitt.domain;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -37,13 +41,16 @@ import de.wps.radvis.backend.common.domain.JobExecutionDescriptionRepository;
 import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
 import de.wps.radvis.backend.common.domain.valueObject.QuellSystem;
 import de.wps.radvis.backend.netz.domain.entity.Kante;
+import de.wps.radvis.backend.netz.domain.entity.KanteDeleteStatistik;
 import de.wps.radvis.backend.netz.domain.entity.StreckeVonKanten;
 import de.wps.radvis.backend.netz.domain.entity.provider.KanteTestDataProvider;
 import de.wps.radvis.backend.netz.domain.entity.provider.KnotenTestDataProvider;
 import de.wps.radvis.backend.netz.domain.event.KanteGeometrieChangedEvent;
+import de.wps.radvis.backend.netz.domain.event.KantenDeletedEvent;
 import de.wps.radvis.backend.netz.domain.event.RadNetzZugehoerigkeitChangedEvent;
 import de.wps.radvis.backend.netz.domain.repository.KantenRepository;
 import de.wps.radvis.backend.netz.domain.service.StreckenViewService;
+import de.wps.radvis.backend.netz.domain.valueObject.NetzAenderungAusloeser;
 import de.wps.radvis.backend.quellimport.grundnetz.domain.DLMConfigurationProperties;
 import jakarta.persistence.EntityManager;
 
@@ -70,6 +77,7 @@ class BuildRadNETZNetzViewCacheJobTest {
 		@BeforeEach
 		void beforeEach() {
 			MockitoAnnotations.openMocks(this);
+			when(radNETZMapViewCacheRepository.hasCache()).thenReturn(true);
 
 			buildRadNETZNetzViewCacheJob = new BuildRadNETZNetzViewCacheJob(jobExecutionDescriptionRepository,
 				kantenRepository, streckenViewService, radNETZMapViewCacheRepository, entityManager,
@@ -83,17 +91,21 @@ class BuildRadNETZNetzViewCacheJobTest {
 			final var streckeVonKanten = mock(StreckeVonKanten.class);
 			when(streckeVonKanten.getKanten()).thenReturn(
 				List.of(KanteTestDataProvider.withDefaultValues().id(kanteId).build()));
-			when(radNETZMapViewCacheRepository.getStreckenVonKanten()).thenReturn(Set.of(streckeVonKanten));
+			when(radNETZMapViewCacheRepository.getStreckeMitKante(kanteId))
+				.thenReturn(Optional.of(streckeVonKanten));
 
 			final var neueKante = mock(Kante.class);
 			when(kantenRepository.findById(kanteId)).thenReturn(Optional.of(neueKante));
 
 			// Act
-			buildRadNETZNetzViewCacheJob.onKanteGeometrieChanged(new KanteGeometrieChangedEvent(kanteId));
+			buildRadNETZNetzViewCacheJob.onKanteGeometrieChanged(
+				new KanteGeometrieChangedEvent(kanteId, new Envelope(0, 10, 0, 10)));
 
 			// Assert
+			verify(radNETZMapViewCacheRepository).removeStrecke(streckeVonKanten);
 			verify(streckeVonKanten).updateKanteInStrecke(neueKante);
-			verify(radNETZMapViewCacheRepository).reloadCache();
+			verify(radNETZMapViewCacheRepository).addStrecke(streckeVonKanten);
+			verify(radNETZMapViewCacheRepository, never()).reloadCache();
 		}
 
 		@Test
@@ -109,7 +121,7 @@ class BuildRadNETZNetzViewCacheJobTest {
 
 			// Assert
 			verify(radNETZMapViewCacheRepository).addStrecke(any(StreckeVonKanten.class));
-			verify(radNETZMapViewCacheRepository).reloadCache();
+			verify(radNETZMapViewCacheRepository, never()).reloadCache();
 		}
 
 		@Test
@@ -139,15 +151,18 @@ class BuildRadNETZNetzViewCacheJobTest {
 			final var streckeVonKanten = new StreckeVonKanten(kanten.get(0), true, false);
 			streckeVonKanten.addKante(kanten.get(1), false);
 			streckeVonKanten.addKante(kanten.get(2), true);
-			when(radNETZMapViewCacheRepository.getStreckenVonKanten()).thenReturn(List.of(streckeVonKanten));
+			when(radNETZMapViewCacheRepository.getStreckeMitKante(kanten.get(1).getId()))
+				.thenReturn(Optional.of(streckeVonKanten));
 
 			// Act
 			buildRadNETZNetzViewCacheJob.onNetzklassenZugehoerigkeitChanged(new RadNetzZugehoerigkeitChangedEvent(
 				kantenAttributGruppeId, false));
 
 			// Assert
-			verify(radNETZMapViewCacheRepository).addStrecke(any(StreckeVonKanten.class));
-			verify(radNETZMapViewCacheRepository).reloadCache();
+			verify(radNETZMapViewCacheRepository).removeStrecke(streckeVonKanten);
+			verify(radNETZMapViewCacheRepository).addStrecke(streckeVonKanten);
+			verify(radNETZMapViewCacheRepository, times(2)).addStrecke(any(StreckeVonKanten.class));
+			assertThat(streckeVonKanten.getKanten()).containsExactly(kanten.get(0));
 		}
 
 		@Test
@@ -174,7 +189,8 @@ class BuildRadNETZNetzViewCacheJobTest {
 			when(kantenRepository.findByKantenAttributGruppeId(kantenAttributGruppeId)).thenReturn(kante1);
 
 			final var streckeVonKanten = new StreckeVonKanten(kante1);
-			when(radNETZMapViewCacheRepository.getStreckenVonKanten()).thenReturn(List.of(streckeVonKanten));
+			when(radNETZMapViewCacheRepository.getStreckeMitKante(kante1.getId()))
+				.thenReturn(Optional.of(streckeVonKanten));
 
 			// Act
 			buildRadNETZNetzViewCacheJob.onNetzklassenZugehoerigkeitChanged(new RadNetzZugehoerigkeitChangedEvent(
@@ -182,7 +198,52 @@ class BuildRadNETZNetzViewCacheJobTest {
 
 			// Assert
 			verify(radNETZMapViewCacheRepository).removeStrecke(streckeVonKanten);
-			verify(radNETZMapViewCacheRepository).reloadCache();
+			verify(radNETZMapViewCacheRepository, never()).addStrecke(any(StreckeVonKanten.class));
+		}
+
+		@Test
+		void kantenDeleted_entferntKanteAusStrecke() {
+			// Arrange
+			List<Coordinate[]> streckenCoordinates = List.of(new Coordinate[] {
+				new Coordinate(100, 100),
+				new Coordinate(200, 150),
+			}, new Coordinate[] {
+				new Coordinate(200, 150),
+				new Coordinate(300, 200),
+			});
+
+			List<Kante> kanten = KanteTestDataProvider.createStreckeUeberCoordinates(
+				streckenCoordinates, null, null, new AtomicLong(0), new AtomicLong(0));
+
+			final var streckeVonKanten = new StreckeVonKanten(kanten.get(0), true, false);
+			streckeVonKanten.addKante(kanten.get(1), true);
+			when(radNETZMapViewCacheRepository.getStreckeMitKante(kanten.get(1).getId()))
+				.thenReturn(Optional.of(streckeVonKanten));
+
+			// Act
+			buildRadNETZNetzViewCacheJob.onKantenDeleted(
+				new KantenDeletedEvent(List.of(kanten.get(1).getId(), 999L), List.of(kanten.get(1).getGeometry()),
+					NetzAenderungAusloeser.DLM_REIMPORT_JOB, LocalDateTime.now(), new KanteDeleteStatistik()));
+
+			// Assert
+			verify(radNETZMapViewCacheRepository).removeStrecke(streckeVonKanten);
+			verify(radNETZMapViewCacheRepository).addStrecke(streckeVonKanten);
+			assertThat(streckeVonKanten.getKanten()).containsExactly(kanten.get(0));
+			verify(radNETZMapViewCacheRepository, never()).reloadCache();
+		}
+
+		@Test
+		void cacheNochNichtAufgebaut_ignoriertEvents() {
+			// Arrange
+			when(radNETZMapViewCacheRepository.hasCache()).thenReturn(false);
+
+			// Act
+			buildRadNETZNetzViewCacheJob.onKanteGeometrieChanged(
+				new KanteGeometrieChangedEvent(42L, new Envelope(0, 10, 0, 10)));
+
+			// Assert
+			verify(radNETZMapViewCacheRepository, never()).getStreckeMitKante(any());
+			verify(kantenRepository, never()).findById(any());
 		}
 	}
 
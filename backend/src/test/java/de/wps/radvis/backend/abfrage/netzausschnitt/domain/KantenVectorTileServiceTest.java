@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.abfrage.netzausschnitt.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.LineString;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import de.wps.radvis.backend.abfrage.netzausschnitt.domain.valueObject.VectorTileKoordinate;
+import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
+import de.wps.radvis.backend.netz.domain.entity.KanteDeleteStatistik;
+import de.wps.radvis.backend.netz.domain.event.GrundnetzAktualisiertEvent;
+import de.wps.radvis.backend.netz.domain.event.KanteGeometrieChangedEvent;
+import de.wps.radvis.backend.netz.domain.event.KantenDeletedEvent;
+import de.wps.radvis.backend.netz.domain.valueObject.NetzAenderungAusloeser;
+import de.wps.radvis.backend.netz.domain.valueObject.NetzklasseFilter;
+
+class KantenVectorTileServiceTest {
+
+	private static final VectorTileKoordinate KACHEL = VectorTileKoordinate.of(10, 300, 400);
+	private static final VectorTileKoordinate NACHBARKACHEL = VectorTileKoordinate.of(10, 301, 400);
+	private static final VectorTileKoordinate ENTFERNTE_KACHEL = VectorTileKoordinate.of(10, 500, 600);
+	private static final Set<NetzklasseFilter> RADNETZ = Set.of(NetzklasseFilter.RADNETZ);
+
+	@Mock
+	private KantenVectorTileRepository kantenVectorTileRepository;
+
+	@Mock
+	private Clock clock;
+
+	private KantenVectorTileService kantenVectorTileService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		when(clock.instant()).thenReturn(Instant.parse("2026-01-01T10:00:00Z"));
+		when(kantenVectorTileRepository.getKantenVectorTile(any(), any())).thenAnswer(
+			invocation -> invocation.getArgument(0).toString().getBytes());
+
+		kantenVectorTileService = new KantenVectorTileService(kantenVectorTileRepository, 2, Duration.ofMinutes(10),
+			clock);
+	}
+
+	@Test
+	void getKantenVectorTile_wiederholteAbfrage_ausCache() {
+		// act
+		byte[] ersteAbfrage = kantenVectorTileService.getKantenVectorTile(KACHEL, RADNETZ);
+		byte[] zweiteAbfrage = kantenVectorTileService.getKantenVectorTile(KACHEL, Set.of(NetzklasseFilter.RADNETZ));
+
+		// assert
+		assertThat(zweiteAbfrage).isSameAs(ersteAbfrage);
+		verify(kantenVectorTileRepository, times(1)).getKantenVectorTile(KACHEL, RADNETZ);
+	}
+
+	@Test
+	void getKantenVectorTile_andereNetzklassen_eigenerCacheEintrag() {
+		// act
+		kantenVectorTileService.getKantenVectorTile(KACHEL, RADNETZ);
+		kantenVectorTileService.getKantenVectorTile(KACHEL, Set.of(NetzklasseFilter.KREISNETZ));
+
+		// assert
+		verify(kantenVectorTileRepository, times(1)).getKantenVectorTile(KACHEL, RADNETZ);
+		verify(kantenVectorTileRepository, times(1)).getKantenVectorTile(KACHEL,
+			Set.of(NetzklasseFilter.KREISNETZ));
+	}
+
+	@Test
+	void getKantenVectorTile_cacheVoll_verdraengtAmLaengstenNichtGenutzteKachel() {
+		// arrange
+		kantenVectorTileService.getKantenVectorTile(KACHEL, RADNETZ);
+		kantenVectorTileService.getKantenVectorTile(NACHBARKACHEL, RADNETZ);
+		kantenVectorTileService.getKantenVectorTile(KACHEL, RADNETZ);
+
+		// act
+		kantenVectorTileService.getKantenVectorTile(ENTFERNTE_KACHEL, RADNETZ);
+		kantenVectorTileService.getKantenVectorTile(KACHEL, RADNETZ);
+		kantenVectorTileService.getKantenVectorTile(NACHBARKACHEL, RADNETZ);
+
+		// assert
+		verify(kantenVectorTileRepository, times(1)).getKantenVectorTile(KACHEL, RADNETZ);
+		verify(kantenVectorTileRepository, times(2)).getKantenVectorTile(NACHBARKACHEL, RADNETZ);
+	}
+
+	@Test
+	void getKantenVectorTile_maximalesAlterUeberschritten_erzeugtKachelNeu() {
+		// arrange
+		kantenVectorTileService.getKantenVectorTile(KACHEL, RADNETZ);
+		when(clock.instant()).thenReturn(Instant.parse("2026-01-01T10:11:00Z"));
+
+		// act
+		kantenVectorTileService.getKantenVectorTile(KACHEL, RADNETZ);
+
+		// assert
+		verify(kantenVectorTileRepository, times(2)).getKantenVectorTile(KACHEL, RADNETZ);
+	}
+
+	@Test
+	void onKanteGeometrieChanged_invalidiertNurBetroffeneKacheln() {
+		// arrange
+		kantenVectorTileService.getKantenVectorTile(KACHEL, RADNETZ);
+		kantenVectorTileService.getKantenVectorTile(ENTFERNTE_KACHEL, RADNETZ);
+		Envelope bereich = KACHEL.getBereich();
+		Envelope geaenderterBereich = new Envelope(bereich.centre());
+
+		// act
+		kantenVectorTileService.onKanteGeometrieChanged(new KanteGeometrieChangedEvent(1L, geaenderterBereich));
+		kantenVectorTileService.getKantenVectorTile(KACHEL, RADNETZ);
+		kantenVectorTileService.getKantenVectorTile(ENTFERNTE_KACHEL, RADNETZ);
+
+		// assert
+		verify(kantenVectorTileRepository, times(2)).getKantenVectorTile(KACHEL, RADNETZ);
+		verify(kantenVectorTileRepository, times(1)).getKantenVectorTile(ENTFERNTE_KACHEL, RADNETZ);
+	}
+
+	@Test
+	void onKanteGeometrieChanged_aenderungImPuffer_invalidiertNachbarkachel() {
+		// arrange
+		kantenVectorTileService.getKantenVectorTile(NACHBARKACHEL, RADNETZ);
+		Envelope bereich = KACHEL.getBereich();
+		// knapp links der Nachbarkachel, aber innerhalb ihres Puffers
+		Envelope geaenderterBereich = new Envelope(new Coordinate(bereich.getMaxX() - 1, bereich.centre().y));
+
+		// act
+		kantenVectorTileService.onKanteGeometrieChanged(new KanteGeometrieChangedEvent(1L, geaenderterBereich));
+		kantenVectorTileService.getKantenVectorTile(NACHBARKACHEL, RADNETZ);
+
+		// assert
+		verify(kantenVectorTileRepository, times(2)).getKantenVectorTile(NACHBARKACHEL, RADNETZ);
+	}
+
+	@Test
+	void onKantenDeleted_invalidiertKachelnDerGeloeschtenGeometrien() {
+		// arrange
+		kantenVectorTileService.getKantenVectorTile(KACHEL, RADNETZ);
+		kantenVectorTileService.getKantenVectorTile(ENTFERNTE_KACHEL, RADNETZ);
+		Envelope bereich = KACHEL.getBereich();
+		LineString geloeschteGeometrie = KoordinatenReferenzSystem.ETRS89_UTM32_N.getGeometryFactory()
+			.createLineString(new Coordinate[] {
+				new Coordinate(bereich.getMinX() + 10, bereich.getMinY() + 10),
+				new Coordinate(bereich.getMinX() + 20, bereich.getMinY() + 20)
+			});
+
+		// act
+		kantenVectorTileService.onKantenDeleted(new KantenDeletedEvent(List.of(1L), List.of(geloeschteGeometrie),
+			NetzAenderungAusloeser.DLM_REIMPORT_JOB, LocalDateTime.now(), new KanteDeleteStatistik()));
+		kantenVectorTileService.getKantenVectorTile(KACHEL, RADNETZ);
+		kantenVectorTileService.getKantenVectorTile(ENTFERNTE_KACHEL, RADNETZ);
+
+		// assert
+		verify(kantenVectorTileRepository, times(2)).getKantenVectorTile(KACHEL, RADNETZ);
+		verify(kantenVectorTileRepository, times(1)).getKantenVectorTile(ENTFERNTE_KACHEL, RADNETZ);
+	}
+
+	@Test
+	void onGrundnetzAktualisiert_verwirftAlleKacheln() {
+		// arrange
+		kantenVectorTileService.getKantenVectorTile(KACHEL, RADNETZ);
+		kantenVectorTileService.getKantenVectorTile(ENTFERNTE_KACHEL, RADNETZ);
+
+		// act
+		kantenVectorTileService.onGrundnetzAktualisiert(new GrundnetzAktualisiertEvent());
+		kantenVectorTileService.getKantenVectorTile(KACHEL, RADNETZ);
+		kantenVectorTileService.getKantenVectorTile(ENTFERNTE_KACHEL, RADNETZ);
+
+		// assert
+		verify(kantenVectorTileRepository, times(2)).getKantenVectorTile(KACHEL, RADNETZ);
+		verify(kantenVectorTileRepository, times(2)).getKantenVectorTile(ENTFERNTE_KACHEL, RADNETZ);
+	}
+}
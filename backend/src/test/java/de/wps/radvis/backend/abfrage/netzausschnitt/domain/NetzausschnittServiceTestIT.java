@@ -31,6 +31,7 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import de.wps.radvis.backend.abfrage.netzausschnitt.AbfrageNetzausschnittConfiguration;
+import de.wps.radvis.backend.abfrage.netzausschnitt.domain.NetzausschnittConfigurationProperties;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.entity.KanteMapView;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.entity.KanteNetzklasseMapView;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.entity.NetzMapView;
@@ -74,6 +75,7 @@ import de.wps.radvis.backend.quellimport.grundnetz.domain.DLMConfigurationProper
 })
 @EnableConfigurationProperties(value = {
 	FeatureToggleProperties.class,
+	NetzausschnittConfigurationProperties.class,
 	CommonConfigurationProperties.class,
 	DLMConfigurationProperties.class,
 	TechnischerBenutzerConfigurationProperties.class,
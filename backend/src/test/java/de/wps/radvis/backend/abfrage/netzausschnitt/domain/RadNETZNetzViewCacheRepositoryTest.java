@@ -128,6 +128,38 @@ class RadNETZNetzViewCacheRepositoryTest {
 			assertThat(netzMapViewCacheRepository.getStreckenVonKanten()).containsExactly(streckeVonKanten2);
 		}
 
+		@Test
+		void testGetStreckeMitKante() {
+			// Arrange
+			netzMapViewCacheRepository.loadCache(streckeVonKantenSet);
+
+			// Act + Assert
+			assertThat(netzMapViewCacheRepository.getStreckeMitKante(1L)).contains(streckeVonKanten1);
+			assertThat(netzMapViewCacheRepository.getStreckeMitKante(2L)).contains(streckeVonKanten2);
+			assertThat(netzMapViewCacheRepository.getStreckeMitKante(3L)).isEmpty();
+		}
+
+		@Test
+		void testAddUndRemoveStrecke_aktualisiertIndexUndCache() {
+			// Arrange
+			final var streckeVonKanten = new StreckeVonKanten(
+				KanteTestDataProvider.withDefaultValues().id(3L).build());
+			netzMapViewCacheRepository.loadCache(streckeVonKantenSet);
+			final var cacheVorher = netzMapViewCacheRepository.getCache();
+
+			// Act
+			netzMapViewCacheRepository.addStrecke(streckeVonKanten);
+			netzMapViewCacheRepository.removeStrecke(streckeVonKanten1);
+
+			// Assert
+			assertThat(netzMapViewCacheRepository.getStreckeMitKante(3L)).contains(streckeVonKanten);
+			assertThat(netzMapViewCacheRepository.getStreckeMitKante(1L)).isEmpty();
+			assertThat(netzMapViewCacheRepository.getCache().getKanten().stream()
+				.map(AbstractEntity::getId).collect(Collectors.toList())).containsExactlyInAnyOrder(2L, 3L);
+			assertThat(cacheVorher.getKanten().stream()
+				.map(AbstractEntity::getId).collect(Collectors.toList())).containsExactlyInAnyOrder(1L, 2L);
+		}
+
 	}
 
 }
\ No newline at end of file
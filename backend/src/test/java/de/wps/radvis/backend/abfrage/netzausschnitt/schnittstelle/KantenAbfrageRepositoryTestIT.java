@@ -36,6 +36,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import de.wps.radvis.backend.abfrage.netzausschnitt.AbfrageNetzausschnittConfiguration;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.KantenAbfrageRepository;
+import de.wps.radvis.backend.abfrage.netzausschnitt.domain.NetzausschnittConfigurationProperties;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.entity.AbstractKanteLinearReferenzierteAttributeView;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.entity.GeometrienVerlaufMapView;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.entity.KanteFuehrungsformAttributeView;
@@ -98,6 +99,7 @@ import jakarta.persistence.PersistenceContext;
 })
 @EnableConfigurationProperties(value = {
 	FeatureToggleProperties.class,
+	NetzausschnittConfigurationProperties.class,
 	DLMConfigurationProperties.class,
 	CommonConfigurationProperties.class,
 	TechnischerBenutzerConfigurationProperties.class,
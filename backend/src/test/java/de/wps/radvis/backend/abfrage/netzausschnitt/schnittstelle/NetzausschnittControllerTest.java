@@ -36,6 +36,7 @@ import org.locationtech.jts.geom.LineString;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import de.wps.radvis.backend.abfrage.netzausschnitt.domain.KantenVectorTileService;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.NetzausschnittService;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.entity.KanteNetzklasseMapView;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.entity.NetzNetzklasseMapView;
@@ -70,6 +71,8 @@ class NetzausschnittControllerTest {
 	private VerwaltungseinheitResolver verwaltungseinheitResolver;
 	@Mock
 	private NetzausschnittGuard netzausschnittGuard;
+	@Mock
+	private KantenVectorTileService kantenVectorTileService;
 
 	private final Envelope envelope = new Envelope();
 	private static final GeometryFactory GEO_FACTORY = KoordinatenReferenzSystem.ETRS89_UTM32_N.getGeometryFactory();
@@ -110,7 +113,8 @@ class NetzausschnittControllerTest {
 			netzausschnittService,
 			kantenMappingService,
 			verwaltungseinheitResolver,
-			netzausschnittGuard
+			netzausschnittGuard,
+			kantenVectorTileService
 		);
 	}
 
@@ -38,6 +38,8 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import de.wps.radvis.backend.abfrage.netzausschnitt.AbfrageNetzausschnittConfiguration;
+import de.wps.radvis.backend.abfrage.netzausschnitt.domain.KantenVectorTileService;
+import de.wps.radvis.backend.abfrage.netzausschnitt.domain.NetzausschnittConfigurationProperties;
 import de.wps.radvis.backend.abfrage.netzausschnitt.domain.NetzausschnittService;
 import de.wps.radvis.backend.benutzer.BenutzerConfiguration;
 import de.wps.radvis.backend.benutzer.domain.TechnischerBenutzerConfigurationProperties;
@@ -84,6 +86,7 @@ import de.wps.radvis.backend.quellimport.grundnetz.domain.DLMConfigurationProper
 })
 @EnableConfigurationProperties(value = {
 	FeatureToggleProperties.class,
+	NetzausschnittConfigurationProperties.class,
 	CommonConfigurationProperties.class,
 	DLMConfigurationProperties.class,
 	TechnischerBenutzerConfigurationProperties.class,
@@ -116,6 +119,8 @@ public class NetzausschnittControllerTestIT extends DBIntegrationTestIT {
 		private KantenMappingService kantenMappingService;
 		@Autowired
 		private NetzausschnittGuard netzausschnittGuard;
+		@Autowired
+		private KantenVectorTileService kantenVectorTileService;
 
 		@Bean
 		public NetzausschnittController netzController() {
@@ -125,7 +130,8 @@ public class NetzausschnittControllerTestIT extends DBIntegrationTestIT {
 				netzausschnittService,
 				kantenMappingService,
 				verwaltungseinheitResolver,
-				netzausschnittGuard);
+				netzausschnittGuard,
+				kantenVectorTileService);
 		}
 	}
 
@@ -63,13 +63,14 @@ import de.wps.radvis.backend.common.schnittstelle.CSVExportConverter;
 import de.wps.radvis.backend.common.schnittstelle.DBIntegrationTestIT;
 import de.wps.radvis.backend.common.schnittstelle.repositoryImpl.CsvRepositoryImpl;
 import de.wps.radvis.backend.dokument.DokumentConfiguration;
+import de.wps.radvis.backend.dokument.domain.DokumentConfigurationProperties;
 import de.wps.radvis.backend.netz.domain.service.ZustaendigkeitsService;
 import de.wps.radvis.backend.organisation.domain.VerwaltungseinheitService;
 import de.wps.radvis.backend.organisation.domain.provider.VerwaltungseinheitTestDataProvider;
 
 @Tag("group6")
 @ContextConfiguration(classes = { AbstellanlageConfiguration.class, DokumentConfiguration.class })
-@EnableConfigurationProperties(value = CommonConfigurationProperties.class)
+@EnableConfigurationProperties(value = { CommonConfigurationProperties.class, DokumentConfigurationProperties.class })
 class AbstellanlageImportServiceTestIT extends DBIntegrationTestIT {
 	private static final String BASE_URL = "https://radvis-dev.landbw.de/";
 
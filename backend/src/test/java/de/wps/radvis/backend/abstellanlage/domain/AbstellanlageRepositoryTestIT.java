@@ -39,6 +39,7 @@ import de.wps.radvis.backend.common.domain.CommonConfigurationProperties;
 import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
 import de.wps.radvis.backend.common.schnittstelle.DBIntegrationTestIT;
 import de.wps.radvis.backend.dokument.DokumentConfiguration;
+import de.wps.radvis.backend.dokument.domain.DokumentConfigurationProperties;
 import de.wps.radvis.backend.dokument.domain.entity.Dokument;
 import de.wps.radvis.backend.dokument.domain.entity.DokumentListe;
 import de.wps.radvis.backend.dokument.domain.entity.provider.DokumentTestDataProvider;
@@ -64,6 +65,7 @@ import jakarta.persistence.PersistenceContext;
 	CommonConfigurationProperties.class,
 	TechnischerBenutzerConfigurationProperties.class,
 	OrganisationConfigurationProperties.class,
+	DokumentConfigurationProperties.class,
 })
 class AbstellanlageRepositoryTestIT extends DBIntegrationTestIT {
 
@@ -15,8 +15,12 @@
 package de.wps.radvis.backend.application.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -24,10 +28,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import de.wps.radvis.backend.application.domain.entity.MaterializedViewsUpdateJobStatistik;
 import de.wps.radvis.backend.common.domain.JobExecutionDescriptionRepository;
 import de.wps.radvis.backend.common.domain.entity.JobStatistik;
 import de.wps.radvis.backend.massnahme.domain.repository.MassnahmeRepository;
 import de.wps.radvis.backend.netz.domain.service.NetzService;
+import de.wps.radvis.backend.netz.domain.valueObject.NetzMaterializedView;
 
 class MaterializedViewsUpdateJobTest {
 	@Mock
@@ -45,17 +51,30 @@ class MaterializedViewsUpdateJobTest {
 		MockitoAnnotations.openMocks(this);
 
 		materializedViewsUpdateJob = new MaterializedViewsUpdateJob(
-			jobExecutionDescriptionRepository, netzService, massnahmeRepository);
+			jobExecutionDescriptionRepository, netzService, massnahmeRepository, 4);
 	}
 
 	@Test
 	public void test_doRun_callsNetzService() {
+		// Arrange
+		when(netzService.refreshNetzMaterializedViewsNebenlaeufig(anyInt())).thenReturn(Map.of(
+			NetzMaterializedView.BALM_KANTEN, Duration.ofMillis(20),
+			NetzMaterializedView.NETZKLASSEN, Duration.ofMillis(10)));
+
 		// Act
 		Optional<JobStatistik> jobStatistik = materializedViewsUpdateJob.doRun();
 
 		// Assert
-		assertThat(jobStatistik).isEmpty();
-		verify(netzService).refreshNetzMaterializedViews();
+		verify(netzService).refreshNetzMaterializedViewsNebenlaeufig(4);
 		verify(massnahmeRepository).refreshMassnahmeMaterializedViews();
+		assertThat(jobStatistik).get().isInstanceOf(MaterializedViewsUpdateJobStatistik.class);
+		Map<String, Long> dauerProView = ((MaterializedViewsUpdateJobStatistik) jobStatistik.get())
+			.dauerInMillisekundenProView;
+		assertThat(dauerProView.keySet()).containsExactly(
+			"netzklassen_materialized_view",
+			"geoserver_balm_kanten_view",
+			"geoserver_massnahmen_erweitert_view");
+		assertThat(dauerProView).containsEntry("netzklassen_materialized_view", 10L)
+			.containsEntry("geoserver_balm_kanten_view", 20L);
 	}
 }
\ No newline at end of file
@@ -38,7 +38,6 @@ import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.DlmMatchingRe
 import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.PbfErstellungsRepositoryImpl;
 import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.PbfErstellungsTestDataProvider;
 import de.wps.radvis.backend.netz.domain.entity.Kante;
-import de.wps.radvis.backend.netz.domain.repository.KantenRepository;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -56,7 +55,7 @@ public class DlmMatchedGraphhopperTestdataProvider {
 		DlmMatchedGraphHopperFactory graphHopperFactoryMock = mock(DlmMatchedGraphHopperFactory.class);
 
 		PbfErstellungsRepositoryImpl pbfErstellungsRepository = new PbfErstellungsRepositoryImpl(
-			COORDINATE_REFERENCE_SYSTEM_CONVERTER, mock(BarriereRepository.class), mock(KantenRepository.class));
+			COORDINATE_REFERENCE_SYSTEM_CONVERTER, mock(BarriereRepository.class), 2);
 
 		File pbfFile = new File(tempDir, "test-fahrradrouten-import-toubiz.osm.pbf");
 		pbfErstellungsRepository.writePbf(
@@ -47,6 +47,7 @@ import de.wps.radvis.backend.auditing.AuditingConfiguration;
 import de.wps.radvis.backend.auditing.domain.AdditionalRevInfoHolder;
 import de.wps.radvis.backend.auditing.schnittstelle.WithAuditingAspect;
 import de.wps.radvis.backend.common.schnittstelle.RadVisTestContainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import liquibase.servicelocator.LiquibaseService;
 
 @EnableAspectJAutoProxy
@@ -62,6 +63,7 @@ import liquibase.servicelocator.LiquibaseService;
 @ActiveProfiles(profiles = "test")
 @ContextConfiguration(classes = {
 	AuditingConfiguration.class,
+	SimpleMeterRegistry.class,
 	WithAuditingAspect.class,
 })
 public abstract class AuditingTestIT {
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.common.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.valid4j.errors.RequireViolation;
+
+class LongIntHashMapTest {
+
+	@Test
+	void putUndGet() {
+		// arrange
+		LongIntHashMap map = new LongIntHashMap();
+
+		// act
+		map.put(42L, 1);
+		map.put(-7L, 2);
+		map.put(0L, 3);
+		map.put(42L, 4);
+
+		// assert
+		assertThat(map.size()).isEqualTo(3);
+		assertThat(map.get(42L)).isEqualTo(4);
+		assertThat(map.get(-7L)).isEqualTo(2);
+		assertThat(map.get(0L)).isEqualTo(3);
+		assertThat(map.get(43L)).isEqualTo(LongIntHashMap.KEIN_WERT);
+		assertThat(map.containsKey(0L)).isTrue();
+		assertThat(map.containsKey(1L)).isFalse();
+	}
+
+	@Test
+	void putIfAbsent_behaeltVorhandenenWert() {
+		// arrange
+		LongIntHashMap map = new LongIntHashMap();
+
+		// act
+		int ersterAufruf = map.putIfAbsent(5L, 1);
+		int zweiterAufruf = map.putIfAbsent(5L, 2);
+
+		// assert
+		assertThat(ersterAufruf).isEqualTo(LongIntHashMap.KEIN_WERT);
+		assertThat(zweiterAufruf).isEqualTo(1);
+		assertThat(map.get(5L)).isEqualTo(1);
+	}
+
+	@Test
+	void vergroessertSich() {
+		// arrange
+		LongIntHashMap map = new LongIntHashMap(0);
+
+		// act
+		for (int i = 0; i < 100_000; i++) {
+			map.put(i * 3L, i);
+		}
+
+		// assert
+		assertThat(map.size()).isEqualTo(100_000);
+		for (int i = 0; i < 100_000; i++) {
+			assertThat(map.get(i * 3L)).isEqualTo(i);
+		}
+		assertThat(map.get(1L)).isEqualTo(LongIntHashMap.KEIN_WERT);
+	}
+
+	@Test
+	void minValueAlsSchluesselNichtErlaubt() {
+		// arrange
+		LongIntHashMap map = new LongIntHashMap();
+
+		// act + assert
+		assertThatThrownBy(() -> map.put(Long.MIN_VALUE, 1)).isInstanceOf(RequireViolation.class);
+	}
+}
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
@@ -47,6 +48,7 @@ import org.springframework.core.io.ClassPathResource;
 
 import de.wps.radvis.backend.common.SimpleFeatureTestDataProvider;
 import de.wps.radvis.backend.common.domain.repository.ShapeFileRepository;
+import de.wps.radvis.backend.common.domain.repository.ShapeFileRepository.ShapeSchreiber;
 import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
 import de.wps.radvis.backend.common.schnittstelle.CoordinateReferenceSystemConverter;
 import de.wps.radvis.backend.common.schnittstelle.repositoryImpl.ShapeFileRepositoryImpl;
@@ -124,6 +126,54 @@ public class ShapeFileRepositoryTest {
 		assertThat(new File(shpDirectory, "shape_repo_test" + ".cpg").exists()).isTrue();
 	}
 
+	@Test
+	void oeffneShape_schreibtFeaturesEinzeln() throws IOException, ShapeProjectionException {
+		// arrange
+		LineString lineString = KoordinatenReferenzSystem.ETRS89_UTM32_N.getGeometryFactory()
+			.createLineString(new Coordinate[] { new Coordinate(0, 0), new Coordinate(10, 15) });
+		File shpDirectory = Files.createTempDirectory("shape_repo_test").toFile();
+		File shpFile = new File(shpDirectory, "shape_repo_test.shp");
+
+		// act
+		try (ShapeSchreiber shapeSchreiber = shapeFileRepository.oeffneShape(shpDirectory, shpFile, TYPE)) {
+			for (int i = 1; i < 4; i++) {
+				SimpleFeatureBuilder featureBuilder = new SimpleFeatureBuilder(TYPE);
+				featureBuilder.add(lineString);
+				featureBuilder.add("Testname" + i);
+				featureBuilder.add(i);
+				shapeSchreiber.schreibe(featureBuilder.buildFeature(null));
+			}
+		}
+
+		// assert
+		Stream<SimpleFeature> stream = shapeFileRepository.readShape(shpFile);
+		List<SimpleFeature> result = stream.collect(Collectors.toList());
+		stream.close();
+
+		assertThat(result).extracting(f -> f.getProperty("number").getValue()).containsExactly(1, 2, 3);
+		assertThat(new File(shpDirectory, "shape_repo_test.cpg").exists()).isTrue();
+	}
+
+	@Test
+	void oeffneShape_fehlerBeimSchreiben_loeschtShapeDateien() throws IOException {
+		// arrange
+		File shpDirectory = Files.createTempDirectory("shape_repo_test").toFile();
+		File shpFile = new File(shpDirectory, "shape_repo_test.shp");
+		SimpleFeature fehlerhaftesFeature = mock(SimpleFeature.class);
+		when(fehlerhaftesFeature.getAttribute(any(String.class))).thenThrow(new IllegalStateException("Lesefehler"));
+
+		ShapeSchreiber shapeSchreiber = shapeFileRepository.oeffneShape(shpDirectory, shpFile, TYPE);
+		assertThat(shpFile.exists()).isTrue();
+
+		// act
+		assertThatThrownBy(() -> shapeSchreiber.schreibe(fehlerhaftesFeature))
+			.isInstanceOf(IllegalStateException.class);
+		shapeSchreiber.close();
+
+		// assert
+		assertThat(shpDirectory.listFiles()).isEmpty();
+	}
+
 	@Test
 	void testReadShape_defaultgeometryOfFeatureIsNull_noException_SRIDnotSet()
 		throws IOException {
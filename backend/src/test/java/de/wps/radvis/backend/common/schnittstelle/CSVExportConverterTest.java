@@ -14,11 +14,15 @@
 
 package de.wps.radvis.backend.common.schnittstelle;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import org.junit.Assert;
 import org.junit.jupiter.api.BeforeEach;
@@ -103,4 +107,41 @@ class CSVExportConverterTest {
 		String actual = new String(byteArray, StandardCharsets.UTF_8).replace("\uFEFF", "");
 		Assert.assertEquals(expectedResult, actual);
 	}
-}
\ No newline at end of file
+
+	@Test
+	void convert_stream_schreibtZeilenweiseUndSchliesstZielNicht() throws IOException {
+		// arrange
+		Point point = geometryFactory.createPoint(new Coordinate(100.0, 100.0));
+		Stream<ExportData> exportData = Stream.of(
+			new ExportData(point, Map.of("key1", "value1", "key2", "value2"), List.of("key1", "key2")),
+			new ExportData(point, Map.of("key1", "value3", "key2", "value4"), List.of("key1", "key2")));
+
+		AtomicBoolean geschlossen = new AtomicBoolean(false);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+			@Override
+			public void close() {
+				geschlossen.set(true);
+			}
+		};
+
+		// act
+		csvExportConverter.convert(exportData, outputStream);
+
+		// assert
+		String actual = outputStream.toString(StandardCharsets.UTF_8).replace("\uFEFF", "");
+		Assert.assertEquals("\"key1\";\"key2\"\n\"value1\";\"value2\"\n\"value3\";\"value4\"\n", actual);
+		Assert.assertFalse(geschlossen.get());
+	}
+
+	@Test
+	void convert_stream_leer() throws IOException {
+		// arrange
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		// act
+		csvExportConverter.convert(Stream.empty(), outputStream);
+
+		// assert
+		Assert.assertEquals("Keine Daten zum Exportieren", outputStream.toString(StandardCharsets.UTF_8));
+	}
+}
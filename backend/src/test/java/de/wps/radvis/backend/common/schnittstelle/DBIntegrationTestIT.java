@@ -38,6 +38,7 @@ import de.wps.radvis.backend.common.CommonConfiguration;
 import de.wps.radvis.backend.common.domain.MailService;
 import de.wps.radvis.backend.common.domain.RadVisDomainEventPublisher;
 import de.wps.radvis.backend.organisation.OrganisationConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import liquibase.servicelocator.LiquibaseService;
 
 @DataJpaTest
@@ -45,6 +46,7 @@ import liquibase.servicelocator.LiquibaseService;
 @LiquibaseService
 @ContextConfiguration(classes = {
 	AuditingConfiguration.class,
+	SimpleMeterRegistry.class,
 })
 @EntityScan(basePackageClasses = { BenutzerConfiguration.class, OrganisationConfiguration.class,
 	CommonConfiguration.class })
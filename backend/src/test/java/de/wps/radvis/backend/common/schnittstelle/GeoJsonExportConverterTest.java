@@ -14,11 +14,21 @@
 
 package de.wps.radvis.backend.common.schnittstelle;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.geojson.FeatureCollection;
 
 import org.junit.Assert;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +41,9 @@ import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.MultiPoint;
 import org.locationtech.jts.geom.Point;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import de.wps.radvis.backend.common.GeometryTestdataProvider;
 import de.wps.radvis.backend.common.domain.valueObject.ExportData;
 import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
@@ -86,4 +99,65 @@ class GeoJsonExportConverterTest {
 		// assert
 		Assert.assertEquals(expectedResult, new String(byteArray, StandardCharsets.UTF_8));
 	}
+
+	@Test
+	void convert_stream_schreibtAlleFeaturesUndSchliesstZielNicht() throws IOException {
+		// arrange
+		Stream<ExportData> exportData = IntStream.range(0, 100)
+			.mapToObj(i -> new ExportData(
+				GeometryTestdataProvider.createPoint(new Coordinate(i, i)), Map.of("nummer", String.valueOf(i))));
+
+		AtomicBoolean geschlossen = new AtomicBoolean(false);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+			@Override
+			public void close() {
+				geschlossen.set(true);
+			}
+		};
+
+		// act
+		geoJsonExportConverter.convert(exportData, outputStream);
+
+		// assert
+		FeatureCollection featureCollection = new ObjectMapper().readValue(outputStream.toByteArray(),
+			FeatureCollection.class);
+		assertThat(featureCollection.getFeatures()).hasSize(100)
+			.extracting(feature -> feature.getProperty("nummer"))
+			.containsExactlyElementsOf(IntStream.range(0, 100).mapToObj(String::valueOf).toList());
+		assertThat(geschlossen.get()).isFalse();
+	}
+
+	@Test
+	void convert_stream_fehlerBeimLesen_schliesstGeneratorOhneDokumentAbzuschliessen() {
+		// arrange
+		Stream<ExportData> exportData = IntStream.range(0, 3)
+			.mapToObj(i -> {
+				if (i == 2) {
+					throw new IllegalStateException("Lesefehler");
+				}
+				return new ExportData(GeometryTestdataProvider.createPoint(new Coordinate(i, i)),
+					Map.of("nummer", String.valueOf(i)));
+			});
+
+		AtomicBoolean geschlossen = new AtomicBoolean(false);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+			@Override
+			public void close() {
+				geschlossen.set(true);
+			}
+		};
+
+		// act + assert
+		assertThatThrownBy(() -> geoJsonExportConverter.convert(exportData, outputStream))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("Lesefehler");
+
+		// Der Generator wurde geschlossen und hat die bereits geschriebenen Features geleert, das Dokument ist aber
+		// unvollständig und das Ziel bleibt offen
+		String geschrieben = outputStream.toString(StandardCharsets.UTF_8);
+		assertThat(geschrieben).contains("{\"nummer\":\"0\"}", "{\"nummer\":\"1\"}");
+		assertThatThrownBy(() -> new ObjectMapper().readValue(geschrieben, FeatureCollection.class))
+			.isInstanceOf(JsonProcessingException.class);
+		assertThat(geschlossen.get()).isFalse();
+	}
 }
@@ -15,7 +15,9 @@
 package de.wps.radvis.backend.common.schnittstelle;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -24,6 +26,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.geotools.api.data.DataStore;
 import org.geotools.api.data.DataStoreFinder;
@@ -38,6 +44,7 @@ import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.Point;
 
 import de.wps.radvis.backend.common.domain.valueObject.ExportData;
 import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
@@ -109,4 +116,71 @@ class GeoPackageExportConverterTest {
 
 	}
 
-}
\ No newline at end of file
+	@Test
+	void convert_stream_schreibtAlleFeatures() throws IOException {
+		// arrange
+		Stream<ExportData> exportData = IntStream.range(0, 100)
+			.mapToObj(i -> new ExportData(geometryFactory.createPoint(new Coordinate(i, i)),
+				Map.of("nummer", String.valueOf(i))));
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		// act
+		geoPackageExportConverter.convert(exportData, outputStream);
+
+		// assert
+		File directory = Files.createTempDirectory("geopackage_export_test").toFile();
+		File outputFile = new File(directory, "outputFile.gpkg");
+		Files.write(outputFile.toPath(), outputStream.toByteArray());
+
+		List<SimpleFeature> simpleFeatures = new ArrayList<>();
+
+		HashMap<String, Object> map = new HashMap<>();
+		map.put(GeoPkgDataStoreFactory.DBTYPE.key, "geopkg");
+		map.put(GeoPkgDataStoreFactory.DATABASE.key, outputFile.getAbsolutePath());
+
+		DataStore store = DataStoreFinder.getDataStore(map);
+		SimpleFeatureSource featureSource = store.getFeatureSource(store.getTypeNames()[0]);
+		SimpleFeatureIterator features = featureSource.getFeatures().features();
+		while (features.hasNext()) {
+			simpleFeatures.add(features.next());
+		}
+		features.close();
+		store.dispose();
+		outputFile.delete();
+		directory.delete();
+		assertThat(simpleFeatures).hasSize(100)
+			.extracting(feature -> feature.getAttribute("nummer"))
+			.containsExactlyInAnyOrderElementsOf(IntStream.range(0, 100).mapToObj(String::valueOf).toList());
+		assertThat(simpleFeatures).extracting(SimpleFeature::getDefaultGeometry)
+			.allMatch(geometry -> geometry instanceof Point);
+	}
+
+	@Test
+	void convert_stream_fehlerBeimLesen_loeschtTemporaereDatei() {
+		// arrange
+		Stream<ExportData> exportData = IntStream.range(0, 3)
+			.mapToObj(i -> {
+				if (i == 2) {
+					throw new IllegalStateException("Lesefehler");
+				}
+				return new ExportData(geometryFactory.createPoint(new Coordinate(i, i)),
+					Map.of("nummer", String.valueOf(i)));
+			});
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		Set<String> temporaereDateienVorher = temporaereGeoPackageDateien();
+
+		// act + assert
+		assertThatThrownBy(() -> geoPackageExportConverter.convert(exportData, outputStream))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("Lesefehler");
+
+		assertThat(outputStream.size()).isZero();
+		assertThat(temporaereGeoPackageDateien()).isEqualTo(temporaereDateienVorher);
+	}
+
+	private static Set<String> temporaereGeoPackageDateien() {
+		File[] dateien = new File(System.getProperty("java.io.tmpdir"))
+			.listFiles((verzeichnis, name) -> name.startsWith("export") && name.endsWith("gpkg"));
+		return Stream.of(dateien).map(File::getName).collect(Collectors.toSet());
+	}
+}
@@ -15,7 +15,14 @@
 package de.wps.radvis.backend.common.schnittstelle;
 
 import static org.assertj.core.api.Assertions.assertThat;
-
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -23,6 +30,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.apache.commons.io.FileUtils;
 import org.geotools.api.data.DataStore;
@@ -43,6 +54,8 @@ import org.locationtech.jts.geom.MultiLineString;
 import org.locationtech.jts.geom.Point;
 
 import de.wps.radvis.backend.common.domain.exception.ShapeZipInvalidException;
+import de.wps.radvis.backend.common.domain.repository.ShapeFileRepository;
+import de.wps.radvis.backend.common.domain.repository.ShapeFileRepository.ShapeSchreiber;
 import de.wps.radvis.backend.common.domain.service.ShapeZipService;
 import de.wps.radvis.backend.common.domain.valueObject.ExportData;
 import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
@@ -267,6 +280,103 @@ class ShpExportConverterTest {
 		FileUtils.deleteDirectory(outputFile);
 	}
 
+	@Test
+	void convert_stream_schreibtJeGeometrietypEinLesbaresShapeFile() throws IOException, ShapeZipInvalidException {
+		// arrange
+		Stream<ExportData> exportData = IntStream.range(0, 100)
+			.mapToObj(i -> new ExportData(
+				i % 2 == 0
+					? geometryFactory.createPoint(new Coordinate(i, i))
+					: geometryFactory.createLineString(new Coordinate[] {
+						new Coordinate(i, i), new Coordinate(i + 1, i + 1) }),
+				Map.of("nummer", String.valueOf(i))));
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		// act
+		shpExportConverter.convert(exportData, outputStream);
+
+		// assert
+		File outputFile = unzip(outputStream.toByteArray());
+		List<SimpleFeature> punkte = leseFeatures(new File(outputFile, "export-MultiPoint.shp"));
+		List<SimpleFeature> linien = leseFeatures(new File(outputFile, "export-MultiLineString.shp"));
+		FileUtils.deleteDirectory(outputFile);
+
+		assertThat(punkte).hasSize(50)
+			.extracting(feature -> feature.getAttribute("nummer"))
+			.containsExactlyElementsOf(IntStream.range(0, 50).mapToObj(i -> String.valueOf(2 * i)).toList());
+		assertThat(linien).hasSize(50)
+			.extracting(feature -> feature.getAttribute("nummer"))
+			.containsExactlyElementsOf(IntStream.range(0, 50).mapToObj(i -> String.valueOf(2 * i + 1)).toList());
+	}
+
+	@Test
+	void convert_stream_fehlerBeimLesen_schliesstShapeSchreiber() throws IOException {
+		// arrange
+		ShapeFileRepository shapeFileRepository = mock(ShapeFileRepository.class);
+		ShapeSchreiber shapeSchreiber = mock(ShapeSchreiber.class);
+		when(shapeFileRepository.oeffneShape(any(), any(), any())).thenReturn(shapeSchreiber);
+		shpExportConverter = new ShpExportConverter(shapeFileRepository, shapeZipService);
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		// act + assert
+		assertThatThrownBy(() -> shpExportConverter.convert(punkteMitLesefehler(), outputStream))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("Lesefehler");
+
+		verify(shapeSchreiber, times(2)).schreibe(any());
+		verify(shapeSchreiber).close();
+		assertThat(outputStream.size()).isZero();
+	}
+
+	@Test
+	void convert_stream_fehlerBeimLesen_loeschtExportVerzeichnis() {
+		// arrange
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		Set<String> exportVerzeichnisseVorher = temporaereExportVerzeichnisse();
+
+		// act + assert
+		assertThatThrownBy(() -> shpExportConverter.convert(punkteMitLesefehler(), outputStream))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("Lesefehler");
+
+		assertThat(outputStream.size()).isZero();
+		assertThat(temporaereExportVerzeichnisse()).isEqualTo(exportVerzeichnisseVorher);
+	}
+
+	private static Stream<ExportData> punkteMitLesefehler() {
+		return IntStream.range(0, 3)
+			.mapToObj(i -> {
+				if (i == 2) {
+					throw new IllegalStateException("Lesefehler");
+				}
+				return new ExportData(geometryFactory.createPoint(new Coordinate(i, i)),
+					Map.of("nummer", String.valueOf(i)));
+			});
+	}
+
+	private static Set<String> temporaereExportVerzeichnisse() {
+		File[] verzeichnisse = new File(System.getProperty("java.io.tmpdir"))
+			.listFiles(datei -> datei.isDirectory() && datei.getName().startsWith("export"));
+		return Stream.of(verzeichnisse).map(File::getName).collect(Collectors.toSet());
+	}
+
+	private static List<SimpleFeature> leseFeatures(File shpFile) throws IOException {
+		List<SimpleFeature> simpleFeatures = new ArrayList<>();
+		HashMap<String, Object> map = new HashMap<>();
+		map.put("url", shpFile.toURI().toURL());
+
+		DataStore store = DataStoreFinder.getDataStore(map);
+		SimpleFeatureSource featureSource = store.getFeatureSource(store.getTypeNames()[0]);
+		SimpleFeatureIterator features = featureSource.getFeatures().features();
+		while (features.hasNext()) {
+			simpleFeatures.add(features.next());
+		}
+		features.close();
+		store.dispose();
+		return simpleFeatures;
+	}
+
 	public File unzip(byte[] zipfileContent) throws IOException, ShapeZipInvalidException {
 		File shpDirectory = Files
 			.createTempDirectory("ShpExportConverterTest")
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.dokument.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.test.context.ContextConfiguration;
+
+import de.wps.radvis.backend.common.schnittstelle.DBIntegrationTestIT;
+import de.wps.radvis.backend.dokument.domain.entity.Dokument;
+import de.wps.radvis.backend.dokument.domain.entity.DokumentDateiablageBereinigungStatistik;
+import de.wps.radvis.backend.dokument.domain.entity.DokumentDateiablageMigrationStatistik;
+import de.wps.radvis.backend.dokument.domain.valueObject.DateiHash;
+import de.wps.radvis.backend.dokument.schnittstelle.repositoryImpl.DokumentDateiRepositoryImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Tag("group2")
+@ContextConfiguration(classes = { DokumentServiceTestIT.TestConfiguration.class })
+class DokumentServiceTestIT extends DBIntegrationTestIT {
+
+	@EntityScan(basePackages = { "de.wps.radvis.backend.dokument" })
+	public static class TestConfiguration {
+	}
+
+	private static final byte[] ALTER_INHALT = "Alter Inhalt".getBytes();
+	private static final DateiHash HASH_ALTER_INHALT = DateiHash.of(
+		"5658be52de35ed91c3a04b1869789cc646aed5b37855782be3313ac92133468c");
+
+	private static final byte[] DEFAULT_INHALT = "Default Datei".getBytes();
+	private static final DateiHash HASH_DEFAULT_INHALT = DateiHash.of(
+		"64f6c599d1625002a3700c9dfada23d6fa56e0c9629b33ddf69f95bbfb384ae6");
+
+	@TempDir
+	Path ablageVerzeichnis;
+
+	@PersistenceContext
+	EntityManager entityManager;
+
+	private DokumentDateiRepositoryImpl dokumentDateiRepository;
+
+	private DokumentService dokumentService;
+
+	@BeforeEach
+	void setup() {
+		dokumentDateiRepository = new DokumentDateiRepositoryImpl(ablageVerzeichnis);
+		dokumentService = new DokumentService(dokumentDateiRepository, entityManager);
+	}
+
+	@Test
+	void uebertrageDateiinhalteAusDatenbank_altesDokument_wirdAusDerDateiablageGeladen() throws IOException {
+		// arrange
+		speichereAltesDokument(1L, ALTER_INHALT);
+
+		DokumentDateiablageMigrationStatistik statistik = new DokumentDateiablageMigrationStatistik();
+
+		// act
+		dokumentService.uebertrageDateiinhalteAusDatenbank(statistik);
+
+		// assert
+		assertThat(statistik.anzahlUebertragen).isEqualTo(1);
+		assertThat(statistik.anzahlFehlgeschlagen).isZero();
+		assertThat(ladeDateiHash(1L)).isEqualTo(HASH_ALTER_INHALT.getValue());
+		// Der Inhalt bleibt bis zu einer geprüften Sicherung der Dateiablage in der Datenbank
+		assertThat(ladeDateiinhaltAusDatenbank(1L)).isEqualTo(ALTER_INHALT);
+
+		entityManager.clear();
+		Dokument dokument = entityManager.find(Dokument.class, 1L);
+		assertThat(dokument.getDateiHash()).isEqualTo(HASH_ALTER_INHALT);
+		Resource dateiinhalt = dokumentService.getDateiinhalt(dokument);
+		assertThat(dateiinhalt).isInstanceOf(FileSystemResource.class);
+		assertThat(dateiinhalt.getContentAsByteArray()).isEqualTo(ALTER_INHALT);
+	}
+
+	@Test
+	void uebertrageDateiinhalteAusDatenbank_abgelegterInhaltWeichtAb_hashBleibtLeer() throws IOException {
+		// arrange
+		speichereAltesDokument(1L, DEFAULT_INHALT);
+		speichereAltesDokument(2L, ALTER_INHALT);
+
+		// Unter dem Hash des ersten Dokuments liegt bereits ein beschädigter Inhalt, der beim Ablegen nicht
+		// überschrieben wird
+		Path beschaedigt = ablageVerzeichnis.resolve(HASH_DEFAULT_INHALT.getValue().substring(0, 2))
+			.resolve(HASH_DEFAULT_INHALT.getValue());
+		Files.createDirectories(beschaedigt.getParent());
+		Files.write(beschaedigt, "Beschädigt".getBytes());
+
+		DokumentDateiablageMigrationStatistik statistik = new DokumentDateiablageMigrationStatistik();
+
+		// act
+		dokumentService.uebertrageDateiinhalteAusDatenbank(statistik);
+
+		// assert
+		assertThat(statistik.anzahlUebertragen).isEqualTo(1);
+		assertThat(statistik.anzahlFehlgeschlagen).isEqualTo(1);
+		assertThat(ladeDateiHash(1L)).isNull();
+		assertThat(ladeDateiHash(2L)).isEqualTo(HASH_ALTER_INHALT.getValue());
+
+		// Das nicht übertragene Dokument wird weiterhin aus der Datenbank gelesen
+		entityManager.clear();
+		Resource dateiinhalt = dokumentService.getDateiinhalt(entityManager.find(Dokument.class, 1L));
+		assertThat(dateiinhalt).isNotInstanceOf(FileSystemResource.class);
+		assertThat(dateiinhalt.getContentAsByteArray()).isEqualTo(DEFAULT_INHALT);
+	}
+
+	@Test
+	void entferneNichtReferenzierteDateiinhalte_schontReferenzierteUndJungeInhalte() throws IOException {
+		// arrange
+		DateiHash referenziert = dokumentDateiRepository.speichere(new ByteArrayInputStream(ALTER_INHALT)).getHash();
+		DateiHash nichtReferenziertAlt = dokumentDateiRepository.speichere(
+			new ByteArrayInputStream(DEFAULT_INHALT)).getHash();
+		DateiHash nichtReferenziertJung = dokumentDateiRepository.speichere(
+			new ByteArrayInputStream("Gerade hochgeladen".getBytes())).getHash();
+		speichereDokumentInDateiablage(1L, referenziert);
+
+		Instant vorZweiTagen = Instant.now().minus(Duration.ofDays(2));
+		setzeAblagezeitpunkt(referenziert, vorZweiTagen);
+		setzeAblagezeitpunkt(nichtReferenziertAlt, vorZweiTagen);
+
+		DokumentDateiablageBereinigungStatistik statistik = new DokumentDateiablageBereinigungStatistik();
+
+		// act
+		dokumentService.entferneNichtReferenzierteDateiinhalte(statistik);
+
+		// assert
+		assertThat(statistik.anzahlGepruefteDateien).isEqualTo(2);
+		assertThat(statistik.anzahlGeloeschteDateien).isEqualTo(1);
+		assertThat(statistik.anzahlFehlgeschlagen).isZero();
+		assertThat(dokumentDateiRepository.istUnversehrtAbgelegt(referenziert)).isTrue();
+		assertThat(dokumentDateiRepository.istUnversehrtAbgelegt(nichtReferenziertJung)).isTrue();
+		assertThat(Files.exists(getPfad(nichtReferenziertAlt))).isFalse();
+	}
+
+	// Dokumente vor Einführung der Dateiablage haben ihren Inhalt nur in der Spalte datei
+	private void speichereAltesDokument(long id, byte[] datei) {
+		entityManager.createNativeQuery("INSERT INTO dokument (id, dateiname, datei, dateigroesse_in_bytes, datum) "
+			+ "VALUES (:id, :dateiname, :datei, :groesse, :datum)")
+			.setParameter("id", id)
+			.setParameter("dateiname", "dokument-" + id + ".txt")
+			.setParameter("datei", datei)
+			.setParameter("groesse", datei.length)
+			.setParameter("datum", LocalDateTime.of(2022, 5, 1, 12, 0))
+			.executeUpdate();
+	}
+
+	private void speichereDokumentInDateiablage(long id, DateiHash dateiHash) {
+		entityManager.createNativeQuery("INSERT INTO dokument (id, dateiname, datei_hash, dateigroesse_in_bytes, "
+			+ "datum) VALUES (:id, :dateiname, :hash, 0, :datum)")
+			.setParameter("id", id)
+			.setParameter("dateiname", "dokument-" + id + ".txt")
+			.setParameter("hash", dateiHash.getValue())
+			.setParameter("datum", LocalDateTime.of(2024, 5, 1, 12, 0))
+			.executeUpdate();
+	}
+
+	private String ladeDateiHash(long id) {
+		return (String) entityManager.createNativeQuery("SELECT datei_hash FROM dokument WHERE id = :id")
+			.setParameter("id", id)
+			.getSingleResult();
+	}
+
+	private byte[] ladeDateiinhaltAusDatenbank(long id) {
+		return (byte[]) entityManager.createNativeQuery("SELECT datei FROM dokument WHERE id = :id")
+			.setParameter("id", id)
+			.getSingleResult();
+	}
+
+	private void setzeAblagezeitpunkt(DateiHash hash, Instant zeitpunkt) throws IOException {
+		Files.setLastModifiedTime(getPfad(hash), FileTime.from(zeitpunkt));
+	}
+
+	private Path getPfad(DateiHash hash) {
+		return ablageVerzeichnis.resolve(hash.getValue().substring(0, 2)).resolve(hash.getValue());
+	}
+}
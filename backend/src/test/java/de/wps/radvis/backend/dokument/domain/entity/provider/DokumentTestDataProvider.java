@@ -19,6 +19,7 @@ import java.time.LocalDateTime;
 import de.wps.radvis.backend.benutzer.domain.entity.Benutzer;
 import de.wps.radvis.backend.benutzer.domain.entity.BenutzerTestDataProvider;
 import de.wps.radvis.backend.dokument.domain.entity.Dokument;
+import de.wps.radvis.backend.dokument.domain.valueObject.DateiHash;
 import de.wps.radvis.backend.organisation.domain.entity.Gebietskoerperschaft;
 import de.wps.radvis.backend.organisation.domain.provider.VerwaltungseinheitTestDataProvider;
 
@@ -33,7 +34,8 @@ public class DokumentTestDataProvider {
 
 		return Dokument.builder()
 			.dateiname("Default Datei")
-			.datei("Default Datei".getBytes())
+			.dateiHash(DateiHash.of("64f6c599d1625002a3700c9dfada23d6fa56e0c9629b33ddf69f95bbfb384ae6"))
+			.dateigroesseInBytes("Default Datei".length())
 			.benutzer(benutzer)
 			.datum(LocalDateTime.of(2023, 1, 26, 14, 31));
 	}
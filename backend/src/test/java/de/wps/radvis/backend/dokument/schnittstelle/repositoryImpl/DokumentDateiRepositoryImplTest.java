@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.dokument.schnittstelle.repositoryImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+
+import de.wps.radvis.backend.dokument.domain.valueObject.AbgelegteDatei;
+import de.wps.radvis.backend.dokument.domain.valueObject.DateiHash;
+
+class DokumentDateiRepositoryImplTest {
+
+	@TempDir
+	Path ablageVerzeichnis;
+
+	private DokumentDateiRepositoryImpl dokumentDateiRepository;
+
+	@BeforeEach
+	void setup() {
+		dokumentDateiRepository = new DokumentDateiRepositoryImpl(ablageVerzeichnis);
+	}
+
+	@Test
+	void speichere_legtInhaltUnterSha256Ab() throws IOException {
+		// act
+		AbgelegteDatei abgelegteDatei = dokumentDateiRepository.speichere(
+			new ByteArrayInputStream("Default Datei".getBytes()));
+
+		// assert
+		assertThat(abgelegteDatei.getHash()).isEqualTo(
+			DateiHash.of("64f6c599d1625002a3700c9dfada23d6fa56e0c9629b33ddf69f95bbfb384ae6"));
+		assertThat(abgelegteDatei.getGroesseInBytes()).isEqualTo(13);
+
+		Resource inhalt = dokumentDateiRepository.lade(abgelegteDatei.getHash());
+		assertThat(inhalt.getContentAsByteArray()).isEqualTo("Default Datei".getBytes());
+		assertThat(inhalt.contentLength()).isEqualTo(13);
+	}
+
+	@Test
+	void speichere_identischerInhalt_wirdNurEinmalAbgelegt() throws IOException {
+		// act
+		AbgelegteDatei erste = dokumentDateiRepository.speichere(new ByteArrayInputStream("Inhalt".getBytes()));
+		AbgelegteDatei zweite = dokumentDateiRepository.speichere(new ByteArrayInputStream("Inhalt".getBytes()));
+		AbgelegteDatei andere = dokumentDateiRepository.speichere(new ByteArrayInputStream("Anders".getBytes()));
+
+		// assert
+		assertThat(zweite).isEqualTo(erste);
+		assertThat(andere.getHash()).isNotEqualTo(erste.getHash());
+		try (Stream<Path> dateien = Files.walk(ablageVerzeichnis)) {
+			assertThat(dateien.filter(Files::isRegularFile)).hasSize(2);
+		}
+	}
+
+	@Test
+	void lade_unbekannterHash_wirftException() {
+		// arrange
+		DateiHash hash = DateiHash.of("0000000000000000000000000000000000000000000000000000000000000000");
+
+		// act + assert
+		assertThatThrownBy(() -> dokumentDateiRepository.lade(hash)).isInstanceOf(RuntimeException.class);
+	}
+
+	@Test
+	void speichere_bereitsAbgelegt_aktualisiertAblagezeitpunkt() throws IOException {
+		// arrange
+		AbgelegteDatei abgelegteDatei = dokumentDateiRepository.speichere(
+			new ByteArrayInputStream("Inhalt".getBytes()));
+		Instant vorEinerWoche = Instant.now().minus(Duration.ofDays(7));
+		setzeAblagezeitpunkt(abgelegteDatei.getHash(), vorEinerWoche);
+
+		// act
+		dokumentDateiRepository.speichere(new ByteArrayInputStream("Inhalt".getBytes()));
+
+		// assert
+		assertThat(dokumentDateiRepository.findeAbgelegtVor(Instant.now().minus(Duration.ofDays(1)))).isEmpty();
+	}
+
+	@Test
+	void istUnversehrtAbgelegt() throws IOException {
+		// arrange
+		AbgelegteDatei unversehrt = dokumentDateiRepository.speichere(new ByteArrayInputStream("Inhalt".getBytes()));
+		AbgelegteDatei veraendert = dokumentDateiRepository.speichere(new ByteArrayInputStream("Anders".getBytes()));
+		Files.writeString(getPfad(veraendert.getHash()), "Verändert");
+
+		// act + assert
+		assertThat(dokumentDateiRepository.istUnversehrtAbgelegt(unversehrt.getHash())).isTrue();
+		assertThat(dokumentDateiRepository.istUnversehrtAbgelegt(veraendert.getHash())).isFalse();
+		assertThat(dokumentDateiRepository.istUnversehrtAbgelegt(
+			DateiHash.of("0000000000000000000000000000000000000000000000000000000000000000"))).isFalse();
+	}
+
+	@Test
+	void findeAbgelegtVor_nurAeltereInhalteDerAblage() throws IOException {
+		// arrange
+		AbgelegteDatei alt = dokumentDateiRepository.speichere(new ByteArrayInputStream("Alt".getBytes()));
+		dokumentDateiRepository.speichere(new ByteArrayInputStream("Neu".getBytes()));
+		Instant vorEinerWoche = Instant.now().minus(Duration.ofDays(7));
+		setzeAblagezeitpunkt(alt.getHash(), vorEinerWoche);
+		Path fremdeDatei = ablageVerzeichnis.resolve("fremd.txt");
+		Files.writeString(fremdeDatei, "Fremd");
+		Files.setLastModifiedTime(fremdeDatei, FileTime.from(vorEinerWoche));
+
+		// act + assert
+		assertThat(dokumentDateiRepository.findeAbgelegtVor(Instant.now().minus(Duration.ofDays(1))))
+			.containsExactly(alt.getHash());
+	}
+
+	@Test
+	void loescheWennAbgelegtVor_loeschtNurAeltereInhalte() throws IOException {
+		// arrange
+		AbgelegteDatei alt = dokumentDateiRepository.speichere(new ByteArrayInputStream("Alt".getBytes()));
+		AbgelegteDatei neu = dokumentDateiRepository.speichere(new ByteArrayInputStream("Neu".getBytes()));
+		setzeAblagezeitpunkt(alt.getHash(), Instant.now().minus(Duration.ofDays(7)));
+		Instant grenze = Instant.now().minus(Duration.ofDays(1));
+
+		// act
+		boolean altGeloescht = dokumentDateiRepository.loescheWennAbgelegtVor(alt.getHash(), grenze);
+		boolean neuGeloescht = dokumentDateiRepository.loescheWennAbgelegtVor(neu.getHash(), grenze);
+
+		// assert
+		assertThat(altGeloescht).isTrue();
+		assertThat(neuGeloescht).isFalse();
+		assertThat(getPfad(alt.getHash())).doesNotExist();
+		assertThat(getPfad(neu.getHash())).exists();
+	}
+
+	private Path getPfad(DateiHash hash) {
+		return ablageVerzeichnis.resolve(hash.getValue().substring(0, 2)).resolve(hash.getValue());
+	}
+
+	private void setzeAblagezeitpunkt(DateiHash hash, Instant zeitpunkt) throws IOException {
+		Files.setLastModifiedTime(getPfad(hash), FileTime.from(zeitpunkt));
+	}
+}
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
@@ -76,6 +77,7 @@ import de.wps.radvis.backend.fahrradroute.domain.valueObject.Hoehenunterschied;
 import de.wps.radvis.backend.fahrradroute.domain.valueObject.LinearReferenzierteProfilEigenschaften;
 import de.wps.radvis.backend.fahrradroute.domain.valueObject.TfisId;
 import de.wps.radvis.backend.fahrradroute.domain.valueObject.VarianteKategorie;
+import de.wps.radvis.backend.matching.domain.event.GraphhopperAktualisiertEvent;
 import de.wps.radvis.backend.matching.domain.exception.KeineRouteGefundenException;
 import de.wps.radvis.backend.matching.domain.repository.GraphhopperRoutingRepository;
 import de.wps.radvis.backend.matching.domain.valueObject.ProfilRoutingResult;
@@ -123,7 +125,7 @@ class FahrradrouteServiceTest {
 		domainPublisherMock = mockStatic(RadVisDomainEventPublisher.class);
 		service = new FahrradrouteService(fahrradrouteRepository, fahrradrouteViewRepository,
 			Lazy.of(graphhopperRoutingRepository), fahrradrouteNetzBezugAenderungRepository,
-			jobExecutionDescriptionRepository, benutzerService, sackgassenService, 1.0);
+			jobExecutionDescriptionRepository, benutzerService, sackgassenService, 1.0, 2, 100, 100);
 	}
 
 	@AfterEach
@@ -429,6 +431,192 @@ class FahrradrouteServiceTest {
 			assertThat(fV.getAnstieg()).isEmpty();
 			assertThat(fV.getAbstieg()).isEmpty();
 		}
+
+		@Test
+		void unveraenderteGeometrie_wirdNichtErneutGeroutet() throws KeineRouteGefundenException {
+			// arrange
+			when(graphhopperRoutingRepository.route(any(), eq(GraphhopperRoutingRepository.DEFAULT_PROFILE_ID),
+				eq(false))).thenReturn(routingResult(123d, 234d));
+
+			// act
+			service.onFahrradrouteUpdated(new FahrradrouteUpdatedEvent(fahrradroute));
+			service.onFahrradrouteUpdated(new FahrradrouteUpdatedEvent(fahrradroute));
+
+			// assert
+			// Hauptroute und Variante haben dieselbe Geometrie
+			verify(graphhopperRoutingRepository, times(1)).route(any(), anyLong(), anyBoolean());
+			assertThat(fahrradroute.getAnstieg()).contains(Hoehenunterschied.of(123d));
+			assertThat(fahrradroute.findFahrradrouteVariante(TfisId.of("vollstaendigeVariante")).get().getAnstieg())
+				.contains(Hoehenunterschied.of(123d));
+		}
+
+		@Test
+		void updateAbgeleiteteRoutenInfos_routetAuchBekannteGeometrienNeu() throws KeineRouteGefundenException {
+			// arrange
+			when(graphhopperRoutingRepository.route(any(), eq(GraphhopperRoutingRepository.DEFAULT_PROFILE_ID),
+				eq(false))).thenReturn(routingResult(123d, 234d), routingResult(50d, 60d));
+			when(fahrradrouteRepository.findAllByFahrradrouteTypNot(FahrradrouteTyp.TOUBIZ_ROUTE))
+				.thenReturn(Stream.of(fahrradroute));
+			service.onFahrradrouteUpdated(new FahrradrouteUpdatedEvent(fahrradroute));
+
+			// act
+			service.updateAbgeleiteteRoutenInformationVonRadvisUndTfis(new UpdateAbgeleiteteRoutenInfoStatistik());
+
+			// assert
+			verify(graphhopperRoutingRepository, times(2)).route(any(), anyLong(), anyBoolean());
+			assertThat(fahrradroute.getAnstieg()).contains(Hoehenunterschied.of(50d));
+		}
+
+		@Test
+		void graphhopperAktualisiert_routetBekannteGeometrienNeu() throws KeineRouteGefundenException {
+			// arrange
+			when(graphhopperRoutingRepository.route(any(), eq(GraphhopperRoutingRepository.DEFAULT_PROFILE_ID),
+				eq(false))).thenReturn(routingResult(123d, 234d), routingResult(50d, 60d));
+			service.onFahrradrouteUpdated(new FahrradrouteUpdatedEvent(fahrradroute));
+
+			// act
+			service.onGraphhopperAktualisiert(new GraphhopperAktualisiertEvent());
+			service.onFahrradrouteUpdated(new FahrradrouteUpdatedEvent(fahrradroute));
+
+			// assert
+			verify(graphhopperRoutingRepository, times(2)).route(any(), anyLong(), anyBoolean());
+			assertThat(fahrradroute.getAnstieg()).contains(Hoehenunterschied.of(50d));
+		}
+
+		@Test
+		void keineRouteGefunden_wirdBeimNaechstenMalErneutGeroutet() throws KeineRouteGefundenException {
+			// arrange
+			Fahrradroute fahrradrouteMitGeometrie = fahrradrouteMitGeometrie(1L, 0);
+			when(graphhopperRoutingRepository.route(any(), eq(GraphhopperRoutingRepository.DEFAULT_PROFILE_ID),
+				eq(false)))
+					.thenThrow(new KeineRouteGefundenException("Keine Route"))
+					.thenReturn(routingResult(123d, 234d));
+			service.onFahrradrouteUpdated(new FahrradrouteUpdatedEvent(fahrradrouteMitGeometrie));
+			assertThat(fahrradrouteMitGeometrie.getAnstieg()).isEmpty();
+
+			// act
+			service.onFahrradrouteUpdated(new FahrradrouteUpdatedEvent(fahrradrouteMitGeometrie));
+
+			// assert
+			verify(graphhopperRoutingRepository, times(2)).route(any(), anyLong(), anyBoolean());
+			assertThat(fahrradrouteMitGeometrie.getAnstieg()).contains(Hoehenunterschied.of(123d));
+		}
+
+		@Test
+		void aktualisiereAbgeleiteteRoutenInformationen_speichertInBatches() throws KeineRouteGefundenException {
+			// arrange
+			FahrradrouteService serviceMitKleinenBatches = new FahrradrouteService(fahrradrouteRepository,
+				fahrradrouteViewRepository, Lazy.of(graphhopperRoutingRepository),
+				fahrradrouteNetzBezugAenderungRepository, jobExecutionDescriptionRepository, benutzerService,
+				sackgassenService, 1.0, 1, 100, 2);
+			List<Fahrradroute> fahrradrouten = List.of(fahrradrouteMitGeometrie(1L, 0),
+				fahrradrouteMitGeometrie(2L, 1000), fahrradrouteMitGeometrie(3L, 2000));
+			when(graphhopperRoutingRepository.route(any(), eq(GraphhopperRoutingRepository.DEFAULT_PROFILE_ID),
+				eq(false))).thenReturn(routingResult(123d, 234d));
+
+			// act
+			serviceMitKleinenBatches.aktualisiereAbgeleiteteRoutenInformationen(fahrradrouten);
+
+			// assert
+			verify(fahrradrouteRepository, times(2)).saveAll(fahrradroutenCaptor.capture());
+			assertThat(fahrradroutenCaptor.getAllValues().get(0)).hasSize(2);
+			assertThat(fahrradroutenCaptor.getAllValues().get(1)).hasSize(1);
+		}
+
+		@Test
+		void gesammelteBerechnung_routetErstNachDemSammelnUndUeberspringtNichtGespeicherteRouten()
+			throws KeineRouteGefundenException {
+			// arrange
+			Fahrradroute gespeicherteFahrradroute = fahrradrouteMitGeometrie(1L, 0);
+			Fahrradroute nichtGespeicherteFahrradroute = fahrradrouteMitGeometrie(null, 1000);
+			when(graphhopperRoutingRepository.route(any(), eq(GraphhopperRoutingRepository.DEFAULT_PROFILE_ID),
+				eq(false))).thenReturn(routingResult(123d, 234d));
+
+			// act
+			service.sammleAbgeleiteteRoutenInformationen();
+			service.onFahrradrouteCreated(new FahrradrouteCreatedEvent(gespeicherteFahrradroute));
+			service.onFahrradrouteUpdated(new FahrradrouteUpdatedEvent(gespeicherteFahrradroute));
+			service.onFahrradrouteCreated(new FahrradrouteCreatedEvent(nichtGespeicherteFahrradroute));
+			verify(graphhopperRoutingRepository, never()).route(any(), anyLong(), anyBoolean());
+			int anzahlErfolgreich = service.aktualisiereGesammelteAbgeleiteteRoutenInformationen();
+
+			// assert
+			assertThat(anzahlErfolgreich).isEqualTo(1);
+			verify(graphhopperRoutingRepository, times(1)).route(
+				List.of(gespeicherteFahrradroute.getNetzbezugLineString().get().getCoordinates()),
+				GraphhopperRoutingRepository.DEFAULT_PROFILE_ID, false);
+			verify(fahrradrouteRepository, times(1)).saveAll(fahrradroutenCaptor.capture());
+			assertThat(fahrradroutenCaptor.getValue()).containsExactly(gespeicherteFahrradroute);
+			assertThat(gespeicherteFahrradroute.getAnstieg()).contains(Hoehenunterschied.of(123d));
+			assertThat(nichtGespeicherteFahrradroute.getAnstieg()).isEmpty();
+
+			// Nach dem Sammeln wird wieder sofort berechnet
+			service.onFahrradrouteCreated(new FahrradrouteCreatedEvent(nichtGespeicherteFahrradroute));
+			assertThat(nichtGespeicherteFahrradroute.getAnstieg()).contains(Hoehenunterschied.of(123d));
+		}
+
+		@Test
+		void aktualisiereAbgeleiteteRoutenInformationen_ordnetParalleleErgebnisseKorrektZu()
+			throws KeineRouteGefundenException {
+			// arrange
+			List<Fahrradroute> fahrradrouten = new ArrayList<>();
+			for (int i = 0; i < 5; i++) {
+				Fahrradroute fahrradrouteMitGeometrie = fahrradrouteMitGeometrie((long) i, i * 1000);
+				fahrradrouten.add(fahrradrouteMitGeometrie);
+				when(graphhopperRoutingRepository.route(
+					List.of(fahrradrouteMitGeometrie.getNetzbezugLineString().get().getCoordinates()),
+					GraphhopperRoutingRepository.DEFAULT_PROFILE_ID, false)).thenReturn(routingResult(i, i * 2));
+			}
+
+			// act
+			int anzahlErfolgreich = service.aktualisiereAbgeleiteteRoutenInformationen(fahrradrouten);
+
+			// assert
+			assertThat(anzahlErfolgreich).isEqualTo(5);
+			for (int i = 0; i < 5; i++) {
+				assertThat(fahrradrouten.get(i).getAnstieg()).contains(Hoehenunterschied.of((double) i));
+				assertThat(fahrradrouten.get(i).getAbstieg()).contains(Hoehenunterschied.of((double) i * 2));
+			}
+			verify(fahrradrouteRepository, times(1)).saveAll(fahrradroutenCaptor.capture());
+			assertThat(fahrradroutenCaptor.getValue()).hasSize(5);
+		}
+
+		@Test
+		void aktualisiereAbgeleiteteRoutenInformationen_keineRouteGefunden() throws KeineRouteGefundenException {
+			// arrange
+			Fahrradroute ohneRoute = fahrradrouteMitGeometrie(1L, 0);
+			Fahrradroute mitRoute = fahrradrouteMitGeometrie(2L, 1000);
+			when(graphhopperRoutingRepository.route(
+				List.of(ohneRoute.getNetzbezugLineString().get().getCoordinates()),
+				GraphhopperRoutingRepository.DEFAULT_PROFILE_ID, false))
+					.thenThrow(new KeineRouteGefundenException("Keine Route"));
+			when(graphhopperRoutingRepository.route(
+				List.of(mitRoute.getNetzbezugLineString().get().getCoordinates()),
+				GraphhopperRoutingRepository.DEFAULT_PROFILE_ID, false)).thenReturn(routingResult(123d, 234d));
+
+			// act
+			int anzahlErfolgreich = service.aktualisiereAbgeleiteteRoutenInformationen(List.of(ohneRoute, mitRoute));
+
+			// assert
+			assertThat(anzahlErfolgreich).isEqualTo(1);
+			assertThat(ohneRoute.getAnstieg()).isEmpty();
+			assertThat(mitRoute.getAnstieg()).contains(Hoehenunterschied.of(123d));
+		}
+
+		private Fahrradroute fahrradrouteMitGeometrie(Long id, double versatz) {
+			LineString lineString = GeometryTestdataProvider.createLineString(new Coordinate(versatz, 0),
+				new Coordinate(versatz + 100, 100));
+			return FahrradrouteTestDataProvider.withDefaultValues()
+				.id(id)
+				.netzbezugLineString(lineString)
+				.iconLocation(lineString.getStartPoint())
+				.build();
+		}
+
+		private RoutingResult routingResult(double anstieg, double abstieg) {
+			return new RoutingResult(List.of(1L, 2L), KanteTestDataProvider.withDefaultValues().build().getGeometry(),
+				Hoehenunterschied.of(anstieg), Hoehenunterschied.of(abstieg));
+		}
 	}
 
 	@Test
@@ -71,6 +71,7 @@ import de.wps.radvis.backend.konsistenz.regeln.domain.KonsistenzregelnConfigurat
 import de.wps.radvis.backend.matching.MatchingConfiguration;
 import de.wps.radvis.backend.matching.domain.GraphhopperDlmConfigurationProperties;
 import de.wps.radvis.backend.matching.domain.GraphhopperOsmConfigurationProperties;
+import de.wps.radvis.backend.matching.domain.MatchingConfigurationProperties;
 import de.wps.radvis.backend.matching.domain.repository.GraphhopperRoutingRepository;
 import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.DlmMatchingRepositoryImpl;
 import de.wps.radvis.backend.netz.NetzConfiguration;
@@ -107,6 +108,7 @@ import jakarta.transaction.Transactional;
 	TechnischerBenutzerConfigurationProperties.class,
 	GraphhopperOsmConfigurationProperties.class,
 	GraphhopperDlmConfigurationProperties.class,
+	MatchingConfigurationProperties.class,
 	DLMConfigurationProperties.class,
 	PostgisConfigurationProperties.class,
 	CommonConfigurationProperties.class,
@@ -114,7 +116,8 @@ import jakarta.transaction.Transactional;
 	OsmPbfConfigurationProperties.class,
 	KonsistenzregelnConfigurationProperties.class,
 	OrganisationConfigurationProperties.class,
-	NetzConfigurationProperties.class
+	NetzConfigurationProperties.class,
+	FahrradrouteConfigurationProperties.class
 })
 @ActiveProfiles(profiles = "test")
 @Transactional
@@ -123,8 +126,6 @@ class FahrradroutenToubizImportJobIntegrationTestIT extends DBIntegrationTestIT
 	private NetzfehlerRepository netzfehlerRepository;
 	@MockitoBean
 	private BarriereRepository barriereRepository;
-	@MockitoBean
-	private FahrradrouteConfigurationProperties fahrradrouteConfigurationProperties;
 
 	private static final GeometryFactory GEO_FACTORY = KoordinatenReferenzSystem.ETRS89_UTM32_N.getGeometryFactory();
 
@@ -209,7 +210,7 @@ class FahrradroutenToubizImportJobIntegrationTestIT extends DBIntegrationTestIT
 			jobExecutionDescriptionRepository,
 			toubizRepository,
 			verwaltungseinheitService, fahrradrouteRepository,
-			fahrradroutenMatchingService, netzbezugTimeout, List.of(toubizIgnoreIds));
+			fahrradroutenMatchingService, fahrradrouteService, netzbezugTimeout, List.of(toubizIgnoreIds));
 	}
 
 	@Test
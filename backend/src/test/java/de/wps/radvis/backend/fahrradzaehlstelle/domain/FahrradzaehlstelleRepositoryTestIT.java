@@ -16,12 +16,17 @@ package de.wps.radvis.backend.fahrradzaehlstelle.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.locationtech.jts.geom.Coordinate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
@@ -40,7 +45,11 @@ import de.wps.radvis.backend.fahrradzaehlstelle.domain.entity.Fahrradzaehlstelle
 import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.BetreiberEigeneId;
 import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.ChannelId;
 import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.Zaehlstand;
+import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.ZaehlstandZeitreihe;
+import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.Zeitaufloesung;
 import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.Zeitstempel;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Tag("group3")
 @ContextConfiguration(classes = { FahrradzaehlstelleRepositoryTestIT.TestConfiguration.class,
@@ -53,9 +62,17 @@ class FahrradzaehlstelleRepositoryTestIT extends DBIntegrationTestIT {
 	public static class TestConfiguration {
 	}
 
+	// Die Zählstände überspannen den Monatswechsel März/April 2024 und die Umstellung auf Sommerzeit am 31.03.2024
+	private static final Zeitstempel ERSTER_ZAEHLSTAND = Zeitstempel.of("2024-03-30T22:00:00+0100");
+	private static final Zeitstempel LETZTER_ZAEHLSTAND = Zeitstempel.of("2024-04-01T01:45:00+0200");
+	private static final Zeitstempel MONATSWECHSEL = Zeitstempel.of("2024-04-01T00:00:00+0200");
+
 	@Autowired
 	FahrradzaehlstelleRepository fahrradzaehlstelleRepository;
 
+	@PersistenceContext
+	EntityManager entityManager;
+
 	@Test
 	void findeLetztesImportDatum_nichtVorhanden() {
 		// act
@@ -95,4 +112,128 @@ class FahrradzaehlstelleRepositoryTestIT extends DBIntegrationTestIT {
 		assertThat(zeitstempel).isPresent();
 		assertThat(zeitstempel.get()).isEqualTo(neuesterZeitstempel);
 	}
-}
\ No newline at end of file
+
+	@Test
+	void erstelleZaehlstandPartitionen_verschiebtZaehlstaendeAusDefaultPartition() {
+		// arrange
+		List<Long> channelIds = speichereZaehlstaende();
+		long anzahlZaehlstaende = zaehleZeilen("channel_fahrradzaehl_daten_eintrag");
+		long anzahlZaehlstaendeImMaerz = channelIds.size() * zeitstempelBis(MONATSWECHSEL);
+		assertThat(zaehleZeilen("channel_fahrradzaehl_daten_eintrag_default")).isEqualTo(anzahlZaehlstaende);
+
+		// act
+		fahrradzaehlstelleRepository.erstelleZaehlstandPartitionen(ERSTER_ZAEHLSTAND, LETZTER_ZAEHLSTAND);
+
+		// assert
+		assertThat(zaehleZeilen("channel_fahrradzaehl_daten_eintrag_default")).isZero();
+		assertThat(zaehleZeilen("channel_fahrradzaehl_daten_eintrag_202403")).isEqualTo(anzahlZaehlstaendeImMaerz);
+		assertThat(zaehleZeilen("channel_fahrradzaehl_daten_eintrag_202404"))
+			.isEqualTo(anzahlZaehlstaende - anzahlZaehlstaendeImMaerz);
+		assertThat(zaehleZeilen("channel_fahrradzaehl_daten_eintrag")).isEqualTo(anzahlZaehlstaende);
+	}
+
+	@ParameterizedTest
+	@EnumSource(Zeitaufloesung.class)
+	void getZaehlstandZeitreihe_nachAktualisierungDerSummen_liefertSummeDerRohdaten(Zeitaufloesung aufloesung) {
+		// arrange
+		List<Long> channelIds = speichereZaehlstaende();
+		fahrradzaehlstelleRepository.erstelleZaehlstandPartitionen(ERSTER_ZAEHLSTAND, LETZTER_ZAEHLSTAND);
+		fahrradzaehlstelleRepository.aktualisiereZaehlstandSummen(ERSTER_ZAEHLSTAND, LETZTER_ZAEHLSTAND);
+
+		// Ein Zeitraum auf Monatsgrenzen und einer, dessen Ränder in Stunden liegen
+		Zeitstempel vonGanzerZeitraum = Zeitstempel.of("2024-03-01T00:00:00+0100");
+		Zeitstempel bisGanzerZeitraum = Zeitstempel.of("2024-05-01T00:00:00+0200");
+		Zeitstempel vonAngebrochen = Zeitstempel.of("2024-03-30T22:07:00+0100");
+		Zeitstempel bisAngebrochen = Zeitstempel.of("2024-04-01T01:15:00+0200");
+
+		// act
+		ZaehlstandZeitreihe ganzerZeitraum = fahrradzaehlstelleRepository.getZaehlstandZeitreihe(channelIds,
+			instant(vonGanzerZeitraum), instant(bisGanzerZeitraum), aufloesung);
+		ZaehlstandZeitreihe angebrochen = fahrradzaehlstelleRepository.getZaehlstandZeitreihe(channelIds,
+			instant(vonAngebrochen), instant(bisAngebrochen), aufloesung);
+
+		// assert
+		assertThat(LongStream.of(ganzerZeitraum.getZaehlstaende()).sum())
+			.isEqualTo(summeRohdaten(channelIds.size(), vonGanzerZeitraum, bisGanzerZeitraum));
+		assertThat(LongStream.of(angebrochen.getZaehlstaende()).sum())
+			.isEqualTo(summeRohdaten(channelIds.size(), vonAngebrochen, bisAngebrochen));
+		assertThat(ganzerZeitraum.getZeitstempel()).isSorted().doesNotHaveDuplicates();
+		assertThat(angebrochen.getZeitstempel()).isSorted().doesNotHaveDuplicates();
+	}
+
+	@Test
+	void getZaehlstandZeitreihe_tagDerZeitumstellung_hatDreiundzwanzigStunden() {
+		// arrange
+		List<Long> channelIds = speichereZaehlstaende();
+		fahrradzaehlstelleRepository.erstelleZaehlstandPartitionen(ERSTER_ZAEHLSTAND, LETZTER_ZAEHLSTAND);
+		fahrradzaehlstelleRepository.aktualisiereZaehlstandSummen(ERSTER_ZAEHLSTAND, LETZTER_ZAEHLSTAND);
+
+		Zeitstempel tagesbeginn = Zeitstempel.of("2024-03-31T00:00:00+0100");
+		Zeitstempel tagesende = Zeitstempel.of("2024-04-01T00:00:00+0200");
+
+		// act
+		ZaehlstandZeitreihe tage = fahrradzaehlstelleRepository.getZaehlstandZeitreihe(channelIds,
+			instant(tagesbeginn), instant(tagesende), Zeitaufloesung.TAG);
+		ZaehlstandZeitreihe stunden = fahrradzaehlstelleRepository.getZaehlstandZeitreihe(channelIds,
+			instant(tagesbeginn), instant(tagesende), Zeitaufloesung.STUNDE);
+
+		// assert
+		long summeDesTages = summeRohdaten(channelIds.size(), tagesbeginn, tagesende);
+		assertThat(tage.getZeitstempel()).containsExactly(tagesbeginn.getValue());
+		assertThat(tage.getZaehlstaende()).containsExactly(summeDesTages);
+		assertThat(stunden.getAnzahl()).isEqualTo(23);
+		assertThat(stunden.getZeitstempel()[0]).isEqualTo(tagesbeginn.getValue());
+		assertThat(LongStream.of(stunden.getZaehlstaende()).sum()).isEqualTo(summeDesTages);
+	}
+
+	/**
+	 * Speichert zwei Channels mit Zählständen im Viertelstundentakt von ERSTER_ZAEHLSTAND bis LETZTER_ZAEHLSTAND.
+	 * Jeder Zählstand entspricht der Anzahl Viertelstunden seit ERSTER_ZAEHLSTAND plus eins, die erwarteten Summen
+	 * lassen sich so ohne die Datenbank berechnen.
+	 */
+	private List<Long> speichereZaehlstaende() {
+		Fahrradzaehlstelle fahrradzaehlstelle = fahrradzaehlstelleRepository.save(
+			Fahrradzaehlstelle.builder()
+				.betreiberEigeneId(BetreiberEigeneId.of(123L))
+				.geometrie(GeometryTestdataProvider.createPoint(new Coordinate(15, 15)))
+				.neusterZeitstempel(LETZTER_ZAEHLSTAND)
+				.channels(List.of(
+					Channel.builder().channelId(ChannelId.of(456L)).fahrradzaehlDaten(erzeugeZaehlstaende()).build(),
+					Channel.builder().channelId(ChannelId.of(789L)).fahrradzaehlDaten(erzeugeZaehlstaende()).build()))
+				.build());
+		entityManager.flush();
+		return fahrradzaehlstelle.getChannels().stream().map(Channel::getId).toList();
+	}
+
+	private static Map<Zeitstempel, FahrradzaehlDatenEintrag> erzeugeZaehlstaende() {
+		Map<Zeitstempel, FahrradzaehlDatenEintrag> zaehlstaende = new HashMap<>();
+		for (long i = 0; i < zeitstempelBis(Zeitstempel.of(LETZTER_ZAEHLSTAND.getValue() + 1)); i++) {
+			zaehlstaende.put(Zeitstempel.of(ERSTER_ZAEHLSTAND.getValue() + i * 900),
+				FahrradzaehlDatenEintrag.builder().zaehlstand(Zaehlstand.of(i + 1)).build());
+		}
+		return zaehlstaende;
+	}
+
+	// Anzahl der Viertelstunden von ERSTER_ZAEHLSTAND bis ausschließlich bis, begrenzt auf den Bereich der Zählstände
+	private static long zeitstempelBis(Zeitstempel bis) {
+		long sekunden = Math.min(bis.getValue(), LETZTER_ZAEHLSTAND.getValue() + 1) - ERSTER_ZAEHLSTAND.getValue();
+		return Math.max(0, (sekunden + 899) / 900);
+	}
+
+	private static long summeRohdaten(int anzahlChannels, Zeitstempel von, Zeitstempel bis) {
+		long summe = 0;
+		for (long i = zeitstempelBis(von); i < zeitstempelBis(bis); i++) {
+			summe += i + 1;
+		}
+		return anzahlChannels * summe;
+	}
+
+	private long zaehleZeilen(String tabelle) {
+		return ((Number) entityManager.createNativeQuery("SELECT count(*) FROM " + tabelle).getSingleResult())
+			.longValue();
+	}
+
+	private static Instant instant(Zeitstempel zeitstempel) {
+		return Instant.ofEpochSecond(zeitstempel.getValue());
+	}
+}
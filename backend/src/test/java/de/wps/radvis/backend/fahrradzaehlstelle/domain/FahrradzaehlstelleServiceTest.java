@@ -17,27 +17,23 @@ package de.wps.radvis.backend.fahrradzaehlstelle.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import de.wps.radvis.backend.fahrradzaehlstelle.domain.entity.Channel;
-import de.wps.radvis.backend.fahrradzaehlstelle.domain.entity.FahrradzaehlDatenEintrag;
 import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.ArtDerAuswertung;
-import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.ChannelBezeichnung;
-import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.ChannelId;
 import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.DatenEintrag;
 import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.FahrradzaehlstelleAuswertung;
-import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.Zaehlstand;
-import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.Zaehlstatus;
+import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.ZaehlstandZeitreihe;
+import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.Zeitaufloesung;
 import de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject.Zeitstempel;
 
 class FahrradzaehlstelleServiceTest {
@@ -53,7 +49,7 @@ class FahrradzaehlstelleServiceTest {
 
 	@Test
 	public void test_auswertungProStunde() {
-		when(fahrradzaehlstelleRepository.getChannels(any())).thenReturn(createChannelsWithData(
+		mockeZaehlstaendeDerChannels(
 			new HashMap<>() {
 				{
 					put(Zeitstempel.of("2000-01-01T01:00:00+0100"), 9999L);
@@ -146,7 +142,7 @@ class FahrradzaehlstelleServiceTest {
 				}
 			}
 
-		));
+		);
 
 		FahrradzaehlstelleAuswertung auswertung = fahrradzaehlstelleService.getAuswertung(
 			List.of(1L),
@@ -176,7 +172,7 @@ class FahrradzaehlstelleServiceTest {
 	@Test
 	public void test_auswertungProWochentag() {
 
-		when(fahrradzaehlstelleRepository.getChannels(any())).thenReturn(createChannelsWithData(
+		mockeZaehlstaendeDerChannels(
 			new HashMap<>() {
 				{
 					put(Zeitstempel.of("2001-01-01T01:00:00+0100"), 5L);
@@ -237,7 +233,7 @@ class FahrradzaehlstelleServiceTest {
 					put(Zeitstempel.of("2001-01-20T01:00:00+0100"), 9999L);
 				}
 			}
-		));
+		);
 
 		FahrradzaehlstelleAuswertung auswertung = fahrradzaehlstelleService.getAuswertung(
 			List.of(1L),
@@ -265,7 +261,7 @@ class FahrradzaehlstelleServiceTest {
 	@Test
 	public void test_auswertungProMonat() {
 
-		when(fahrradzaehlstelleRepository.getChannels(any())).thenReturn(createChannelsWithData(
+		mockeZaehlstaendeDerChannels(
 			new HashMap<>() {
 				{
 					put(Zeitstempel.of("2001-01-31T01:00:00+0100"), 10L);
@@ -356,7 +352,7 @@ class FahrradzaehlstelleServiceTest {
 					put(Zeitstempel.of("2003-06-20T01:00:00+0100"), 9999L);
 				}
 			}
-		));
+		);
 
 		FahrradzaehlstelleAuswertung auswertung = fahrradzaehlstelleService.getAuswertung(
 			List.of(1L),
@@ -389,7 +385,7 @@ class FahrradzaehlstelleServiceTest {
 	@Test
 	public void test_auswertungProJahr() {
 
-		when(fahrradzaehlstelleRepository.getChannels(any())).thenReturn(createChannelsWithData(
+		mockeZaehlstaendeDerChannels(
 			new HashMap<>() {
 				{
 					put(Zeitstempel.of("2001-01-31T01:00:00+0100"), 10L);
@@ -446,7 +442,7 @@ class FahrradzaehlstelleServiceTest {
 					put(Zeitstempel.of("2000-06-20T01:00:00+0100"), 9999L);
 				}
 			}
-		));
+		);
 
 		FahrradzaehlstelleAuswertung auswertung = fahrradzaehlstelleService.getAuswertung(
 			List.of(1L),
@@ -476,25 +472,43 @@ class FahrradzaehlstelleServiceTest {
 		assertThat(auswertung.getSpitzenwert()).isEqualTo(1320);
 	}
 
+	@Test
+	public void test_fragtZaehlstaendeInGroebsterPassenderAufloesungAn() {
+		when(fahrradzaehlstelleRepository.getZaehlstandZeitreihe(any(), any(), any(), any()))
+			.thenReturn(ZaehlstandZeitreihe.leer());
+
+		fahrradzaehlstelleService.getAuswertung(
+			List.of(1L, 2L),
+			Instant.parse("2001-01-01T00:00:00Z"),
+			Instant.parse("2012-12-31T00:00:00Z"),
+			ArtDerAuswertung.DURCHSCHNITT_PRO_WOCHENTAG
+		);
+
+		verify(fahrradzaehlstelleRepository).getZaehlstandZeitreihe(List.of(1L, 2L),
+			Instant.parse("2001-01-01T00:00:00Z"), Instant.parse("2013-01-01T00:00:00Z"), Zeitaufloesung.TAG);
+	}
+
+	/**
+	 * Simuliert die Datenbank: Zählstände im angefragten Zeitraum werden über alle Channels summiert.
+	 */
 	@SafeVarargs
-	private List<Channel> createChannelsWithData(Map<Zeitstempel, Long>... channelData) {
-		List<Channel> result = new ArrayList<>();
-		long i = 0;
-		for (Map<Zeitstempel, Long> channelDatum : channelData) {
-			Channel channel = Channel.builder()
-				.channelId(ChannelId.of(i))
-				.channelBezeichnung(ChannelBezeichnung.of(String.valueOf(i)))
-				.fahrradzaehlDaten(channelDatum.entrySet().stream().collect(Collectors.toMap(
-					Map.Entry::getKey,
-					entry -> FahrradzaehlDatenEintrag.builder()
-						.zaehlstatus(Zaehlstatus.of(0))
-						.zaehlstand(Zaehlstand.of(entry.getValue()))
-						.build()
-				)))
-				.build();
-			i++;
-			result.add(channel);
-		}
-		return result;
+	private void mockeZaehlstaendeDerChannels(Map<Zeitstempel, Long>... channelData) {
+		when(fahrradzaehlstelleRepository.getZaehlstandZeitreihe(any(), any(), any(), any())).thenAnswer(
+			invocation -> {
+				Instant von = invocation.getArgument(1);
+				Instant bis = invocation.getArgument(2);
+				TreeMap<Long, Long> summen = new TreeMap<>();
+				for (Map<Zeitstempel, Long> channelDatum : channelData) {
+					channelDatum.forEach((zeitstempel, zaehlstand) -> {
+						if (zeitstempel.getValue() >= von.getEpochSecond()
+							&& zeitstempel.getValue() < bis.getEpochSecond()) {
+							summen.merge(zeitstempel.getValue(), zaehlstand, Long::sum);
+						}
+					});
+				}
+				return new ZaehlstandZeitreihe(
+					summen.keySet().stream().mapToLong(Long::longValue).toArray(),
+					summen.values().stream().mapToLong(Long::longValue).toArray());
+			});
 	}
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.fahrradzaehlstelle.domain.valueObject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ZeitaufloesungTest {
+
+	@Test
+	void zerlege_monateImInnerenUndFeinereAufloesungenAnDenRaendern() {
+		// arrange
+		Zeitstempel von = Zeitstempel.of("2023-01-30T10:30:00+0100");
+		Zeitstempel bis = Zeitstempel.of("2023-04-02T05:00:00+0200");
+
+		// act
+		List<Zeitreihenabschnitt> abschnitte = Zeitaufloesung.zerlege(von, bis, Zeitaufloesung.MONAT);
+
+		// assert
+		assertThat(abschnitte).containsExactly(
+			new Zeitreihenabschnitt(Zeitaufloesung.ROHDATEN, von, Zeitstempel.of("2023-01-30T11:00:00+0100")),
+			new Zeitreihenabschnitt(Zeitaufloesung.STUNDE, Zeitstempel.of("2023-01-30T11:00:00+0100"),
+				Zeitstempel.of("2023-01-31T00:00:00+0100")),
+			new Zeitreihenabschnitt(Zeitaufloesung.TAG, Zeitstempel.of("2023-01-31T00:00:00+0100"),
+				Zeitstempel.of("2023-02-01T00:00:00+0100")),
+			new Zeitreihenabschnitt(Zeitaufloesung.MONAT, Zeitstempel.of("2023-02-01T00:00:00+0100"),
+				Zeitstempel.of("2023-04-01T00:00:00+0200")),
+			new Zeitreihenabschnitt(Zeitaufloesung.TAG, Zeitstempel.of("2023-04-01T00:00:00+0200"),
+				Zeitstempel.of("2023-04-02T00:00:00+0200")),
+			new Zeitreihenabschnitt(Zeitaufloesung.STUNDE, Zeitstempel.of("2023-04-02T00:00:00+0200"), bis));
+	}
+
+	@Test
+	void zerlege_beschraenktAufGroebsteAufloesung() {
+		// arrange
+		Zeitstempel von = Zeitstempel.of("2023-01-01T00:00:00+0100");
+		Zeitstempel bis = Zeitstempel.of("2023-03-01T00:00:00+0100");
+
+		// act
+		List<Zeitreihenabschnitt> abschnitte = Zeitaufloesung.zerlege(von, bis, Zeitaufloesung.TAG);
+
+		// assert
+		assertThat(abschnitte).containsExactly(new Zeitreihenabschnitt(Zeitaufloesung.TAG, von, bis));
+	}
+
+	@Test
+	void zerlege_zeitraumKleinerAlsEineStunde_nurRohdaten() {
+		// arrange
+		Zeitstempel von = Zeitstempel.of("2023-01-01T10:15:00+0100");
+		Zeitstempel bis = Zeitstempel.of("2023-01-01T10:45:00+0100");
+
+		// act
+		List<Zeitreihenabschnitt> abschnitte = Zeitaufloesung.zerlege(von, bis, Zeitaufloesung.MONAT);
+
+		// assert
+		assertThat(abschnitte).containsExactly(new Zeitreihenabschnitt(Zeitaufloesung.ROHDATEN, von, bis));
+	}
+
+	@Test
+	void groebsteFuer() {
+		assertThat(Zeitaufloesung.groebsteFuer(ArtDerAuswertung.DURCHSCHNITT_PRO_STUNDE))
+			.isEqualTo(Zeitaufloesung.STUNDE);
+		assertThat(Zeitaufloesung.groebsteFuer(ArtDerAuswertung.DURCHSCHNITT_PRO_WOCHENTAG))
+			.isEqualTo(Zeitaufloesung.TAG);
+		assertThat(Zeitaufloesung.groebsteFuer(ArtDerAuswertung.DURCHSCHNITT_PRO_MONAT))
+			.isEqualTo(Zeitaufloesung.MONAT);
+		assertThat(Zeitaufloesung.groebsteFuer(ArtDerAuswertung.SUMME_PRO_JAHR))
+			.isEqualTo(Zeitaufloesung.MONAT);
+	}
+}
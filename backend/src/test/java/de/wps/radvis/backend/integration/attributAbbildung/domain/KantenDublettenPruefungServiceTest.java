@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.integration.attributAbbildung.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.wps.radvis.backend.common.domain.valueObject.QuellSystem;
+import de.wps.radvis.backend.integration.attributAbbildung.domain.entity.KanteDublette;
+import de.wps.radvis.backend.netz.domain.entity.Kante;
+import de.wps.radvis.backend.netz.domain.entity.provider.KanteTestDataProvider;
+
+class KantenDublettenPruefungServiceTest {
+
+	private KantenDublettenPruefungService kantenDublettenPruefungService;
+
+	@BeforeEach
+	void setUp() {
+		kantenDublettenPruefungService = new KantenDublettenPruefungService();
+	}
+
+	@Test
+	void findDubletten_nurUeberschneidendeKanten() {
+		// arrange
+		Kante fuehrend = kante(1L, 400000, 5400000, 400100, 5400000);
+		Kante ueberschneidend = kante(2L, 400020, 5400000.1, 400080, 5400000.1);
+		Kante parallelAusserhalbDerUngenauigkeit = kante(3L, 400000, 5400000.5, 400100, 5400000.5);
+		Kante weitEntfernt = kante(4L, 400000, 5400050, 400100, 5400050);
+		Kante kreuzend = kante(5L, 400050, 5399950, 400050, 5400050);
+
+		// act
+		List<KanteDublette> dubletten = kantenDublettenPruefungService.findDubletten(Set.of(fuehrend),
+			Set.of(ueberschneidend, parallelAusserhalbDerUngenauigkeit, weitEntfernt, kreuzend));
+
+		// assert
+		assertThat(dubletten)
+			.extracting(KanteDublette::getZielnetzKante, KanteDublette::getQuellnetzKante)
+			.containsExactly(tuple(fuehrend, ueberschneidend));
+	}
+
+	@Test
+	void findDubletten_langeNordSuedKante_reihenfolgeWieSortiert() {
+		// arrange
+		Kante nordSued = kante(1L, 400000, 5400000, 400000, 5410000);
+		Kante ostWest = kante(2L, 400000, 5405000, 400100, 5405000);
+		Kante suedlicherAbschnitt = kante(3L, 400000.1, 5400100, 400000.1, 5400900);
+		Kante noerdlicherAbschnitt = kante(4L, 399999.9, 5409000, 399999.9, 5409800);
+		Kante ueberschneidetOstWest = kante(5L, 400010, 5405000.2, 400090, 5405000.2);
+
+		// act
+		List<KanteDublette> dubletten = kantenDublettenPruefungService.findDubletten(Set.of(ostWest, nordSued),
+			Set.of(noerdlicherAbschnitt, ueberschneidetOstWest, suedlicherAbschnitt));
+
+		// assert
+		assertThat(dubletten)
+			.extracting(KanteDublette::getZielnetzKante, KanteDublette::getQuellnetzKante)
+			.containsExactly(
+				tuple(nordSued, suedlicherAbschnitt),
+				tuple(nordSued, noerdlicherAbschnitt),
+				tuple(ostWest, ueberschneidetOstWest));
+	}
+
+	private Kante kante(long id, double x1, double y1, double x2, double y2) {
+		return KanteTestDataProvider.withCoordinatesAndQuelle(x1, y1, x2, y2, QuellSystem.DLM).id(id).build();
+	}
+}
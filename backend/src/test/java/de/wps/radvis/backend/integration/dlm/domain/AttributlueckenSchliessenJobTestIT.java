@@ -49,6 +49,7 @@ import de.wps.radvis.backend.common.domain.valueObject.LinearReferenzierterAbsch
 import de.wps.radvis.backend.common.domain.valueObject.OrganisationsArt;
 import de.wps.radvis.backend.common.schnittstelle.DBIntegrationTestIT;
 import de.wps.radvis.backend.dokument.DokumentConfiguration;
+import de.wps.radvis.backend.dokument.domain.DokumentConfigurationProperties;
 import de.wps.radvis.backend.integration.attributAbbildung.IntegrationAttributAbbildungConfiguration;
 import de.wps.radvis.backend.integration.dlm.IntegrationDlmConfiguration;
 import de.wps.radvis.backend.integration.radnetz.IntegrationRadNetzConfiguration;
@@ -57,6 +58,7 @@ import de.wps.radvis.backend.kommentar.KommentarConfiguration;
 import de.wps.radvis.backend.matching.MatchingConfiguration;
 import de.wps.radvis.backend.matching.domain.GraphhopperDlmConfigurationProperties;
 import de.wps.radvis.backend.matching.domain.GraphhopperOsmConfigurationProperties;
+import de.wps.radvis.backend.matching.domain.MatchingConfigurationProperties;
 import de.wps.radvis.backend.netz.NetzConfiguration;
 import de.wps.radvis.backend.netz.domain.NetzConfigurationProperties;
 import de.wps.radvis.backend.netz.domain.entity.FahrtrichtungAttributGruppe;
@@ -124,10 +126,12 @@ import jakarta.persistence.EntityManager;
 	FeatureToggleProperties.class,
 	PostgisConfigurationProperties.class,
 	GraphhopperDlmConfigurationProperties.class,
+	MatchingConfigurationProperties.class,
 	GraphhopperOsmConfigurationProperties.class,
 	OsmPbfConfigurationProperties.class,
 	DLMConfigurationProperties.class,
-	NetzConfigurationProperties.class
+	NetzConfigurationProperties.class,
+	DokumentConfigurationProperties.class
 })
 class AttributlueckenSchliessenJobTestIT extends DBIntegrationTestIT {
 	@MockitoBean
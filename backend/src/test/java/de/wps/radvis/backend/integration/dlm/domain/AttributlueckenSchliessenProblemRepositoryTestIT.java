@@ -46,6 +46,7 @@ import de.wps.radvis.backend.konsistenz.regeln.domain.KonsistenzregelnConfigurat
 import de.wps.radvis.backend.matching.MatchingConfiguration;
 import de.wps.radvis.backend.matching.domain.GraphhopperDlmConfigurationProperties;
 import de.wps.radvis.backend.matching.domain.GraphhopperOsmConfigurationProperties;
+import de.wps.radvis.backend.matching.domain.MatchingConfigurationProperties;
 import de.wps.radvis.backend.netz.NetzConfiguration;
 import de.wps.radvis.backend.netz.domain.NetzConfigurationProperties;
 import de.wps.radvis.backend.netz.domain.entity.Knoten;
@@ -86,6 +87,7 @@ import de.wps.radvis.backend.quellimport.grundnetz.domain.DLMConfigurationProper
 	NetzkorrekturConfigurationProperties.class,
 	OsmPbfConfigurationProperties.class,
 	GraphhopperDlmConfigurationProperties.class,
+	MatchingConfigurationProperties.class,
 	GraphhopperOsmConfigurationProperties.class,
 	KonsistenzregelnConfigurationProperties.class
 })
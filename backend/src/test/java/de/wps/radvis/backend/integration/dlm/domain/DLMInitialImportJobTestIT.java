@@ -63,6 +63,7 @@ import de.wps.radvis.backend.integration.radwegedb.IntegrationRadwegeDBConfigura
 import de.wps.radvis.backend.matching.MatchingConfiguration;
 import de.wps.radvis.backend.matching.domain.GraphhopperDlmConfigurationProperties;
 import de.wps.radvis.backend.matching.domain.GraphhopperOsmConfigurationProperties;
+import de.wps.radvis.backend.matching.domain.MatchingConfigurationProperties;
 import de.wps.radvis.backend.netz.NetzConfiguration;
 import de.wps.radvis.backend.netz.domain.NetzConfigurationProperties;
 import de.wps.radvis.backend.netz.domain.entity.Kante;
@@ -112,6 +113,7 @@ import jakarta.persistence.PersistenceContext;
 	GraphhopperOsmConfigurationProperties.class,
 	OsmPbfConfigurationProperties.class,
 	GraphhopperDlmConfigurationProperties.class,
+	MatchingConfigurationProperties.class,
 	NetzkorrekturConfigurationProperties.class,
 	DLMConfigurationProperties.class,
 	NetzConfigurationProperties.class
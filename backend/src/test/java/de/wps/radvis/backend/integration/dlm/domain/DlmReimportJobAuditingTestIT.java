@@ -92,6 +92,7 @@ import de.wps.radvis.backend.massnahme.domain.repository.UmsetzungsstandReposito
 import de.wps.radvis.backend.matching.MatchingConfiguration;
 import de.wps.radvis.backend.matching.domain.GraphhopperDlmConfigurationProperties;
 import de.wps.radvis.backend.matching.domain.GraphhopperOsmConfigurationProperties;
+import de.wps.radvis.backend.matching.domain.MatchingConfigurationProperties;
 import de.wps.radvis.backend.matching.domain.repository.CustomDlmMatchingRepositoryFactory;
 import de.wps.radvis.backend.matching.domain.repository.DlmMatchingRepository;
 import de.wps.radvis.backend.matching.domain.service.CustomGrundnetzMappingServiceFactory;
@@ -165,6 +166,7 @@ import jakarta.persistence.PersistenceContext;
 	GraphhopperOsmConfigurationProperties.class,
 	OsmPbfConfigurationProperties.class,
 	GraphhopperDlmConfigurationProperties.class,
+	MatchingConfigurationProperties.class,
 	NetzkorrekturConfigurationProperties.class,
 	NetzConfigurationProperties.class
 })
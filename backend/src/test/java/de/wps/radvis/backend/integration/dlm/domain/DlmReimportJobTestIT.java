@@ -77,6 +77,7 @@ import de.wps.radvis.backend.common.domain.valueObject.Seitenbezug;
 import de.wps.radvis.backend.common.schnittstelle.CoordinateReferenceSystemConverter;
 import de.wps.radvis.backend.common.schnittstelle.DBIntegrationTestIT;
 import de.wps.radvis.backend.dokument.DokumentConfiguration;
+import de.wps.radvis.backend.dokument.domain.DokumentConfigurationProperties;
 import de.wps.radvis.backend.fahrradroute.FahrradrouteConfiguration;
 import de.wps.radvis.backend.fahrradroute.domain.FahrradrouteConfigurationProperties;
 import de.wps.radvis.backend.fahrradroute.domain.entity.Fahrradroute;
@@ -144,7 +145,8 @@ import jakarta.persistence.PersistenceContext;
 @EntityScan(basePackageClasses = { DokumentConfiguration.class, KommentarConfiguration.class })
 @EnableJpaRepositories(basePackageClasses = { OrganisationConfiguration.class, BenutzerConfiguration.class })
 @EnableConfigurationProperties(value = { JobConfigurationProperties.class, CommonConfigurationProperties.class,
-	MassnahmenConfigurationProperties.class, NetzConfigurationProperties.class })
+	MassnahmenConfigurationProperties.class, NetzConfigurationProperties.class, DokumentConfigurationProperties.class,
+	FahrradrouteConfigurationProperties.class })
 class DlmReimportJobTestIT extends DBIntegrationTestIT {
 	DlmReimportJob dlmReimportJob;
 	@Mock
@@ -214,8 +216,6 @@ class DlmReimportJobTestIT extends DBIntegrationTestIT {
 	private GraphhopperRoutingRepository graphhopperRoutingRepository;
 	@MockitoBean
 	private KanteUpdateElevationService elevationUpdateService;
-	@MockitoBean
-	private FahrradrouteConfigurationProperties fahrradrouteConfigurationProperties;
 
 	private Gebietskoerperschaft gebietskoerperschaft;
 	private Benutzer benutzer;
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.integration.osm.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+
+class OsmNodeSpeicherTest {
+
+	private OsmNodeSpeicher nodeSpeicher;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		nodeSpeicher = new OsmNodeSpeicher();
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		nodeSpeicher.close();
+	}
+
+	@Test
+	void getKoordinate_liefertGespeichertePosition() {
+		// arrange
+		nodeSpeicher.fuegeHinzu(10L, 48.7758459, 9.1829321);
+		nodeSpeicher.fuegeHinzu(11_000_000_000L, -33.8688197, -151.2092955);
+
+		// act
+		int index1 = nodeSpeicher.getIndex(10L);
+		int index2 = nodeSpeicher.getIndex(11_000_000_000L);
+
+		// assert
+		assertThat(nodeSpeicher.getKoordinate(index1)).isEqualTo(new Coordinate(48.7758459, 9.1829321));
+		assertThat(nodeSpeicher.getKoordinate(index2)).isEqualTo(new Coordinate(-33.8688197, -151.2092955));
+		assertThat(nodeSpeicher.getAnzahlNodes()).isEqualTo(2);
+	}
+
+	@Test
+	void getIndex_unbekannteNode() {
+		// arrange
+		nodeSpeicher.fuegeHinzu(10L, 48.0, 9.0);
+		nodeSpeicher.fuegeHinzu(20L, 48.0, 9.0);
+
+		// act + assert
+		assertThat(nodeSpeicher.getIndex(5L)).isEqualTo(-1);
+		assertThat(nodeSpeicher.getIndex(15L)).isEqualTo(-1);
+		assertThat(nodeSpeicher.getIndex(25L)).isEqualTo(-1);
+	}
+
+	@Test
+	void fuegeHinzu_unsortiert_wirftException() {
+		// arrange
+		nodeSpeicher.fuegeHinzu(10L, 48.0, 9.0);
+
+		// act + assert
+		assertThatThrownBy(() -> nodeSpeicher.fuegeHinzu(9L, 48.0, 9.0)).isInstanceOf(RuntimeException.class);
+	}
+
+	@Test
+	void knoten_werdenProNodeGemerkt() {
+		// arrange
+		for (long nodeId = 1; nodeId <= 1000; nodeId++) {
+			nodeSpeicher.fuegeHinzu(nodeId * 7, 48.0, 9.0);
+		}
+		int index = nodeSpeicher.getIndex(700L);
+
+		// act
+		nodeSpeicher.markiereBesucht(index);
+		nodeSpeicher.setzeKnotenId(index, 4711L);
+
+		// assert
+		assertThat(nodeSpeicher.istBesucht(index)).isTrue();
+		assertThat(nodeSpeicher.istBesucht(index + 1)).isFalse();
+		assertThat(nodeSpeicher.istKnoten(index)).isTrue();
+		assertThat(nodeSpeicher.istKnoten(index - 1)).isFalse();
+		assertThat(nodeSpeicher.getKnotenId(index)).isEqualTo(4711L);
+		assertThat(nodeSpeicher.getAnzahlKnoten()).isEqualTo(1);
+	}
+}
@@ -17,6 +17,7 @@ package de.wps.radvis.backend.konsistenz.pruefung.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -32,6 +33,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionOperations;
 
 import de.wps.radvis.backend.common.domain.JobExecutionDescriptionRepository;
 import de.wps.radvis.backend.common.domain.RadVisDomainEventPublisher;
@@ -74,7 +76,7 @@ class KonsistenzregelPruefJobTest {
 			KonsistenzregelVerletzungTestdataProvider.getDefaultKonsistenzregelVerletzungsDetails("4")));
 
 		konsistenzregelPruefJob = new KonsistenzregelPruefJob(List.of(konsistenzregel),
-			verletzungsRepository, jobExecutionDescriptionRepository);
+			verletzungsRepository, jobExecutionDescriptionRepository, TransactionOperations.withoutTransaction(), 1);
 		domainPublisherMock = mockStatic(RadVisDomainEventPublisher.class);
 	}
 
@@ -113,4 +115,33 @@ class KonsistenzregelPruefJobTest {
 		assertThat(saveAllArgument.getAllValues().get(1)).extracting(KonsistenzregelVerletzung::getIdentity)
 			.containsExactly("4");
 	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void doRun_parallel_uebernimmtErgebnisseInReihenfolgeDerRegeln() {
+		// Arrange
+		Konsistenzregel zweiteRegel = mock(Konsistenzregel.class);
+		when(zweiteRegel.getTitel()).thenReturn("Professor");
+		when(zweiteRegel.getVerletzungsTyp()).thenReturn("Anderer Typ");
+		when(zweiteRegel.pruefen()).thenReturn(List.of(
+			KonsistenzregelVerletzungTestdataProvider.getDefaultKonsistenzregelVerletzungsDetails("5")));
+		when(verletzungsRepository.findAllByTyp("Anderer Typ")).thenReturn(List.of());
+
+		konsistenzregelPruefJob = new KonsistenzregelPruefJob(List.of(konsistenzregel, zweiteRegel),
+			verletzungsRepository, jobExecutionDescriptionRepository, TransactionOperations.withoutTransaction(), 2);
+
+		// Act
+		konsistenzregelPruefJob.doRun();
+
+		// Assert
+		verify(verletzungsRepository).deleteAllByTypAndIdentityIn(anyString(), any());
+
+		ArgumentCaptor<List<KonsistenzregelVerletzung>> saveAllArgument = ArgumentCaptor.forClass(List.class);
+		verify(verletzungsRepository, times(4)).saveAll(saveAllArgument.capture());
+		assertThat(saveAllArgument.getAllValues().get(1)).extracting(KonsistenzregelVerletzung::getIdentity)
+			.containsExactly("4");
+		assertThat(saveAllArgument.getAllValues().get(2)).isEmpty();
+		assertThat(saveAllArgument.getAllValues().get(3)).extracting(KonsistenzregelVerletzung::getIdentity)
+			.containsExactly("5");
+	}
 }
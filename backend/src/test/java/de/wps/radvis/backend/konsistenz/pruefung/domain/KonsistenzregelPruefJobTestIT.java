@@ -34,6 +34,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionOperations;
 
 import de.wps.radvis.backend.benutzer.BenutzerConfiguration;
 import de.wps.radvis.backend.benutzer.domain.TechnischerBenutzerConfigurationProperties;
@@ -106,7 +107,7 @@ class KonsistenzregelPruefJobTestIT extends DBIntegrationTestIT {
 	@BeforeEach
 	void setUp() {
 		konsistenzregelPruefJob = new KonsistenzregelPruefJob(List.of(new MindestbreiteKonsistenzregel(jdbcTemplate)),
-			verletzungsRepository, jobExecutionDescriptionRepository);
+			verletzungsRepository, jobExecutionDescriptionRepository, TransactionOperations.withoutTransaction(), 1);
 		domainPublisherMock = mockStatic(RadVisDomainEventPublisher.class);
 	}
 
@@ -40,6 +40,7 @@ import de.wps.radvis.backend.benutzer.domain.repository.BenutzerRepository;
 import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
 import de.wps.radvis.backend.common.domain.valueObject.QuellSystem;
 import de.wps.radvis.backend.dokument.DokumentConfiguration;
+import de.wps.radvis.backend.dokument.domain.DokumentConfigurationProperties;
 import de.wps.radvis.backend.kommentar.KommentarConfiguration;
 import de.wps.radvis.backend.konsistenz.regeln.domain.valueObject.KonsistenzregelVerletzungsDetails;
 import de.wps.radvis.backend.massnahme.MassnahmeConfiguration;
@@ -73,7 +74,8 @@ import de.wps.radvis.backend.organisation.domain.provider.VerwaltungseinheitTest
 	DokumentConfiguration.class
 })
 @EnableConfigurationProperties(value = {
-	OrganisationConfigurationProperties.class
+	OrganisationConfigurationProperties.class,
+	DokumentConfigurationProperties.class
 })
 public class RadNetzMassnahmeNetzklasseKonsistenzregelTestIT extends AbstractKonsistenzregelTestIT {
 
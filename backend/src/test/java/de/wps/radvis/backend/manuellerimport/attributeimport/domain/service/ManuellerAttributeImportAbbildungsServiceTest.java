@@ -58,6 +58,7 @@ import de.wps.radvis.backend.manuellerimport.attributeimport.domain.entity.Featu
 import de.wps.radvis.backend.manuellerimport.common.domain.entity.AbstractImportSession;
 import de.wps.radvis.backend.manuellerimport.common.domain.repository.InMemoryKantenRepository;
 import de.wps.radvis.backend.manuellerimport.common.domain.repository.InMemoryKantenRepositoryFactory;
+import de.wps.radvis.backend.manuellerimport.common.domain.service.ParallelerAbbilder;
 import de.wps.radvis.backend.manuellerimport.common.domain.valueobject.AttributeImportFormat;
 import de.wps.radvis.backend.manuellerimport.common.domain.valueobject.ImportLogEintrag;
 import de.wps.radvis.backend.manuellerimport.common.domain.valueobject.Severity;
@@ -94,7 +95,7 @@ class ManuellerAttributeImportAbbildungsServiceTest {
 		when(factory.create(any(Envelope.class), any(MultiPolygon.class))).thenReturn(inMemoryKantenRepository);
 
 		this.manuellerAttributeImportAbbildungsService = new ManuellerAttributeImportAbbildungsService(factory,
-			new GrundnetzMappingService(matchingService));
+			new GrundnetzMappingService(matchingService), new ParallelerAbbilder(2));
 	}
 
 	@Test
@@ -355,7 +356,7 @@ class ManuellerAttributeImportAbbildungsServiceTest {
 			factory = new InMemoryKantenRepositoryFactory(kantenRepository);
 
 			manuellerAttributeImportAbbildungsService = new ManuellerAttributeImportAbbildungsService(
-				factory, new GrundnetzMappingService(simpleMatchingService));
+				factory, new GrundnetzMappingService(simpleMatchingService), new ParallelerAbbilder(1));
 		}
 
 		@Test
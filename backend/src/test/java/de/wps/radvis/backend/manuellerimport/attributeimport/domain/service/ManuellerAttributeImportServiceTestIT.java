@@ -56,6 +56,7 @@ import de.wps.radvis.backend.manuellerimport.attributeimport.domain.entity.Featu
 import de.wps.radvis.backend.manuellerimport.attributeimport.domain.entity.FeatureMappingTestDataProvider;
 import de.wps.radvis.backend.manuellerimport.attributeimport.domain.valueObject.KantenKonfliktProtokoll;
 import de.wps.radvis.backend.manuellerimport.common.ManuellerImportCommonConfiguration;
+import de.wps.radvis.backend.manuellerimport.common.domain.ManuellerImportConfigurationProperties;
 import de.wps.radvis.backend.manuellerimport.common.domain.entity.ManuellerImportFehler;
 import de.wps.radvis.backend.manuellerimport.common.domain.repository.ManuellerImportFehlerRepository;
 import de.wps.radvis.backend.manuellerimport.common.domain.valueobject.ImportTyp;
@@ -63,6 +64,7 @@ import de.wps.radvis.backend.manuellerimport.common.domain.valueobject.Konflikt;
 import de.wps.radvis.backend.matching.MatchingConfiguration;
 import de.wps.radvis.backend.matching.domain.GraphhopperDlmConfigurationProperties;
 import de.wps.radvis.backend.matching.domain.GraphhopperOsmConfigurationProperties;
+import de.wps.radvis.backend.matching.domain.MatchingConfigurationProperties;
 import de.wps.radvis.backend.matching.domain.entity.MappedGrundnetzkante;
 import de.wps.radvis.backend.netz.NetzConfiguration;
 import de.wps.radvis.backend.netz.domain.NetzConfigurationProperties;
@@ -100,6 +102,7 @@ import de.wps.radvis.backend.quellimport.grundnetz.domain.DLMConfigurationProper
 	FeatureToggleProperties.class,
 	GraphhopperOsmConfigurationProperties.class,
 	GraphhopperDlmConfigurationProperties.class,
+	MatchingConfigurationProperties.class,
 	DLMConfigurationProperties.class,
 	TechnischerBenutzerConfigurationProperties.class,
 	PostgisConfigurationProperties.class,
@@ -107,6 +110,7 @@ import de.wps.radvis.backend.quellimport.grundnetz.domain.DLMConfigurationProper
 	KonsistenzregelnConfigurationProperties.class,
 	OrganisationConfigurationProperties.class,
 	NetzConfigurationProperties.class,
+	ManuellerImportConfigurationProperties.class,
 })
 @ActiveProfiles("test")
 class ManuellerAttributeImportServiceTestIT extends DBIntegrationTestIT {
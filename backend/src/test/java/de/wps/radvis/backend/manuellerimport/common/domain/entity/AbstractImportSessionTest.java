@@ -35,6 +35,11 @@ class AbstractImportSessionTest {
 				return 0;
 			}
 
+			@Override
+			public long getAnzahlFeatures() {
+				return 0;
+			}
+
 			@Override
 			public MultiPolygon getBereich() {
 				return null;
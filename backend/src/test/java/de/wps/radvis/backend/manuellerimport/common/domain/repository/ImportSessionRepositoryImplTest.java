@@ -15,7 +15,13 @@
 package de.wps.radvis.backend.manuellerimport.common.domain.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -25,18 +31,141 @@ import org.junit.jupiter.api.Test;
 import de.wps.radvis.backend.benutzer.domain.entity.Benutzer;
 import de.wps.radvis.backend.benutzer.domain.entity.BenutzerTestDataProvider;
 import de.wps.radvis.backend.manuellerimport.common.domain.entity.AbstractImportSession;
+import de.wps.radvis.backend.manuellerimport.common.domain.exception.ImportSessionKapazitaetErschoepftException;
 import de.wps.radvis.backend.manuellerimport.netzzugehoerigkeit.domain.entity.NetzklasseImportSession;
 import de.wps.radvis.backend.netz.domain.valueObject.Netzklasse;
 import de.wps.radvis.backend.organisation.domain.entity.Verwaltungseinheit;
 import de.wps.radvis.backend.organisation.domain.provider.VerwaltungseinheitTestDataProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 public class ImportSessionRepositoryImplTest {
 
+	private static final Instant START = Instant.parse("2024-03-01T08:00:00Z");
+
 	private ImportSessionRepositoryImpl importSessionRepositoryImpl;
+	private Clock clock;
+	private SimpleMeterRegistry meterRegistry;
 
 	@BeforeEach
 	void beforeEach() {
-		importSessionRepositoryImpl = new ImportSessionRepositoryImpl();
+		clock = mock(Clock.class);
+		when(clock.instant()).thenReturn(START);
+		meterRegistry = new SimpleMeterRegistry();
+		importSessionRepositoryImpl = new ImportSessionRepositoryImpl(Duration.ofHours(1), 2, meterRegistry, clock);
+	}
+
+	@Test
+	public void find_nachLeerlaufzeit_sessionBleibtErhalten() {
+		// Arrange
+		NetzklasseImportSession session = erzeugeSession(1L);
+		importSessionRepositoryImpl.save(session);
+
+		// Act
+		when(clock.instant()).thenReturn(START.plus(Duration.ofHours(3)));
+
+		// Assert
+		assertThat(importSessionRepositoryImpl.find(session.getBenutzer(), NetzklasseImportSession.class))
+			.contains(session);
+		assertThat(meterRegistry.get("radvis.manuellerimport.sessions.verworfen").tag("grund", "leerlauf").counter()
+			.count()).isZero();
+	}
+
+	@Test
+	public void save_maximaleAnzahlErreicht_aufgegebeneSessionVerworfen() {
+		// Arrange
+		NetzklasseImportSession session1 = erzeugeSession(1L);
+		NetzklasseImportSession session2 = erzeugeSession(2L);
+		NetzklasseImportSession session3 = erzeugeSession(3L);
+		importSessionRepositoryImpl.save(session1);
+		importSessionRepositoryImpl.save(session2);
+		when(clock.instant()).thenReturn(START.plus(Duration.ofHours(2)));
+		importSessionRepositoryImpl.find(session2.getBenutzer(), NetzklasseImportSession.class);
+
+		// Act
+		importSessionRepositoryImpl.save(session3);
+
+		// Assert
+		assertThat(importSessionRepositoryImpl.exists(session1.getBenutzer())).isFalse();
+		assertThat(importSessionRepositoryImpl.exists(session2.getBenutzer())).isTrue();
+		assertThat(importSessionRepositoryImpl.exists(session3.getBenutzer())).isTrue();
+		assertThat(meterRegistry.get("radvis.manuellerimport.sessions.verworfen").tag("grund", "leerlauf").counter()
+			.count()).isEqualTo(1);
+		assertThat(meterRegistry.get("radvis.manuellerimport.sessions.anzahl").gauge().value()).isEqualTo(2);
+	}
+
+	@Test
+	public void save_maximaleAnzahlErreichtOhneAufgegebeneSession_neueSessionAbgelehnt() {
+		// Arrange
+		NetzklasseImportSession session1 = erzeugeSession(1L);
+		NetzklasseImportSession session2 = erzeugeSession(2L);
+		NetzklasseImportSession session3 = erzeugeSession(3L);
+		importSessionRepositoryImpl.save(session1);
+		importSessionRepositoryImpl.save(session2);
+		when(clock.instant()).thenReturn(START.plus(Duration.ofMinutes(30)));
+
+		// Act + Assert
+		assertThatThrownBy(() -> importSessionRepositoryImpl.save(session3))
+			.isInstanceOf(ImportSessionKapazitaetErschoepftException.class);
+		assertThat(importSessionRepositoryImpl.exists(session1.getBenutzer())).isTrue();
+		assertThat(importSessionRepositoryImpl.exists(session2.getBenutzer())).isTrue();
+		assertThat(importSessionRepositoryImpl.exists(session3.getBenutzer())).isFalse();
+		assertThat(meterRegistry.get("radvis.manuellerimport.sessions.abgelehnt").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	public void save_maximaleAnzahlErreichtUndLeerlaufendeSessionsAusfuehrend_neueSessionAbgelehnt() {
+		// Arrange
+		NetzklasseImportSession session1 = erzeugeSession(1L);
+		NetzklasseImportSession session2 = erzeugeSession(2L);
+		session1.setExecuting(true);
+		session2.setExecuting(true);
+		importSessionRepositoryImpl.save(session1);
+		importSessionRepositoryImpl.save(session2);
+		when(clock.instant()).thenReturn(START.plus(Duration.ofHours(3)));
+
+		// Act + Assert
+		assertThatThrownBy(() -> importSessionRepositoryImpl.save(erzeugeSession(3L)))
+			.isInstanceOf(ImportSessionKapazitaetErschoepftException.class);
+		assertThat(importSessionRepositoryImpl.getAnzahlSessions()).isEqualTo(2);
+	}
+
+	@Test
+	public void save_maximaleAnzahlErreichtUndSessionBereitsVorhanden_sessionAktualisiert() {
+		// Arrange
+		NetzklasseImportSession session1 = erzeugeSession(1L);
+		NetzklasseImportSession session2 = erzeugeSession(2L);
+		importSessionRepositoryImpl.save(session1);
+		importSessionRepositoryImpl.save(session2);
+
+		// Act
+		importSessionRepositoryImpl.save(session1);
+
+		// Assert
+		assertThat(importSessionRepositoryImpl.find(session1.getBenutzer(), NetzklasseImportSession.class))
+			.contains(session1);
+		assertThat(importSessionRepositoryImpl.getAnzahlSessions()).isEqualTo(2);
+	}
+
+	@Test
+	public void getAnzahlFeatures_summiertUeberSessions() {
+		// Arrange
+		NetzklasseImportSession session1 = erzeugeSession(1L);
+		session1.toggleNetzklassenzugehoerigkeit(10L);
+		session1.toggleNetzklassenzugehoerigkeit(11L);
+		NetzklasseImportSession session2 = erzeugeSession(2L);
+		session2.toggleNetzklassenzugehoerigkeit(12L);
+
+		// Act
+		importSessionRepositoryImpl.save(session1);
+		importSessionRepositoryImpl.save(session2);
+
+		// Assert
+		assertThat(meterRegistry.get("radvis.manuellerimport.sessions.features").gauge().value()).isEqualTo(3);
+	}
+
+	private NetzklasseImportSession erzeugeSession(Long benutzerId) {
+		return new NetzklasseImportSession(BenutzerTestDataProvider.defaultBenutzer().id(benutzerId).build(),
+			VerwaltungseinheitTestDataProvider.defaultGebietskoerperschaft().build(), Netzklasse.RADVORRANGROUTEN);
 	}
 
 	@Nested
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.manuellerimport.common.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import de.wps.radvis.backend.benutzer.domain.entity.BenutzerTestDataProvider;
+import de.wps.radvis.backend.manuellerimport.netzzugehoerigkeit.domain.entity.NetzklasseImportSession;
+import de.wps.radvis.backend.netz.domain.valueObject.Netzklasse;
+import de.wps.radvis.backend.organisation.domain.provider.VerwaltungseinheitTestDataProvider;
+
+class ParallelerAbbilderTest {
+
+	@Test
+	void testBildeAb_parallel_ergebnisseInReihenfolgeDerEingaben() {
+		// arrange
+		ParallelerAbbilder parallelerAbbilder = new ParallelerAbbilder(4);
+		List<Integer> eingaben = IntStream.range(0, 200).boxed().toList();
+		Set<String> threadNamen = ConcurrentHashMap.newKeySet();
+
+		// act
+		List<Integer> ergebnisse = parallelerAbbilder.bildeAb(eingaben, eingabe -> {
+			threadNamen.add(Thread.currentThread().getName());
+			return eingabe * 2;
+		});
+
+		// assert
+		assertThat(ergebnisse).isEqualTo(eingaben.stream().map(eingabe -> eingabe * 2).toList());
+		assertThat(threadNamen).allMatch(name -> name.startsWith("manueller-import-abbildung-worker-"));
+	}
+
+	@Test
+	void testBildeAb_parallel_bildetNebenlaeufigAb() {
+		// arrange
+		ParallelerAbbilder parallelerAbbilder = new ParallelerAbbilder(2);
+		// Beide Abbildungen warten aufeinander und kommen nur weiter, wenn sie gleichzeitig laufen
+		CyclicBarrier barriere = new CyclicBarrier(2);
+
+		// act
+		List<String> ergebnisse = parallelerAbbilder.bildeAb(List.of("a", "b"), eingabe -> {
+			try {
+				barriere.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+				throw new RuntimeException(e);
+			}
+			return eingabe.toUpperCase();
+		});
+
+		// assert
+		assertThat(ergebnisse).containsExactly("A", "B");
+	}
+
+	@Test
+	void testBildeAb_sequentiell_ergebnisseInReihenfolgeDerEingaben() {
+		// arrange
+		ParallelerAbbilder parallelerAbbilder = new ParallelerAbbilder(1);
+		String aufrufenderThread = Thread.currentThread().getName();
+
+		// act
+		List<String> threadNamen = parallelerAbbilder.bildeAb(List.of(1, 2, 3),
+			eingabe -> Thread.currentThread().getName());
+
+		// assert
+		assertThat(threadNamen).containsOnly(aufrufenderThread).hasSize(3);
+	}
+
+	@Test
+	void testBildeAb_mitSession_schreibtFortschrittFort() {
+		// arrange
+		ParallelerAbbilder parallelerAbbilder = new ParallelerAbbilder(3);
+		NetzklasseImportSession session = new NetzklasseImportSession(
+			BenutzerTestDataProvider.defaultBenutzer().build(),
+			VerwaltungseinheitTestDataProvider.defaultGebietskoerperschaft().build(), Netzklasse.RADVORRANGROUTEN);
+		session.starteAbbildung(5);
+		session.meldeFeatureAbgebildet();
+
+		// act
+		parallelerAbbilder.bildeAb(IntStream.range(0, 17).boxed().toList(), eingabe -> eingabe, session);
+
+		// assert
+		assertThat(session.getAnzahlAbzubildenderFeatures()).isEqualTo(17);
+		assertThat(session.getAnzahlAbgebildeterFeatures()).isEqualTo(17);
+	}
+
+	@Test
+	void testBildeAb_abbildungWirftException_wirdWeitergereicht() {
+		// arrange
+		ParallelerAbbilder parallelerAbbilder = new ParallelerAbbilder(2);
+
+		// act & assert
+		assertThatThrownBy(() -> parallelerAbbilder.bildeAb(List.of(1, 2, 3), eingabe -> {
+			if (eingabe == 2) {
+				throw new IllegalStateException("Matching fehlgeschlagen");
+			}
+			return eingabe;
+		})).isInstanceOf(IllegalStateException.class).hasMessage("Matching fehlgeschlagen");
+	}
+}
@@ -34,6 +34,7 @@ import de.wps.radvis.backend.common.domain.exception.ZipFileExtractException;
 import de.wps.radvis.backend.common.domain.repository.CsvRepository;
 import de.wps.radvis.backend.common.domain.service.ZipService;
 import de.wps.radvis.backend.common.domain.valueObject.QuellSystem;
+import de.wps.radvis.backend.dokument.domain.DokumentService;
 import de.wps.radvis.backend.manuellerimport.common.domain.service.ManuellerImportService;
 import de.wps.radvis.backend.manuellerimport.massnahmendateianhaenge.domain.entity.MassnahmenDateianhaengeImportSession;
 import de.wps.radvis.backend.manuellerimport.massnahmendateianhaenge.domain.valueObject.MassnahmenDateianhaengeImportZuordnungStatus;
@@ -56,6 +57,8 @@ class ManuellerMassnahmenDateianhaengeImportServiceTest {
 	private MassnahmeRepository massnahmeRepository;
 	@Mock
 	private VerwaltungseinheitRepository verwaltungseinheitRepository;
+	@Mock
+	private DokumentService dokumentService;
 
 	private ManuellerMassnahmenDateianhaengeImportService manuellerMassnahmenDateianhaengeImportService;
 
@@ -63,7 +66,8 @@ class ManuellerMassnahmenDateianhaengeImportServiceTest {
 	void setup() {
 		MockitoAnnotations.openMocks(this);
 		manuellerMassnahmenDateianhaengeImportService = new ManuellerMassnahmenDateianhaengeImportService(
-			manuellerImportService, zipService, csvRepository, massnahmeRepository, verwaltungseinheitRepository);
+			manuellerImportService, zipService, csvRepository, massnahmeRepository, verwaltungseinheitRepository,
+			dokumentService);
 	}
 
 	@Test
@@ -53,6 +53,7 @@ import de.wps.radvis.backend.common.schnittstelle.CoordinateReferenceSystemConve
 import de.wps.radvis.backend.common.schnittstelle.GeoJsonExportConverter;
 import de.wps.radvis.backend.common.schnittstelle.repositoryImpl.GeoJsonImportRepositoryImpl;
 import de.wps.radvis.backend.manuellerimport.common.domain.service.ManuellerImportService;
+import de.wps.radvis.backend.manuellerimport.common.domain.service.ParallelerAbbilder;
 import de.wps.radvis.backend.manuellerimport.massnahmenimport.domain.entity.MassnahmenImportSession;
 import de.wps.radvis.backend.manuellerimport.massnahmenimport.domain.entity.MassnahmenImportZuordnung;
 import de.wps.radvis.backend.manuellerimport.massnahmenimport.domain.valueObject.MassnahmenImportAttribute;
@@ -118,10 +119,10 @@ public class ManuellerMassnahmenImportServiceIntegrationTest {
 		GeoJsonImportRepository geoJsonImportRepository = new GeoJsonImportRepositoryImpl(
 			new CoordinateReferenceSystemConverter(new Envelope(0, 0, 100, 100)));
 		MassnahmeNetzbezugService massnahmeNetzbezugService = new MassnahmeNetzbezugService(
-			simpleMatchingService, netzService);
+			simpleMatchingService, netzService, new ParallelerAbbilder(1));
 		geoJsonExportConverter = new GeoJsonExportConverter();
 
-		massnahmenExporterService = new MassnahmenExporterService(massnahmeViewRepository);
+		massnahmenExporterService = new MassnahmenExporterService(massnahmeViewRepository, entityManager);
 		massnahmenImportService = new ManuellerMassnahmenImportService(manuellerImportService,
 			massnahmeNetzbezugService, geoJsonImportRepository, verwaltungseinheitService, massnahmeRepository,
 			entityManager, csvRepository, 10.0);
@@ -2781,11 +2781,10 @@ class ManuellerMassnahmenImportServiceTest {
 		assertThat(session.getSchritt()).isEqualTo(MassnahmenImportSession.IMPORT_UEBERPRUEFEN_UND_SPEICHERN);
 		assertThat(session.getZuordnungen()).hasSize(4);
 
-		ArgumentCaptor<MassnahmenImportZuordnung> zuordnungCaptor = ArgumentCaptor
-			.forClass(MassnahmenImportZuordnung.class);
-		verify(massnahmeNetzbezugService, times(2))
-			.bestimmeNetzbezugDerZuordnung(zuordnungCaptor.capture(), any());
-		assertThat(zuordnungCaptor.getAllValues()).hasSize(2)
+		ArgumentCaptor<List<MassnahmenImportZuordnung>> zuordnungenCaptor = ArgumentCaptor.forClass(List.class);
+		verify(massnahmeNetzbezugService, times(1))
+			.bestimmeNetzbezuegeDerZuordnungen(zuordnungenCaptor.capture(), any(), eq(session));
+		assertThat(zuordnungenCaptor.getValue()).hasSize(2)
 			.allMatch(zuordnung -> zuordnung.getZuordnungStatus() == MassnahmenImportZuordnungStatus.ZUGEORDNET ||
 				zuordnung.getZuordnungStatus() == MassnahmenImportZuordnungStatus.NEU);
 	}
@@ -2819,9 +2818,10 @@ class ManuellerMassnahmenImportServiceTest {
 		assertThat(session.getSchritt()).isEqualTo(MassnahmenImportSession.IMPORT_UEBERPRUEFEN_UND_SPEICHERN);
 		assertThat(session.getZuordnungen()).hasSize(1);
 
-		ArgumentCaptor<MassnahmenImportZuordnung> zuordnungCaptor = ArgumentCaptor.forClass(
-			MassnahmenImportZuordnung.class);
-		verify(massnahmeNetzbezugService, never()).bestimmeNetzbezugDerZuordnung(zuordnungCaptor.capture(), any());
+		ArgumentCaptor<List<MassnahmenImportZuordnung>> zuordnungenCaptor = ArgumentCaptor.forClass(List.class);
+		verify(massnahmeNetzbezugService, times(1))
+			.bestimmeNetzbezuegeDerZuordnungen(zuordnungenCaptor.capture(), any(), eq(session));
+		assertThat(zuordnungenCaptor.getValue()).isEmpty();
 	}
 
 	@Test
@@ -40,17 +40,21 @@ import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Point;
 import org.mockito.Mock;
 
+import de.wps.radvis.backend.benutzer.domain.entity.BenutzerTestDataProvider;
 import de.wps.radvis.backend.common.GeometryTestdataProvider;
 import de.wps.radvis.backend.common.SimpleFeatureTestDataProvider;
 import de.wps.radvis.backend.common.domain.valueObject.LinearReferenzierterAbschnitt;
 import de.wps.radvis.backend.common.domain.valueObject.LineareReferenz;
 import de.wps.radvis.backend.common.domain.valueObject.QuellSystem;
 import de.wps.radvis.backend.common.domain.valueObject.Seitenbezug;
+import de.wps.radvis.backend.manuellerimport.common.domain.service.ParallelerAbbilder;
+import de.wps.radvis.backend.manuellerimport.massnahmenimport.domain.entity.MassnahmenImportSession;
 import de.wps.radvis.backend.manuellerimport.massnahmenimport.domain.entity.MassnahmenImportZuordnung;
 import de.wps.radvis.backend.manuellerimport.massnahmenimport.domain.entity.MassnahmenImportZuordnungTestDataProvider;
 import de.wps.radvis.backend.manuellerimport.massnahmenimport.domain.valueObject.NetzbezugHinweis;
 import de.wps.radvis.backend.manuellerimport.massnahmenimport.domain.valueObject.NetzbezugHinweisText;
 import de.wps.radvis.backend.massnahme.domain.entity.MassnahmeNetzBezug;
+import de.wps.radvis.backend.massnahme.domain.valueObject.Konzeptionsquelle;
 import de.wps.radvis.backend.matching.domain.entity.MatchingStatistik;
 import de.wps.radvis.backend.matching.domain.service.SimpleMatchingService;
 import de.wps.radvis.backend.matching.domain.valueObject.OsmMatchResult;
@@ -76,7 +80,7 @@ class MassnahmeNetzbezugServiceTest {
 	@BeforeEach
 	void setUp() {
 		openMocks(this);
-		service = new MassnahmeNetzbezugService(simpleMatchingService, netzService);
+		service = new MassnahmeNetzbezugService(simpleMatchingService, netzService, new ParallelerAbbilder(2));
 	}
 
 	@Test
@@ -207,6 +211,81 @@ class MassnahmeNetzbezugServiceTest {
 		assertThatMassnahmenImportZuordnung(zuordnung).doesNotHaveAnyHinweis();
 	}
 
+	@Test
+	void testBestimmeNetzbezuegeDerZuordnungen_mehrereZuordnungen_netzbezuegeUndStatistikWieEinzeln() {
+		// Arrange
+		Knoten vonKnoten = KnotenTestDataProvider.withCoordinateAndQuelle(new Coordinate(0, 0), QuellSystem.DLM)
+			.id(1L)
+			.build();
+		Knoten bisKnoten = KnotenTestDataProvider.withCoordinateAndQuelle(new Coordinate(100, 0), QuellSystem.DLM)
+			.id(2L)
+			.build();
+		Kante kante = KanteTestDataProvider.fromKnoten(vonKnoten, bisKnoten)
+			.id(100L)
+			.build();
+
+		LineString lineString1 = GeometryTestdataProvider.createLineString(
+			new Coordinate(0, 0),
+			new Coordinate(20, 0));
+		LineString lineString2 = GeometryTestdataProvider.createLineString(
+			new Coordinate(80, 0),
+			new Coordinate(100, 0));
+		LineString lineStringOhneMatch = GeometryTestdataProvider.createLineString(
+			new Coordinate(0, 500),
+			new Coordinate(20, 500));
+
+		when(simpleMatchingService.matche(eq(lineString1), any())).thenReturn(
+			Optional.of(new OsmMatchResult(lineString1, List.of(OsmWayId.of(kante.getId())))));
+		when(simpleMatchingService.matche(eq(lineString2), any())).thenReturn(
+			Optional.of(new OsmMatchResult(lineString2, List.of(OsmWayId.of(kante.getId())))));
+		when(simpleMatchingService.matche(eq(lineStringOhneMatch), any())).thenAnswer(invocation -> {
+			invocation.<MatchingStatistik>getArgument(1).anzahlOhneMatch++;
+			return Optional.empty();
+		});
+		when(netzService.getKante(kante.getId())).thenReturn(kante);
+
+		MassnahmenImportZuordnung zuordnung1 = MassnahmenImportZuordnungTestDataProvider.neuWithFeature(
+			SimpleFeatureTestDataProvider.withGeometryAndAttributes(Collections.emptyMap(), lineString1));
+		MassnahmenImportZuordnung zuordnung2 = MassnahmenImportZuordnungTestDataProvider.neuWithFeature(
+			SimpleFeatureTestDataProvider.withGeometryAndAttributes(Collections.emptyMap(),
+				GeometryTestdataProvider.createMultiLineString(lineString2)));
+		MassnahmenImportZuordnung zuordnungOhneMatch = MassnahmenImportZuordnungTestDataProvider.neuWithFeature(
+			SimpleFeatureTestDataProvider.withGeometryAndAttributes(Collections.emptyMap(), lineStringOhneMatch));
+
+		MassnahmenImportSession session = new MassnahmenImportSession(
+			BenutzerTestDataProvider.defaultBenutzer().build(),
+			GeometryTestdataProvider.createQuadratischerBereich(0, 0, 100, 100), "testBereichName",
+			List.of(1L),
+			Konzeptionsquelle.KOMMUNALES_KONZEPT,
+			null);
+		MatchingStatistik matchingStatistik = new MatchingStatistik();
+
+		// Act
+		service.bestimmeNetzbezuegeDerZuordnungen(List.of(zuordnung1, zuordnung2, zuordnungOhneMatch),
+			matchingStatistik, session);
+
+		// Assert
+		assertThat(zuordnung1.getNetzbezug()).contains(new MassnahmeNetzBezug(
+			Set.of(new AbschnittsweiserKantenSeitenBezug(kante, LinearReferenzierterAbschnitt.of(0, 0.2),
+				Seitenbezug.BEIDSEITIG)),
+			Set.of(),
+			Set.of()));
+		assertThat(zuordnung2.getNetzbezug()).contains(new MassnahmeNetzBezug(
+			Set.of(new AbschnittsweiserKantenSeitenBezug(kante, LinearReferenzierterAbschnitt.of(0.8, 1),
+				Seitenbezug.BEIDSEITIG)),
+			Set.of(),
+			Set.of()));
+		assertThatMassnahmenImportZuordnung(zuordnung1).doesNotHaveAnyHinweis();
+		assertThatMassnahmenImportZuordnung(zuordnung2).doesNotHaveAnyHinweis();
+		assertThat(zuordnungOhneMatch.getNetzbezug()).isEmpty();
+		assertThatMassnahmenImportZuordnung(zuordnungOhneMatch).hasExactlyNetzbezugsHinweise(
+			NetzbezugHinweis.ofWarnung(NetzbezugHinweisText.NETZBEZUG_UNVOLLSTAENDIG),
+			NetzbezugHinweis.ofError(NetzbezugHinweisText.NETZBEZUG_NICHT_GEFUNDEN));
+		assertThat(matchingStatistik.anzahlOhneMatch).isEqualTo(1);
+		assertThat(session.getAnzahlAbzubildenderFeatures()).isEqualTo(3);
+		assertThat(session.getAnzahlAbgebildeterFeatures()).isEqualTo(3);
+	}
+
 	@Test
 	void testBestimmeNetzbezugDerZuordnung_FehlerhafteGeometryCollection_jederHinweisVorhanden() {
 		// Arrange
@@ -36,14 +36,18 @@ import org.locationtech.jts.geom.MultiPolygon;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import de.wps.radvis.backend.benutzer.domain.entity.BenutzerTestDataProvider;
 import de.wps.radvis.backend.common.GeometryTestdataProvider;
 import de.wps.radvis.backend.common.domain.valueObject.LinearReferenzierterAbschnitt;
 import de.wps.radvis.backend.manuellerimport.common.domain.repository.InMemoryKantenRepository;
 import de.wps.radvis.backend.manuellerimport.common.domain.repository.InMemoryKantenRepositoryFactory;
+import de.wps.radvis.backend.manuellerimport.common.domain.service.ParallelerAbbilder;
+import de.wps.radvis.backend.manuellerimport.netzzugehoerigkeit.domain.entity.NetzklasseImportSession;
 import de.wps.radvis.backend.matching.domain.service.SimpleMatchingService;
 import de.wps.radvis.backend.matching.domain.valueObject.OsmMatchResult;
 import de.wps.radvis.backend.netz.domain.entity.Kante;
 import de.wps.radvis.backend.netz.domain.entity.provider.KanteTestDataProvider;
+import de.wps.radvis.backend.netz.domain.valueObject.Netzklasse;
 import de.wps.radvis.backend.netz.domain.valueObject.OsmWayId;
 import de.wps.radvis.backend.organisation.domain.entity.Verwaltungseinheit;
 import de.wps.radvis.backend.organisation.domain.provider.VerwaltungseinheitTestDataProvider;
@@ -66,7 +70,7 @@ class ManuellerNetzklassenImportAbbildungsServiceTest {
 			inMemoryKantenRepository);
 		manuellerNetzklassenImportAbbildungsService = new ManuellerNetzklassenImportAbbildungsService(
 			simpleMatchingService,
-			inMemoryKantenRepositoryFactory);
+			inMemoryKantenRepositoryFactory, new ParallelerAbbilder(2));
 	}
 
 	@Test
@@ -112,7 +116,7 @@ class ManuellerNetzklassenImportAbbildungsServiceTest {
 
 		// act
 		Set<Long> result = manuellerNetzklassenImportAbbildungsService.findKantenFromLineStrings(linestrings,
-			organisation).matchedKanten;
+			importSessionFuer(organisation)).matchedKanten;
 
 		// assert
 		assertThat(result).containsExactly(0L, 1L, 2L);
@@ -167,7 +171,7 @@ class ManuellerNetzklassenImportAbbildungsServiceTest {
 
 		// act
 		Set<Long> result = manuellerNetzklassenImportAbbildungsService.findKantenFromLineStrings(linestrings,
-			organisation).matchedKanten;
+			importSessionFuer(organisation)).matchedKanten;
 
 		// assert
 		verify(inMemoryKantenRepository).findKantenById(eq(Set.of(3L, 4L)));
@@ -181,4 +185,8 @@ class ManuellerNetzklassenImportAbbildungsServiceTest {
 		verify(inMemoryKantenRepository).findKantenById(eq(Set.of(1L, 2L)));
 	}
 
+	private static NetzklasseImportSession importSessionFuer(Verwaltungseinheit organisation) {
+		return new NetzklasseImportSession(BenutzerTestDataProvider.defaultBenutzer().build(), organisation,
+			Netzklasse.RADVORRANGROUTEN);
+	}
 }
@@ -55,6 +55,7 @@ import de.wps.radvis.backend.barriere.BarriereConfiguration;
 import de.wps.radvis.backend.barriere.domain.repository.BarriereRepository;
 import de.wps.radvis.backend.benutzer.BenutzerConfiguration;
 import de.wps.radvis.backend.benutzer.domain.TechnischerBenutzerConfigurationProperties;
+import de.wps.radvis.backend.benutzer.domain.entity.BenutzerTestDataProvider;
 import de.wps.radvis.backend.common.CommonConfiguration;
 import de.wps.radvis.backend.common.GeoConverterConfiguration;
 import de.wps.radvis.backend.common.GeometryTestdataProvider;
@@ -69,10 +70,14 @@ import de.wps.radvis.backend.common.schnittstelle.CoordinateReferenceSystemConve
 import de.wps.radvis.backend.common.schnittstelle.DBIntegrationTestIT;
 import de.wps.radvis.backend.kommentar.KommentarConfiguration;
 import de.wps.radvis.backend.manuellerimport.common.ManuellerImportCommonConfiguration;
+import de.wps.radvis.backend.manuellerimport.common.domain.ManuellerImportConfigurationProperties;
 import de.wps.radvis.backend.manuellerimport.common.domain.repository.InMemoryKantenRepositoryFactory;
+import de.wps.radvis.backend.manuellerimport.common.domain.service.ParallelerAbbilder;
+import de.wps.radvis.backend.manuellerimport.netzzugehoerigkeit.domain.entity.NetzklasseImportSession;
 import de.wps.radvis.backend.matching.MatchingConfiguration;
 import de.wps.radvis.backend.matching.domain.GraphhopperDlmConfigurationProperties;
 import de.wps.radvis.backend.matching.domain.GraphhopperOsmConfigurationProperties;
+import de.wps.radvis.backend.matching.domain.MatchingConfigurationProperties;
 import de.wps.radvis.backend.matching.domain.repository.PbfErstellungsRepository;
 import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.PbfErstellungsRepositoryImpl;
 import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.PbfErstellungsTestDataProvider;
@@ -81,6 +86,7 @@ import de.wps.radvis.backend.netz.domain.NetzConfigurationProperties;
 import de.wps.radvis.backend.netz.domain.entity.Kante;
 import de.wps.radvis.backend.netz.domain.entity.provider.KanteTestDataProvider;
 import de.wps.radvis.backend.netz.domain.repository.KantenRepository;
+import de.wps.radvis.backend.netz.domain.valueObject.Netzklasse;
 import de.wps.radvis.backend.netzfehler.domain.AnpassungswuenscheConfigurationProperties;
 import de.wps.radvis.backend.netzfehler.domain.NetzfehlerRepository;
 import de.wps.radvis.backend.organisation.OrganisationConfiguration;
@@ -114,13 +120,15 @@ import lombok.extern.slf4j.Slf4j;
 	FeatureToggleProperties.class,
 	GraphhopperOsmConfigurationProperties.class,
 	GraphhopperDlmConfigurationProperties.class,
+	MatchingConfigurationProperties.class,
 	DLMConfigurationProperties.class,
 	TechnischerBenutzerConfigurationProperties.class,
 	PostgisConfigurationProperties.class,
 	OsmPbfConfigurationProperties.class,
 	OrganisationConfigurationProperties.class,
 	NetzConfigurationProperties.class,
-	AnpassungswuenscheConfigurationProperties.class
+	AnpassungswuenscheConfigurationProperties.class,
+	ManuellerImportConfigurationProperties.class
 })
 @EntityScan(basePackageClasses = KommentarConfiguration.class)
 @ActiveProfiles("test")
@@ -174,7 +182,7 @@ class ManuellerNetzklassenImportAbbildungsServiceTestIT extends DBIntegrationTes
 			commonConfigurationProperties.getObersteGebietskoerperschaftEnvelope());
 
 		pbfErstellungsRepository = new PbfErstellungsRepositoryImpl(coordinateReferenceSystemConverter,
-			barriereRepository, kantenRepository);
+			barriereRepository, 2);
 	}
 
 	@Test
@@ -210,7 +218,7 @@ class ManuellerNetzklassenImportAbbildungsServiceTestIT extends DBIntegrationTes
 		// act
 		Set<Long> zugehoerigeKanteIds = manuellerNetzklassenImportAbbildungsService.findKantenFromLineStrings(
 			importedLineStrings,
-			organisation).matchedKanten;
+			importSessionFuer(organisation)).matchedKanten;
 
 		// assert
 		List<Kante> expectedKanten = (List<Kante>) entityManager.createQuery(
@@ -251,7 +259,7 @@ class ManuellerNetzklassenImportAbbildungsServiceTestIT extends DBIntegrationTes
 		// act
 		Set<Long> zugehoerigeKanteIds = manuellerNetzklassenImportAbbildungsService.findKantenFromLineStrings(
 			importedLineStrings,
-			organisation).matchedKanten;
+			importSessionFuer(organisation)).matchedKanten;
 
 		// assert
 		List<String> expectedKanteIds = List.of(
@@ -305,7 +313,7 @@ class ManuellerNetzklassenImportAbbildungsServiceTestIT extends DBIntegrationTes
 		// act
 		Set<Long> zugehoerigeKanteIds = manuellerNetzklassenImportAbbildungsService.findKantenFromLineStrings(
 			importedLineStrings,
-			organisation).matchedKanten;
+			importSessionFuer(organisation)).matchedKanten;
 
 		// Konvertiere zum wkt-format
 		WKTWriter wktWriter = new WKTWriter();
@@ -364,6 +372,12 @@ class ManuellerNetzklassenImportAbbildungsServiceTestIT extends DBIntegrationTes
 			graphhopperDlmConfigurationProperties);
 
 		manuellerNetzklassenImportAbbildungsService = new ManuellerNetzklassenImportAbbildungsService(
-			matchingConfiguration.matchingFuerManuellerImportService(), inMemoryKantenRepositoryFactory);
+			matchingConfiguration.matchingFuerManuellerImportService(), inMemoryKantenRepositoryFactory,
+			new ParallelerAbbilder(2));
+	}
+
+	private static NetzklasseImportSession importSessionFuer(Verwaltungseinheit organisation) {
+		return new NetzklasseImportSession(BenutzerTestDataProvider.defaultBenutzer().build(), organisation,
+			Netzklasse.RADVORRANGROUTEN);
 	}
 }
@@ -174,7 +174,7 @@ class ManuellerNetzklassenImportServiceTest {
 			.forBenutzer(benutzer).organisation(organisation).netzklasse(Netzklasse.RADVORRANGROUTEN).build();
 
 		when(manuellerNetzklassenImportAbbildungsService.findKantenFromLineStrings(any(),
-			eq(netzklasseImportSession.getOrganisation()))).thenReturn(
+			eq(netzklasseImportSession))).thenReturn(
 				new ManuellerNetzklassenImportAbbildungsService.MatchingErgebnis(Set.of(11L, 22L, 33L), Set.of()));
 
 		// act
@@ -183,7 +183,7 @@ class ManuellerNetzklassenImportServiceTest {
 		// assert
 		verify(manuellerNetzklassenImportAbbildungsService, times(1)).findKantenFromLineStrings(
 			lineStringSetCaptor.capture(),
-			eq(netzklasseImportSession.getOrganisation()));
+			eq(netzklasseImportSession));
 
 		assertThat(lineStringSetCaptor.getValue()).containsExactlyInAnyOrder(
 			GeometryTestdataProvider.createLineString(new Coordinate(0, 0), new Coordinate(10, 10)),
@@ -224,7 +224,7 @@ class ManuellerNetzklassenImportServiceTest {
 			.forBenutzer(benutzer).organisation(organisation).netzklasse(Netzklasse.RADVORRANGROUTEN).build();
 
 		when(manuellerNetzklassenImportAbbildungsService.findKantenFromLineStrings(any(),
-			eq(netzklasseImportSession.getOrganisation()))).thenReturn(
+			eq(netzklasseImportSession))).thenReturn(
 				new ManuellerNetzklassenImportAbbildungsService.MatchingErgebnis(Set.of(22L), Set.of()));
 
 		// act
@@ -233,7 +233,7 @@ class ManuellerNetzklassenImportServiceTest {
 		// assert
 		verify(manuellerNetzklassenImportAbbildungsService, times(1)).findKantenFromLineStrings(
 			lineStringSetCaptor.capture(),
-			eq(netzklasseImportSession.getOrganisation()));
+			eq(netzklasseImportSession));
 
 		assertThat(lineStringSetCaptor.getValue()).containsExactlyInAnyOrder(
 			GeometryTestdataProvider.createLineString(new Coordinate(0, 0), new Coordinate(10, 10)));
@@ -300,7 +300,7 @@ class ManuellerNetzklassenImportServiceTest {
 		NetzklasseImportSession netzklasseImportSession = NetzklassenImportSessionTestDataProvider
 			.forBenutzer(benutzer).organisation(organisation).netzklasse(Netzklasse.RADVORRANGROUTEN).build();
 		when(manuellerNetzklassenImportAbbildungsService.findKantenFromLineStrings(any(),
-			eq(netzklasseImportSession.getOrganisation()))).thenReturn(
+			eq(netzklasseImportSession))).thenReturn(
 				new ManuellerNetzklassenImportAbbildungsService.MatchingErgebnis(Set.of(11L, 22L, 33L), Set.of()));
 
 		// act
@@ -338,7 +338,7 @@ class ManuellerNetzklassenImportServiceTest {
 			.forBenutzer(benutzer).organisation(organisation).netzklasse(Netzklasse.RADVORRANGROUTEN).build();
 
 		when(manuellerNetzklassenImportAbbildungsService.findKantenFromLineStrings(any(),
-			eq(netzklasseImportSession.getOrganisation()))).thenThrow(new RequireViolation("wambo!"));
+			eq(netzklasseImportSession))).thenThrow(new RequireViolation("wambo!"));
 
 		// act
 		manuellerNetzklassenImportService.runAutomatischeAbbildung(netzklasseImportSession, shpDirectory);
@@ -798,7 +798,7 @@ class ManuellerNetzklassenImportServiceTest {
 			.netzklasse(Netzklasse.RADVORRANGROUTEN).build();
 
 		when(manuellerNetzklassenImportAbbildungsService.findKantenFromLineStrings(any(),
-			eq(netzklasseImportSession.getOrganisation()))).thenReturn(
+			eq(netzklasseImportSession))).thenReturn(
 				new ManuellerNetzklassenImportAbbildungsService.MatchingErgebnis(
 					Set.of(),
 					Set.of(
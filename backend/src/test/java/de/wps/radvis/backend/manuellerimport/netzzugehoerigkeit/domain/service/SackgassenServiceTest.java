@@ -16,14 +16,20 @@ package de.wps.radvis.backend.manuellerimport.netzzugehoerigkeit.domain.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Point;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -32,11 +38,14 @@ import de.wps.radvis.backend.common.domain.valueObject.QuellSystem;
 import de.wps.radvis.backend.netz.domain.entity.Kante;
 import de.wps.radvis.backend.netz.domain.entity.KantenAttributGruppeTestDataProvider;
 import de.wps.radvis.backend.netz.domain.entity.Knoten;
+import de.wps.radvis.backend.netz.domain.entity.NetzklassenTopologie;
 import de.wps.radvis.backend.netz.domain.entity.provider.KanteTestDataProvider;
 import de.wps.radvis.backend.netz.domain.entity.provider.KnotenTestDataProvider;
 import de.wps.radvis.backend.netz.domain.repository.KantenRepository;
+import de.wps.radvis.backend.netz.domain.repository.KnotenRepository;
 import de.wps.radvis.backend.netz.domain.service.NetzService;
 import de.wps.radvis.backend.netz.domain.service.SackgassenService;
+import de.wps.radvis.backend.netz.domain.valueObject.KnotenGrad;
 import de.wps.radvis.backend.netz.domain.valueObject.Netzklasse;
 import de.wps.radvis.backend.organisation.domain.entity.Verwaltungseinheit;
 import de.wps.radvis.backend.organisation.domain.provider.VerwaltungseinheitTestDataProvider;
@@ -47,13 +56,15 @@ class SackgassenServiceTest {
 	private NetzService netzService;
 	@Mock
 	private KantenRepository kantenRepository;
+	@Mock
+	private KnotenRepository knotenRepository;
 
 	private SackgassenService sackgassenService;
 
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
-		this.sackgassenService = new SackgassenService(netzService, kantenRepository);
+		this.sackgassenService = new SackgassenService(netzService, kantenRepository, knotenRepository);
 	}
 
 	@Test
@@ -68,13 +79,14 @@ class SackgassenServiceTest {
 		Kante kante1 = KanteTestDataProvider.fromKnotenUndQuelle(knoten1, knoten2, QuellSystem.DLM).id(1l).build();
 		Kante kante2 = KanteTestDataProvider.fromKnotenUndQuelle(knoten2, knoten3, QuellSystem.RadVis).id(2l).build();
 
-		when(kantenRepository.getKantenForNetzklassenEagerFetchKnoten(Netzklasse.RADNETZ_NETZKLASSEN)).thenReturn(
-			List.of(kante1, kante2));
+		mockNetzklassenTopologie(List.of(kante1, kante2));
 
-		Set<Knoten> sackgassen = this.sackgassenService.bestimmeSackgassenknotenVonKantenFuerNetzklasse(
+		List<KnotenGrad> sackgassen = this.sackgassenService.bestimmeSackgassenknotenFuerNetzklassen(
 			Netzklasse.RADNETZ_NETZKLASSEN);
 
-		assertThat(sackgassen).containsExactly(knoten1, knoten3);
+		assertThat(sackgassen).extracting(KnotenGrad::getKnotenId).containsExactly(knoten1.getId(), knoten3.getId());
+		assertThat(sackgassen).extracting(KnotenGrad::getPoint)
+			.containsExactly(knoten1.getPoint(), knoten3.getPoint());
 	}
 
 	@Test
@@ -90,10 +102,9 @@ class SackgassenServiceTest {
 		Kante kante2 = KanteTestDataProvider.fromKnotenUndQuelle(knoten2, knoten3, QuellSystem.RadVis).id(2l).build();
 		Kante kante3 = KanteTestDataProvider.fromKnotenUndQuelle(knoten3, knoten1, QuellSystem.RadVis).id(3l).build();
 
-		when(kantenRepository.getKantenForNetzklassenEagerFetchKnoten(Netzklasse.RADNETZ_NETZKLASSEN)).thenReturn(
-			List.of(kante1, kante2, kante3));
+		mockNetzklassenTopologie(List.of(kante1, kante2, kante3));
 
-		Set<Knoten> sackgassen = this.sackgassenService.bestimmeSackgassenknotenVonKantenFuerNetzklasse(
+		List<KnotenGrad> sackgassen = this.sackgassenService.bestimmeSackgassenknotenFuerNetzklassen(
 			Netzklasse.RADNETZ_NETZKLASSEN);
 
 		assertThat(sackgassen).isEmpty();
@@ -122,13 +133,14 @@ class SackgassenServiceTest {
 		Kante kante6 = KanteTestDataProvider.fromKnotenUndQuelle(knoten4, knoten1, QuellSystem.DLM).id(6l).build();
 		Kante kante7 = KanteTestDataProvider.fromKnotenUndQuelle(knoten5, knoten6, QuellSystem.RadVis).id(7l).build();
 
-		when(kantenRepository.getKantenForNetzklassenEagerFetchKnoten(Netzklasse.RADNETZ_NETZKLASSEN)).thenReturn(
-			List.of(kante1, kante2, kante3, kante4, kante5, kante6, kante7));
+		mockNetzklassenTopologie(List.of(kante1, kante2, kante3, kante4, kante5, kante6, kante7));
 
-		Set<Knoten> sackgassen = this.sackgassenService.bestimmeSackgassenknotenVonKantenFuerNetzklasse(
+		List<KnotenGrad> sackgassen = this.sackgassenService.bestimmeSackgassenknotenFuerNetzklassen(
 			Netzklasse.RADNETZ_NETZKLASSEN);
 
-		assertThat(sackgassen).containsExactlyInAnyOrder(knoten5, knoten6);
+		assertThat(sackgassen).extracting(KnotenGrad::getKnotenId).containsExactly(knoten5.getId(), knoten6.getId());
+		assertThat(sackgassen).extracting(KnotenGrad::getPoint)
+			.containsExactly(knoten5.getPoint(), knoten6.getPoint());
 	}
 
 	@Test
@@ -151,13 +163,14 @@ class SackgassenServiceTest {
 		Kante kante4 = KanteTestDataProvider.fromKnotenUndQuelle(knoten4, knoten5, QuellSystem.RadVis).id(3l).build();
 		Kante kante5 = KanteTestDataProvider.fromKnotenUndQuelle(knoten5, knoten6, QuellSystem.RadVis).id(4l).build();
 
-		when(kantenRepository.getKantenForNetzklassenEagerFetchKnoten(Netzklasse.RADNETZ_NETZKLASSEN)).thenReturn(
-			List.of(kante1, kante2, kante4, kante5));
+		mockNetzklassenTopologie(List.of(kante1, kante2, kante4, kante5));
 
-		Set<Knoten> sackgassen = this.sackgassenService.bestimmeSackgassenknotenVonKantenFuerNetzklasse(
+		List<KnotenGrad> sackgassen = this.sackgassenService.bestimmeSackgassenknotenFuerNetzklassen(
 			Netzklasse.RADNETZ_NETZKLASSEN);
 
-		assertThat(sackgassen).containsExactlyInAnyOrder(knoten1, knoten3, knoten4, knoten6);
+		assertThat(sackgassen).extracting(KnotenGrad::getKnotenId).containsExactly(knoten1.getId(), knoten3.getId(), knoten4.getId(), knoten6.getId());
+		assertThat(sackgassen).extracting(KnotenGrad::getPoint)
+			.containsExactly(knoten1.getPoint(), knoten3.getPoint(), knoten4.getPoint(), knoten6.getPoint());
 	}
 
 	@Test
@@ -273,4 +286,63 @@ class SackgassenServiceTest {
 				.build())
 			.build();
 	}
+
+	@Test
+	public void teste_bestimmeSackgassenknotenFuerNetzklassen_nurKantenDerNetzklassenZaehlen() {
+		// arrange
+		Knoten knoten1 = KnotenTestDataProvider.withCoordinateAndQuelle(new Coordinate(10, 10), QuellSystem.DLM)
+			.id(1L).build();
+		Knoten knoten2 = KnotenTestDataProvider.withCoordinateAndQuelle(new Coordinate(20, 10), QuellSystem.DLM)
+			.id(2L).build();
+		Knoten knoten3 = KnotenTestDataProvider.withCoordinateAndQuelle(new Coordinate(30, 10), QuellSystem.DLM)
+			.id(3L).build();
+
+		NetzklassenTopologie topologie = new NetzklassenTopologie(2);
+		topologie.fuegeKanteHinzu(1L, 2L, Set.of(Netzklasse.RADNETZ_ALLTAG, Netzklasse.KREISNETZ_ALLTAG));
+		topologie.fuegeKanteHinzu(2L, 3L, Set.of(Netzklasse.KOMMUNALNETZ_ALLTAG));
+		when(kantenRepository.getNetzklassenTopologie()).thenReturn(topologie);
+		mockPunkte(List.of(knoten1, knoten2, knoten3));
+
+		// act
+		List<KnotenGrad> radnetzSackgassen = this.sackgassenService.bestimmeSackgassenknotenFuerNetzklassen(
+			Netzklasse.RADNETZ_NETZKLASSEN);
+		List<KnotenGrad> kommunalnetzSackgassen = this.sackgassenService.bestimmeSackgassenknotenFuerNetzklassen(
+			Set.of(Netzklasse.KOMMUNALNETZ_ALLTAG, Netzklasse.KOMMUNALNETZ_FREIZEIT));
+
+		// assert
+		assertThat(radnetzSackgassen).extracting(KnotenGrad::getKnotenId).containsExactly(1L, 2L);
+		assertThat(radnetzSackgassen).extracting(KnotenGrad::getGrad).containsOnly(1);
+		assertThat(kommunalnetzSackgassen).extracting(KnotenGrad::getKnotenId).containsExactly(2L, 3L);
+	}
+
+	@Test
+	public void teste_bestimmeSackgassenknotenFuerNetzklassen_topologieWirdNurMitAktivemCacheWiederverwendet() {
+		// arrange
+		when(kantenRepository.getNetzklassenTopologie()).thenAnswer(invocation -> new NetzklassenTopologie(0));
+
+		// act
+		this.sackgassenService.bestimmeSackgassenknotenFuerNetzklassen(Netzklasse.RADNETZ_NETZKLASSEN);
+		this.sackgassenService.aktiviereNetzklassenTopologieCache();
+		this.sackgassenService.bestimmeSackgassenknotenFuerNetzklassen(Netzklasse.RADNETZ_NETZKLASSEN);
+		this.sackgassenService.bestimmeSackgassenknotenFuerNetzklassen(Netzklasse.KREISNETZ_NETZKLASSEN);
+		this.sackgassenService.verwerfeNetzklassenTopologieCache();
+		this.sackgassenService.bestimmeSackgassenknotenFuerNetzklassen(Netzklasse.RADNETZ_NETZKLASSEN);
+
+		// assert
+		verify(kantenRepository, times(3)).getNetzklassenTopologie();
+	}
+
+	private void mockNetzklassenTopologie(List<Kante> kanten) {
+		NetzklassenTopologie topologie = new NetzklassenTopologie(kanten.size());
+		kanten.forEach(kante -> topologie.fuegeKanteHinzu(kante.getVonKnoten().getId(),
+			kante.getNachKnoten().getId(), Set.of(Netzklasse.RADNETZ_ALLTAG)));
+		when(kantenRepository.getNetzklassenTopologie()).thenReturn(topologie);
+		mockPunkte(kanten.stream().flatMap(kante -> Stream.of(kante.getVonKnoten(), kante.getNachKnoten())).toList());
+	}
+
+	private void mockPunkte(List<Knoten> knoten) {
+		Map<Long, Point> punkte = new HashMap<>();
+		knoten.forEach(k -> punkte.put(k.getId(), k.getPoint()));
+		when(knotenRepository.getPunkteFuerKnotenIds(any())).thenReturn(punkte);
+	}
 }
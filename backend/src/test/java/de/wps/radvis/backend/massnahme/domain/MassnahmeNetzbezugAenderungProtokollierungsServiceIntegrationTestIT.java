@@ -47,6 +47,7 @@ import de.wps.radvis.backend.common.domain.PostgisConfigurationProperties;
 import de.wps.radvis.backend.common.domain.valueObject.OrganisationsArt;
 import de.wps.radvis.backend.common.schnittstelle.DBIntegrationTestIT;
 import de.wps.radvis.backend.dokument.DokumentConfiguration;
+import de.wps.radvis.backend.dokument.domain.DokumentConfigurationProperties;
 import de.wps.radvis.backend.fahrradroute.domain.repository.FahrradrouteRepository;
 import de.wps.radvis.backend.kommentar.KommentarConfiguration;
 import de.wps.radvis.backend.massnahme.MassnahmeConfiguration;
@@ -58,6 +59,7 @@ import de.wps.radvis.backend.massnahme.domain.repository.MassnahmeNetzBezugAende
 import de.wps.radvis.backend.matching.MatchingConfiguration;
 import de.wps.radvis.backend.matching.domain.GraphhopperDlmConfigurationProperties;
 import de.wps.radvis.backend.matching.domain.GraphhopperOsmConfigurationProperties;
+import de.wps.radvis.backend.matching.domain.MatchingConfigurationProperties;
 import de.wps.radvis.backend.netz.NetzConfiguration;
 import de.wps.radvis.backend.netz.domain.NetzConfigurationProperties;
 import de.wps.radvis.backend.netz.domain.entity.Kante;
@@ -98,11 +100,13 @@ import de.wps.radvis.backend.quellimport.grundnetz.domain.DLMConfigurationProper
 	PostgisConfigurationProperties.class,
 	GraphhopperOsmConfigurationProperties.class,
 	GraphhopperDlmConfigurationProperties.class,
+	MatchingConfigurationProperties.class,
 	DLMConfigurationProperties.class,
 	OsmPbfConfigurationProperties.class,
 	OrganisationConfigurationProperties.class,
 	MassnahmenConfigurationProperties.class,
-	NetzConfigurationProperties.class
+	NetzConfigurationProperties.class,
+	DokumentConfigurationProperties.class
 })
 class MassnahmeNetzbezugAenderungProtokollierungsServiceIntegrationTestIT extends DBIntegrationTestIT {
 
@@ -59,6 +59,7 @@ import de.wps.radvis.backend.common.domain.valueObject.QuellSystem;
 import de.wps.radvis.backend.common.domain.valueObject.Seitenbezug;
 import de.wps.radvis.backend.common.schnittstelle.DBIntegrationTestIT;
 import de.wps.radvis.backend.dokument.DokumentConfiguration;
+import de.wps.radvis.backend.dokument.domain.DokumentConfigurationProperties;
 import de.wps.radvis.backend.dokument.domain.entity.provider.DokumentTestDataProvider;
 import de.wps.radvis.backend.fahrradroute.FahrradrouteConfiguration;
 import de.wps.radvis.backend.fahrradroute.domain.entity.Fahrradroute;
@@ -119,7 +120,8 @@ import jakarta.persistence.EntityNotFoundException;
 	PostgisConfigurationProperties.class,
 	OrganisationConfigurationProperties.class,
 	MassnahmenConfigurationProperties.class,
-	NetzConfigurationProperties.class
+	NetzConfigurationProperties.class,
+	DokumentConfigurationProperties.class
 })
 @EnableJpaRepositories(basePackageClasses = FahrradrouteConfiguration.class)
 @EntityScan(basePackageClasses = FahrradrouteConfiguration.class)
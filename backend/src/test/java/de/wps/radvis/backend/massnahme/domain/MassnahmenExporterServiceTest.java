@@ -15,11 +15,15 @@
 package de.wps.radvis.backend.massnahme.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +33,7 @@ import org.mockito.MockitoAnnotations;
 
 import de.wps.radvis.backend.common.domain.valueObject.ExportData;
 import de.wps.radvis.backend.common.domain.valueObject.OrganisationsArt;
+import de.wps.radvis.backend.massnahme.domain.dbView.MassnahmeListenDbView;
 import de.wps.radvis.backend.massnahme.domain.entity.Massnahme;
 import de.wps.radvis.backend.massnahme.domain.entity.MassnahmeListenDbViewTestDataProvider;
 import de.wps.radvis.backend.massnahme.domain.entity.MassnahmeTestDataProvider;
@@ -40,16 +45,19 @@ import de.wps.radvis.backend.netz.domain.entity.provider.KanteTestDataProvider;
 import de.wps.radvis.backend.netz.domain.valueObject.Netzklasse;
 import de.wps.radvis.backend.netz.domain.valueObject.SollStandard;
 import de.wps.radvis.backend.organisation.domain.provider.VerwaltungseinheitTestDataProvider;
+import jakarta.persistence.EntityManager;
 
 public class MassnahmenExporterServiceTest {
 	private MassnahmenExporterService exporterService;
 	@Mock
 	private MassnahmeViewRepository massnahmeRepository;
+	@Mock
+	private EntityManager entityManager;
 
 	@BeforeEach
 	public void setup() {
 		MockitoAnnotations.openMocks(this);
-		exporterService = new MassnahmenExporterService(massnahmeRepository);
+		exporterService = new MassnahmenExporterService(massnahmeRepository, entityManager);
 	}
 
 	@Test
@@ -192,4 +200,27 @@ public class MassnahmenExporterServiceTest {
 		assertThat(exportDataProperties.get("Archiviert"))
 			.isEqualTo("Ja");
 	}
+
+	@Test
+	public void exportStream_entferntKonvertierteZeilenAusDemPersistenceContext() {
+		// Arrange
+		Kante kante = KanteTestDataProvider.withDefaultValues().build();
+		MassnahmeListenDbView ersteZeile = MassnahmeListenDbViewTestDataProvider.withMassnahme(
+			MassnahmeTestDataProvider.withKanten(kante).id(1L).build()).build();
+		MassnahmeListenDbView zweiteZeile = MassnahmeListenDbViewTestDataProvider.withMassnahme(
+			MassnahmeTestDataProvider.withKanten(kante).id(2L).build()).build();
+		List<Long> ids = List.of(1L, 2L);
+		when(massnahmeRepository.streamAllByIdIn(ids)).thenReturn(Stream.of(ersteZeile, zweiteZeile));
+
+		// Act
+		Iterator<ExportData> result = exporterService.exportStream(ids).iterator();
+
+		// Assert
+		assertThat(result.next().getProperties().get("RADVIS_ID")).isEqualTo("1");
+		verify(entityManager).detach(ersteZeile);
+		verify(entityManager, never()).detach(zweiteZeile);
+		assertThat(result.next().getProperties().get("RADVIS_ID")).isEqualTo("2");
+		verify(entityManager).detach(zweiteZeile);
+		assertThat(result.hasNext()).isFalse();
+	}
 }
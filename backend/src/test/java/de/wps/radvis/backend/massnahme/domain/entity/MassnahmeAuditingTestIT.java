@@ -70,6 +70,7 @@ import de.wps.radvis.backend.common.domain.repository.CsvRepository;
 import de.wps.radvis.backend.common.domain.repository.ShapeFileRepository;
 import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
 import de.wps.radvis.backend.dokument.DokumentConfiguration;
+import de.wps.radvis.backend.dokument.domain.DokumentConfigurationProperties;
 import de.wps.radvis.backend.fahrradroute.domain.repository.FahrradrouteRepository;
 import de.wps.radvis.backend.kommentar.KommentarConfiguration;
 import de.wps.radvis.backend.massnahme.MassnahmeConfiguration;
@@ -126,7 +127,8 @@ import lombok.NonNull;
 	PostgisConfigurationProperties.class,
 	OrganisationConfigurationProperties.class,
 	MassnahmenConfigurationProperties.class,
-	NetzConfigurationProperties.class
+	NetzConfigurationProperties.class,
+	DokumentConfigurationProperties.class
 })
 class MassnahmeAuditingTestIT extends AuditingTestIT {
 	@MockitoBean
@@ -204,6 +206,9 @@ class MassnahmeAuditingTestIT extends AuditingTestIT {
 		@Autowired
 		private CsvRepository csvRepository;
 
+		@Autowired
+		private DokumentService dokumentService;
+
 		@Bean
 		public MassnahmeController massnahmeController() {
 			Mockito.when(benutzerResolver.fromAuthentication(Mockito.any()))
@@ -220,7 +225,8 @@ class MassnahmeAuditingTestIT extends AuditingTestIT {
 				massnahmeAuthorizationService,
 				benutzerResolver,
 				verwaltungseinheitService,
-				csvRepository);
+				csvRepository,
+				dokumentService);
 		}
 
 	}
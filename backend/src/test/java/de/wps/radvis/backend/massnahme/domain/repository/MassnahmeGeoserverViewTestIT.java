@@ -52,6 +52,7 @@ import de.wps.radvis.backend.common.domain.valueObject.QuellSystem;
 import de.wps.radvis.backend.common.domain.valueObject.Seitenbezug;
 import de.wps.radvis.backend.common.schnittstelle.DBIntegrationTestIT;
 import de.wps.radvis.backend.dokument.DokumentConfiguration;
+import de.wps.radvis.backend.dokument.domain.DokumentConfigurationProperties;
 import de.wps.radvis.backend.fahrradroute.domain.repository.FahrradrouteRepository;
 import de.wps.radvis.backend.kommentar.KommentarConfiguration;
 import de.wps.radvis.backend.massnahme.MassnahmeConfiguration;
@@ -100,7 +101,8 @@ import jakarta.persistence.PersistenceContext;
 	PostgisConfigurationProperties.class,
 	OrganisationConfigurationProperties.class,
 	MassnahmenConfigurationProperties.class,
-	NetzConfigurationProperties.class
+	NetzConfigurationProperties.class,
+	DokumentConfigurationProperties.class
 })
 class MassnahmeGeoserverViewTestIT extends DBIntegrationTestIT {
 
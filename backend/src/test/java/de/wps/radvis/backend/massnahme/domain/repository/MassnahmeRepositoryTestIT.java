@@ -56,6 +56,7 @@ import de.wps.radvis.backend.common.domain.valueObject.OrganisationsArt;
 import de.wps.radvis.backend.common.domain.valueObject.Seitenbezug;
 import de.wps.radvis.backend.common.schnittstelle.DBIntegrationTestIT;
 import de.wps.radvis.backend.dokument.DokumentConfiguration;
+import de.wps.radvis.backend.dokument.domain.DokumentConfigurationProperties;
 import de.wps.radvis.backend.dokument.domain.entity.Dokument;
 import de.wps.radvis.backend.dokument.domain.entity.provider.DokumentTestDataProvider;
 import de.wps.radvis.backend.fahrradroute.domain.repository.FahrradrouteRepository;
@@ -114,7 +115,8 @@ import jakarta.persistence.EntityManager;
 	PostgisConfigurationProperties.class,
 	OrganisationConfigurationProperties.class,
 	MassnahmenConfigurationProperties.class,
-	NetzConfigurationProperties.class
+	NetzConfigurationProperties.class,
+	DokumentConfigurationProperties.class
 })
 class MassnahmeRepositoryTestIT extends DBIntegrationTestIT {
 
@@ -61,6 +61,7 @@ import de.wps.radvis.backend.common.domain.valueObject.OrganisationsArt;
 import de.wps.radvis.backend.common.domain.valueObject.Seitenbezug;
 import de.wps.radvis.backend.common.schnittstelle.DBIntegrationTestIT;
 import de.wps.radvis.backend.dokument.DokumentConfiguration;
+import de.wps.radvis.backend.dokument.domain.DokumentConfigurationProperties;
 import de.wps.radvis.backend.dokument.domain.entity.DokumentListe;
 import de.wps.radvis.backend.dokument.domain.entity.provider.DokumentTestDataProvider;
 import de.wps.radvis.backend.kommentar.KommentarConfiguration;
@@ -119,7 +120,7 @@ import jakarta.persistence.PersistenceContext;
 	NetzConfiguration.class, OrganisationConfiguration.class, DokumentConfiguration.class,
 	KommentarConfiguration.class, BenutzerConfiguration.class })
 @EnableConfigurationProperties(value = { CommonConfigurationProperties.class, FeatureToggleProperties.class,
-	PostgisConfigurationProperties.class, NetzConfigurationProperties.class })
+	PostgisConfigurationProperties.class, NetzConfigurationProperties.class, DokumentConfigurationProperties.class })
 @ContextConfiguration(classes = { CommonConfiguration.class, GeoConverterConfiguration.class })
 public class ErweiterteMassnahmenAusleitungTestIT extends DBIntegrationTestIT {
 
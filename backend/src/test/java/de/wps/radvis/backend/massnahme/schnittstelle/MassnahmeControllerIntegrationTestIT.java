@@ -20,8 +20,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -34,6 +36,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
@@ -64,6 +67,8 @@ import de.wps.radvis.backend.common.domain.valueObject.LinearReferenzierterAbsch
 import de.wps.radvis.backend.common.domain.valueObject.Seitenbezug;
 import de.wps.radvis.backend.common.schnittstelle.DBIntegrationTestIT;
 import de.wps.radvis.backend.dokument.DokumentConfiguration;
+import de.wps.radvis.backend.dokument.domain.DokumentConfigurationProperties;
+import de.wps.radvis.backend.dokument.domain.DokumentService;
 import de.wps.radvis.backend.dokument.domain.entity.Dokument;
 import de.wps.radvis.backend.dokument.domain.entity.DokumentListe;
 import de.wps.radvis.backend.dokument.domain.entity.provider.DokumentTestDataProvider;
@@ -128,7 +133,8 @@ import jakarta.persistence.EntityManager;
 	PostgisConfigurationProperties.class,
 	OrganisationConfigurationProperties.class,
 	MassnahmenConfigurationProperties.class,
-	NetzConfigurationProperties.class
+	NetzConfigurationProperties.class,
+	DokumentConfigurationProperties.class
 })
 class MassnahmeControllerIntegrationTestIT extends DBIntegrationTestIT {
 
@@ -181,6 +187,8 @@ class MassnahmeControllerIntegrationTestIT extends DBIntegrationTestIT {
 
 		@Autowired
 		private CsvRepository csvRepository;
+		@Autowired
+		private DokumentService dokumentService;
 
 		@Bean
 		public MassnahmeController massnahmeController() {
@@ -198,7 +206,8 @@ class MassnahmeControllerIntegrationTestIT extends DBIntegrationTestIT {
 				massnahmeGuard,
 				benutzerResolver,
 				verwaltungseinheitService,
-				csvRepository);
+				csvRepository,
+				dokumentService);
 		}
 	}
 
@@ -221,6 +230,8 @@ class MassnahmeControllerIntegrationTestIT extends DBIntegrationTestIT {
 	private BenutzerRepository benutzerRepository;
 	@Autowired
 	private EntityManager entityManager;
+	@Autowired
+	private DokumentService dokumentService;
 
 	@Mock
 	Authentication authentication;
@@ -231,7 +242,9 @@ class MassnahmeControllerIntegrationTestIT extends DBIntegrationTestIT {
 
 	@BeforeEach
 	void setup() throws IOException {
-		when(mockedMultipartFile.getBytes()).thenReturn(fileContent.getBytes());
+		when(mockedMultipartFile.getSize()).thenReturn((long) fileContent.length());
+		when(mockedMultipartFile.getInputStream()).thenAnswer(
+			invocation -> new ByteArrayInputStream(fileContent.getBytes()));
 	}
 
 	@Test
@@ -260,10 +273,10 @@ class MassnahmeControllerIntegrationTestIT extends DBIntegrationTestIT {
 		assertThat(resultDokument.getBenutzerNachname()).isEqualTo(benutzer.getNachname().toString());
 		assertThat(resultDokument.getDateiname()).isEqualTo("datei.jpg");
 
-		ResponseEntity<byte[]> responseEntity = massnahmeController.downloadDatei(massnahmeID,
+		ResponseEntity<Resource> responseEntity = massnahmeController.downloadDatei(massnahmeID,
 			resultDokument.getDokumentId());
 		assertTrue(responseEntity.getStatusCode().is2xxSuccessful());
-		assertThat(responseEntity.getBody().length).isEqualTo(fileContent.length());
+		assertThat(responseEntity.getBody().getContentAsByteArray()).isEqualTo(fileContent.getBytes());
 	}
 
 	@Test
@@ -274,9 +287,8 @@ class MassnahmeControllerIntegrationTestIT extends DBIntegrationTestIT {
 		Benutzer benutzer = BenutzerTestDataProvider.admin(gebietskoerperschaft).build();
 
 		DokumentListe dokumentListe = new DokumentListe();
-		dokumentListe.addDokument(
-			DokumentTestDataProvider.withDefaultValues().dateiname("ersteDatei.jpg").benutzer(benutzer)
-				.datei("DATEINHALTDESERSTENDOKUMENTS".getBytes()).build());
+		dokumentListe.addDokument(dokumentService.erstelleDokument("ersteDatei.jpg", benutzer,
+			new ByteArrayInputStream("DATEINHALTDESERSTENDOKUMENTS".getBytes()), LocalDateTime.now()));
 
 		Massnahme massnahme = createMassnahme(gebietskoerperschaft, benutzer, dokumentListe);
 		Long massnahmeID = massnahme.getId();
@@ -298,16 +310,16 @@ class MassnahmeControllerIntegrationTestIT extends DBIntegrationTestIT {
 			.extracting("dateiname")
 			.containsExactlyInAnyOrder("ersteDatei.jpg", "datei.jpg");
 
-		ResponseEntity<byte[]> responseEntityDokument1 = massnahmeController.downloadDatei(massnahmeID,
+		ResponseEntity<Resource> responseEntityDokument1 = massnahmeController.downloadDatei(massnahmeID,
 			dokumentListePersistiert.getDokumente().get(0).getDokumentId());
-		ResponseEntity<byte[]> responseEntityDokument2 = massnahmeController.downloadDatei(massnahmeID,
+		ResponseEntity<Resource> responseEntityDokument2 = massnahmeController.downloadDatei(massnahmeID,
 			dokumentListePersistiert.getDokumente().get(1).getDokumentId());
 
 		assertTrue(responseEntityDokument1.getStatusCode().is2xxSuccessful());
-		assertThat(responseEntityDokument1.getBody().length).isEqualTo(28);
+		assertThat(responseEntityDokument1.getBody().contentLength()).isEqualTo(28);
 
 		assertTrue(responseEntityDokument2.getStatusCode().is2xxSuccessful());
-		assertThat(responseEntityDokument2.getBody().length).isEqualTo(fileContent.length());
+		assertThat(responseEntityDokument2.getBody().contentLength()).isEqualTo(fileContent.length());
 	}
 
 	@Test
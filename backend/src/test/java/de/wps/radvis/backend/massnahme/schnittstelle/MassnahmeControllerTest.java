@@ -65,6 +65,8 @@ class MassnahmeControllerTest {
 	private @NonNull VerwaltungseinheitService verwaltungseinheitService;
 	@Mock
 	private @NonNull CsvRepository csvRepository;
+	@Mock
+	private @NonNull DokumentService dokumentService;
 
 	private MassnahmeController massnahmeController;
 
@@ -73,7 +75,7 @@ class MassnahmeControllerTest {
 		MockitoAnnotations.openMocks(this);
 		massnahmeController = new MassnahmeController(massnahmeService, umsetzungsstandabfrageService,
 			createMassnahmeCommandConverter, saveMassnahmeCommandConverter, saveUmsetungsstandCommandConverter,
-			massnahmeGuard, benutzerResolver, verwaltungseinheitService, csvRepository);
+			massnahmeGuard, benutzerResolver, verwaltungseinheitService, csvRepository, dokumentService);
 	}
 
 	@Test
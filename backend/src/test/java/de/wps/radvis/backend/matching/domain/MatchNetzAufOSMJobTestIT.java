@@ -63,6 +63,7 @@ import de.wps.radvis.backend.matching.domain.repository.OsmAbbildungsFehlerRepos
 import de.wps.radvis.backend.matching.domain.repository.OsmMatchingRepository;
 import de.wps.radvis.backend.matching.domain.service.MatchingJobProtokollService;
 import de.wps.radvis.backend.matching.domain.service.MatchingKorrekturService;
+import de.wps.radvis.backend.matching.domain.service.MatchingPipelineService;
 import de.wps.radvis.backend.matching.domain.valueObject.LinearReferenziertesOsmMatchResult;
 import de.wps.radvis.backend.netz.domain.entity.KanteGeometryView;
 import de.wps.radvis.backend.netz.domain.service.NetzService;
@@ -131,7 +132,7 @@ class MatchNetzAufOSMJobTestIT extends DBIntegrationTestIT {
 		matchNetzAufOSMJob = new MatchNetzAufOSMJob(jobExecutionDescriptionRepository, netzfehlerRepository,
 			Lazy.of(osmMatchingRepository),
 			netzService, korrekturService, osmJobProtokollService, entityManager, dlmConfigurationProperties,
-			osmAbbildungsFehlerRepository);
+			osmAbbildungsFehlerRepository, new MatchingPipelineService(2, 100));
 		when(dlmConfigurationProperties.getExtentProperty()).thenReturn(new ExtentProperty(0, 30, 0, 30));
 		when(dlmConfigurationProperties.getPartitionenX()).thenReturn(1);
 	}
@@ -105,7 +105,7 @@ class OsmAuszeichnungsServiceTestIT extends DBIntegrationTestIT {
 	public void setUp() {
 		MockitoAnnotations.openMocks(this);
 
-		osmAuszeichnungsService = new OsmAuszeichnungsService(kantenRepository, 0.8);
+		osmAuszeichnungsService = new OsmAuszeichnungsService(kantenRepository, 0.8, 2);
 	}
 
 	@Test
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.matching.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
+
+import de.wps.radvis.backend.matching.domain.entity.MatchingJobStatistik;
+
+class MatchingPipelineServiceTest {
+
+	private final List<Envelope> partitionen = List.of(
+		new Envelope(0, 10, 0, 10),
+		new Envelope(10, 20, 0, 10),
+		new Envelope(20, 30, 0, 10));
+
+	@Test
+	void verarbeite_schreibtErgebnisseInReihenfolgeUndInBatches() {
+		// arrange
+		MatchingPipelineService service = new MatchingPipelineService(4, 3);
+		TestVerarbeitung verarbeitung = new TestVerarbeitung(10);
+
+		// act
+		service.verarbeite(partitionen, verarbeitung, new MatchingJobStatistik());
+
+		// assert
+		List<Integer> erwartet = IntStream.range(0, 30).boxed().map(i -> i * 2).toList();
+		assertThat(verarbeitung.geschrieben.stream().flatMap(List::stream).toList()).isEqualTo(erwartet);
+		assertThat(verarbeitung.geschrieben).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(3));
+	}
+
+	@Test
+	void verarbeite_laedtNaechstePartitionVorDemSchreiben() {
+		// arrange
+		MatchingPipelineService service = new MatchingPipelineService(2, 100);
+		TestVerarbeitung verarbeitung = new TestVerarbeitung(5);
+
+		// act
+		service.verarbeite(partitionen, verarbeitung, new MatchingJobStatistik());
+
+		// assert
+		assertThat(verarbeitung.ereignisse).containsExactly(
+			"lade 0", "lade 10", "schreibe", "abgeschlossen 0",
+			"lade 20", "schreibe", "abgeschlossen 1",
+			"schreibe", "abgeschlossen 2");
+	}
+
+	@Test
+	void verarbeite_addiertStatistikenDerWorker() {
+		// arrange
+		MatchingPipelineService service = new MatchingPipelineService(4, 7);
+		TestVerarbeitung verarbeitung = new TestVerarbeitung(10);
+		MatchingJobStatistik statistik = new MatchingJobStatistik();
+
+		// act
+		service.verarbeite(partitionen, verarbeitung, statistik);
+
+		// assert
+		assertThat(statistik.anzahlStrecken).isEqualTo(30);
+		assertThat(statistik.anzahlMatchingWorker).isEqualTo(4);
+	}
+
+	@Test
+	void verarbeite_fehlerImWorker_wirdWeitergereicht() {
+		// arrange
+		MatchingPipelineService service = new MatchingPipelineService(2, 10);
+		TestVerarbeitung verarbeitung = new TestVerarbeitung(5) {
+			@Override
+			public Integer matche(Integer aufgabe, MatchingJobStatistik statistik) {
+				if (aufgabe == 7) {
+					throw new IllegalStateException("Fehler beim Matching");
+				}
+				return super.matche(aufgabe, statistik);
+			}
+		};
+
+		// act + assert
+		assertThatThrownBy(() -> service.verarbeite(partitionen, verarbeitung, new MatchingJobStatistik()))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("Fehler beim Matching");
+	}
+
+	private static class TestVerarbeitung implements MatchingPipelineService.Verarbeitung<Integer, Integer> {
+		private final int aufgabenProPartition;
+		private final List<List<Integer>> geschrieben = new ArrayList<>();
+		private final List<String> ereignisse = Collections.synchronizedList(new ArrayList<>());
+
+		TestVerarbeitung(int aufgabenProPartition) {
+			this.aufgabenProPartition = aufgabenProPartition;
+		}
+
+		@Override
+		public List<Integer> lade(Envelope partition) {
+			ereignisse.add("lade " + (int) partition.getMinX());
+			int erste = (int) partition.getMinX() / 10 * aufgabenProPartition;
+			return IntStream.range(erste, erste + aufgabenProPartition).boxed().toList();
+		}
+
+		@Override
+		public Integer matche(Integer aufgabe, MatchingJobStatistik statistik) {
+			statistik.anzahlStrecken++;
+			return aufgabe * 2;
+		}
+
+		@Override
+		public void schreibe(List<Integer> ergebnisse) {
+			ereignisse.add("schreibe");
+			geschrieben.add(ergebnisse);
+		}
+
+		@Override
+		public void partitionAbgeschlossen(int partitionIndex, int anzahlPartitionen) {
+			ereignisse.add("abgeschlossen " + partitionIndex);
+		}
+	}
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.matching.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.google.protobuf.ByteString;
+
+import de.topobyte.osm4j.pbf.protobuf.Fileformat;
+import de.topobyte.osm4j.pbf.protobuf.Osmformat;
+import de.wps.radvis.backend.netz.domain.dbView.KanteOsmMatchWithAttribute;
+import de.wps.radvis.backend.netz.domain.repository.KantenRepository;
+
+class OsmAuszeichnungsServiceTest {
+
+	private static final List<String> BESTEHENDE_STRINGS = List.of("", "highway", "residential", "name",
+		"Hauptstraße");
+
+	@TempDir
+	File temp;
+
+	@Mock
+	private KantenRepository kantenRepository;
+
+	private OsmAuszeichnungsService osmAuszeichnungsService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+
+		osmAuszeichnungsService = new OsmAuszeichnungsService(kantenRepository, 0.8, 3);
+	}
+
+	@Test
+	void reicherePbfAn_mehrereBloecke_reihenfolgeWieInEingabe() throws IOException {
+		// arrange
+		// Mehr Blöcke als gleichzeitig in Bearbeitung sein dürfen, damit die Warteschlange mehrfach abgearbeitet wird
+		List<Long> wayIds = IntStream.rangeClosed(1, 40).mapToObj(i -> (long) i).toList();
+		List<byte[]> bloecke = new ArrayList<>();
+		bloecke.add(erstelleHeaderBlock());
+		wayIds.forEach(wayId -> bloecke.add(erstelleDatenBlock(erstelleWay(wayId))));
+		File input = schreibePbf(bloecke);
+		File output = new File(temp, "output.osm.pbf");
+
+		when(kantenRepository.getKanteOsmMatchesWithOsmAttributes(any())).thenReturn(
+			wayIds.stream().filter(wayId -> wayId % 3 == 0).map(this::erstelleMatch));
+
+		// act
+		osmAuszeichnungsService.reicherePbfAn(input, output);
+
+		// assert
+		List<Fileblock> ausgabe = lesePbf(output);
+		assertThat(ausgabe).hasSize(bloecke.size());
+		assertThat(ausgabe.get(0).blobHeader().getType()).isEqualTo("OSMHeader");
+		assertThat(ausgabe.subList(1, ausgabe.size()))
+			.map(fileblock -> fileblock.primitiveBlock().getPrimitivegroup(0).getWays(0).getId())
+			.containsExactlyElementsOf(wayIds);
+	}
+
+	@Test
+	void reicherePbfAn_bloeckeOhneAuszeichnung_werdenByteGenauUebernommen() throws IOException {
+		// arrange
+		List<byte[]> bloecke = List.of(
+			erstelleHeaderBlock(),
+			erstelleDatenBlock(erstelleWay(1L), erstelleWay(2L)),
+			erstelleDatenBlock(erstelleWay(3L)),
+			erstelleDatenBlock(erstelleWay(4L), erstelleWay(5L)));
+		File input = schreibePbf(bloecke);
+		File output = new File(temp, "output.osm.pbf");
+
+		when(kantenRepository.getKanteOsmMatchesWithOsmAttributes(any())).thenReturn(Stream.of(erstelleMatch(3L)));
+
+		// act
+		osmAuszeichnungsService.reicherePbfAn(input, output);
+
+		// assert
+		List<Fileblock> ausgabe = lesePbf(output);
+		assertThat(ausgabe).hasSize(4);
+		assertThat(ausgabe.get(0).bytes()).isEqualTo(bloecke.get(0));
+		assertThat(ausgabe.get(1).bytes()).isEqualTo(bloecke.get(1));
+		assertThat(ausgabe.get(2).bytes()).isNotEqualTo(bloecke.get(2));
+		assertThat(ausgabe.get(3).bytes()).isEqualTo(bloecke.get(3));
+	}
+
+	@Test
+	void reicherePbfAn_neueStrings_werdenAnStringTableAngehaengt() throws IOException {
+		// arrange
+		Osmformat.Way angereicherterWay = erstelleWay(1L);
+		Osmformat.Way unveraenderterWay = erstelleWay(2L);
+		File input = schreibePbf(List.of(erstelleDatenBlock(angereicherterWay, unveraenderterWay)));
+		File output = new File(temp, "output.osm.pbf");
+
+		when(kantenRepository.getKanteOsmMatchesWithOsmAttributes(any())).thenReturn(Stream.of(erstelleMatch(1L)));
+
+		// act
+		osmAuszeichnungsService.reicherePbfAn(input, output);
+
+		// assert
+		Osmformat.PrimitiveBlock primitiveBlock = lesePbf(output).get(0).primitiveBlock();
+		List<String> strings = primitiveBlock.getStringtable().getSList().stream()
+			.map(ByteString::toStringUtf8)
+			.toList();
+		assertThat(strings.subList(0, BESTEHENDE_STRINGS.size())).containsExactlyElementsOf(BESTEHENDE_STRINGS);
+		assertThat(strings.subList(BESTEHENDE_STRINGS.size(), strings.size()))
+			.containsExactly("radvis:status", "UNTER_VERKEHR", "radvis:droute", "0");
+
+		Osmformat.Way way = primitiveBlock.getPrimitivegroup(0).getWays(0);
+		assertThat(way.getKeysList().subList(0, angereicherterWay.getKeysCount()))
+			.containsExactlyElementsOf(angereicherterWay.getKeysList());
+		assertThat(way.getValsList().subList(0, angereicherterWay.getValsCount()))
+			.containsExactlyElementsOf(angereicherterWay.getValsList());
+		assertThat(way.getKeysList().subList(angereicherterWay.getKeysCount(), way.getKeysCount()))
+			.map(strings::get)
+			.containsExactly("radvis:status", "radvis:droute");
+		assertThat(way.getValsList().subList(angereicherterWay.getValsCount(), way.getValsCount()))
+			.map(strings::get)
+			.containsExactly("UNTER_VERKEHR", "0");
+		assertThat(way.getRefsList()).isEqualTo(angereicherterWay.getRefsList());
+		assertThat(primitiveBlock.getPrimitivegroup(0).getWays(1)).isEqualTo(unveraenderterWay);
+	}
+
+	private KanteOsmMatchWithAttribute erstelleMatch(long osmWayId) {
+		return new KanteOsmMatchWithAttribute(osmWayId, osmWayId, "UNTER_VERKEHR", null, "UNBEKANNT", null,
+			"UNBEKANNT", "UNBEKANNT", false);
+	}
+
+	private static Osmformat.Way erstelleWay(long id) {
+		// highway=residential, name=Hauptstraße
+		return Osmformat.Way.newBuilder()
+			.setId(id)
+			.addAllKeys(List.of(1, 3))
+			.addAllVals(List.of(2, 4))
+			.addAllRefs(List.of(id * 10, 1L))
+			.build();
+	}
+
+	private static byte[] erstelleHeaderBlock() {
+		Osmformat.HeaderBlock headerBlock = Osmformat.HeaderBlock.newBuilder()
+			.addRequiredFeatures("OsmSchema-V0.6")
+			.build();
+		return erstelleFileblock("OSMHeader", headerBlock.toByteArray());
+	}
+
+	private static byte[] erstelleDatenBlock(Osmformat.Way... ways) {
+		Osmformat.StringTable.Builder stringTable = Osmformat.StringTable.newBuilder();
+		BESTEHENDE_STRINGS.forEach(string -> stringTable.addS(ByteString.copyFromUtf8(string)));
+		Osmformat.PrimitiveBlock primitiveBlock = Osmformat.PrimitiveBlock.newBuilder()
+			.setStringtable(stringTable)
+			.addPrimitivegroup(Osmformat.PrimitiveGroup.newBuilder().addAllWays(Arrays.asList(ways)))
+			.build();
+		return erstelleFileblock("OSMData", primitiveBlock.toByteArray());
+	}
+
+	private static byte[] erstelleFileblock(String typ, byte[] daten) {
+		Deflater deflater = new Deflater();
+		deflater.setInput(daten);
+		deflater.finish();
+		ByteArrayOutputStream komprimiert = new ByteArrayOutputStream();
+		byte[] puffer = new byte[1024];
+		while (!deflater.finished()) {
+			komprimiert.write(puffer, 0, deflater.deflate(puffer));
+		}
+		deflater.end();
+
+		byte[] blob = Fileformat.Blob.newBuilder()
+			.setRawSize(daten.length)
+			.setZlibData(ByteString.copyFrom(komprimiert.toByteArray()))
+			.build()
+			.toByteArray();
+		byte[] blobHeader = Fileformat.BlobHeader.newBuilder()
+			.setType(typ)
+			.setDatasize(blob.length)
+			.build()
+			.toByteArray();
+
+		ByteArrayOutputStream fileblock = new ByteArrayOutputStream();
+		try (DataOutputStream output = new DataOutputStream(fileblock)) {
+			output.writeInt(blobHeader.length);
+			output.write(blobHeader);
+			output.write(blob);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return fileblock.toByteArray();
+	}
+
+	private File schreibePbf(List<byte[]> bloecke) throws IOException {
+		File datei = new File(temp, "input.osm.pbf");
+		try (FileOutputStream output = new FileOutputStream(datei)) {
+			for (byte[] block : bloecke) {
+				output.write(block);
+			}
+		}
+		return datei;
+	}
+
+	private static List<Fileblock> lesePbf(File datei) throws IOException {
+		List<Fileblock> fileblocks = new ArrayList<>();
+		try (DataInputStream input = new DataInputStream(new FileInputStream(datei))) {
+			while (true) {
+				int blobHeaderLaenge;
+				try {
+					blobHeaderLaenge = input.readInt();
+				} catch (EOFException e) {
+					return fileblocks;
+				}
+				byte[] blobHeaderBytes = input.readNBytes(blobHeaderLaenge);
+				Fileformat.BlobHeader blobHeader = Fileformat.BlobHeader.parseFrom(blobHeaderBytes);
+				byte[] blob = input.readNBytes(blobHeader.getDatasize());
+
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				DataOutputStream output = new DataOutputStream(bytes);
+				output.writeInt(blobHeaderLaenge);
+				output.write(blobHeaderBytes);
+				output.write(blob);
+				fileblocks.add(new Fileblock(blobHeader, entpacke(Fileformat.Blob.parseFrom(blob)),
+					bytes.toByteArray()));
+			}
+		}
+	}
+
+	private static byte[] entpacke(Fileformat.Blob blob) throws IOException {
+		byte[] daten = new byte[blob.getRawSize()];
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(blob.getZlibData().toByteArray());
+			inflater.inflate(daten);
+		} catch (DataFormatException e) {
+			throw new IOException(e);
+		} finally {
+			inflater.end();
+		}
+		return daten;
+	}
+
+	private record Fileblock(Fileformat.BlobHeader blobHeader, byte[] daten, byte[] bytes) {
+		Osmformat.PrimitiveBlock primitiveBlock() {
+			try {
+				return Osmformat.PrimitiveBlock.parseFrom(daten);
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+}
@@ -111,8 +111,9 @@ class DlmMatchedGraphHopperTest {
 		// assert
 		assertThat(Files.exists(Path.of(graphhopperDlmConfigurationProperties.getCacheVerzeichnis()))).isTrue();
 		assertThat(graphHopperFactory.getDlmMatchingCacheRepository().hasCache()).isTrue();
-		assertThat(graphHopperFactory.getDlmMatchingCacheRepository().getWayIds()).isNotEmpty();
-		assertThat(graphHopperFactory.getDlmMatchingCacheRepository().getProfilEigenschaften()).isNotEmpty();
+		assertThat(graphHopperFactory.getDlmMatchingCacheRepository().getAnzahlEdges()).isPositive();
+		assertThat(graphHopperFactory.getDlmMatchingCacheRepository().getOsmWayId(0)).isNotNull();
+		assertThat(graphHopperFactory.getDlmMatchingCacheRepository().getProfilEigenschaften(0)).isNotNull();
 	}
 
 	@Test
@@ -139,8 +140,9 @@ class DlmMatchedGraphHopperTest {
 
 		// assert
 		assertThat(graphHopperFactory.getDlmMatchingCacheRepository().hasCache()).isTrue();
-		assertThat(graphHopperFactory.getDlmMatchingCacheRepository().getWayIds()).isNotEmpty();
-		assertThat(graphHopperFactory.getDlmMatchingCacheRepository().getProfilEigenschaften()).isNotEmpty();
+		assertThat(graphHopperFactory.getDlmMatchingCacheRepository().getAnzahlEdges()).isPositive();
+		assertThat(graphHopperFactory.getDlmMatchingCacheRepository().getOsmWayId(0)).isNotNull();
+		assertThat(graphHopperFactory.getDlmMatchingCacheRepository().getProfilEigenschaften(0)).isNotNull();
 		assertThat(graphHopperFactory.getDlmMatchingCacheRepository().getTimestamp()).isEqualTo(timestampBefore);
 	}
 
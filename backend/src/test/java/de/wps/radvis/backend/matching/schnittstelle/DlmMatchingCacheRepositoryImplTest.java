@@ -16,11 +16,15 @@ package de.wps.radvis.backend.matching.schnittstelle;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import de.wps.radvis.backend.matching.domain.repository.DlmMatchingCacheRepository;
 import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.DlmMatchingCacheRepositoryImpl;
@@ -30,11 +34,20 @@ import de.wps.radvis.backend.netz.domain.valueObject.Radverkehrsfuehrung;
 import de.wps.radvis.backend.netz.domain.valueObject.SeitenbezogeneProfilEigenschaften;
 
 class DlmMatchingCacheRepositoryImplTest {
+	private static final SeitenbezogeneProfilEigenschaften PROFIL_1 = SeitenbezogeneProfilEigenschaften.of(
+		BelagArt.BETON, BelagArt.ASPHALT, Radverkehrsfuehrung.BEGEGNUNBSZONE, Radverkehrsfuehrung.SCHUTZSTREIFEN);
+	private static final SeitenbezogeneProfilEigenschaften PROFIL_2 = SeitenbezogeneProfilEigenschaften.of(
+		BelagArt.NATURSTEINPFLASTER, BelagArt.SONSTIGER_BELAG, Radverkehrsfuehrung.FUEHRUNG_IN_T30_ZONE,
+		Radverkehrsfuehrung.BETRIEBSWEG_FORST);
+
+	@TempDir
+	public File tempDir;
+
 	private DlmMatchingCacheRepository dlmMatchingCacheRepository;
 
 	@BeforeEach
 	public void setUp() {
-		dlmMatchingCacheRepository = new DlmMatchingCacheRepositoryImpl("target/test-mapping-cache");
+		dlmMatchingCacheRepository = new DlmMatchingCacheRepositoryImpl(tempDir.getAbsolutePath());
 	}
 
 	@Test
@@ -43,19 +56,76 @@ class DlmMatchingCacheRepositoryImplTest {
 		Map<Integer, OsmWayId> mappingWayIds = new HashMap<>();
 		mappingWayIds.put(1231, OsmWayId.of(123));
 		mappingWayIds.put(4561, OsmWayId.of(456));
+		mappingWayIds.put(4562, OsmWayId.of(456));
 
 		Map<Integer, SeitenbezogeneProfilEigenschaften> mappingProfilEigenschaften = new HashMap<>();
-		mappingProfilEigenschaften.put(1231,
-			SeitenbezogeneProfilEigenschaften.of(BelagArt.BETON, BelagArt.ASPHALT, Radverkehrsfuehrung.BEGEGNUNBSZONE,
-				Radverkehrsfuehrung.SCHUTZSTREIFEN));
-		mappingProfilEigenschaften.put(4561,
-			SeitenbezogeneProfilEigenschaften.of(BelagArt.NATURSTEINPFLASTER, BelagArt.SONSTIGER_BELAG,
-				Radverkehrsfuehrung.FUEHRUNG_IN_T30_ZONE, Radverkehrsfuehrung.BETRIEBSWEG_FORST));
+		mappingProfilEigenschaften.put(1231, PROFIL_1);
+		mappingProfilEigenschaften.put(4561, PROFIL_2);
+		mappingProfilEigenschaften.put(4562, PROFIL_1);
 
 		// act
 		dlmMatchingCacheRepository.save(mappingWayIds, mappingProfilEigenschaften);
+		dlmMatchingCacheRepository.load();
+
+		// assert
+		assertThat(dlmMatchingCacheRepository.getAnzahlEdges()).isEqualTo(4563);
+		assertThat(dlmMatchingCacheRepository.getOsmWayId(1231)).isEqualTo(OsmWayId.of(123));
+		assertThat(dlmMatchingCacheRepository.getOsmWayId(4561)).isEqualTo(OsmWayId.of(456));
+		assertThat(dlmMatchingCacheRepository.getOsmWayId(4562)).isEqualTo(OsmWayId.of(456));
+		assertThat(dlmMatchingCacheRepository.getProfilEigenschaften(1231)).isEqualTo(PROFIL_1);
+		assertThat(dlmMatchingCacheRepository.getProfilEigenschaften(4561)).isEqualTo(PROFIL_2);
+		assertThat(dlmMatchingCacheRepository.getProfilEigenschaften(4562)).isEqualTo(PROFIL_1);
+	}
+
+	@Test
+	void save_edgeOhneMapping_liefertNull() {
+		// arrange
+		Map<Integer, OsmWayId> mappingWayIds = Map.of(3, OsmWayId.of(123));
+		Map<Integer, SeitenbezogeneProfilEigenschaften> mappingProfilEigenschaften = Map.of(3, PROFIL_1);
+
+		// act
+		dlmMatchingCacheRepository.save(mappingWayIds, mappingProfilEigenschaften);
+		dlmMatchingCacheRepository.load();
+
+		// assert
+		assertThat(dlmMatchingCacheRepository.getOsmWayId(0)).isNull();
+		assertThat(dlmMatchingCacheRepository.getProfilEigenschaften(2)).isNull();
+		assertThat(dlmMatchingCacheRepository.getOsmWayId(4)).isNull();
+		assertThat(dlmMatchingCacheRepository.getProfilEigenschaften(-1)).isNull();
+	}
+
+	@Test
+	void load_jsonCacheVorhanden_wirdMigriert() throws Exception {
+		// arrange
+		ObjectMapper objectMapper = new ObjectMapper();
+		File jsonOsmWays = new File(tempDir, "mapping.cache");
+		File jsonProfilEigenschaften = new File(tempDir, "mapping.profil.cache");
+		objectMapper.writeValue(jsonOsmWays, Map.of(1, OsmWayId.of(123), 2, OsmWayId.of(456)));
+		objectMapper.writeValue(jsonProfilEigenschaften, Map.of(1, PROFIL_1, 2, PROFIL_2));
+		assertThat(dlmMatchingCacheRepository.hasCache()).isTrue();
+
+		// act
+		dlmMatchingCacheRepository.load();
+
+		// assert
+		assertThat(dlmMatchingCacheRepository.getOsmWayId(1)).isEqualTo(OsmWayId.of(123));
+		assertThat(dlmMatchingCacheRepository.getOsmWayId(2)).isEqualTo(OsmWayId.of(456));
+		assertThat(dlmMatchingCacheRepository.getProfilEigenschaften(1)).isEqualTo(PROFIL_1);
+		assertThat(dlmMatchingCacheRepository.getProfilEigenschaften(2)).isEqualTo(PROFIL_2);
+		assertThat(jsonOsmWays).doesNotExist();
+		assertThat(jsonProfilEigenschaften).doesNotExist();
+		assertThat(new File(tempDir, "mapping.bin")).exists();
+	}
+
+	@Test
+	void deleteAll() {
+		// arrange
+		dlmMatchingCacheRepository.save(Map.of(1, OsmWayId.of(123)), Map.of(1, PROFIL_1));
+
+		// act
+		dlmMatchingCacheRepository.deleteAll();
 
-		assertThat(dlmMatchingCacheRepository.getWayIds()).isEqualTo(mappingWayIds);
-		assertThat(dlmMatchingCacheRepository.getProfilEigenschaften()).isEqualTo(mappingProfilEigenschaften);
+		// assert
+		assertThat(dlmMatchingCacheRepository.hasCache()).isFalse();
 	}
 }
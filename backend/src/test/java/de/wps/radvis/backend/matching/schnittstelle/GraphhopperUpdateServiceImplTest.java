@@ -14,15 +14,21 @@
 
 package de.wps.radvis.backend.matching.schnittstelle;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
+import de.wps.radvis.backend.common.domain.RadVisDomainEventPublisher;
+import de.wps.radvis.backend.matching.domain.event.GraphhopperAktualisiertEvent;
 import de.wps.radvis.backend.matching.domain.repository.DlmMatchingRepository;
 import de.wps.radvis.backend.matching.domain.repository.GraphhopperRoutingRepository;
 import de.wps.radvis.backend.matching.domain.service.GraphhopperUpdateService;
@@ -38,14 +44,22 @@ class GraphhopperUpdateServiceImplTest {
 
 	GraphhopperUpdateService graphhopperUpdateService;
 
+	private MockedStatic<RadVisDomainEventPublisher> domainPublisherMock;
+
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
+		domainPublisherMock = mockStatic(RadVisDomainEventPublisher.class);
 
 		this.graphhopperUpdateService = new GraphhopperUpdateServiceImpl(dlmMatchedGraphHopperFactory,
 			graphhopperRoutingRepository, dlmMatchingRepository);
 	}
 
+	@AfterEach
+	void cleanUp() {
+		domainPublisherMock.close();
+	}
+
 	@Test
 	void testeUpdate() {
 		graphhopperUpdateService.update();
@@ -57,4 +71,13 @@ class GraphhopperUpdateServiceImplTest {
 		inOrder2.verify(dlmMatchedGraphHopperFactory, times(1)).updateDlmGraphHopper();
 		inOrder2.verify(dlmMatchingRepository, times(1)).updateGraphHopper();
 	}
-}
\ No newline at end of file
+
+	@Test
+	void update_publiziertEvent() {
+		// act
+		graphhopperUpdateService.update();
+
+		// assert
+		domainPublisherMock.verify(() -> RadVisDomainEventPublisher.publish(any(GraphhopperAktualisiertEvent.class)));
+	}
+}
@@ -113,7 +113,7 @@ class OsmMatchedGraphHopperTest {
 		// assert
 		assertThat(Files.exists(Path.of(graphhopperOsmConfigurationProperties.getCacheVerzeichnis()))).isTrue();
 		assertThat(osmMatchingCacheRepository.hasCache()).isTrue();
-		assertThat(osmMatchingCacheRepository.get()).isNotEmpty();
+		assertThat(osmMatchingCacheRepository.getAnzahlEdges()).isPositive();
 	}
 
 	@Test
@@ -155,7 +155,7 @@ class OsmMatchedGraphHopperTest {
 
 		// assert
 		assertThat(osmMatchingCacheRepository.hasCache()).isTrue();
-		assertThat(osmMatchingCacheRepository.get()).isNotEmpty();
+		assertThat(osmMatchingCacheRepository.getAnzahlEdges()).isPositive();
 		assertThat(osmMatchingCacheRepository.getTimestamp()).isEqualTo(timestampBefore);
 	}
 }
@@ -16,11 +16,15 @@ package de.wps.radvis.backend.matching.schnittstelle;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import de.wps.radvis.backend.common.domain.valueObject.LinearReferenzierterAbschnitt;
 import de.wps.radvis.backend.matching.domain.repository.OsmMatchingCacheRepository;
@@ -28,11 +32,15 @@ import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.OsmMatchingCa
 import de.wps.radvis.backend.netz.domain.valueObject.LinearReferenzierteOsmWayId;
 
 class OsmMatchingCacheRepositoryImplTest {
+
+	@TempDir
+	public File tempDir;
+
 	private OsmMatchingCacheRepository osmMatchingCacheRepository;
 
 	@BeforeEach
 	public void setUp() {
-		osmMatchingCacheRepository = new OsmMatchingCacheRepositoryImpl("target/test-mapping-cache");
+		osmMatchingCacheRepository = new OsmMatchingCacheRepositoryImpl(tempDir.getAbsolutePath());
 	}
 
 	@Test
@@ -40,11 +48,34 @@ class OsmMatchingCacheRepositoryImplTest {
 		// arrange
 		Map<Integer, LinearReferenzierteOsmWayId> mappingWayIds = new HashMap<>();
 		mappingWayIds.put(1231, LinearReferenzierteOsmWayId.of(123, LinearReferenzierterAbschnitt.of(0, 1)));
-		mappingWayIds.put(4561, LinearReferenzierteOsmWayId.of(456, LinearReferenzierterAbschnitt.of(0, 1)));
+		mappingWayIds.put(4561, LinearReferenzierteOsmWayId.of(456, LinearReferenzierterAbschnitt.of(0.25, 0.5)));
 
 		// act
 		osmMatchingCacheRepository.save(mappingWayIds);
+		osmMatchingCacheRepository.load();
+
+		// assert
+		assertThat(osmMatchingCacheRepository.getAnzahlEdges()).isEqualTo(4562);
+		assertThat(osmMatchingCacheRepository.get(1231)).isEqualTo(mappingWayIds.get(1231));
+		assertThat(osmMatchingCacheRepository.get(4561)).isEqualTo(mappingWayIds.get(4561));
+		assertThat(osmMatchingCacheRepository.get(1)).isNull();
+		assertThat(osmMatchingCacheRepository.get(4562)).isNull();
+	}
+
+	@Test
+	void load_jsonCacheVorhanden_wirdMigriert() throws Exception {
+		// arrange
+		File jsonOsmWays = new File(tempDir, "mapping.cache");
+		LinearReferenzierteOsmWayId osmWayId = LinearReferenzierteOsmWayId.of(123,
+			LinearReferenzierterAbschnitt.of(0.2, 0.8));
+		new ObjectMapper().writeValue(jsonOsmWays, Map.of(7, osmWayId));
+
+		// act
+		osmMatchingCacheRepository.load();
 
-		assertThat(osmMatchingCacheRepository.get()).isEqualTo(mappingWayIds);
+		// assert
+		assertThat(osmMatchingCacheRepository.get(7)).isEqualTo(osmWayId);
+		assertThat(jsonOsmWays).doesNotExist();
+		assertThat(new File(tempDir, "mapping.bin")).exists();
 	}
 }
@@ -47,7 +47,6 @@ import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.PbfErstellung
 import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.PbfErstellungsTestDataProvider;
 import de.wps.radvis.backend.netz.domain.entity.Kante;
 import de.wps.radvis.backend.netz.domain.entity.provider.KanteTestDataProvider;
-import de.wps.radvis.backend.netz.domain.repository.KantenRepository;
 import de.wps.radvis.backend.netz.domain.valueObject.LinearReferenzierteOsmWayId;
 import de.wps.radvis.backend.netz.domain.valueObject.provider.LineareReferenzTestProvider;
 
@@ -56,8 +55,6 @@ public class OsmMatchingRepositoryImplWithCustomPbfTest {
 	@Mock
 	private BarriereRepository barriereRepository;
 
-	@Mock
-	private KantenRepository kantenRepository;
 
 	OsmMatchingRepository osmMatchingRepository;
 
@@ -77,7 +74,7 @@ public class OsmMatchingRepositoryImplWithCustomPbfTest {
 		MockitoAnnotations.openMocks(this);
 
 		PbfErstellungsRepositoryImpl pbfErstellungsRepository = new PbfErstellungsRepositoryImpl(
-			coordinateReferenceSystemConverter, barriereRepository, kantenRepository);
+			coordinateReferenceSystemConverter, barriereRepository, 2);
 
 		kanten = List.of(
 			KanteTestDataProvider.withDefaultValues().geometry(
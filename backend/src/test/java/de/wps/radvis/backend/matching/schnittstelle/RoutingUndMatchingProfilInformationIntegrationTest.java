@@ -42,7 +42,7 @@ import de.wps.radvis.backend.fahrradroute.domain.valueObject.FahrradrouteProfilE
 import de.wps.radvis.backend.fahrradroute.domain.valueObject.LinearReferenzierteProfilEigenschaften;
 import de.wps.radvis.backend.matching.domain.exception.KeinMatchGefundenException;
 import de.wps.radvis.backend.matching.domain.exception.KeineRouteGefundenException;
-import de.wps.radvis.backend.matching.domain.repository.CustomRoutingProfileRepository;
+import de.wps.radvis.backend.matching.domain.repository.CustomModelRepository;
 import de.wps.radvis.backend.matching.domain.repository.DlmMatchingRepository;
 import de.wps.radvis.backend.matching.domain.repository.GraphhopperRoutingRepository;
 import de.wps.radvis.backend.matching.domain.valueObject.ProfilMatchResult;
@@ -56,18 +56,16 @@ import de.wps.radvis.backend.netz.domain.entity.FuehrungsformAttributGruppe;
 import de.wps.radvis.backend.netz.domain.entity.Kante;
 import de.wps.radvis.backend.netz.domain.entity.provider.FuehrungsformAttributeTestDataProvider;
 import de.wps.radvis.backend.netz.domain.entity.provider.KanteTestDataProvider;
-import de.wps.radvis.backend.netz.domain.repository.KantenRepository;
 import de.wps.radvis.backend.netz.domain.valueObject.BelagArt;
 import de.wps.radvis.backend.netz.domain.valueObject.Radverkehrsfuehrung;
 import de.wps.radvis.backend.netz.domain.valueObject.provider.LineareReferenzTestProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 public class RoutingUndMatchingProfilInformationIntegrationTest {
 
 	@Mock
 	private BarriereRepository barriereRepository;
 
-	@Mock
-	private KantenRepository kantenRepository;
 
 	GraphhopperRoutingRepository graphhopperRoutingRepository;
 
@@ -89,7 +87,7 @@ public class RoutingUndMatchingProfilInformationIntegrationTest {
 		MockitoAnnotations.openMocks(this);
 
 		PbfErstellungsRepositoryImpl pbfErstellungsRepository = new PbfErstellungsRepositoryImpl(
-			coordinateReferenceSystemConverter, barriereRepository, kantenRepository);
+			coordinateReferenceSystemConverter, barriereRepository, 2);
 
 		kanten = List.of(
 			KanteTestDataProvider.withDefaultValuesAndZweiseitig().geometry(
@@ -171,7 +169,7 @@ public class RoutingUndMatchingProfilInformationIntegrationTest {
 			.initializeFactoryForPBFFile(pbfFile.getAbsolutePath(), temp.getAbsolutePath());
 
 		graphhopperRoutingRepository = new GraphhopperRoutingRepositoryImpl(dlmMatchedGraphHopperFactory,
-			coordinateReferenceSystemConverter, mock(CustomRoutingProfileRepository.class));
+			coordinateReferenceSystemConverter, mock(CustomModelRepository.class), new SimpleMeterRegistry());
 
 		dlmMatchingRepository = new DlmMatchingRepositoryImpl(dlmMatchedGraphHopperFactory,
 			coordinateReferenceSystemConverter, 0.6);
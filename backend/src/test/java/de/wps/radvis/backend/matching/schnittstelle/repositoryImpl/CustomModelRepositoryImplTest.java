@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.matching.schnittstelle.repositoryImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.graphhopper.util.CustomModel;
+
+import de.wps.radvis.backend.matching.domain.entity.CustomRoutingProfile;
+import de.wps.radvis.backend.matching.domain.repository.CustomRoutingProfileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+
+class CustomModelRepositoryImplTest {
+
+	@Mock
+	private CustomRoutingProfileRepository customRoutingProfileRepository;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private CustomModelRepositoryImpl customModelRepository;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		meterRegistry = new SimpleMeterRegistry();
+		customModelRepository = new CustomModelRepositoryImpl(customRoutingProfileRepository, 2, meterRegistry);
+	}
+
+	@Test
+	void getCustomModel_gleichesJson_wirdAusDemCacheBedient() throws JsonProcessingException {
+		// arrange
+		mockProfil(1L, "{\"distance_influence\": 70}");
+
+		// act
+		CustomModel erstesModel = customModelRepository.getCustomModel(1L);
+		CustomModel zweitesModel = customModelRepository.getCustomModel(1L);
+
+		// assert
+		assertThat(erstesModel.getDistanceInfluence()).isEqualTo(70);
+		assertThat(zweitesModel.getDistanceInfluence()).isEqualTo(70);
+		assertThat(zweitesModel).isNotSameAs(erstesModel);
+		assertThat(anzahlZugriffe("treffer")).isEqualTo(1);
+		assertThat(anzahlZugriffe("fehlschlag")).isEqualTo(1);
+	}
+
+	@Test
+	void getCustomModel_geaendertesJson_wirdNeuGeparst() throws JsonProcessingException {
+		// arrange
+		mockProfil(1L, "{\"distance_influence\": 70}");
+		customModelRepository.getCustomModel(1L);
+		mockProfil(1L, "{\"distance_influence\": 30}");
+
+		// act
+		CustomModel model = customModelRepository.getCustomModel(1L);
+
+		// assert
+		assertThat(model.getDistanceInfluence()).isEqualTo(30);
+		assertThat(anzahlZugriffe("treffer")).isEqualTo(0);
+		assertThat(anzahlZugriffe("fehlschlag")).isEqualTo(2);
+	}
+
+	@Test
+	void entferne_entferntEintraege() throws JsonProcessingException {
+		// arrange
+		mockProfil(1L, "{\"distance_influence\": 70}");
+		mockProfil(2L, "{\"distance_influence\": 30}");
+		customModelRepository.getCustomModel(1L);
+		customModelRepository.getCustomModel(2L);
+
+		// act
+		customModelRepository.entferne(List.of(1L));
+
+		// assert
+		assertThat(customModelRepository.getAnzahlEintraege()).isEqualTo(1);
+	}
+
+	@Test
+	void getCustomModel_begrenzteAnzahlEintraege() throws JsonProcessingException {
+		// arrange
+		mockProfil(1L, "{\"distance_influence\": 70}");
+		mockProfil(2L, "{\"distance_influence\": 30}");
+		mockProfil(3L, "{\"distance_influence\": 10}");
+
+		// act
+		customModelRepository.getCustomModel(1L);
+		customModelRepository.getCustomModel(2L);
+		customModelRepository.getCustomModel(3L);
+
+		// assert
+		assertThat(customModelRepository.getAnzahlEintraege()).isEqualTo(2);
+	}
+
+	@Test
+	void getCustomModel_unbekanntesProfil_wirftException() {
+		// arrange
+		when(customRoutingProfileRepository.findById(1L)).thenReturn(Optional.empty());
+
+		// act + assert
+		assertThatThrownBy(() -> customModelRepository.getCustomModel(1L)).isInstanceOf(EntityNotFoundException.class);
+	}
+
+	private void mockProfil(long id, String profilJson) {
+		when(customRoutingProfileRepository.findById(id)).thenReturn(Optional.of(
+			CustomRoutingProfile.builder().id(id).name("Profil " + id).profilJson(profilJson).build()));
+	}
+
+	private double anzahlZugriffe(String ergebnis) {
+		return meterRegistry.get("radvis.routing.custommodel.cache").tag("ergebnis", ergebnis).counter().count();
+	}
+}
@@ -34,12 +34,12 @@ import de.wps.radvis.backend.common.DlmMatchedGraphhopperTestdataProvider;
 import de.wps.radvis.backend.common.GeometryTestdataProvider;
 import de.wps.radvis.backend.common.schnittstelle.CoordinateReferenceSystemConverter;
 import de.wps.radvis.backend.matching.domain.exception.KeineRouteGefundenException;
-import de.wps.radvis.backend.matching.domain.repository.CustomRoutingProfileRepository;
+import de.wps.radvis.backend.matching.domain.repository.CustomModelRepository;
 import de.wps.radvis.backend.matching.domain.repository.GraphhopperRoutingRepository;
 import de.wps.radvis.backend.matching.domain.valueObject.RoutingResult;
 import de.wps.radvis.backend.netz.domain.entity.Kante;
 import de.wps.radvis.backend.netz.domain.entity.provider.KanteTestDataProvider;
-import de.wps.radvis.backend.netz.domain.repository.KantenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class DlmMatchedGraphHopperFactory_PbfErstellungsRepositoryImplIntegrationTest {
 
@@ -54,8 +54,6 @@ class DlmMatchedGraphHopperFactory_PbfErstellungsRepositoryImplIntegrationTest {
 	@Mock
 	private BarriereRepository barriereRepository;
 
-	@Mock
-	private KantenRepository kantenRepository;
 
 	@TempDir
 	public File temp;
@@ -66,7 +64,7 @@ class DlmMatchedGraphHopperFactory_PbfErstellungsRepositoryImplIntegrationTest {
 	void setUp() {
 		openMocks(this);
 		pbfErstellungsRepository = new PbfErstellungsRepositoryImpl(coordinateReferenceSystemConverter,
-			barriereRepository, kantenRepository);
+			barriereRepository, 2);
 	}
 
 	@Test
@@ -107,7 +105,7 @@ class DlmMatchedGraphHopperFactory_PbfErstellungsRepositoryImplIntegrationTest {
 		GraphhopperRoutingRepository graphhopperRoutingRepository = new GraphhopperRoutingRepositoryImpl(
 			dlmMatchedGraphHopperFactory,
 			coordinateReferenceSystemConverter,
-			mock(CustomRoutingProfileRepository.class));
+			mock(CustomModelRepository.class), new SimpleMeterRegistry());
 
 		// derzeitige pbf ueberpruefen
 		List<Coordinate> pointsToRoute = List.of(
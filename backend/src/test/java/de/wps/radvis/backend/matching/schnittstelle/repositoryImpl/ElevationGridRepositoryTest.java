@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.matching.schnittstelle.repositoryImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.ElevationGridRepository.TileKoordinate;
+import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.ElevationGridRepository.TileQuelle;
+
+class ElevationGridRepositoryTest {
+
+	@TempDir
+	public File tiffTilesVerzeichnis;
+
+	@TempDir
+	public File cacheDir;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		ElevationGridRepository.baueGrid(new File(cacheDir, ElevationGridRepository.GRID_DATEINAME), Map.of(
+			new TileKoordinate(400, 5400), tileMitKonstanterHoehe(100),
+			new TileKoordinate(402, 5401), tileMitHoeheNachZeile()));
+	}
+
+	@Test
+	void getHoehe_findetTile() {
+		// arrange
+		ElevationGridRepository repository = new ElevationGridRepository(tiffTilesVerzeichnis.getAbsolutePath(),
+			cacheDir.getAbsolutePath());
+
+		// act + assert
+		assertThat(repository.getHoehe(400_000, 5_400_000)).isEqualTo(100);
+		assertThat(repository.getHoehe(400_999.9, 5_400_999.9)).isEqualTo(100);
+		assertThat(repository.getHoehe(402_500.5, 5_401_000)).isEqualTo(0);
+		assertThat(repository.getHoehe(402_500.5, 5_401_250.7)).isEqualTo(250);
+		assertThat(repository.getHoehe(402_000, 5_401_999)).isEqualTo(999);
+	}
+
+	@Test
+	void getHoehe_keinTileVorhanden_0() {
+		// arrange
+		ElevationGridRepository repository = new ElevationGridRepository(tiffTilesVerzeichnis.getAbsolutePath(),
+			cacheDir.getAbsolutePath());
+
+		// act + assert
+		assertThat(repository.getHoehe(401_500, 5_400_500)).isEqualTo(0);
+		assertThat(repository.getHoehe(400_500, 5_401_500)).isEqualTo(0);
+		assertThat(repository.getHoehe(399_999, 5_400_500)).isEqualTo(0);
+		assertThat(repository.getHoehe(403_000, 5_401_500)).isEqualTo(0);
+		assertThat(repository.getHoehe(400_500, 5_402_000)).isEqualTo(0);
+	}
+
+	@Test
+	void getHoehe_ungueltigerWert_NaN() throws Exception {
+		// arrange
+		Files.delete(new File(cacheDir, ElevationGridRepository.GRID_DATEINAME).toPath());
+		ElevationGridRepository.baueGrid(new File(cacheDir, ElevationGridRepository.GRID_DATEINAME), Map.of(
+			new TileKoordinate(400, 5400), tileMitKonstanterHoehe(Short.MIN_VALUE)));
+		ElevationGridRepository repository = new ElevationGridRepository(tiffTilesVerzeichnis.getAbsolutePath(),
+			cacheDir.getAbsolutePath());
+
+		// act + assert
+		assertThat(repository.getHoehe(400_500, 5_400_500)).isNaN();
+	}
+
+	@Test
+	void konstruktor_ungueltigeGridDatei_wirftException() throws Exception {
+		// arrange
+		Files.write(new File(cacheDir, ElevationGridRepository.GRID_DATEINAME).toPath(), new byte[64]);
+
+		// act + assert
+		assertThatThrownBy(() -> new ElevationGridRepository(tiffTilesVerzeichnis.getAbsolutePath(),
+			cacheDir.getAbsolutePath())).isInstanceOf(UncheckedIOException.class);
+	}
+
+	private static TileQuelle tileMitKonstanterHoehe(int hoehe) {
+		return ziel -> {
+			while (ziel.hasRemaining()) {
+				ziel.put((short) hoehe);
+			}
+		};
+	}
+
+	private static TileQuelle tileMitHoeheNachZeile() {
+		return ziel -> {
+			for (int i = 0; i < ziel.capacity(); i++) {
+				ziel.put(i, (short) (i / ElevationGridRepository.TILE_GROESSE));
+			}
+		};
+	}
+}
@@ -18,7 +18,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.tuple;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
@@ -72,7 +71,7 @@ import de.wps.radvis.backend.common.domain.valueObject.QuellSystem;
 import de.wps.radvis.backend.common.domain.valueObject.Seitenbezug;
 import de.wps.radvis.backend.common.schnittstelle.CoordinateReferenceSystemConverter;
 import de.wps.radvis.backend.matching.domain.exception.KeineRouteGefundenException;
-import de.wps.radvis.backend.matching.domain.repository.CustomRoutingProfileRepository;
+import de.wps.radvis.backend.matching.domain.repository.CustomModelRepository;
 import de.wps.radvis.backend.matching.domain.repository.GraphhopperRoutingRepository;
 import de.wps.radvis.backend.matching.domain.repository.OsmMatchingCacheRepository;
 import de.wps.radvis.backend.matching.domain.repository.PbfErstellungsRepository;
@@ -83,8 +82,8 @@ import de.wps.radvis.backend.netz.domain.entity.FahrtrichtungAttributGruppe;
 import de.wps.radvis.backend.netz.domain.entity.Kante;
 import de.wps.radvis.backend.netz.domain.entity.provider.FuehrungsformAttributGruppeTestDataProvider;
 import de.wps.radvis.backend.netz.domain.entity.provider.KanteTestDataProvider;
-import de.wps.radvis.backend.netz.domain.repository.KantenRepository;
 import de.wps.radvis.backend.netz.domain.valueObject.Richtung;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class PbfErstellungsRepositoryImplTest {
 
@@ -99,8 +98,6 @@ class PbfErstellungsRepositoryImplTest {
 	@Mock
 	private BarriereRepository barriereRepository;
 
-	@Mock
-	private KantenRepository kantenRepository;
 
 	@TempDir
 	public File tempDir;
@@ -114,7 +111,7 @@ class PbfErstellungsRepositoryImplTest {
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
-		pbfErstellungsRepository = new PbfErstellungsRepositoryImpl(converter, barriereRepository, kantenRepository);
+		pbfErstellungsRepository = new PbfErstellungsRepositoryImpl(converter, barriereRepository, 2);
 	}
 
 	@Test
@@ -972,7 +969,7 @@ class PbfErstellungsRepositoryImplTest {
 			when(factory.getDlmGraphHopper()).thenReturn(dlmMatchedGraphHopper);
 
 			GraphhopperRoutingRepository graphhopperRoutingRepository = new GraphhopperRoutingRepositoryImpl(factory,
-				converter, mock(CustomRoutingProfileRepository.class));
+				converter, mock(CustomModelRepository.class), new SimpleMeterRegistry());
 
 			List<Coordinate> routeSteps = List.of(
 				new Coordinate(451184.5, 5390506.2),
@@ -1041,12 +1038,6 @@ class PbfErstellungsRepositoryImplTest {
 			.build();
 
 		List<Kante> kanten = List.of(kante1, kante2, kante3, kante4, kante5, kante6);
-		kanten.forEach(kante -> {
-			when(kantenRepository.getAdjazenteKanten(eq(kante.getVonKnoten()))).thenReturn(List.of(kante));
-			when(kantenRepository.getAdjazenteKanten(eq(kante.getNachKnoten()))).thenReturn(List.of(kante));
-		});
-		// Geteilter Knoten zwischen Kante 5 und 6:
-		when(kantenRepository.getAdjazenteKanten(eq(kante6.getVonKnoten()))).thenReturn(List.of(kante5, kante6));
 
 		final BarriereNetzBezug netzbezug2 = new BarriereNetzBezug(
 			Set.of(new AbschnittsweiserKantenSeitenBezug(kante2, LinearReferenzierterAbschnitt.of(0, 0.5),
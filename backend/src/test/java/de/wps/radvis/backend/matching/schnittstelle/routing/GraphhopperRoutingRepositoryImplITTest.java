@@ -44,7 +44,7 @@ import de.wps.radvis.backend.common.domain.CommonConfigurationProperties;
 import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
 import de.wps.radvis.backend.common.schnittstelle.CoordinateReferenceSystemConverter;
 import de.wps.radvis.backend.matching.domain.exception.KeineRouteGefundenException;
-import de.wps.radvis.backend.matching.domain.repository.CustomRoutingProfileRepository;
+import de.wps.radvis.backend.matching.domain.repository.CustomModelRepository;
 import de.wps.radvis.backend.matching.domain.repository.GraphhopperRoutingRepository;
 import de.wps.radvis.backend.matching.domain.valueObject.RoutingResult;
 import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.DlmMatchedGraphHopperFactory;
@@ -53,7 +53,7 @@ import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.PbfErstellung
 import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.PbfErstellungsTestDataProvider;
 import de.wps.radvis.backend.netz.domain.entity.Kante;
 import de.wps.radvis.backend.netz.domain.entity.provider.KanteTestDataProvider;
-import de.wps.radvis.backend.netz.domain.repository.KantenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class GraphhopperRoutingRepositoryImplITTest {
 
@@ -74,8 +74,6 @@ class GraphhopperRoutingRepositoryImplITTest {
 	@Mock
 	private BarriereRepository barriereRepository;
 
-	@Mock
-	private KantenRepository kantenRepository;
 
 	@BeforeEach
 	void setup() {
@@ -91,7 +89,7 @@ class GraphhopperRoutingRepositoryImplITTest {
 		void setUp() throws IOException {
 
 			PbfErstellungsRepositoryImpl pbfErstellungsRepository = new PbfErstellungsRepositoryImpl(
-				coordinateReferenceSystemConverter, barriereRepository, kantenRepository);
+				coordinateReferenceSystemConverter, barriereRepository, 2);
 
 			List<Kante> kanten = List.of(
 				KanteTestDataProvider.withDefaultValues().geometry(
@@ -127,7 +125,7 @@ class GraphhopperRoutingRepositoryImplITTest {
 				.initializeFactoryForPBFFile(pbfFile.getAbsolutePath(), temp.getAbsolutePath());
 
 			graphhopperRoutingRepository = new GraphhopperRoutingRepositoryImpl(dlmMatchedGraphHopperFactory,
-				coordinateReferenceSystemConverter, mock(CustomRoutingProfileRepository.class));
+				coordinateReferenceSystemConverter, mock(CustomModelRepository.class), new SimpleMeterRegistry());
 		}
 
 		@Test
@@ -207,7 +205,7 @@ class GraphhopperRoutingRepositoryImplITTest {
 		void setUp() throws IOException {
 			PbfErstellungsRepositoryImpl pbfErstellungsRepository = new PbfErstellungsRepositoryImpl(
 				new CoordinateReferenceSystemConverter(commonConfigurationProperties
-					.getObersteGebietskoerperschaftEnvelope()), barriereRepository, kantenRepository);
+					.getObersteGebietskoerperschaftEnvelope()), barriereRepository, 2);
 
 			kanten = List.of(
 				KanteTestDataProvider.withDefaultValues().geometry(
@@ -242,7 +240,7 @@ class GraphhopperRoutingRepositoryImplITTest {
 				.initializeFactoryForPBFFile(pbfFile.getAbsolutePath(), temp.getAbsolutePath());
 
 			graphhopperRoutingRepository = new GraphhopperRoutingRepositoryImpl(dlmMatchedGraphHopperFactory,
-				coordinateReferenceSystemConverter, mock(CustomRoutingProfileRepository.class));
+				coordinateReferenceSystemConverter, mock(CustomModelRepository.class), new SimpleMeterRegistry());
 		}
 
 		@Test
@@ -37,6 +37,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
@@ -931,7 +932,7 @@ class NetzServiceTest {
 			// assert
 			domainPublisherMock.verify(() -> RadVisDomainEventPublisher.publish(eventCaptor.capture()));
 			assertThat(eventCaptor.getValue()).usingRecursiveComparison()
-				.isEqualTo(new KanteGeometrieChangedEvent(kante.getId()));
+				.isEqualTo(new KanteGeometrieChangedEvent(kante.getId(), new Envelope(0, 500, 0, 500)));
 			assertThat(kante.getGeometry().getCoordinates()).isEqualTo(newGeometry.getCoordinates());
 			assertThat(kante.getVerlaufLinks()).isPresent();
 			assertThat(kante.getVerlaufLinks().get().getCoordinateN(0)).isEqualTo(new Coordinate(10, 20));
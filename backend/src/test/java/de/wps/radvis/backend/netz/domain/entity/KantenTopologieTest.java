@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.netz.domain.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+
+import de.wps.radvis.backend.common.domain.LongIntHashMap;
+import de.wps.radvis.backend.common.domain.valueObject.QuellSystem;
+import de.wps.radvis.backend.netz.domain.entity.provider.KanteTestDataProvider;
+import de.wps.radvis.backend.netz.domain.entity.provider.KnotenTestDataProvider;
+
+class KantenTopologieTest {
+
+	private Knoten knoten1;
+	private Knoten knoten2;
+	private Knoten knoten3;
+	private Knoten knoten4;
+	private Kante kante1;
+	private Kante kante2;
+	private Kante kante3;
+
+	@BeforeEach
+	void setUp() {
+		knoten1 = KnotenTestDataProvider.withCoordinateAndQuelle(new Coordinate(0, 0), QuellSystem.DLM).id(10L)
+			.build();
+		knoten2 = KnotenTestDataProvider.withCoordinateAndQuelle(new Coordinate(10, 10), QuellSystem.DLM).id(20L)
+			.build();
+		knoten3 = KnotenTestDataProvider.withCoordinateAndQuelle(new Coordinate(20, 20), QuellSystem.DLM).id(30L)
+			.build();
+		knoten4 = KnotenTestDataProvider.withCoordinateAndQuelle(new Coordinate(30, 0), QuellSystem.DLM).id(40L)
+			.build();
+
+		kante1 = KanteTestDataProvider.fromKnotenUndQuelle(knoten1, knoten2, QuellSystem.DLM).id(1L).build();
+		kante2 = KanteTestDataProvider.fromKnotenUndQuelle(knoten2, knoten3, QuellSystem.DLM).id(2L).build();
+		kante3 = KanteTestDataProvider.fromKnotenUndQuelle(knoten4, knoten2, QuellSystem.DLM).id(3L).build();
+	}
+
+	@Test
+	void aus_grade() {
+		// act
+		KantenTopologie topologie = KantenTopologie.aus(List.of(kante1, kante2, kante3));
+
+		// assert
+		assertThat(topologie.getAnzahlKnoten()).isEqualTo(4);
+		assertThat(topologie.getAnzahlKanten()).isEqualTo(3);
+		assertThat(topologie.getGrad(knoten1)).isEqualTo(1);
+		assertThat(topologie.getGrad(knoten2)).isEqualTo(3);
+		assertThat(topologie.getGrad(knoten3)).isEqualTo(1);
+		assertThat(topologie.getGrad(knoten4)).isEqualTo(1);
+	}
+
+	@Test
+	void aus_knotenInReihenfolgeDesErstenAuftretens() {
+		// act
+		KantenTopologie topologie = KantenTopologie.aus(List.of(kante1, kante2, kante3));
+
+		// assert
+		assertThat(topologie.getKnoten(0)).isEqualTo(knoten1);
+		assertThat(topologie.getKnoten(1)).isEqualTo(knoten2);
+		assertThat(topologie.getKnoten(2)).isEqualTo(knoten3);
+		assertThat(topologie.getKnoten(3)).isEqualTo(knoten4);
+	}
+
+	@Test
+	void getAdjazenteKanten_inReihenfolgeDerKanten() {
+		// act
+		KantenTopologie topologie = KantenTopologie.aus(List.of(kante1, kante2, kante3));
+
+		// assert
+		assertThat(topologie.getAdjazenteKanten(knoten2)).containsExactly(kante1, kante2, kante3);
+		assertThat(topologie.getAdjazenteKanten(knoten4)).containsExactly(kante3);
+	}
+
+	@Test
+	void getKnotenIndex_unbekannterKnoten() {
+		// arrange
+		KantenTopologie topologie = KantenTopologie.aus(List.of(kante1));
+
+		// act + assert
+		assertThat(topologie.getKnotenIndex(knoten3)).isEqualTo(LongIntHashMap.KEIN_WERT);
+		assertThat(topologie.getGrad(knoten3)).isZero();
+		assertThat(topologie.getAdjazenteKanten(knoten3)).isEmpty();
+		assertThat(topologie.getErsteVerbleibendeKante(knoten3)).isEmpty();
+	}
+
+	@Test
+	void entferneAdjazenz_nurAmUebergebenenKnoten() {
+		// arrange
+		KantenTopologie topologie = KantenTopologie.aus(List.of(kante1, kante2, kante3));
+
+		// act
+		topologie.entferneAdjazenz(knoten2, kante1);
+
+		// assert
+		assertThat(topologie.getErsteVerbleibendeKante(knoten2)).contains(kante2);
+		assertThat(topologie.getErsteVerbleibendeKante(knoten1)).contains(kante1);
+		assertThat(topologie.getGrad(knoten2)).isEqualTo(3);
+	}
+
+	@Test
+	void behalteNurKanten_entferntAlleAdjazenzenDerUebrigenKanten() {
+		// arrange
+		KantenTopologie topologie = KantenTopologie.aus(List.of(kante1, kante2, kante3));
+
+		// act
+		topologie.behalteNurKanten(kante -> !kante.equals(kante1));
+
+		// assert
+		assertThat(topologie.getErsteVerbleibendeKante(knoten1)).isEmpty();
+		assertThat(topologie.getErsteVerbleibendeKante(knoten2)).contains(kante2);
+		assertThat(topologie.getGrad(knoten1)).isEqualTo(1);
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.netz.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import de.wps.radvis.backend.auditing.domain.AdditionalRevInfoHolder;
+import de.wps.radvis.backend.auditing.domain.AuditingContext;
+import de.wps.radvis.backend.benutzer.BenutzerConfiguration;
+import de.wps.radvis.backend.benutzer.domain.TechnischerBenutzerConfigurationProperties;
+import de.wps.radvis.backend.common.CommonConfiguration;
+import de.wps.radvis.backend.common.GeoConverterConfiguration;
+import de.wps.radvis.backend.common.domain.AuditingTestIT;
+import de.wps.radvis.backend.common.domain.CommonConfigurationProperties;
+import de.wps.radvis.backend.common.domain.FeatureToggleProperties;
+import de.wps.radvis.backend.common.domain.PostgisConfigurationProperties;
+import de.wps.radvis.backend.common.domain.valueObject.QuellSystem;
+import de.wps.radvis.backend.netz.NetzConfiguration;
+import de.wps.radvis.backend.netz.domain.NetzConfigurationProperties;
+import de.wps.radvis.backend.netz.domain.entity.Kante;
+import de.wps.radvis.backend.netz.domain.entity.provider.FuehrungsformAttributeTestDataProvider;
+import de.wps.radvis.backend.netz.domain.entity.provider.KanteTestDataProvider;
+import de.wps.radvis.backend.netz.domain.valueObject.NetzMaterializedView;
+import de.wps.radvis.backend.netz.domain.valueObject.NetzMaterializedViewsAktualisierung;
+import de.wps.radvis.backend.organisation.OrganisationConfiguration;
+import de.wps.radvis.backend.organisation.domain.OrganisationConfigurationProperties;
+
+/**
+ * Die nebenläufige Aktualisierung liest und schreibt auf eigenen Verbindungen und sieht daher nur committete Daten.
+ * Deshalb erbt dieser Test nicht vom transaktionalen DBIntegrationTestIT.
+ */
+@Tag("group3")
+@ContextConfiguration(classes = {
+	NetzConfiguration.class,
+	OrganisationConfiguration.class,
+	GeoConverterConfiguration.class,
+	BenutzerConfiguration.class,
+	CommonConfiguration.class,
+})
+@EnableConfigurationProperties(value = {
+	CommonConfigurationProperties.class,
+	FeatureToggleProperties.class,
+	TechnischerBenutzerConfigurationProperties.class,
+	PostgisConfigurationProperties.class,
+	OrganisationConfigurationProperties.class,
+	NetzConfigurationProperties.class
+})
+class NetzMaterializedViewsAktualisierungTestIT extends AuditingTestIT {
+
+	@Autowired
+	KantenRepository kantenRepository;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	private TransactionTemplate transactionTemplate;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		AdditionalRevInfoHolder.setAuditingContext(AuditingContext.CREATE_KANTE_COMMAND);
+	}
+
+	@Test
+	void refreshNetzMaterializedViewsNebenlaeufig_geaenderteKanten_entsprichtVollstaendigemNeuaufbau() {
+		// arrange
+		Kante geaenderteKante = speichereKante(0, 0, 100, 0);
+		Kante geloeschteKante = speichereKante(1000, 0, 1100, 0);
+		Kante unveraenderteKante = speichereKante(2000, 500, 2100, 500);
+		transactionTemplate.executeWithoutResult(status -> kantenRepository.refreshNetzMaterializedViews());
+		long abschnitteVorher = anzahlAbschnitte(geaenderteKante);
+
+		transactionTemplate.executeWithoutResult(status -> kantenRepository.findById(geaenderteKante.getId())
+			.orElseThrow()
+			.getFuehrungsformAttributGruppe()
+			.replaceFuehrungsformAttribute(List.of(
+				FuehrungsformAttributeTestDataProvider.withLineareReferenz(0, 0.5).build(),
+				FuehrungsformAttributeTestDataProvider.withLineareReferenz(0.5, 1).build())));
+		kantenRepository.deleteById(geloeschteKante.getId());
+		Kante neueKante = speichereKante(3000, 0, 3100, 0);
+
+		// act
+		NetzMaterializedViewsAktualisierung aktualisierung = kantenRepository
+			.refreshNetzMaterializedViewsNebenlaeufig(2);
+
+		// assert
+		assertThat(aktualisierung.dauerProView()).containsOnlyKeys(NetzMaterializedView.values());
+		assertThat(aktualisierung.geaenderterBereich()).isEqualTo(new Envelope(0, 3100, 0, 0));
+
+		for (NetzMaterializedView tabelle : inkrementellGepflegteTabellen()) {
+			assertThat(kantenIds(tabelle)).as(tabelle.getViewName())
+				.containsExactlyInAnyOrder(geaenderteKante.getId(), unveraenderteKante.getId(), neueKante.getId());
+		}
+		assertThat(anzahlAbschnitte(geaenderteKante)).isGreaterThan(abschnitteVorher);
+
+		Map<NetzMaterializedView, List<String>> inkrementellerStand = inhaltInkrementellGepflegterTabellen();
+		transactionTemplate.executeWithoutResult(status -> kantenRepository.refreshNetzMaterializedViews());
+		Map<NetzMaterializedView, List<String>> vollstaendigerStand = inhaltInkrementellGepflegterTabellen();
+		for (NetzMaterializedView tabelle : inkrementellGepflegteTabellen()) {
+			assertThat(inkrementellerStand.get(tabelle)).as(tabelle.getViewName())
+				.isNotEmpty()
+				.containsExactlyElementsOf(vollstaendigerStand.get(tabelle));
+		}
+	}
+
+	@Test
+	void refreshNetzMaterializedViewsNebenlaeufig_keineAenderung_bereichLeerUndTabellenUnveraendert() {
+		// arrange
+		speichereKante(0, 0, 100, 0);
+		speichereKante(1000, 0, 1100, 0);
+		transactionTemplate.executeWithoutResult(status -> kantenRepository.refreshNetzMaterializedViews());
+		Map<NetzMaterializedView, List<String>> vorherigerStand = inhaltInkrementellGepflegterTabellen();
+
+		// act
+		NetzMaterializedViewsAktualisierung aktualisierung = kantenRepository
+			.refreshNetzMaterializedViewsNebenlaeufig(2);
+
+		// assert
+		assertThat(aktualisierung.geaenderterBereich().isNull()).isTrue();
+		assertThat(inhaltInkrementellGepflegterTabellen()).isEqualTo(vorherigerStand);
+	}
+
+	@Test
+	void refreshNetzMaterializedViewsNebenlaeufig_erneuterLauf_berechnetKantenNichtErneut() {
+		// arrange
+		Kante kante = speichereKante(0, 0, 100, 0);
+		transactionTemplate.executeWithoutResult(status -> kantenRepository.refreshNetzMaterializedViews());
+		transactionTemplate.executeWithoutResult(status -> kantenRepository.findById(kante.getId())
+			.orElseThrow()
+			.getFuehrungsformAttributGruppe()
+			.replaceFuehrungsformAttribute(List.of(
+				FuehrungsformAttributeTestDataProvider.withLineareReferenz(0, 0.5).build(),
+				FuehrungsformAttributeTestDataProvider.withLineareReferenz(0.5, 1).build())));
+		kantenRepository.refreshNetzMaterializedViewsNebenlaeufig(2);
+
+		// act
+		NetzMaterializedViewsAktualisierung aktualisierung = kantenRepository
+			.refreshNetzMaterializedViewsNebenlaeufig(2);
+
+		// assert
+		assertThat(aktualisierung.geaenderterBereich().isNull()).isTrue();
+	}
+
+	private Kante speichereKante(double x1, double y1, double x2, double y2) {
+		return kantenRepository.save(KanteTestDataProvider.withCoordinatesAndQuelle(x1, y1, x2, y2, QuellSystem.RadVis)
+			.build());
+	}
+
+	private List<Long> kantenIds(NetzMaterializedView tabelle) {
+		return jdbcTemplate.queryForList("SELECT DISTINCT " + tabelle.getKanteIdSpalte().orElseThrow() + " FROM "
+			+ tabelle.getViewName(), Long.class);
+	}
+
+	private long anzahlAbschnitte(Kante kante) {
+		return jdbcTemplate.queryForObject("SELECT count(*) FROM "
+			+ NetzMaterializedView.RADVISNETZ_KANTE_ABSCHNITTE.getViewName() + " WHERE kante_id = ?",
+			Long.class, kante.getId());
+	}
+
+	/**
+	 * Zeilen als JSON, damit auch Arrays und Geometrien unabhängig von ihrer Java-Repräsentation verglichen werden.
+	 */
+	private Map<NetzMaterializedView, List<String>> inhaltInkrementellGepflegterTabellen() {
+		return inkrementellGepflegteTabellen().stream().collect(Collectors.toMap(Function.identity(),
+			tabelle -> jdbcTemplate.queryForList(
+				"SELECT to_jsonb(t)::text AS zeile FROM " + tabelle.getViewName() + " t ORDER BY zeile",
+				String.class)));
+	}
+
+	private static List<NetzMaterializedView> inkrementellGepflegteTabellen() {
+		return Arrays.stream(NetzMaterializedView.values()).filter(NetzMaterializedView::isInkrementell).toList();
+	}
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.quellimport.grundnetz.schnittstelle.repositoryImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.locationtech.jts.geom.Envelope;
+
+import de.wps.radvis.backend.common.domain.ExtentProperty;
+import de.wps.radvis.backend.quellimport.common.domain.entity.ImportedFeature;
+import de.wps.radvis.backend.quellimport.grundnetz.domain.DLMConfigurationProperties;
+
+class DlmRepositoryImplTest {
+
+	private static final LocalDate DATENSTAND = LocalDate.of(2024, 1, 31);
+
+	@TempDir
+	public File tempDir;
+
+	private File wfsVerzeichnis;
+	private File spoolVerzeichnis;
+	private DlmWfsQuelle wfsQuelle;
+	private DlmRepositoryImpl dlmRepository;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		wfsVerzeichnis = new File(tempDir, "wfs");
+		spoolVerzeichnis = new File(tempDir, "spool");
+		Files.createDirectories(wfsVerzeichnis.toPath());
+		Files.copy(new File("src/test/resources/dlm_v_at_strasse_3_entries.xml").toPath(),
+			new File(wfsVerzeichnis, "v_at_strasse.gml").toPath());
+
+		wfsQuelle = spy(new DlmWfsDateiQuelle(wfsVerzeichnis));
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (dlmRepository != null) {
+			dlmRepository.close();
+		}
+	}
+
+	@Test
+	void getKanten_liefertFeaturesDerPartition() {
+		// arrange
+		dlmRepository = new DlmRepositoryImpl(konfiguration(DATENSTAND, 1), wfsQuelle);
+		List<Envelope> partitionen = dlmRepository.getPartitionen();
+
+		// act
+		List<ImportedFeature> kantenPartition1 = dlmRepository.getKanten(partitionen.get(0));
+		List<ImportedFeature> kantenPartition2 = dlmRepository.getKanten(partitionen.get(1));
+
+		// assert
+		assertThat(kantenPartition1).extracting(ImportedFeature::getTechnischeId)
+			.containsExactly("DEBWB0010000ueZs");
+		assertThat(kantenPartition2).extracting(ImportedFeature::getTechnischeId)
+			.containsExactlyInAnyOrder("DEBWB0010000to1Y", "DEBWB0010000sk4h");
+	}
+
+	@Test
+	void getKanten_wiederholung_liestAbgelegteAntwortenVonDerPlatte() throws IOException {
+		// arrange
+		dlmRepository = new DlmRepositoryImpl(konfiguration(DATENSTAND, 1), wfsQuelle);
+		List<Envelope> partitionen = dlmRepository.getPartitionen();
+		dlmRepository.getKanten(partitionen.get(0));
+		dlmRepository.getKanten(partitionen.get(1));
+		dlmRepository.close();
+
+		// act
+		dlmRepository = new DlmRepositoryImpl(konfiguration(DATENSTAND, 1), wfsQuelle);
+		List<ImportedFeature> kantenPartition2 = dlmRepository.getKanten(partitionen.get(1));
+
+		// assert
+		assertThat(kantenPartition2).hasSize(2);
+		// Pro Partition je ein Abruf für Straßen und Wege, die Wiederholung kommt ohne weiteren Abruf aus
+		verify(wfsQuelle, times(4)).oeffne(anyString(), anyString(), any());
+		assertThat(new File(spoolVerzeichnis, DATENSTAND.toString()).list())
+			.hasSize(4)
+			.allMatch(dateiName -> dateiName.endsWith(".gml.gz"));
+	}
+
+	@Test
+	void getKanten_vorausladen_ruftFolgendePartitionenAb() throws IOException {
+		// arrange
+		dlmRepository = new DlmRepositoryImpl(konfiguration(DATENSTAND, 1), wfsQuelle);
+		List<Envelope> partitionen = dlmRepository.getPartitionen();
+
+		// act
+		dlmRepository.getKanten(partitionen.get(0));
+
+		// assert
+		verify(wfsQuelle).oeffne(eq("nora:v_at_strasse"), anyString(), eq(partitionen.get(0)));
+		verify(wfsQuelle, timeout(5000)).oeffne(eq("nora:v_at_strasse"), anyString(), eq(partitionen.get(1)));
+		verify(wfsQuelle, timeout(5000)).oeffne(eq("nora:v_at_weg"), anyString(), eq(partitionen.get(1)));
+	}
+
+	@Test
+	void getKanten_fehlgeschlagenerAbruf_wirdBeiErneuterAnfrageWiederholt() throws IOException {
+		// arrange
+		dlmRepository = new DlmRepositoryImpl(konfiguration(DATENSTAND, 0), wfsQuelle);
+		Envelope partition = dlmRepository.getPartitionen().get(1);
+		doThrow(new IOException("Verbindung abgebrochen"))
+			.doCallRealMethod()
+			.when(wfsQuelle).oeffne(eq("nora:v_at_strasse"), anyString(), any());
+
+		// act + assert
+		assertThrows(RuntimeException.class, () -> dlmRepository.getKanten(partition));
+		assertThat(dlmRepository.getKanten(partition)).hasSize(2);
+		assertThat(new File(spoolVerzeichnis, DATENSTAND.toString()).list())
+			.noneMatch(dateiName -> dateiName.endsWith(".tmp"));
+	}
+
+	@Test
+	void getKanten_neuerDatenstand_entferntAeltereAblagen() {
+		// arrange
+		dlmRepository = new DlmRepositoryImpl(konfiguration(DATENSTAND, 0), wfsQuelle);
+		Envelope partition = dlmRepository.getPartitionen().get(0);
+		dlmRepository.getKanten(partition);
+		dlmRepository.close();
+
+		// act
+		LocalDate neuerDatenstand = DATENSTAND.plusMonths(1);
+		dlmRepository = new DlmRepositoryImpl(konfiguration(neuerDatenstand, 0), wfsQuelle);
+		dlmRepository.getKanten(partition);
+
+		// assert
+		assertThat(spoolVerzeichnis.list()).containsExactly(neuerDatenstand.toString());
+	}
+
+	@Test
+	void getKanten_datenstandDerQuelleAendertSichWaehrendDesLaufs_bleibtBeimDatenstandDesLaufs() throws IOException {
+		// arrange
+		LocalDate neuerDatenstand = DATENSTAND.plusDays(1);
+		doReturn(Optional.of(DATENSTAND)).doReturn(Optional.of(neuerDatenstand)).when(wfsQuelle).getDatenstand();
+		dlmRepository = new DlmRepositoryImpl(konfiguration(null, 1), wfsQuelle);
+		List<Envelope> partitionen = dlmRepository.getPartitionen();
+
+		// act
+		dlmRepository.getKanten(partitionen.get(0));
+		dlmRepository.getKanten(partitionen.get(1));
+
+		// assert
+		verify(wfsQuelle, times(1)).getDatenstand();
+		assertThat(spoolVerzeichnis.list()).containsExactly(DATENSTAND.toString());
+		assertThat(new File(spoolVerzeichnis, DATENSTAND.toString()).list())
+			.hasSize(4)
+			.allMatch(dateiName -> dateiName.endsWith(".gml.gz"));
+
+		// Erst der nächste Lauf wechselt den Datenstand und entfernt dabei den bisherigen
+		dlmRepository.getPartitionen();
+		assertThat(spoolVerzeichnis.list()).containsExactly(neuerDatenstand.toString());
+	}
+
+	@Test
+	void getPartitionen_ohneFestenDatenstand_verwendetDatenstandDerQuelle() throws IOException {
+		// arrange
+		LocalDate datenstandDerQuelle = LocalDate.of(2023, 6, 1);
+		new File(wfsVerzeichnis, "v_at_strasse.gml").setLastModified(
+			datenstandDerQuelle.atStartOfDay(ZoneId.systemDefault()).plusHours(12).toInstant().toEpochMilli());
+		dlmRepository = new DlmRepositoryImpl(konfiguration(null, 0), wfsQuelle);
+
+		// act
+		dlmRepository.getKanten(dlmRepository.getPartitionen().get(0));
+
+		// assert
+		assertThat(spoolVerzeichnis.list()).containsExactly(datenstandDerQuelle.toString());
+	}
+
+	@Test
+	void getKanten_abgeschlosseneAbrufe_werdenNichtGemerkt() {
+		// arrange
+		dlmRepository = new DlmRepositoryImpl(konfiguration(DATENSTAND, 1), wfsQuelle);
+		List<Envelope> partitionen = dlmRepository.getPartitionen();
+
+		// act
+		dlmRepository.getKanten(partitionen.get(0));
+		dlmRepository.getKanten(partitionen.get(1));
+
+		// assert
+		assertThat(dlmRepository.getAnzahlLaufenderAbrufe()).isZero();
+	}
+
+	private DLMConfigurationProperties konfiguration(LocalDate datenstand, int vorausgeladenePartitionen) {
+		return new DLMConfigurationProperties(DlmWfsDateiQuelle.URL_PRAEFIX + wfsVerzeichnis.getAbsolutePath(),
+			"username", "password", new ExtentProperty(400000, 600000, 5280000, 5330000), 2, 1, 1,
+			spoolVerzeichnis.getAbsolutePath(), datenstand, vorausgeladenePartitionen, 2);
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.reverseproxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.annotation.ImportCandidates;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.ImportSelector;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.github.mkopylec.charon.forwarding.interceptors.RequestForwardingInterceptorType;
+import com.sun.net.httpserver.HttpServer;
+
+import de.wps.radvis.backend.reverseproxy.CharonConfiguration.HttpBasicAuthHeaderRemoverInterceptor;
+import de.wps.radvis.backend.reverseproxy.CharonConfiguration.KachelCacheInterceptor;
+
+/**
+ * Schickt GetMap-Anfragen durch die komplette Charon-Kette an einen lokalen Ersatz-Geoserver.
+ */
+@Tag("group5")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ContextConfiguration(classes = { CharonConfiguration.class, CharonConfigurationTestIT.CharonAutoConfiguration.class })
+@EnableConfigurationProperties(ReverseproxyConfiguarationProperties.class)
+class CharonConfigurationTestIT {
+
+	private static final byte[] KACHEL = new byte[] { 1, 2, 3 };
+
+	private static final List<String> geoserverAnfragen = new CopyOnWriteArrayList<>();
+
+	private static HttpServer geoserver;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	/**
+	 * Charon registriert seinen Reverse-Proxy-Filter über eine Auto-Configuration. Nur diese wird geladen, damit der
+	 * Test ohne Datenbank und Security auskommt.
+	 */
+	@Import(CharonAutoConfigurationSelector.class)
+	static class CharonAutoConfiguration {
+	}
+
+	static class CharonAutoConfigurationSelector implements ImportSelector {
+		@Override
+		public String[] selectImports(AnnotationMetadata importingClassMetadata) {
+			return ImportCandidates.load(AutoConfiguration.class, getClass().getClassLoader()).getCandidates()
+				.stream()
+				.filter(name -> name.startsWith("com.github.mkopylec.charon."))
+				.toArray(String[]::new);
+		}
+	}
+
+	@DynamicPropertySource
+	static void reverseproxyProperties(DynamicPropertyRegistry registry) throws IOException {
+		geoserver = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		geoserver.createContext("/", exchange -> {
+			geoserverAnfragen.add(exchange.getRequestURI().getPath());
+			exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, "image/png");
+			exchange.sendResponseHeaders(200, KACHEL.length);
+			try (OutputStream body = exchange.getResponseBody()) {
+				body.write(KACHEL);
+			}
+		});
+		geoserver.start();
+
+		Path kachelCacheVerzeichnis = Files.createTempDirectory("kachel-cache");
+		registry.add("spring.reverseproxy.geoserverUrl",
+			() -> "http://localhost:" + geoserver.getAddress().getPort());
+		registry.add("spring.reverseproxy.kachelCacheVerzeichnis", kachelCacheVerzeichnis::toString);
+	}
+
+	@AfterAll
+	static void stopGeoserver() {
+		geoserver.stop(0);
+	}
+
+	@BeforeEach
+	void setup() {
+		geoserverAnfragen.clear();
+	}
+
+	@Test
+	void getMap_zweiteAnfrageWirdAusKachelCacheBeantwortet() throws Exception {
+		// act
+		MvcResult erste = mockMvc.perform(getMap(0)).andExpect(status().isOk()).andReturn();
+		MvcResult zweite = mockMvc.perform(getMap(0)).andExpect(status().isOk()).andReturn();
+
+		// assert
+		assertThat(geoserverAnfragen).containsExactly("/geoserver/radvis/wms");
+		assertThat(erste.getResponse().getContentAsByteArray()).containsExactly(KACHEL);
+		assertThat(zweite.getResponse().getContentAsByteArray()).containsExactly(KACHEL);
+		assertThat(zweite.getResponse().getHeader(HttpHeaders.ETAG))
+			.isNotNull()
+			.isEqualTo(erste.getResponse().getHeader(HttpHeaders.ETAG));
+	}
+
+	@Test
+	void getMap_mitBekanntemETag_nichtVeraendert() throws Exception {
+		// arrange
+		String eTag = mockMvc.perform(getMap(256)).andExpect(status().isOk()).andReturn()
+			.getResponse().getHeader(HttpHeaders.ETAG);
+
+		// act + assert
+		mockMvc.perform(getMap(256).header(HttpHeaders.IF_NONE_MATCH, eTag)).andExpect(status().isNotModified());
+		assertThat(geoserverAnfragen).hasSize(1);
+	}
+
+	@Test
+	void kachelCacheInterceptor_liegtZwischenPfadUmschreibungUndHeaderAnpassungen() {
+		// Der Cache-Schlüssel wird aus der bereits umgeschriebenen Anfrage gebildet, aus dem Cache beantwortete
+		// Anfragen durchlaufen die folgenden Interceptoren nicht mehr.
+		// act + assert
+		assertThat(new KachelCacheInterceptor().getType().getOrder())
+			.isEqualTo(1000)
+			.isGreaterThan(RequestForwardingInterceptorType.REQUEST_PATH_REWRITER.getOrder())
+			.isLessThan(new HttpBasicAuthHeaderRemoverInterceptor().getType().getOrder());
+	}
+
+	private static MockHttpServletRequestBuilder getMap(double minX) {
+		String bbox = minX + ",0," + (minX + 256) + ",256";
+		return get("/api/geoserver/saml/radvis/wms?SERVICE=WMS&REQUEST=GetMap&TILED=true&WIDTH=256&HEIGHT=256"
+			+ "&CRS=EPSG:25832&LAYERS=radvis:radvisnetz&BBOX=" + bbox)
+			.header(HttpHeaders.HOST, "localhost");
+	}
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.reverseproxy.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.locationtech.jts.geom.Envelope;
+
+import de.wps.radvis.backend.netz.domain.event.NetzMaterializedViewsAktualisiertEvent;
+import de.wps.radvis.backend.reverseproxy.domain.valueObject.Kachel;
+import de.wps.radvis.backend.reverseproxy.domain.valueObject.KachelSchluessel;
+import de.wps.radvis.backend.weitereKartenebenen.domain.event.DateiLayerGeaendertEvent;
+import de.wps.radvis.backend.weitereKartenebenen.domain.valueobject.GeoserverLayerName;
+
+class KachelCacheServiceTest {
+
+	@TempDir
+	private Path verzeichnis;
+
+	private KachelCacheService kachelCacheService;
+
+	private final Kachel kachel = Kachel.of(new byte[] { 1, 2, 3 }, "image/png");
+
+	@BeforeEach
+	void setup() {
+		kachelCacheService = new KachelCacheService(verzeichnis, 10, Duration.ofMinutes(10));
+	}
+
+	@Test
+	void lade_gespeicherteKachel() {
+		// arrange
+		KachelSchluessel schluessel = schluessel("radvis:radvisnetz", 0, 0);
+		kachelCacheService.speichere(schluessel, kachel, kachelCacheService.getInvalidierungsstand());
+
+		// act + assert
+		assertThat(kachelCacheService.lade(schluessel)).hasValueSatisfying(geladen -> {
+			assertThat(geladen.inhalt()).containsExactly(1, 2, 3);
+			assertThat(geladen.contentType()).isEqualTo("image/png");
+			assertThat(geladen.eTag()).isEqualTo(kachel.eTag()).startsWith("\"").endsWith("\"");
+		});
+	}
+
+	@Test
+	void speichere_nachInvalidierungWaehrendAbfrage_wirdNichtUebernommen() {
+		// arrange
+		KachelSchluessel schluessel = schluessel("radvis:radvisnetz", 0, 0);
+		long invalidierungsstand = kachelCacheService.getInvalidierungsstand();
+		kachelCacheService.onNetzMaterializedViewsAktualisiert(NetzMaterializedViewsAktualisiertEvent.vollstaendig());
+
+		// act
+		kachelCacheService.speichere(schluessel, kachel, invalidierungsstand);
+
+		// assert
+		assertThat(kachelCacheService.lade(schluessel)).isEmpty();
+	}
+
+	@Test
+	void onNetzMaterializedViewsAktualisiert_inkrementell_invalidiertNurGeaendertenBereich() {
+		// arrange
+		KachelSchluessel betroffen = schluessel("radvis:radvisnetz", 0, 0);
+		KachelSchluessel nichtBetroffen = schluessel("radvis:radvisnetz", 10000, 10000);
+		KachelSchluessel ohneKantenbezug = schluessel("balm:Route", 10000, 10000);
+		Stream.of(betroffen, nichtBetroffen, ohneKantenbezug)
+			.forEach(schluessel -> kachelCacheService.speichere(schluessel, kachel,
+				kachelCacheService.getInvalidierungsstand()));
+
+		// act
+		kachelCacheService.onNetzMaterializedViewsAktualisiert(
+			NetzMaterializedViewsAktualisiertEvent.inkrementell(new Envelope(100, 120, 100, 120)));
+
+		// assert
+		assertThat(kachelCacheService.lade(betroffen)).isEmpty();
+		assertThat(kachelCacheService.lade(nichtBetroffen)).isPresent();
+		assertThat(kachelCacheService.lade(ohneKantenbezug)).isEmpty();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "radvis:radvisnetz", "radvis:radvisnetz_klassifiziert",
+		"radvis:radvisnetz_kante_abschnitte" })
+	void onNetzMaterializedViewsAktualisiert_inkrementell_layerMitKantenbezugBleibtAusserhalbDesBereichs(
+		String layer) {
+		// arrange
+		KachelSchluessel nichtBetroffen = schluessel(layer, 10000, 10000);
+		kachelCacheService.speichere(nichtBetroffen, kachel, kachelCacheService.getInvalidierungsstand());
+
+		// act
+		kachelCacheService.onNetzMaterializedViewsAktualisiert(
+			NetzMaterializedViewsAktualisiertEvent.inkrementell(new Envelope(100, 120, 100, 120)));
+
+		// assert
+		assertThat(kachelCacheService.lade(nichtBetroffen)).isPresent();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "balm:Knoten", "balm:Route", "balm:Wegweisung", "balm:Streckenabschnitt" })
+	void onNetzMaterializedViewsAktualisiert_inkrementell_layerOhneKantenbezugWirdVollstaendigInvalidiert(
+		String layer) {
+		// arrange
+		KachelSchluessel ausserhalbDesBereichs = schluessel(layer, 10000, 10000);
+		kachelCacheService.speichere(ausserhalbDesBereichs, kachel, kachelCacheService.getInvalidierungsstand());
+
+		// act
+		kachelCacheService.onNetzMaterializedViewsAktualisiert(
+			NetzMaterializedViewsAktualisiertEvent.inkrementell(new Envelope(100, 120, 100, 120)));
+
+		// assert
+		assertThat(kachelCacheService.istCachebar(ausserhalbDesBereichs)).isTrue();
+		assertThat(kachelCacheService.lade(ausserhalbDesBereichs)).isEmpty();
+	}
+
+	@Test
+	void onNetzMaterializedViewsAktualisiert_keineKanteGeaendert_invalidiertNurLayerOhneKantenbezug() {
+		// arrange
+		KachelSchluessel mitKantenbezug = schluessel("radvis:radvisnetz", 0, 0);
+		KachelSchluessel ohneKantenbezug = schluessel("balm:Knoten", 0, 0);
+		kachelCacheService.speichere(mitKantenbezug, kachel, kachelCacheService.getInvalidierungsstand());
+		kachelCacheService.speichere(ohneKantenbezug, kachel, kachelCacheService.getInvalidierungsstand());
+
+		// act
+		kachelCacheService.onNetzMaterializedViewsAktualisiert(
+			NetzMaterializedViewsAktualisiertEvent.inkrementell(new Envelope()));
+
+		// assert
+		assertThat(kachelCacheService.lade(mitKantenbezug)).isPresent();
+		assertThat(kachelCacheService.lade(ohneKantenbezug)).isEmpty();
+	}
+
+	@Test
+	void onDateiLayerGeaendert_invalidiertNurDiesenLayer() {
+		// arrange
+		KachelSchluessel betroffen = schluessel("datei-layer:radwege", 0, 0);
+		KachelSchluessel anderer = schluessel("datei-layer:schulen", 0, 0);
+		kachelCacheService.speichere(betroffen, kachel, kachelCacheService.getInvalidierungsstand());
+		kachelCacheService.speichere(anderer, kachel, kachelCacheService.getInvalidierungsstand());
+
+		// act
+		kachelCacheService.onDateiLayerGeaendert(new DateiLayerGeaendertEvent(GeoserverLayerName.of("radwege")));
+
+		// assert
+		assertThat(kachelCacheService.lade(betroffen)).isEmpty();
+		assertThat(kachelCacheService.lade(anderer)).isPresent();
+	}
+
+	@Test
+	void lade_abgelaufeneKachel() {
+		// arrange
+		Clock clock = mock(Clock.class);
+		when(clock.instant()).thenReturn(Instant.parse("2026-01-01T10:00:00Z"));
+		KachelCacheService cacheMitUhr = new KachelCacheService(verzeichnis, 10, Duration.ofMinutes(10), clock);
+		KachelSchluessel schluessel = schluessel("radvis:radvisnetz", 0, 0);
+		cacheMitUhr.speichere(schluessel, kachel, cacheMitUhr.getInvalidierungsstand());
+
+		// act + assert
+		assertThat(cacheMitUhr.lade(schluessel)).isPresent();
+		when(clock.instant()).thenReturn(Instant.parse("2026-01-01T10:11:00Z"));
+		assertThat(cacheMitUhr.lade(schluessel)).isEmpty();
+	}
+
+	@Test
+	void speichere_maximaleAnzahlUeberschritten_verwirftAeltesteKachelMitDatei() throws IOException {
+		// arrange
+		KachelCacheService kleinerCache = new KachelCacheService(verzeichnis, 1, Duration.ofMinutes(10));
+		KachelSchluessel erste = schluessel("radvis:radvisnetz", 0, 0);
+		KachelSchluessel zweite = schluessel("radvis:radvisnetz", 256, 0);
+
+		// act
+		kleinerCache.speichere(erste, kachel, kleinerCache.getInvalidierungsstand());
+		kleinerCache.speichere(zweite, kachel, kleinerCache.getInvalidierungsstand());
+
+		// assert
+		assertThat(kleinerCache.lade(erste)).isEmpty();
+		assertThat(kleinerCache.lade(zweite)).isPresent();
+		try (Stream<Path> dateien = Files.walk(verzeichnis)) {
+			assertThat(dateien.filter(Files::isRegularFile)).hasSize(1);
+		}
+	}
+
+	@Test
+	void konstruktor_loeschtNurKachelnDesCaches() throws IOException {
+		// arrange
+		KachelSchluessel schluessel = schluessel("radvis:radvisnetz", 0, 0);
+		kachelCacheService.speichere(schluessel, kachel, kachelCacheService.getInvalidierungsstand());
+		Path fremdeDatei = Files.writeString(verzeichnis.resolve("fremd.txt"), "fremd");
+		Path fremdesUnterverzeichnis = Files.createDirectories(verzeichnis.resolve("ab"));
+		Path fremdeDateiImUnterverzeichnis = Files.writeString(fremdesUnterverzeichnis.resolve("fremd.txt"), "fremd");
+		Path fremdeDateiImKachelverzeichnis = Files.writeString(
+			verzeichnis.resolve(KachelCacheService.KACHEL_VERZEICHNIS).resolve("fremd.txt"), "fremd");
+
+		// act
+		KachelCacheService neuerCache = new KachelCacheService(verzeichnis, 10, Duration.ofMinutes(10));
+
+		// assert
+		assertThat(neuerCache.lade(schluessel)).isEmpty();
+		assertThat(fremdeDatei).exists();
+		assertThat(fremdeDateiImUnterverzeichnis).exists();
+		assertThat(fremdeDateiImKachelverzeichnis).exists();
+		try (Stream<Path> dateien = Files.walk(verzeichnis.resolve(KachelCacheService.KACHEL_VERZEICHNIS))) {
+			assertThat(dateien.filter(Files::isRegularFile)).containsExactly(fremdeDateiImKachelverzeichnis);
+		}
+	}
+
+	@Test
+	void istCachebar_nurLayerMitInvalidierung() {
+		// act + assert
+		assertThat(kachelCacheService.istCachebar(schluessel("radvis:radvisnetz_klassifiziert", 0, 0))).isTrue();
+		assertThat(kachelCacheService.istCachebar(schluessel("datei-layer:radwege", 0, 0))).isTrue();
+		assertThat(kachelCacheService.istCachebar(schluessel("radvis:massnahmen_points", 0, 0))).isFalse();
+		assertThat(kachelCacheService.istCachebar(schluessel("radvis:radvisnetz,radvis:massnahmen_points", 0, 0)))
+			.isFalse();
+		assertThat(new KachelCacheService(verzeichnis, 0, Duration.ofMinutes(10))
+			.istCachebar(schluessel("radvis:radvisnetz", 0, 0))).isFalse();
+	}
+
+	private static KachelSchluessel schluessel(String layer, double minX, double minY) {
+		String bbox = minX + "," + minY + "," + (minX + 256) + "," + (minY + 256);
+		return KachelSchluessel.vonGetMapAnfrage(URI.create("/api/geoserver/saml/radvis/wms?SERVICE=WMS"
+			+ "&REQUEST=GetMap&TILED=true&WIDTH=256&HEIGHT=256&CRS=EPSG:25832&LAYERS=" + layer + "&BBOX=" + bbox))
+			.orElseThrow();
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.backend.reverseproxy.domain.valueObject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
+
+class KachelSchluesselTest {
+
+	private static final String KACHEL_ANFRAGE = "/api/geoserver/saml/radvis/wms?SERVICE=WMS&VERSION=1.3.0"
+		+ "&REQUEST=GetMap&FORMAT=image%2Fpng&TRANSPARENT=true&LAYERS=radvis%3Aradvisnetz_kante_abschnitte&TILED=true"
+		+ "&WIDTH=256&HEIGHT=256&CRS=EPSG%3A25832&STYLES=&BBOX=500000.00000000006%2C5400000%2C500256%2C5400256";
+
+	@Test
+	void vonGetMapAnfrage_normalisiertParameter() {
+		// arrange
+		URI andereSchreibweise = URI.create("/api/geoserver/saml/radvis/wms?bbox=500000%2C5400000%2C500256%2C5400256"
+			+ "&height=256&width=256&tiled=TRUE&styles=&crs=epsg%3A25832&layers=radvisnetz_kante_abschnitte"
+			+ "&transparent=true&format=IMAGE%2FPNG&request=getmap&version=1.3.0&service=wms");
+
+		// act
+		Optional<KachelSchluessel> schluessel = KachelSchluessel.vonGetMapAnfrage(URI.create(KACHEL_ANFRAGE));
+		Optional<KachelSchluessel> schluesselAndereSchreibweise = KachelSchluessel.vonGetMapAnfrage(
+			andereSchreibweise);
+
+		// assert
+		assertThat(schluessel).isPresent();
+		assertThat(schluesselAndereSchreibweise).isEqualTo(schluessel);
+		assertThat(schluessel.get().getLayer()).containsExactly("radvis:radvisnetz_kante_abschnitte");
+		assertThat(schluessel.get().getBereich()).isEqualTo(new Envelope(500000, 500256, 5400000, 5400256));
+		assertThat(schluessel.get().getNormalisierteAnfrage()).contains("BBOX=500000,5400000,500256,5400256");
+	}
+
+	@Test
+	void vonGetMapAnfrage_unterscheidetStyles() {
+		// act
+		Optional<KachelSchluessel> schluessel = KachelSchluessel.vonGetMapAnfrage(URI.create(KACHEL_ANFRAGE));
+		Optional<KachelSchluessel> schluesselMitStyle = KachelSchluessel.vonGetMapAnfrage(
+			URI.create(KACHEL_ANFRAGE.replace("STYLES=", "STYLES=radnetz")));
+
+		// assert
+		assertThat(schluesselMitStyle).isPresent();
+		assertThat(schluesselMitStyle).isNotEqualTo(schluessel);
+	}
+
+	@Test
+	void vonGetMapAnfrage_nichtGekachelt_keinSchluessel() {
+		// act + assert
+		assertThat(KachelSchluessel.vonGetMapAnfrage(URI.create(KACHEL_ANFRAGE.replace("&TILED=true", ""))))
+			.isEmpty();
+		assertThat(KachelSchluessel.vonGetMapAnfrage(
+			URI.create(KACHEL_ANFRAGE.replace("REQUEST=GetMap", "REQUEST=GetFeatureInfo")))).isEmpty();
+		assertThat(KachelSchluessel.vonGetMapAnfrage(
+			URI.create(KACHEL_ANFRAGE.replace("EPSG%3A25832", "EPSG%3A3857")))).isEmpty();
+		assertThat(KachelSchluessel.vonGetMapAnfrage(
+			URI.create(KACHEL_ANFRAGE.replace("%2C500256%2C5400256", "")))).isEmpty();
+		assertThat(KachelSchluessel.vonGetMapAnfrage(
+			URI.create(KACHEL_ANFRAGE.replace("/wms?", "/wfs?")))).isEmpty();
+	}
+
+	@Test
+	void vonGetMapAnfrage_dateiLayer() {
+		// arrange
+		URI uri = URI.create("/api/geoserver/saml/datei-layer/wms?LAYERS=datei-layer:Radwege%20Kreis&TILED=true"
+			+ "&SERVICE=WMS&REQUEST=GetMap&WIDTH=256&HEIGHT=256&SRS=EPSG:25832&BBOX=0,0,256,256");
+
+		// act
+		Optional<KachelSchluessel> schluessel = KachelSchluessel.vonGetMapAnfrage(uri);
+
+		// assert
+		assertThat(schluessel).isPresent();
+		assertThat(schluessel.get().getLayer()).containsExactly("datei-layer:Radwege Kreis");
+	}
+}
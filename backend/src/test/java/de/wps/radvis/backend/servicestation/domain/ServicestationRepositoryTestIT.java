@@ -34,6 +34,7 @@ import de.wps.radvis.backend.common.GeoConverterConfiguration;
 import de.wps.radvis.backend.common.domain.CommonConfigurationProperties;
 import de.wps.radvis.backend.common.schnittstelle.DBIntegrationTestIT;
 import de.wps.radvis.backend.dokument.DokumentConfiguration;
+import de.wps.radvis.backend.dokument.domain.DokumentConfigurationProperties;
 import de.wps.radvis.backend.dokument.domain.entity.Dokument;
 import de.wps.radvis.backend.dokument.domain.entity.DokumentListe;
 import de.wps.radvis.backend.dokument.domain.entity.provider.DokumentTestDataProvider;
@@ -62,6 +63,7 @@ import jakarta.persistence.PersistenceContext;
 	CommonConfigurationProperties.class,
 	TechnischerBenutzerConfigurationProperties.class,
 	OrganisationConfigurationProperties.class,
+	DokumentConfigurationProperties.class,
 })
 class ServicestationRepositoryTestIT extends DBIntegrationTestIT {
 
@@ -33,12 +33,16 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
 import org.springframework.web.multipart.MultipartFile;
 
 import de.wps.radvis.backend.benutzer.domain.entity.Benutzer;
 import de.wps.radvis.backend.benutzer.domain.entity.BenutzerTestDataProvider;
+import de.wps.radvis.backend.common.domain.RadVisDomainEventPublisher;
+import de.wps.radvis.backend.common.domain.RadVisDomainEventPublisherSensitiveTest;
 import de.wps.radvis.backend.weitereKartenebenen.domain.entity.DateiLayer;
+import de.wps.radvis.backend.weitereKartenebenen.domain.event.DateiLayerGeaendertEvent;
 import de.wps.radvis.backend.weitereKartenebenen.domain.repository.DateiLayerRepository;
 import de.wps.radvis.backend.weitereKartenebenen.domain.repository.GeoserverRepository;
 import de.wps.radvis.backend.weitereKartenebenen.domain.repository.WeitereKartenebenenRepository;
@@ -49,8 +53,10 @@ import de.wps.radvis.backend.weitereKartenebenen.domain.valueobject.GeoserverSty
 import de.wps.radvis.backend.weitereKartenebenen.domain.valueobject.Name;
 import de.wps.radvis.backend.weitereKartenebenen.domain.valueobject.Quellangabe;
 import jakarta.persistence.EntityNotFoundException;
+import lombok.Getter;
+import lombok.Setter;
 
-public class DateiLayerServiceTest {
+public class DateiLayerServiceTest implements RadVisDomainEventPublisherSensitiveTest {
 
 	private DateiLayerService dateiLayerService;
 
@@ -63,6 +69,10 @@ public class DateiLayerServiceTest {
 	@Mock
 	private GeoserverRepository geoserverRepository;
 
+	@Getter
+	@Setter
+	private MockedStatic<RadVisDomainEventPublisher> domainPublisherMock;
+
 	@BeforeEach
 	public void setup() throws IOException, InterruptedException, URISyntaxException {
 		MockitoAnnotations.openMocks(this);
@@ -122,6 +132,9 @@ public class DateiLayerServiceTest {
 		inOrder.verify(weitereKartenebenenRepository).deleteAllByDateiLayerId(dateiLayerId);
 		inOrder.verify(dateiLayerRepository).deleteById(dateiLayerId);
 		inOrder.verify(geoserverRepository).removeDatastoreAndLayer(dateiLayer.getGeoserverDatastoreName());
+		ArgumentCaptor<DateiLayerGeaendertEvent> eventCaptor = ArgumentCaptor.forClass(DateiLayerGeaendertEvent.class);
+		domainPublisherMock.verify(() -> RadVisDomainEventPublisher.publish(eventCaptor.capture()));
+		assertThat(eventCaptor.getValue().getGeoserverLayerName()).isEqualTo(dateiLayer.getGeoserverLayerName());
 	}
 
 	@Test
@@ -194,6 +207,7 @@ public class DateiLayerServiceTest {
 		verifyNoMoreInteractions(geoserverRepository);
 		assertThat(dateiLayer.getGeoserverStyleName()).isEqualTo(styleNameCaptor.getValue());
 		assertThat(dateiLayer.getSldFilename()).isEqualTo("crazyNewStyles.sld");
+		domainPublisherMock.verify(() -> RadVisDomainEventPublisher.publish(any(DateiLayerGeaendertEvent.class)));
 	}
 
 	@Test
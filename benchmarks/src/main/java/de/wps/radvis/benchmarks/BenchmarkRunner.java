@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Startet JMH mit den übergebenen Kommandozeilenoptionen und schreibt die Ergebnisse standardmäßig als JSON nach
+ * {@code jmh-ergebnisse/<Zeitstempel>[-<Commit>].json}. Der Commit wird über die System-Property {@code radvis.commit}
+ * übergeben, z.B. {@code java -Dradvis.commit=$(git rev-parse --short HEAD) -jar benchmarks.jar}. So lassen sich die
+ * Dateien mehrerer Läufe direkt nebeneinanderlegen und vergleichen, etwa mit dem JMH Visualizer.
+ * <p>
+ * Werden Ergebnisformat ({@code -rf}) oder Ergebnisdatei ({@code -rff}) explizit angegeben, gelten diese.
+ */
+public class BenchmarkRunner {
+
+	private static final String ERGEBNIS_VERZEICHNIS = "jmh-ergebnisse";
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+		CommandLineOptions kommandozeile = new CommandLineOptions(args);
+		if (kommandozeile.shouldHelp() || kommandozeile.shouldList() || kommandozeile.shouldListWithParams()
+			|| kommandozeile.shouldListProfilers() || kommandozeile.shouldListResultFormats()) {
+			Main.main(args);
+			return;
+		}
+
+		ChainedOptionsBuilder optionen = new OptionsBuilder().parent(kommandozeile);
+		if (!kommandozeile.getResultFormat().hasValue()) {
+			optionen.resultFormat(ResultFormatType.JSON);
+		}
+		if (!kommandozeile.getResult().hasValue()) {
+			new File(ERGEBNIS_VERZEICHNIS).mkdirs();
+			optionen.result(new File(ERGEBNIS_VERZEICHNIS, erzeugeDateiname()).getPath());
+		}
+
+		new Runner(optionen.build()).run();
+	}
+
+	private static String erzeugeDateiname() {
+		String zeitstempel = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+		String commit = System.getProperty("radvis.commit");
+		if (commit == null || commit.isBlank()) {
+			return zeitstempel + ".json";
+		}
+		return zeitstempel + "-" + commit + ".json";
+	}
+}
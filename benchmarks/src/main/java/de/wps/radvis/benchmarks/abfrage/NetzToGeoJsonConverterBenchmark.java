@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.benchmarks.abfrage;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.geojson.FeatureCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.wps.radvis.backend.abfrage.netzausschnitt.domain.entity.KanteMapView;
+import de.wps.radvis.backend.abfrage.netzausschnitt.domain.entity.NetzMapView;
+import de.wps.radvis.backend.abfrage.netzausschnitt.schnittstelle.NetzToGeoJsonConverter;
+import de.wps.radvis.backend.netz.domain.entity.Kante;
+import de.wps.radvis.benchmarks.netz.SynthetischesNetz;
+
+/**
+ * Misst die Umwandlung eines Netzausschnitts in GeoJSON, wie sie für die Kartenansicht und die Kantenauswahl
+ * passiert. Die Serialisierung nach JSON durch Spring ist nicht enthalten.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NetzToGeoJsonConverterBenchmark {
+
+	@Param({ "20", "60" })
+	public int seitenlaenge;
+
+	private final NetzToGeoJsonConverter converter = new NetzToGeoJsonConverter();
+	private NetzMapView netzMapView;
+	private Set<Kante> kanten;
+
+	@Setup
+	public void setup() {
+		SynthetischesNetz netz = new SynthetischesNetz(seitenlaenge, 5);
+		kanten = new HashSet<>(netz.getKanten());
+
+		Set<KanteMapView> kanteMapViews = new HashSet<>();
+		netz.getKanten().forEach(kante -> kanteMapViews.add(
+			new KanteMapView(kante.getId(), kante.getGeometry(), kante.getId() % 3 == 0, false)));
+		netzMapView = new NetzMapView(kanteMapViews, netz.getKnoten());
+	}
+
+	@Benchmark
+	public FeatureCollection convertNetzAusschnitt() {
+		return converter.convertNetzAusschnitt(netzMapView);
+	}
+
+	@Benchmark
+	public FeatureCollection convertKanten() {
+		return converter.convertKanten(kanten);
+	}
+}
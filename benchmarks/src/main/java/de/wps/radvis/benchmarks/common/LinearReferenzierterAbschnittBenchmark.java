@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.benchmarks.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.LineString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.wps.radvis.backend.common.domain.valueObject.LinearReferenzierterAbschnitt;
+import de.wps.radvis.backend.netz.domain.entity.Kante;
+import de.wps.radvis.benchmarks.netz.SynthetischeAttribute;
+import de.wps.radvis.benchmarks.netz.SynthetischesNetz;
+
+/**
+ * Misst die häufig aufgerufenen Operationen auf {@link LinearReferenzierterAbschnitt}: Schnitt und Vereinigung
+ * paarweise über alle Abschnitte, die Prüfung auf lückenlose Abdeckung und die Projektion einer Teilgeometrie auf
+ * die Geometrie einer Kante.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinearReferenzierterAbschnittBenchmark {
+
+	@Param({ "10", "100" })
+	public int anzahlAbschnitte;
+
+	private List<LinearReferenzierterAbschnitt> zufaelligeAbschnitte;
+	private List<LinearReferenzierterAbschnitt> lueckenloseAbschnitte;
+	private final List<LineString> projektionsZiele = new ArrayList<>();
+	private final List<LineString> projektionsQuellen = new ArrayList<>();
+
+	@Setup
+	public void setup() {
+		SynthetischeAttribute attribute = new SynthetischeAttribute(anzahlAbschnitte);
+		zufaelligeAbschnitte = attribute.erzeugeZufaelligeAbschnitte(anzahlAbschnitte);
+		lueckenloseAbschnitte = attribute.erzeugeLueckenloseAbschnitte(anzahlAbschnitte);
+
+		List<Kante> kanten = new SynthetischesNetz(10, 2).getKanten();
+		for (int i = 0; i < anzahlAbschnitte; i++) {
+			LineString kantenGeometrie = kanten.get(i % kanten.size()).getGeometry();
+			projektionsZiele.add(kantenGeometrie);
+			projektionsQuellen.add(zufaelligeAbschnitte.get(i).toSegment(kantenGeometrie));
+		}
+	}
+
+	@Benchmark
+	public void intersectionPaarweise(Blackhole blackhole) {
+		for (LinearReferenzierterAbschnitt a : zufaelligeAbschnitte) {
+			for (LinearReferenzierterAbschnitt b : zufaelligeAbschnitte) {
+				blackhole.consume(a.intersection(b));
+			}
+		}
+	}
+
+	@Benchmark
+	public void unionPaarweise(Blackhole blackhole) {
+		for (LinearReferenzierterAbschnitt a : zufaelligeAbschnitte) {
+			for (LinearReferenzierterAbschnitt b : zufaelligeAbschnitte) {
+				blackhole.consume(a.union(b));
+			}
+		}
+	}
+
+	@Benchmark
+	public boolean segmentsCoverFullLine() {
+		return LinearReferenzierterAbschnitt.segmentsCoverFullLine(lueckenloseAbschnitte);
+	}
+
+	@Benchmark
+	public double summierteRelativeLaenge() {
+		return LinearReferenzierterAbschnitt.getSummierteRelativeLaenge(zufaelligeAbschnitte);
+	}
+
+	@Benchmark
+	public void projektionAufGeometrie(Blackhole blackhole) {
+		for (int i = 0; i < projektionsZiele.size(); i++) {
+			blackhole.consume(LinearReferenzierterAbschnitt.of(projektionsZiele.get(i), projektionsQuellen.get(i)));
+		}
+	}
+}
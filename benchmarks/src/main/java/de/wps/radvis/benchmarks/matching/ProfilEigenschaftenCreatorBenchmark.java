@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.benchmarks.matching;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.wps.radvis.backend.common.domain.valueObject.LinearReferenzierterAbschnitt;
+import de.wps.radvis.backend.fahrradroute.domain.valueObject.FahrradrouteProfilEigenschaften;
+import de.wps.radvis.backend.fahrradroute.domain.valueObject.LinearReferenzierteProfilEigenschaften;
+import de.wps.radvis.backend.matching.schnittstelle.repositoryImpl.ProfilEigenschaftenCreator;
+import de.wps.radvis.backend.netz.domain.valueObject.BelagArt;
+import de.wps.radvis.backend.netz.domain.valueObject.Radverkehrsfuehrung;
+import de.wps.radvis.benchmarks.netz.SynthetischeAttribute;
+
+/**
+ * Misst das Zusammenfassen der Profileigenschaften einer gematchten bzw. gerouteten Geometrie. Die Eingabe entspricht
+ * den Abschnitten pro Graphhopper-Edge, benachbarte Abschnitte haben häufig gleiche Eigenschaften.
+ * <p>
+ * {@link ProfilEigenschaftenCreator#createLinearReferenzierteProfilEigenschaften} ist nicht enthalten, weil es einen
+ * geladenen Graphhopper voraussetzt.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProfilEigenschaftenCreatorBenchmark {
+
+	private static final BelagArt[] BELAGARTEN = { BelagArt.ASPHALT, BelagArt.BETON };
+	private static final Radverkehrsfuehrung[] RADVERKEHRSFUEHRUNGEN = {
+		Radverkehrsfuehrung.SONDERWEG_RADWEG_SELBSTSTAENDIG,
+		Radverkehrsfuehrung.GEH_RADWEG_GEMEINSAM_SELBSTSTAENDIG,
+	};
+
+	@Param({ "100", "2000" })
+	public int anzahlEdges;
+
+	private final List<LinearReferenzierteProfilEigenschaften> profilEigenschaften = new ArrayList<>();
+
+	@Setup
+	public void setup() {
+		SynthetischeAttribute attribute = new SynthetischeAttribute(anzahlEdges);
+		for (LinearReferenzierterAbschnitt abschnitt : attribute.erzeugeLueckenloseAbschnitte(anzahlEdges)) {
+			profilEigenschaften.add(new LinearReferenzierteProfilEigenschaften(
+				FahrradrouteProfilEigenschaften.of(attribute.waehleAus(BELAGARTEN),
+					attribute.waehleAus(RADVERKEHRSFUEHRUNGEN)),
+				abschnitt));
+		}
+	}
+
+	@Benchmark
+	public List<LinearReferenzierteProfilEigenschaften> fasseAbschnitteZusammen() {
+		return profilEigenschaften.stream()
+			.collect(ProfilEigenschaftenCreator.fasseAbschnitteMitGleichenEigenschaftenZusammen());
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.benchmarks.netz;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.wps.radvis.backend.netz.domain.entity.Kante;
+import de.wps.radvis.backend.netz.domain.entity.KantenTopologie;
+import de.wps.radvis.backend.netz.domain.entity.Knoten;
+import de.wps.radvis.backend.netz.domain.entity.Topologie;
+
+/**
+ * Vergleicht den Aufbau der Topologie über {@code Map<Knoten, List<Kante>>} mit der CSR-Topologie
+ * ({@link KantenTopologie}). Eine Seitenlänge von 200 mit 5 Kanten pro Verbindung ergibt rund 400.000 Kanten und liegt
+ * damit in der Größenordnung des Landesnetzes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx8g" })
+public class KantenTopologieBenchmark {
+
+	@Param({ "50", "200" })
+	public int seitenlaenge;
+
+	@Param({ "5" })
+	public int kantenProVerbindung;
+
+	private List<Kante> kanten;
+
+	@Setup
+	public void setup() {
+		kanten = new SynthetischesNetz(seitenlaenge, kantenProVerbindung).getKanten();
+	}
+
+	@Benchmark
+	public void gradUeberTopologieMap(Blackhole blackhole) {
+		Map<Knoten, List<Kante>> topologieMap = Topologie.erstelleTopologieMapAusKanten(kanten);
+		int anzahlEndpunkte = 0;
+		for (Kante kante : kanten) {
+			if (topologieMap.get(kante.getVonKnoten()).size() != 2) {
+				anzahlEndpunkte++;
+			}
+			if (topologieMap.get(kante.getNachKnoten()).size() != 2) {
+				anzahlEndpunkte++;
+			}
+		}
+		blackhole.consume(anzahlEndpunkte);
+	}
+
+	@Benchmark
+	public void gradUeberKantenTopologie(Blackhole blackhole) {
+		KantenTopologie topologie = KantenTopologie.aus(kanten);
+		int anzahlEndpunkte = 0;
+		for (Kante kante : kanten) {
+			if (topologie.getGrad(kante.getVonKnoten()) != 2) {
+				anzahlEndpunkte++;
+			}
+			if (topologie.getGrad(kante.getNachKnoten()) != 2) {
+				anzahlEndpunkte++;
+			}
+		}
+		blackhole.consume(anzahlEndpunkte);
+	}
+}
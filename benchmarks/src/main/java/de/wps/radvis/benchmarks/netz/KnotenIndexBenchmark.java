@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.benchmarks.netz;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Point;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
+import de.wps.radvis.backend.netz.domain.entity.Knoten;
+import de.wps.radvis.backend.netz.domain.entity.KnotenIndex;
+
+/**
+ * Misst Aufbau und Abfrage des {@link KnotenIndex}, wie er beim DLM-Import pro Partition befüllt wird. Die Hälfte
+ * der Suchpunkte liegt innerhalb der Snapping-Distanz eines Knotens, die andere Hälfte findet nichts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KnotenIndexBenchmark {
+
+	private static final int ANZAHL_SUCHPUNKTE = 10_000;
+
+	@Param({ "50", "150" })
+	public int seitenlaenge;
+
+	private List<Knoten> knoten;
+	private KnotenIndex knotenIndex;
+	private Point[] suchpunkte;
+
+	@Setup
+	public void setup() {
+		knoten = new SynthetischesNetz(seitenlaenge, 5).getKnoten();
+		knotenIndex = new KnotenIndex();
+		knoten.forEach(knotenIndex::fuegeEin);
+
+		Random random = new Random(seitenlaenge);
+		suchpunkte = new Point[ANZAHL_SUCHPUNKTE];
+		for (int i = 0; i < ANZAHL_SUCHPUNKTE; i++) {
+			Coordinate knotenKoordinate = knoten.get(random.nextInt(knoten.size())).getKoordinate();
+			double versatz = i % 2 == 0 ? KnotenIndex.SNAPPING_DISTANCE / 2 : KnotenIndex.SNAPPING_DISTANCE * 20;
+			suchpunkte[i] = KoordinatenReferenzSystem.ETRS89_UTM32_N.getGeometryFactory()
+				.createPoint(new Coordinate(knotenKoordinate.x + versatz, knotenKoordinate.y));
+		}
+	}
+
+	@Benchmark
+	public KnotenIndex fuegeEin() {
+		KnotenIndex index = new KnotenIndex();
+		knoten.forEach(index::fuegeEin);
+		return index;
+	}
+
+	@Benchmark
+	public void finde(Blackhole blackhole) {
+		for (Point suchpunkt : suchpunkte) {
+			blackhole.consume(knotenIndex.finde(suchpunkt));
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.benchmarks.netz;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.wps.radvis.backend.common.domain.valueObject.LinearReferenzierterAbschnitt;
+import de.wps.radvis.backend.netz.domain.entity.GeschwindigkeitAttribute;
+import de.wps.radvis.backend.netz.domain.entity.LinearReferenzierteAttribute;
+import de.wps.radvis.backend.netz.domain.valueObject.Hoechstgeschwindigkeit;
+import de.wps.radvis.backend.netz.domain.valueObject.Laenge;
+
+/**
+ * Misst das Zusammenführen linear referenzierter Attribute, wie es bei jeder Änderung der Attribute einer Kante
+ * passiert: Defragmentieren inklusive Mergen zu kurzer Segmente, Einfügen eines neuen Segments und das Zuschneiden
+ * auf eine lineare Referenz. Die Eingabelisten werden pro Aufruf kopiert, weil die Methoden sie teilweise sortieren.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinearReferenzierteAttributeBenchmark {
+
+	private static final Laenge KANTENLAENGE = Laenge.of(800);
+	private static final Laenge MINDESTLAENGE_PRO_SEGMENT = Laenge.of(5);
+
+	@Param({ "10", "100" })
+	public int anzahlSegmente;
+
+	private List<GeschwindigkeitAttribute> attribute;
+	private GeschwindigkeitAttribute einzufuegendesAttribut;
+
+	@Setup
+	public void setup() {
+		attribute = new SynthetischeAttribute(anzahlSegmente).erzeugeGeschwindigkeitAttribute(anzahlSegmente);
+		einzufuegendesAttribut = GeschwindigkeitAttribute.builder()
+			.linearReferenzierterAbschnitt(LinearReferenzierterAbschnitt.of(0.25, 0.6))
+			.hoechstgeschwindigkeit(Hoechstgeschwindigkeit.MAX_20_KMH)
+			.build();
+	}
+
+	@Benchmark
+	public List<GeschwindigkeitAttribute> defragmentiere() {
+		return LinearReferenzierteAttribute.defragmentiereLinearReferenzierteAttribute(new ArrayList<>(attribute),
+			KANTENLAENGE, MINDESTLAENGE_PRO_SEGMENT);
+	}
+
+	@Benchmark
+	public List<GeschwindigkeitAttribute> fuegeEin() {
+		return LinearReferenzierteAttribute.insertInto(new ArrayList<>(attribute), einzufuegendesAttribut);
+	}
+
+	@Benchmark
+	public void schneideZu(Blackhole blackhole) {
+		blackhole.consume(LinearReferenzierteAttribute.getAufLineareReferenzZugeschnitten(attribute,
+			einzufuegendesAttribut.getLinearReferenzierterAbschnitt()));
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.benchmarks.netz;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.locationtech.jts.geom.Envelope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.wps.radvis.backend.netz.domain.entity.Kante;
+import de.wps.radvis.backend.netz.domain.entity.StreckeVonKanten;
+import de.wps.radvis.backend.netz.domain.entity.StreckenEinerPartition;
+import de.wps.radvis.backend.netz.domain.service.StreckenViewService;
+
+/**
+ * Bildet wie die Cache-Jobs der Strecken-Views Strecken partitionsweise und führt die über Partitionsgrenzen
+ * hinausgehenden Strecken nach jeder Partition zusammen. Die Kanten der vergrößerten Partitionen werden vorab
+ * bestimmt, gemessen wird also nur die Streckenbildung, nicht die Datenbankabfrage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx8g" })
+public class StreckenViewBenchmark {
+
+	private static final double PUFFER_FUER_TOPOLOGIE = 2000.;
+
+	@Param({ "50", "150" })
+	public int seitenlaenge;
+
+	@Param({ "1", "4" })
+	public int partitionenProSeite;
+
+	private final List<Envelope> partitionen = new ArrayList<>();
+	private final List<List<Kante>> kantenDerPartitionen = new ArrayList<>();
+	private StreckenViewService streckenViewService;
+
+	@Setup
+	public void setup() {
+		SynthetischesNetz netz = new SynthetischesNetz(seitenlaenge, 5);
+		double partitionsBreite = netz.getKantenlaengeDesGitters() / partitionenProSeite;
+		for (int x = 0; x < partitionenProSeite; x++) {
+			for (int y = 0; y < partitionenProSeite; y++) {
+				Envelope partition = new Envelope(
+					netz.getUrsprungX() + x * partitionsBreite, netz.getUrsprungX() + (x + 1) * partitionsBreite,
+					netz.getUrsprungY() + y * partitionsBreite, netz.getUrsprungY() + (y + 1) * partitionsBreite);
+				Envelope vergroessert = partition.copy();
+				vergroessert.expandBy(PUFFER_FUER_TOPOLOGIE);
+
+				partitionen.add(partition);
+				kantenDerPartitionen.add(netz.getKanten().stream()
+					.filter(kante -> vergroessert.intersects(kante.getGeometry().getEnvelopeInternal()))
+					.collect(Collectors.toList()));
+			}
+		}
+		streckenViewService = new StreckenViewService();
+	}
+
+	@Benchmark
+	public void streckenUeberAllePartitionen(Blackhole blackhole) {
+		Set<Long> bereitsAbgearbeitet = new HashSet<>();
+		List<StreckeVonKanten> unvollstaendig = new ArrayList<>();
+		List<StreckeVonKanten> vollstaendig = new ArrayList<>();
+
+		for (int i = 0; i < partitionen.size(); i++) {
+			StreckenEinerPartition<StreckeVonKanten> streckenDieserPartition = streckenViewService
+				.createStreckenEinerPartition(new ArrayList<>(kantenDerPartitionen.get(i)), partitionen.get(i),
+					bereitsAbgearbeitet);
+			vollstaendig.addAll(streckenDieserPartition.vollstaendig);
+			unvollstaendig.addAll(streckenDieserPartition.unvollstaendig);
+
+			StreckenEinerPartition<StreckeVonKanten> zusammengefuehrt = streckenViewService
+				.mergeUnvollstaendigeStrecken(unvollstaendig);
+			vollstaendig.addAll(zusammengefuehrt.vollstaendig);
+			unvollstaendig = zusammengefuehrt.unvollstaendig;
+		}
+
+		blackhole.consume(vollstaendig);
+		blackhole.consume(unvollstaendig);
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.benchmarks.netz;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import de.wps.radvis.backend.common.domain.valueObject.LinearReferenzierterAbschnitt;
+import de.wps.radvis.backend.netz.domain.entity.GeschwindigkeitAttribute;
+import de.wps.radvis.backend.netz.domain.valueObject.Hoechstgeschwindigkeit;
+import de.wps.radvis.backend.netz.domain.valueObject.KantenOrtslage;
+
+/**
+ * Erzeugt reproduzierbar zufällige linear referenzierte Abschnitte und Attribute. Die Werte stammen aus einer kleinen
+ * Auswahl, so dass wie in echten Daten benachbarte Segmente häufig gleiche Attribute haben und zusammengefasst
+ * werden können. Einzelne Segmente sind bewusst sehr kurz, damit auch das Mergen kleiner Segmente greift.
+ */
+public class SynthetischeAttribute {
+
+	private static final Hoechstgeschwindigkeit[] HOECHSTGESCHWINDIGKEITEN = {
+		Hoechstgeschwindigkeit.MAX_30_KMH,
+		Hoechstgeschwindigkeit.MAX_50_KMH,
+		Hoechstgeschwindigkeit.MAX_70_KMH,
+	};
+
+	private final Random random;
+
+	public SynthetischeAttribute(long seed) {
+		this.random = new Random(seed);
+	}
+
+	/**
+	 * @return sortierte Abschnitte, die lückenlos von 0 bis 1 reichen
+	 */
+	public List<LinearReferenzierterAbschnitt> erzeugeLueckenloseAbschnitte(int anzahl) {
+		double[] schnittpunkte = new double[anzahl + 1];
+		schnittpunkte[anzahl] = 1.;
+		for (int i = 1; i < anzahl; i++) {
+			schnittpunkte[i] = random.nextDouble();
+		}
+		Arrays.sort(schnittpunkte);
+
+		List<LinearReferenzierterAbschnitt> abschnitte = new ArrayList<>(anzahl);
+		for (int i = 0; i < anzahl; i++) {
+			if (schnittpunkte[i] < schnittpunkte[i + 1]) {
+				abschnitte.add(LinearReferenzierterAbschnitt.of(schnittpunkte[i], schnittpunkte[i + 1]));
+			}
+		}
+		return abschnitte;
+	}
+
+	/**
+	 * @return beliebige, sich teilweise überlappende Abschnitte mit einer relativen Länge von mindestens 1%
+	 */
+	public List<LinearReferenzierterAbschnitt> erzeugeZufaelligeAbschnitte(int anzahl) {
+		List<LinearReferenzierterAbschnitt> abschnitte = new ArrayList<>(anzahl);
+		for (int i = 0; i < anzahl; i++) {
+			double von = random.nextDouble() * 0.99;
+			double bis = von + (1. - von) * Math.max(random.nextDouble(), 0.01 / (1. - von));
+			abschnitte.add(LinearReferenzierterAbschnitt.of(von, Math.min(bis, 1.)));
+		}
+		return abschnitte;
+	}
+
+	public List<GeschwindigkeitAttribute> erzeugeGeschwindigkeitAttribute(int anzahlSegmente) {
+		List<GeschwindigkeitAttribute> attribute = new ArrayList<>(anzahlSegmente);
+		for (LinearReferenzierterAbschnitt abschnitt : erzeugeLueckenloseAbschnitte(anzahlSegmente)) {
+			attribute.add(GeschwindigkeitAttribute.builder()
+				.linearReferenzierterAbschnitt(abschnitt)
+				.ortslage(random.nextBoolean() ? KantenOrtslage.INNERORTS : KantenOrtslage.AUSSERORTS)
+				.hoechstgeschwindigkeit(HOECHSTGESCHWINDIGKEITEN[random.nextInt(HOECHSTGESCHWINDIGKEITEN.length)])
+				.build());
+		}
+		return attribute;
+	}
+
+	public <T> T waehleAus(T[] werte) {
+		return werte[random.nextInt(werte.length)];
+	}
+
+	public int naechsteZahl(int grenze) {
+		return random.nextInt(grenze);
+	}
+
+	public double naechsterAnteil() {
+		return random.nextDouble();
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2023 WPS - Workplace Solutions GmbH
+ *
+ * Licensed under the EUPL, Version 1.2 or as soon they will be approved by the European Commission - subsequent versions of the EUPL (the "Licence");
+ *
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and limitations under the Licence.
+ */
+
+package de.wps.radvis.benchmarks.netz;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import de.wps.radvis.backend.common.domain.valueObject.KoordinatenReferenzSystem;
+import de.wps.radvis.backend.common.domain.valueObject.QuellSystem;
+import de.wps.radvis.backend.netz.domain.entity.FahrtrichtungAttributGruppe;
+import de.wps.radvis.backend.netz.domain.entity.FuehrungsformAttributGruppe;
+import de.wps.radvis.backend.netz.domain.entity.GeschwindigkeitAttributGruppe;
+import de.wps.radvis.backend.netz.domain.entity.Kante;
+import de.wps.radvis.backend.netz.domain.entity.KantenAttributGruppe;
+import de.wps.radvis.backend.netz.domain.entity.Knoten;
+import de.wps.radvis.backend.netz.domain.entity.ZustaendigkeitAttributGruppe;
+
+/**
+ * Erzeugt ein synthetisches, gitterförmiges Netz in UTM32: {@code seitenlaenge x seitenlaenge} Kreuzungen, deren
+ * Verbindungen jeweils in {@code kantenProVerbindung} Kanten mit Zwischenknoten vom Grad 2 zerlegt sind. Dadurch
+ * entstehen wie im echten Netz Strecken aus mehreren Kanten zwischen Knoten vom Grad ungleich 2. Alle Kanten und
+ * Knoten haben IDs, so als kämen sie aus der Datenbank.
+ * <p>
+ * Die Geometrien der Kanten haben leicht verschobene Stützpunkte, die Geschwindigkeitsattribute sind in mehrere
+ * Segmente aufgeteilt. Die Zufallswerte hängen nur von den Parametern ab, so dass Läufe über mehrere Commits hinweg
+ * vergleichbar bleiben.
+ */
+public class SynthetischesNetz {
+
+	private static final double KREUZUNGSABSTAND = 500.;
+	private static final double URSPRUNG_X = 400_000.;
+	private static final double URSPRUNG_Y = 5_300_000.;
+	private static final int STUETZPUNKTE_PRO_KANTE = 3;
+	private static final int MAX_GESCHWINDIGKEIT_SEGMENTE = 4;
+
+	private final GeometryFactory geometryFactory = KoordinatenReferenzSystem.ETRS89_UTM32_N.getGeometryFactory();
+	private final int seitenlaenge;
+	private final int kantenProVerbindung;
+	private final SynthetischeAttribute attribute;
+	private final Random random;
+	private final List<Kante> kanten = new ArrayList<>();
+	private final List<Knoten> knoten = new ArrayList<>();
+	private long naechsteKnotenId = 1;
+	private long naechsteKanteId = 1;
+
+	public SynthetischesNetz(int seitenlaenge, int kantenProVerbindung) {
+		this.seitenlaenge = seitenlaenge;
+		this.kantenProVerbindung = kantenProVerbindung;
+		this.attribute = new SynthetischeAttribute(seitenlaenge);
+		this.random = new Random(seitenlaenge);
+
+		Knoten[][] kreuzungen = new Knoten[seitenlaenge][seitenlaenge];
+		for (int x = 0; x < seitenlaenge; x++) {
+			for (int y = 0; y < seitenlaenge; y++) {
+				kreuzungen[x][y] = erzeugeKnoten(URSPRUNG_X + x * KREUZUNGSABSTAND,
+					URSPRUNG_Y + y * KREUZUNGSABSTAND);
+			}
+		}
+		for (int x = 0; x < seitenlaenge; x++) {
+			for (int y = 0; y < seitenlaenge; y++) {
+				if (x + 1 < seitenlaenge) {
+					verbinde(kreuzungen[x][y], kreuzungen[x + 1][y]);
+				}
+				if (y + 1 < seitenlaenge) {
+					verbinde(kreuzungen[x][y], kreuzungen[x][y + 1]);
+				}
+			}
+		}
+	}
+
+	public List<Kante> getKanten() {
+		return kanten;
+	}
+
+	public List<Knoten> getKnoten() {
+		return knoten;
+	}
+
+	public double getKantenlaengeDesGitters() {
+		return (seitenlaenge - 1) * KREUZUNGSABSTAND;
+	}
+
+	public double getUrsprungX() {
+		return URSPRUNG_X;
+	}
+
+	public double getUrsprungY() {
+		return URSPRUNG_Y;
+	}
+
+	private void verbinde(Knoten von, Knoten nach) {
+		Knoten vorheriger = von;
+		for (int i = 1; i <= kantenProVerbindung; i++) {
+			Knoten naechster;
+			if (i == kantenProVerbindung) {
+				naechster = nach;
+			} else {
+				double anteil = (double) i / kantenProVerbindung;
+				naechster = erzeugeKnoten(
+					von.getKoordinate().x + anteil * (nach.getKoordinate().x - von.getKoordinate().x),
+					von.getKoordinate().y + anteil * (nach.getKoordinate().y - von.getKoordinate().y));
+			}
+			kanten.add(erzeugeKante(vorheriger, naechster));
+			vorheriger = naechster;
+		}
+	}
+
+	private Knoten erzeugeKnoten(double x, double y) {
+		Knoten neuerKnoten = Knoten.builder()
+			.id(naechsteKnotenId++)
+			.quelle(QuellSystem.RadVis)
+			.point(geometryFactory.createPoint(new Coordinate(x, y)))
+			.build();
+		knoten.add(neuerKnoten);
+		return neuerKnoten;
+	}
+
+	private Kante erzeugeKante(Knoten von, Knoten nach) {
+		return Kante.builder()
+			.id(naechsteKanteId++)
+			.quelle(QuellSystem.RadVis)
+			.vonKnoten(von)
+			.nachKnoten(nach)
+			.geometry(geometryFactory.createLineString(erzeugeKoordinaten(von.getKoordinate(), nach.getKoordinate())))
+			.kantenAttributGruppe(KantenAttributGruppe.builder().build())
+			.fahrtrichtungAttributGruppe(FahrtrichtungAttributGruppe.builder().build())
+			.zustaendigkeitAttributGruppe(ZustaendigkeitAttributGruppe.builder().build())
+			.geschwindigkeitAttributGruppe(GeschwindigkeitAttributGruppe.builder()
+				.geschwindigkeitAttribute(
+					attribute.erzeugeGeschwindigkeitAttribute(1 + attribute.naechsteZahl(MAX_GESCHWINDIGKEIT_SEGMENTE)))
+				.build())
+			.fuehrungsformAttributGruppe(FuehrungsformAttributGruppe.builder().build())
+			.build();
+	}
+
+	private Coordinate[] erzeugeKoordinaten(Coordinate von, Coordinate nach) {
+		Coordinate[] koordinaten = new Coordinate[STUETZPUNKTE_PRO_KANTE + 2];
+		koordinaten[0] = von;
+		koordinaten[koordinaten.length - 1] = nach;
+		for (int i = 1; i <= STUETZPUNKTE_PRO_KANTE; i++) {
+			double anteil = (double) i / (STUETZPUNKTE_PRO_KANTE + 1);
+			koordinaten[i] = new Coordinate(
+				von.x + anteil * (nach.x - von.x) + random.nextDouble() * 2. - 1.,
+				von.y + anteil * (nach.y - von.y) + random.nextDouble() * 2. - 1.);
+		}
+		return koordinaten;
+	}
+}